@@ -4,18 +4,29 @@ import com.truebalance.truebalance.application.dto.input.BillBulkImportRequestDT
 import com.truebalance.truebalance.application.dto.input.BillRequestDTO;
 import com.truebalance.truebalance.application.dto.output.BillImportResultDTO;
 import com.truebalance.truebalance.application.dto.output.BillResponseDTO;
+import com.truebalance.truebalance.application.dto.output.ImportJobResponseDTO;
+import com.truebalance.truebalance.application.dto.output.ImportStreamEventDTO;
+import com.truebalance.truebalance.application.dto.output.ImportSummaryDTO;
 import com.truebalance.truebalance.application.dto.output.InstallmentResponseDTO;
 import com.truebalance.truebalance.application.dto.output.PaginatedResponse;
+import com.truebalance.truebalance.domain.entity.ImportJob;
 import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.domain.entity.ImportJobType;
 import com.truebalance.truebalance.domain.entity.Installment;
+import com.truebalance.truebalance.domain.exception.ImportQueueFullException;
+import com.truebalance.truebalance.domain.service.ImportReportStore;
+import com.truebalance.truebalance.domain.service.ImportSummaryCollector;
+import com.truebalance.truebalance.domain.service.NdjsonBillImportService;
 import com.truebalance.truebalance.domain.usecase.CreateBill;
 import com.truebalance.truebalance.domain.usecase.CreateBillWithCreditCard;
 import com.truebalance.truebalance.domain.usecase.DeleteBill;
 import com.truebalance.truebalance.domain.usecase.GetAllBills;
 import com.truebalance.truebalance.domain.usecase.GetBillById;
 import com.truebalance.truebalance.domain.usecase.GetBillInstallments;
-import com.truebalance.truebalance.domain.service.FileImportService;
+import com.truebalance.truebalance.domain.service.BillImportPipeline;
 import com.truebalance.truebalance.domain.usecase.ImportBillsInBulk;
+import com.truebalance.truebalance.domain.usecase.ImportProgressListener;
+import com.truebalance.truebalance.domain.usecase.SubmitImportJob;
 import com.truebalance.truebalance.domain.usecase.UpdateBill;
 import com.truebalance.truebalance.domain.usecase.UpdateBillWithCreditCard;
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,6 +36,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,11 +45,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -58,13 +75,18 @@ public class BillController {
     private final DeleteBill deleteBill;
     private final GetBillInstallments getBillInstallments;
     private final ImportBillsInBulk importBillsInBulk;
-    private final FileImportService fileImportService;
+    private final BillImportPipeline billImportPipeline;
+    private final SubmitImportJob submitImportJob;
+    private final ImportReportStore importReportStore;
+    private final NdjsonBillImportService ndjsonBillImportService;
 
     public BillController(CreateBill createBill, CreateBillWithCreditCard createBillWithCreditCard,
                           UpdateBill updateBill, UpdateBillWithCreditCard updateBillWithCreditCard,
                           GetAllBills getAllBills, GetBillById getBillById, DeleteBill deleteBill,
                           GetBillInstallments getBillInstallments, ImportBillsInBulk importBillsInBulk,
-                          FileImportService fileImportService) {
+                          BillImportPipeline billImportPipeline,
+                          SubmitImportJob submitImportJob, ImportReportStore importReportStore,
+                          NdjsonBillImportService ndjsonBillImportService) {
         this.createBill = createBill;
         this.createBillWithCreditCard = createBillWithCreditCard;
         this.updateBill = updateBill;
@@ -74,7 +96,10 @@ public class BillController {
         this.deleteBill = deleteBill;
         this.getBillInstallments = getBillInstallments;
         this.importBillsInBulk = importBillsInBulk;
-        this.fileImportService = fileImportService;
+        this.billImportPipeline = billImportPipeline;
+        this.submitImportJob = submitImportJob;
+        this.importReportStore = importReportStore;
+        this.ndjsonBillImportService = ndjsonBillImportService;
     }
 
     @Operation(summary = "Listar todas as contas", description = "Retorna uma lista paginada com todas as contas/despesas cadastradas no sistema.")
@@ -361,6 +386,32 @@ public class BillController {
         return ResponseEntity.ok(result);
     }
 
+    @Operation(summary = "Importar contas em massa via NDJSON",
+               description = "Variante de POST /bills/bulk-import para volumes grandes: o corpo tem uma conta por linha " +
+                             "(application/x-ndjson) e é lido aos poucos. A resposta também é NDJSON: eventos ERROR e " +
+                             "DUPLICATE por linha, PROGRESS a cada lote gravado e, por fim, COMPLETED ou FAILED com os totais. " +
+                             "Os lotes já gravados são mantidos se a conexão cair.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação iniciada; o resultado segue no corpo da resposta",
+                    content = @Content(mediaType = "application/x-ndjson",
+                                      schema = @Schema(implementation = ImportStreamEventDTO.class)))
+    })
+    @PostMapping(value = "/bulk-import", consumes = "application/x-ndjson")
+    public void bulkImportNdjson(
+            @Parameter(description = "Estratégia para duplicatas: SKIP ou CREATE_DUPLICATE", required = true)
+            @RequestParam("duplicateStrategy") BillBulkImportRequestDTO.DuplicateStrategy duplicateStrategy,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        logger.info("POST /bills/bulk-import (NDJSON) - Importando com estratégia {}", duplicateStrategy);
+
+        // Written straight to the response so each event reaches the client as soon as it is flushed
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        ndjsonBillImportService.importBills(request.getInputStream(), response.getOutputStream(), duplicateStrategy);
+    }
+
     @Operation(summary = "Importar contas de arquivo CSV/XLS",
                description = "Importa contas em massa a partir de um arquivo CSV ou XLS/XLSX. " +
                              "O arquivo deve conter cabeçalhos: Nome, Data, Valor Total, Número de Parcelas. " +
@@ -381,18 +432,10 @@ public class BillController {
         logger.info("POST /bills/bulk-import-file - Importando arquivo: {} com estratégia {}",
                 file.getOriginalFilename(), duplicateStrategy);
 
-        try {
-            // Parse file
-            List<com.truebalance.truebalance.application.dto.input.BillImportItemDTO> items =
-                    fileImportService.parseBillsFromFile(file);
-
-            // Create request
-            BillBulkImportRequestDTO request = new BillBulkImportRequestDTO();
-            request.setItems(items);
-            request.setDuplicateStrategy(duplicateStrategy);
-
-            // Execute import
-            BillImportResultDTO result = importBillsInBulk.execute(request);
+        try (InputStream inputStream = file.getInputStream()) {
+            // Parse, validate and write in overlapping stages
+            BillImportResultDTO result = billImportPipeline.run(
+                    file.getOriginalFilename(), inputStream, duplicateStrategy, ImportProgressListener.NONE);
 
             logger.info("Importação de arquivo concluída: {} criadas, {} ignoradas, {} erros",
                     result.getTotalCreated(), result.getTotalSkipped(), result.getTotalErrors());
@@ -404,4 +447,75 @@ public class BillController {
         }
     }
 
+    @Operation(summary = "Importar contas de arquivo CSV/XLS com resultado resumido",
+               description = "Igual a POST /bills/bulk-import-file, mas retorna apenas os totais, os primeiros exemplos " +
+                             "de cada resultado e os erros agrupados por causa. O detalhe de cada linha fica em um " +
+                             "relatório CSV disponível em GET /import-reports/{reportId}.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação concluída com sucesso",
+                    content = @Content(mediaType = "application/json",
+                                      schema = @Schema(implementation = ImportSummaryDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Arquivo inválido ou erro no processamento", content = @Content)
+    })
+    @PostMapping(value = "/bulk-import-file/summary", consumes = "multipart/form-data")
+    public ResponseEntity<ImportSummaryDTO> bulkImportFromFileSummary(
+            @Parameter(description = "Arquivo CSV ou XLS/XLSX para importação", required = true)
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Estratégia para duplicatas: SKIP ou CREATE_DUPLICATE", required = true)
+            @RequestParam("duplicateStrategy") BillBulkImportRequestDTO.DuplicateStrategy duplicateStrategy) {
+
+        logger.info("POST /bills/bulk-import-file/summary - Importando arquivo: {} com estratégia {}",
+                file.getOriginalFilename(), duplicateStrategy);
+
+        try (InputStream inputStream = file.getInputStream();
+             ImportSummaryCollector summary = importReportStore.newCollector()) {
+            ImportSummaryDTO result = billImportPipeline.runSummary(
+                    file.getOriginalFilename(), inputStream, duplicateStrategy, ImportProgressListener.NONE, summary);
+
+            logger.info("Importação de arquivo concluída: {} criadas, {} ignoradas, {} erros (relatório {})",
+                    result.getTotalCreated(), result.getTotalSkipped(), result.getTotalErrors(), result.getReportId());
+
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            logger.error("Erro ao importar arquivo: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    @Operation(summary = "Importar contas de arquivo em segundo plano",
+               description = "Aceita o arquivo CSV ou XLS/XLSX, cria um job de importação e retorna imediatamente. " +
+                             "O progresso pode ser consultado em GET /import-jobs/{id}.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job de importação criado",
+                    content = @Content(mediaType = "application/json",
+                                      schema = @Schema(implementation = ImportJobResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Arquivo inválido", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Fila de importação cheia; tente novamente mais tarde", content = @Content)
+    })
+    @PostMapping(value = "/bulk-import-file/async", consumes = "multipart/form-data")
+    public ResponseEntity<ImportJobResponseDTO> bulkImportFromFileAsync(
+            @Parameter(description = "Arquivo CSV ou XLS/XLSX para importação", required = true)
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Estratégia para duplicatas: SKIP ou CREATE_DUPLICATE", required = true)
+            @RequestParam("duplicateStrategy") BillBulkImportRequestDTO.DuplicateStrategy duplicateStrategy) {
+
+        logger.info("POST /bills/bulk-import-file/async - Criando job para arquivo: {} com estratégia {}",
+                file.getOriginalFilename(), duplicateStrategy);
+
+        try {
+            ImportJob job = submitImportJob.execute(ImportJobType.BILLS, file, duplicateStrategy.name());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/import-jobs/" + job.getId()))
+                    .body(ImportJobResponseDTO.fromImportJob(job));
+        } catch (ImportQueueFullException e) {
+            logger.warn("Job de importação recusado: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        } catch (Exception e) {
+            logger.error("Erro ao criar job de importação: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
 }
@@ -3,12 +3,24 @@ package com.truebalance.truebalance.application.controller;
 import com.truebalance.truebalance.application.dto.input.CreditCardBulkImportRequestDTO;
 import com.truebalance.truebalance.application.dto.input.CreditCardRequestDTO;
 import com.truebalance.truebalance.application.dto.output.AvailableLimitDTO;
+import com.truebalance.truebalance.application.dto.output.CreditCardDashboardDTO;
+import com.truebalance.truebalance.application.dto.output.CreditCardForecastDTO;
 import com.truebalance.truebalance.application.dto.output.CreditCardImportResultDTO;
 import com.truebalance.truebalance.application.dto.output.CreditCardResponseDTO;
+import com.truebalance.truebalance.application.dto.output.ImportJobResponseDTO;
+import com.truebalance.truebalance.application.dto.output.ImportPlanDTO;
+import com.truebalance.truebalance.application.dto.output.ImportSummaryDTO;
 import com.truebalance.truebalance.application.dto.output.InvoiceResponseDTO;
+import com.truebalance.truebalance.domain.entity.ImportJob;
 import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.entity.ImportJobType;
 import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.exception.ImportQueueFullException;
 import com.truebalance.truebalance.domain.service.FileImportService;
+import com.truebalance.truebalance.domain.service.ImportPlan;
+import com.truebalance.truebalance.domain.service.ImportReportStore;
+import com.truebalance.truebalance.domain.service.ImportSummaryCollector;
+import com.truebalance.truebalance.domain.service.InvoiceETags;
 import com.truebalance.truebalance.domain.usecase.*;
 import com.truebalance.truebalance.domain.usecase.AvailableLimitResult;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,13 +33,18 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @RestController
@@ -36,6 +53,8 @@ import java.util.stream.Collectors;
 public class CreditCardController {
 
     private static final Logger logger = LoggerFactory.getLogger(CreditCardController.class);
+    private static final int MAX_UPCOMING_INSTALLMENTS = 100;
+    private static final int MAX_FORECAST_MONTHS = 60;
 
     private final CreateCreditCard createCreditCard;
     private final GetAllCreditCards getAllCreditCards;
@@ -44,8 +63,13 @@ public class CreditCardController {
     private final DeleteCreditCard deleteCreditCard;
     private final GetInvoicesByCreditCard getInvoicesByCreditCard;
     private final GetAvailableLimit getAvailableLimit;
+    private final GetCreditCardDashboard getCreditCardDashboard;
+    private final GetInstallmentForecast getInstallmentForecast;
     private final ImportCreditCardsInBulk importCreditCardsInBulk;
     private final FileImportService fileImportService;
+    private final SubmitImportJob submitImportJob;
+    private final ImportReportStore importReportStore;
+    private final InvoiceETags invoiceETags;
 
     public CreditCardController(CreateCreditCard createCreditCard,
                                  GetAllCreditCards getAllCreditCards,
@@ -54,8 +78,13 @@ public class CreditCardController {
                                  DeleteCreditCard deleteCreditCard,
                                  GetInvoicesByCreditCard getInvoicesByCreditCard,
                                  GetAvailableLimit getAvailableLimit,
+                                 GetCreditCardDashboard getCreditCardDashboard,
+                                 GetInstallmentForecast getInstallmentForecast,
                                  ImportCreditCardsInBulk importCreditCardsInBulk,
-                                 FileImportService fileImportService) {
+                                 FileImportService fileImportService,
+                                 SubmitImportJob submitImportJob,
+                                 ImportReportStore importReportStore,
+                                 InvoiceETags invoiceETags) {
         this.createCreditCard = createCreditCard;
         this.getAllCreditCards = getAllCreditCards;
         this.getCreditCardById = getCreditCardById;
@@ -63,8 +92,13 @@ public class CreditCardController {
         this.deleteCreditCard = deleteCreditCard;
         this.getInvoicesByCreditCard = getInvoicesByCreditCard;
         this.getAvailableLimit = getAvailableLimit;
+        this.getCreditCardDashboard = getCreditCardDashboard;
+        this.getInstallmentForecast = getInstallmentForecast;
         this.importCreditCardsInBulk = importCreditCardsInBulk;
         this.fileImportService = fileImportService;
+        this.submitImportJob = submitImportJob;
+        this.importReportStore = importReportStore;
+        this.invoiceETags = invoiceETags;
     }
 
     @Operation(summary = "Criar novo cartão de crédito",
@@ -159,17 +193,33 @@ public class CreditCardController {
     }
 
     @Operation(summary = "Listar faturas do cartão de crédito",
-               description = "Retorna todas as faturas de um cartão de crédito, ordenadas por mês de referência (mais recente primeiro).")
+               description = "Retorna todas as faturas de um cartão de crédito, ordenadas por mês de referência (mais recente primeiro). " +
+                             "Com includeBalance=true, cada fatura traz também partialPaymentsTotal, partialPaymentsCount e " +
+                             "currentBalance, calculados em uma única consulta agrupada. " +
+                             "A resposta traz um ETag baseado nas versões das faturas; com If-None-Match igual ao ETag atual, " +
+                             "retorna 304 sem corpo.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Faturas retornadas com sucesso",
                     content = @Content(mediaType = "application/json",
                                       schema = @Schema(implementation = InvoiceResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Faturas não foram alteradas", content = @Content),
             @ApiResponse(responseCode = "404", description = "Cartão não encontrado", content = @Content)
     })
     @GetMapping("/{id}/invoices")
     public ResponseEntity<List<InvoiceResponseDTO>> getInvoicesByCreditCard(
             @Parameter(description = "ID do cartão de crédito", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(description = "Incluir pagamentos parciais e saldo atual de cada fatura")
+            @RequestParam(defaultValue = "false") boolean includeBalance,
+            WebRequest webRequest) {
+        // checkNotModified sets the ETag header and, on a match, the 304 status
+        Optional<String> etag = includeBalance
+                ? invoiceETags.forCreditCardInvoiceBalances(id)
+                : invoiceETags.forCreditCardInvoices(id);
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return null;
+        }
+
         // Verify credit card exists
         Optional<CreditCard> creditCard = getCreditCardById.execute(id);
 
@@ -177,6 +227,12 @@ public class CreditCardController {
             return ResponseEntity.notFound().build();
         }
 
+        if (includeBalance) {
+            return ResponseEntity.ok(getInvoicesByCreditCard.executeWithPayments(id).stream()
+                    .map(InvoiceResponseDTO::fromInvoiceWithPayments)
+                    .collect(Collectors.toList()));
+        }
+
         List<Invoice> invoices = getInvoicesByCreditCard.execute(id);
         List<InvoiceResponseDTO> response = invoices.stream()
                 .map(InvoiceResponseDTO::fromInvoice)
@@ -203,6 +259,68 @@ public class CreditCardController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Obter painel do cartão",
+               description = "Retorna em uma única chamada o cartão, o limite disponível, a fatura aberta do mês atual, " +
+                             "o saldo de cada fatura e as próximas parcelas (até " + MAX_UPCOMING_INSTALLMENTS + "). " +
+                             "Substitui as chamadas separadas de cartão, limite, faturas e saldo de cada fatura.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Painel retornado com sucesso",
+                    content = @Content(mediaType = "application/json",
+                                      schema = @Schema(implementation = CreditCardDashboardDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Cartão não encontrado", content = @Content)
+    })
+    @GetMapping("/{id}/dashboard")
+    public ResponseEntity<CreditCardDashboardDTO> getDashboard(
+            @Parameter(description = "ID do cartão de crédito", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Quantidade de próximas parcelas")
+            @RequestParam(defaultValue = "10") int upcomingLimit) {
+        int limit = Math.max(1, Math.min(upcomingLimit, MAX_UPCOMING_INSTALLMENTS));
+        // CreditCardNotFoundException is handled by GlobalExceptionHandler
+        CreditCardDashboardResult result = getCreditCardDashboard.execute(id, limit);
+        return ResponseEntity.ok(CreditCardDashboardDTO.fromResult(result));
+    }
+
+    @Operation(summary = "Previsão de parcelas de todos os cartões",
+               description = "Retorna, para cada cartão, a soma das parcelas que vencem em cada um dos próximos meses " +
+                             "(a partir do mês atual, até " + MAX_FORECAST_MONTHS + " meses). Todos os meses aparecem, " +
+                             "com zero quando não há parcelas. O cálculo fica em cache até as parcelas mudarem.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Previsão retornada com sucesso",
+                    content = @Content(mediaType = "application/json",
+                                      schema = @Schema(implementation = CreditCardForecastDTO.class)))
+    })
+    @GetMapping("/forecast")
+    public ResponseEntity<List<CreditCardForecastDTO>> getForecast(
+            @Parameter(description = "Quantidade de meses")
+            @RequestParam(defaultValue = "24") int months) {
+        int range = Math.max(1, Math.min(months, MAX_FORECAST_MONTHS));
+        return ResponseEntity.ok(getInstallmentForecast.execute(LocalDate.now(), range).stream()
+                .map(CreditCardForecastDTO::fromForecast)
+                .toList());
+    }
+
+    @Operation(summary = "Previsão de parcelas do cartão",
+               description = "Retorna a soma das parcelas do cartão que vencem em cada um dos próximos meses " +
+                             "(a partir do mês atual, até " + MAX_FORECAST_MONTHS + " meses), com zero quando não há parcelas.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Previsão retornada com sucesso",
+                    content = @Content(mediaType = "application/json",
+                                      schema = @Schema(implementation = CreditCardForecastDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Cartão não encontrado", content = @Content)
+    })
+    @GetMapping("/{id}/forecast")
+    public ResponseEntity<CreditCardForecastDTO> getCreditCardForecast(
+            @Parameter(description = "ID do cartão de crédito", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Quantidade de meses")
+            @RequestParam(defaultValue = "24") int months) {
+        int range = Math.max(1, Math.min(months, MAX_FORECAST_MONTHS));
+        // CreditCardNotFoundException is handled by GlobalExceptionHandler
+        return ResponseEntity.ok(CreditCardForecastDTO.fromForecast(
+                getInstallmentForecast.execute(id, LocalDate.now(), range)));
+    }
+
     @Operation(summary = "Importar cartões de crédito em massa",
                description = "Importa cartões de crédito em massa a partir de uma lista de itens.")
     @ApiResponses(value = {
@@ -247,9 +365,10 @@ public class CreditCardController {
                 file.getOriginalFilename(), duplicateStrategy);
 
         try {
-            // Parse file
+            // Parse file (column mapping is resolved once and returned with the result)
+            AtomicReference<ImportPlan> plan = new AtomicReference<>();
             List<com.truebalance.truebalance.application.dto.input.CreditCardImportItemDTO> items =
-                    fileImportService.parseCreditCardsFromFile(file);
+                    fileImportService.parseCreditCardsFromFile(file, plan::set);
 
             // Create request
             CreditCardBulkImportRequestDTO request = new CreditCardBulkImportRequestDTO();
@@ -258,6 +377,7 @@ public class CreditCardController {
 
             // Execute import
             CreditCardImportResultDTO result = importCreditCardsInBulk.execute(request);
+            result.setImportPlan(ImportPlanDTO.fromImportPlan(plan.get()));
 
             logger.info("Importação de arquivo concluída: {} criados, {} ignorados, {} erros",
                     result.getTotalCreated(), result.getTotalSkipped(), result.getTotalErrors());
@@ -269,4 +389,80 @@ public class CreditCardController {
         }
     }
 
+    @Operation(summary = "Importar cartões de crédito de arquivo CSV/XLS com resultado resumido",
+               description = "Igual a POST /credit-cards/bulk-import-file, mas retorna apenas os totais, os primeiros exemplos " +
+                             "de cada resultado e os erros agrupados por causa. O detalhe de cada linha fica em um " +
+                             "relatório CSV disponível em GET /import-reports/{reportId}.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação concluída com sucesso",
+                    content = @Content(mediaType = "application/json",
+                                      schema = @Schema(implementation = ImportSummaryDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Arquivo inválido ou erro no processamento", content = @Content)
+    })
+    @PostMapping(value = "/bulk-import-file/summary", consumes = "multipart/form-data")
+    public ResponseEntity<ImportSummaryDTO> bulkImportFromFileSummary(
+            @Parameter(description = "Arquivo CSV ou XLS/XLSX para importação", required = true)
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Estratégia para duplicatas: SKIP ou CREATE_DUPLICATE", required = true)
+            @RequestParam("duplicateStrategy") CreditCardBulkImportRequestDTO.DuplicateStrategy duplicateStrategy) {
+
+        logger.info("POST /credit-cards/bulk-import-file/summary - Importando arquivo: {} com estratégia {}",
+                file.getOriginalFilename(), duplicateStrategy);
+
+        try (ImportSummaryCollector summary = importReportStore.newCollector()) {
+            AtomicReference<ImportPlan> plan = new AtomicReference<>();
+            CreditCardBulkImportRequestDTO request = new CreditCardBulkImportRequestDTO();
+            request.setItems(fileImportService.parseCreditCardsFromFile(file, plan::set));
+            request.setDuplicateStrategy(duplicateStrategy);
+
+            summary.addCreditCards(importCreditCardsInBulk.execute(request));
+            ImportSummaryDTO result = summary.finish();
+            result.setImportPlan(ImportPlanDTO.fromImportPlan(plan.get()));
+
+            logger.info("Importação de arquivo concluída: {} criados, {} ignorados, {} erros (relatório {})",
+                    result.getTotalCreated(), result.getTotalSkipped(), result.getTotalErrors(), result.getReportId());
+
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            logger.error("Erro ao importar arquivo: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    @Operation(summary = "Importar cartões de crédito de arquivo em segundo plano",
+               description = "Aceita o arquivo CSV ou XLS/XLSX, cria um job de importação e retorna imediatamente. " +
+                             "O progresso pode ser consultado em GET /import-jobs/{id}.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job de importação criado",
+                    content = @Content(mediaType = "application/json",
+                                      schema = @Schema(implementation = ImportJobResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Arquivo inválido", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Fila de importação cheia; tente novamente mais tarde", content = @Content)
+    })
+    @PostMapping(value = "/bulk-import-file/async", consumes = "multipart/form-data")
+    public ResponseEntity<ImportJobResponseDTO> bulkImportFromFileAsync(
+            @Parameter(description = "Arquivo CSV ou XLS/XLSX para importação", required = true)
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Estratégia para duplicatas: SKIP ou CREATE_DUPLICATE", required = true)
+            @RequestParam("duplicateStrategy") CreditCardBulkImportRequestDTO.DuplicateStrategy duplicateStrategy) {
+
+        logger.info("POST /credit-cards/bulk-import-file/async - Criando job para arquivo: {} com estratégia {}",
+                file.getOriginalFilename(), duplicateStrategy);
+
+        try {
+            ImportJob job = submitImportJob.execute(ImportJobType.CREDIT_CARDS, file, duplicateStrategy.name());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/import-jobs/" + job.getId()))
+                    .body(ImportJobResponseDTO.fromImportJob(job));
+        } catch (ImportQueueFullException e) {
+            logger.warn("Job de importação recusado: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        } catch (Exception e) {
+            logger.error("Erro ao criar job de importação: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
 }
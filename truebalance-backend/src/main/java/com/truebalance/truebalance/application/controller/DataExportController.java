@@ -0,0 +1,86 @@
+package com.truebalance.truebalance.application.controller;
+
+import com.truebalance.truebalance.domain.entity.ExportDataset;
+import com.truebalance.truebalance.domain.service.DataExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/export")
+@Tag(name = "Export", description = "API para exportação em streaming de cada entidade")
+public class DataExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataExportController.class);
+
+    private final DataExportService dataExportService;
+
+    public DataExportController(DataExportService dataExportService) {
+        this.dataExportService = dataExportService;
+    }
+
+    @Operation(summary = "Exportar entidade em streaming",
+               description = "Exporta todos os registros de uma entidade (bills, installments, invoices ou partial-payments), " +
+                             "ordenados por ID, em NDJSON (um objeto por linha) ou CSV com cabeçalho. Os registros são lidos " +
+                             "do banco em blocos e escritos direto na resposta. Com gzip=true a resposta é comprimida " +
+                             "(Content-Encoding: gzip).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação iniciada; os registros seguem no corpo da resposta",
+                    content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+            @ApiResponse(responseCode = "404", description = "Entidade desconhecida", content = @Content)
+    })
+    @GetMapping("/{dataset}")
+    public void export(
+            @Parameter(description = "Entidade: bills, installments, invoices ou partial-payments", required = true)
+            @PathVariable String dataset,
+            @Parameter(description = "Formato: NDJSON ou CSV")
+            @RequestParam(name = "format", defaultValue = "NDJSON") DataExportService.Format format,
+            @Parameter(description = "Comprimir a resposta com gzip")
+            @RequestParam(name = "gzip", defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+
+        Optional<ExportDataset> exportDataset = ExportDataset.fromPath(dataset);
+        if (exportDataset.isEmpty()) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        logger.info("GET /export/{} - Exportando em {} (gzip={})", dataset, format, gzip);
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        String filename = "truebalance_" + dataset + "_" + timestamp + "." + format.getExtension();
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+
+        OutputStream output = response.getOutputStream();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            output = new GZIPOutputStream(output, 64 * 1024);
+        }
+
+        dataExportService.export(exportDataset.get(), format, output);
+        if (output instanceof GZIPOutputStream gzipOutput) {
+            gzipOutput.finish();
+        }
+        output.flush();
+    }
+}
@@ -0,0 +1,73 @@
+package com.truebalance.truebalance.application.controller;
+
+import com.truebalance.truebalance.application.dto.output.ImportJobResponseDTO;
+import com.truebalance.truebalance.domain.entity.ImportJob;
+import com.truebalance.truebalance.domain.usecase.CancelImportJob;
+import com.truebalance.truebalance.domain.usecase.GetImportJob;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/import-jobs")
+@Tag(name = "Import Jobs", description = "API para acompanhamento de importações em segundo plano")
+public class ImportJobController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportJobController.class);
+
+    private final GetImportJob getImportJob;
+    private final CancelImportJob cancelImportJob;
+
+    public ImportJobController(GetImportJob getImportJob, CancelImportJob cancelImportJob) {
+        this.getImportJob = getImportJob;
+        this.cancelImportJob = cancelImportJob;
+    }
+
+    @Operation(summary = "Consultar job de importação",
+               description = "Retorna o status e o progresso de um job de importação: linhas processadas, " +
+                             "criadas, ignoradas e com erro, percentual concluído e tempo restante estimado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job encontrado",
+                    content = @Content(mediaType = "application/json",
+                                      schema = @Schema(implementation = ImportJobResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Job não encontrado", content = @Content)
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobResponseDTO> getImportJob(
+            @Parameter(description = "ID do job de importação", required = true)
+            @PathVariable Long id) {
+        Optional<ImportJob> job = getImportJob.execute(id);
+
+        return job
+                .map(j -> ResponseEntity.ok(ImportJobResponseDTO.fromImportJob(j)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Cancelar job de importação",
+               description = "Solicita o cancelamento do job. As linhas já importadas são mantidas; " +
+                             "o processamento para antes da próxima linha.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cancelamento solicitado",
+                    content = @Content(mediaType = "application/json",
+                                      schema = @Schema(implementation = ImportJobResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Job não encontrado", content = @Content)
+    })
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<ImportJobResponseDTO> cancelImportJob(
+            @Parameter(description = "ID do job de importação", required = true)
+            @PathVariable Long id) {
+        logger.info("POST /import-jobs/{}/cancel - Solicitando cancelamento", id);
+        ImportJob job = cancelImportJob.execute(id);
+        return ResponseEntity.ok(ImportJobResponseDTO.fromImportJob(job));
+    }
+}
@@ -0,0 +1,53 @@
+package com.truebalance.truebalance.application.controller;
+
+import com.truebalance.truebalance.domain.service.ImportReportStore;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/import-reports")
+@Tag(name = "Import Reports", description = "API para download dos relatórios detalhados de importação")
+public class ImportReportController {
+
+    private final ImportReportStore importReportStore;
+
+    public ImportReportController(ImportReportStore importReportStore) {
+        this.importReportStore = importReportStore;
+    }
+
+    @Operation(summary = "Baixar relatório de importação",
+               description = "Retorna em CSV o resultado de cada linha de uma importação feita com resultado resumido: " +
+                             "linha, resultado (CRIADO, IGNORADO ou ERRO), ID, descrição, campo, mensagem e valor. " +
+                             "Os relatórios expiram após o período de retenção configurado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Relatório encontrado",
+                    content = @Content(mediaType = "text/csv")),
+            @ApiResponse(responseCode = "404", description = "Relatório não encontrado ou expirado", content = @Content)
+    })
+    @GetMapping("/{reportId}")
+    public ResponseEntity<Resource> getImportReport(
+            @Parameter(description = "ID do relatório retornado na importação", required = true)
+            @PathVariable String reportId) {
+        // Streamed from disk: the report can be much larger than any response kept in memory
+        return importReportStore.find(reportId)
+                .map(path -> ResponseEntity.ok()
+                        .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename("relatorio_importacao_" + reportId + ".csv").build().toString())
+                        .<Resource>body(new FileSystemResource(path)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
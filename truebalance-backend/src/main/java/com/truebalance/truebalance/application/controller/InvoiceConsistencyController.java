@@ -0,0 +1,79 @@
+package com.truebalance.truebalance.application.controller;
+
+import com.truebalance.truebalance.application.dto.output.InvoiceConsistencyCheckDTO;
+import com.truebalance.truebalance.domain.service.ImportReportStore;
+import com.truebalance.truebalance.domain.service.InvoiceConsistencyJob;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/invoices/consistency")
+@Tag(name = "Invoice Consistency", description = "API para verificação e correção dos totais das faturas")
+public class InvoiceConsistencyController {
+
+    private final InvoiceConsistencyJob invoiceConsistencyJob;
+    private final ImportReportStore importReportStore;
+
+    public InvoiceConsistencyController(InvoiceConsistencyJob invoiceConsistencyJob,
+                                        ImportReportStore importReportStore) {
+        this.invoiceConsistencyJob = invoiceConsistencyJob;
+        this.importReportStore = importReportStore;
+    }
+
+    @Operation(summary = "Verificar totais das faturas",
+               description = "Compara o total de cada fatura com a soma das suas parcelas e gera um relatório CSV " +
+                             "com as divergências. Com repair=true, recalcula o total das faturas abertas divergentes; " +
+                             "faturas fechadas são apenas relatadas.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Verificação concluída",
+                    content = @Content(mediaType = "application/json",
+                                      schema = @Schema(implementation = InvoiceConsistencyCheckDTO.class))),
+            @ApiResponse(responseCode = "409", description = "Verificação já em execução em outra instância",
+                    content = @Content)
+    })
+    @PostMapping("/check")
+    public ResponseEntity<InvoiceConsistencyCheckDTO> checkInvoiceTotals(
+            @Parameter(description = "Corrigir os totais das faturas abertas divergentes")
+            @RequestParam(defaultValue = "false") boolean repair) {
+        return invoiceConsistencyJob.run(repair)
+                .map(result -> ResponseEntity.ok(InvoiceConsistencyCheckDTO.fromResult(result)))
+                .orElse(ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    @Operation(summary = "Baixar relatório de verificação de faturas",
+               description = "Retorna em CSV as faturas divergentes de uma verificação: fatura, cartão, mês de referência, " +
+                             "fechada, total da fatura, total das parcelas, diferença e ação (CORRIGIDA, PENDENTE, " +
+                             "FATURA_FECHADA ou ERRO). Os relatórios expiram após o período de retenção configurado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Relatório encontrado",
+                    content = @Content(mediaType = "text/csv")),
+            @ApiResponse(responseCode = "404", description = "Relatório não encontrado ou expirado", content = @Content)
+    })
+    @GetMapping("/reports/{reportId}")
+    public ResponseEntity<Resource> getConsistencyReport(
+            @Parameter(description = "ID do relatório retornado na verificação", required = true)
+            @PathVariable String reportId) {
+        return importReportStore.find(reportId)
+                .map(path -> ResponseEntity.ok()
+                        .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename("verificacao_faturas_" + reportId + ".csv").build().toString())
+                        .<Resource>body(new FileSystemResource(path)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
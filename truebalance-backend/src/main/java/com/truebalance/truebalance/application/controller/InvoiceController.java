@@ -1,18 +1,32 @@
 package com.truebalance.truebalance.application.controller;
 
+import com.truebalance.truebalance.application.dto.input.InvoiceBalancesRequestDTO;
 import com.truebalance.truebalance.application.dto.input.InvoiceBulkImportRequestDTO;
 import com.truebalance.truebalance.application.dto.input.PartialPaymentRequestDTO;
+import com.truebalance.truebalance.application.dto.output.ImportJobResponseDTO;
+import com.truebalance.truebalance.application.dto.output.ImportPlanDTO;
+import com.truebalance.truebalance.application.dto.output.ImportSummaryDTO;
 import com.truebalance.truebalance.application.dto.output.InstallmentResponseDTO;
 import com.truebalance.truebalance.application.dto.output.InvoiceBalanceDTO;
 import com.truebalance.truebalance.application.dto.output.InvoiceImportResultDTO;
 import com.truebalance.truebalance.application.dto.output.InvoiceResponseDTO;
+import com.truebalance.truebalance.application.dto.output.PaginatedResponse;
 import com.truebalance.truebalance.application.dto.output.PartialPaymentResponseDTO;
+import com.truebalance.truebalance.domain.entity.ImportJob;
+import com.truebalance.truebalance.domain.entity.ImportJobType;
 import com.truebalance.truebalance.domain.entity.Installment;
 import com.truebalance.truebalance.domain.entity.Invoice;
 import com.truebalance.truebalance.domain.entity.PartialPayment;
+import com.truebalance.truebalance.domain.exception.ImportQueueFullException;
+import com.truebalance.truebalance.domain.service.ClosedInvoiceCache;
+import com.truebalance.truebalance.domain.service.ImportPlan;
+import com.truebalance.truebalance.domain.service.ImportReportStore;
+import com.truebalance.truebalance.domain.service.ImportSummaryCollector;
+import com.truebalance.truebalance.domain.service.InvoiceETags;
 import com.truebalance.truebalance.domain.usecase.CloseInvoice;
 import com.truebalance.truebalance.domain.usecase.DeletePartialPayment;
 import com.truebalance.truebalance.domain.usecase.GetInvoiceBalance;
+import com.truebalance.truebalance.domain.usecase.GetInvoiceBalances;
 import com.truebalance.truebalance.domain.usecase.GetInvoiceById;
 import com.truebalance.truebalance.domain.usecase.GetInvoiceInstallments;
 import com.truebalance.truebalance.domain.usecase.GetInvoicesByCreditCard;
@@ -22,6 +36,7 @@ import com.truebalance.truebalance.domain.usecase.ImportInvoicesInBulk;
 import com.truebalance.truebalance.domain.usecase.MarkInvoiceAsPaid;
 import com.truebalance.truebalance.domain.usecase.MarkInvoiceAsUnpaid;
 import com.truebalance.truebalance.domain.usecase.RegisterPartialPayment;
+import com.truebalance.truebalance.domain.usecase.SubmitImportJob;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -32,13 +47,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @RestController
@@ -52,6 +74,7 @@ public class InvoiceController {
     private final GetInvoicesByCreditCard getInvoicesByCreditCard;
     private final CloseInvoice closeInvoice;
     private final GetInvoiceBalance getInvoiceBalance;
+    private final GetInvoiceBalances getInvoiceBalances;
     private final GetInvoiceInstallments getInvoiceInstallments;
     private final GetPartialPaymentsByInvoice getPartialPaymentsByInvoice;
     private final RegisterPartialPayment registerPartialPayment;
@@ -60,11 +83,16 @@ public class InvoiceController {
     private final MarkInvoiceAsUnpaid markInvoiceAsUnpaid;
     private final ImportInvoicesInBulk importInvoicesInBulk;
     private final FileImportService fileImportService;
+    private final SubmitImportJob submitImportJob;
+    private final ImportReportStore importReportStore;
+    private final InvoiceETags invoiceETags;
+    private final ClosedInvoiceCache closedInvoiceCache;
 
     public InvoiceController(GetInvoiceById getInvoiceById,
                              GetInvoicesByCreditCard getInvoicesByCreditCard,
                              CloseInvoice closeInvoice,
                              GetInvoiceBalance getInvoiceBalance,
+                             GetInvoiceBalances getInvoiceBalances,
                              GetInvoiceInstallments getInvoiceInstallments,
                              GetPartialPaymentsByInvoice getPartialPaymentsByInvoice,
                              RegisterPartialPayment registerPartialPayment,
@@ -72,11 +100,16 @@ public class InvoiceController {
                              MarkInvoiceAsPaid markInvoiceAsPaid,
                              MarkInvoiceAsUnpaid markInvoiceAsUnpaid,
                              ImportInvoicesInBulk importInvoicesInBulk,
-                             FileImportService fileImportService) {
+                             FileImportService fileImportService,
+                             SubmitImportJob submitImportJob,
+                             ImportReportStore importReportStore,
+                             InvoiceETags invoiceETags,
+                             ClosedInvoiceCache closedInvoiceCache) {
         this.getInvoiceById = getInvoiceById;
         this.getInvoicesByCreditCard = getInvoicesByCreditCard;
         this.closeInvoice = closeInvoice;
         this.getInvoiceBalance = getInvoiceBalance;
+        this.getInvoiceBalances = getInvoiceBalances;
         this.getInvoiceInstallments = getInvoiceInstallments;
         this.getPartialPaymentsByInvoice = getPartialPaymentsByInvoice;
         this.registerPartialPayment = registerPartialPayment;
@@ -85,10 +118,16 @@ public class InvoiceController {
         this.markInvoiceAsUnpaid = markInvoiceAsUnpaid;
         this.importInvoicesInBulk = importInvoicesInBulk;
         this.fileImportService = fileImportService;
+        this.submitImportJob = submitImportJob;
+        this.importReportStore = importReportStore;
+        this.invoiceETags = invoiceETags;
+        this.closedInvoiceCache = closedInvoiceCache;
     }
 
     @Operation(summary = "Listar faturas por cartão de crédito",
-               description = "Retorna todas as faturas de um cartão de crédito específico.")
+               description = "Retorna todas as faturas de um cartão de crédito específico. Com includeBalance=true, " +
+                             "cada fatura traz também partialPaymentsTotal, partialPaymentsCount e currentBalance, " +
+                             "calculados para todas as faturas em uma única consulta agrupada.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de faturas retornada com sucesso",
                     content = @Content(mediaType = "application/json",
@@ -97,8 +136,17 @@ public class InvoiceController {
     @GetMapping
     public ResponseEntity<List<InvoiceResponseDTO>> getInvoicesByCreditCard(
             @Parameter(description = "ID do cartão de crédito", required = true)
-            @RequestParam Long creditCardId) {
+            @RequestParam Long creditCardId,
+            @Parameter(description = "Incluir pagamentos parciais e saldo atual de cada fatura")
+            @RequestParam(defaultValue = "false") boolean includeBalance) {
         logger.info("GET /invoices?creditCardId={} - Buscando faturas do cartão", creditCardId);
+        if (includeBalance) {
+            List<InvoiceResponseDTO> response = getInvoicesByCreditCard.executeWithPayments(creditCardId).stream()
+                    .map(InvoiceResponseDTO::fromInvoiceWithPayments)
+                    .collect(Collectors.toList());
+            logger.info("Encontradas {} faturas com saldo para o cartão ID={}", response.size(), creditCardId);
+            return ResponseEntity.ok(response);
+        }
         List<Invoice> invoices = getInvoicesByCreditCard.execute(creditCardId);
         logger.info("Encontradas {} faturas para o cartão ID={}", invoices.size(), creditCardId);
         List<InvoiceResponseDTO> response = invoices.stream()
@@ -108,21 +156,36 @@ public class InvoiceController {
     }
 
     @Operation(summary = "Buscar fatura por ID",
-               description = "Retorna os detalhes de uma fatura específica.")
+               description = "Retorna os detalhes de uma fatura específica. A resposta traz um ETag baseado na versão " +
+                             "da fatura; com If-None-Match igual ao ETag atual, retorna 304 sem corpo. Faturas fechadas " +
+                             "são servidas de cache, e as fechadas e pagas com Cache-Control immutable.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Fatura encontrada com sucesso",
                     content = @Content(mediaType = "application/json",
                                       schema = @Schema(implementation = InvoiceResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Fatura não foi alterada", content = @Content),
             @ApiResponse(responseCode = "404", description = "Fatura não encontrada", content = @Content)
     })
     @GetMapping("/{id}")
-    public ResponseEntity<InvoiceResponseDTO> getInvoiceById(
+    public ResponseEntity<?> getInvoiceById(
             @Parameter(description = "ID da fatura a ser buscada", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        // checkNotModified sets the ETag header and, on a match, the 304 status
+        Optional<String> etag = invoiceETags.forInvoice(id);
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return null;
+        }
+        Optional<ClosedInvoiceCache.Entry> cached = closedInvoiceCache.find(id, ClosedInvoiceCache.View.INVOICE, () -> etag);
+        if (cached.isPresent()) {
+            return cachedResponse(cached.get(), webRequest);
+        }
+
         Optional<Invoice> invoice = getInvoiceById.execute(id);
 
         return invoice
-                .map(inv -> ResponseEntity.ok(InvoiceResponseDTO.fromInvoice(inv)))
+                .map(inv -> cacheIfClosed(id, ClosedInvoiceCache.View.INVOICE, etag, InvoiceResponseDTO.fromInvoice(inv),
+                        inv.isClosed(), inv.isPaid()))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -153,26 +216,78 @@ public class InvoiceController {
 
     @Operation(summary = "Buscar saldo atual da fatura",
                description = "Calcula o saldo atual da fatura considerando total, saldo anterior e pagamentos parciais. " +
-                             "BR-I-011: currentBalance = totalAmount + previousBalance - partialPaymentsTotal")
+                             "BR-I-011: currentBalance = totalAmount + previousBalance - partialPaymentsTotal. " +
+                             "A resposta traz um ETag baseado na versão da fatura e nos seus pagamentos parciais; " +
+                             "com If-None-Match igual ao ETag atual, retorna 304 sem recalcular o saldo. O saldo de " +
+                             "faturas fechadas é servido de cache, e o das fechadas e pagas com Cache-Control immutable.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Saldo calculado com sucesso",
                     content = @Content(mediaType = "application/json",
                                       schema = @Schema(implementation = InvoiceBalanceDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Saldo não foi alterado", content = @Content),
             @ApiResponse(responseCode = "404", description = "Fatura não encontrada", content = @Content)
     })
     @GetMapping("/{id}/balance")
-    public ResponseEntity<InvoiceBalanceDTO> getInvoiceBalance(
+    public ResponseEntity<?> getInvoiceBalance(
             @Parameter(description = "ID da fatura", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        Optional<String> etag = invoiceETags.forBalance(id);
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return null;
+        }
+        Optional<ClosedInvoiceCache.Entry> cached = closedInvoiceCache.find(id, ClosedInvoiceCache.View.BALANCE, () -> etag);
+        if (cached.isPresent()) {
+            return cachedResponse(cached.get(), webRequest);
+        }
+
         Optional<InvoiceBalanceDTO> balance = getInvoiceBalance.execute(id);
 
         return balance
-                .map(ResponseEntity::ok)
+                .map(dto -> cacheIfClosed(id, ClosedInvoiceCache.View.BALANCE, etag, dto, dto.isClosed(), dto.isPaid()))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "Buscar saldo atual de várias faturas",
+               description = "Calcula o saldo (BR-I-011) das faturas informadas, que podem ser de cartões diferentes. " +
+                             "Aceita até " + InvoiceBalancesRequestDTO.MAX_INVOICE_IDS + " IDs por requisição e responde " +
+                             "paginado sobre eles (até " + GetInvoiceBalances.MAX_INVOICES + " por página), na ordem " +
+                             "informada; IDs repetidos contam uma vez e faturas inexistentes são omitidas da página.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Saldos calculados com sucesso",
+                    content = @Content(mediaType = "application/json",
+                                      schema = @Schema(implementation = PaginatedResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Lista de faturas vazia ou acima do limite", content = @Content)
+    })
+    @PostMapping("/balances")
+    public ResponseEntity<PaginatedResponse<InvoiceBalanceDTO>> getInvoiceBalances(
+            @Valid @RequestBody InvoiceBalancesRequestDTO request,
+            @Parameter(description = "Página (começa em 0)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Faturas por página")
+            @RequestParam(defaultValue = "100") int size) {
+        List<Long> invoiceIds = new ArrayList<>(new LinkedHashSet<>(request.getInvoiceIds()));
+        int pageSize = Math.max(1, Math.min(size, GetInvoiceBalances.MAX_INVOICES));
+        int pageNumber = Math.max(0, page);
+        int from = (int) Math.min((long) pageNumber * pageSize, invoiceIds.size());
+        int to = Math.min(from + pageSize, invoiceIds.size());
+        int totalPages = (invoiceIds.size() + pageSize - 1) / pageSize;
+
+        logger.info("POST /invoices/balances - {} faturas, página {} de {}", invoiceIds.size(), pageNumber + 1, totalPages);
+        List<InvoiceBalanceDTO> balances = getInvoiceBalances.execute(invoiceIds.subList(from, to));
+
+        return ResponseEntity.ok(new PaginatedResponse<>(
+                balances,
+                pageNumber,
+                pageSize,
+                invoiceIds.size(),
+                totalPages
+        ));
+    }
+
     @Operation(summary = "Listar parcelas da fatura",
-               description = "Retorna todas as parcelas de uma fatura específica, ordenadas por data de vencimento.")
+               description = "Retorna todas as parcelas de uma fatura específica, ordenadas por data de vencimento. " +
+                             "As parcelas de faturas fechadas são servidas de cache com ETag e Cache-Control immutable.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Parcelas retornadas com sucesso",
                     content = @Content(mediaType = "application/json",
@@ -180,9 +295,16 @@ public class InvoiceController {
             @ApiResponse(responseCode = "404", description = "Fatura não encontrada", content = @Content)
     })
     @GetMapping("/{id}/installments")
-    public ResponseEntity<List<InstallmentResponseDTO>> getInvoiceInstallments(
+    public ResponseEntity<?> getInvoiceInstallments(
             @Parameter(description = "ID da fatura", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        Optional<ClosedInvoiceCache.Entry> cached = closedInvoiceCache.find(id, ClosedInvoiceCache.View.INSTALLMENTS,
+                () -> invoiceETags.forInstallments(id));
+        if (cached.isPresent()) {
+            return cachedResponse(cached.get(), webRequest);
+        }
+
         // Verify invoice exists
         Optional<Invoice> invoice = getInvoiceById.execute(id);
 
@@ -190,11 +312,13 @@ public class InvoiceController {
             return ResponseEntity.notFound().build();
         }
 
+        // Tag read before the installments, so a change in between leaves the entry stale rather than wrong
+        Optional<String> etag = invoice.get().isClosed() ? invoiceETags.forInstallments(id) : Optional.empty();
         List<Installment> installments = getInvoiceInstallments.execute(id);
         List<InstallmentResponseDTO> response = installments.stream()
                 .map(InstallmentResponseDTO::fromInstallment)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        return cacheIfClosed(id, ClosedInvoiceCache.View.INSTALLMENTS, etag, response, invoice.get().isClosed(), true);
     }
 
     @Operation(summary = "Registrar pagamento parcial",
@@ -230,7 +354,8 @@ public class InvoiceController {
     }
 
     @Operation(summary = "Listar pagamentos parciais da fatura",
-               description = "Retorna todos os pagamentos parciais de uma fatura, ordenados por data (mais recente primeiro).")
+               description = "Retorna todos os pagamentos parciais de uma fatura, ordenados por data (mais recente primeiro). " +
+                             "Os pagamentos de faturas fechadas são servidos de cache com ETag e Cache-Control immutable.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Pagamentos retornados com sucesso",
                     content = @Content(mediaType = "application/json",
@@ -238,9 +363,16 @@ public class InvoiceController {
             @ApiResponse(responseCode = "404", description = "Fatura não encontrada", content = @Content)
     })
     @GetMapping("/{id}/partial-payments")
-    public ResponseEntity<List<PartialPaymentResponseDTO>> getPartialPaymentsByInvoice(
+    public ResponseEntity<?> getPartialPaymentsByInvoice(
             @Parameter(description = "ID da fatura", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        Optional<ClosedInvoiceCache.Entry> cached = closedInvoiceCache.find(id, ClosedInvoiceCache.View.PARTIAL_PAYMENTS,
+                () -> invoiceETags.forPartialPayments(id));
+        if (cached.isPresent()) {
+            return cachedResponse(cached.get(), webRequest);
+        }
+
         // Verify invoice exists
         Optional<Invoice> invoice = getInvoiceById.execute(id);
 
@@ -248,11 +380,12 @@ public class InvoiceController {
             return ResponseEntity.notFound().build();
         }
 
+        Optional<String> etag = invoice.get().isClosed() ? invoiceETags.forPartialPayments(id) : Optional.empty();
         List<PartialPayment> partialPayments = getPartialPaymentsByInvoice.execute(id);
         List<PartialPaymentResponseDTO> response = partialPayments.stream()
                 .map(PartialPaymentResponseDTO::fromPartialPayment)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        return cacheIfClosed(id, ClosedInvoiceCache.View.PARTIAL_PAYMENTS, etag, response, invoice.get().isClosed(), true);
     }
 
     @Operation(summary = "Deletar pagamento parcial",
@@ -371,9 +504,10 @@ public class InvoiceController {
                 file.getOriginalFilename(), duplicateStrategy);
 
         try {
-            // Parse file
+            // Parse file (column mapping is resolved once and returned with the result)
+            AtomicReference<ImportPlan> plan = new AtomicReference<>();
             List<com.truebalance.truebalance.application.dto.input.InvoiceImportItemDTO> items =
-                    fileImportService.parseInvoicesFromFile(file);
+                    fileImportService.parseInvoicesFromFile(file, plan::set);
 
             // Create request
             InvoiceBulkImportRequestDTO request = new InvoiceBulkImportRequestDTO();
@@ -382,6 +516,7 @@ public class InvoiceController {
 
             // Execute import
             InvoiceImportResultDTO result = importInvoicesInBulk.execute(request);
+            result.setImportPlan(ImportPlanDTO.fromImportPlan(plan.get()));
 
             logger.info("Importação de arquivo concluída: {} criadas, {} ignoradas, {} erros",
                     result.getTotalCreated(), result.getTotalSkipped(), result.getTotalErrors());
@@ -393,4 +528,113 @@ public class InvoiceController {
         }
     }
 
+    @Operation(summary = "Importar faturas de arquivo CSV/XLS com resultado resumido",
+               description = "Igual a POST /invoices/bulk-import-file, mas retorna apenas os totais, os primeiros exemplos " +
+                             "de cada resultado e os erros agrupados por causa. O detalhe de cada linha fica em um " +
+                             "relatório CSV disponível em GET /import-reports/{reportId}.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação concluída com sucesso",
+                    content = @Content(mediaType = "application/json",
+                                      schema = @Schema(implementation = ImportSummaryDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Arquivo inválido ou erro no processamento", content = @Content)
+    })
+    @PostMapping(value = "/bulk-import-file/summary", consumes = "multipart/form-data")
+    public ResponseEntity<ImportSummaryDTO> bulkImportFromFileSummary(
+            @Parameter(description = "Arquivo CSV ou XLS/XLSX para importação", required = true)
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Estratégia para duplicatas: SKIP ou CREATE_DUPLICATE", required = true)
+            @RequestParam("duplicateStrategy") InvoiceBulkImportRequestDTO.DuplicateStrategy duplicateStrategy) {
+
+        logger.info("POST /invoices/bulk-import-file/summary - Importando arquivo: {} com estratégia {}",
+                file.getOriginalFilename(), duplicateStrategy);
+
+        try (ImportSummaryCollector summary = importReportStore.newCollector()) {
+            AtomicReference<ImportPlan> plan = new AtomicReference<>();
+            InvoiceBulkImportRequestDTO request = new InvoiceBulkImportRequestDTO();
+            request.setItems(fileImportService.parseInvoicesFromFile(file, plan::set));
+            request.setDuplicateStrategy(duplicateStrategy);
+
+            summary.addInvoices(importInvoicesInBulk.execute(request));
+            ImportSummaryDTO result = summary.finish();
+            result.setImportPlan(ImportPlanDTO.fromImportPlan(plan.get()));
+
+            logger.info("Importação de arquivo concluída: {} criadas, {} ignoradas, {} erros (relatório {})",
+                    result.getTotalCreated(), result.getTotalSkipped(), result.getTotalErrors(), result.getReportId());
+
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            logger.error("Erro ao importar arquivo: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    @Operation(summary = "Importar faturas de arquivo em segundo plano",
+               description = "Aceita o arquivo CSV ou XLS/XLSX, cria um job de importação e retorna imediatamente. " +
+                             "O progresso pode ser consultado em GET /import-jobs/{id}.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job de importação criado",
+                    content = @Content(mediaType = "application/json",
+                                      schema = @Schema(implementation = ImportJobResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Arquivo inválido", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Fila de importação cheia; tente novamente mais tarde", content = @Content)
+    })
+    @PostMapping(value = "/bulk-import-file/async", consumes = "multipart/form-data")
+    public ResponseEntity<ImportJobResponseDTO> bulkImportFromFileAsync(
+            @Parameter(description = "Arquivo CSV ou XLS/XLSX para importação", required = true)
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Estratégia para duplicatas: SKIP ou CREATE_DUPLICATE", required = true)
+            @RequestParam("duplicateStrategy") InvoiceBulkImportRequestDTO.DuplicateStrategy duplicateStrategy) {
+
+        logger.info("POST /invoices/bulk-import-file/async - Criando job para arquivo: {} com estratégia {}",
+                file.getOriginalFilename(), duplicateStrategy);
+
+        try {
+            ImportJob job = submitImportJob.execute(ImportJobType.INVOICES, file, duplicateStrategy.name());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/import-jobs/" + job.getId()))
+                    .body(ImportJobResponseDTO.fromImportJob(job));
+        } catch (ImportQueueFullException e) {
+            logger.warn("Job de importação recusado: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        } catch (Exception e) {
+            logger.error("Erro ao criar job de importação: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Keeps the read of a closed invoice in {@link ClosedInvoiceCache} and returns it. Installments and
+     * partial payments of a closed invoice no longer change; the invoice and its balance still can
+     * until it is paid, so only then are they sent as immutable.
+     */
+    private <T> ResponseEntity<T> cacheIfClosed(Long invoiceId, ClosedInvoiceCache.View view, Optional<String> etag,
+                                                T body, boolean closed, boolean immutable) {
+        if (!closed || etag.isEmpty()) {
+            return ResponseEntity.ok(body);
+        }
+        closedInvoiceCache.put(invoiceId, view, etag.get(), body, immutable);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag.get());
+        if (immutable) {
+            response.cacheControl(closedInvoiceCache.immutableCacheControl());
+        }
+        return response.body(body);
+    }
+
+    /**
+     * The already serialized body of a cached closed invoice read, or 304 when the client has it.
+     */
+    private ResponseEntity<byte[]> cachedResponse(ClosedInvoiceCache.Entry entry, WebRequest webRequest) {
+        if (webRequest.checkNotModified(entry.etag())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(entry.etag());
+        if (entry.immutable()) {
+            response.cacheControl(closedInvoiceCache.immutableCacheControl());
+        }
+        return response.body(entry.body());
+    }
 }
@@ -0,0 +1,83 @@
+package com.truebalance.truebalance.application.controller;
+
+import com.truebalance.truebalance.application.dto.output.MonthlyCardSummaryDTO;
+import com.truebalance.truebalance.domain.service.MonthlyCardSummaryRebuildJob;
+import com.truebalance.truebalance.domain.usecase.GetMonthlyCardSummaries;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/reports/monthly-card-summary")
+@Tag(name = "Monthly Card Summary", description = "API de totais mensais pré-agregados por cartão de crédito")
+public class MonthlyCardSummaryController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MonthlyCardSummaryController.class);
+
+    private final GetMonthlyCardSummaries getMonthlyCardSummaries;
+    private final MonthlyCardSummaryRebuildJob monthlyCardSummaryRebuildJob;
+
+    public MonthlyCardSummaryController(GetMonthlyCardSummaries getMonthlyCardSummaries,
+                                        MonthlyCardSummaryRebuildJob monthlyCardSummaryRebuildJob) {
+        this.getMonthlyCardSummaries = getMonthlyCardSummaries;
+        this.monthlyCardSummaryRebuildJob = monthlyCardSummaryRebuildJob;
+    }
+
+    @Operation(summary = "Totais mensais por cartão",
+               description = "Retorna, por cartão e mês, o total de compras (pelo mês da execução da conta), o total de " +
+                             "parcelas (pelo mês de vencimento), o total de pagamentos parciais e a quantidade de compras. " +
+                             "Meses sem movimento não aparecem. Sem datas, retorna os últimos 12 meses.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Totais retornados com sucesso",
+                    content = @Content(mediaType = "application/json",
+                                      schema = @Schema(implementation = MonthlyCardSummaryDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Mês inicial posterior ao mês final", content = @Content)
+    })
+    @GetMapping
+    public ResponseEntity<List<MonthlyCardSummaryDTO>> getMonthlyCardSummaries(
+            @Parameter(description = "ID do cartão de crédito (todos se omitido)")
+            @RequestParam(required = false) Long creditCardId,
+            @Parameter(description = "Qualquer dia do mês inicial (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Qualquer dia do mês final (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusMonths(11);
+        if (start.withDayOfMonth(1).isAfter(end.withDayOfMonth(1))) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(getMonthlyCardSummaries.execute(creditCardId, start, end).stream()
+                .map(MonthlyCardSummaryDTO::fromMonthlyCardSummary)
+                .toList());
+    }
+
+    @Operation(summary = "Reconstruir totais mensais por cartão",
+               description = "Recalcula todos os totais mensais a partir das contas, parcelas e pagamentos parciais. " +
+                             "Necessário apenas quando os dados foram alterados fora da API.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Totais reconstruídos", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Reconstrução já em execução em outra instância",
+                    content = @Content)
+    })
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildMonthlyCardSummaries() {
+        logger.info("POST /reports/monthly-card-summary/rebuild - Reconstruindo totais mensais por cartão");
+        return monthlyCardSummaryRebuildJob.run()
+                .map(rows -> ResponseEntity.ok(Map.of("rows", rows)))
+                .orElse(ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+}
@@ -1,23 +1,24 @@
 package com.truebalance.truebalance.application.controller;
 
-import com.truebalance.truebalance.application.dto.input.BillBulkImportRequestDTO;
-import com.truebalance.truebalance.application.dto.input.CreditCardBulkImportRequestDTO;
-import com.truebalance.truebalance.application.dto.input.InvoiceBulkImportRequestDTO;
-import com.truebalance.truebalance.application.dto.output.BillImportResultDTO;
-import com.truebalance.truebalance.application.dto.output.CreditCardImportResultDTO;
-import com.truebalance.truebalance.application.dto.output.InvoiceImportResultDTO;
+import com.truebalance.truebalance.application.dto.output.ChangesResponseDTO;
+import com.truebalance.truebalance.application.dto.output.ImportJobResponseDTO;
 import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.domain.entity.ImportJob;
+import com.truebalance.truebalance.domain.entity.ImportJobType;
 import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.exception.ImportQueueFullException;
 import com.truebalance.truebalance.domain.port.BillRepositoryPort;
 import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
 import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
 import com.truebalance.truebalance.domain.service.UnifiedExportService;
+import com.truebalance.truebalance.domain.usecase.ChangesCursor;
+import com.truebalance.truebalance.domain.usecase.ChangesResult;
+import com.truebalance.truebalance.domain.usecase.GetChangesSince;
+import com.truebalance.truebalance.domain.usecase.ImportUnifiedData;
+import com.truebalance.truebalance.domain.usecase.SubmitImportJob;
 import com.truebalance.truebalance.infra.db.repository.BillRepository;
 import com.truebalance.truebalance.infra.db.repository.InvoiceRepository;
 import com.truebalance.truebalance.domain.service.UnifiedImportService;
-import com.truebalance.truebalance.domain.usecase.ImportBillsInBulk;
-import com.truebalance.truebalance.domain.usecase.ImportCreditCardsInBulk;
-import com.truebalance.truebalance.domain.usecase.ImportInvoicesInBulk;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -35,8 +36,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -55,9 +58,9 @@ public class UnifiedImportExportController {
     private final CreditCardRepositoryPort creditCardRepositoryPort;
     private final InvoiceRepositoryPort invoiceRepositoryPort;
     private final InvoiceRepository invoiceRepository;
-    private final ImportBillsInBulk importBillsInBulk;
-    private final ImportCreditCardsInBulk importCreditCardsInBulk;
-    private final ImportInvoicesInBulk importInvoicesInBulk;
+    private final ImportUnifiedData importUnifiedData;
+    private final SubmitImportJob submitImportJob;
+    private final GetChangesSince getChangesSince;
 
     public UnifiedImportExportController(
             UnifiedExportService unifiedExportService,
@@ -67,9 +70,9 @@ public class UnifiedImportExportController {
             CreditCardRepositoryPort creditCardRepositoryPort,
             InvoiceRepositoryPort invoiceRepositoryPort,
             InvoiceRepository invoiceRepository,
-            ImportBillsInBulk importBillsInBulk,
-            ImportCreditCardsInBulk importCreditCardsInBulk,
-            ImportInvoicesInBulk importInvoicesInBulk) {
+            ImportUnifiedData importUnifiedData,
+            SubmitImportJob submitImportJob,
+            GetChangesSince getChangesSince) {
         this.unifiedExportService = unifiedExportService;
         this.unifiedImportService = unifiedImportService;
         this.billRepositoryPort = billRepositoryPort;
@@ -77,9 +80,9 @@ public class UnifiedImportExportController {
         this.creditCardRepositoryPort = creditCardRepositoryPort;
         this.invoiceRepositoryPort = invoiceRepositoryPort;
         this.invoiceRepository = invoiceRepository;
-        this.importBillsInBulk = importBillsInBulk;
-        this.importCreditCardsInBulk = importCreditCardsInBulk;
-        this.importInvoicesInBulk = importInvoicesInBulk;
+        this.importUnifiedData = importUnifiedData;
+        this.submitImportJob = submitImportJob;
+        this.getChangesSince = getChangesSince;
     }
 
     @Operation(summary = "Exportar todas as entidades para Excel",
@@ -157,6 +160,52 @@ public class UnifiedImportExportController {
         }
     }
 
+    @Operation(summary = "Exportar alterações desde uma marca d'água",
+               description = "Retorna apenas contas, cartões, faturas e pagamentos parciais criados ou alterados depois de 'since', " +
+                             "e as exclusões de contas, cartões e pagamentos parciais no mesmo período. " +
+                             "As alterações vêm em páginas: enquanto a resposta trouxer 'nextCursor', ele deve ser enviado como " +
+                             "'cursor' para ler a página seguinte. A última página traz 'nextWatermark', que deve ser enviado " +
+                             "como 'since' na próxima sincronização. Sem 'since', retorna todos os registros.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Alterações retornadas com sucesso",
+                    content = @Content(mediaType = "application/json",
+                                      schema = @Schema(implementation = ChangesResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Marca d'água ou cursor inválido", content = @Content)
+    })
+    @GetMapping("/export/changes")
+    public ResponseEntity<ChangesResponseDTO> exportChanges(
+            @Parameter(description = "Marca d'água (nextWatermark da última sincronização), formato ISO: 2025-01-15T10:30:00")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Cursor da página seguinte (nextCursor da resposta anterior); dispensa 'since'")
+            @RequestParam(required = false) String cursor) {
+
+        logger.info("GET /unified/export/changes - since={}, cursor={}", since, cursor);
+
+        if (cursor != null && !cursor.isBlank()) {
+            ChangesCursor position;
+            try {
+                position = ChangesCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                logger.warn("Cursor inválido: {}", cursor);
+                return ResponseEntity.badRequest().build();
+            }
+            return ResponseEntity.ok(ChangesResponseDTO.fromChangesResult(getChangesSince.execute(position)));
+        }
+
+        LocalDateTime watermark = null;
+        if (since != null && !since.isBlank()) {
+            try {
+                watermark = LocalDateTime.parse(since, DateTimeFormatter.ISO_DATE_TIME);
+            } catch (DateTimeParseException e) {
+                logger.warn("Marca d'água inválida: {}", since);
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        ChangesResult changes = getChangesSince.execute(watermark);
+        return ResponseEntity.ok(ChangesResponseDTO.fromChangesResult(changes));
+    }
+
     @Operation(summary = "Importar todas as entidades de um arquivo Excel",
                description = "Importa contas, cartões de crédito e faturas de um único arquivo Excel com múltiplas abas. " +
                            "O arquivo deve conter as abas: 'Contas', 'Cartões de Crédito' e 'Faturas'.")
@@ -175,94 +224,54 @@ public class UnifiedImportExportController {
         logger.info("POST /unified/import - Importando arquivo: {} com estratégia {}",
                 file.getOriginalFilename(), duplicateStrategy);
 
-        Map<String, Object> result = new HashMap<>();
-
         try {
             // Parse do arquivo
             UnifiedImportService.UnifiedImportResult parsedData = unifiedImportService.parseUnifiedFile(file);
 
-            // Processar cada tipo de entidade
-            BillImportResultDTO billsResult = null;
-            CreditCardImportResultDTO creditCardsResult = null;
-            InvoiceImportResultDTO invoicesResult = null;
-
-            // Importar Contas
-            if (!parsedData.getBills().isEmpty()) {
-                BillBulkImportRequestDTO.DuplicateStrategy billsStrategy = 
-                        duplicateStrategy.equals("SKIP") 
-                                ? BillBulkImportRequestDTO.DuplicateStrategy.SKIP 
-                                : BillBulkImportRequestDTO.DuplicateStrategy.CREATE_DUPLICATE;
-                
-                BillBulkImportRequestDTO billsRequest = new BillBulkImportRequestDTO();
-                billsRequest.setItems(parsedData.getBills());
-                billsRequest.setDuplicateStrategy(billsStrategy);
-                
-                billsResult = importBillsInBulk.execute(billsRequest);
-                logger.info("Importação de contas concluída: {} criadas, {} ignoradas, {} erros",
-                        billsResult.getTotalCreated(), billsResult.getTotalSkipped(), billsResult.getTotalErrors());
-            }
-
-            // Importar Cartões de Crédito
-            if (!parsedData.getCreditCards().isEmpty()) {
-                CreditCardBulkImportRequestDTO.DuplicateStrategy creditCardsStrategy = 
-                        duplicateStrategy.equals("SKIP") 
-                                ? CreditCardBulkImportRequestDTO.DuplicateStrategy.SKIP 
-                                : CreditCardBulkImportRequestDTO.DuplicateStrategy.CREATE_DUPLICATE;
-                
-                CreditCardBulkImportRequestDTO creditCardsRequest = new CreditCardBulkImportRequestDTO();
-                creditCardsRequest.setItems(parsedData.getCreditCards());
-                creditCardsRequest.setDuplicateStrategy(creditCardsStrategy);
-                
-                creditCardsResult = importCreditCardsInBulk.execute(creditCardsRequest);
-                logger.info("Importação de cartões concluída: {} criados, {} ignorados, {} erros",
-                        creditCardsResult.getTotalCreated(), creditCardsResult.getTotalSkipped(), creditCardsResult.getTotalErrors());
-            }
-
-            // Importar Faturas
-            if (!parsedData.getInvoices().isEmpty()) {
-                InvoiceBulkImportRequestDTO.DuplicateStrategy invoicesStrategy = 
-                        duplicateStrategy.equals("SKIP") 
-                                ? InvoiceBulkImportRequestDTO.DuplicateStrategy.SKIP 
-                                : InvoiceBulkImportRequestDTO.DuplicateStrategy.CREATE_DUPLICATE;
-                
-                InvoiceBulkImportRequestDTO invoicesRequest = new InvoiceBulkImportRequestDTO();
-                invoicesRequest.setItems(parsedData.getInvoices());
-                invoicesRequest.setDuplicateStrategy(invoicesStrategy);
-                
-                invoicesResult = importInvoicesInBulk.execute(invoicesRequest);
-                logger.info("Importação de faturas concluída: {} criadas, {} ignoradas, {} erros",
-                        invoicesResult.getTotalCreated(), invoicesResult.getTotalSkipped(), invoicesResult.getTotalErrors());
-            }
-
-            // Montar resultado
-            result.put("bills", billsResult);
-            result.put("creditCards", creditCardsResult);
-            result.put("invoices", invoicesResult);
-
-            // Resumo geral
-            int totalCreated = (billsResult != null ? billsResult.getTotalCreated() : 0) +
-                              (creditCardsResult != null ? creditCardsResult.getTotalCreated() : 0) +
-                              (invoicesResult != null ? invoicesResult.getTotalCreated() : 0);
-            
-            int totalSkipped = (billsResult != null ? billsResult.getTotalSkipped() : 0) +
-                              (creditCardsResult != null ? creditCardsResult.getTotalSkipped() : 0) +
-                              (invoicesResult != null ? invoicesResult.getTotalSkipped() : 0);
-            
-            int totalErrors = (billsResult != null ? billsResult.getTotalErrors() : 0) +
-                             (creditCardsResult != null ? creditCardsResult.getTotalErrors() : 0) +
-                             (invoicesResult != null ? invoicesResult.getTotalErrors() : 0);
-
-            result.put("summary", Map.of(
-                    "totalCreated", totalCreated,
-                    "totalSkipped", totalSkipped,
-                    "totalErrors", totalErrors
-            ));
+            Map<String, Object> result = importUnifiedData.execute(parsedData, duplicateStrategy);
 
             return ResponseEntity.ok(result);
         } catch (Exception e) {
             logger.error("Erro ao importar arquivo: {}", e.getMessage(), e);
+            Map<String, Object> result = new HashMap<>();
             result.put("error", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
         }
     }
+
+    @Operation(summary = "Importar todas as entidades em segundo plano",
+               description = "Aceita o arquivo Excel unificado, cria um job de importação e retorna imediatamente. " +
+                             "O progresso pode ser consultado em GET /import-jobs/{id}.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job de importação criado",
+                    content = @Content(mediaType = "application/json",
+                                      schema = @Schema(implementation = ImportJobResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Arquivo inválido", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Fila de importação cheia; tente novamente mais tarde", content = @Content)
+    })
+    @PostMapping(value = "/import/async", consumes = "multipart/form-data")
+    public ResponseEntity<ImportJobResponseDTO> importAllAsync(
+            @Parameter(description = "Arquivo Excel (XLS ou XLSX) para importação", required = true)
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Estratégia para duplicatas: SKIP ou CREATE_DUPLICATE", required = true)
+            @RequestParam("duplicateStrategy") String duplicateStrategy) {
+
+        logger.info("POST /unified/import/async - Criando job para arquivo: {} com estratégia {}",
+                file.getOriginalFilename(), duplicateStrategy);
+
+        try {
+            ImportJob job = submitImportJob.execute(ImportJobType.UNIFIED, file, duplicateStrategy);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/import-jobs/" + job.getId()))
+                    .body(ImportJobResponseDTO.fromImportJob(job));
+        } catch (ImportQueueFullException e) {
+            logger.warn("Job de importação recusado: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        } catch (Exception e) {
+            logger.error("Erro ao criar job de importação: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
 }
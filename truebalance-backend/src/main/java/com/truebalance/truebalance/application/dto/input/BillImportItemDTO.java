@@ -31,6 +31,9 @@ public class BillImportItemDTO {
 
     private Long creditCardId;
 
+    /** Card referenced by name instead of ID; resolved by the unified import */
+    private String creditCardName;
+
     @NotNull(message = "Número da linha é obrigatório")
     private Integer lineNumber;
 
@@ -118,6 +121,14 @@ public class BillImportItemDTO {
         this.creditCardId = creditCardId;
     }
 
+    public String getCreditCardName() {
+        return creditCardName;
+    }
+
+    public void setCreditCardName(String creditCardName) {
+        this.creditCardName = creditCardName;
+    }
+
     public Integer getLineNumber() {
         return lineNumber;
     }
@@ -27,6 +27,9 @@ public class CreditCardImportItemDTO {
 
     private Boolean allowsPartialPayment;
 
+    /** ID the card had in the source file (e.g. a previous unified export), used to remap references */
+    private Long sourceId;
+
     @NotNull(message = "Número da linha é obrigatório")
     private Integer lineNumber;
 
@@ -94,6 +97,14 @@ public class CreditCardImportItemDTO {
         this.allowsPartialPayment = allowsPartialPayment;
     }
 
+    public Long getSourceId() {
+        return sourceId;
+    }
+
+    public void setSourceId(Long sourceId) {
+        this.sourceId = sourceId;
+    }
+
     public Integer getLineNumber() {
         return lineNumber;
     }
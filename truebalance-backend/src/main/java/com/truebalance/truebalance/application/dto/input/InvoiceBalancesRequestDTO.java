@@ -0,0 +1,36 @@
+package com.truebalance.truebalance.application.dto.input;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO for calculating the balance of several invoices at once.
+ * The IDs may belong to different credit cards; the response is paged over them.
+ */
+public class InvoiceBalancesRequestDTO {
+
+    public static final int MAX_INVOICE_IDS = 10_000;
+
+    @NotEmpty(message = "Lista de faturas é obrigatória")
+    @Size(max = MAX_INVOICE_IDS, message = "Máximo de " + MAX_INVOICE_IDS + " faturas por requisição")
+    private List<@NotNull Long> invoiceIds;
+
+    public InvoiceBalancesRequestDTO() {
+    }
+
+    public InvoiceBalancesRequestDTO(List<Long> invoiceIds) {
+        this.invoiceIds = invoiceIds;
+    }
+
+    // Getters and Setters
+    public List<Long> getInvoiceIds() {
+        return invoiceIds;
+    }
+
+    public void setInvoiceIds(List<Long> invoiceIds) {
+        this.invoiceIds = invoiceIds;
+    }
+}
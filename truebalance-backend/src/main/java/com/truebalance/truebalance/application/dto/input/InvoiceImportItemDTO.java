@@ -11,6 +11,9 @@ public class InvoiceImportItemDTO {
     @NotNull(message = "ID do cartão de crédito é obrigatório")
     private Long creditCardId;
 
+    /** Card referenced by name instead of ID; resolved by the unified import */
+    private String creditCardName;
+
     @NotNull(message = "Mês de referência é obrigatório")
     private LocalDate referenceMonth;
 
@@ -48,6 +51,8 @@ public class InvoiceImportItemDTO {
         invoice.setCreditCardId(this.creditCardId);
         invoice.setReferenceMonth(this.referenceMonth);
         invoice.setTotalAmount(this.totalAmount);
+        // Installments charged later add to it; the consistency check keeps it as the base
+        invoice.setImportedAmount(this.totalAmount);
         invoice.setPreviousBalance(this.previousBalance != null ? this.previousBalance : BigDecimal.ZERO);
         invoice.setClosed(this.closed != null ? this.closed : false);
         invoice.setPaid(this.paid != null ? this.paid : false);
@@ -63,6 +68,14 @@ public class InvoiceImportItemDTO {
         this.creditCardId = creditCardId;
     }
 
+    public String getCreditCardName() {
+        return creditCardName;
+    }
+
+    public void setCreditCardName(String creditCardName) {
+        this.creditCardName = creditCardName;
+    }
+
     public LocalDate getReferenceMonth() {
         return referenceMonth;
     }
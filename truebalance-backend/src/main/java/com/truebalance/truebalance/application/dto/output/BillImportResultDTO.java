@@ -12,6 +12,7 @@ public class BillImportResultDTO {
     private List<DuplicateInfoDTO> duplicatesFound;
     private List<ImportErrorDTO> errors;
     private List<BillResponseDTO> createdBills;
+    private ImportPlanDTO importPlan;  // Column mapping of the imported file (file imports only)
 
     public BillImportResultDTO() {
         this.duplicatesFound = new ArrayList<>();
@@ -31,6 +32,19 @@ public class BillImportResultDTO {
         this.createdBills = createdBills != null ? createdBills : new ArrayList<>();
     }
 
+    /**
+     * Adds the counters and lists of a partial result (one batch or partition) to this one.
+     */
+    public void merge(BillImportResultDTO other) {
+        this.totalProcessed = this.totalProcessed + other.getTotalProcessed();
+        this.totalCreated = this.totalCreated + other.getTotalCreated();
+        this.totalSkipped = this.totalSkipped + other.getTotalSkipped();
+        this.totalErrors = this.totalErrors + other.getTotalErrors();
+        this.duplicatesFound.addAll(other.getDuplicatesFound());
+        this.errors.addAll(other.getErrors());
+        this.createdBills.addAll(other.getCreatedBills());
+    }
+
     // Getters and Setters
     public Integer getTotalProcessed() {
         return totalProcessed;
@@ -87,4 +101,12 @@ public class BillImportResultDTO {
     public void setCreatedBills(List<BillResponseDTO> createdBills) {
         this.createdBills = createdBills;
     }
+
+    public ImportPlanDTO getImportPlan() {
+        return importPlan;
+    }
+
+    public void setImportPlan(ImportPlanDTO importPlan) {
+        this.importPlan = importPlan;
+    }
 }
@@ -0,0 +1,112 @@
+package com.truebalance.truebalance.application.dto.output;
+
+import com.truebalance.truebalance.domain.usecase.ChangesResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO for the incremental export: one page of the records changed since {@code since}.
+ * While nextCursor is set the client sends it as {@code cursor} to read the rest of the changes;
+ * once it is null, the client sends nextWatermark as {@code since} on its next sync.
+ */
+public class ChangesResponseDTO {
+
+    private LocalDateTime since;
+    private LocalDateTime nextWatermark;
+    private List<BillResponseDTO> bills;
+    private List<CreditCardResponseDTO> creditCards;
+    private List<InvoiceResponseDTO> invoices;
+    private List<PartialPaymentResponseDTO> partialPayments;
+    private List<DeletedRecordDTO> deleted;
+    private String nextCursor;
+
+    public ChangesResponseDTO() {
+        this.bills = new ArrayList<>();
+        this.creditCards = new ArrayList<>();
+        this.invoices = new ArrayList<>();
+        this.partialPayments = new ArrayList<>();
+        this.deleted = new ArrayList<>();
+    }
+
+    public static ChangesResponseDTO fromChangesResult(ChangesResult result) {
+        ChangesResponseDTO dto = new ChangesResponseDTO();
+        dto.setSince(result.getSince());
+        dto.setNextWatermark(result.getNextWatermark());
+        // creditCardId is not resolved per bill, as in the bill list (it would need one query per bill)
+        dto.setBills(result.getBills().stream().map(bill -> BillResponseDTO.fromBill(bill, null)).toList());
+        dto.setCreditCards(result.getCreditCards().stream().map(CreditCardResponseDTO::fromCreditCard).toList());
+        dto.setInvoices(result.getInvoices().stream().map(InvoiceResponseDTO::fromInvoice).toList());
+        dto.setPartialPayments(result.getPartialPayments().stream()
+                .map(PartialPaymentResponseDTO::fromPartialPayment).toList());
+        dto.setDeleted(result.getDeleted().stream().map(DeletedRecordDTO::fromDeletedRecord).toList());
+        dto.setNextCursor(result.getNextCursor() != null ? result.getNextCursor().encode() : null);
+        return dto;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getSince() {
+        return since;
+    }
+
+    public void setSince(LocalDateTime since) {
+        this.since = since;
+    }
+
+    public LocalDateTime getNextWatermark() {
+        return nextWatermark;
+    }
+
+    public void setNextWatermark(LocalDateTime nextWatermark) {
+        this.nextWatermark = nextWatermark;
+    }
+
+    public List<BillResponseDTO> getBills() {
+        return bills;
+    }
+
+    public void setBills(List<BillResponseDTO> bills) {
+        this.bills = bills;
+    }
+
+    public List<CreditCardResponseDTO> getCreditCards() {
+        return creditCards;
+    }
+
+    public void setCreditCards(List<CreditCardResponseDTO> creditCards) {
+        this.creditCards = creditCards;
+    }
+
+    public List<InvoiceResponseDTO> getInvoices() {
+        return invoices;
+    }
+
+    public void setInvoices(List<InvoiceResponseDTO> invoices) {
+        this.invoices = invoices;
+    }
+
+    public List<PartialPaymentResponseDTO> getPartialPayments() {
+        return partialPayments;
+    }
+
+    public void setPartialPayments(List<PartialPaymentResponseDTO> partialPayments) {
+        this.partialPayments = partialPayments;
+    }
+
+    public List<DeletedRecordDTO> getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(List<DeletedRecordDTO> deleted) {
+        this.deleted = deleted;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
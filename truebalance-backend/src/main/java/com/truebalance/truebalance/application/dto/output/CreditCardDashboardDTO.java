@@ -0,0 +1,78 @@
+package com.truebalance.truebalance.application.dto.output;
+
+import com.truebalance.truebalance.domain.usecase.CreditCardDashboardResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO for the credit card dashboard: the card, its available limit, the open invoice
+ * of the current month (null if none), the balance of every invoice and the next installments.
+ */
+public class CreditCardDashboardDTO {
+
+    private CreditCardResponseDTO creditCard;
+    private AvailableLimitDTO availableLimit;
+    private InvoiceResponseDTO currentInvoice;
+    private List<InvoiceBalanceDTO> invoices;
+    private List<InstallmentResponseDTO> upcomingInstallments;
+
+    public CreditCardDashboardDTO() {
+        this.invoices = new ArrayList<>();
+        this.upcomingInstallments = new ArrayList<>();
+    }
+
+    public static CreditCardDashboardDTO fromResult(CreditCardDashboardResult result) {
+        CreditCardDashboardDTO dto = new CreditCardDashboardDTO();
+        dto.setCreditCard(CreditCardResponseDTO.fromCreditCard(result.getCreditCard()));
+        dto.setAvailableLimit(AvailableLimitDTO.fromResult(result.getAvailableLimit()));
+        if (result.getCurrentInvoice() != null) {
+            dto.setCurrentInvoice(InvoiceResponseDTO.fromInvoice(result.getCurrentInvoice()));
+        }
+        dto.setInvoices(result.getInvoices());
+        dto.setUpcomingInstallments(result.getUpcomingInstallments().stream()
+                .map(InstallmentResponseDTO::fromInstallment).toList());
+        return dto;
+    }
+
+    // Getters and Setters
+    public CreditCardResponseDTO getCreditCard() {
+        return creditCard;
+    }
+
+    public void setCreditCard(CreditCardResponseDTO creditCard) {
+        this.creditCard = creditCard;
+    }
+
+    public AvailableLimitDTO getAvailableLimit() {
+        return availableLimit;
+    }
+
+    public void setAvailableLimit(AvailableLimitDTO availableLimit) {
+        this.availableLimit = availableLimit;
+    }
+
+    public InvoiceResponseDTO getCurrentInvoice() {
+        return currentInvoice;
+    }
+
+    public void setCurrentInvoice(InvoiceResponseDTO currentInvoice) {
+        this.currentInvoice = currentInvoice;
+    }
+
+    public List<InvoiceBalanceDTO> getInvoices() {
+        return invoices;
+    }
+
+    public void setInvoices(List<InvoiceBalanceDTO> invoices) {
+        this.invoices = invoices;
+    }
+
+    public List<InstallmentResponseDTO> getUpcomingInstallments() {
+        return upcomingInstallments;
+    }
+
+    public void setUpcomingInstallments(List<InstallmentResponseDTO> upcomingInstallments) {
+        this.upcomingInstallments = upcomingInstallments;
+    }
+}
@@ -0,0 +1,65 @@
+package com.truebalance.truebalance.application.dto.output;
+
+import com.truebalance.truebalance.domain.usecase.GetInstallmentForecast;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO for the installment forecast of a credit card: how much is already committed in
+ * each of the coming months, with every month of the range present (zero when nothing is due).
+ */
+public class CreditCardForecastDTO {
+
+    private Long creditCardId;
+    private String creditCardName;
+    private BigDecimal total;
+    private List<MonthlyCommitmentDTO> months;
+
+    public CreditCardForecastDTO() {
+        this.months = new ArrayList<>();
+    }
+
+    public static CreditCardForecastDTO fromForecast(GetInstallmentForecast.CardForecast forecast) {
+        CreditCardForecastDTO dto = new CreditCardForecastDTO();
+        dto.setCreditCardId(forecast.creditCardId());
+        dto.setCreditCardName(forecast.creditCardName());
+        dto.setTotal(forecast.total());
+        dto.setMonths(forecast.months().stream().map(MonthlyCommitmentDTO::fromForecast).toList());
+        return dto;
+    }
+
+    // Getters and Setters
+    public Long getCreditCardId() {
+        return creditCardId;
+    }
+
+    public void setCreditCardId(Long creditCardId) {
+        this.creditCardId = creditCardId;
+    }
+
+    public String getCreditCardName() {
+        return creditCardName;
+    }
+
+    public void setCreditCardName(String creditCardName) {
+        this.creditCardName = creditCardName;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+
+    public List<MonthlyCommitmentDTO> getMonths() {
+        return months;
+    }
+
+    public void setMonths(List<MonthlyCommitmentDTO> months) {
+        this.months = months;
+    }
+}
@@ -12,6 +12,7 @@ public class CreditCardImportResultDTO {
     private List<CreditCardDuplicateInfoDTO> duplicatesFound;
     private List<ImportErrorDTO> errors;
     private List<CreditCardResponseDTO> createdCreditCards;
+    private ImportPlanDTO importPlan;  // Column mapping of the imported file (file imports only)
 
     public CreditCardImportResultDTO() {
         this.duplicatesFound = new ArrayList<>();
@@ -45,4 +46,12 @@ public class CreditCardImportResultDTO {
     public void setErrors(List<ImportErrorDTO> errors) { this.errors = errors; }
     public List<CreditCardResponseDTO> getCreatedCreditCards() { return createdCreditCards; }
     public void setCreatedCreditCards(List<CreditCardResponseDTO> createdCreditCards) { this.createdCreditCards = createdCreditCards; }
+
+    public ImportPlanDTO getImportPlan() {
+        return importPlan;
+    }
+
+    public void setImportPlan(ImportPlanDTO importPlan) {
+        this.importPlan = importPlan;
+    }
 }
@@ -0,0 +1,54 @@
+package com.truebalance.truebalance.application.dto.output;
+
+import com.truebalance.truebalance.domain.entity.DeletedRecord;
+import com.truebalance.truebalance.domain.entity.DeletedRecordType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for a tombstone: a record deleted since the client's last sync.
+ */
+public class DeletedRecordDTO {
+
+    private DeletedRecordType type;
+    private Long id;                    // ID of the deleted record
+    private LocalDateTime deletedAt;
+
+    public DeletedRecordDTO() {
+    }
+
+    public DeletedRecordDTO(DeletedRecordType type, Long id, LocalDateTime deletedAt) {
+        this.type = type;
+        this.id = id;
+        this.deletedAt = deletedAt;
+    }
+
+    public static DeletedRecordDTO fromDeletedRecord(DeletedRecord deletedRecord) {
+        return new DeletedRecordDTO(deletedRecord.getType(), deletedRecord.getRecordId(), deletedRecord.getDeletedAt());
+    }
+
+    // Getters and Setters
+    public DeletedRecordType getType() {
+        return type;
+    }
+
+    public void setType(DeletedRecordType type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
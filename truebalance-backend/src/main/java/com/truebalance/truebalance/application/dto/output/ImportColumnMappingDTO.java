@@ -0,0 +1,58 @@
+package com.truebalance.truebalance.application.dto.output;
+
+import com.truebalance.truebalance.domain.service.ImportPlan;
+
+public class ImportColumnMappingDTO {
+
+    private String field;
+    private String header;
+    private Integer columnIndex;
+    private String format;
+
+    public ImportColumnMappingDTO() {
+    }
+
+    public ImportColumnMappingDTO(String field, String header, Integer columnIndex, String format) {
+        this.field = field;
+        this.header = header;
+        this.columnIndex = columnIndex;
+        this.format = format;
+    }
+
+    public static ImportColumnMappingDTO fromColumn(ImportPlan.Column column) {
+        return new ImportColumnMappingDTO(column.field(), column.header(), column.index(), column.format());
+    }
+
+    // Getters and Setters
+    public String getField() {
+        return field;
+    }
+
+    public void setField(String field) {
+        this.field = field;
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    public void setHeader(String header) {
+        this.header = header;
+    }
+
+    public Integer getColumnIndex() {
+        return columnIndex;
+    }
+
+    public void setColumnIndex(Integer columnIndex) {
+        this.columnIndex = columnIndex;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+}
@@ -0,0 +1,59 @@
+package com.truebalance.truebalance.application.dto.output;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Import errors that share the same cause, with how many rows hit it and the first of those rows.
+ */
+public class ImportErrorGroupDTO {
+
+    private String field;
+    private String cause;               // Message with the row-specific values replaced by placeholders
+    private int count;
+    private List<Integer> lineNumbers;  // First lines with this cause
+
+    public ImportErrorGroupDTO() {
+        this.lineNumbers = new ArrayList<>();
+    }
+
+    public ImportErrorGroupDTO(String field, String cause, int count, List<Integer> lineNumbers) {
+        this.field = field;
+        this.cause = cause;
+        this.count = count;
+        this.lineNumbers = lineNumbers != null ? lineNumbers : new ArrayList<>();
+    }
+
+    // Getters and Setters
+    public String getField() {
+        return field;
+    }
+
+    public void setField(String field) {
+        this.field = field;
+    }
+
+    public String getCause() {
+        return cause;
+    }
+
+    public void setCause(String cause) {
+        this.cause = cause;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public List<Integer> getLineNumbers() {
+        return lineNumbers;
+    }
+
+    public void setLineNumbers(List<Integer> lineNumbers) {
+        this.lineNumbers = lineNumbers;
+    }
+}
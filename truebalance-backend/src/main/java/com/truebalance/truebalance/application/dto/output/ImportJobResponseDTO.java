@@ -0,0 +1,218 @@
+package com.truebalance.truebalance.application.dto.output;
+
+import com.truebalance.truebalance.domain.entity.ImportJob;
+import com.truebalance.truebalance.domain.entity.ImportJobStatus;
+import com.truebalance.truebalance.domain.entity.ImportJobType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class ImportJobResponseDTO {
+
+    private Long id;
+    private ImportJobType type;
+    private ImportJobStatus status;
+    private String filename;
+    private String duplicateStrategy;
+    private int totalRows;
+    private int processedRows;
+    private int createdRows;
+    private int skippedRows;
+    private int failedRows;
+    private Integer progressPercent;
+    private Long etaSeconds;
+    private boolean cancelRequested;
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public ImportJobResponseDTO() {
+    }
+
+    public static ImportJobResponseDTO fromImportJob(ImportJob job) {
+        ImportJobResponseDTO dto = new ImportJobResponseDTO();
+        dto.setId(job.getId());
+        dto.setType(job.getType());
+        dto.setStatus(job.getStatus());
+        dto.setFilename(job.getFilename());
+        dto.setDuplicateStrategy(job.getDuplicateStrategy());
+        dto.setTotalRows(job.getTotalRows());
+        dto.setProcessedRows(job.getProcessedRows());
+        dto.setCreatedRows(job.getCreatedRows());
+        dto.setSkippedRows(job.getSkippedRows());
+        dto.setFailedRows(job.getFailedRows());
+        dto.setCancelRequested(job.isCancelRequested());
+        dto.setErrorMessage(job.getErrorMessage());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setUpdatedAt(job.getUpdatedAt());
+
+        if (job.getTotalRows() > 0) {
+            dto.setProgressPercent((int) Math.min(100, (long) job.getProcessedRows() * 100 / job.getTotalRows()));
+        }
+        dto.setEtaSeconds(estimateRemainingSeconds(job));
+        return dto;
+    }
+
+    /**
+     * Linear estimate based on the average time per row processed so far.
+     * Null while the job has not processed anything yet or is already finished.
+     */
+    private static Long estimateRemainingSeconds(ImportJob job) {
+        if (job.getStatus() != ImportJobStatus.RUNNING || job.getStartedAt() == null
+                || job.getProcessedRows() == 0 || job.getTotalRows() == 0) {
+            return null;
+        }
+
+        long elapsedMillis = Duration.between(job.getStartedAt(), LocalDateTime.now()).toMillis();
+        int remainingRows = Math.max(0, job.getTotalRows() - job.getProcessedRows());
+        return elapsedMillis * remainingRows / job.getProcessedRows() / 1000;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ImportJobType getType() {
+        return type;
+    }
+
+    public void setType(ImportJobType type) {
+        this.type = type;
+    }
+
+    public ImportJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ImportJobStatus status) {
+        this.status = status;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public void setFilename(String filename) {
+        this.filename = filename;
+    }
+
+    public String getDuplicateStrategy() {
+        return duplicateStrategy;
+    }
+
+    public void setDuplicateStrategy(String duplicateStrategy) {
+        this.duplicateStrategy = duplicateStrategy;
+    }
+
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public int getProcessedRows() {
+        return processedRows;
+    }
+
+    public void setProcessedRows(int processedRows) {
+        this.processedRows = processedRows;
+    }
+
+    public int getCreatedRows() {
+        return createdRows;
+    }
+
+    public void setCreatedRows(int createdRows) {
+        this.createdRows = createdRows;
+    }
+
+    public int getSkippedRows() {
+        return skippedRows;
+    }
+
+    public void setSkippedRows(int skippedRows) {
+        this.skippedRows = skippedRows;
+    }
+
+    public int getFailedRows() {
+        return failedRows;
+    }
+
+    public void setFailedRows(int failedRows) {
+        this.failedRows = failedRows;
+    }
+
+    public Integer getProgressPercent() {
+        return progressPercent;
+    }
+
+    public void setProgressPercent(Integer progressPercent) {
+        this.progressPercent = progressPercent;
+    }
+
+    public Long getEtaSeconds() {
+        return etaSeconds;
+    }
+
+    public void setEtaSeconds(Long etaSeconds) {
+        this.etaSeconds = etaSeconds;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public void setCancelRequested(boolean cancelRequested) {
+        this.cancelRequested = cancelRequested;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
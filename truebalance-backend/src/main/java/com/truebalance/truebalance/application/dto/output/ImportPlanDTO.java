@@ -0,0 +1,65 @@
+package com.truebalance.truebalance.application.dto.output;
+
+import com.truebalance.truebalance.domain.service.ImportPlan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Column mapping used to read an import file: which header fed each field and the detected format.
+ */
+public class ImportPlanDTO {
+
+    private List<ImportColumnMappingDTO> columns;
+    private List<String> missingFields;
+    private List<String> unmappedHeaders;
+
+    public ImportPlanDTO() {
+        this.columns = new ArrayList<>();
+        this.missingFields = new ArrayList<>();
+        this.unmappedHeaders = new ArrayList<>();
+    }
+
+    public ImportPlanDTO(List<ImportColumnMappingDTO> columns, List<String> missingFields, List<String> unmappedHeaders) {
+        this.columns = columns;
+        this.missingFields = missingFields;
+        this.unmappedHeaders = unmappedHeaders;
+    }
+
+    public static ImportPlanDTO fromImportPlan(ImportPlan plan) {
+        if (plan == null) {
+            return null;
+        }
+        return new ImportPlanDTO(
+                plan.getColumns().stream().map(ImportColumnMappingDTO::fromColumn).collect(Collectors.toList()),
+                new ArrayList<>(plan.getMissingFields()),
+                new ArrayList<>(plan.getUnmappedHeaders())
+        );
+    }
+
+    // Getters and Setters
+    public List<ImportColumnMappingDTO> getColumns() {
+        return columns;
+    }
+
+    public void setColumns(List<ImportColumnMappingDTO> columns) {
+        this.columns = columns;
+    }
+
+    public List<String> getMissingFields() {
+        return missingFields;
+    }
+
+    public void setMissingFields(List<String> missingFields) {
+        this.missingFields = missingFields;
+    }
+
+    public List<String> getUnmappedHeaders() {
+        return unmappedHeaders;
+    }
+
+    public void setUnmappedHeaders(List<String> unmappedHeaders) {
+        this.unmappedHeaders = unmappedHeaders;
+    }
+}
@@ -0,0 +1,145 @@
+package com.truebalance.truebalance.application.dto.output;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of the NDJSON response of a streamed import.
+ *
+ * PROGRESS carries the running totals, ERROR and DUPLICATE describe one row, and the last line
+ * is COMPLETED (final totals) or FAILED (totals so far and the reason).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportStreamEventDTO {
+
+    public enum Type {
+        PROGRESS,
+        ERROR,
+        DUPLICATE,
+        COMPLETED,
+        FAILED
+    }
+
+    private Type type;
+    private Integer totalProcessed;
+    private Integer totalCreated;
+    private Integer totalSkipped;
+    private Integer totalErrors;
+    private Integer lineNumber;
+    private String field;
+    private String message;
+    private String value;
+    private Long existingId;    // Record the row duplicates (DUPLICATE only)
+
+    public ImportStreamEventDTO() {
+    }
+
+    public static ImportStreamEventDTO totals(Type type, int totalCreated, int totalSkipped, int totalErrors) {
+        ImportStreamEventDTO event = new ImportStreamEventDTO();
+        event.setType(type);
+        event.setTotalCreated(totalCreated);
+        event.setTotalSkipped(totalSkipped);
+        event.setTotalErrors(totalErrors);
+        event.setTotalProcessed(totalCreated + totalSkipped + totalErrors);
+        return event;
+    }
+
+    public static ImportStreamEventDTO error(ImportErrorDTO error) {
+        ImportStreamEventDTO event = new ImportStreamEventDTO();
+        event.setType(Type.ERROR);
+        event.setLineNumber(error.getLineNumber());
+        event.setField(error.getField());
+        event.setMessage(error.getMessage());
+        event.setValue(error.getValue());
+        return event;
+    }
+
+    public static ImportStreamEventDTO duplicate(DuplicateInfoDTO duplicate) {
+        ImportStreamEventDTO event = new ImportStreamEventDTO();
+        event.setType(Type.DUPLICATE);
+        event.setLineNumber(duplicate.getLineNumber());
+        event.setMessage(duplicate.getReason());
+        event.setExistingId(duplicate.getExistingBillId());
+        return event;
+    }
+
+    // Getters and Setters
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Integer getTotalProcessed() {
+        return totalProcessed;
+    }
+
+    public void setTotalProcessed(Integer totalProcessed) {
+        this.totalProcessed = totalProcessed;
+    }
+
+    public Integer getTotalCreated() {
+        return totalCreated;
+    }
+
+    public void setTotalCreated(Integer totalCreated) {
+        this.totalCreated = totalCreated;
+    }
+
+    public Integer getTotalSkipped() {
+        return totalSkipped;
+    }
+
+    public void setTotalSkipped(Integer totalSkipped) {
+        this.totalSkipped = totalSkipped;
+    }
+
+    public Integer getTotalErrors() {
+        return totalErrors;
+    }
+
+    public void setTotalErrors(Integer totalErrors) {
+        this.totalErrors = totalErrors;
+    }
+
+    public Integer getLineNumber() {
+        return lineNumber;
+    }
+
+    public void setLineNumber(Integer lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public void setField(String field) {
+        this.field = field;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public Long getExistingId() {
+        return existingId;
+    }
+
+    public void setExistingId(Long existingId) {
+        this.existingId = existingId;
+    }
+}
@@ -0,0 +1,111 @@
+package com.truebalance.truebalance.application.dto.output;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded result of a file import: counters, the first examples of each outcome and the errors
+ * grouped by cause. Its size does not depend on the number of rows; the detail of every row is
+ * in the CSV report downloadable from GET /import-reports/{reportId}.
+ */
+public class ImportSummaryDTO {
+
+    private Integer totalProcessed;
+    private Integer totalCreated;
+    private Integer totalSkipped;
+    private Integer totalErrors;
+    private List<Object> createdExamples;       // First created records (bills, invoices or credit cards)
+    private List<Object> duplicateExamples;     // First duplicates found
+    private List<ImportErrorDTO> errorExamples; // First errors
+    private List<ImportErrorGroupDTO> errorGroups;
+    private String reportId;
+    private ImportPlanDTO importPlan;  // Column mapping of the imported file
+
+    public ImportSummaryDTO() {
+        this.createdExamples = new ArrayList<>();
+        this.duplicateExamples = new ArrayList<>();
+        this.errorExamples = new ArrayList<>();
+        this.errorGroups = new ArrayList<>();
+    }
+
+    // Getters and Setters
+    public Integer getTotalProcessed() {
+        return totalProcessed;
+    }
+
+    public void setTotalProcessed(Integer totalProcessed) {
+        this.totalProcessed = totalProcessed;
+    }
+
+    public Integer getTotalCreated() {
+        return totalCreated;
+    }
+
+    public void setTotalCreated(Integer totalCreated) {
+        this.totalCreated = totalCreated;
+    }
+
+    public Integer getTotalSkipped() {
+        return totalSkipped;
+    }
+
+    public void setTotalSkipped(Integer totalSkipped) {
+        this.totalSkipped = totalSkipped;
+    }
+
+    public Integer getTotalErrors() {
+        return totalErrors;
+    }
+
+    public void setTotalErrors(Integer totalErrors) {
+        this.totalErrors = totalErrors;
+    }
+
+    public List<Object> getCreatedExamples() {
+        return createdExamples;
+    }
+
+    public void setCreatedExamples(List<Object> createdExamples) {
+        this.createdExamples = createdExamples;
+    }
+
+    public List<Object> getDuplicateExamples() {
+        return duplicateExamples;
+    }
+
+    public void setDuplicateExamples(List<Object> duplicateExamples) {
+        this.duplicateExamples = duplicateExamples;
+    }
+
+    public List<ImportErrorDTO> getErrorExamples() {
+        return errorExamples;
+    }
+
+    public void setErrorExamples(List<ImportErrorDTO> errorExamples) {
+        this.errorExamples = errorExamples;
+    }
+
+    public List<ImportErrorGroupDTO> getErrorGroups() {
+        return errorGroups;
+    }
+
+    public void setErrorGroups(List<ImportErrorGroupDTO> errorGroups) {
+        this.errorGroups = errorGroups;
+    }
+
+    public String getReportId() {
+        return reportId;
+    }
+
+    public void setReportId(String reportId) {
+        this.reportId = reportId;
+    }
+
+    public ImportPlanDTO getImportPlan() {
+        return importPlan;
+    }
+
+    public void setImportPlan(ImportPlanDTO importPlan) {
+        this.importPlan = importPlan;
+    }
+}
@@ -1,10 +1,14 @@
 package com.truebalance.truebalance.application.dto.output;
 
+import com.truebalance.truebalance.domain.entity.Invoice;
+
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 public class InvoiceBalanceDTO {
 
     private Long invoiceId;
+    private LocalDate referenceMonth;
     private BigDecimal totalAmount;
     private BigDecimal previousBalance;
     private BigDecimal partialPaymentsTotal;
@@ -29,6 +33,36 @@ public class InvoiceBalanceDTO {
         this.partialPaymentsCount = partialPaymentsCount;
     }
 
+    /**
+     * Builds the balance of an invoice from its payment totals.
+     * BR-I-011: currentBalance = totalAmount + previousBalance - partialPaymentsTotal
+     */
+    public static InvoiceBalanceDTO fromInvoice(Invoice invoice, BigDecimal partialPaymentsTotal, int partialPaymentsCount) {
+        BigDecimal currentBalance = calculateCurrentBalance(invoice, partialPaymentsTotal);
+
+        InvoiceBalanceDTO balance = new InvoiceBalanceDTO(
+                invoice.getId(),
+                invoice.getTotalAmount(),
+                invoice.getPreviousBalance(),
+                partialPaymentsTotal,
+                currentBalance,
+                invoice.isPaid(),
+                invoice.isClosed(),
+                partialPaymentsCount
+        );
+        balance.setReferenceMonth(invoice.getReferenceMonth());
+        return balance;
+    }
+
+    /**
+     * BR-I-011: currentBalance = totalAmount + previousBalance - partialPaymentsTotal
+     */
+    public static BigDecimal calculateCurrentBalance(Invoice invoice, BigDecimal partialPaymentsTotal) {
+        return invoice.getTotalAmount()
+                .add(invoice.getPreviousBalance())
+                .subtract(partialPaymentsTotal);
+    }
+
     public Long getInvoiceId() {
         return invoiceId;
     }
@@ -37,6 +71,14 @@ public class InvoiceBalanceDTO {
         this.invoiceId = invoiceId;
     }
 
+    public LocalDate getReferenceMonth() {
+        return referenceMonth;
+    }
+
+    public void setReferenceMonth(LocalDate referenceMonth) {
+        this.referenceMonth = referenceMonth;
+    }
+
     public BigDecimal getTotalAmount() {
         return totalAmount;
     }
@@ -0,0 +1,90 @@
+package com.truebalance.truebalance.application.dto.output;
+
+import com.truebalance.truebalance.domain.service.InvoiceConsistencyRunResult;
+
+/**
+ * Result of an invoice consistency check. The invoices found are listed in the CSV report
+ * downloadable from GET /invoices/consistency/reports/{reportId}.
+ */
+public class InvoiceConsistencyCheckDTO {
+
+    private Integer checkedCreditCards;
+    private Integer mismatches;
+    private Integer closedMismatches;  // Reported only: closed invoices are never repaired
+    private Integer repaired;
+    private Integer failed;
+    private String reportId;
+    private Long durationMillis;
+
+    public InvoiceConsistencyCheckDTO() {
+    }
+
+    public static InvoiceConsistencyCheckDTO fromResult(InvoiceConsistencyRunResult result) {
+        InvoiceConsistencyCheckDTO dto = new InvoiceConsistencyCheckDTO();
+        dto.setCheckedCreditCards(result.checkedCards());
+        dto.setMismatches(result.mismatches());
+        dto.setClosedMismatches(result.closedMismatches());
+        dto.setRepaired(result.repaired());
+        dto.setFailed(result.failed());
+        dto.setReportId(result.reportId());
+        dto.setDurationMillis(result.durationMillis());
+        return dto;
+    }
+
+    // Getters and Setters
+    public Integer getCheckedCreditCards() {
+        return checkedCreditCards;
+    }
+
+    public void setCheckedCreditCards(Integer checkedCreditCards) {
+        this.checkedCreditCards = checkedCreditCards;
+    }
+
+    public Integer getMismatches() {
+        return mismatches;
+    }
+
+    public void setMismatches(Integer mismatches) {
+        this.mismatches = mismatches;
+    }
+
+    public Integer getClosedMismatches() {
+        return closedMismatches;
+    }
+
+    public void setClosedMismatches(Integer closedMismatches) {
+        this.closedMismatches = closedMismatches;
+    }
+
+    public Integer getRepaired() {
+        return repaired;
+    }
+
+    public void setRepaired(Integer repaired) {
+        this.repaired = repaired;
+    }
+
+    public Integer getFailed() {
+        return failed;
+    }
+
+    public void setFailed(Integer failed) {
+        this.failed = failed;
+    }
+
+    public String getReportId() {
+        return reportId;
+    }
+
+    public void setReportId(String reportId) {
+        this.reportId = reportId;
+    }
+
+    public Long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(Long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+}
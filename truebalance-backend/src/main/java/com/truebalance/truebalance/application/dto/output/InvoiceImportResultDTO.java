@@ -12,6 +12,7 @@ public class InvoiceImportResultDTO {
     private List<InvoiceDuplicateInfoDTO> duplicatesFound;
     private List<ImportErrorDTO> errors;
     private List<InvoiceResponseDTO> createdInvoices;
+    private ImportPlanDTO importPlan;  // Column mapping of the imported file (file imports only)
 
     public InvoiceImportResultDTO() {
         this.duplicatesFound = new ArrayList<>();
@@ -31,6 +32,19 @@ public class InvoiceImportResultDTO {
         this.createdInvoices = createdInvoices != null ? createdInvoices : new ArrayList<>();
     }
 
+    /**
+     * Adds the counters and lists of a partial result (one batch or partition) to this one.
+     */
+    public void merge(InvoiceImportResultDTO other) {
+        this.totalProcessed = this.totalProcessed + other.getTotalProcessed();
+        this.totalCreated = this.totalCreated + other.getTotalCreated();
+        this.totalSkipped = this.totalSkipped + other.getTotalSkipped();
+        this.totalErrors = this.totalErrors + other.getTotalErrors();
+        this.duplicatesFound.addAll(other.getDuplicatesFound());
+        this.errors.addAll(other.getErrors());
+        this.createdInvoices.addAll(other.getCreatedInvoices());
+    }
+
     // Getters and Setters
     public Integer getTotalProcessed() {
         return totalProcessed;
@@ -87,4 +101,12 @@ public class InvoiceImportResultDTO {
     public void setCreatedInvoices(List<InvoiceResponseDTO> createdInvoices) {
         this.createdInvoices = createdInvoices;
     }
+
+    public ImportPlanDTO getImportPlan() {
+        return importPlan;
+    }
+
+    public void setImportPlan(ImportPlanDTO importPlan) {
+        this.importPlan = importPlan;
+    }
 }
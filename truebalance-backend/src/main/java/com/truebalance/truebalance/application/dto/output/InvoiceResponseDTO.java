@@ -1,6 +1,8 @@
 package com.truebalance.truebalance.application.dto.output;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -18,6 +20,14 @@ public class InvoiceResponseDTO {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // Only filled when the balance is requested (BR-I-011)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private BigDecimal partialPaymentsTotal;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer partialPaymentsCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private BigDecimal currentBalance;
+
     public InvoiceResponseDTO() {
     }
 
@@ -50,6 +60,17 @@ public class InvoiceResponseDTO {
         );
     }
 
+    /**
+     * Builds the response of an invoice including its partial payment totals and current balance.
+     */
+    public static InvoiceResponseDTO fromInvoiceWithPayments(InvoiceRepositoryPort.InvoiceWithPayments row) {
+        InvoiceResponseDTO dto = fromInvoice(row.invoice());
+        dto.setPartialPaymentsTotal(row.partialPaymentsTotal());
+        dto.setPartialPaymentsCount(row.partialPaymentsCount());
+        dto.setCurrentBalance(InvoiceBalanceDTO.calculateCurrentBalance(row.invoice(), row.partialPaymentsTotal()));
+        return dto;
+    }
+
     public Long getId() {
         return id;
     }
@@ -121,4 +142,28 @@ public class InvoiceResponseDTO {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public BigDecimal getPartialPaymentsTotal() {
+        return partialPaymentsTotal;
+    }
+
+    public void setPartialPaymentsTotal(BigDecimal partialPaymentsTotal) {
+        this.partialPaymentsTotal = partialPaymentsTotal;
+    }
+
+    public Integer getPartialPaymentsCount() {
+        return partialPaymentsCount;
+    }
+
+    public void setPartialPaymentsCount(Integer partialPaymentsCount) {
+        this.partialPaymentsCount = partialPaymentsCount;
+    }
+
+    public BigDecimal getCurrentBalance() {
+        return currentBalance;
+    }
+
+    public void setCurrentBalance(BigDecimal currentBalance) {
+        this.currentBalance = currentBalance;
+    }
 }
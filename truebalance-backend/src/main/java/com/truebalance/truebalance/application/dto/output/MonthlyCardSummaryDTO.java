@@ -0,0 +1,82 @@
+package com.truebalance.truebalance.application.dto.output;
+
+import com.truebalance.truebalance.domain.entity.MonthlyCardSummary;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Totals of one credit card in one month, from the monthly_card_summary read model.
+ */
+public class MonthlyCardSummaryDTO {
+
+    private Long creditCardId;
+    private LocalDate month;                // First day of the month
+    private BigDecimal purchasesTotal;
+    private BigDecimal installmentsTotal;
+    private BigDecimal paymentsTotal;
+    private Integer purchasesCount;
+
+    public MonthlyCardSummaryDTO() {
+    }
+
+    public static MonthlyCardSummaryDTO fromMonthlyCardSummary(MonthlyCardSummary summary) {
+        MonthlyCardSummaryDTO dto = new MonthlyCardSummaryDTO();
+        dto.setCreditCardId(summary.getCreditCardId());
+        dto.setMonth(summary.getMonth());
+        dto.setPurchasesTotal(summary.getPurchasesTotal());
+        dto.setInstallmentsTotal(summary.getInstallmentsTotal());
+        dto.setPaymentsTotal(summary.getPaymentsTotal());
+        dto.setPurchasesCount(summary.getPurchasesCount());
+        return dto;
+    }
+
+    // Getters and Setters
+    public Long getCreditCardId() {
+        return creditCardId;
+    }
+
+    public void setCreditCardId(Long creditCardId) {
+        this.creditCardId = creditCardId;
+    }
+
+    public LocalDate getMonth() {
+        return month;
+    }
+
+    public void setMonth(LocalDate month) {
+        this.month = month;
+    }
+
+    public BigDecimal getPurchasesTotal() {
+        return purchasesTotal;
+    }
+
+    public void setPurchasesTotal(BigDecimal purchasesTotal) {
+        this.purchasesTotal = purchasesTotal;
+    }
+
+    public BigDecimal getInstallmentsTotal() {
+        return installmentsTotal;
+    }
+
+    public void setInstallmentsTotal(BigDecimal installmentsTotal) {
+        this.installmentsTotal = installmentsTotal;
+    }
+
+    public BigDecimal getPaymentsTotal() {
+        return paymentsTotal;
+    }
+
+    public void setPaymentsTotal(BigDecimal paymentsTotal) {
+        this.paymentsTotal = paymentsTotal;
+    }
+
+    public Integer getPurchasesCount() {
+        return purchasesCount;
+    }
+
+    public void setPurchasesCount(Integer purchasesCount) {
+        this.purchasesCount = purchasesCount;
+    }
+}
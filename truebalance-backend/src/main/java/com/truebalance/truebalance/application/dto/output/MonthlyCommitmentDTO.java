@@ -0,0 +1,52 @@
+package com.truebalance.truebalance.application.dto.output;
+
+import com.truebalance.truebalance.domain.usecase.GetInstallmentForecast;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Installments of a credit card falling due in one month of a forecast.
+ */
+public class MonthlyCommitmentDTO {
+
+    private LocalDate month;        // First day of the due month
+    private BigDecimal total;
+    private Long installments;
+
+    public MonthlyCommitmentDTO() {
+    }
+
+    public static MonthlyCommitmentDTO fromForecast(GetInstallmentForecast.MonthForecast forecast) {
+        MonthlyCommitmentDTO dto = new MonthlyCommitmentDTO();
+        dto.setMonth(forecast.month());
+        dto.setTotal(forecast.total());
+        dto.setInstallments(forecast.installments());
+        return dto;
+    }
+
+    // Getters and Setters
+    public LocalDate getMonth() {
+        return month;
+    }
+
+    public void setMonth(LocalDate month) {
+        this.month = month;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+
+    public Long getInstallments() {
+        return installments;
+    }
+
+    public void setInstallments(Long installments) {
+        this.installments = installments;
+    }
+}
@@ -4,6 +4,7 @@ import com.truebalance.truebalance.application.dto.ErrorResponse;
 import com.truebalance.truebalance.domain.exception.BillNotFoundException;
 import com.truebalance.truebalance.domain.exception.CreditCardNotFoundException;
 import com.truebalance.truebalance.domain.exception.CreditLimitExceededException;
+import com.truebalance.truebalance.domain.exception.ImportJobNotFoundException;
 import com.truebalance.truebalance.domain.exception.InvalidPaymentAmountException;
 import com.truebalance.truebalance.domain.exception.InvoiceAlreadyClosedException;
 import com.truebalance.truebalance.domain.exception.InvoiceClosedException;
@@ -61,6 +62,13 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(ex.getMessage()));
     }
 
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleImportJobNotFound(ImportJobNotFoundException ex) {
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse(ex.getMessage()));
+    }
+
     @ExceptionHandler(PartialPaymentNotFoundException.class)
     public ResponseEntity<ErrorResponse> handlePartialPaymentNotFound(PartialPaymentNotFoundException ex) {
         return ResponseEntity
@@ -0,0 +1,83 @@
+package com.truebalance.truebalance.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Executor for background import jobs. Kept small on purpose: each job already
+     * writes row by row, and more workers would only contend on the same tables.
+     */
+    @Bean(name = "importJobExecutor")
+    public Executor importJobExecutor(
+            @Value("${truebalance.import.jobs.workers:2}") int workers,
+            @Value("${truebalance.import.jobs.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("import-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for the invoice closing job: shards of credit cards queue up for the worker
+     * threads, so every shard of a run fits in the queue.
+     */
+    @Bean(name = "invoiceClosingExecutor")
+    public Executor invoiceClosingExecutor(@Value("${truebalance.invoice-closing.workers:4}") int workers,
+                                           @Value("${truebalance.invoice-closing.shards:16}") int shards) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, workers));
+        executor.setMaxPoolSize(Math.max(1, workers));
+        executor.setQueueCapacity(Math.max(1, shards));
+        executor.setThreadNamePrefix("invoice-closing-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for the invoice consistency check: one task per range of credit cards, all of
+     * which fit in the queue.
+     */
+    @Bean(name = "invoiceConsistencyExecutor")
+    public Executor invoiceConsistencyExecutor(@Value("${truebalance.invoice-consistency.workers:4}") int workers,
+                                               @Value("${truebalance.invoice-consistency.ranges:8}") int ranges) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, workers));
+        executor.setMaxPoolSize(Math.max(1, workers));
+        executor.setQueueCapacity(Math.max(1, ranges));
+        executor.setThreadNamePrefix("invoice-consistency-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for the invoices created ahead for new credit cards. One worker is enough: each
+     * task is a few batched inserts, and a task dropped on shutdown is redone by the daily run.
+     */
+    @Bean(name = "invoicePregenerationExecutor")
+    public Executor invoicePregenerationExecutor(
+            @Value("${truebalance.invoice-pregeneration.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(Math.max(1, queueCapacity));
+        executor.setThreadNamePrefix("invoice-pregeneration-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
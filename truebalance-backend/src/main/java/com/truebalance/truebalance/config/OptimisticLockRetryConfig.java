@@ -0,0 +1,41 @@
+package com.truebalance.truebalance.config;
+
+import com.truebalance.truebalance.domain.usecase.RetryOnConflict;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Applies {@link OptimisticLockRetryInterceptor} to the use case methods annotated with
+ * {@link RetryOnConflict}.
+ *
+ * The advisor runs before the transaction interceptor, so every attempt is a new transaction.
+ * It is an infrastructure bean like the transaction advisor, which is what lets the same
+ * auto-proxy creator pick it up for the use case beans declared in {@link UseCaseConfig}.
+ */
+@Configuration
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+public class OptimisticLockRetryConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor optimisticLockRetryAdvisor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${truebalance.optimistic-lock-retry.max-attempts:3}") int maxAttempts,
+            @Value("${truebalance.optimistic-lock-retry.initial-delay-ms:20}") long initialDelayMillis,
+            @Value("${truebalance.optimistic-lock-retry.max-delay-ms:500}") long maxDelayMillis) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(RetryOnConflict.class),
+                new OptimisticLockRetryInterceptor(meterRegistry, maxAttempts, initialDelayMillis, maxDelayMillis));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,101 @@
+package com.truebalance.truebalance.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Re-runs a {@code @RetryOnConflict} use case when its transaction fails on an optimistic lock
+ * conflict, up to a bounded number of attempts.
+ *
+ * Between attempts it sleeps a random time between zero and an exponentially growing cap ("full
+ * jitter"), so clients colliding on the same rows spread out instead of colliding again in step.
+ * When every attempt fails the last exception is rethrown and mapped to 409 as before.
+ *
+ * Metrics, tagged with the use case: {@code truebalance.optimistic-lock.calls},
+ * {@code .retries} and {@code .exhausted} (counters).
+ */
+public class OptimisticLockRetryInterceptor implements MethodInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticLockRetryInterceptor.class);
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final int maxAttempts;
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+
+    public OptimisticLockRetryInterceptor(ObjectProvider<MeterRegistry> meterRegistry, int maxAttempts,
+                                          long initialDelayMillis, long maxDelayMillis) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialDelayMillis = Math.max(0, initialDelayMillis);
+        this.maxDelayMillis = Math.max(this.initialDelayMillis, maxDelayMillis);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        // Inside the caller's transaction a retry would reuse its rolled-back persistence context
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                || !(invocation instanceof ProxyMethodInvocation proxyInvocation)) {
+            return invocation.proceed();
+        }
+
+        String useCase = invocation.getMethod().getDeclaringClass().getSimpleName();
+        increment("truebalance.optimistic-lock.calls", useCase);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                // Each attempt goes through the remaining interceptors again (the transaction included)
+                return proxyInvocation.invocableClone().proceed();
+            } catch (ObjectOptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt >= maxAttempts) {
+                    increment("truebalance.optimistic-lock.exhausted", useCase);
+                    logger.warn("Conflito de concorrência em {} persistiu após {} tentativas", useCase, attempt);
+                    throw e;
+                }
+                increment("truebalance.optimistic-lock.retries", useCase);
+                long delay = backoff(attempt);
+                logger.debug("Conflito de concorrência em {} (tentativa {}), repetindo em {} ms", useCase, attempt, delay);
+                if (!sleep(delay)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Random delay in [0, min(max, initial * 2^(attempt - 1))].
+     */
+    long backoff(int attempt) {
+        long cap = Math.min(maxDelayMillis, initialDelayMillis << Math.min(attempt - 1, 20));
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private static boolean sleep(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void increment(String name, String useCase) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            registry.counter(name, "usecase", useCase).increment();
+        }
+    }
+}
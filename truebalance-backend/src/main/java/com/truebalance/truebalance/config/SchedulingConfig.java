@@ -0,0 +1,13 @@
+package com.truebalance.truebalance.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled jobs (see InvoiceClosingJob). Each job has its own
+ * {@code truebalance.<job>.enabled} switch.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
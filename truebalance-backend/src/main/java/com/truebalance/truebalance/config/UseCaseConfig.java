@@ -1,18 +1,31 @@
 package com.truebalance.truebalance.config;
 
+import com.truebalance.truebalance.domain.port.BillBulkLoadPort;
 import com.truebalance.truebalance.domain.port.BillRepositoryPort;
 import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
+import com.truebalance.truebalance.domain.port.DeletedRecordRepositoryPort;
+import com.truebalance.truebalance.domain.port.ImportJobRepositoryPort;
 import com.truebalance.truebalance.domain.port.InstallmentRepositoryPort;
 import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.port.MonthlyCardSummaryRepositoryPort;
+import com.truebalance.truebalance.domain.port.OpenTransactionsPort;
 import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort;
+import com.truebalance.truebalance.domain.service.ClosedInvoiceCache;
+import com.truebalance.truebalance.domain.service.CreditCardLocks;
+import com.truebalance.truebalance.domain.service.ImportJobRunner;
 import com.truebalance.truebalance.domain.service.InstallmentDateCalculator;
+import com.truebalance.truebalance.domain.service.InstallmentForecastCache;
+import com.truebalance.truebalance.domain.service.InvoicePregenerationJob;
+import com.truebalance.truebalance.domain.service.MonthlyCardSummaries;
 import com.truebalance.truebalance.domain.usecase.*;
 import com.truebalance.truebalance.infra.db.repository.BillRepository;
 import com.truebalance.truebalance.infra.db.repository.CreditCardRepository;
-import com.truebalance.truebalance.infra.db.repository.InvoiceRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class UseCaseConfig {
 
@@ -37,13 +50,16 @@ public class UseCaseConfig {
     }
 
     @Bean
-    public DeleteBill deleteBill(BillRepositoryPort billRepositoryPort) {
-        return new DeleteBill(billRepositoryPort);
+    public DeleteBill deleteBill(BillRepositoryPort billRepositoryPort,
+                                 DeletedRecordRepositoryPort deletedRecordRepositoryPort,
+                                 MonthlyCardSummaries monthlyCardSummaries) {
+        return new DeleteBill(billRepositoryPort, deletedRecordRepositoryPort, monthlyCardSummaries);
     }
 
     @Bean
-    public CreateCreditCard createCreditCard(CreditCardRepositoryPort creditCardRepositoryPort) {
-        return new CreateCreditCard(creditCardRepositoryPort);
+    public CreateCreditCard createCreditCard(CreditCardRepositoryPort creditCardRepositoryPort,
+                                             InvoicePregenerationJob invoicePregenerationJob) {
+        return new CreateCreditCard(creditCardRepositoryPort, invoicePregenerationJob);
     }
 
     @Bean
@@ -62,13 +78,16 @@ public class UseCaseConfig {
     }
 
     @Bean
-    public DeleteCreditCard deleteCreditCard(CreditCardRepositoryPort creditCardRepositoryPort) {
-        return new DeleteCreditCard(creditCardRepositoryPort);
+    public DeleteCreditCard deleteCreditCard(CreditCardRepositoryPort creditCardRepositoryPort,
+                                             DeletedRecordRepositoryPort deletedRecordRepositoryPort) {
+        return new DeleteCreditCard(creditCardRepositoryPort, deletedRecordRepositoryPort);
     }
 
     @Bean
-    public GetInvoicesByCreditCard getInvoicesByCreditCard(InvoiceRepositoryPort invoiceRepositoryPort) {
-        return new GetInvoicesByCreditCard(invoiceRepositoryPort);
+    public GetInvoicesByCreditCard getInvoicesByCreditCard(InvoiceRepositoryPort invoiceRepositoryPort,
+                                                           CreditCardRepositoryPort creditCardRepositoryPort,
+                                                           InstallmentDateCalculator installmentDateCalculator) {
+        return new GetInvoicesByCreditCard(invoiceRepositoryPort, creditCardRepositoryPort, installmentDateCalculator);
     }
 
     @Bean
@@ -81,12 +100,49 @@ public class UseCaseConfig {
         return new GenerateOrGetInvoiceForMonth(invoiceRepositoryPort);
     }
 
+    @Bean
+    public PregenerateInvoices pregenerateInvoices(InvoiceRepositoryPort invoiceRepositoryPort) {
+        return new PregenerateInvoices(invoiceRepositoryPort);
+    }
+
     @Bean
     public GetInvoiceBalance getInvoiceBalance(InvoiceRepositoryPort invoiceRepositoryPort,
                                                 PartialPaymentRepositoryPort partialPaymentRepositoryPort) {
         return new GetInvoiceBalance(invoiceRepositoryPort, partialPaymentRepositoryPort);
     }
 
+    @Bean
+    public CloseDueInvoices closeDueInvoices(InvoiceRepositoryPort invoiceRepositoryPort,
+                                             PartialPaymentRepositoryPort partialPaymentRepositoryPort) {
+        return new CloseDueInvoices(invoiceRepositoryPort, partialPaymentRepositoryPort);
+    }
+
+    @Bean
+    public CheckInvoiceTotals checkInvoiceTotals(InvoiceRepositoryPort invoiceRepositoryPort) {
+        return new CheckInvoiceTotals(invoiceRepositoryPort);
+    }
+
+    @Bean
+    public MaterializeRecurringBills materializeRecurringBills(BillRepositoryPort billRepositoryPort,
+                                                               InstallmentRepositoryPort installmentRepositoryPort,
+                                                               InvoiceRepositoryPort invoiceRepositoryPort,
+                                                               CreditCardLocks creditCardLocks,
+                                                               GetAvailableLimit getAvailableLimit,
+                                                               CreateBillWithCreditCard createBillWithCreditCard,
+                                                               MonthlyCardSummaries monthlyCardSummaries,
+                                                               InstallmentDateCalculator installmentDateCalculator,
+                                                               @Value("${truebalance.recurring-bills.max-catch-up-months:3}") int maxCatchUpMonths) {
+        return new MaterializeRecurringBills(billRepositoryPort, installmentRepositoryPort, invoiceRepositoryPort,
+                creditCardLocks, getAvailableLimit, createBillWithCreditCard, monthlyCardSummaries,
+                installmentDateCalculator, maxCatchUpMonths);
+    }
+
+    @Bean
+    public GetInvoiceBalances getInvoiceBalances(InvoiceRepositoryPort invoiceRepositoryPort,
+                                                 PartialPaymentRepositoryPort partialPaymentRepositoryPort) {
+        return new GetInvoiceBalances(invoiceRepositoryPort, partialPaymentRepositoryPort);
+    }
+
     @Bean
     public CloseInvoice closeInvoice(InvoiceRepositoryPort invoiceRepositoryPort,
                                       PartialPaymentRepositoryPort partialPaymentRepositoryPort) {
@@ -112,14 +168,19 @@ public class UseCaseConfig {
     public RegisterPartialPayment registerPartialPayment(PartialPaymentRepositoryPort partialPaymentRepositoryPort,
                                                           InvoiceRepositoryPort invoiceRepositoryPort,
                                                           CreditCardRepositoryPort creditCardRepositoryPort,
-                                                          GetAvailableLimit getAvailableLimit) {
-        return new RegisterPartialPayment(partialPaymentRepositoryPort, invoiceRepositoryPort, creditCardRepositoryPort, getAvailableLimit);
+                                                          GetAvailableLimit getAvailableLimit,
+                                                          MonthlyCardSummaries monthlyCardSummaries) {
+        return new RegisterPartialPayment(partialPaymentRepositoryPort, invoiceRepositoryPort, creditCardRepositoryPort,
+                getAvailableLimit, monthlyCardSummaries);
     }
 
     @Bean
     public DeletePartialPayment deletePartialPayment(PartialPaymentRepositoryPort partialPaymentRepositoryPort,
-                                                      InvoiceRepositoryPort invoiceRepositoryPort) {
-        return new DeletePartialPayment(partialPaymentRepositoryPort, invoiceRepositoryPort);
+                                                      InvoiceRepositoryPort invoiceRepositoryPort,
+                                                      DeletedRecordRepositoryPort deletedRecordRepositoryPort,
+                                                      MonthlyCardSummaries monthlyCardSummaries) {
+        return new DeletePartialPayment(partialPaymentRepositoryPort, invoiceRepositoryPort,
+                deletedRecordRepositoryPort, monthlyCardSummaries);
     }
 
     // Phase 4.5: Bill-CreditCard Integration
@@ -143,45 +204,72 @@ public class UseCaseConfig {
         );
     }
 
+    @Bean
+    public GetInstallmentForecast getInstallmentForecast(CreditCardRepositoryPort creditCardRepository,
+                                                         InstallmentRepositoryPort installmentRepository,
+                                                         InstallmentForecastCache installmentForecastCache) {
+        return new GetInstallmentForecast(creditCardRepository, installmentRepository, installmentForecastCache);
+    }
+
+    @Bean
+    public GetCreditCardDashboard getCreditCardDashboard(
+            CreditCardRepositoryPort creditCardRepository,
+            InvoiceRepositoryPort invoiceRepository,
+            InstallmentRepositoryPort installmentRepository,
+            PartialPaymentRepositoryPort partialPaymentRepository,
+            InstallmentDateCalculator installmentDateCalculator) {
+        return new GetCreditCardDashboard(
+                creditCardRepository,
+                invoiceRepository,
+                installmentRepository,
+                partialPaymentRepository,
+                installmentDateCalculator
+        );
+    }
+
     @Bean
     public CreateBillWithCreditCard createBillWithCreditCard(
             CreateBill createBill,
-            CreditCardRepositoryPort creditCardRepository,
+            CreditCardLocks creditCardLocks,
             InstallmentRepositoryPort installmentRepository,
             InvoiceRepositoryPort invoiceRepository,
             GenerateOrGetInvoiceForMonth generateOrGetInvoiceForMonth,
             GetAvailableLimit getAvailableLimit,
-            InstallmentDateCalculator installmentDateCalculator) {
+            InstallmentDateCalculator installmentDateCalculator,
+            MonthlyCardSummaries monthlyCardSummaries) {
         return new CreateBillWithCreditCard(
                 createBill,
-                creditCardRepository,
+                creditCardLocks,
                 installmentRepository,
                 invoiceRepository,
                 generateOrGetInvoiceForMonth,
                 getAvailableLimit,
-                installmentDateCalculator
+                installmentDateCalculator,
+                monthlyCardSummaries
         );
     }
 
     @Bean
     public UpdateBillWithCreditCard updateBillWithCreditCard(
             UpdateBill updateBill,
-            CreditCardRepositoryPort creditCardRepository,
+            CreditCardLocks creditCardLocks,
             InstallmentRepositoryPort installmentRepository,
             InvoiceRepositoryPort invoiceRepository,
             GenerateOrGetInvoiceForMonth generateOrGetInvoiceForMonth,
             GetAvailableLimit getAvailableLimit,
             InstallmentDateCalculator installmentDateCalculator,
-            GetBillInstallments getBillInstallments) {
+            GetBillInstallments getBillInstallments,
+            MonthlyCardSummaries monthlyCardSummaries) {
         return new UpdateBillWithCreditCard(
                 updateBill,
-                creditCardRepository,
+                creditCardLocks,
                 installmentRepository,
                 invoiceRepository,
                 generateOrGetInvoiceForMonth,
                 getAvailableLimit,
                 installmentDateCalculator,
-                getBillInstallments
+                getBillInstallments,
+                monthlyCardSummaries
         );
     }
 
@@ -191,29 +279,106 @@ public class UseCaseConfig {
     }
 
     @Bean
-    public MarkInvoiceAsUnpaid markInvoiceAsUnpaid(InvoiceRepositoryPort invoiceRepositoryPort) {
-        return new MarkInvoiceAsUnpaid(invoiceRepositoryPort);
+    public MarkInvoiceAsUnpaid markInvoiceAsUnpaid(InvoiceRepositoryPort invoiceRepositoryPort,
+                                                   ClosedInvoiceCache closedInvoiceCache) {
+        return new MarkInvoiceAsUnpaid(invoiceRepositoryPort, closedInvoiceCache);
+    }
+
+    @Bean
+    public BulkLoadBills bulkLoadBills(
+            BillBulkLoadPort billBulkLoadPort,
+            CreditCardLocks creditCardLocks,
+            InvoiceRepositoryPort invoiceRepositoryPort,
+            GenerateOrGetInvoiceForMonth generateOrGetInvoiceForMonth,
+            GetAvailableLimit getAvailableLimit,
+            InstallmentDateCalculator installmentDateCalculator,
+            MonthlyCardSummaries monthlyCardSummaries) {
+        return new BulkLoadBills(billBulkLoadPort, creditCardLocks, invoiceRepositoryPort,
+                generateOrGetInvoiceForMonth, getAvailableLimit, installmentDateCalculator, monthlyCardSummaries);
+    }
+
+    // Monthly card summary read model
+
+    @Bean
+    public GetMonthlyCardSummaries getMonthlyCardSummaries(MonthlyCardSummaryRepositoryPort monthlyCardSummaryRepositoryPort) {
+        return new GetMonthlyCardSummaries(monthlyCardSummaryRepositoryPort);
+    }
+
+    @Bean
+    public RebuildMonthlyCardSummaries rebuildMonthlyCardSummaries(
+            MonthlyCardSummaryRepositoryPort monthlyCardSummaryRepositoryPort) {
+        return new RebuildMonthlyCardSummaries(monthlyCardSummaryRepositoryPort);
     }
 
     @Bean
     public ImportBillsInBulk importBillsInBulk(
             CreateBill createBill,
             CreateBillWithCreditCard createBillWithCreditCard,
-            BillRepository billRepository) {
-        return new ImportBillsInBulk(createBill, createBillWithCreditCard, billRepository);
+            BillRepository billRepository,
+            BulkLoadBills bulkLoadBills,
+            @Value("${truebalance.import.bulk-load.threshold:1000}") int bulkLoadThreshold) {
+        return new ImportBillsInBulk(createBill, createBillWithCreditCard, billRepository,
+                bulkLoadBills, bulkLoadThreshold);
     }
 
     @Bean
-    public ImportInvoicesInBulk importInvoicesInBulk(
-            InvoiceRepositoryPort invoiceRepositoryPort,
-            InvoiceRepository invoiceRepository) {
-        return new ImportInvoicesInBulk(invoiceRepositoryPort, invoiceRepository);
+    public ImportInvoicesInBulk importInvoicesInBulk(InvoiceRepositoryPort invoiceRepositoryPort) {
+        return new ImportInvoicesInBulk(invoiceRepositoryPort);
     }
 
     @Bean
     public ImportCreditCardsInBulk importCreditCardsInBulk(
             CreateCreditCard createCreditCard,
-            CreditCardRepository creditCardRepository) {
-        return new ImportCreditCardsInBulk(createCreditCard, creditCardRepository);
+            CreditCardRepository creditCardRepository,
+            InvoicePregenerationJob invoicePregenerationJob) {
+        return new ImportCreditCardsInBulk(createCreditCard, creditCardRepository, invoicePregenerationJob);
+    }
+
+    @Bean
+    public ImportUnifiedData importUnifiedData(
+            ImportBillsInBulk importBillsInBulk,
+            ImportCreditCardsInBulk importCreditCardsInBulk,
+            ImportInvoicesInBulk importInvoicesInBulk,
+            CreditCardRepository creditCardRepository,
+            @Value("${truebalance.import.unified.parallelism:4}") int parallelism) {
+        return new ImportUnifiedData(importBillsInBulk, importCreditCardsInBulk, importInvoicesInBulk,
+                creditCardRepository, parallelism);
+    }
+
+    // Asynchronous import jobs
+
+    @Bean
+    public SubmitImportJob submitImportJob(ImportJobRepositoryPort importJobRepositoryPort,
+                                           ImportJobRunner importJobRunner) {
+        return new SubmitImportJob(importJobRepositoryPort, importJobRunner);
+    }
+
+    @Bean
+    public GetImportJob getImportJob(ImportJobRepositoryPort importJobRepositoryPort) {
+        return new GetImportJob(importJobRepositoryPort);
+    }
+
+    @Bean
+    public CancelImportJob cancelImportJob(ImportJobRepositoryPort importJobRepositoryPort,
+                                           ImportJobRunner importJobRunner) {
+        return new CancelImportJob(importJobRepositoryPort, importJobRunner);
+    }
+
+    // Incremental export
+
+    @Bean
+    public GetChangesSince getChangesSince(
+            BillRepositoryPort billRepositoryPort,
+            CreditCardRepositoryPort creditCardRepositoryPort,
+            InvoiceRepositoryPort invoiceRepositoryPort,
+            PartialPaymentRepositoryPort partialPaymentRepositoryPort,
+            DeletedRecordRepositoryPort deletedRecordRepositoryPort,
+            OpenTransactionsPort openTransactionsPort,
+            InstallmentDateCalculator installmentDateCalculator,
+            @Value("${truebalance.export.changes.safety-lag:5s}") Duration safetyLag,
+            @Value("${truebalance.export.changes.page-size:1000}") int pageSize) {
+        return new GetChangesSince(billRepositoryPort, creditCardRepositoryPort, invoiceRepositoryPort,
+                partialPaymentRepositoryPort, deletedRecordRepositoryPort, openTransactionsPort, installmentDateCalculator,
+                safetyLag, pageSize);
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.truebalance.truebalance.domain.entity;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Date;
 
@@ -14,6 +15,8 @@ public class Bill {
     private BigDecimal installmentAmount;
     private String description;
     private Boolean isRecurring;
+    private Long recurringSourceId;     // Recurring bill this one was materialized from
+    private LocalDate recurrencePeriod; // First day of the month it was materialized for
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -98,4 +101,20 @@ public class Bill {
     public void setIsRecurring(Boolean isRecurring) {
         this.isRecurring = isRecurring != null ? isRecurring : false;
     }
+
+    public Long getRecurringSourceId() {
+        return recurringSourceId;
+    }
+
+    public void setRecurringSourceId(Long recurringSourceId) {
+        this.recurringSourceId = recurringSourceId;
+    }
+
+    public LocalDate getRecurrencePeriod() {
+        return recurrencePeriod;
+    }
+
+    public void setRecurrencePeriod(LocalDate recurrencePeriod) {
+        this.recurrencePeriod = recurrencePeriod;
+    }
 }
@@ -0,0 +1,55 @@
+package com.truebalance.truebalance.domain.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain entity representing a tombstone: the record that a bill, credit card or partial payment
+ * was deleted, so that clients syncing with the incremental export can remove their copy.
+ */
+public class DeletedRecord {
+
+    private Long id;
+    private DeletedRecordType type;     // Kind of deleted record
+    private Long recordId;              // ID the record had before being deleted
+    private LocalDateTime deletedAt;    // When it was deleted
+
+    public DeletedRecord() {
+    }
+
+    public DeletedRecord(DeletedRecordType type, Long recordId) {
+        this.type = type;
+        this.recordId = recordId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public DeletedRecordType getType() {
+        return type;
+    }
+
+    public void setType(DeletedRecordType type) {
+        this.type = type;
+    }
+
+    public Long getRecordId() {
+        return recordId;
+    }
+
+    public void setRecordId(Long recordId) {
+        this.recordId = recordId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
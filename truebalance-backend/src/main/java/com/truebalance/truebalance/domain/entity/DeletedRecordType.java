@@ -0,0 +1,10 @@
+package com.truebalance.truebalance.domain.entity;
+
+/**
+ * Kind of record removed by a delete use case, as reported by the incremental export.
+ */
+public enum DeletedRecordType {
+    BILL,
+    CREDIT_CARD,
+    PARTIAL_PAYMENT
+}
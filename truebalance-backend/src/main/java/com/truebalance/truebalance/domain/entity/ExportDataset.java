@@ -0,0 +1,88 @@
+package com.truebalance.truebalance.domain.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Table that can be exported row by row, with the columns of each exported record in order.
+ */
+public enum ExportDataset {
+
+    BILLS("bills", List.of(
+            new Column("id", Long.class),
+            new Column("name", String.class),
+            new Column("executionDate", LocalDateTime.class),
+            new Column("totalAmount", BigDecimal.class),
+            new Column("numberOfInstallments", Integer.class),
+            new Column("installmentAmount", BigDecimal.class),
+            new Column("description", String.class),
+            new Column("isRecurring", Boolean.class),
+            new Column("createdAt", LocalDateTime.class),
+            new Column("updatedAt", LocalDateTime.class))),
+
+    INSTALLMENTS("installments", List.of(
+            new Column("id", Long.class),
+            new Column("billId", Long.class),
+            new Column("creditCardId", Long.class),
+            new Column("invoiceId", Long.class),
+            new Column("installmentNumber", Integer.class),
+            new Column("amount", BigDecimal.class),
+            new Column("dueDate", LocalDate.class),
+            new Column("createdAt", LocalDateTime.class))),
+
+    INVOICES("invoices", List.of(
+            new Column("id", Long.class),
+            new Column("creditCardId", Long.class),
+            new Column("referenceMonth", LocalDate.class),
+            new Column("totalAmount", BigDecimal.class),
+            new Column("previousBalance", BigDecimal.class),
+            new Column("closed", Boolean.class),
+            new Column("paid", Boolean.class),
+            new Column("createdAt", LocalDateTime.class),
+            new Column("updatedAt", LocalDateTime.class))),
+
+    PARTIAL_PAYMENTS("partial-payments", List.of(
+            new Column("id", Long.class),
+            new Column("invoiceId", Long.class),
+            new Column("amount", BigDecimal.class),
+            new Column("paymentDate", LocalDateTime.class),
+            new Column("description", String.class),
+            new Column("createdAt", LocalDateTime.class)));
+
+    /**
+     * An exported field: its name in NDJSON and in the CSV header, and the Java type of its values.
+     */
+    public record Column(String name, Class<?> type) {
+    }
+
+    private final String path;
+    private final List<Column> columns;
+
+    ExportDataset(String path, List<Column> columns) {
+        this.path = path;
+        this.columns = columns;
+    }
+
+    /**
+     * @return the name used in URLs and file names (e.g. "partial-payments")
+     */
+    public String getPath() {
+        return path;
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    public static Optional<ExportDataset> fromPath(String path) {
+        for (ExportDataset dataset : values()) {
+            if (dataset.path.equals(path)) {
+                return Optional.of(dataset);
+            }
+        }
+        return Optional.empty();
+    }
+}
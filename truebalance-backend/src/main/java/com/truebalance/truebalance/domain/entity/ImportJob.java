@@ -0,0 +1,177 @@
+package com.truebalance.truebalance.domain.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain entity representing a file import executed in the background.
+ * The upload returns immediately with the job ID and the worker reports progress here,
+ * so clients can poll the job instead of holding the HTTP request open.
+ */
+public class ImportJob {
+
+    private Long id;
+    private ImportJobType type;
+    private ImportJobStatus status;
+    private String filename;
+    private String duplicateStrategy;
+    private int totalRows;              // Rows found in the file (known after parsing)
+    private int processedRows;          // Rows already handled (created + skipped + failed)
+    private int createdRows;
+    private int skippedRows;
+    private int failedRows;
+    private boolean cancelRequested;
+    private String errorMessage;        // Reason when status = FAILED
+    private String ownerNode;           // Instance that runs the job
+    private LocalDateTime heartbeatAt;  // Last time the owner reported itself alive
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public ImportJob() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ImportJobType getType() {
+        return type;
+    }
+
+    public void setType(ImportJobType type) {
+        this.type = type;
+    }
+
+    public ImportJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ImportJobStatus status) {
+        this.status = status;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public void setFilename(String filename) {
+        this.filename = filename;
+    }
+
+    public String getDuplicateStrategy() {
+        return duplicateStrategy;
+    }
+
+    public void setDuplicateStrategy(String duplicateStrategy) {
+        this.duplicateStrategy = duplicateStrategy;
+    }
+
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public int getProcessedRows() {
+        return processedRows;
+    }
+
+    public void setProcessedRows(int processedRows) {
+        this.processedRows = processedRows;
+    }
+
+    public int getCreatedRows() {
+        return createdRows;
+    }
+
+    public void setCreatedRows(int createdRows) {
+        this.createdRows = createdRows;
+    }
+
+    public int getSkippedRows() {
+        return skippedRows;
+    }
+
+    public void setSkippedRows(int skippedRows) {
+        this.skippedRows = skippedRows;
+    }
+
+    public int getFailedRows() {
+        return failedRows;
+    }
+
+    public void setFailedRows(int failedRows) {
+        this.failedRows = failedRows;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public void setCancelRequested(boolean cancelRequested) {
+        this.cancelRequested = cancelRequested;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public String getOwnerNode() {
+        return ownerNode;
+    }
+
+    public void setOwnerNode(String ownerNode) {
+        this.ownerNode = ownerNode;
+    }
+
+    public LocalDateTime getHeartbeatAt() {
+        return heartbeatAt;
+    }
+
+    public void setHeartbeatAt(LocalDateTime heartbeatAt) {
+        this.heartbeatAt = heartbeatAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.truebalance.truebalance.domain.entity;
+
+/**
+ * Lifecycle of an asynchronous import job.
+ *
+ * PENDING -> RUNNING -> COMPLETED | FAILED | CANCELLED
+ */
+public enum ImportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+}
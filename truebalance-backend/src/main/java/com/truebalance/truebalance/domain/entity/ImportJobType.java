@@ -0,0 +1,11 @@
+package com.truebalance.truebalance.domain.entity;
+
+/**
+ * Kind of file processed by an asynchronous import job.
+ */
+public enum ImportJobType {
+    BILLS,
+    INVOICES,
+    CREDIT_CARDS,
+    UNIFIED
+}
@@ -11,6 +11,7 @@ public class Invoice {
     private LocalDate referenceMonth;
     private BigDecimal totalAmount;
     private BigDecimal previousBalance;
+    private BigDecimal importedAmount;     // Total it was imported with; null if created by the app
     private boolean closed;
     private boolean paid;
     private LocalDateTime createdAt;
@@ -56,6 +57,14 @@ public class Invoice {
         this.previousBalance = previousBalance;
     }
 
+    public BigDecimal getImportedAmount() {
+        return importedAmount;
+    }
+
+    public void setImportedAmount(BigDecimal importedAmount) {
+        this.importedAmount = importedAmount;
+    }
+
     public boolean isClosed() {
         return closed;
     }
@@ -0,0 +1,89 @@
+package com.truebalance.truebalance.domain.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated totals of one credit card in one month, kept up to date as bills, installments
+ * and partial payments change so reports do not have to scan them.
+ *
+ * Purchases count in the month of the bill's execution date, installments in the month they fall
+ * due and partial payments in the month they were made.
+ */
+public class MonthlyCardSummary {
+
+    private Long creditCardId;
+    private LocalDate month;                // First day of the month
+    private BigDecimal purchasesTotal;      // Sum of the bills charged to the card
+    private BigDecimal installmentsTotal;   // Sum of the installments due
+    private BigDecimal paymentsTotal;       // Sum of the partial payments made
+    private int purchasesCount;             // Number of bills charged to the card
+
+    public MonthlyCardSummary() {
+    }
+
+    public MonthlyCardSummary(Long creditCardId, LocalDate month, BigDecimal purchasesTotal,
+                              BigDecimal installmentsTotal, BigDecimal paymentsTotal, int purchasesCount) {
+        this.creditCardId = creditCardId;
+        this.month = month;
+        this.purchasesTotal = purchasesTotal;
+        this.installmentsTotal = installmentsTotal;
+        this.paymentsTotal = paymentsTotal;
+        this.purchasesCount = purchasesCount;
+    }
+
+    /**
+     * A summary with nothing in it, to add amounts to.
+     */
+    public static MonthlyCardSummary empty(Long creditCardId, LocalDate month) {
+        return new MonthlyCardSummary(creditCardId, month, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, 0);
+    }
+
+    public Long getCreditCardId() {
+        return creditCardId;
+    }
+
+    public void setCreditCardId(Long creditCardId) {
+        this.creditCardId = creditCardId;
+    }
+
+    public LocalDate getMonth() {
+        return month;
+    }
+
+    public void setMonth(LocalDate month) {
+        this.month = month;
+    }
+
+    public BigDecimal getPurchasesTotal() {
+        return purchasesTotal;
+    }
+
+    public void setPurchasesTotal(BigDecimal purchasesTotal) {
+        this.purchasesTotal = purchasesTotal;
+    }
+
+    public BigDecimal getInstallmentsTotal() {
+        return installmentsTotal;
+    }
+
+    public void setInstallmentsTotal(BigDecimal installmentsTotal) {
+        this.installmentsTotal = installmentsTotal;
+    }
+
+    public BigDecimal getPaymentsTotal() {
+        return paymentsTotal;
+    }
+
+    public void setPaymentsTotal(BigDecimal paymentsTotal) {
+        this.paymentsTotal = paymentsTotal;
+    }
+
+    public int getPurchasesCount() {
+        return purchasesCount;
+    }
+
+    public void setPurchasesCount(int purchasesCount) {
+        this.purchasesCount = purchasesCount;
+    }
+}
@@ -0,0 +1,7 @@
+package com.truebalance.truebalance.domain.exception;
+
+public class ImportJobNotFoundException extends RuntimeException {
+    public ImportJobNotFoundException(Long id) {
+        super("Job de importação não encontrado com ID: " + id);
+    }
+}
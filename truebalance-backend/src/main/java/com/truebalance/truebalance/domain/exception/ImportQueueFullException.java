@@ -0,0 +1,7 @@
+package com.truebalance.truebalance.domain.exception;
+
+public class ImportQueueFullException extends RuntimeException {
+    public ImportQueueFullException() {
+        super("Fila de importação cheia. Tente novamente mais tarde");
+    }
+}
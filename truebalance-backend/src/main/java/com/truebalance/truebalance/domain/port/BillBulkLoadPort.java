@@ -0,0 +1,54 @@
+package com.truebalance.truebalance.domain.port;
+
+import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.domain.entity.Installment;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Port interface for loading large batches of bills and their installments with the bulk
+ * facilities of the database (a staging table filled in one stream) instead of one INSERT per row.
+ *
+ * A load is two calls in the same transaction: {@link #stage} sends the bills and reports the
+ * duplicates, then {@link #insertStaged} writes the ones the caller accepted. Staged rows are
+ * discarded when the transaction ends.
+ */
+public interface BillBulkLoadPort {
+
+    /**
+     * Duplicate information of a staged bill.
+     *
+     * @param existingBillId ID of a stored bill with the same name (case-insensitive), total amount,
+     *                       execution date and number of installments, or null
+     * @param firstIndex     index of the first bill of the batch with those same values
+     *                       (its own index when it is the first)
+     */
+    record StagedBill(Long existingBillId, int firstIndex) {
+    }
+
+    /**
+     * Whether the current database supports bulk loading. When false the regular repositories
+     * must be used.
+     *
+     * @return true if {@link #stage} and {@link #insertStaged} can be called
+     */
+    boolean isSupported();
+
+    /**
+     * Stage a batch of bills. Installment amounts must already be calculated.
+     *
+     * @param bills the bills to stage
+     * @return duplicate information for each bill, in the same order
+     */
+    List<StagedBill> stage(List<Bill> bills);
+
+    /**
+     * Insert the staged bills at the given indexes, and their installments.
+     *
+     * @param indexes      indexes (in the staged list) of the bills to insert
+     * @param installments installments by bill index; their billId is ignored and set from the new bill
+     * @return the generated bill ID by index
+     */
+    Map<Integer, Long> insertStaged(List<Integer> indexes, Map<Integer, List<Installment>> installments);
+}
@@ -4,14 +4,18 @@ import com.truebalance.truebalance.domain.entity.Bill;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface BillRepositoryPort {
 
     Bill save(Bill bill);
 
+    List<Bill> saveAll(List<Bill> bills);
+
     Optional<Bill> findById(Long id);
 
     List<Bill> findAll();
@@ -20,5 +24,28 @@ public interface BillRepositoryPort {
 
     Page<Bill> findAll(Pageable pageable, String name, LocalDateTime startDate, LocalDateTime endDate);
 
+    /**
+     * Bills with updatedAt in (after, until], ordered by updatedAt and ID, one page at a time.
+     *
+     * @param after   exclusive lower bound
+     * @param afterId to continue within rows stamped exactly at {@code after}: only those with a greater
+     *                ID are included; null to exclude them all
+     * @param until   inclusive upper bound
+     * @param limit   maximum number of rows
+     */
+    List<Bill> findUpdatedBetween(LocalDateTime after, Long afterId, LocalDateTime until, int limit);
+
+    /**
+     * Recurring bills entered by the user (not the occurrences materialized from them), by ID.
+     */
+    List<Bill> findRecurringTemplates();
+
+    /**
+     * Latest month materialized of each recurring bill that has occurrences.
+     *
+     * @return first day of the latest month by recurring bill ID
+     */
+    Map<Long, LocalDate> findLatestRecurrencePeriods();
+
     void deleteById(Long id);
 }
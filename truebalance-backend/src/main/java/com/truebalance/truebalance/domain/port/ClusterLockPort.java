@@ -0,0 +1,41 @@
+package com.truebalance.truebalance.domain.port;
+
+import java.util.Optional;
+
+/**
+ * Port interface for named locks shared by every instance of the application.
+ *
+ * Background jobs use it to elect a single instance for a piece of work (a shard of credit cards,
+ * a recovery pass) without a coordinator: whoever takes the lock does the work, the others skip
+ * it. A lock is held until it is closed or until the instance holding it dies, so work is never
+ * left locked by a crashed instance.
+ */
+public interface ClusterLockPort {
+
+    /**
+     * A held lock. Closing it releases the lock; closing twice is harmless.
+     */
+    interface ClusterLock extends AutoCloseable {
+
+        String name();
+
+        @Override
+        void close();
+    }
+
+    /**
+     * Take the lock if no one holds it, without waiting.
+     *
+     * @param name the lock name
+     * @return the held lock, or empty if it is held by another caller (in this or another instance)
+     */
+    Optional<ClusterLock> tryLock(String name);
+
+    /**
+     * Whether someone currently holds the lock.
+     *
+     * @param name the lock name
+     * @return true if the lock is held
+     */
+    boolean isLocked(String name);
+}
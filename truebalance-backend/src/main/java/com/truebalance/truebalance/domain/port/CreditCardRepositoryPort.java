@@ -2,6 +2,7 @@ package com.truebalance.truebalance.domain.port;
 
 import com.truebalance.truebalance.domain.entity.CreditCard;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,7 +12,29 @@ public interface CreditCardRepositoryPort {
 
     Optional<CreditCard> findById(Long id);
 
+    /**
+     * Find a credit card and lock its row until the current transaction ends. Other transactions
+     * locking the same card wait; reads without lock are not blocked.
+     */
+    Optional<CreditCard> findByIdForUpdate(Long id);
+
     List<CreditCard> findAll();
 
+    /**
+     * IDs of all credit cards, in ascending order.
+     */
+    List<Long> findAllIds();
+
+    /**
+     * Credit cards with updatedAt in (after, until], ordered by updatedAt and ID, one page at a time.
+     *
+     * @param after   exclusive lower bound
+     * @param afterId to continue within rows stamped exactly at {@code after}: only those with a greater
+     *                ID are included; null to exclude them all
+     * @param until   inclusive upper bound
+     * @param limit   maximum number of rows
+     */
+    List<CreditCard> findUpdatedBetween(LocalDateTime after, Long afterId, LocalDateTime until, int limit);
+
     void deleteById(Long id);
 }
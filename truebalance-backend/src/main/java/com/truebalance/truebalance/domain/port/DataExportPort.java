@@ -0,0 +1,34 @@
+package com.truebalance.truebalance.domain.port;
+
+import com.truebalance.truebalance.domain.entity.ExportDataset;
+
+import java.io.IOException;
+
+/**
+ * Port for reading whole tables row by row, for exports.
+ * Implemented by JdbcDataExportAdapter in the infrastructure layer.
+ */
+public interface DataExportPort {
+
+    /**
+     * Receives the exported rows one at a time.
+     */
+    @FunctionalInterface
+    interface RowHandler {
+        /**
+         * @param values the values of one row, in the order of {@link ExportDataset#getColumns()};
+         *               the array is reused for the next row
+         */
+        void row(Object[] values) throws IOException;
+    }
+
+    /**
+     * Read every row of a dataset, ordered by ID, without loading the table in memory.
+     * An IOException thrown by the handler stops the read and is rethrown as UncheckedIOException.
+     *
+     * @param dataset the dataset to read
+     * @param handler called for each row
+     * @return number of rows read
+     */
+    long stream(ExportDataset dataset, RowHandler handler);
+}
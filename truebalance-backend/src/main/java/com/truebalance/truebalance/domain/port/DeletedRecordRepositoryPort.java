@@ -0,0 +1,31 @@
+package com.truebalance.truebalance.domain.port;
+
+import com.truebalance.truebalance.domain.entity.DeletedRecord;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository port for DeletedRecord (tombstones written by the delete use cases).
+ * Implemented by DeletedRecordRepositoryAdapter in the infrastructure layer.
+ */
+public interface DeletedRecordRepositoryPort {
+
+    /**
+     * Save a tombstone. The deletion time is set on save.
+     * @param deletedRecord tombstone to save
+     * @return saved tombstone with generated ID and deletion time
+     */
+    DeletedRecord save(DeletedRecord deletedRecord);
+
+    /**
+     * Tombstones with deletedAt in (after, until], ordered by deletedAt and ID, one page at a time.
+     *
+     * @param after   exclusive lower bound
+     * @param afterId to continue within rows stamped exactly at {@code after}: only those with a greater
+     *                ID are included; null to exclude them all
+     * @param until   inclusive upper bound
+     * @param limit   maximum number of rows
+     */
+    List<DeletedRecord> findDeletedBetween(LocalDateTime after, Long afterId, LocalDateTime until, int limit);
+}
@@ -0,0 +1,92 @@
+package com.truebalance.truebalance.domain.port;
+
+import com.truebalance.truebalance.domain.entity.ImportJob;
+import com.truebalance.truebalance.domain.entity.ImportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port interface for ImportJob persistence.
+ * Jobs are stored in the database so their state survives application restarts.
+ */
+public interface ImportJobRepositoryPort {
+
+    /**
+     * Save an import job (insert or update).
+     *
+     * @param importJob the job to save
+     * @return the saved job
+     */
+    ImportJob save(ImportJob importJob);
+
+    /**
+     * Find an import job by ID.
+     *
+     * @param id the job ID
+     * @return Optional containing the job if found
+     */
+    Optional<ImportJob> findById(Long id);
+
+    /**
+     * Find the most recent import jobs, newest first.
+     *
+     * @param limit maximum number of jobs to return
+     * @return list of jobs ordered by creation date descending
+     */
+    List<ImportJob> findRecent(int limit);
+
+    /**
+     * Find all jobs in the given statuses.
+     * Used on startup to detect jobs interrupted by a restart.
+     *
+     * @param statuses statuses to look for
+     * @return list of matching jobs
+     */
+    List<ImportJob> findByStatusIn(List<ImportJobStatus> statuses);
+
+    /**
+     * Check whether cancellation was requested for a job.
+     *
+     * @param id the job ID
+     * @return true if the job was flagged for cancellation
+     */
+    boolean isCancelRequested(Long id);
+
+    /**
+     * Move a PENDING job to RUNNING, unless cancellation was requested in the meantime.
+     * Implementations must update only the status and start time, so a concurrent cancel request
+     * is never overwritten.
+     *
+     * @param id        the job ID
+     * @param startedAt the start time
+     * @return true if the job was PENDING, not cancelled, and is now RUNNING
+     */
+    boolean markRunning(Long id, LocalDateTime startedAt);
+
+    /**
+     * Persist the progress counters of a running job.
+     * Implementations must not overwrite the cancellation flag.
+     *
+     * @param importJob job carrying the current counters
+     */
+    void updateProgress(ImportJob importJob);
+
+    /**
+     * Flag a job for cancellation. The worker stops at the next progress checkpoint.
+     *
+     * @param id the job ID
+     */
+    void requestCancel(Long id);
+
+    /**
+     * Record that the instance running some jobs is still alive, stamping the PENDING and RUNNING
+     * jobs it owns. Implementations must not touch any other column.
+     *
+     * @param ownerNode the instance ID
+     * @param now       the heartbeat time
+     * @return number of jobs stamped
+     */
+    int heartbeat(String ownerNode, LocalDateTime now);
+}
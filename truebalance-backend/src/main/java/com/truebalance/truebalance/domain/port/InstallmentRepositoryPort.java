@@ -3,7 +3,9 @@ package com.truebalance.truebalance.domain.port;
 import com.truebalance.truebalance.domain.entity.Installment;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Port interface for Installment repository operations.
@@ -11,6 +13,17 @@ import java.util.List;
  */
 public interface InstallmentRepositoryPort {
 
+    /**
+     * Installments of a credit card falling due in one month.
+     *
+     * @param creditCardId credit card ID
+     * @param month        first day of the due month
+     * @param total        sum of the installment amounts
+     * @param installments number of installments
+     */
+    record MonthlyCommitment(Long creditCardId, LocalDate month, BigDecimal total, long installments) {
+    }
+
     /**
      * Save a single installment.
      *
@@ -43,6 +56,16 @@ public interface InstallmentRepositoryPort {
      */
     List<Installment> findByInvoiceId(Long invoiceId);
 
+    /**
+     * Find the next installments of a credit card due on or after a date.
+     *
+     * @param creditCardId the credit card ID
+     * @param from         first due date included
+     * @param limit        maximum number of installments
+     * @return installments ordered by due date
+     */
+    List<Installment> findUpcomingByCreditCardId(Long creditCardId, LocalDate from, int limit);
+
     /**
      * Delete all installments belonging to a specific bill.
      * Used when a bill is deleted (cascade delete).
@@ -59,4 +82,24 @@ public interface InstallmentRepositoryPort {
      * @return the sum of installment amounts, or zero if no installments found
      */
     BigDecimal sumAmountByInvoiceIds(List<Long> invoiceIds);
+
+    /**
+     * Credit card of each of the given bills, read from their installments in one query.
+     * Bills without a card are not in the map.
+     *
+     * @param billIds list of bill IDs
+     * @return credit card ID by bill ID
+     */
+    Map<Long, Long> findCreditCardIdsByBillIds(List<Long> billIds);
+
+    /**
+     * Installments due in [from, until) grouped by credit card and due month, in one aggregation.
+     * Installments without a card, or of deleted bills, are left out.
+     *
+     * @param creditCardId the credit card ID, or null for every card
+     * @param from         first due date included
+     * @param until        first due date excluded
+     * @return one row per card and month with installments, ordered by card and month
+     */
+    List<MonthlyCommitment> sumByCreditCardAndDueMonth(Long creditCardId, LocalDate from, LocalDate until);
 }
@@ -2,21 +2,169 @@ package com.truebalance.truebalance.domain.port;
 
 import com.truebalance.truebalance.domain.entity.Invoice;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface InvoiceRepositoryPort {
 
+    /**
+     * Version summary of all invoices of a credit card. Changes whenever an invoice of the card
+     * is created, updated or deleted.
+     *
+     * @param count      number of invoices
+     * @param versionSum sum of the invoice versions
+     * @param maxId      highest invoice ID, or 0
+     */
+    record VersionSummary(long count, long versionSum, long maxId) {
+    }
+
+    /**
+     * An invoice with the count and sum of its partial payments.
+     *
+     * @param invoice              the invoice
+     * @param partialPaymentsCount number of partial payments
+     * @param partialPaymentsTotal sum of the partial payments, zero if none
+     */
+    record InvoiceWithPayments(Invoice invoice, int partialPaymentsCount, BigDecimal partialPaymentsTotal) {
+    }
+
+    /**
+     * An open invoice whose closing day has passed.
+     *
+     * @param id           invoice ID
+     * @param creditCardId credit card ID
+     */
+    record DueInvoice(Long id, Long creditCardId) {
+    }
+
+    /**
+     * An invoice whose total differs from the sum of its installments.
+     *
+     * @param invoiceId         invoice ID
+     * @param creditCardId      credit card ID
+     * @param referenceMonth    reference month
+     * @param closed            whether the invoice is closed
+     * @param originKnown       whether the imported total is known (zero for invoices created by the
+     *                          app); invoices from before it was recorded may hide an imported total
+     * @param totalAmount       stored total
+     * @param installmentsTotal sum of the installments of existing bills, plus the imported total
+     */
+    record TotalMismatch(Long invoiceId, Long creditCardId, LocalDate referenceMonth, boolean closed,
+                         boolean originKnown, BigDecimal totalAmount, BigDecimal installmentsTotal) {
+
+        public BigDecimal difference() {
+            return totalAmount.subtract(installmentsTotal);
+        }
+    }
+
+    /**
+     * A credit card and reference month.
+     *
+     * @param creditCardId   credit card ID
+     * @param referenceMonth first day of the month
+     */
+    record CardMonth(Long creditCardId, LocalDate referenceMonth) {
+    }
+
     Invoice save(Invoice invoice);
 
     List<Invoice> saveAll(List<Invoice> invoices);
 
     Optional<Invoice> findById(Long id);
 
+    /**
+     * Invoices with the given IDs, in no particular order. Missing IDs are ignored.
+     */
+    List<Invoice> findAllById(List<Long> ids);
+
     Optional<Invoice> findByCreditCardIdAndReferenceMonth(Long creditCardId, LocalDate referenceMonth);
 
     List<Invoice> findByCreditCardId(Long creditCardId);
 
     List<Invoice> findByCreditCardIdAndClosed(Long creditCardId, boolean closed);
+
+    /**
+     * Invoices of a credit card with their partial payment totals, in one grouped query,
+     * ordered by reference month (most recent first).
+     */
+    List<InvoiceWithPayments> findByCreditCardIdWithPayments(Long creditCardId);
+
+    /**
+     * Open invoices whose card closing day has passed on the given date: every open invoice of
+     * an earlier month, and those of the date's month when the closing day is on or before it
+     * (closing days past the end of the month count as its last day). Ordered by credit card
+     * and reference month.
+     */
+    List<DueInvoice> findDueForClosing(LocalDate date);
+
+    /**
+     * Invoices of any of the cards in any of the months. May include pairs that were not asked
+     * for (card A in a month only asked for card B); callers match by card and month.
+     */
+    List<Invoice> findByCreditCardIdsAndReferenceMonths(List<Long> creditCardIds, List<LocalDate> referenceMonths);
+
+    /**
+     * Card and month of the invoices of any of the cards with reference month in [from, to],
+     * without loading them.
+     */
+    List<CardMonth> findCardMonths(List<Long> creditCardIds, LocalDate from, LocalDate to);
+
+    /**
+     * Insert an empty open invoice for each card and month, in batched statements. A pair that
+     * already has an invoice (also one created concurrently) is skipped, never duplicated.
+     *
+     * @return number of invoices inserted
+     */
+    int insertEmpty(List<CardMonth> cardMonths);
+
+    /**
+     * Invoices with updatedAt in (after, until], ordered by updatedAt and ID, one page at a time.
+     *
+     * @param after   exclusive lower bound
+     * @param afterId to continue within rows stamped exactly at {@code after}: only those with a greater
+     *                ID are included; null to exclude them all
+     * @param until   inclusive upper bound
+     * @param limit   maximum number of rows
+     */
+    List<Invoice> findUpdatedBetween(LocalDateTime after, Long afterId, LocalDateTime until, int limit);
+
+    /**
+     * Version of an invoice, without loading it.
+     */
+    Optional<Long> findVersionById(Long id);
+
+    VersionSummary summarizeVersionsByCreditCardId(Long creditCardId);
+
+    /**
+     * IDs of the credit cards that have invoices, in ascending order.
+     */
+    List<Long> findCreditCardIds();
+
+    /**
+     * Invoices of the cards with IDs in [fromCreditCardId, toCreditCardId] whose total differs from
+     * the sum of their installments, in one grouped query, ordered by credit card and reference
+     * month. Only invoices with installments are compared, installments whose bill was deleted do
+     * not count, and imported invoices are expected to hold their imported total plus installments.
+     */
+    List<TotalMismatch> findTotalMismatches(long fromCreditCardId, long toCreditCardId);
+
+    /**
+     * Set the total of the given open invoices to the sum of their installments (plus the imported
+     * total, for imported invoices), in one statement, bumping their version. Closed invoices,
+     * invoices whose imported total is unknown and missing IDs are ignored.
+     *
+     * @return number of invoices updated
+     */
+    int recalculateTotals(List<Long> invoiceIds);
+
+    /**
+     * Record an imported total of zero on the invoices created before imported totals were recorded
+     * whose total is exactly the sum of their installments. The others keep an unknown origin.
+     *
+     * @return number of invoices updated
+     */
+    int backfillImportedAmounts();
 }
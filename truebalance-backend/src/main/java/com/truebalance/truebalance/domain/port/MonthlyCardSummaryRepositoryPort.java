@@ -0,0 +1,40 @@
+package com.truebalance.truebalance.domain.port;
+
+import com.truebalance.truebalance.domain.entity.MonthlyCardSummary;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Port for the monthly_card_summary read model.
+ */
+public interface MonthlyCardSummaryRepositoryPort {
+
+    /**
+     * Add each summary to the row of its card and month, creating missing rows. The amounts are
+     * added in the database, so concurrent transactions touching the same row do not overwrite
+     * each other.
+     *
+     * @param deltas amounts to add (negative to subtract)
+     */
+    void addAll(List<MonthlyCardSummary> deltas);
+
+    /**
+     * Summaries in [from, to], ordered by card and month.
+     *
+     * @param creditCardId the credit card ID, or null for every card
+     * @param from         first month included
+     * @param to           last month included
+     */
+    List<MonthlyCardSummary> findByMonthBetween(Long creditCardId, LocalDate from, LocalDate to);
+
+    /**
+     * Recompute every row from bills, installments and partial payments, in the current
+     * transaction. Writers adding to the table wait until the transaction ends.
+     *
+     * @return number of rows written
+     */
+    int rebuild();
+
+    boolean isEmpty();
+}
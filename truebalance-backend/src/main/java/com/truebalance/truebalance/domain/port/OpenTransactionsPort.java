@@ -0,0 +1,23 @@
+package com.truebalance.truebalance.domain.port;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Port interface for the write transactions still open in the database, across every instance.
+ *
+ * Rows are stamped when they are written, not when their transaction commits, so a row written by
+ * a transaction still open is invisible to readers while carrying a timestamp that may already be
+ * well behind "now". The start of the oldest open write transaction tells how far a reader going by
+ * those timestamps can safely advance.
+ */
+public interface OpenTransactionsPort {
+
+    /**
+     * Start time, on the application clock, of the oldest transaction that has written and not
+     * yet finished.
+     *
+     * @return the start time, or empty if there is none or the database cannot tell
+     */
+    Optional<LocalDateTime> findOldestWriteStart();
+}
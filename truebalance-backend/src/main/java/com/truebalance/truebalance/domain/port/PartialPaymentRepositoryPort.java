@@ -3,7 +3,9 @@ package com.truebalance.truebalance.domain.port;
 import com.truebalance.truebalance.domain.entity.PartialPayment;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -12,6 +14,25 @@ import java.util.Optional;
  */
 public interface PartialPaymentRepositoryPort {
 
+    /**
+     * Count and sum of the partial payments of one invoice.
+     *
+     * @param count number of payments
+     * @param total sum of their amounts
+     */
+    record PaymentTotals(int count, BigDecimal total) {
+        public static final PaymentTotals NONE = new PaymentTotals(0, BigDecimal.ZERO);
+    }
+
+    /**
+     * Count and highest ID of a set of partial payments.
+     *
+     * @param count number of payments
+     * @param maxId highest payment ID, or 0
+     */
+    record IdSummary(long count, long maxId) {
+    }
+
     /**
      * Save a partial payment.
      * @param partialPayment partial payment to save
@@ -47,6 +68,14 @@ public interface PartialPaymentRepositoryPort {
      */
     int countByInvoiceId(Long invoiceId);
 
+    /**
+     * Highest partial payment ID of an invoice. Together with the count, it changes whenever
+     * a payment of the invoice is registered or deleted.
+     * @param invoiceId Invoice ID
+     * @return highest ID, or 0 if the invoice has no payments
+     */
+    long maxIdByInvoiceId(Long invoiceId);
+
     /**
      * Sum the amounts of all partial payments belonging to the specified invoices.
      * Used for calculating available credit limit.
@@ -56,6 +85,39 @@ public interface PartialPaymentRepositoryPort {
      */
     BigDecimal sumAmountByInvoiceIds(List<Long> invoiceIds);
 
+    /**
+     * Partial payments with createdAt in (after, until], ordered by createdAt and ID, one page at a time.
+     * Partial payments are immutable (BR-PP-004), so creation is their only change.
+     *
+     * @param after   exclusive lower bound
+     * @param afterId to continue within rows stamped exactly at {@code after}: only those with a greater
+     *                ID are included; null to exclude them all
+     * @param until   inclusive upper bound
+     * @param limit   maximum number of rows
+     */
+    List<PartialPayment> findCreatedBetween(LocalDateTime after, Long afterId, LocalDateTime until, int limit);
+
+    /**
+     * Count and sum the partial payments of every invoice of a credit card, in one grouped query.
+     * @param creditCardId credit card ID
+     * @return totals by invoice ID; invoices without payments are absent
+     */
+    Map<Long, PaymentTotals> summarizeByCreditCardId(Long creditCardId);
+
+    /**
+     * Count and sum the partial payments of the given invoices, in one grouped query.
+     * @param invoiceIds invoice IDs
+     * @return totals by invoice ID; invoices without payments are absent
+     */
+    Map<Long, PaymentTotals> summarizeByInvoiceIds(List<Long> invoiceIds);
+
+    /**
+     * Count and highest ID of the partial payments of every invoice of a credit card.
+     * @param creditCardId credit card ID
+     * @return the summary; count 0 and maxId 0 if none
+     */
+    IdSummary summarizeIdsByCreditCardId(Long creditCardId);
+
     /**
      * Delete a partial payment by ID.
      * @param id partial payment ID
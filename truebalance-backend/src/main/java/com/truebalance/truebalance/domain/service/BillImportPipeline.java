@@ -0,0 +1,341 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.application.dto.input.BillBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.BillImportItemDTO;
+import com.truebalance.truebalance.application.dto.output.BillImportResultDTO;
+import com.truebalance.truebalance.application.dto.output.ImportErrorDTO;
+import com.truebalance.truebalance.application.dto.output.ImportPlanDTO;
+import com.truebalance.truebalance.application.dto.output.ImportSummaryDTO;
+import com.truebalance.truebalance.domain.usecase.ImportBillsInBulk;
+import com.truebalance.truebalance.domain.usecase.ImportProgressListener;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Imports bills from a file through three stages connected by bounded queues:
+ *
+ * <ol>
+ *     <li>parser - streams rows out of the file ({@link FileImportService#streamBillsFromFile});</li>
+ *     <li>validator - applies the bean validation constraints of {@link BillImportItemDTO};</li>
+ *     <li>writer - groups valid rows in batches and hands them to {@link ImportBillsInBulk}; batches
+ *     grow to the bulk load threshold when the database supports COPY.</li>
+ * </ol>
+ *
+ * Parser and validator run on virtual threads, the writer on the calling thread. A full queue
+ * blocks the stage feeding it, so only about two queue capacities of rows are in memory at once
+ * and parsing overlaps with the database writes.
+ *
+ * Batches are written as they fill up, so a file is not imported all or nothing. Rows that cannot
+ * be converted are reported as errors of their line, like rows that fail validation, and the rest
+ * of the file is still imported. If the file cannot be read any further, the rows before are kept
+ * and the result carries an error at the line where reading stopped.
+ */
+@Service
+public class BillImportPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(BillImportPipeline.class);
+
+    /** Marks the end of a queue. Compared by identity. */
+    private static final BillImportItemDTO END_OF_STREAM = new BillImportItemDTO();
+
+    private final FileImportService fileImportService;
+    private final ImportBillsInBulk importBillsInBulk;
+    private final Validator validator;
+    private final int queueCapacity;
+    private final int batchSize;
+
+    public BillImportPipeline(FileImportService fileImportService,
+                              ImportBillsInBulk importBillsInBulk,
+                              Validator validator,
+                              @Value("${truebalance.import.pipeline.queue-capacity:1000}") int queueCapacity,
+                              @Value("${truebalance.import.pipeline.batch-size:200}") int batchSize) {
+        this.fileImportService = fileImportService;
+        this.importBillsInBulk = importBillsInBulk;
+        this.validator = validator;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+    }
+
+    public BillImportResultDTO run(String filename, InputStream inputStream,
+                                   BillBulkImportRequestDTO.DuplicateStrategy duplicateStrategy,
+                                   ImportProgressListener progressListener) throws Exception {
+        return run((planConsumer, consumer, rowErrors) ->
+                        fileImportService.streamBillsFromFile(filename, inputStream, planConsumer, consumer, rowErrors),
+                duplicateStrategy, progressListener);
+    }
+
+    /**
+     * Same as {@link #run(String, InputStream, BillBulkImportRequestDTO.DuplicateStrategy, ImportProgressListener)}
+     * for a file already on disk, which lets CSV input be memory-mapped without another copy.
+     */
+    public BillImportResultDTO run(String filename, Path path,
+                                   BillBulkImportRequestDTO.DuplicateStrategy duplicateStrategy,
+                                   ImportProgressListener progressListener) throws Exception {
+        return run((planConsumer, consumer, rowErrors) ->
+                        fileImportService.streamBillsFromFile(filename, path, planConsumer, consumer, rowErrors),
+                duplicateStrategy, progressListener);
+    }
+
+    /**
+     * Imports rows that do not come from a file, such as a request body being parsed. Nothing is
+     * accumulated: each result is handed over as soon as it exists and can be dropped afterwards.
+     * The source reports its own unreadable rows; if it fails, the failure is thrown after the rows
+     * read before it are written.
+     *
+     * @param batches     receives the result of each written batch, on the calling thread
+     * @param invalidRows receives one result per row rejected by validation, on the validator thread
+     */
+    public void run(ItemSource source,
+                    BillBulkImportRequestDTO.DuplicateStrategy duplicateStrategy,
+                    ImportProgressListener progressListener,
+                    Consumer<BillImportResultDTO> batches,
+                    Consumer<BillImportResultDTO> invalidRows) throws Exception {
+        run((planConsumer, consumer, rowErrors) -> source.stream(consumer), false, duplicateStrategy, progressListener,
+                batches, invalidRows);
+    }
+
+    /**
+     * Same as {@link #run(String, InputStream, BillBulkImportRequestDTO.DuplicateStrategy, ImportProgressListener)},
+     * but each batch result is folded into {@code summary} and dropped, so memory does not grow with
+     * the number of rows.
+     */
+    public ImportSummaryDTO runSummary(String filename, InputStream inputStream,
+                                       BillBulkImportRequestDTO.DuplicateStrategy duplicateStrategy,
+                                       ImportProgressListener progressListener,
+                                       ImportSummaryCollector summary) throws Exception {
+        ImportPlan plan = run((planConsumer, consumer, rowErrors) ->
+                        fileImportService.streamBillsFromFile(filename, inputStream, planConsumer, consumer, rowErrors),
+                true, duplicateStrategy, progressListener, summary::addBills, summary::addBills);
+
+        ImportSummaryDTO result = summary.finish();
+        result.setImportPlan(ImportPlanDTO.fromImportPlan(plan));
+        logger.info("Importação em pipeline concluída: {} processados, {} criados, {} ignorados, {} erros",
+                result.getTotalProcessed(), result.getTotalCreated(), result.getTotalSkipped(), result.getTotalErrors());
+        return result;
+    }
+
+    private BillImportResultDTO run(BillSource source,
+                                    BillBulkImportRequestDTO.DuplicateStrategy duplicateStrategy,
+                                    ImportProgressListener progressListener) throws Exception {
+        BillImportResultDTO result = new BillImportResultDTO(0, 0, 0, 0, null, null, null);
+        BillImportResultDTO invalid = new BillImportResultDTO(0, 0, 0, 0, null, null, null);
+        ImportPlan plan = run(source, true, duplicateStrategy, progressListener, result::merge, invalid::merge);
+
+        result.merge(invalid);
+        result.getErrors().sort(Comparator.comparing(ImportErrorDTO::getLineNumber,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+        result.setImportPlan(ImportPlanDTO.fromImportPlan(plan));
+
+        logger.info("Importação em pipeline concluída: {} processados, {} criados, {} ignorados, {} erros",
+                result.getTotalProcessed(), result.getTotalCreated(), result.getTotalSkipped(), result.getTotalErrors());
+
+        return result;
+    }
+
+    /**
+     * Runs the three stages.
+     *
+     * @param fromFile    whether the rows come from a file: a failure to read it after some rows is
+     *                    then reported as an error at the line where reading stopped instead of
+     *                    thrown, since the rows before it are already written
+     * @param batches     receives the result of each written batch, on the calling thread
+     * @param invalidRows receives one result per row rejected by conversion or validation, on the
+     *                    validator thread (the read failure of a file on the calling thread, once
+     *                    the other stages are done)
+     * @return the column mapping of the file
+     */
+    private ImportPlan run(BillSource source,
+                           boolean fromFile,
+                           BillBulkImportRequestDTO.DuplicateStrategy duplicateStrategy,
+                           ImportProgressListener progressListener,
+                           Consumer<BillImportResultDTO> batches,
+                           Consumer<BillImportResultDTO> invalidRows) throws Exception {
+        BlockingQueue<BillImportItemDTO> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<BillImportItemDTO> validated = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicReference<ImportPlan> plan = new AtomicReference<>();
+        AtomicInteger lastLine = new AtomicInteger();
+
+        Thread parser = Thread.ofVirtual().name("bill-import-parser").start(() -> {
+            try {
+                source.stream(plan::set, item -> {
+                    progressListener.onItemParsed();
+                    if (item.getLineNumber() != null) {
+                        lastLine.set(item.getLineNumber());
+                    }
+                    put(parsed, item);
+                }, (lineNumber, e) -> {
+                    // Reported with the invalid rows; the rest of the file is still imported
+                    progressListener.onItemParsed();
+                    lastLine.set(lineNumber);
+                    put(parsed, new UnparsableRow(lineNumber, e.getMessage()));
+                });
+            } catch (Exception e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                offerEnd(parsed);
+            }
+        });
+
+        Thread validatorStage = Thread.ofVirtual().name("bill-import-validator").start(() -> {
+            try {
+                for (BillImportItemDTO item = parsed.take(); item != END_OF_STREAM; item = parsed.take()) {
+                    if (item instanceof UnparsableRow unparsable) {
+                        invalidRows.accept(failedRow(item.getLineNumber(), "Erro ao converter a linha: " + unparsable.message));
+                        progressListener.onItemFailed();
+                        continue;
+                    }
+                    Set<ConstraintViolation<BillImportItemDTO>> violations = validator.validate(item);
+                    if (violations.isEmpty()) {
+                        validated.put(item);
+                        continue;
+                    }
+                    List<ImportErrorDTO> errors = new ArrayList<>(violations.size());
+                    for (ConstraintViolation<BillImportItemDTO> violation : violations) {
+                        errors.add(new ImportErrorDTO(
+                                item.getLineNumber(),
+                                violation.getPropertyPath().toString(),
+                                violation.getMessage(),
+                                String.valueOf(violation.getInvalidValue())
+                        ));
+                    }
+                    invalidRows.accept(new BillImportResultDTO(1, 0, 0, 1, null, errors, null));
+                    progressListener.onItemFailed();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                offerEnd(validated);
+            }
+        });
+
+        try {
+            write(validated, duplicateStrategy, progressListener, batches);
+        } finally {
+            // On cancellation or a writer error the upstream stages may be blocked on a full queue
+            parser.interrupt();
+            validatorStage.interrupt();
+            parser.join();
+            validatorStage.join();
+        }
+
+        // A cancelled run interrupts the parser on purpose; that is not a failure
+        Exception readFailure = failure.get();
+        if (readFailure != null && !progressListener.isCancelled()) {
+            if (!fromFile || lastLine.get() == 0) {
+                throw readFailure;
+            }
+            int line = lastLine.get() + 1;
+            logger.warn("Leitura do arquivo interrompida na linha {}; as linhas anteriores foram importadas: {}",
+                    line, readFailure.getMessage());
+            invalidRows.accept(failedRow(line, "Leitura do arquivo interrompida: " + readFailure.getMessage()));
+            progressListener.onItemFailed();
+        }
+
+        return plan.get();
+    }
+
+    private void write(BlockingQueue<BillImportItemDTO> validated,
+                       BillBulkImportRequestDTO.DuplicateStrategy duplicateStrategy,
+                       ImportProgressListener progressListener,
+                       Consumer<BillImportResultDTO> batches) throws InterruptedException {
+        // When the database supports the bulk load path, wait for batches large enough to use it
+        int bulkLoadBatchSize = importBillsInBulk.bulkLoadBatchSize();
+        int batchSize = Math.max(this.batchSize, bulkLoadBatchSize);
+        List<BillImportItemDTO> batch = new ArrayList<>(batchSize);
+        boolean finished = false;
+
+        while (!finished && !progressListener.isCancelled()) {
+            BillImportItemDTO first = validated.take();
+            if (first == END_OF_STREAM) {
+                break;
+            }
+            batch.add(first);
+            validated.drainTo(batch, batchSize - 1);
+            while (bulkLoadBatchSize > 0 && batch.size() < batchSize && batch.get(batch.size() - 1) != END_OF_STREAM) {
+                batch.add(validated.take());
+            }
+
+            if (batch.get(batch.size() - 1) == END_OF_STREAM) {
+                batch.remove(batch.size() - 1);
+                finished = true;
+            }
+
+            batches.accept(importBillsInBulk.execute(
+                    new BillBulkImportRequestDTO(batch, duplicateStrategy), progressListener));
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    /**
+     * Producer of bill rows for {@link #run(ItemSource, BillBulkImportRequestDTO.DuplicateStrategy, ImportProgressListener, Consumer, Consumer)}.
+     * Runs on the parser thread.
+     */
+    @FunctionalInterface
+    public interface ItemSource {
+        void stream(Consumer<BillImportItemDTO> consumer) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface BillSource {
+        void stream(Consumer<ImportPlan> planConsumer, Consumer<BillImportItemDTO> consumer,
+                    FileImportService.RowErrorHandler rowErrors) throws Exception;
+    }
+
+    /** A row the parser could not convert, passed on in file order to be reported by the validator. */
+    private static final class UnparsableRow extends BillImportItemDTO {
+
+        private final String message;
+
+        private UnparsableRow(int lineNumber, String message) {
+            this.message = message;
+            setLineNumber(lineNumber);
+        }
+    }
+
+    private static BillImportResultDTO failedRow(int lineNumber, String message) {
+        return new BillImportResultDTO(1, 0, 0, 1, null,
+                new ArrayList<>(List.of(new ImportErrorDTO(lineNumber, "general", message, ""))), null);
+    }
+
+    private static void put(BlockingQueue<BillImportItemDTO> queue, BillImportItemDTO item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Importação interrompida", e);
+        }
+    }
+
+    /**
+     * Signals the end of the stream without blocking: if the consumer is gone (interrupted)
+     * the queue may be full and nobody will read the marker anyway.
+     */
+    private static void offerEnd(BlockingQueue<BillImportItemDTO> queue) {
+        if (!queue.offer(END_OF_STREAM)) {
+            try {
+                queue.put(END_OF_STREAM);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
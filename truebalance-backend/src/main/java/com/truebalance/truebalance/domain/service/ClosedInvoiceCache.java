@@ -0,0 +1,254 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the serialized JSON of closed invoice reads (the invoice, its balance, installments and
+ * partial payments) so they are built once instead of on every call.
+ *
+ * Partial payments cannot be registered on or deleted from a closed invoice, so these reads only
+ * change when the invoice itself is corrected (marked as unpaid, or its total adjusted by a bill
+ * correction). Each entry keeps the entity tag it was built under ({@link InvoiceETags}); a read
+ * whose current tag differs drops the entry and is rebuilt, so a correction is never served
+ * stale even when no one invalidates it. {@link #invalidate(Long)} removes the entries of an
+ * invoice eagerly.
+ *
+ * Recent entries stay in memory up to a size budget; every entry is also written to a directory
+ * created for this process (removed on shutdown), so entries evicted from memory are read back
+ * from disk instead of being rebuilt. Without a directory the cache is memory only.
+ *
+ * Metrics: {@code truebalance.invoice-cache.requests} (counter, tagged result=memory, disk or miss).
+ */
+@Service
+public class ClosedInvoiceCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClosedInvoiceCache.class);
+
+    /**
+     * The invoice reads that are cached.
+     */
+    public enum View {
+        INVOICE, BALANCE, INSTALLMENTS, PARTIAL_PAYMENTS
+    }
+
+    /**
+     * A cached read.
+     *
+     * @param body      the JSON body
+     * @param etag      entity tag the body was built under
+     * @param immutable whether the response may be cached by clients without revalidation
+     */
+    public record Entry(byte[] body, String etag, boolean immutable) {
+    }
+
+    private record Key(Long invoiceId, View view) {
+    }
+
+    private record DiskEntry(Path path, String etag, boolean immutable) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long maxMemoryBytes;
+    private final CacheControl immutableCacheControl;
+    private final Path directory;
+    private final LinkedHashMap<Key, Entry> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Key, DiskEntry> disk = new ConcurrentHashMap<>();
+    private long memoryBytes;
+    private final Counter memoryHitCounter;
+    private final Counter diskHitCounter;
+    private final Counter missCounter;
+
+    public ClosedInvoiceCache(ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${truebalance.invoice-cache.enabled:true}") boolean enabled,
+                              @Value("${truebalance.invoice-cache.memory-max-size:16MB}") DataSize maxMemorySize,
+                              @Value("${truebalance.invoice-cache.dir:${java.io.tmpdir}/truebalance-invoice-cache}") String directory,
+                              @Value("${truebalance.invoice-cache.http-max-age:365d}") Duration httpMaxAge) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxMemoryBytes = maxMemorySize.toBytes();
+        this.immutableCacheControl = CacheControl.maxAge(httpMaxAge).cachePrivate().immutable();
+        this.directory = enabled && !directory.isBlank() ? createDirectory(Path.of(directory)) : null;
+        this.memoryHitCounter = meterRegistry.counter("truebalance.invoice-cache.requests", "result", "memory");
+        this.diskHitCounter = meterRegistry.counter("truebalance.invoice-cache.requests", "result", "disk");
+        this.missCounter = meterRegistry.counter("truebalance.invoice-cache.requests", "result", "miss");
+    }
+
+    /**
+     * The cached read of an invoice, if there is one built under the current tag.
+     *
+     * @param invoiceId  the invoice
+     * @param view       which read
+     * @param currentTag computes the current entity tag; only called when an entry exists, so
+     *                   reads of open invoices cost nothing extra
+     * @return the entry, or empty if there is none or it is stale (it is then dropped)
+     */
+    public Optional<Entry> find(Long invoiceId, View view, Supplier<Optional<String>> currentTag) {
+        Key key = new Key(invoiceId, view);
+        Entry entry = enabled ? fromMemory(key) : null;
+        DiskEntry diskEntry = entry == null && enabled ? disk.get(key) : null;
+        if (entry == null && diskEntry == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        String etag = entry != null ? entry.etag() : diskEntry.etag();
+        if (!currentTag.get().map(etag::equals).orElse(false)) {
+            logger.debug("Cache da fatura {} ({}) desatualizado, descartando", invoiceId, view);
+            remove(key);
+            missCounter.increment();
+            return Optional.empty();
+        }
+        if (entry != null) {
+            memoryHitCounter.increment();
+            return Optional.of(entry);
+        }
+
+        try {
+            entry = new Entry(Files.readAllBytes(diskEntry.path()), diskEntry.etag(), diskEntry.immutable());
+        } catch (IOException e) {
+            logger.warn("Falha ao ler cache da fatura {} ({}) do disco: {}", invoiceId, view, e.getMessage());
+            remove(key);
+            missCounter.increment();
+            return Optional.empty();
+        }
+        toMemory(key, entry);
+        diskHitCounter.increment();
+        return Optional.of(entry);
+    }
+
+    /**
+     * Serialize and keep a read of a closed invoice.
+     *
+     * @param invoiceId the invoice, which must be closed
+     * @param view      which read
+     * @param etag      entity tag computed before the body was read
+     * @param body      the response body
+     * @param immutable whether clients may keep it without revalidation
+     */
+    public void put(Long invoiceId, View view, String etag, Object body, boolean immutable) {
+        if (!enabled) {
+            return;
+        }
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            logger.warn("Falha ao serializar cache da fatura {} ({}): {}", invoiceId, view, e.getMessage());
+            return;
+        }
+
+        Key key = new Key(invoiceId, view);
+        Entry entry = new Entry(json, etag, immutable);
+        toMemory(key, entry);
+        if (directory != null) {
+            Path path = directory.resolve(invoiceId + "-" + view.name().toLowerCase() + ".json");
+            try {
+                Files.write(path, json);
+                disk.put(key, new DiskEntry(path, etag, immutable));
+            } catch (IOException e) {
+                logger.warn("Falha ao gravar cache da fatura {} ({}) em disco: {}", invoiceId, view, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drop every cached read of an invoice (it was marked as unpaid or corrected).
+     */
+    public void invalidate(Long invoiceId) {
+        for (View view : View.values()) {
+            remove(new Key(invoiceId, view));
+        }
+    }
+
+    /**
+     * Cache-Control of the reads whose entry is immutable.
+     */
+    public CacheControl immutableCacheControl() {
+        return immutableCacheControl;
+    }
+
+    @PreDestroy
+    public void deleteDirectory() {
+        if (directory == null) {
+            return;
+        }
+        disk.values().forEach(entry -> deleteQuietly(entry.path()));
+        disk.clear();
+        deleteQuietly(directory);
+    }
+
+    private synchronized Entry fromMemory(Key key) {
+        return memory.get(key);
+    }
+
+    private synchronized void toMemory(Key key, Entry entry) {
+        Entry previous = memory.put(key, entry);
+        memoryBytes += entry.body().length - (previous != null ? previous.body().length : 0);
+
+        // Least recently read first; with a directory they are still on disk
+        Iterator<Entry> eldest = memory.values().iterator();
+        while (memoryBytes > maxMemoryBytes && eldest.hasNext()) {
+            memoryBytes -= eldest.next().body().length;
+            eldest.remove();
+        }
+    }
+
+    private void remove(Key key) {
+        synchronized (this) {
+            Entry entry = memory.remove(key);
+            if (entry != null) {
+                memoryBytes -= entry.body().length;
+            }
+        }
+        DiskEntry diskEntry = disk.remove(key);
+        if (diskEntry != null) {
+            deleteQuietly(diskEntry.path());
+        }
+    }
+
+    /**
+     * A new directory under the configured one, so entries left by another process (or a previous
+     * run against another database) are never read.
+     */
+    private static Path createDirectory(Path parent) {
+        try {
+            Files.createDirectories(parent);
+            return Files.createTempDirectory(parent, "cache-");
+        } catch (IOException e) {
+            logger.warn("Diretório de cache de faturas indisponível ({}), usando apenas memória: {}",
+                    parent, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.debug("Falha ao remover {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.exception.CreditCardNotFoundException;
+import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serializes the transactions that spend the limit of a credit card (BR-CC-008).
+ *
+ * Checking the available limit and then writing installments is a check-then-act sequence: two
+ * purchases on the same card running at the same time could both pass the check. Locking the card
+ * makes the check and the writes atomic per card while purchases on different cards still run in
+ * parallel. Two levels are used:
+ * - a striped in-JVM lock by card ID, so concurrent requests on one instance queue up in memory
+ *   rather than as row lock waits in the database. The lock is taken inside the transaction, so a
+ *   waiting request still holds its connection; the pool must be sized for the expected waiters;
+ * - a row lock on the card (SELECT ... FOR UPDATE), which serializes instances sharing the database.
+ *
+ * Both are held until the transaction commits or rolls back. A transaction locks its cards in one
+ * call: {@link #lockForTransaction} for one card, {@link #lockAllForTransaction} for several, which
+ * takes the stripes in ascending index order and the rows in ascending card ID order. Locking cards
+ * one by one in some other order could deadlock with a transaction locking the same cards.
+ *
+ * Metrics: {@code truebalance.credit-card.lock.wait} (timer, tag {@code level} = jvm | database).
+ */
+@Service
+public class CreditCardLocks {
+
+    private final CreditCardRepositoryPort creditCardRepository;
+    private final ReentrantLock[] stripes;
+    private final Timer jvmWaitTimer;
+    private final Timer databaseWaitTimer;
+
+    public CreditCardLocks(CreditCardRepositoryPort creditCardRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${truebalance.credit-card.lock-stripes:64}") int stripes) {
+        this.creditCardRepository = creditCardRepository;
+        this.stripes = new ReentrantLock[Math.max(1, stripes)];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.jvmWaitTimer = meterRegistry.timer("truebalance.credit-card.lock.wait", "level", "jvm");
+        this.databaseWaitTimer = meterRegistry.timer("truebalance.credit-card.lock.wait", "level", "database");
+    }
+
+    /**
+     * Lock a credit card until the current transaction ends and read it under the lock.
+     *
+     * @param creditCardId the card to lock
+     * @return the card, as committed by the previous holder of the lock
+     * @throws CreditCardNotFoundException if the card does not exist
+     * @throws IllegalStateException       if there is no active transaction
+     */
+    public CreditCard lockForTransaction(Long creditCardId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Bloqueio do cartão " + creditCardId + " exige uma transação ativa");
+        }
+
+        lockStripe(stripeOf(creditCardId));
+        return lockRow(creditCardId).orElseThrow(() -> new CreditCardNotFoundException(creditCardId));
+    }
+
+    /**
+     * Lock several credit cards until the current transaction ends and read them under the lock,
+     * in an order every caller shares: stripes by ascending index, then rows by ascending card ID.
+     *
+     * @param creditCardIds the cards to lock; repeated IDs are locked once
+     * @return the cards that exist, by ID in ascending order; missing cards are left out
+     * @throws IllegalStateException if there is no active transaction
+     */
+    public Map<Long, CreditCard> lockAllForTransaction(Collection<Long> creditCardIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Bloqueio dos cartões " + creditCardIds + " exige uma transação ativa");
+        }
+
+        TreeSet<Long> ids = new TreeSet<>(creditCardIds);
+        TreeSet<Integer> stripeIndexes = new TreeSet<>();
+        ids.forEach(id -> stripeIndexes.add(stripeOf(id)));
+        stripeIndexes.forEach(this::lockStripe);
+
+        Map<Long, CreditCard> creditCards = new LinkedHashMap<>();
+        for (Long id : ids) {
+            lockRow(id).ifPresent(creditCard -> creditCards.put(id, creditCard));
+        }
+        return creditCards;
+    }
+
+    private int stripeOf(Long creditCardId) {
+        return Math.floorMod(creditCardId.hashCode(), stripes.length);
+    }
+
+    private void lockStripe(int index) {
+        ReentrantLock stripe = stripes[index];
+        long start = System.nanoTime();
+        stripe.lock();
+        jvmWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        // Released after commit or rollback, on the same thread that took it
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                stripe.unlock();
+            }
+        });
+    }
+
+    private Optional<CreditCard> lockRow(Long creditCardId) {
+        long start = System.nanoTime();
+        Optional<CreditCard> creditCard = creditCardRepository.findByIdForUpdate(creditCardId);
+        databaseWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return creditCard;
+    }
+}
@@ -0,0 +1,144 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truebalance.truebalance.domain.entity.ExportDataset;
+import com.truebalance.truebalance.domain.port.DataExportPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Streams a whole table as NDJSON or CSV.
+ *
+ * Rows come from {@link DataExportPort} one at a time and are written to the output as they
+ * arrive; nothing but the current row is held in memory. Dates are ISO-8601 and amounts are
+ * plain decimals in both formats.
+ */
+@Service
+public class DataExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataExportService.class);
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private final DataExportPort dataExportPort;
+    private final ObjectMapper objectMapper;
+
+    public DataExportService(DataExportPort dataExportPort, ObjectMapper objectMapper) {
+        this.dataExportPort = dataExportPort;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Write every row of the dataset to {@code output}. The stream is flushed but not closed.
+     *
+     * @return number of rows written
+     */
+    public long export(ExportDataset dataset, Format format, OutputStream output) throws IOException {
+        logger.info("Exportando {} em {}", dataset.getPath(), format);
+        long rows = format == Format.CSV ? exportCsv(dataset, output) : exportNdjson(dataset, output);
+        logger.info("Exportação de {} concluída: {} linhas", dataset.getPath(), rows);
+        return rows;
+    }
+
+    private long exportNdjson(ExportDataset dataset, OutputStream output) throws IOException {
+        List<ExportDataset.Column> columns = dataset.getColumns();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            return dataExportPort.stream(dataset, values -> {
+                generator.writeStartObject();
+                for (int i = 0; i < values.length; i++) {
+                    generator.writeFieldName(columns.get(i).name());
+                    writeJsonValue(generator, values[i]);
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            });
+        }
+    }
+
+    private long exportCsv(ExportDataset dataset, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+        StringBuilder line = new StringBuilder(256);
+
+        for (ExportDataset.Column column : dataset.getColumns()) {
+            if (!line.isEmpty()) {
+                line.append(',');
+            }
+            line.append(column.name());
+        }
+        writer.append(line).append('\n');
+
+        long rows = dataExportPort.stream(dataset, values -> {
+            line.setLength(0);
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                appendCsvValue(line, values[i]);
+            }
+            writer.append(line).append('\n');
+        });
+        writer.flush();
+        return rows;
+    }
+
+    private static void writeJsonValue(JsonGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof Long number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Integer number) {
+            generator.writeNumber(number);
+        } else if (value instanceof BigDecimal number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Boolean bool) {
+            generator.writeBoolean(bool);
+        } else {
+            // Text, LocalDate and LocalDateTime (ISO-8601)
+            generator.writeString(value.toString());
+        }
+    }
+
+    private static void appendCsvValue(StringBuilder line, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof String text) {
+            ImportSummaryCollector.appendQuoted(line, text);
+        } else if (value instanceof BigDecimal number) {
+            line.append(number.toPlainString());
+        } else {
+            line.append(value);
+        }
+    }
+}
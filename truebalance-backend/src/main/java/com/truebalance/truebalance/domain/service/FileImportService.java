@@ -3,9 +3,6 @@ package com.truebalance.truebalance.domain.service;
 import com.truebalance.truebalance.application.dto.input.BillImportItemDTO;
 import com.truebalance.truebalance.application.dto.input.CreditCardImportItemDTO;
 import com.truebalance.truebalance.application.dto.input.InvoiceImportItemDTO;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVParser;
-import org.apache.commons.csv.CSVRecord;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
@@ -15,40 +12,99 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @Service
 public class FileImportService {
 
     private static final Logger logger = LoggerFactory.getLogger(FileImportService.class);
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MM/yyyy");
-    private static final DateTimeFormatter ISO_DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    /**
+     * Receives each row that cannot be converted, with its line number in the file.
+     */
+    @FunctionalInterface
+    public interface RowErrorHandler {
+        void rowFailed(int lineNumber, Exception e);
+    }
+
+    /** Ends the file at the first row that cannot be converted, so nothing of it is imported. */
+    public static final RowErrorHandler FAIL_ON_ROW_ERROR = (lineNumber, e) -> {
+        throw new RuntimeException("Erro na linha " + lineNumber + ": " + e.getMessage(), e);
+    };
 
     /**
      * Parse CSV file and convert to BillImportItemDTO list
      */
     public List<BillImportItemDTO> parseBillsFromFile(MultipartFile file) throws Exception {
-        String filename = file.getOriginalFilename();
-        if (filename == null) {
-            throw new IllegalArgumentException("Nome do arquivo não pode ser nulo");
+        try (InputStream inputStream = file.getInputStream()) {
+            return parseBillsFromFile(file.getOriginalFilename(), inputStream);
         }
+    }
 
-        String extension = filename.substring(filename.lastIndexOf(".") + 1).toLowerCase();
-        
-        if (extension.equals("csv")) {
-            return parseBillsFromCSV(file.getInputStream());
-        } else if (extension.equals("xlsx") || extension.equals("xls")) {
-            return parseBillsFromExcel(file.getInputStream(), extension.equals("xlsx"));
+    /**
+     * Parse file content given its original filename (used when the upload was spooled to disk)
+     */
+    public List<BillImportItemDTO> parseBillsFromFile(String filename, InputStream inputStream) throws Exception {
+        List<BillImportItemDTO> items = new ArrayList<>();
+        streamBillsFromFile(filename, inputStream, items::add);
+        return items;
+    }
+
+    /**
+     * Stream bills from the file to the consumer row by row instead of collecting them in a list.
+     * CSV input is read incrementally; Excel workbooks are still loaded by POI before rows are emitted.
+     */
+    public void streamBillsFromFile(String filename, InputStream inputStream, Consumer<BillImportItemDTO> consumer) throws Exception {
+        streamBillsFromFile(filename, inputStream, plan -> { }, consumer);
+    }
+
+    /**
+     * Same as {@link #streamBillsFromFile(String, InputStream, Consumer)}, also handing the compiled
+     * column mapping to {@code planConsumer} before the first row.
+     */
+    public void streamBillsFromFile(String filename, InputStream inputStream, Consumer<ImportPlan> planConsumer,
+                                    Consumer<BillImportItemDTO> consumer) throws Exception {
+        streamBillsFromFile(filename, inputStream, planConsumer, consumer, FAIL_ON_ROW_ERROR);
+    }
+
+    /**
+     * Same as {@link #streamBillsFromFile(String, InputStream, Consumer, Consumer)}, handing the
+     * rows that cannot be converted to {@code rowErrors} instead of ending the file at the first one.
+     */
+    public void streamBillsFromFile(String filename, InputStream inputStream, Consumer<ImportPlan> planConsumer,
+                                    Consumer<BillImportItemDTO> consumer, RowErrorHandler rowErrors) throws Exception {
+        readFile(filename, inputStream, ImportPlan.BILL_FIELDS, planConsumer, BillRowMapper::new, consumer, rowErrors);
+    }
+
+    /**
+     * Stream bills from a file that is already on disk. CSV files are memory-mapped and tokenized
+     * in place ({@link MappedCsvReader}) instead of being copied to a new temporary file.
+     */
+    public void streamBillsFromFile(String filename, Path path, Consumer<BillImportItemDTO> consumer) throws Exception {
+        streamBillsFromFile(filename, path, plan -> { }, consumer);
+    }
+
+    public void streamBillsFromFile(String filename, Path path, Consumer<ImportPlan> planConsumer,
+                                    Consumer<BillImportItemDTO> consumer) throws Exception {
+        streamBillsFromFile(filename, path, planConsumer, consumer, FAIL_ON_ROW_ERROR);
+    }
+
+    public void streamBillsFromFile(String filename, Path path, Consumer<ImportPlan> planConsumer,
+                                    Consumer<BillImportItemDTO> consumer, RowErrorHandler rowErrors) throws Exception {
+        if (extension(filename).equals("csv")) {
+            readCsv(path, ImportPlan.BILL_FIELDS, planConsumer, BillRowMapper::new, consumer, rowErrors);
         } else {
-            throw new IllegalArgumentException("Formato de arquivo não suportado: " + extension);
+            try (InputStream inputStream = Files.newInputStream(path)) {
+                streamBillsFromFile(filename, inputStream, planConsumer, consumer, rowErrors);
+            }
         }
     }
 
@@ -56,37 +112,72 @@ public class FileImportService {
      * Parse CSV file and convert to InvoiceImportItemDTO list
      */
     public List<InvoiceImportItemDTO> parseInvoicesFromFile(MultipartFile file) throws Exception {
-        String filename = file.getOriginalFilename();
-        if (filename == null) {
-            throw new IllegalArgumentException("Nome do arquivo não pode ser nulo");
-        }
+        return parseInvoicesFromFile(file, plan -> { });
+    }
 
-        String extension = filename.substring(filename.lastIndexOf(".") + 1).toLowerCase();
-        
-        if (extension.equals("csv")) {
-            return parseInvoicesFromCSV(file.getInputStream());
-        } else if (extension.equals("xlsx") || extension.equals("xls")) {
-            return parseInvoicesFromExcel(file.getInputStream(), extension.equals("xlsx"));
-        } else {
-            throw new IllegalArgumentException("Formato de arquivo não suportado: " + extension);
+    public List<InvoiceImportItemDTO> parseInvoicesFromFile(MultipartFile file, Consumer<ImportPlan> planConsumer) throws Exception {
+        try (InputStream inputStream = file.getInputStream()) {
+            return parseInvoicesFromFile(file.getOriginalFilename(), inputStream, planConsumer);
         }
     }
 
+    /**
+     * Parse file content given its original filename (used when the upload was spooled to disk)
+     */
+    public List<InvoiceImportItemDTO> parseInvoicesFromFile(String filename, InputStream inputStream) throws Exception {
+        return parseInvoicesFromFile(filename, inputStream, plan -> { });
+    }
+
+    public List<InvoiceImportItemDTO> parseInvoicesFromFile(String filename, InputStream inputStream,
+                                                            Consumer<ImportPlan> planConsumer) throws Exception {
+        List<InvoiceImportItemDTO> items = new ArrayList<>();
+        readFile(filename, inputStream, ImportPlan.INVOICE_FIELDS, planConsumer, InvoiceRowMapper::new, items::add,
+                FAIL_ON_ROW_ERROR);
+        return items;
+    }
+
     /**
      * Parse CSV file and convert to CreditCardImportItemDTO list
      */
     public List<CreditCardImportItemDTO> parseCreditCardsFromFile(MultipartFile file) throws Exception {
-        String filename = file.getOriginalFilename();
-        if (filename == null) {
-            throw new IllegalArgumentException("Nome do arquivo não pode ser nulo");
+        return parseCreditCardsFromFile(file, plan -> { });
+    }
+
+    public List<CreditCardImportItemDTO> parseCreditCardsFromFile(MultipartFile file, Consumer<ImportPlan> planConsumer) throws Exception {
+        try (InputStream inputStream = file.getInputStream()) {
+            return parseCreditCardsFromFile(file.getOriginalFilename(), inputStream, planConsumer);
         }
+    }
+
+    /**
+     * Parse file content given its original filename (used when the upload was spooled to disk)
+     */
+    public List<CreditCardImportItemDTO> parseCreditCardsFromFile(String filename, InputStream inputStream) throws Exception {
+        return parseCreditCardsFromFile(filename, inputStream, plan -> { });
+    }
+
+    public List<CreditCardImportItemDTO> parseCreditCardsFromFile(String filename, InputStream inputStream,
+                                                                  Consumer<ImportPlan> planConsumer) throws Exception {
+        List<CreditCardImportItemDTO> items = new ArrayList<>();
+        readFile(filename, inputStream, ImportPlan.CREDIT_CARD_FIELDS, planConsumer, CreditCardRowMapper::new, items::add,
+                FAIL_ON_ROW_ERROR);
+        return items;
+    }
+
+    private <T> void readFile(String filename, InputStream inputStream, List<ImportPlan.Field> fields,
+                              Consumer<ImportPlan> planConsumer, Function<ImportPlan, RowMapper<T>> mappers,
+                              Consumer<T> consumer, RowErrorHandler rowErrors) throws Exception {
+        String extension = extension(filename);
 
-        String extension = filename.substring(filename.lastIndexOf(".") + 1).toLowerCase();
-        
         if (extension.equals("csv")) {
-            return parseCreditCardsFromCSV(file.getInputStream());
+            Path spooled = spool(inputStream);
+            try {
+                readCsv(spooled, fields, planConsumer, mappers, consumer, rowErrors);
+            } finally {
+                Files.deleteIfExists(spooled);
+            }
         } else if (extension.equals("xlsx") || extension.equals("xls")) {
-            return parseCreditCardsFromExcel(file.getInputStream(), extension.equals("xlsx"));
+            readExcel(inputStream, extension.equals("xlsx"), fields, planConsumer, mappers, consumer, rowErrors);
         } else {
             throw new IllegalArgumentException("Formato de arquivo não suportado: " + extension);
         }
@@ -94,444 +185,307 @@ public class FileImportService {
 
     // ========== CSV Parsers ==========
 
-    private List<BillImportItemDTO> parseBillsFromCSV(InputStream inputStream) throws Exception {
-        List<BillImportItemDTO> items = new ArrayList<>();
-        
-        try (InputStreamReader reader = new InputStreamReader(inputStream, "UTF-8");
-             CSVParser parser = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader)) {
-            
+    /**
+     * Rows are read through the reader itself, so typed columns are parsed straight from the
+     * mapped bytes and only text columns become Strings.
+     */
+    private <T> void readCsv(Path path, List<ImportPlan.Field> fields, Consumer<ImportPlan> planConsumer,
+                             Function<ImportPlan, RowMapper<T>> mappers, Consumer<T> consumer,
+                             RowErrorHandler rowErrors) throws Exception {
+        try (MappedCsvReader csv = MappedCsvReader.open(path)) {
+            if (!csv.next()) {
+                return;
+            }
+
+            ImportPlan plan = compilePlan(csv, fields);
+            planConsumer.accept(plan);
+            RowMapper<T> mapper = mappers.apply(plan);
+
             int lineNumber = 1; // Header is line 1
-            for (CSVRecord record : parser) {
+            while (csv.next()) {
                 lineNumber++;
+                T item;
                 try {
-                    BillImportItemDTO item = parseBillRecord(record, lineNumber);
-                    items.add(item);
+                    item = mapper.map(csv, lineNumber);
                 } catch (Exception e) {
                     logger.warn("Erro ao processar linha {} do CSV: {}", lineNumber, e.getMessage());
-                    throw new RuntimeException("Erro na linha " + lineNumber + ": " + e.getMessage(), e);
+                    rowErrors.rowFailed(lineNumber, e);
+                    continue;
                 }
+                consumer.accept(item);
             }
         }
-        
-        return items;
     }
 
-    private List<InvoiceImportItemDTO> parseInvoicesFromCSV(InputStream inputStream) throws Exception {
-        List<InvoiceImportItemDTO> items = new ArrayList<>();
-        
-        try (InputStreamReader reader = new InputStreamReader(inputStream, "UTF-8");
-             CSVParser parser = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader)) {
-            
-            int lineNumber = 1;
-            for (CSVRecord record : parser) {
-                lineNumber++;
-                try {
-                    InvoiceImportItemDTO item = parseInvoiceRecord(record, lineNumber);
-                    items.add(item);
-                } catch (Exception e) {
-                    logger.warn("Erro ao processar linha {} do CSV: {}", lineNumber, e.getMessage());
-                    throw new RuntimeException("Erro na linha " + lineNumber + ": " + e.getMessage(), e);
-                }
+    /**
+     * Compiles the plan from the header record (current) and the records that follow it,
+     * leaving the reader positioned right after the header.
+     */
+    private static ImportPlan compilePlan(MappedCsvReader csv, List<ImportPlan.Field> fields) {
+        List<String> headers = new ArrayList<>();
+        for (int i = 0; i < csv.fieldCount(); i++) {
+            headers.add(csv.text(i));
+        }
+
+        List<ImportPlan.RowValues> sample = new ArrayList<>();
+        csv.mark();
+        while (sample.size() < ImportPlan.SAMPLE_ROWS && csv.next()) {
+            String[] values = new String[csv.fieldCount()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = csv.text(i);
             }
+            sample.add(column -> column >= 0 && column < values.length ? values[column] : null);
         }
-        
-        return items;
+        csv.reset();
+
+        return logPlan(ImportPlan.compile(headers, fields, sample));
     }
 
-    private List<CreditCardImportItemDTO> parseCreditCardsFromCSV(InputStream inputStream) throws Exception {
-        List<CreditCardImportItemDTO> items = new ArrayList<>();
-        
-        try (InputStreamReader reader = new InputStreamReader(inputStream, "UTF-8");
-             CSVParser parser = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader)) {
-            
-            int lineNumber = 1;
-            for (CSVRecord record : parser) {
-                lineNumber++;
+    // ========== Excel Parsers ==========
+
+    private <T> void readExcel(InputStream inputStream, boolean isXLSX, List<ImportPlan.Field> fields,
+                               Consumer<ImportPlan> planConsumer, Function<ImportPlan, RowMapper<T>> mappers,
+                               Consumer<T> consumer, RowErrorHandler rowErrors) throws Exception {
+        try (Workbook workbook = isXLSX ? new XSSFWorkbook(inputStream) : new HSSFWorkbook(inputStream)) {
+            Sheet sheet = workbook.getSheetAt(0);
+
+            // Get header row
+            if (sheet.getRow(0) == null) {
+                throw new IllegalArgumentException("Arquivo Excel vazio ou sem cabeçalho");
+            }
+
+            ImportPlan plan = logPlan(compilePlan(sheet, fields));
+            planConsumer.accept(plan);
+            RowMapper<T> mapper = mappers.apply(plan);
+            ExcelRow excelRow = new ExcelRow();
+
+            // Process data rows
+            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                Row row = sheet.getRow(i);
+                if (row == null) continue;
+
+                int lineNumber = i + 1; // Excel rows are 1-indexed, header is row 1
+                T item;
                 try {
-                    CreditCardImportItemDTO item = parseCreditCardRecord(record, lineNumber);
-                    items.add(item);
+                    item = mapper.map(excelRow.at(row), lineNumber);
                 } catch (Exception e) {
-                    logger.warn("Erro ao processar linha {} do CSV: {}", lineNumber, e.getMessage());
-                    throw new RuntimeException("Erro na linha " + lineNumber + ": " + e.getMessage(), e);
+                    logger.warn("Erro ao processar linha {} do Excel: {}", lineNumber, e.getMessage());
+                    rowErrors.rowFailed(lineNumber, e);
+                    continue;
                 }
+                consumer.accept(item);
             }
         }
-        
-        return items;
     }
 
-    // ========== Excel Parsers ==========
-
-    private List<BillImportItemDTO> parseBillsFromExcel(InputStream inputStream, boolean isXLSX) throws Exception {
-        List<BillImportItemDTO> items = new ArrayList<>();
-        
-        Workbook workbook = isXLSX ? new XSSFWorkbook(inputStream) : new HSSFWorkbook(inputStream);
-        Sheet sheet = workbook.getSheetAt(0);
-        
-        // Get header row
+    /**
+     * Compiles the plan of a sheet from its first row (header) and the rows that follow it.
+     */
+    static ImportPlan compilePlan(Sheet sheet, List<ImportPlan.Field> fields) {
         Row headerRow = sheet.getRow(0);
-        if (headerRow == null) {
-            workbook.close();
-            throw new IllegalArgumentException("Arquivo Excel vazio ou sem cabeçalho");
+        List<String> headers = new ArrayList<>();
+        for (int i = 0; i < Math.max(headerRow.getLastCellNum(), 0); i++) {
+            headers.add(getCellValueAsString(headerRow.getCell(i)));
         }
-        
-        // Create header map
-        java.util.Map<String, Integer> headerMap = new java.util.HashMap<>();
-        for (Cell cell : headerRow) {
-            String headerName = getCellValueAsString(cell);
-            headerMap.put(headerName, cell.getColumnIndex());
-        }
-        
-        // Process data rows
-        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+
+        List<ImportPlan.RowValues> sample = new ArrayList<>();
+        for (int i = 1; i <= sheet.getLastRowNum() && sample.size() < ImportPlan.SAMPLE_ROWS; i++) {
             Row row = sheet.getRow(i);
-            if (row == null) continue;
-            
-            int lineNumber = i + 1; // Excel rows are 1-indexed, header is row 1
-            try {
-                BillImportItemDTO item = parseBillRow(row, headerMap, lineNumber);
-                items.add(item);
-            } catch (Exception e) {
-                logger.warn("Erro ao processar linha {} do Excel: {}", lineNumber, e.getMessage());
-                throw new RuntimeException("Erro na linha " + lineNumber + ": " + e.getMessage(), e);
+            if (row != null) {
+                sample.add(column -> getCellValueAsString(row.getCell(column)));
             }
         }
-        
-        workbook.close();
-        return items;
+
+        return ImportPlan.compile(headers, fields, sample);
     }
 
-    private List<InvoiceImportItemDTO> parseInvoicesFromExcel(InputStream inputStream, boolean isXLSX) throws Exception {
-        List<InvoiceImportItemDTO> items = new ArrayList<>();
-        
-        Workbook workbook = isXLSX ? new XSSFWorkbook(inputStream) : new HSSFWorkbook(inputStream);
-        Sheet sheet = workbook.getSheetAt(0);
-        
-        Row headerRow = sheet.getRow(0);
-        if (headerRow == null) {
-            workbook.close();
-            throw new IllegalArgumentException("Arquivo Excel vazio ou sem cabeçalho");
-        }
-        
-        java.util.Map<String, Integer> headerMap = new java.util.HashMap<>();
-        for (Cell cell : headerRow) {
-            String headerName = getCellValueAsString(cell);
-            headerMap.put(headerName, cell.getColumnIndex());
-        }
-        
-        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-            Row row = sheet.getRow(i);
-            if (row == null) continue;
-            
-            int lineNumber = i + 1;
-            try {
-                InvoiceImportItemDTO item = parseInvoiceRow(row, headerMap, lineNumber);
-                items.add(item);
-            } catch (Exception e) {
-                logger.warn("Erro ao processar linha {} do Excel: {}", lineNumber, e.getMessage());
-                throw new RuntimeException("Erro na linha " + lineNumber + ": " + e.getMessage(), e);
-            }
-        }
-        
-        workbook.close();
-        return items;
+    // ========== Row Mappers ==========
+
+    /**
+     * Converts one row through accessors compiled from the plan of the file.
+     */
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T map(ImportPlan.RowValues row, int lineNumber);
     }
 
-    private List<CreditCardImportItemDTO> parseCreditCardsFromExcel(InputStream inputStream, boolean isXLSX) throws Exception {
-        List<CreditCardImportItemDTO> items = new ArrayList<>();
-        
-        Workbook workbook = isXLSX ? new XSSFWorkbook(inputStream) : new HSSFWorkbook(inputStream);
-        Sheet sheet = workbook.getSheetAt(0);
-        
-        Row headerRow = sheet.getRow(0);
-        if (headerRow == null) {
-            workbook.close();
-            throw new IllegalArgumentException("Arquivo Excel vazio ou sem cabeçalho");
-        }
-        
-        java.util.Map<String, Integer> headerMap = new java.util.HashMap<>();
-        for (Cell cell : headerRow) {
-            String headerName = getCellValueAsString(cell);
-            headerMap.put(headerName, cell.getColumnIndex());
-        }
-        
-        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-            Row row = sheet.getRow(i);
-            if (row == null) continue;
-            
-            int lineNumber = i + 1;
-            try {
-                CreditCardImportItemDTO item = parseCreditCardRow(row, headerMap, lineNumber);
-                items.add(item);
-            } catch (Exception e) {
-                logger.warn("Erro ao processar linha {} do Excel: {}", lineNumber, e.getMessage());
-                throw new RuntimeException("Erro na linha " + lineNumber + ": " + e.getMessage(), e);
+    private static final class BillRowMapper implements RowMapper<BillImportItemDTO> {
+
+        private final ImportPlan.Accessor<String> name;
+        private final ImportPlan.Accessor<String> description;
+        private final ImportPlan.Accessor<LocalDate> executionDate;
+        private final ImportPlan.Accessor<BigDecimal> totalAmount;
+        private final ImportPlan.Accessor<Integer> numberOfInstallments;
+        private final ImportPlan.Accessor<Long> creditCardId;
+
+        BillRowMapper(ImportPlan plan) {
+            this.name = plan.text("name");
+            this.description = plan.text("description");
+            this.executionDate = plan.date("executionDate");
+            this.totalAmount = plan.decimal("totalAmount");
+            this.numberOfInstallments = plan.integer("numberOfInstallments");
+            this.creditCardId = plan.longValue("creditCardId");
+        }
+
+        @Override
+        public BillImportItemDTO map(ImportPlan.RowValues row, int lineNumber) {
+            String name = this.name.read(row);
+            if (name == null) {
+                throw new IllegalArgumentException("Nome é obrigatório");
             }
-        }
-        
-        workbook.close();
-        return items;
-    }
 
-    // ========== Record Parsers ==========
+            LocalDate executionDate = this.executionDate.read(row);
+            if (executionDate == null) {
+                throw new IllegalArgumentException("Data é obrigatória");
+            }
 
-    private BillImportItemDTO parseBillRecord(CSVRecord record, int lineNumber) {
-        String name = getValue(record, "Nome", "name");
-        if (name == null || name.trim().isEmpty()) {
-            throw new IllegalArgumentException("Nome é obrigatório");
-        }
-        
-        String description = getValue(record, "Descrição", "description");
-        String dateStr = getValue(record, "Data", "date", "executionDate");
-        if (dateStr == null || dateStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Data é obrigatória");
-        }
-        
-        String totalAmountStr = getValue(record, "Valor Total", "totalAmount");
-        if (totalAmountStr == null || totalAmountStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Valor Total é obrigatório");
-        }
-        
-        String numberOfInstallmentsStr = getValue(record, "Número de Parcelas", "numberOfInstallments", "1");
-        String creditCardIdStr = getValue(record, "ID Cartão", "creditCardId");
-
-        LocalDateTime executionDate = parseDateTime(dateStr);
-        BigDecimal totalAmount = parseCurrency(totalAmountStr);
-        Integer numberOfInstallments = Integer.parseInt(numberOfInstallmentsStr);
-        Long creditCardId = creditCardIdStr != null && !creditCardIdStr.isEmpty() ? Long.parseLong(creditCardIdStr) : null;
-
-        return new BillImportItemDTO(
-                name, description, executionDate, totalAmount,
-                numberOfInstallments, false, creditCardId, lineNumber
-        );
-    }
+            BigDecimal totalAmount = this.totalAmount.read(row);
+            if (totalAmount == null) {
+                throw new IllegalArgumentException("Valor Total é obrigatório");
+            }
 
-    private InvoiceImportItemDTO parseInvoiceRecord(CSVRecord record, int lineNumber) {
-        String creditCardIdStr = getValue(record, "ID Cartão", "Cartão de Crédito", "creditCardId");
-        if (creditCardIdStr == null || creditCardIdStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("ID Cartão é obrigatório");
-        }
-        
-        String referenceMonthStr = getValue(record, "Mês de Referência", "referenceMonth");
-        if (referenceMonthStr == null || referenceMonthStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Mês de Referência é obrigatório");
-        }
-        
-        String totalAmountStr = getValue(record, "Valor Total", "totalAmount");
-        if (totalAmountStr == null || totalAmountStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Valor Total é obrigatório");
+            Integer numberOfInstallments = this.numberOfInstallments.read(row);
+
+            return new BillImportItemDTO(
+                    name, description.read(row), executionDate.atStartOfDay(), totalAmount,
+                    numberOfInstallments != null ? numberOfInstallments : 1, false,
+                    creditCardId.read(row), lineNumber
+            );
         }
-        
-        String previousBalanceStr = getValue(record, "Saldo Anterior", "previousBalance", "0");
-        String closedStr = getValue(record, "Fechada", "closed", "false");
-        String paidStr = getValue(record, "Paga", "paid", "false");
-
-        Long creditCardId = Long.parseLong(creditCardIdStr);
-        LocalDate referenceMonth = parseReferenceMonth(referenceMonthStr);
-        BigDecimal totalAmount = parseCurrency(totalAmountStr);
-        BigDecimal previousBalance = parseCurrency(previousBalanceStr);
-        Boolean closed = parseBoolean(closedStr);
-        Boolean paid = parseBoolean(paidStr);
-
-        return new InvoiceImportItemDTO(
-                creditCardId, referenceMonth, totalAmount,
-                previousBalance, closed, paid, lineNumber
-        );
     }
 
-    private CreditCardImportItemDTO parseCreditCardRecord(CSVRecord record, int lineNumber) {
-        String name = getValue(record, "Nome", "name");
-        if (name == null || name.trim().isEmpty()) {
-            throw new IllegalArgumentException("Nome é obrigatório");
-        }
-        
-        String creditLimitStr = getValue(record, "Limite de Crédito", "Limite", "creditLimit");
-        if (creditLimitStr == null || creditLimitStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Limite de Crédito é obrigatório");
-        }
-        
-        String closingDayStr = getValue(record, "Dia de Fechamento", "Dia Fechamento", "closingDay");
-        if (closingDayStr == null || closingDayStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Dia de Fechamento é obrigatório");
-        }
-        
-        String dueDayStr = getValue(record, "Dia de Vencimento", "Dia Vencimento", "dueDay");
-        if (dueDayStr == null || dueDayStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Dia de Vencimento é obrigatório");
-        }
-        
-        String allowsPartialPaymentStr = getValue(record, "Permite Pagamento Parcial", "Pagamento Parcial", "allowsPartialPayment", "true");
+    private static final class InvoiceRowMapper implements RowMapper<InvoiceImportItemDTO> {
+
+        private final ImportPlan.Accessor<Long> creditCardId;
+        private final ImportPlan.Accessor<LocalDate> referenceMonth;
+        private final ImportPlan.Accessor<BigDecimal> totalAmount;
+        private final ImportPlan.Accessor<BigDecimal> previousBalance;
+        private final ImportPlan.Accessor<Boolean> closed;
+        private final ImportPlan.Accessor<Boolean> paid;
+
+        InvoiceRowMapper(ImportPlan plan) {
+            this.creditCardId = plan.longValue("creditCardId");
+            this.referenceMonth = plan.month("referenceMonth");
+            this.totalAmount = plan.decimal("totalAmount");
+            this.previousBalance = plan.decimal("previousBalance");
+            this.closed = plan.bool("closed");
+            this.paid = plan.bool("paid");
+        }
+
+        @Override
+        public InvoiceImportItemDTO map(ImportPlan.RowValues row, int lineNumber) {
+            Long creditCardId = this.creditCardId.read(row);
+            if (creditCardId == null) {
+                throw new IllegalArgumentException("ID Cartão é obrigatório");
+            }
 
-        BigDecimal creditLimit = parseCurrency(creditLimitStr);
-        Integer closingDay = Integer.parseInt(closingDayStr);
-        Integer dueDay = Integer.parseInt(dueDayStr);
-        Boolean allowsPartialPayment = parseBoolean(allowsPartialPaymentStr);
+            LocalDate referenceMonth = this.referenceMonth.read(row);
+            if (referenceMonth == null) {
+                throw new IllegalArgumentException("Mês de Referência é obrigatório");
+            }
 
-        return new CreditCardImportItemDTO(
-                name, creditLimit, closingDay, dueDay, allowsPartialPayment, lineNumber
-        );
-    }
+            BigDecimal totalAmount = this.totalAmount.read(row);
+            if (totalAmount == null) {
+                throw new IllegalArgumentException("Valor Total é obrigatório");
+            }
 
-    // ========== Row Parsers (Excel) ==========
+            BigDecimal previousBalance = this.previousBalance.read(row);
+            Boolean closed = this.closed.read(row);
+            Boolean paid = this.paid.read(row);
 
-    private BillImportItemDTO parseBillRow(Row row, java.util.Map<String, Integer> headerMap, int lineNumber) {
-        String name = getCellValue(row, headerMap, "Nome", "name");
-        if (name == null || name.trim().isEmpty()) {
-            throw new IllegalArgumentException("Nome é obrigatório");
-        }
-        
-        String description = getCellValue(row, headerMap, "Descrição", "description");
-        String dateStr = getCellValue(row, headerMap, "Data", "date", "executionDate");
-        if (dateStr == null || dateStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Data é obrigatória");
+            return new InvoiceImportItemDTO(
+                    creditCardId, referenceMonth, totalAmount,
+                    previousBalance != null ? previousBalance : BigDecimal.ZERO,
+                    Boolean.TRUE.equals(closed), Boolean.TRUE.equals(paid), lineNumber
+            );
         }
-        
-        String totalAmountStr = getCellValue(row, headerMap, "Valor Total", "totalAmount");
-        if (totalAmountStr == null || totalAmountStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Valor Total é obrigatório");
-        }
-        
-        String numberOfInstallmentsStr = getCellValue(row, headerMap, "Número de Parcelas", "numberOfInstallments", "1");
-        String creditCardIdStr = getCellValue(row, headerMap, "ID Cartão", "creditCardId");
-
-        LocalDateTime executionDate = parseDateTime(dateStr);
-        BigDecimal totalAmount = parseCurrency(totalAmountStr);
-        Integer numberOfInstallments = Integer.parseInt(numberOfInstallmentsStr);
-        Long creditCardId = creditCardIdStr != null && !creditCardIdStr.isEmpty() ? Long.parseLong(creditCardIdStr) : null;
-
-        return new BillImportItemDTO(
-                name, description, executionDate, totalAmount,
-                numberOfInstallments, false, creditCardId, lineNumber
-        );
     }
 
-    private InvoiceImportItemDTO parseInvoiceRow(Row row, java.util.Map<String, Integer> headerMap, int lineNumber) {
-        String creditCardIdStr = getCellValue(row, headerMap, "ID Cartão", "Cartão de Crédito", "creditCardId");
-        if (creditCardIdStr == null || creditCardIdStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("ID Cartão é obrigatório");
-        }
-        
-        String referenceMonthStr = getCellValue(row, headerMap, "Mês de Referência", "referenceMonth");
-        if (referenceMonthStr == null || referenceMonthStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Mês de Referência é obrigatório");
-        }
-        
-        String totalAmountStr = getCellValue(row, headerMap, "Valor Total", "totalAmount");
-        if (totalAmountStr == null || totalAmountStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Valor Total é obrigatório");
-        }
-        
-        String previousBalanceStr = getCellValue(row, headerMap, "Saldo Anterior", "previousBalance", "0");
-        String closedStr = getCellValue(row, headerMap, "Fechada", "closed", "false");
-        String paidStr = getCellValue(row, headerMap, "Paga", "paid", "false");
-
-        Long creditCardId = Long.parseLong(creditCardIdStr);
-        LocalDate referenceMonth = parseReferenceMonth(referenceMonthStr);
-        BigDecimal totalAmount = parseCurrency(totalAmountStr);
-        BigDecimal previousBalance = parseCurrency(previousBalanceStr);
-        Boolean closed = parseBoolean(closedStr);
-        Boolean paid = parseBoolean(paidStr);
-
-        return new InvoiceImportItemDTO(
-                creditCardId, referenceMonth, totalAmount,
-                previousBalance, closed, paid, lineNumber
-        );
-    }
+    private static final class CreditCardRowMapper implements RowMapper<CreditCardImportItemDTO> {
 
-    private CreditCardImportItemDTO parseCreditCardRow(Row row, java.util.Map<String, Integer> headerMap, int lineNumber) {
-        String name = getCellValue(row, headerMap, "Nome", "name");
-        if (name == null || name.trim().isEmpty()) {
-            throw new IllegalArgumentException("Nome é obrigatório");
-        }
-        
-        String creditLimitStr = getCellValue(row, headerMap, "Limite de Crédito", "Limite", "creditLimit");
-        if (creditLimitStr == null || creditLimitStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Limite de Crédito é obrigatório");
-        }
-        
-        String closingDayStr = getCellValue(row, headerMap, "Dia de Fechamento", "Dia Fechamento", "closingDay");
-        if (closingDayStr == null || closingDayStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Dia de Fechamento é obrigatório");
-        }
-        
-        String dueDayStr = getCellValue(row, headerMap, "Dia de Vencimento", "Dia Vencimento", "dueDay");
-        if (dueDayStr == null || dueDayStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Dia de Vencimento é obrigatório");
+        private final ImportPlan.Accessor<String> name;
+        private final ImportPlan.Accessor<BigDecimal> creditLimit;
+        private final ImportPlan.Accessor<Integer> closingDay;
+        private final ImportPlan.Accessor<Integer> dueDay;
+        private final ImportPlan.Accessor<Boolean> allowsPartialPayment;
+
+        CreditCardRowMapper(ImportPlan plan) {
+            this.name = plan.text("name");
+            this.creditLimit = plan.decimal("creditLimit");
+            this.closingDay = plan.integer("closingDay");
+            this.dueDay = plan.integer("dueDay");
+            this.allowsPartialPayment = plan.bool("allowsPartialPayment");
         }
-        
-        String allowsPartialPaymentStr = getCellValue(row, headerMap, "Permite Pagamento Parcial", "Pagamento Parcial", "allowsPartialPayment", "true");
 
-        BigDecimal creditLimit = parseCurrency(creditLimitStr);
-        Integer closingDay = Integer.parseInt(closingDayStr);
-        Integer dueDay = Integer.parseInt(dueDayStr);
-        Boolean allowsPartialPayment = parseBoolean(allowsPartialPaymentStr);
+        @Override
+        public CreditCardImportItemDTO map(ImportPlan.RowValues row, int lineNumber) {
+            String name = this.name.read(row);
+            if (name == null) {
+                throw new IllegalArgumentException("Nome é obrigatório");
+            }
 
-        return new CreditCardImportItemDTO(
-                name, creditLimit, closingDay, dueDay, allowsPartialPayment, lineNumber
-        );
-    }
+            BigDecimal creditLimit = this.creditLimit.read(row);
+            if (creditLimit == null) {
+                throw new IllegalArgumentException("Limite de Crédito é obrigatório");
+            }
 
-    // ========== Helper Methods ==========
+            Integer closingDay = this.closingDay.read(row);
+            if (closingDay == null) {
+                throw new IllegalArgumentException("Dia de Fechamento é obrigatório");
+            }
 
-    private String getValue(CSVRecord record, String... keys) {
-        for (String key : keys) {
-            try {
-                String value = record.get(key);
-                if (value != null && !value.trim().isEmpty()) {
-                    return value.trim();
-                }
-            } catch (IllegalArgumentException e) {
-                // Try next key
+            Integer dueDay = this.dueDay.read(row);
+            if (dueDay == null) {
+                throw new IllegalArgumentException("Dia de Vencimento é obrigatório");
             }
-        }
-        return null;
-    }
 
-    private String getValue(CSVRecord record, String key1, String key2, String defaultValue) {
-        String value = getValue(record, key1, key2);
-        return value != null ? value : defaultValue;
-    }
+            Boolean allowsPartialPayment = this.allowsPartialPayment.read(row);
 
-    private String getValue(CSVRecord record, String key1, String key2, String key3, String defaultValue) {
-        String value = getValue(record, key1, key2, key3);
-        return value != null ? value : defaultValue;
+            return new CreditCardImportItemDTO(
+                    name, creditLimit, closingDay, dueDay,
+                    allowsPartialPayment != null ? allowsPartialPayment : true, lineNumber
+            );
+        }
     }
 
-    private String getCellValue(Row row, java.util.Map<String, Integer> headerMap, String... keys) {
-        for (String key : keys) {
-            Integer colIndex = headerMap.get(key);
-            if (colIndex != null) {
-                Cell cell = row.getCell(colIndex);
-                if (cell != null) {
-                    String value = getCellValueAsString(cell);
-                    if (value != null && !value.trim().isEmpty()) {
-                        return value.trim();
-                    }
-                }
-            }
+    // ========== Helper Methods ==========
+
+    private static String extension(String filename) {
+        if (filename == null) {
+            throw new IllegalArgumentException("Nome do arquivo não pode ser nulo");
         }
-        return null;
+        return filename.substring(filename.lastIndexOf(".") + 1).toLowerCase();
     }
 
-    private String getCellValue(Row row, java.util.Map<String, Integer> headerMap, String key1, String key2, String defaultValue) {
-        String value = getCellValue(row, headerMap, key1, key2);
-        return value != null ? value : defaultValue;
+    /**
+     * Copies the stream to a temporary file so it can be memory-mapped. The caller deletes it.
+     */
+    private static Path spool(InputStream inputStream) throws Exception {
+        Path spooled = Files.createTempFile("truebalance-import-", ".csv");
+        try {
+            Files.copy(inputStream, spooled, StandardCopyOption.REPLACE_EXISTING);
+            return spooled;
+        } catch (Exception e) {
+            Files.deleteIfExists(spooled);
+            throw e;
+        }
     }
 
-    private String getCellValue(Row row, java.util.Map<String, Integer> headerMap, String key1, String key2, String key3, String defaultValue) {
-        String value = getCellValue(row, headerMap, key1, key2, key3);
-        return value != null ? value : defaultValue;
+    private static ImportPlan logPlan(ImportPlan plan) {
+        logger.info("Plano de importação: {} colunas mapeadas, campos ausentes {}, colunas ignoradas {}",
+                plan.getColumns().size(), plan.getMissingFields(), plan.getUnmappedHeaders());
+        return plan;
     }
 
-    private String getCellValueAsString(Cell cell) {
+    static String getCellValueAsString(Cell cell) {
         if (cell == null) return null;
-        
+
         switch (cell.getCellType()) {
             case STRING:
                 return cell.getStringCellValue();
             case NUMERIC:
                 if (DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getDateCellValue().toString();
+                    return cell.getLocalDateTimeCellValue().toLocalDate().toString();
                 } else {
                     double numValue = cell.getNumericCellValue();
                     // Remove .0 if it's an integer
@@ -549,80 +503,79 @@ public class FileImportService {
         }
     }
 
-    private LocalDateTime parseDateTime(String dateStr) {
-        if (dateStr == null || dateStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Data não pode ser vazia");
+    /**
+     * Reusable view of a spreadsheet row. Numeric and date cells are read as typed values;
+     * text cells (and anything else) go through the text converters.
+     */
+    static final class ExcelRow implements ImportPlan.RowValues {
+
+        private Row row;
+
+        ExcelRow at(Row row) {
+            this.row = row;
+            return this;
         }
-        
-        try {
-            // Try dd/MM/yyyy format
-            return LocalDate.parse(dateStr.trim(), DATE_FORMATTER).atStartOfDay();
-        } catch (DateTimeParseException e) {
-            try {
-                // Try ISO format
-                return LocalDate.parse(dateStr.trim(), ISO_DATE_FORMATTER).atStartOfDay();
-            } catch (DateTimeParseException e2) {
-                throw new IllegalArgumentException("Formato de data inválido: " + dateStr + ". Use dd/MM/yyyy");
+
+        @Override
+        public String get(int column) {
+            return getCellValueAsString(row.getCell(column));
+        }
+
+        @Override
+        public BigDecimal decimal(int column, char grouping) {
+            Cell cell = numericCell(column);
+            if (cell == null || DateUtil.isCellDateFormatted(cell)) {
+                return ImportPlan.RowValues.super.decimal(column, grouping);
             }
+            double value = cell.getNumericCellValue();
+            return value == (long) value ? BigDecimal.valueOf((long) value) : BigDecimal.valueOf(value);
         }
-    }
 
-    private LocalDate parseReferenceMonth(String monthStr) {
-        if (monthStr == null || monthStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Mês de referência não pode ser vazio");
+        @Override
+        public LocalDate date(int column) {
+            Cell cell = numericCell(column);
+            if (cell == null || !DateUtil.isCellDateFormatted(cell)) {
+                return ImportPlan.RowValues.super.date(column);
+            }
+            return cell.getLocalDateTimeCellValue().toLocalDate();
         }
-        
-        try {
-            // Try MM/yyyy format
-            String[] parts = monthStr.trim().split("/");
-            if (parts.length == 2) {
-                int month = Integer.parseInt(parts[0]);
-                int year = Integer.parseInt(parts[1]);
-                return LocalDate.of(year, month, 1);
+
+        @Override
+        public Integer integer(int column) {
+            Cell cell = numericCell(column);
+            if (cell == null || DateUtil.isCellDateFormatted(cell)) {
+                return ImportPlan.RowValues.super.integer(column);
             }
-        } catch (Exception e) {
-            // Try yyyy-MM format
-            try {
-                String[] parts = monthStr.trim().split("-");
-                if (parts.length == 2) {
-                    int year = Integer.parseInt(parts[0]);
-                    int month = Integer.parseInt(parts[1]);
-                    return LocalDate.of(year, month, 1);
-                }
-            } catch (Exception e2) {
-                // Ignore
+            double value = cell.getNumericCellValue();
+            if (value != (int) value) {
+                throw new IllegalArgumentException("Número inválido: " + get(column));
             }
+            return (int) value;
         }
-        
-        throw new IllegalArgumentException("Formato de mês inválido: " + monthStr + ". Use MM/yyyy ou yyyy-MM");
-    }
 
-    private BigDecimal parseCurrency(String valueStr) {
-        if (valueStr == null || valueStr.trim().isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-        
-        // Remove R$, spaces, and replace comma with dot
-        String cleanValue = valueStr.trim()
-                .replace("R$", "")
-                .replace("$", "")
-                .replace(" ", "")
-                .replace(",", ".");
-        
-        try {
-            return new BigDecimal(cleanValue);
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Valor monetário inválido: " + valueStr);
+        @Override
+        public Long longValue(int column) {
+            Cell cell = numericCell(column);
+            if (cell == null || DateUtil.isCellDateFormatted(cell)) {
+                return ImportPlan.RowValues.super.longValue(column);
+            }
+            double value = cell.getNumericCellValue();
+            if (value != (long) value) {
+                throw new IllegalArgumentException("Número inválido: " + get(column));
+            }
+            return (long) value;
         }
-    }
 
-    private Boolean parseBoolean(String valueStr) {
-        if (valueStr == null || valueStr.trim().isEmpty()) {
-            return false;
+        /**
+         * The cell if it holds a number (directly or as a cached formula result), else null.
+         */
+        private Cell numericCell(int column) {
+            Cell cell = row.getCell(column);
+            if (cell == null) {
+                return null;
+            }
+            CellType type = cell.getCellType() == CellType.FORMULA ? cell.getCachedFormulaResultType() : cell.getCellType();
+            return type == CellType.NUMERIC ? cell : null;
         }
-        
-        String lower = valueStr.trim().toLowerCase();
-        return lower.equals("true") || lower.equals("sim") || lower.equals("s") 
-                || lower.equals("1") || lower.equals("yes") || lower.equals("y");
     }
 }
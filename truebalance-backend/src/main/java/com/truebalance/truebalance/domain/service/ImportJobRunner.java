@@ -0,0 +1,354 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.application.dto.input.BillBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.CreditCardBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.CreditCardImportItemDTO;
+import com.truebalance.truebalance.application.dto.input.InvoiceBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.InvoiceImportItemDTO;
+import com.truebalance.truebalance.domain.entity.ImportJob;
+import com.truebalance.truebalance.domain.entity.ImportJobStatus;
+import com.truebalance.truebalance.domain.port.ClusterLockPort;
+import com.truebalance.truebalance.domain.port.ClusterLockPort.ClusterLock;
+import com.truebalance.truebalance.domain.port.ImportJobRepositoryPort;
+import com.truebalance.truebalance.domain.usecase.ImportCreditCardsInBulk;
+import com.truebalance.truebalance.domain.usecase.ImportInvoicesInBulk;
+import com.truebalance.truebalance.domain.usecase.ImportProgressListener;
+import com.truebalance.truebalance.domain.usecase.ImportUnifiedData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs import jobs in the background and keeps their persisted progress up to date.
+ *
+ * The uploaded file is spooled to disk by the caller; the runner parses it, feeds the rows
+ * to the bulk import use cases and flushes the counters to the database periodically.
+ *
+ * Each instance has a random node ID, recorded as the owner of the jobs it accepts, and stamps
+ * the heartbeat of its PENDING and RUNNING jobs periodically. A job whose heartbeat is older than
+ * the stale threshold belongs to an instance that is gone (or cut off from the database), and only
+ * those jobs are failed by recovery. The liveness lives in the rows, so no connection is held for
+ * it between heartbeats.
+ */
+@Service
+public class ImportJobRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportJobRunner.class);
+
+    private static final int FLUSH_EVERY_ITEMS = 200;
+    private static final long FLUSH_EVERY_MILLIS = 2000;
+    private static final String INTERRUPTED_MESSAGE = "Interrompido: a instância que executava o job foi encerrada";
+    private static final String RECOVERY_LOCK = "import-job-recovery";
+
+    private final ImportJobRepositoryPort importJobRepositoryPort;
+    private final FileImportService fileImportService;
+    private final UnifiedImportService unifiedImportService;
+    private final BillImportPipeline billImportPipeline;
+    private final ImportInvoicesInBulk importInvoicesInBulk;
+    private final ImportCreditCardsInBulk importCreditCardsInBulk;
+    private final ImportUnifiedData importUnifiedData;
+    private final Executor importJobExecutor;
+    private final ClusterLockPort clusterLockPort;
+    private final Duration staleAfter;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<Long> cancelledJobs = ConcurrentHashMap.newKeySet();
+
+    public ImportJobRunner(ImportJobRepositoryPort importJobRepositoryPort,
+                           FileImportService fileImportService,
+                           UnifiedImportService unifiedImportService,
+                           BillImportPipeline billImportPipeline,
+                           ImportInvoicesInBulk importInvoicesInBulk,
+                           ImportCreditCardsInBulk importCreditCardsInBulk,
+                           ImportUnifiedData importUnifiedData,
+                           @Qualifier("importJobExecutor") Executor importJobExecutor,
+                           ClusterLockPort clusterLockPort,
+                           @Value("${truebalance.import.jobs.stale-after:2m}") Duration staleAfter) {
+        this.importJobRepositoryPort = importJobRepositoryPort;
+        this.fileImportService = fileImportService;
+        this.unifiedImportService = unifiedImportService;
+        this.billImportPipeline = billImportPipeline;
+        this.importInvoicesInBulk = importInvoicesInBulk;
+        this.importCreditCardsInBulk = importCreditCardsInBulk;
+        this.importUnifiedData = importUnifiedData;
+        this.importJobExecutor = importJobExecutor;
+        this.clusterLockPort = clusterLockPort;
+        this.staleAfter = staleAfter;
+    }
+
+    /**
+     * @return the ID of this instance, to be recorded as the owner of the jobs it runs
+     */
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Schedule a persisted PENDING job for execution.
+     *
+     * @param job     the job, already saved
+     * @param spooled the uploaded file spooled to disk; deleted once the job finishes
+     */
+    public void start(ImportJob job, Path spooled) {
+        importJobExecutor.execute(() -> run(job, spooled));
+    }
+
+    /**
+     * Signal a running job in this instance to stop at the next item.
+     */
+    public void cancel(Long jobId) {
+        cancelledJobs.add(jobId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        failInterruptedJobs();
+    }
+
+    /**
+     * Stamp the heartbeat of the jobs of this instance. Runs well within the stale threshold, so
+     * a few missed beats (a slow database, a long pause) do not get live jobs failed.
+     */
+    @Scheduled(fixedDelayString = "${truebalance.import.jobs.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        try {
+            importJobRepositoryPort.heartbeat(nodeId, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            logger.warn("Não foi possível registrar o heartbeat dos jobs de importação: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Jobs that were PENDING or RUNNING on an instance that stopped cannot be resumed (the
+     * spooled file lives in its temporary directory), so they are marked as FAILED. Jobs whose
+     * owner stamped them within the stale threshold, and the jobs of this instance, are left
+     * alone. Runs at startup and periodically, so the jobs of an instance that crashed are failed
+     * even if it never comes back; one instance at a time.
+     */
+    @Scheduled(fixedDelayString = "${truebalance.import.jobs.recovery-interval-ms:300000}",
+            initialDelayString = "${truebalance.import.jobs.recovery-interval-ms:300000}")
+    public void failInterruptedJobs() {
+        Optional<ClusterLock> recoveryLock = clusterLockPort.tryLock(RECOVERY_LOCK);
+        if (recoveryLock.isEmpty()) {
+            logger.debug("Recuperação de jobs de importação em execução por outra instância");
+            return;
+        }
+
+        try (ClusterLock ignored = recoveryLock.get()) {
+            List<ImportJob> active = importJobRepositoryPort.findByStatusIn(
+                    List.of(ImportJobStatus.PENDING, ImportJobStatus.RUNNING));
+
+            LocalDateTime staleBefore = LocalDateTime.now().minus(staleAfter);
+            int interrupted = 0;
+            for (ImportJob job : active) {
+                if (nodeId.equals(job.getOwnerNode()) || isAlive(job, staleBefore)) {
+                    continue;
+                }
+                job.setStatus(ImportJobStatus.FAILED);
+                job.setErrorMessage(INTERRUPTED_MESSAGE);
+                job.setFinishedAt(LocalDateTime.now());
+                importJobRepositoryPort.save(job);
+                interrupted++;
+            }
+
+            if (interrupted > 0) {
+                logger.warn("{} job(s) de importação de instâncias encerradas marcados como falhos", interrupted);
+            }
+        }
+    }
+
+    /**
+     * Whether the owner of a job stamped it recently; jobs saved before heartbeats existed count
+     * from their last update.
+     */
+    private static boolean isAlive(ImportJob job, LocalDateTime staleBefore) {
+        LocalDateTime lastSeen = job.getHeartbeatAt() != null ? job.getHeartbeatAt() : job.getUpdatedAt();
+        return job.getOwnerNode() != null && lastSeen != null && lastSeen.isAfter(staleBefore);
+    }
+
+    void run(ImportJob job, Path spooled) {
+        Long jobId = job.getId();
+        ProgressTracker tracker = new ProgressTracker(job);
+
+        try {
+            // Targeted update: saving the whole job here would overwrite a cancel issued meanwhile
+            LocalDateTime startedAt = LocalDateTime.now();
+            if (!importJobRepositoryPort.markRunning(jobId, startedAt)) {
+                if (importJobRepositoryPort.isCancelRequested(jobId)) {
+                    finish(jobId, ImportJobStatus.CANCELLED, tracker, null);
+                } else {
+                    logger.warn("Job de importação {} não está mais pendente; execução ignorada", jobId);
+                }
+                return;
+            }
+            job.setStatus(ImportJobStatus.RUNNING);
+            job.setStartedAt(startedAt);
+            logger.info("Job de importação {} iniciado ({}, arquivo {})", jobId, job.getType(), job.getFilename());
+
+            execute(job, spooled, tracker);
+
+            tracker.flush();
+            finish(jobId, tracker.isCancelled() ? ImportJobStatus.CANCELLED : ImportJobStatus.COMPLETED, tracker, null);
+        } catch (Exception e) {
+            logger.error("Erro no job de importação {}: {}", jobId, e.getMessage(), e);
+            finish(jobId, ImportJobStatus.FAILED, tracker, e.getMessage());
+        } finally {
+            cancelledJobs.remove(jobId);
+            try {
+                Files.deleteIfExists(spooled);
+            } catch (IOException e) {
+                logger.warn("Não foi possível remover arquivo temporário {}", spooled, e);
+            }
+        }
+    }
+
+    private void execute(ImportJob job, Path spooled, ProgressTracker tracker) throws Exception {
+        String filename = job.getFilename();
+        String strategy = job.getDuplicateStrategy();
+
+        try (InputStream inputStream = Files.newInputStream(spooled)) {
+            switch (job.getType()) {
+                case BILLS -> {
+                    // Streamed: the total grows as the parser stage reads rows
+                    billImportPipeline.run(filename, spooled,
+                            BillBulkImportRequestDTO.DuplicateStrategy.valueOf(strategy), tracker);
+                }
+                case INVOICES -> {
+                    List<InvoiceImportItemDTO> items = fileImportService.parseInvoicesFromFile(filename, inputStream);
+                    tracker.setTotal(items.size());
+                    InvoiceBulkImportRequestDTO request = new InvoiceBulkImportRequestDTO();
+                    request.setItems(items);
+                    request.setDuplicateStrategy(InvoiceBulkImportRequestDTO.DuplicateStrategy.valueOf(strategy));
+                    importInvoicesInBulk.execute(request, tracker);
+                }
+                case CREDIT_CARDS -> {
+                    List<CreditCardImportItemDTO> items = fileImportService.parseCreditCardsFromFile(filename, inputStream);
+                    tracker.setTotal(items.size());
+                    CreditCardBulkImportRequestDTO request = new CreditCardBulkImportRequestDTO();
+                    request.setItems(items);
+                    request.setDuplicateStrategy(CreditCardBulkImportRequestDTO.DuplicateStrategy.valueOf(strategy));
+                    importCreditCardsInBulk.execute(request, tracker);
+                }
+                case UNIFIED -> {
+                    UnifiedImportService.UnifiedImportResult parsed = unifiedImportService.parseUnifiedFile(filename, inputStream);
+                    tracker.setTotal(parsed.getBills().size() + parsed.getCreditCards().size() + parsed.getInvoices().size());
+                    importUnifiedData.execute(parsed, strategy, tracker);
+                }
+            }
+        }
+    }
+
+    private void finish(Long jobId, ImportJobStatus status, ProgressTracker tracker, String errorMessage) {
+        ImportJob job = importJobRepositoryPort.findById(jobId).orElseThrow();
+        tracker.copyCountersTo(job);
+        job.setStatus(status);
+        job.setErrorMessage(errorMessage);
+        job.setFinishedAt(LocalDateTime.now());
+        importJobRepositoryPort.save(job);
+        logger.info("Job de importação {} finalizado com status {}: {} criados, {} ignorados, {} erros",
+                jobId, status, job.getCreatedRows(), job.getSkippedRows(), job.getFailedRows());
+    }
+
+    /**
+     * Counts items as the use cases report them and flushes to the database every
+     * {@value #FLUSH_EVERY_ITEMS} items or {@value #FLUSH_EVERY_MILLIS} ms, whichever comes first.
+     * The cancellation flag is re-read from the database at the same checkpoints, so a cancel
+     * issued through another instance is honoured too.
+     */
+    private class ProgressTracker implements ImportProgressListener {
+
+        private final ImportJob job;
+        private final AtomicInteger total = new AtomicInteger();
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private int sinceLastFlush;
+        private long lastFlushAt = System.currentTimeMillis();
+        private volatile boolean cancelled;
+
+        ProgressTracker(ImportJob job) {
+            this.job = job;
+        }
+
+        void setTotal(int totalRows) {
+            total.set(totalRows);
+            flush();
+        }
+
+        @Override
+        public void onItemParsed() {
+            total.incrementAndGet();
+        }
+
+        @Override
+        public void onItemCreated() {
+            created.incrementAndGet();
+            checkpoint();
+        }
+
+        @Override
+        public void onItemSkipped() {
+            skipped.incrementAndGet();
+            checkpoint();
+        }
+
+        @Override
+        public void onItemFailed() {
+            failed.incrementAndGet();
+            checkpoint();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            if (!cancelled && cancelledJobs.contains(job.getId())) {
+                cancelled = true;
+            }
+            return cancelled;
+        }
+
+        private synchronized void checkpoint() {
+            sinceLastFlush++;
+            if (sinceLastFlush >= FLUSH_EVERY_ITEMS
+                    || System.currentTimeMillis() - lastFlushAt >= FLUSH_EVERY_MILLIS) {
+                flush();
+                if (importJobRepositoryPort.isCancelRequested(job.getId())) {
+                    cancelled = true;
+                }
+            }
+        }
+
+        synchronized void flush() {
+            copyCountersTo(job);
+            importJobRepositoryPort.updateProgress(job);
+            sinceLastFlush = 0;
+            lastFlushAt = System.currentTimeMillis();
+        }
+
+        void copyCountersTo(ImportJob target) {
+            target.setTotalRows(total.get());
+            target.setCreatedRows(created.get());
+            target.setSkippedRows(skipped.get());
+            target.setFailedRows(failed.get());
+            target.setProcessedRows(created.get() + skipped.get() + failed.get());
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package com.truebalance.truebalance.domain.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column mapping of an import file, compiled once from its header and a sample of rows.
+ *
+ * Each logical field (e.g. "totalAmount") is resolved to the first of its header aliases present
+ * in the file, and the date/month/decimal format of its column is detected from the sample. Rows
+ * are then converted through {@link Accessor}s bound to a column index and format, instead of
+ * probing every alias on every row.
+ */
+public final class ImportPlan {
+
+    /** Number of data rows inspected to detect column formats. */
+    public static final int SAMPLE_ROWS = 20;
+
+    public static final String DATE_BR = "dd/MM/yyyy";
+    public static final String DATE_ISO = "yyyy-MM-dd";
+    public static final String MONTH_BR = "MM/yyyy";
+    public static final String MONTH_ISO = "yyyy-MM";
+    /** Single '.' or ',' as decimal separator, no grouping. */
+    public static final String DECIMAL_PLAIN = "0.00";
+    /** '.' groups thousands, ',' is the decimal separator. */
+    public static final String DECIMAL_BR = "#.##0,00";
+    /** ',' groups thousands, '.' is the decimal separator. */
+    public static final String DECIMAL_US = "#,##0.00";
+
+    public enum FieldType { TEXT, DECIMAL, DATE, MONTH, INTEGER, BOOLEAN }
+
+    /**
+     * Logical field of an import file and the header names accepted for it, in priority order.
+     */
+    public record Field(String name, FieldType type, List<String> aliases) {
+
+        public static Field of(String name, FieldType type, String... aliases) {
+            return new Field(name, type, List.of(aliases));
+        }
+    }
+
+    /**
+     * A field resolved to a column of the file. {@code format} is null for text, integer and boolean columns.
+     */
+    public record Column(String field, String header, int index, String format) {
+    }
+
+    /**
+     * Values of the current row. Only {@link #get} is required; the typed reads parse that text
+     * with {@link TypedConverters} and may be overridden by sources that hold typed values already
+     * (numeric/date spreadsheet cells) or can parse without building a String (mapped CSV bytes).
+     * Typed reads return null for a blank value and throw {@link IllegalArgumentException} for an
+     * invalid one.
+     */
+    @FunctionalInterface
+    public interface RowValues {
+
+        /**
+         * Raw value of a column, or null if the row has no such cell.
+         */
+        String get(int column);
+
+        /**
+         * @param grouping thousands separator of the column ('.' or ','), or 0 if unknown
+         */
+        default BigDecimal decimal(int column, char grouping) {
+            String value = trimToNull(get(column));
+            if (value == null) {
+                return null;
+            }
+            BigDecimal result = TypedConverters.parseDecimal(value, grouping);
+            if (result == null) {
+                throw new IllegalArgumentException("Valor monetário inválido: " + value);
+            }
+            return result;
+        }
+
+        default LocalDate date(int column) {
+            String value = trimToNull(get(column));
+            if (value == null) {
+                return null;
+            }
+            LocalDate result = TypedConverters.parseDate(value);
+            if (result == null) {
+                throw new IllegalArgumentException("Formato de data inválido: " + value + ". Use dd/MM/yyyy");
+            }
+            return result;
+        }
+
+        default LocalDate month(int column) {
+            String value = trimToNull(get(column));
+            if (value == null) {
+                return null;
+            }
+            LocalDate result = TypedConverters.parseMonth(value);
+            if (result == null) {
+                throw new IllegalArgumentException("Formato de mês inválido: " + value + ". Use MM/yyyy ou yyyy-MM");
+            }
+            return result;
+        }
+
+        default Integer integer(int column) {
+            String value = trimToNull(get(column));
+            if (value == null) {
+                return null;
+            }
+            Integer result = TypedConverters.parseInt(value);
+            if (result == null) {
+                throw new IllegalArgumentException("Número inválido: " + value);
+            }
+            return result;
+        }
+
+        default Long longValue(int column) {
+            String value = trimToNull(get(column));
+            if (value == null) {
+                return null;
+            }
+            Long result = TypedConverters.parseLong(value);
+            if (result == null) {
+                throw new IllegalArgumentException("Número inválido: " + value);
+            }
+            return result;
+        }
+
+        default Boolean bool(int column) {
+            String value = trimToNull(get(column));
+            return value != null ? TypedConverters.parseBoolean(value) : null;
+        }
+    }
+
+    /**
+     * Reads one field from a row; returns null when the column is unmapped or the value is blank.
+     */
+    @FunctionalInterface
+    public interface Accessor<T> {
+        T read(RowValues row);
+    }
+
+    public static final List<Field> BILL_FIELDS = List.of(
+            Field.of("name", FieldType.TEXT, "Nome", "name"),
+            Field.of("description", FieldType.TEXT, "Descrição", "description"),
+            Field.of("executionDate", FieldType.DATE, "Data", "date", "executionDate"),
+            Field.of("totalAmount", FieldType.DECIMAL, "Valor Total", "totalAmount"),
+            Field.of("numberOfInstallments", FieldType.INTEGER, "Número de Parcelas", "numberOfInstallments"),
+            Field.of("creditCardId", FieldType.TEXT, "ID Cartão", "creditCardId")
+    );
+
+    public static final List<Field> INVOICE_FIELDS = List.of(
+            Field.of("creditCardId", FieldType.TEXT, "ID Cartão", "Cartão de Crédito", "creditCardId"),
+            Field.of("referenceMonth", FieldType.MONTH, "Mês de Referência", "referenceMonth"),
+            Field.of("totalAmount", FieldType.DECIMAL, "Valor Total", "totalAmount"),
+            Field.of("previousBalance", FieldType.DECIMAL, "Saldo Anterior", "previousBalance"),
+            Field.of("closed", FieldType.BOOLEAN, "Fechada", "closed"),
+            Field.of("paid", FieldType.BOOLEAN, "Paga", "paid")
+    );
+
+    public static final List<Field> CREDIT_CARD_FIELDS = List.of(
+            Field.of("id", FieldType.TEXT, "ID", "id"),
+            Field.of("name", FieldType.TEXT, "Nome", "name"),
+            Field.of("creditLimit", FieldType.DECIMAL, "Limite de Crédito", "Limite", "creditLimit"),
+            Field.of("closingDay", FieldType.INTEGER, "Dia de Fechamento", "Dia Fechamento", "closingDay"),
+            Field.of("dueDay", FieldType.INTEGER, "Dia de Vencimento", "Dia Vencimento", "dueDay"),
+            Field.of("allowsPartialPayment", FieldType.BOOLEAN, "Permite Pagamento Parcial", "Pagamento Parcial", "allowsPartialPayment")
+    );
+
+    private final Map<String, Column> columns;
+    private final List<String> unmappedHeaders;
+    private final List<String> missingFields;
+
+    private ImportPlan(Map<String, Column> columns, List<String> unmappedHeaders, List<String> missingFields) {
+        this.columns = columns;
+        this.unmappedHeaders = unmappedHeaders;
+        this.missingFields = missingFields;
+    }
+
+    /**
+     * Builds the plan for a file.
+     *
+     * @param headers header cells by column index (null entries for empty cells)
+     * @param fields  logical fields expected in the file
+     * @param sample  first data rows, used to detect formats
+     */
+    public static ImportPlan compile(List<String> headers, List<Field> fields, List<RowValues> sample) {
+        Map<String, Integer> headerIndex = new HashMap<>();
+        for (int i = 0; i < headers.size(); i++) {
+            String header = headers.get(i) != null ? headers.get(i).trim() : "";
+            if (!header.isEmpty()) {
+                headerIndex.putIfAbsent(header, i);
+            }
+        }
+
+        Map<String, Column> columns = new LinkedHashMap<>();
+        List<String> missingFields = new ArrayList<>();
+        for (Field field : fields) {
+            Column column = null;
+            for (String alias : field.aliases()) {
+                Integer index = headerIndex.get(alias);
+                if (index != null) {
+                    column = new Column(field.name(), alias, index, detectFormat(field.type(), index, sample));
+                    break;
+                }
+            }
+            if (column != null) {
+                columns.put(field.name(), column);
+            } else {
+                missingFields.add(field.name());
+            }
+        }
+
+        List<String> unmappedHeaders = new ArrayList<>();
+        for (int i = 0; i < headers.size(); i++) {
+            int index = i;
+            String header = headers.get(i);
+            if (header != null && !header.trim().isEmpty()
+                    && columns.values().stream().noneMatch(column -> column.index() == index)) {
+                unmappedHeaders.add(header.trim());
+            }
+        }
+
+        return new ImportPlan(columns, unmappedHeaders, missingFields);
+    }
+
+    public List<Column> getColumns() {
+        return new ArrayList<>(columns.values());
+    }
+
+    public List<String> getUnmappedHeaders() {
+        return Collections.unmodifiableList(unmappedHeaders);
+    }
+
+    public List<String> getMissingFields() {
+        return Collections.unmodifiableList(missingFields);
+    }
+
+    /**
+     * @return the column index of the field, or -1 if the file has no column for it
+     */
+    public int columnIndex(String field) {
+        Column column = columns.get(field);
+        return column != null ? column.index() : -1;
+    }
+
+    /**
+     * @return the detected format of the field's column, or null if unmapped or untyped
+     */
+    public String format(String field) {
+        Column column = columns.get(field);
+        return column != null ? column.format() : null;
+    }
+
+    // ========== Accessors ==========
+
+    public Accessor<String> text(String field) {
+        int column = columnIndex(field);
+        if (column < 0) {
+            return row -> null;
+        }
+        return row -> trimToNull(row.get(column));
+    }
+
+    public Accessor<BigDecimal> decimal(String field) {
+        int column = columnIndex(field);
+        if (column < 0) {
+            return row -> null;
+        }
+        char grouping = groupingSeparator(format(field));
+        return row -> row.decimal(column, grouping);
+    }
+
+    /**
+     * Both date shapes are accepted whatever the detected format; they cannot be confused.
+     */
+    public Accessor<LocalDate> date(String field) {
+        int column = columnIndex(field);
+        if (column < 0) {
+            return row -> null;
+        }
+        return row -> row.date(column);
+    }
+
+    public Accessor<LocalDate> month(String field) {
+        int column = columnIndex(field);
+        if (column < 0) {
+            return row -> null;
+        }
+        return row -> row.month(column);
+    }
+
+    public Accessor<Integer> integer(String field) {
+        int column = columnIndex(field);
+        if (column < 0) {
+            return row -> null;
+        }
+        return row -> row.integer(column);
+    }
+
+    public Accessor<Long> longValue(String field) {
+        int column = columnIndex(field);
+        if (column < 0) {
+            return row -> null;
+        }
+        return row -> row.longValue(column);
+    }
+
+    public Accessor<Boolean> bool(String field) {
+        int column = columnIndex(field);
+        if (column < 0) {
+            return row -> null;
+        }
+        return row -> row.bool(column);
+    }
+
+    // ========== Format detection ==========
+
+    private static String detectFormat(FieldType type, int column, List<RowValues> sample) {
+        return switch (type) {
+            case DECIMAL -> detectDecimalFormat(column, sample);
+            case DATE -> detectDateFormat(column, sample);
+            case MONTH -> detectMonthFormat(column, sample);
+            default -> null;
+        };
+    }
+
+    private static String detectDecimalFormat(int column, List<RowValues> sample) {
+        for (RowValues row : sample) {
+            String value = trimToNull(row.get(column));
+            if (value == null) {
+                continue;
+            }
+            int firstDot = value.indexOf('.');
+            int firstComma = value.indexOf(',');
+            if (firstDot >= 0 && firstComma >= 0) {
+                return firstDot < firstComma ? DECIMAL_BR : DECIMAL_US;
+            }
+            if (firstDot >= 0 && firstDot != value.lastIndexOf('.')) {
+                return DECIMAL_BR;
+            }
+            if (firstComma >= 0 && firstComma != value.lastIndexOf(',')) {
+                return DECIMAL_US;
+            }
+        }
+        return DECIMAL_PLAIN;
+    }
+
+    private static String detectDateFormat(int column, List<RowValues> sample) {
+        int iso = 0;
+        int br = 0;
+        for (RowValues row : sample) {
+            String value = trimToNull(row.get(column));
+            if (value == null) {
+                continue;
+            }
+            if (isIsoDateShape(value)) {
+                iso++;
+            } else if (isBrDateShape(value)) {
+                br++;
+            }
+        }
+        return iso > br ? DATE_ISO : DATE_BR;
+    }
+
+    private static String detectMonthFormat(int column, List<RowValues> sample) {
+        int iso = 0;
+        int br = 0;
+        for (RowValues row : sample) {
+            String value = trimToNull(row.get(column));
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf('-') > 0) {
+                iso++;
+            } else if (value.indexOf('/') > 0) {
+                br++;
+            }
+        }
+        return iso > br ? MONTH_ISO : MONTH_BR;
+    }
+
+    // ========== Helpers ==========
+
+    static char groupingSeparator(String format) {
+        if (DECIMAL_BR.equals(format)) {
+            return '.';
+        }
+        if (DECIMAL_US.equals(format)) {
+            return ',';
+        }
+        return 0;
+    }
+
+    private static boolean isBrDateShape(String value) {
+        return value.length() == 10 && value.charAt(2) == '/' && value.charAt(5) == '/';
+    }
+
+    private static boolean isIsoDateShape(String value) {
+        return value.length() == 10 && value.charAt(4) == '-' && value.charAt(7) == '-';
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,114 @@
+package com.truebalance.truebalance.domain.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the CSV reports of summary-mode imports (and of the invoice consistency check) on disk
+ * until they expire.
+ *
+ * Reports are named by a random UUID, which is the only thing a client gets back, and expired
+ * reports are removed whenever a new one is created.
+ */
+@Service
+public class ImportReportStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportReportStore.class);
+
+    private final Path directory;
+    private final Duration retention;
+    private final int maxExamples;
+
+    public ImportReportStore(@Value("${truebalance.import.reports.dir:${java.io.tmpdir}/truebalance-import-reports}") String directory,
+                             @Value("${truebalance.import.reports.retention-hours:24}") long retentionHours,
+                             @Value("${truebalance.import.reports.max-examples:20}") int maxExamples) {
+        this.directory = Path.of(directory);
+        this.retention = Duration.ofHours(retentionHours);
+        this.maxExamples = maxExamples;
+    }
+
+    /**
+     * A new report file being written.
+     *
+     * @param reportId ID under which the report can be downloaded
+     * @param writer   destination of the CSV; the caller must close it
+     */
+    public record NewReport(String reportId, Writer writer) {
+    }
+
+    /**
+     * Start a new report.
+     *
+     * @return a collector writing to the new report; the caller must close it (or call finish)
+     */
+    public ImportSummaryCollector newCollector() throws IOException {
+        NewReport report = newReport();
+        return new ImportSummaryCollector(report.reportId(), report.writer(), maxExamples);
+    }
+
+    /**
+     * Start a new report that is not an import summary (the invoice consistency check writes its
+     * findings here). It expires and is downloaded like the import reports.
+     */
+    public NewReport newReport() throws IOException {
+        Files.createDirectories(directory);
+        purgeExpired();
+
+        String reportId = UUID.randomUUID().toString();
+        Path path = directory.resolve(reportId + ".csv");
+        logger.debug("Criando relatório {}", path);
+        return new NewReport(reportId, Files.newBufferedWriter(path, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param reportId ID returned in the import summary
+     * @return the report file, if the ID is valid and the report has not expired
+     */
+    public Optional<Path> find(String reportId) {
+        try {
+            UUID.fromString(reportId);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        Path path = directory.resolve(reportId + ".csv");
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    private void purgeExpired() {
+        Instant limit = Instant.now().minus(retention);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> path.getFileName().toString().endsWith(".csv"))
+                    .filter(path -> isOlderThan(path, limit))
+                    .forEach(path -> {
+                        try {
+                            Files.deleteIfExists(path);
+                        } catch (IOException e) {
+                            logger.warn("Não foi possível remover relatório expirado {}", path, e);
+                        }
+                    });
+        } catch (IOException e) {
+            logger.warn("Não foi possível limpar relatórios de importação expirados: {}", e.getMessage());
+        }
+    }
+
+    private static boolean isOlderThan(Path path, Instant limit) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(limit);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
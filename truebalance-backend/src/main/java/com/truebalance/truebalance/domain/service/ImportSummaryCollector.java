@@ -0,0 +1,239 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.application.dto.output.BillImportResultDTO;
+import com.truebalance.truebalance.application.dto.output.BillResponseDTO;
+import com.truebalance.truebalance.application.dto.output.CreditCardDuplicateInfoDTO;
+import com.truebalance.truebalance.application.dto.output.CreditCardImportResultDTO;
+import com.truebalance.truebalance.application.dto.output.CreditCardResponseDTO;
+import com.truebalance.truebalance.application.dto.output.DuplicateInfoDTO;
+import com.truebalance.truebalance.application.dto.output.ImportErrorDTO;
+import com.truebalance.truebalance.application.dto.output.ImportErrorGroupDTO;
+import com.truebalance.truebalance.application.dto.output.ImportSummaryDTO;
+import com.truebalance.truebalance.application.dto.output.InvoiceDuplicateInfoDTO;
+import com.truebalance.truebalance.application.dto.output.InvoiceImportResultDTO;
+import com.truebalance.truebalance.application.dto.output.InvoiceResponseDTO;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Folds import results into an {@link ImportSummaryDTO} of bounded size while writing the detail
+ * of every row to a CSV report.
+ *
+ * Results can be added in parts (one per batch) and the parts discarded afterwards, so a streamed
+ * import keeps only the current batch in memory. Methods are synchronized: the bill pipeline adds
+ * validation errors and written batches from different threads.
+ */
+public class ImportSummaryCollector implements Closeable {
+
+    static final String REPORT_HEADER = "linha,resultado,id,descricao,campo,mensagem,valor";
+    static final String OTHER_CAUSES = "Outras causas";
+    static final int MAX_ERROR_GROUPS = 50;
+
+    // Numbers in messages (IDs, amounts, line numbers) vary per row and must not split a cause
+    private static final Pattern NUMBER = Pattern.compile("-?\\d+(?:[.,]\\d+)*");
+
+    private final String reportId;
+    private final Writer report;
+    private final int maxExamples;
+
+    private int totalCreated;
+    private int totalSkipped;
+    private int totalErrors;
+    private final List<Object> createdExamples = new ArrayList<>();
+    private final List<Object> duplicateExamples = new ArrayList<>();
+    private final List<ImportErrorDTO> errorExamples = new ArrayList<>();
+    private final Map<String, ImportErrorGroupDTO> errorGroups = new LinkedHashMap<>();
+    private boolean closed;
+
+    /**
+     * @param reportId    ID under which the report can be downloaded
+     * @param report      destination of the CSV report; closed by {@link #close()}
+     * @param maxExamples how many examples to keep per outcome (and line numbers per error group)
+     */
+    public ImportSummaryCollector(String reportId, Writer report, int maxExamples) {
+        this.reportId = reportId;
+        this.report = report;
+        this.maxExamples = maxExamples;
+        writeLine(REPORT_HEADER);
+    }
+
+    public String getReportId() {
+        return reportId;
+    }
+
+    public synchronized void addBills(BillImportResultDTO result) {
+        count(result.getTotalCreated(), result.getTotalSkipped(), result.getTotalErrors());
+        for (BillResponseDTO bill : result.getCreatedBills()) {
+            created(bill, bill.getId(), bill.getName());
+        }
+        for (DuplicateInfoDTO duplicate : result.getDuplicatesFound()) {
+            skipped(duplicate, duplicate.getLineNumber(), duplicate.getExistingBillId(), duplicate.getName(),
+                    duplicate.getReason());
+        }
+        result.getErrors().forEach(this::failed);
+    }
+
+    public synchronized void addInvoices(InvoiceImportResultDTO result) {
+        count(result.getTotalCreated(), result.getTotalSkipped(), result.getTotalErrors());
+        for (InvoiceResponseDTO invoice : result.getCreatedInvoices()) {
+            created(invoice, invoice.getId(), describeInvoice(invoice.getCreditCardId(), invoice.getReferenceMonth()));
+        }
+        for (InvoiceDuplicateInfoDTO duplicate : result.getDuplicatesFound()) {
+            skipped(duplicate, duplicate.getLineNumber(), duplicate.getExistingInvoiceId(),
+                    describeInvoice(duplicate.getCreditCardId(), duplicate.getReferenceMonth()), duplicate.getReason());
+        }
+        result.getErrors().forEach(this::failed);
+    }
+
+    public synchronized void addCreditCards(CreditCardImportResultDTO result) {
+        count(result.getTotalCreated(), result.getTotalSkipped(), result.getTotalErrors());
+        for (CreditCardResponseDTO creditCard : result.getCreatedCreditCards()) {
+            created(creditCard, creditCard.getId(), creditCard.getName());
+        }
+        for (CreditCardDuplicateInfoDTO duplicate : result.getDuplicatesFound()) {
+            skipped(duplicate, duplicate.getLineNumber(), duplicate.getExistingCreditCardId(), duplicate.getName(),
+                    duplicate.getReason());
+        }
+        result.getErrors().forEach(this::failed);
+    }
+
+    /**
+     * Closes the report and returns the summary.
+     */
+    public synchronized ImportSummaryDTO finish() {
+        close();
+
+        ImportSummaryDTO summary = new ImportSummaryDTO();
+        summary.setTotalCreated(totalCreated);
+        summary.setTotalSkipped(totalSkipped);
+        summary.setTotalErrors(totalErrors);
+        summary.setTotalProcessed(totalCreated + totalSkipped + totalErrors);
+        summary.setCreatedExamples(new ArrayList<>(createdExamples));
+        summary.setDuplicateExamples(new ArrayList<>(duplicateExamples));
+        summary.setErrorExamples(new ArrayList<>(errorExamples));
+        summary.setErrorGroups(new ArrayList<>(errorGroups.values()));
+        summary.setReportId(reportId);
+        return summary;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            report.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao gravar relatório de importação: " + e.getMessage(), e);
+        }
+    }
+
+    private void count(Integer created, Integer skipped, Integer errors) {
+        totalCreated += created != null ? created : 0;
+        totalSkipped += skipped != null ? skipped : 0;
+        totalErrors += errors != null ? errors : 0;
+    }
+
+    private void created(Object example, Long id, String description) {
+        if (createdExamples.size() < maxExamples) {
+            createdExamples.add(example);
+        }
+        writeRow(null, "CRIADO", id, description, null, null, null);
+    }
+
+    private void skipped(Object example, Integer lineNumber, Long existingId, String description, String reason) {
+        if (duplicateExamples.size() < maxExamples) {
+            duplicateExamples.add(example);
+        }
+        writeRow(lineNumber, "IGNORADO", existingId, description, null, reason, null);
+    }
+
+    private void failed(ImportErrorDTO error) {
+        if (errorExamples.size() < maxExamples) {
+            errorExamples.add(error);
+        }
+
+        String cause = cause(error);
+        String key = error.getField() + '\u0000' + cause;
+        ImportErrorGroupDTO group = errorGroups.get(key);
+        if (group == null) {
+            if (errorGroups.size() < MAX_ERROR_GROUPS) {
+                group = new ImportErrorGroupDTO(error.getField(), cause, 0, null);
+                errorGroups.put(key, group);
+            } else {
+                group = errorGroups.computeIfAbsent(OTHER_CAUSES,
+                        k -> new ImportErrorGroupDTO(null, OTHER_CAUSES, 0, null));
+            }
+        }
+        group.setCount(group.getCount() + 1);
+        if (group.getLineNumbers().size() < maxExamples && error.getLineNumber() != null) {
+            group.getLineNumbers().add(error.getLineNumber());
+        }
+
+        writeRow(error.getLineNumber(), "ERRO", null, null, error.getField(), error.getMessage(), error.getValue());
+    }
+
+    /**
+     * The message with the rejected value and any numbers replaced, so rows failing for the same
+     * reason land in the same group.
+     */
+    static String cause(ImportErrorDTO error) {
+        String message = error.getMessage() != null ? error.getMessage() : "";
+        String value = error.getValue();
+        if (value != null && !value.isBlank()) {
+            message = message.replace(value, "{valor}");
+        }
+        return NUMBER.matcher(message).replaceAll("#");
+    }
+
+    private static String describeInvoice(Long creditCardId, Object referenceMonth) {
+        return "Cartão " + creditCardId + " - " + referenceMonth;
+    }
+
+    private void writeRow(Integer lineNumber, String outcome, Long id, String description,
+                          String field, String message, String value) {
+        StringBuilder line = new StringBuilder(128);
+        line.append(lineNumber != null ? lineNumber.toString() : "").append(',')
+                .append(outcome).append(',')
+                .append(id != null ? id.toString() : "").append(',');
+        appendQuoted(line, description);
+        line.append(',');
+        appendQuoted(line, field);
+        line.append(',');
+        appendQuoted(line, message);
+        line.append(',');
+        appendQuoted(line, value);
+        writeLine(line);
+    }
+
+    private void writeLine(CharSequence line) {
+        try {
+            report.append(line).append('\n');
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao gravar relatório de importação: " + e.getMessage(), e);
+        }
+    }
+
+    static void appendQuoted(StringBuilder line, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,106 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.port.InstallmentRepositoryPort.MonthlyCommitment;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the installment forecast aggregations in memory until installments change.
+ *
+ * Every write to installments (and every bill deletion, which drops its installments from the
+ * forecast) calls {@link #installmentsChanged()}, which discards all entries at once: a change is
+ * rare next to the reads, and finding the affected cards and months is not worth it. Entries also
+ * expire after a TTL, which bounds how long another instance's changes go unseen.
+ *
+ * An aggregation computed while a change was being made is not stored: each entry records the
+ * generation it was computed in, and the generation moves both when the change is made and when
+ * its transaction completes.
+ *
+ * Metrics: {@code truebalance.forecast.cache} (counter, tagged result=hit or miss).
+ */
+@Service
+public class InstallmentForecastCache {
+
+    private record Key(Long creditCardId, LocalDate from, LocalDate until) {
+    }
+
+    private record Entry(List<MonthlyCommitment> rows, long generation, long expiresAtNanos) {
+    }
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public InstallmentForecastCache(MeterRegistry meterRegistry,
+                                    @Value("${truebalance.forecast.cache-ttl:60s}") Duration ttl,
+                                    @Value("${truebalance.forecast.cache-max-entries:1000}") int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = Math.max(1, maxEntries);
+        this.hitCounter = meterRegistry.counter("truebalance.forecast.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("truebalance.forecast.cache", "result", "miss");
+    }
+
+    /**
+     * The cached aggregation for a card (or every card) and due date range, computing it if absent.
+     *
+     * @param creditCardId credit card ID, or null for every card
+     * @param from         first due date included
+     * @param until        first due date excluded
+     * @param loader       runs the aggregation
+     */
+    public List<MonthlyCommitment> get(Long creditCardId, LocalDate from, LocalDate until,
+                                       Supplier<List<MonthlyCommitment>> loader) {
+        Key key = new Key(creditCardId, from, until);
+        long current = generation.get();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.generation() == current && System.nanoTime() - entry.expiresAtNanos() < 0) {
+            hitCounter.increment();
+            return entry.rows();
+        }
+
+        missCounter.increment();
+        List<MonthlyCommitment> rows = List.copyOf(loader.get());
+        if (generation.get() == current) {
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            entries.put(key, new Entry(rows, current, System.nanoTime() + ttlNanos));
+        }
+        return rows;
+    }
+
+    /**
+     * Discard every entry, now and again when the current transaction (if any) completes.
+     */
+    public void installmentsChanged() {
+        invalidate();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate();
+                }
+            });
+        }
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+}
@@ -0,0 +1,212 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.port.ClusterLockPort;
+import com.truebalance.truebalance.domain.port.ClusterLockPort.ClusterLock;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort.DueInvoice;
+import com.truebalance.truebalance.domain.usecase.CloseDueInvoices;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Closes every invoice whose card closing day has passed, once a day.
+ *
+ * The due invoices are split into a fixed number of shards by credit card ID hash, so all invoices
+ * of a card are closed by the same worker, month by month. Every instance runs the job; a shard is
+ * closed by whichever instance takes its cluster lock first ({@link ClusterLockPort}) and skipped
+ * by the others, so adding replicas spreads the shards without closing anything twice. Each worker
+ * closes its invoices in batches through {@link CloseDueInvoices}; a failed batch is logged and
+ * counted, and the remaining invoices of its cards are left for the next run so a month is never
+ * closed before the previous one. Batches already committed stay closed, so a crashed run is
+ * resumed by running it again.
+ *
+ * Metrics: {@code truebalance.invoice.closing.closed}, {@code .failed}, {@code .carryovers},
+ * {@code .shards.locked-elsewhere} (counters) and {@code truebalance.invoice.closing.run},
+ * {@code .batch} (timers).
+ */
+@Service
+public class InvoiceClosingJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvoiceClosingJob.class);
+
+    static final String SHARD_LOCK_PREFIX = "invoice-closing-shard-";
+
+    private final CloseDueInvoices closeDueInvoices;
+    private final ClusterLockPort clusterLockPort;
+    private final Executor invoiceClosingExecutor;
+    private final boolean enabled;
+    private final int shards;
+    private final int batchSize;
+
+    private final Counter closedCounter;
+    private final Counter failedCounter;
+    private final Counter carryOverCounter;
+    private final Counter lockedElsewhereCounter;
+    private final Timer runTimer;
+    private final Timer batchTimer;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public InvoiceClosingJob(CloseDueInvoices closeDueInvoices,
+                             ClusterLockPort clusterLockPort,
+                             @Qualifier("invoiceClosingExecutor") Executor invoiceClosingExecutor,
+                             MeterRegistry meterRegistry,
+                             @Value("${truebalance.invoice-closing.enabled:true}") boolean enabled,
+                             @Value("${truebalance.invoice-closing.shards:16}") int shards,
+                             @Value("${truebalance.invoice-closing.batch-size:200}") int batchSize) {
+        this.closeDueInvoices = closeDueInvoices;
+        this.clusterLockPort = clusterLockPort;
+        this.invoiceClosingExecutor = invoiceClosingExecutor;
+        this.enabled = enabled;
+        this.shards = Math.max(1, shards);
+        this.batchSize = Math.max(1, batchSize);
+        this.closedCounter = meterRegistry.counter("truebalance.invoice.closing.closed");
+        this.failedCounter = meterRegistry.counter("truebalance.invoice.closing.failed");
+        this.carryOverCounter = meterRegistry.counter("truebalance.invoice.closing.carryovers");
+        this.lockedElsewhereCounter = meterRegistry.counter("truebalance.invoice.closing.shards.locked-elsewhere");
+        this.runTimer = meterRegistry.timer("truebalance.invoice.closing.run");
+        this.batchTimer = meterRegistry.timer("truebalance.invoice.closing.batch");
+    }
+
+    @Scheduled(cron = "${truebalance.invoice-closing.cron:0 15 0 * * *}")
+    public void scheduledRun() {
+        if (enabled) {
+            run(LocalDate.now());
+        }
+    }
+
+    /**
+     * Close the invoices due on the given date. Returns immediately with an empty result if a
+     * run is already in progress in this instance.
+     *
+     * @param date the closing date, usually today
+     * @return what the run did
+     */
+    public InvoiceClosingRunResult run(LocalDate date) {
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("Fechamento de faturas já em execução, ignorando nova execução");
+            return InvoiceClosingRunResult.empty();
+        }
+        long start = System.nanoTime();
+        try {
+            List<DueInvoice> due = closeDueInvoices.findDue(date);
+            logger.info("Fechamento de faturas em {}: {} faturas a fechar", date, due.size());
+
+            List<List<DueInvoice>> partitions = new ArrayList<>(shards);
+            for (int i = 0; i < shards; i++) {
+                partitions.add(new ArrayList<>());
+            }
+            for (DueInvoice invoice : due) {
+                partitions.get(shardOf(invoice.creditCardId())).add(invoice);
+            }
+
+            List<CompletableFuture<InvoiceClosingRunResult>> futures = new ArrayList<>();
+            for (int shard = 0; shard < shards; shard++) {
+                List<DueInvoice> partition = partitions.get(shard);
+                if (!partition.isEmpty()) {
+                    int shardNumber = shard;
+                    futures.add(CompletableFuture.supplyAsync(
+                            () -> closeShard(shardNumber, partition), invoiceClosingExecutor));
+                }
+            }
+
+            InvoiceClosingRunResult result = InvoiceClosingRunResult.empty();
+            for (CompletableFuture<InvoiceClosingRunResult> future : futures) {
+                result = result.plus(future.join());
+            }
+            long durationMillis = (System.nanoTime() - start) / 1_000_000;
+            result = result.withDuration(durationMillis);
+
+            logger.info("Fechamento de faturas concluído em {} ms: {} fechadas, {} ignoradas, {} com falha, "
+                            + "{} saldos transferidos, {} com outra instância",
+                    durationMillis, result.closed(), result.skipped(), result.failed(), result.carriedOver(),
+                    result.lockedElsewhere());
+            return result;
+        } finally {
+            runTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            running.set(false);
+        }
+    }
+
+    int shardOf(Long creditCardId) {
+        return Math.floorMod(creditCardId.hashCode(), shards);
+    }
+
+    /**
+     * Close the invoices of one shard under its cluster lock, or skip them if another instance
+     * holds the lock. Reprocessing a shard another instance already finished is harmless: its
+     * invoices are skipped as already closed.
+     */
+    private InvoiceClosingRunResult closeShard(int shard, List<DueInvoice> invoices) {
+        Optional<ClusterLock> lock = clusterLockPort.tryLock(SHARD_LOCK_PREFIX + shard);
+        if (lock.isEmpty()) {
+            logger.info("Shard {} do fechamento de faturas em execução por outra instância ({} faturas)",
+                    shard, invoices.size());
+            lockedElsewhereCounter.increment();
+            return new InvoiceClosingRunResult(invoices.size(), 0, 0, 0, 0, invoices.size(), 0);
+        }
+        try (ClusterLock ignored = lock.get()) {
+            return closePartition(invoices);
+        }
+    }
+
+    /**
+     * Close the invoices of one partition, batch by batch, in card and month order.
+     */
+    private InvoiceClosingRunResult closePartition(List<DueInvoice> invoices) {
+        Set<Long> failedCards = new HashSet<>();
+        List<DueInvoice> batch = new ArrayList<>(batchSize);
+        InvoiceClosingRunResult result = new InvoiceClosingRunResult(invoices.size(), 0, 0, 0, 0, 0, 0);
+
+        for (DueInvoice invoice : invoices) {
+            if (failedCards.contains(invoice.creditCardId())) {
+                result = result.plus(new InvoiceClosingRunResult(0, 0, 0, 1, 0, 0, 0));
+                failedCounter.increment();
+                continue;
+            }
+            batch.add(invoice);
+            if (batch.size() == batchSize) {
+                result = result.plus(closeBatch(batch, failedCards));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            result = result.plus(closeBatch(batch, failedCards));
+        }
+        return result;
+    }
+
+    private InvoiceClosingRunResult closeBatch(List<DueInvoice> batch, Set<Long> failedCards) {
+        List<Long> ids = batch.stream().map(DueInvoice::id).toList();
+        try {
+            CloseDueInvoices.BatchResult batchResult = batchTimer.recordCallable(() -> closeDueInvoices.closeBatch(ids));
+            closedCounter.increment(batchResult.closed());
+            carryOverCounter.increment(batchResult.carriedOver());
+            return new InvoiceClosingRunResult(0, batchResult.closed(), batchResult.skipped(), 0,
+                    batchResult.carriedOver(), 0, 0);
+        } catch (Exception e) {
+            batch.forEach(invoice -> failedCards.add(invoice.creditCardId()));
+            failedCounter.increment(ids.size());
+            logger.error("Falha ao fechar lote de {} faturas (IDs {}..{}): {}",
+                    ids.size(), ids.get(0), ids.get(ids.size() - 1), e.getMessage(), e);
+            return new InvoiceClosingRunResult(0, 0, 0, ids.size(), 0, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.truebalance.truebalance.domain.service;
+
+/**
+ * Outcome of one run of the invoice closing job.
+ *
+ * @param due             open invoices whose closing day had passed when the run started
+ * @param closed          invoices closed
+ * @param skipped         invoices already closed by someone else before their batch
+ * @param failed          invoices left open because their batch failed (or an earlier batch of
+ *                        the same card did); the next run retries them
+ * @param carriedOver     balances transferred to a next-month invoice
+ * @param lockedElsewhere invoices of shards being closed by another instance at the same time
+ * @param durationMillis  run time
+ */
+public record InvoiceClosingRunResult(int due, int closed, int skipped, int failed, int carriedOver,
+                                      int lockedElsewhere, long durationMillis) {
+
+    static InvoiceClosingRunResult empty() {
+        return new InvoiceClosingRunResult(0, 0, 0, 0, 0, 0, 0);
+    }
+
+    InvoiceClosingRunResult plus(InvoiceClosingRunResult other) {
+        return new InvoiceClosingRunResult(due + other.due, closed + other.closed, skipped + other.skipped,
+                failed + other.failed, carriedOver + other.carriedOver, lockedElsewhere + other.lockedElsewhere,
+                durationMillis);
+    }
+
+    InvoiceClosingRunResult withDuration(long durationMillis) {
+        return new InvoiceClosingRunResult(due, closed, skipped, failed, carriedOver, lockedElsewhere, durationMillis);
+    }
+}
@@ -0,0 +1,259 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.port.ClusterLockPort;
+import com.truebalance.truebalance.domain.port.ClusterLockPort.ClusterLock;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort.TotalMismatch;
+import com.truebalance.truebalance.domain.usecase.CheckInvoiceTotals;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares every invoice total with the sum of its installments and reports (optionally repairs)
+ * the ones that drifted.
+ *
+ * The credit cards with invoices are split into contiguous ID ranges of about the same size, and
+ * each range is checked with one query on its own worker. When repair is on, the open invoices
+ * found are recalculated in batches, each batch in its own transaction; a failed batch is logged,
+ * counted and left for the next run. Invoices that may hide an imported total (created before it
+ * was recorded) are reported but never repaired. Every finding goes to a CSV report served by
+ * {@code GET /invoices/consistency/reports/{id}}.
+ *
+ * Runs once a day when enabled, and on demand; only the instance holding the cluster lock runs it.
+ *
+ * Metrics: {@code truebalance.invoice.consistency.mismatches} (gauge, last run),
+ * {@code .repaired}, {@code .failed} (counters) and {@code truebalance.invoice.consistency.run} (timer).
+ */
+@Service
+public class InvoiceConsistencyJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvoiceConsistencyJob.class);
+
+    static final String LOCK_NAME = "invoice-consistency";
+    static final String REPORT_HEADER = "fatura,cartao,mes_referencia,fechada,total_fatura,total_parcelas,diferenca,acao";
+
+    private final CheckInvoiceTotals checkInvoiceTotals;
+    private final ClusterLockPort clusterLockPort;
+    private final ImportReportStore reportStore;
+    private final Executor invoiceConsistencyExecutor;
+    private final boolean enabled;
+    private final boolean repairEnabled;
+    private final int ranges;
+    private final int batchSize;
+
+    private final AtomicInteger lastMismatches = new AtomicInteger();
+    private final Counter repairedCounter;
+    private final Counter failedCounter;
+    private final Timer runTimer;
+
+    public InvoiceConsistencyJob(CheckInvoiceTotals checkInvoiceTotals,
+                                 ClusterLockPort clusterLockPort,
+                                 ImportReportStore reportStore,
+                                 @Qualifier("invoiceConsistencyExecutor") Executor invoiceConsistencyExecutor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${truebalance.invoice-consistency.enabled:true}") boolean enabled,
+                                 @Value("${truebalance.invoice-consistency.repair:false}") boolean repairEnabled,
+                                 @Value("${truebalance.invoice-consistency.ranges:8}") int ranges,
+                                 @Value("${truebalance.invoice-consistency.batch-size:200}") int batchSize) {
+        this.checkInvoiceTotals = checkInvoiceTotals;
+        this.clusterLockPort = clusterLockPort;
+        this.reportStore = reportStore;
+        this.invoiceConsistencyExecutor = invoiceConsistencyExecutor;
+        this.enabled = enabled;
+        this.repairEnabled = repairEnabled;
+        this.ranges = Math.max(1, ranges);
+        this.batchSize = Math.max(1, batchSize);
+        meterRegistry.gauge("truebalance.invoice.consistency.mismatches", lastMismatches);
+        this.repairedCounter = meterRegistry.counter("truebalance.invoice.consistency.repaired");
+        this.failedCounter = meterRegistry.counter("truebalance.invoice.consistency.failed");
+        this.runTimer = meterRegistry.timer("truebalance.invoice.consistency.run");
+    }
+
+    /**
+     * Invoices created before imported totals were recorded have none; give the ones where it can
+     * be told a zero imported total, so only the rest stay out of repair. Only touches those rows,
+     * so it does nothing once they are done.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            int updated = checkInvoiceTotals.backfillImportedAmounts();
+            if (updated > 0) {
+                logger.info("Total importado registrado como zero em {} faturas anteriores ao registro", updated);
+            }
+        } catch (Exception e) {
+            logger.warn("Falha ao registrar o total importado das faturas antigas: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${truebalance.invoice-consistency.cron:0 0 3 * * *}")
+    public void scheduledRun() {
+        if (enabled) {
+            run(repairEnabled);
+        }
+    }
+
+    /**
+     * Check every invoice total.
+     *
+     * @param repair whether to recalculate the totals of the open invoices found
+     * @return what the run found, or empty if another instance is running it
+     */
+    public Optional<InvoiceConsistencyRunResult> run(boolean repair) {
+        Optional<ClusterLock> lock = clusterLockPort.tryLock(LOCK_NAME);
+        if (lock.isEmpty()) {
+            logger.info("Verificação de totais de faturas em execução por outra instância");
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        try (ClusterLock ignored = lock.get()) {
+            return Optional.of(check(repair, start));
+        } finally {
+            runTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private InvoiceConsistencyRunResult check(boolean repair, long start) {
+        List<Long> creditCardIds = checkInvoiceTotals.findCreditCardIds();
+
+        List<CompletableFuture<RangeResult>> futures = new ArrayList<>();
+        for (long[] range : split(creditCardIds, ranges)) {
+            futures.add(CompletableFuture.supplyAsync(() -> checkRange(range[0], range[1], repair),
+                    invoiceConsistencyExecutor));
+        }
+
+        // Ranges are in ascending card order, so the report comes out ordered by card and month
+        List<TotalMismatch> mismatches = new ArrayList<>();
+        Set<Long> repaired = new HashSet<>();
+        Set<Long> failed = new HashSet<>();
+        int failedRanges = 0;
+        for (CompletableFuture<RangeResult> future : futures) {
+            RangeResult range = future.join();
+            mismatches.addAll(range.mismatches());
+            repaired.addAll(range.repaired());
+            failed.addAll(range.failed());
+            failedRanges += range.rangeFailed() ? 1 : 0;
+        }
+
+        int closedMismatches = (int) mismatches.stream().filter(TotalMismatch::closed).count();
+        long unknownOrigin = mismatches.stream().filter(mismatch -> !mismatch.closed() && !mismatch.originKnown()).count();
+        String reportId = writeReport(mismatches, repaired, failed);
+        lastMismatches.set(mismatches.size());
+        repairedCounter.increment(repaired.size());
+        failedCounter.increment(failed.size() + failedRanges);
+
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        logger.info("Verificação de totais de faturas concluída em {} ms: {} cartões, {} divergências "
+                        + "({} em faturas fechadas, {} de origem desconhecida), {} corrigidas, {} faixas com falha",
+                durationMillis, creditCardIds.size(), mismatches.size(), closedMismatches, unknownOrigin,
+                repaired.size(), failedRanges);
+        return new InvoiceConsistencyRunResult(creditCardIds.size(), mismatches.size(), closedMismatches,
+                repaired.size(), failed.size() + failedRanges, reportId, durationMillis);
+    }
+
+    /**
+     * Contiguous [first, last] credit card ID ranges with about the same number of cards each.
+     */
+    static List<long[]> split(List<Long> creditCardIds, int ranges) {
+        List<long[]> result = new ArrayList<>();
+        if (creditCardIds.isEmpty()) {
+            return result;
+        }
+        int size = (creditCardIds.size() + ranges - 1) / ranges;
+        for (int from = 0; from < creditCardIds.size(); from += size) {
+            int to = Math.min(from + size, creditCardIds.size()) - 1;
+            result.add(new long[]{creditCardIds.get(from), creditCardIds.get(to)});
+        }
+        return result;
+    }
+
+    private RangeResult checkRange(long fromCreditCardId, long toCreditCardId, boolean repair) {
+        List<TotalMismatch> mismatches;
+        try {
+            mismatches = checkInvoiceTotals.check(fromCreditCardId, toCreditCardId);
+        } catch (Exception e) {
+            logger.error("Falha ao verificar totais das faturas dos cartões {}..{}: {}",
+                    fromCreditCardId, toCreditCardId, e.getMessage(), e);
+            return new RangeResult(List.of(), Set.of(), Set.of(), true);
+        }
+
+        Set<Long> repaired = new HashSet<>();
+        Set<Long> failed = new HashSet<>();
+        if (repair) {
+            List<Long> open = mismatches.stream().filter(mismatch -> !mismatch.closed() && mismatch.originKnown())
+                    .map(TotalMismatch::invoiceId).toList();
+            for (int from = 0; from < open.size(); from += batchSize) {
+                List<Long> batch = open.subList(from, Math.min(from + batchSize, open.size()));
+                try {
+                    checkInvoiceTotals.repair(batch);
+                    repaired.addAll(batch);
+                } catch (Exception e) {
+                    failed.addAll(batch);
+                    logger.error("Falha ao corrigir lote de {} faturas (IDs {}..{}): {}",
+                            batch.size(), batch.get(0), batch.get(batch.size() - 1), e.getMessage(), e);
+                }
+            }
+        }
+        return new RangeResult(mismatches, repaired, failed, false);
+    }
+
+    private String writeReport(List<TotalMismatch> mismatches, Set<Long> repaired, Set<Long> failed) {
+        try {
+            ImportReportStore.NewReport report = reportStore.newReport();
+            try (Writer writer = report.writer()) {
+                writer.write(REPORT_HEADER + "\n");
+                for (TotalMismatch mismatch : mismatches) {
+                    writer.write(mismatch.invoiceId() + "," + mismatch.creditCardId() + "," + mismatch.referenceMonth()
+                            + "," + mismatch.closed() + "," + mismatch.totalAmount().toPlainString()
+                            + "," + mismatch.installmentsTotal().toPlainString()
+                            + "," + mismatch.difference().toPlainString()
+                            + "," + action(mismatch, repaired, failed) + "\n");
+                }
+            }
+            return report.reportId();
+        } catch (IOException e) {
+            logger.error("Não foi possível gravar o relatório de verificação de faturas: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private static String action(TotalMismatch mismatch, Set<Long> repaired, Set<Long> failed) {
+        if (mismatch.closed()) {
+            return "FATURA_FECHADA";
+        }
+        if (!mismatch.originKnown()) {
+            return "ORIGEM_DESCONHECIDA";
+        }
+        if (repaired.contains(mismatch.invoiceId())) {
+            return "CORRIGIDA";
+        }
+        if (failed.contains(mismatch.invoiceId())) {
+            return "ERRO";
+        }
+        return "PENDENTE";
+    }
+
+    private record RangeResult(List<TotalMismatch> mismatches, Set<Long> repaired, Set<Long> failed,
+                               boolean rangeFailed) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.truebalance.truebalance.domain.service;
+
+/**
+ * Outcome of one run of the invoice consistency check.
+ *
+ * @param checkedCards     credit cards with invoices when the run started
+ * @param mismatches       invoices whose total differed from the sum of their installments
+ * @param closedMismatches of those, closed invoices (reported, never repaired)
+ * @param repaired         open invoices whose total was recalculated
+ * @param failed           invoices not checked or not repaired because their range or batch failed
+ * @param reportId         ID of the CSV report, or null if it could not be written
+ * @param durationMillis   run time
+ */
+public record InvoiceConsistencyRunResult(int checkedCards, int mismatches, int closedMismatches, int repaired,
+                                          int failed, String reportId, long durationMillis) {
+}
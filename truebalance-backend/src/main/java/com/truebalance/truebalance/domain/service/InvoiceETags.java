@@ -0,0 +1,91 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Builds entity tags for invoice reads from the invoice {@code @Version}, so that a conditional
+ * GET can be answered with 304 after one or two small queries, without loading and serializing
+ * the invoice.
+ *
+ * Every invoice change (totals, previous balance, closed, paid) goes through JPA and increments
+ * the version. Partial payments do not touch the invoice, so the balance tag also carries the
+ * count and highest ID of its payments: registering one raises the highest ID, deleting one
+ * lowers the count.
+ *
+ * An empty result means no tag could be built (for example, the invoice does not exist); the
+ * caller then runs the regular read.
+ */
+@Service
+public class InvoiceETags {
+
+    private final InvoiceRepositoryPort invoiceRepository;
+    private final PartialPaymentRepositoryPort partialPaymentRepository;
+
+    public InvoiceETags(InvoiceRepositoryPort invoiceRepository,
+                        PartialPaymentRepositoryPort partialPaymentRepository) {
+        this.invoiceRepository = invoiceRepository;
+        this.partialPaymentRepository = partialPaymentRepository;
+    }
+
+    /**
+     * Tag of GET /invoices/{id}.
+     */
+    public Optional<String> forInvoice(Long invoiceId) {
+        return invoiceRepository.findVersionById(invoiceId)
+                .map(version -> "invoice-" + invoiceId + "-v" + version);
+    }
+
+    /**
+     * Tag of GET /invoices/{id}/balance: invoice version plus its partial payments.
+     */
+    public Optional<String> forBalance(Long invoiceId) {
+        return invoiceRepository.findVersionById(invoiceId)
+                .map(version -> "balance-" + invoiceId + "-v" + version
+                        + "-p" + partialPaymentRepository.countByInvoiceId(invoiceId)
+                        + "-" + partialPaymentRepository.maxIdByInvoiceId(invoiceId));
+    }
+
+    /**
+     * Tag of GET /invoices/{id}/installments. Installments are only moved between invoices by bill
+     * changes, which also update the invoice totals and so its version.
+     */
+    public Optional<String> forInstallments(Long invoiceId) {
+        return invoiceRepository.findVersionById(invoiceId)
+                .map(version -> "installments-" + invoiceId + "-v" + version);
+    }
+
+    /**
+     * Tag of GET /invoices/{id}/partial-payments: invoice version plus its partial payments.
+     */
+    public Optional<String> forPartialPayments(Long invoiceId) {
+        return forBalance(invoiceId).map(tag -> "payments" + tag.substring("balance".length()));
+    }
+
+    /**
+     * Tag of GET /credit-cards/{id}/invoices. Empty when the card has no invoices, so that a
+     * missing card still gets its 404.
+     */
+    public Optional<String> forCreditCardInvoices(Long creditCardId) {
+        InvoiceRepositoryPort.VersionSummary summary = invoiceRepository.summarizeVersionsByCreditCardId(creditCardId);
+        if (summary.count() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of("card-" + creditCardId + "-invoices-" + summary.count()
+                + "-" + summary.versionSum() + "-" + summary.maxId());
+    }
+
+    /**
+     * Tag of the invoice list with embedded balances: the list tag plus the partial payments
+     * of the card.
+     */
+    public Optional<String> forCreditCardInvoiceBalances(Long creditCardId) {
+        return forCreditCardInvoices(creditCardId).map(tag -> {
+            PartialPaymentRepositoryPort.IdSummary payments = partialPaymentRepository.summarizeIdsByCreditCardId(creditCardId);
+            return tag + "-balances-p" + payments.count() + "-" + payments.maxId();
+        });
+    }
+}
@@ -0,0 +1,160 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.port.ClusterLockPort;
+import com.truebalance.truebalance.domain.port.ClusterLockPort.ClusterLock;
+import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
+import com.truebalance.truebalance.domain.usecase.PregenerateInvoices;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a rolling horizon of empty invoices created ahead for every credit card, so purchases only
+ * look their invoices up ({@link PregenerateInvoices}).
+ *
+ * Runs once a day for all cards, which moves the horizon one month ahead at the turn of each month,
+ * under a cluster lock so only one instance does it. Cards are handled in batches, one transaction
+ * each; a failed batch is logged and left for the next run. Cards added through
+ * {@link com.truebalance.truebalance.domain.usecase.CreateCreditCard} or the bulk import get their
+ * horizon right away, in the background once their transaction commits.
+ *
+ * Metrics: {@code truebalance.invoice-pregeneration.created}, {@code .failed} (counters) and
+ * {@code truebalance.invoice-pregeneration.run} (timer).
+ */
+@Service
+public class InvoicePregenerationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvoicePregenerationJob.class);
+
+    static final String LOCK_NAME = "invoice-pregeneration";
+
+    private final PregenerateInvoices pregenerateInvoices;
+    private final CreditCardRepositoryPort creditCardRepository;
+    private final ClusterLockPort clusterLockPort;
+    private final Executor invoicePregenerationExecutor;
+    private final boolean enabled;
+    private final int horizonMonths;
+    private final int batchSize;
+    private final Counter createdCounter;
+    private final Counter failedCounter;
+    private final Timer runTimer;
+
+    public InvoicePregenerationJob(PregenerateInvoices pregenerateInvoices,
+                                   CreditCardRepositoryPort creditCardRepository,
+                                   ClusterLockPort clusterLockPort,
+                                   @Qualifier("invoicePregenerationExecutor") Executor invoicePregenerationExecutor,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${truebalance.invoice-pregeneration.enabled:true}") boolean enabled,
+                                   @Value("${truebalance.invoice-pregeneration.horizon-months:24}") int horizonMonths,
+                                   @Value("${truebalance.invoice-pregeneration.batch-size:200}") int batchSize) {
+        this.pregenerateInvoices = pregenerateInvoices;
+        this.creditCardRepository = creditCardRepository;
+        this.clusterLockPort = clusterLockPort;
+        this.invoicePregenerationExecutor = invoicePregenerationExecutor;
+        this.enabled = enabled;
+        this.horizonMonths = horizonMonths;
+        this.batchSize = Math.max(1, batchSize);
+        this.createdCounter = meterRegistry.counter("truebalance.invoice-pregeneration.created");
+        this.failedCounter = meterRegistry.counter("truebalance.invoice-pregeneration.failed");
+        this.runTimer = meterRegistry.timer("truebalance.invoice-pregeneration.run");
+    }
+
+    @Scheduled(cron = "${truebalance.invoice-pregeneration.cron:0 45 0 * * *}")
+    public void scheduledRun() {
+        if (enabled) {
+            run(LocalDate.now());
+        }
+    }
+
+    /**
+     * Create the missing invoices of every card, from the month of the given date on.
+     *
+     * @param date any day of the first month, usually today
+     * @return number of invoices created, or empty if another instance is running it
+     */
+    public Optional<Integer> run(LocalDate date) {
+        Optional<ClusterLock> lock = clusterLockPort.tryLock(LOCK_NAME);
+        if (lock.isEmpty()) {
+            logger.info("Pré-geração de faturas em execução por outra instância");
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        try (ClusterLock ignored = lock.get()) {
+            List<Long> creditCardIds = creditCardRepository.findAllIds();
+            int created = pregenerate(creditCardIds, date);
+            logger.info("Pré-geração de faturas: {} faturas criadas para {} cartões, {} meses a partir de {}",
+                    created, creditCardIds.size(), horizonMonths, date.withDayOfMonth(1));
+            return Optional.of(created);
+        } finally {
+            runTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Create the invoices of newly added cards in the background, after the current transaction
+     * (if any) commits. Does nothing when the job is disabled.
+     *
+     * @param creditCardIds the cards added
+     */
+    public void cardsAdded(List<Long> creditCardIds) {
+        if (!enabled || creditCardIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(creditCardIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(ids);
+            }
+        });
+    }
+
+    private void submit(List<Long> creditCardIds) {
+        try {
+            invoicePregenerationExecutor.execute(() -> {
+                int created = pregenerate(creditCardIds, LocalDate.now());
+                logger.debug("Pré-geração de faturas: {} faturas criadas para {} cartões novos",
+                        created, creditCardIds.size());
+            });
+        } catch (RejectedExecutionException e) {
+            // The daily run creates them instead; until then purchases create what they need
+            logger.warn("Pré-geração de faturas de {} cartões novos recusada: {}", creditCardIds.size(), e.getMessage());
+        }
+    }
+
+    private int pregenerate(List<Long> creditCardIds, LocalDate date) {
+        int created = 0;
+        for (int from = 0; from < creditCardIds.size(); from += batchSize) {
+            List<Long> batch = creditCardIds.subList(from, Math.min(from + batchSize, creditCardIds.size()));
+            try {
+                int batchCreated = pregenerateInvoices.execute(batch, date, horizonMonths);
+                createdCounter.increment(batchCreated);
+                created += batchCreated;
+            } catch (Exception e) {
+                logger.warn("Falha na pré-geração de faturas dos cartões {} a {}: {}",
+                        batch.get(0), batch.get(batch.size() - 1), e.getMessage());
+                failedCounter.increment();
+            }
+        }
+        return created;
+    }
+}
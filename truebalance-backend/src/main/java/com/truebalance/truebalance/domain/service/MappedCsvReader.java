@@ -0,0 +1,373 @@
+package com.truebalance.truebalance.domain.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Minimal RFC 4180 CSV reader over a memory-mapped file.
+ *
+ * Records are tokenized in place: {@link #next()} only records the byte offsets of each field,
+ * and the typed reads ({@link #decimal}, {@link #date}, {@link #month}, {@link #integer},
+ * {@link #longValue}) run {@link TypedConverters} over a view of the mapped bytes. Only
+ * {@link #text} builds a String, and only an invalid value is copied for its error. Blank lines are
+ * skipped and a leading UTF-8 BOM is ignored, matching how the files are produced by spreadsheet
+ * tools. Files larger than 2 GB are rejected.
+ */
+public final class MappedCsvReader implements Closeable, ImportPlan.RowValues {
+
+    private static final byte COMMA = ',';
+    private static final byte QUOTE = '"';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int limit;
+    private int position;
+    private int mark;
+
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private boolean[] escaped = new boolean[16];
+    private int fieldCount;
+
+    private byte[] scratch = new byte[64];
+    private final FieldChars field = new FieldChars();
+
+    private MappedCsvReader(FileChannel channel, MappedByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.limit = buffer.limit();
+        if (limit >= 3 && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB && buffer.get(2) == (byte) 0xBF) {
+            this.position = 3;
+        }
+    }
+
+    public static MappedCsvReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Arquivo CSV muito grande: " + size + " bytes");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return new MappedCsvReader(channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Advance to the next non-blank record.
+     *
+     * @return false when the end of the file was reached
+     */
+    public boolean next() {
+        while (position < limit) {
+            readRecord();
+            if (fieldCount > 1 || ends[0] > starts[0]) {
+                return true;
+            }
+        }
+        fieldCount = 0;
+        return false;
+    }
+
+    /**
+     * Remembers the current position; {@link #reset()} goes back to it so the records that follow
+     * can be read again (used to sample rows before the real pass).
+     */
+    public void mark() {
+        mark = position;
+    }
+
+    public void reset() {
+        position = mark;
+        fieldCount = 0;
+    }
+
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * @return true if the column is missing from the current record or holds only whitespace
+     */
+    public boolean isBlank(int column) {
+        if (column < 0 || column >= fieldCount) {
+            return true;
+        }
+        return trimmedStart(column) >= trimmedEnd(column);
+    }
+
+    @Override
+    public String get(int column) {
+        return text(column);
+    }
+
+    /**
+     * Trimmed field value, or null if blank.
+     */
+    public String text(int column) {
+        if (isBlank(column)) {
+            return null;
+        }
+        int start = trimmedStart(column);
+        int end = trimmedEnd(column);
+        int length = copy(start, end);
+        if (!escaped[column]) {
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        // Collapse doubled quotes inside a quoted field
+        int out = 0;
+        for (int i = 0; i < length; i++) {
+            scratch[out++] = scratch[i];
+            if (scratch[i] == QUOTE && i + 1 < length && scratch[i + 1] == QUOTE) {
+                i++;
+            }
+        }
+        return new String(scratch, 0, out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses a monetary value such as {@code 1234.56}, {@code 1234,56} or {@code R$ 1.234,56}.
+     * Currency symbols and spaces are ignored; see {@link TypedConverters#parseDecimal}.
+     *
+     * @return the value, or null if the field is blank
+     * @throws IllegalArgumentException if the field is not a valid amount
+     */
+    public BigDecimal decimal(int column) {
+        return decimal(column, (char) 0);
+    }
+
+    /**
+     * Same as {@link #decimal(int)} for a column whose values group thousands with {@code grouping}
+     * ('.' or ','); the other separator is then the decimal one. A zero {@code grouping} means unknown.
+     */
+    @Override
+    public BigDecimal decimal(int column, char grouping) {
+        if (isBlank(column)) {
+            return null;
+        }
+        BigDecimal value = TypedConverters.parseDecimal(field(column), grouping);
+        if (value == null) {
+            throw new IllegalArgumentException("Valor monetário inválido: " + text(column));
+        }
+        return value;
+    }
+
+    /**
+     * Parses {@code dd/MM/yyyy} or {@code yyyy-MM-dd}, choosing by the position of the separators.
+     * As with the lenient {@code dd/MM/yyyy} formatter used elsewhere, a day past the end of the
+     * month is clamped to the last day.
+     *
+     * @return the date, or null if the field is blank
+     * @throws IllegalArgumentException if the field is not a valid date
+     */
+    @Override
+    public LocalDate date(int column) {
+        if (isBlank(column)) {
+            return null;
+        }
+        LocalDate value = TypedConverters.parseDate(field(column));
+        if (value == null) {
+            throw new IllegalArgumentException("Formato de data inválido: " + text(column) + ". Use dd/MM/yyyy");
+        }
+        return value;
+    }
+
+    @Override
+    public LocalDate month(int column) {
+        if (isBlank(column)) {
+            return null;
+        }
+        LocalDate value = TypedConverters.parseMonth(field(column));
+        if (value == null) {
+            throw new IllegalArgumentException("Formato de mês inválido: " + text(column) + ". Use MM/yyyy ou yyyy-MM");
+        }
+        return value;
+    }
+
+    /**
+     * @return the value, or null if the field is blank
+     * @throws IllegalArgumentException if the field is not an integer
+     */
+    @Override
+    public Integer integer(int column) {
+        if (isBlank(column)) {
+            return null;
+        }
+        Integer value = TypedConverters.parseInt(field(column));
+        if (value == null) {
+            throw new IllegalArgumentException("Número inválido: " + text(column));
+        }
+        return value;
+    }
+
+    /**
+     * @return the value, or null if the field is blank
+     * @throws IllegalArgumentException if the field is not an integer
+     */
+    @Override
+    public Long longValue(int column) {
+        if (isBlank(column)) {
+            return null;
+        }
+        Long value = TypedConverters.parseLong(field(column));
+        if (value == null) {
+            throw new IllegalArgumentException("Número inválido: " + text(column));
+        }
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void readRecord() {
+        fieldCount = 0;
+        while (true) {
+            int start = position;
+            int end;
+            boolean hasEscapes = false;
+
+            if (position < limit && buffer.get(position) == QUOTE) {
+                start = ++position;
+                while (position < limit) {
+                    byte b = buffer.get(position);
+                    if (b == QUOTE) {
+                        if (position + 1 < limit && buffer.get(position + 1) == QUOTE) {
+                            hasEscapes = true;
+                            position += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    position++;
+                }
+                end = position;
+                // Skip the closing quote and anything up to the delimiter
+                while (position < limit && !isDelimiter(buffer.get(position))) {
+                    position++;
+                }
+            } else {
+                while (position < limit && !isDelimiter(buffer.get(position))) {
+                    position++;
+                }
+                end = position;
+            }
+
+            addField(start, end, hasEscapes);
+
+            if (position >= limit) {
+                return;
+            }
+            byte b = buffer.get(position++);
+            if (b == COMMA) {
+                continue;
+            }
+            if (b == CR && position < limit && buffer.get(position) == LF) {
+                position++;
+            }
+            return;
+        }
+    }
+
+    private static boolean isDelimiter(byte b) {
+        return b == COMMA || b == LF || b == CR;
+    }
+
+    private void addField(int start, int end, boolean hasEscapes) {
+        if (fieldCount == starts.length) {
+            starts = Arrays.copyOf(starts, fieldCount * 2);
+            ends = Arrays.copyOf(ends, fieldCount * 2);
+            escaped = Arrays.copyOf(escaped, fieldCount * 2);
+        }
+        starts[fieldCount] = start;
+        ends[fieldCount] = end;
+        escaped[fieldCount] = hasEscapes;
+        fieldCount++;
+    }
+
+    private int trimmedStart(int column) {
+        int start = starts[column];
+        int end = ends[column];
+        while (start < end && isWhitespace(buffer.get(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimmedEnd(int column) {
+        int start = starts[column];
+        int end = ends[column];
+        while (end > start && isWhitespace(buffer.get(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t';
+    }
+
+    private int copy(int start, int end) {
+        int length = end - start;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(start, scratch, 0, length);
+        return length;
+    }
+
+    /**
+     * Points the shared view at the trimmed bytes of a non-blank field.
+     */
+    private CharSequence field(int column) {
+        field.start = trimmedStart(column);
+        field.end = trimmedEnd(column);
+        return field;
+    }
+
+    /**
+     * The bytes of a field seen as Latin-1 characters. Typed values are ASCII, so any multi-byte
+     * UTF-8 sequence shows up as characters the converters reject.
+     */
+    private final class FieldChars implements CharSequence {
+
+        private int start;
+        private int end;
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buffer.get(start + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return toString().subSequence(from, to);
+        }
+
+        @Override
+        public String toString() {
+            int length = copy(start, end);
+            return new String(scratch, 0, length, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
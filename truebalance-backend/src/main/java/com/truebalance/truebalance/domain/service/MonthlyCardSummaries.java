@@ -0,0 +1,141 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.domain.entity.Installment;
+import com.truebalance.truebalance.domain.entity.MonthlyCardSummary;
+import com.truebalance.truebalance.domain.entity.PartialPayment;
+import com.truebalance.truebalance.domain.port.BillRepositoryPort;
+import com.truebalance.truebalance.domain.port.InstallmentRepositoryPort;
+import com.truebalance.truebalance.domain.port.MonthlyCardSummaryRepositoryPort;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the monthly_card_summary read model in step with bills, installments and partial payments.
+ *
+ * The use cases that write those call it in their own transaction with what they added or removed;
+ * the changes are turned into per card and month deltas and added to the rows in the database, so
+ * the summary commits or rolls back together with the change it reflects. A bill charged to a card
+ * counts as a purchase in the month of its execution date and its installments in the months they
+ * fall due; partial payments count in the month they were made.
+ *
+ * Removals must be reported before the bill or payment is changed, while the old values are still
+ * readable.
+ */
+@Service
+public class MonthlyCardSummaries {
+
+    private final MonthlyCardSummaryRepositoryPort summaryRepository;
+    private final BillRepositoryPort billRepository;
+    private final InstallmentRepositoryPort installmentRepository;
+
+    public MonthlyCardSummaries(MonthlyCardSummaryRepositoryPort summaryRepository,
+                                BillRepositoryPort billRepository,
+                                InstallmentRepositoryPort installmentRepository) {
+        this.summaryRepository = summaryRepository;
+        this.billRepository = billRepository;
+        this.installmentRepository = installmentRepository;
+    }
+
+    /**
+     * A bill was charged to a card and split into the given installments.
+     */
+    public void billCharged(Bill bill, List<Installment> installments) {
+        Map<String, MonthlyCardSummary> deltas = new LinkedHashMap<>();
+        addBill(deltas, bill, installments, 1);
+        summaryRepository.addAll(new ArrayList<>(deltas.values()));
+    }
+
+    /**
+     * Several bills were charged at once, each with its installments.
+     */
+    public void billsCharged(Map<Bill, List<Installment>> installmentsByBill) {
+        Map<String, MonthlyCardSummary> deltas = new LinkedHashMap<>();
+        installmentsByBill.forEach((bill, installments) -> addBill(deltas, bill, installments, 1));
+        summaryRepository.addAll(new ArrayList<>(deltas.values()));
+    }
+
+    /**
+     * The installments of a bill are about to be removed (the bill is unlinked from its card or
+     * charged again). Reads the bill as it is now, so call it before updating the bill.
+     *
+     * @param billId       the bill
+     * @param installments its current installments
+     */
+    public void billUncharged(Long billId, List<Installment> installments) {
+        if (installments == null || installments.isEmpty()) {
+            return;
+        }
+        billRepository.findById(billId).ifPresent(bill -> {
+            Map<String, MonthlyCardSummary> deltas = new LinkedHashMap<>();
+            addBill(deltas, bill, installments, -1);
+            summaryRepository.addAll(new ArrayList<>(deltas.values()));
+        });
+    }
+
+    /**
+     * A bill is about to be deleted together with its installments.
+     */
+    public void billDeleted(Bill bill) {
+        List<Installment> installments = installmentRepository.findByBillId(bill.getId());
+        if (installments.isEmpty()) {
+            return;
+        }
+        Map<String, MonthlyCardSummary> deltas = new LinkedHashMap<>();
+        addBill(deltas, bill, installments, -1);
+        summaryRepository.addAll(new ArrayList<>(deltas.values()));
+    }
+
+    /**
+     * A partial payment was registered on an invoice of the given card.
+     */
+    public void paymentRegistered(Long creditCardId, PartialPayment payment) {
+        addPayment(creditCardId, payment, payment.getAmount());
+    }
+
+    /**
+     * A partial payment on an invoice of the given card is about to be deleted.
+     */
+    public void paymentDeleted(Long creditCardId, PartialPayment payment) {
+        addPayment(creditCardId, payment, payment.getAmount().negate());
+    }
+
+    private void addPayment(Long creditCardId, PartialPayment payment, BigDecimal amount) {
+        MonthlyCardSummary delta = MonthlyCardSummary.empty(creditCardId, monthOf(payment.getPaymentDate()));
+        delta.setPaymentsTotal(amount);
+        summaryRepository.addAll(List.of(delta));
+    }
+
+    private static void addBill(Map<String, MonthlyCardSummary> deltas, Bill bill, List<Installment> installments,
+                                int sign) {
+        if (installments.isEmpty() || installments.get(0).getCreditCardId() == null) {
+            return;
+        }
+        Long creditCardId = installments.get(0).getCreditCardId();
+        BigDecimal signum = BigDecimal.valueOf(sign);
+
+        MonthlyCardSummary purchase = delta(deltas, creditCardId, monthOf(bill.getExecutionDate()));
+        purchase.setPurchasesTotal(purchase.getPurchasesTotal().add(bill.getTotalAmount().multiply(signum)));
+        purchase.setPurchasesCount(purchase.getPurchasesCount() + sign);
+
+        for (Installment installment : installments) {
+            MonthlyCardSummary due = delta(deltas, creditCardId, installment.getDueDate().withDayOfMonth(1));
+            due.setInstallmentsTotal(due.getInstallmentsTotal().add(installment.getAmount().multiply(signum)));
+        }
+    }
+
+    private static MonthlyCardSummary delta(Map<String, MonthlyCardSummary> deltas, Long creditCardId, LocalDate month) {
+        return deltas.computeIfAbsent(creditCardId + ":" + month, key -> MonthlyCardSummary.empty(creditCardId, month));
+    }
+
+    private static LocalDate monthOf(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().withDayOfMonth(1);
+    }
+}
@@ -0,0 +1,68 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.port.ClusterLockPort;
+import com.truebalance.truebalance.domain.port.ClusterLockPort.ClusterLock;
+import com.truebalance.truebalance.domain.usecase.RebuildMonthlyCardSummaries;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Rebuilds the monthly_card_summary read model on demand, one instance at a time, and once at
+ * startup while the table is still empty (the first deployment with existing data).
+ *
+ * Metrics: {@code truebalance.monthly-summary.rebuild} (timer).
+ */
+@Service
+public class MonthlyCardSummaryRebuildJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(MonthlyCardSummaryRebuildJob.class);
+
+    static final String LOCK_NAME = "monthly-card-summary-rebuild";
+
+    private final RebuildMonthlyCardSummaries rebuildMonthlyCardSummaries;
+    private final ClusterLockPort clusterLockPort;
+    private final boolean rebuildOnStartup;
+    private final Timer rebuildTimer;
+
+    public MonthlyCardSummaryRebuildJob(RebuildMonthlyCardSummaries rebuildMonthlyCardSummaries,
+                                        ClusterLockPort clusterLockPort,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${truebalance.monthly-summary.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.rebuildMonthlyCardSummaries = rebuildMonthlyCardSummaries;
+        this.clusterLockPort = clusterLockPort;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.rebuildTimer = meterRegistry.timer("truebalance.monthly-summary.rebuild");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (rebuildOnStartup && rebuildMonthlyCardSummaries.isEmpty()) {
+            logger.info("Resumo mensal por cartão vazio, reconstruindo a partir das contas e pagamentos");
+            run();
+        }
+    }
+
+    /**
+     * Rebuild the read model.
+     *
+     * @return number of rows written, or empty if another instance is rebuilding it
+     */
+    public Optional<Integer> run() {
+        Optional<ClusterLock> lock = clusterLockPort.tryLock(LOCK_NAME);
+        if (lock.isEmpty()) {
+            logger.info("Reconstrução do resumo mensal por cartão em execução por outra instância");
+            return Optional.empty();
+        }
+        try (ClusterLock ignored = lock.get()) {
+            return Optional.of(rebuildTimer.record(rebuildMonthlyCardSummaries::execute));
+        }
+    }
+}
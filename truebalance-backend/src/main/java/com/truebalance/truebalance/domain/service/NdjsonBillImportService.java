@@ -0,0 +1,169 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truebalance.truebalance.application.dto.input.BillBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.BillImportItemDTO;
+import com.truebalance.truebalance.application.dto.output.BillImportResultDTO;
+import com.truebalance.truebalance.application.dto.output.DuplicateInfoDTO;
+import com.truebalance.truebalance.application.dto.output.ImportErrorDTO;
+import com.truebalance.truebalance.application.dto.output.ImportStreamEventDTO;
+import com.truebalance.truebalance.domain.usecase.ImportProgressListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+/**
+ * Imports bills sent as NDJSON (one {@link BillImportItemDTO} per line) and reports progress as
+ * NDJSON ({@link ImportStreamEventDTO} per line).
+ *
+ * Items are read one at a time with Jackson's streaming parser and go through the same
+ * {@link BillImportPipeline} as file imports; results are written out as each batch finishes and
+ * then dropped, so memory does not depend on the size of the request. A line whose values cannot
+ * be mapped is reported as an error and the import goes on; malformed JSON ends it.
+ */
+@Service
+public class NdjsonBillImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NdjsonBillImportService.class);
+
+    private final BillImportPipeline billImportPipeline;
+    private final ObjectMapper objectMapper;
+
+    public NdjsonBillImportService(BillImportPipeline billImportPipeline, ObjectMapper objectMapper) {
+        this.billImportPipeline = billImportPipeline;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param input            the NDJSON request body
+     * @param output           where the NDJSON events are written; flushed after each batch
+     * @param duplicateStrategy what to do with duplicates
+     */
+    public void importBills(InputStream input, OutputStream output,
+                            BillBulkImportRequestDTO.DuplicateStrategy duplicateStrategy) {
+        EventWriter events = new EventWriter(output);
+        try {
+            billImportPipeline.run(consumer -> read(input, consumer, events), duplicateStrategy, events,
+                    events::batch, events::add);
+            if (events.isCancelled()) {
+                logger.warn("Importação NDJSON interrompida: cliente desconectado após {} itens", events.processed());
+                return;
+            }
+            events.finish(ImportStreamEventDTO.Type.COMPLETED, null);
+            logger.info("Importação NDJSON concluída: {} processados", events.processed());
+        } catch (Exception e) {
+            logger.error("Erro na importação NDJSON após {} itens: {}", events.processed(), e.getMessage(), e);
+            events.finish(ImportStreamEventDTO.Type.FAILED, e.getMessage());
+        }
+    }
+
+    private void read(InputStream input, Consumer<BillImportItemDTO> consumer, EventWriter events) throws IOException {
+        int position = 0;
+        try (MappingIterator<BillImportItemDTO> items = objectMapper.readerFor(BillImportItemDTO.class).readValues(input)) {
+            while (items.hasNextValue()) {
+                position++;
+                BillImportItemDTO item;
+                try {
+                    item = items.nextValue();
+                } catch (JsonMappingException e) {
+                    // The iterator skips the rest of this item on the next hasNextValue()
+                    events.invalid(position, e);
+                    continue;
+                }
+                if (item.getLineNumber() == null) {
+                    item.setLineNumber(position);
+                }
+                consumer.accept(item);
+            }
+        }
+    }
+
+    /**
+     * Writes events and keeps the running totals. Also the progress listener of the import: once
+     * the client is gone the import stops at the next item.
+     */
+    private class EventWriter implements ImportProgressListener {
+
+        private final OutputStream output;
+        private int created;
+        private int skipped;
+        private int errors;
+        private volatile boolean disconnected;
+
+        EventWriter(OutputStream output) {
+            this.output = output;
+        }
+
+        synchronized void batch(BillImportResultDTO result) {
+            add(result);
+            write(ImportStreamEventDTO.totals(ImportStreamEventDTO.Type.PROGRESS, created, skipped, errors));
+            flush();
+        }
+
+        synchronized void add(BillImportResultDTO result) {
+            created += result.getTotalCreated();
+            skipped += result.getTotalSkipped();
+            errors += result.getTotalErrors();
+            for (ImportErrorDTO error : result.getErrors()) {
+                write(ImportStreamEventDTO.error(error));
+            }
+            for (DuplicateInfoDTO duplicate : result.getDuplicatesFound()) {
+                write(ImportStreamEventDTO.duplicate(duplicate));
+            }
+        }
+
+        synchronized void invalid(int position, JsonMappingException e) {
+            errors++;
+            String field = e.getPath().isEmpty() ? null : e.getPath().get(e.getPath().size() - 1).getFieldName();
+            write(ImportStreamEventDTO.error(new ImportErrorDTO(position, field != null ? field : "general",
+                    "JSON inválido: " + e.getOriginalMessage(), "")));
+            onItemFailed();
+        }
+
+        synchronized void finish(ImportStreamEventDTO.Type type, String message) {
+            ImportStreamEventDTO event = ImportStreamEventDTO.totals(type, created, skipped, errors);
+            event.setMessage(message);
+            write(event);
+            flush();
+        }
+
+        synchronized int processed() {
+            return created + skipped + errors;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return disconnected;
+        }
+
+        private void write(ImportStreamEventDTO event) {
+            if (disconnected) {
+                return;
+            }
+            try {
+                output.write(objectMapper.writeValueAsBytes(event));
+                output.write('\n');
+            } catch (IOException e) {
+                disconnected = true;
+            }
+        }
+
+        private void flush() {
+            if (disconnected) {
+                return;
+            }
+            try {
+                output.flush();
+            } catch (IOException e) {
+                disconnected = true;
+            }
+        }
+    }
+}
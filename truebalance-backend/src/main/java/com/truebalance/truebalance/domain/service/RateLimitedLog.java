@@ -0,0 +1,57 @@
+package com.truebalance.truebalance.domain.service;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+
+/**
+ * Logs at most a fixed number of messages per time window and counts the rest, reporting how
+ * many were suppressed with the next message that gets through. Meant for per-row import errors,
+ * where a bad file would otherwise write one line (and one stack trace) per row.
+ *
+ * Suppressed messages still go to DEBUG.
+ */
+public class RateLimitedLog {
+
+    private final Logger logger;
+    private final int maxPerWindow;
+    private final long windowNanos;
+
+    private long windowStart = System.nanoTime();
+    private int logged;
+    private int suppressed;
+
+    public RateLimitedLog(Logger logger, int maxPerWindow, Duration window) {
+        this.logger = logger;
+        this.maxPerWindow = maxPerWindow;
+        this.windowNanos = window.toNanos();
+    }
+
+    public void warn(String format, Object... arguments) {
+        int suppressedBefore;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (now - windowStart >= windowNanos) {
+                windowStart = now;
+                logged = 0;
+            }
+            if (logged >= maxPerWindow) {
+                suppressed++;
+                suppressedBefore = -1;
+            } else {
+                logged++;
+                suppressedBefore = suppressed;
+                suppressed = 0;
+            }
+        }
+
+        if (suppressedBefore < 0) {
+            logger.debug(format, arguments);
+            return;
+        }
+        if (suppressedBefore > 0) {
+            logger.warn("{} mensagens semelhantes suprimidas do log", suppressedBefore);
+        }
+        logger.warn(format, arguments);
+    }
+}
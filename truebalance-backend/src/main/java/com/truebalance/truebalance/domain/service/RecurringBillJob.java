@@ -0,0 +1,96 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.port.ClusterLockPort;
+import com.truebalance.truebalance.domain.port.ClusterLockPort.ClusterLock;
+import com.truebalance.truebalance.domain.usecase.MaterializeRecurringBills;
+import com.truebalance.truebalance.domain.usecase.MaterializeRecurringBills.Pending;
+import com.truebalance.truebalance.domain.usecase.MaterializeRecurringBills.Plan;
+import com.truebalance.truebalance.domain.usecase.MaterializeRecurringBills.TemplateResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Materializes the recurring bills up to the current month, once a day.
+ *
+ * Each run creates every month a template is missing, so months missed while the job did not run
+ * are caught up; the materialization itself is idempotent per month. Each template is committed on
+ * its own ({@link MaterializeRecurringBills#materialize}), so a template that fails is logged and
+ * left for the next run without rolling back the others. Only the instance holding the cluster lock
+ * runs it.
+ *
+ * Metrics: {@code truebalance.recurring-bills.created}, {@code .failed} (counters).
+ */
+@Service
+public class RecurringBillJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurringBillJob.class);
+
+    static final String LOCK_NAME = "recurring-bills";
+
+    private final MaterializeRecurringBills materializeRecurringBills;
+    private final ClusterLockPort clusterLockPort;
+    private final boolean enabled;
+    private final Counter createdCounter;
+    private final Counter failedCounter;
+
+    public RecurringBillJob(MaterializeRecurringBills materializeRecurringBills,
+                            ClusterLockPort clusterLockPort,
+                            MeterRegistry meterRegistry,
+                            @Value("${truebalance.recurring-bills.enabled:true}") boolean enabled) {
+        this.materializeRecurringBills = materializeRecurringBills;
+        this.clusterLockPort = clusterLockPort;
+        this.enabled = enabled;
+        this.createdCounter = meterRegistry.counter("truebalance.recurring-bills.created");
+        this.failedCounter = meterRegistry.counter("truebalance.recurring-bills.failed");
+    }
+
+    @Scheduled(cron = "${truebalance.recurring-bills.cron:0 30 0 * * *}")
+    public void scheduledRun() {
+        if (enabled) {
+            run(LocalDate.now());
+        }
+    }
+
+    /**
+     * Materialize the recurring bills up to the month of the given date.
+     *
+     * @param date any day of the current month
+     * @return what was created, or empty if another instance is running it
+     */
+    public Optional<MaterializeRecurringBills.Result> run(LocalDate date) {
+        Optional<ClusterLock> lock = clusterLockPort.tryLock(LOCK_NAME);
+        if (lock.isEmpty()) {
+            logger.info("Materialização de contas recorrentes em execução por outra instância");
+            return Optional.empty();
+        }
+        try (ClusterLock ignored = lock.get()) {
+            Plan plan = materializeRecurringBills.findPending(date);
+            int created = 0;
+            int failed = 0;
+            for (Pending pending : plan.pending()) {
+                try {
+                    TemplateResult result = materializeRecurringBills.materialize(pending);
+                    created += result.created();
+                    failed += result.failed();
+                } catch (Exception e) {
+                    logger.warn("Falha ao materializar a conta recorrente {} ({} meses): {}",
+                            pending.template().getId(), pending.periods().size(), e.getMessage());
+                    failed += pending.periods().size();
+                }
+            }
+            logger.info("Contas recorrentes até {}: {} criadas, {} já materializadas, {} falharam",
+                    plan.period(), created, plan.upToDate(), failed);
+            createdCounter.increment(created);
+            failedCounter.increment(failed);
+            return Optional.of(new MaterializeRecurringBills.Result(plan.period(), created, plan.upToDate(), failed));
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.truebalance.truebalance.domain.service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Single-pass parsers for the typed columns of import files.
+ *
+ * They work on any {@link CharSequence} (a String or a view over the bytes of a mapped CSV field),
+ * expect the value already trimmed and non-empty, and return null instead of throwing when the
+ * value is invalid, so a bad cell costs one scan and no exception until the caller reports it.
+ */
+final class TypedConverters {
+
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private TypedConverters() {
+    }
+
+    /**
+     * Parses an amount such as {@code 1234.56}, {@code R$ 1.234,56} or {@code -1,234.56}.
+     * Spaces and currency symbols are ignored.
+     *
+     * @param grouping the thousands separator detected for the column ('.' or ','), or 0 when
+     *                 unknown: then, if both separators appear, the last one is the decimal
+     *                 separator; a single separator appearing once is decimal; a separator
+     *                 appearing more than once is grouping
+     * @return the value, or null if it is not a valid amount
+     */
+    static BigDecimal parseDecimal(CharSequence value, char grouping) {
+        long unscaled = 0;
+        int digits = 0;
+        boolean negative = false;
+        boolean signAllowed = true;
+
+        int dots = 0;
+        int commas = 0;
+        int digitsBeforeFirstDot = -1;
+        int digitsBeforeFirstComma = -1;
+        int lastDot = -1;
+        int lastComma = -1;
+        int digitsBeforeLastDot = -1;
+        int digitsBeforeLastComma = -1;
+        int firstDot = -1;
+        int firstComma = -1;
+
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digits < MAX_LONG_DIGITS) {
+                    unscaled = unscaled * 10 + (c - '0');
+                }
+                digits++;
+                signAllowed = false;
+            } else if (c == '.') {
+                if (dots++ == 0) {
+                    firstDot = i;
+                    digitsBeforeFirstDot = digits;
+                }
+                lastDot = i;
+                digitsBeforeLastDot = digits;
+                // A known grouping separator is ignored like a space
+                signAllowed &= grouping == '.';
+            } else if (c == ',') {
+                if (commas++ == 0) {
+                    firstComma = i;
+                    digitsBeforeFirstComma = digits;
+                }
+                lastComma = i;
+                digitsBeforeLastComma = digits;
+                signAllowed &= grouping == ',';
+            } else if ((c == '-' || c == '+') && signAllowed) {
+                negative = c == '-';
+                signAllowed = false;
+            } else if (c == 'R' && i + 1 < length && value.charAt(i + 1) == '$') {
+                i++;
+            } else if (c != ' ' && c != '$' && c != '\u00A0') {
+                return null;
+            }
+        }
+
+        if (digits == 0) {
+            return null;
+        }
+
+        // Decide which separator (if any) is the decimal one
+        char decimal;
+        if (grouping == '.') {
+            decimal = ',';
+        } else if (grouping == ',') {
+            decimal = '.';
+        } else if (dots > 0 && commas > 0) {
+            decimal = lastDot > lastComma ? '.' : ',';
+        } else if (dots == 1) {
+            decimal = '.';
+        } else if (commas == 1) {
+            decimal = ',';
+        } else {
+            decimal = 0;
+        }
+
+        // One decimal separator; when guessing, it must also follow every grouping separator
+        boolean guessed = grouping == 0;
+        int scale = 0;
+        if (decimal == '.' && dots > 0) {
+            if (dots > 1 || (guessed && commas > 0 && lastComma > firstDot)) {
+                return null;
+            }
+            scale = digits - digitsBeforeFirstDot;
+        } else if (decimal == ',' && commas > 0) {
+            if (commas > 1 || (guessed && dots > 0 && lastDot > firstComma)) {
+                return null;
+            }
+            scale = digits - digitsBeforeFirstComma;
+        }
+        if (guessed) {
+            // A guessed grouping separator must be followed by a group of exactly 3 digits
+            int integerDigits = digits - scale;
+            if (decimal != '.' && dots > 0 && integerDigits - digitsBeforeLastDot != 3) {
+                return null;
+            }
+            if (decimal != ',' && commas > 0 && integerDigits - digitsBeforeLastComma != 3) {
+                return null;
+            }
+        }
+
+        if (digits > MAX_LONG_DIGITS) {
+            return new BigDecimal(collectDigits(value, negative), scale);
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+    }
+
+    /**
+     * Parses {@code dd/MM/yyyy} or {@code yyyy-MM-dd}, chosen by the position of the separators.
+     * Like the lenient {@code dd/MM/yyyy} formatter, a day past the end of the month is clamped
+     * to the last day; ISO dates must be exact.
+     *
+     * @return the date, or null if it is not valid
+     */
+    static LocalDate parseDate(CharSequence value) {
+        if (value.length() != 10) {
+            return null;
+        }
+        if (value.charAt(2) == '/' && value.charAt(5) == '/') {
+            int day = digits(value, 0, 2);
+            int month = digits(value, 3, 5);
+            int year = digits(value, 6, 10);
+            if (day < 1 || day > 31 || month < 1 || month > 12 || year < 1) {
+                return null;
+            }
+            YearMonth yearMonth = YearMonth.of(year, month);
+            return yearMonth.atDay(Math.min(day, yearMonth.lengthOfMonth()));
+        }
+        if (value.charAt(4) == '-' && value.charAt(7) == '-') {
+            int year = digits(value, 0, 4);
+            int month = digits(value, 5, 7);
+            int day = digits(value, 8, 10);
+            if (year < 0 || month < 1 || month > 12 || day < 1 || day > YearMonth.of(year, month).lengthOfMonth()) {
+                return null;
+            }
+            return LocalDate.of(year, month, day);
+        }
+        return null;
+    }
+
+    /**
+     * Parses a reference month, {@code MM/yyyy} or {@code yyyy-MM}, into its first day. The year
+     * must have four digits, so a two-digit year such as {@code 01/24} is rejected instead of being
+     * read as the year 24.
+     *
+     * @return the first day of the month, or null if it is not valid
+     */
+    static LocalDate parseMonth(CharSequence value) {
+        int length = value.length();
+        for (int i = 1; i < length - 1; i++) {
+            char c = value.charAt(i);
+            if (c == '/' || c == '-') {
+                int yearDigits = c == '/' ? length - i - 1 : i;
+                if (yearDigits != 4 || length - yearDigits - 1 > 2) {
+                    return null;
+                }
+                int first = digits(value, 0, i);
+                int second = digits(value, i + 1, length);
+                int month = c == '/' ? first : second;
+                int year = c == '/' ? second : first;
+                if (month < 1 || month > 12 || year < 0) {
+                    return null;
+                }
+                return LocalDate.of(year, month, 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the value, or null if it is not an integer or does not fit in a long
+     */
+    static Long parseLong(CharSequence value) {
+        int length = value.length();
+        int start = 0;
+        boolean negative = false;
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            start = 1;
+        }
+        if (start == length) {
+            return null;
+        }
+
+        // Accumulate negatively so Long.MIN_VALUE fits
+        long result = 0;
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+            int digit = c - '0';
+            if (result < (limit + digit) / 10) {
+                return null;
+            }
+            result = result * 10 - digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * @return the value, or null if it is not an integer or does not fit in an int
+     */
+    static Integer parseInt(CharSequence value) {
+        Long result = parseLong(value);
+        if (result == null || result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
+            return null;
+        }
+        return result.intValue();
+    }
+
+    static boolean parseBoolean(CharSequence value) {
+        String lower = value.toString().toLowerCase();
+        return lower.equals("true") || lower.equals("sim") || lower.equals("s")
+                || lower.equals("1") || lower.equals("yes") || lower.equals("y");
+    }
+
+    /**
+     * Reads a run of digits, or -1 if it is empty, too long or has a non-digit.
+     */
+    private static int digits(CharSequence value, int start, int end) {
+        if (start >= end || end - start > 9) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    /**
+     * Slow path for amounts with more digits than a long holds.
+     */
+    private static BigInteger collectDigits(CharSequence value, boolean negative) {
+        StringBuilder digits = new StringBuilder(value.length() + 1);
+        if (negative) {
+            digits.append('-');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return new BigInteger(digits.toString());
+    }
+}
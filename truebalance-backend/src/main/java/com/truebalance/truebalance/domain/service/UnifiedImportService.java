@@ -14,23 +14,22 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 @Service
 public class UnifiedImportService {
 
     private static final Logger logger = LoggerFactory.getLogger(UnifiedImportService.class);
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
     public static class UnifiedImportResult {
         private List<BillImportItemDTO> bills = new ArrayList<>();
         private List<CreditCardImportItemDTO> creditCards = new ArrayList<>();
         private List<InvoiceImportItemDTO> invoices = new ArrayList<>();
+        private Map<String, ImportPlan> plans = new LinkedHashMap<>();
 
         public List<BillImportItemDTO> getBills() { return bills; }
         public void setBills(List<BillImportItemDTO> bills) { this.bills = bills; }
@@ -38,13 +37,23 @@ public class UnifiedImportService {
         public void setCreditCards(List<CreditCardImportItemDTO> creditCards) { this.creditCards = creditCards; }
         public List<InvoiceImportItemDTO> getInvoices() { return invoices; }
         public void setInvoices(List<InvoiceImportItemDTO> invoices) { this.invoices = invoices; }
+        /** Column mapping compiled for each sheet, by sheet name. */
+        public Map<String, ImportPlan> getPlans() { return plans; }
     }
 
     /**
      * Importa todas as entidades de um único arquivo Excel com múltiplas abas
      */
     public UnifiedImportResult parseUnifiedFile(MultipartFile file) throws Exception {
-        String filename = file.getOriginalFilename();
+        try (InputStream inputStream = file.getInputStream()) {
+            return parseUnifiedFile(file.getOriginalFilename(), inputStream);
+        }
+    }
+
+    /**
+     * Importa todas as entidades a partir do conteúdo do arquivo e do seu nome original
+     */
+    public UnifiedImportResult parseUnifiedFile(String filename, InputStream inputStream) throws Exception {
         if (filename == null) {
             throw new IllegalArgumentException("Nome do arquivo não pode ser nulo");
         }
@@ -58,28 +67,28 @@ public class UnifiedImportService {
         UnifiedImportResult result = new UnifiedImportResult();
         
         Workbook workbook = extension.equals("xlsx") 
-                ? new XSSFWorkbook(file.getInputStream()) 
-                : new HSSFWorkbook(file.getInputStream());
+                ? new XSSFWorkbook(inputStream) 
+                : new HSSFWorkbook(inputStream);
 
         try {
             // Processar aba de Contas
             Sheet billsSheet = workbook.getSheet("Contas");
             if (billsSheet != null) {
-                result.setBills(parseBillsSheet(billsSheet));
+                result.setBills(parseSheet(billsSheet, ImportPlan.BILL_FIELDS, BillRowMapper::new, result));
                 logger.info("Processadas {} contas da aba 'Contas'", result.getBills().size());
             }
 
             // Processar aba de Cartões de Crédito
             Sheet creditCardsSheet = workbook.getSheet("Cartões de Crédito");
             if (creditCardsSheet != null) {
-                result.setCreditCards(parseCreditCardsSheet(creditCardsSheet));
+                result.setCreditCards(parseSheet(creditCardsSheet, ImportPlan.CREDIT_CARD_FIELDS, CreditCardRowMapper::new, result));
                 logger.info("Processados {} cartões da aba 'Cartões de Crédito'", result.getCreditCards().size());
             }
 
             // Processar aba de Faturas
             Sheet invoicesSheet = workbook.getSheet("Faturas");
             if (invoicesSheet != null) {
-                result.setInvoices(parseInvoicesSheet(invoicesSheet));
+                result.setInvoices(parseSheet(invoicesSheet, ImportPlan.INVOICE_FIELDS, InvoiceRowMapper::new, result));
                 logger.info("Processadas {} faturas da aba 'Faturas'", result.getInvoices().size());
             }
 
@@ -90,20 +99,20 @@ public class UnifiedImportService {
         return result;
     }
 
-    private List<BillImportItemDTO> parseBillsSheet(Sheet sheet) {
-        List<BillImportItemDTO> items = new ArrayList<>();
-        
+    private <T> List<T> parseSheet(Sheet sheet, List<ImportPlan.Field> fields,
+                                   Function<ImportPlan, FileImportService.RowMapper<T>> mappers,
+                                   UnifiedImportResult result) {
+        List<T> items = new ArrayList<>();
+
         if (sheet.getPhysicalNumberOfRows() < 2) {
             return items; // Apenas cabeçalho, sem dados
         }
 
-        // Ler cabeçalho
-        Row headerRow = sheet.getRow(0);
-        Map<String, Integer> headerMap = new HashMap<>();
-        for (Cell cell : headerRow) {
-            String headerName = getCellValueAsString(cell);
-            headerMap.put(headerName, cell.getColumnIndex());
-        }
+        // Mapear colunas uma única vez por aba
+        ImportPlan plan = FileImportService.compilePlan(sheet, fields);
+        result.getPlans().put(sheet.getSheetName(), plan);
+        FileImportService.RowMapper<T> mapper = mappers.apply(plan);
+        FileImportService.ExcelRow excelRow = new FileImportService.ExcelRow();
 
         // Processar linhas de dados
         for (int i = 1; i <= sheet.getLastRowNum(); i++) {
@@ -112,296 +121,192 @@ public class UnifiedImportService {
 
             try {
                 int lineNumber = i + 1;
-                BillImportItemDTO item = parseBillRow(row, headerMap, lineNumber);
-                items.add(item);
+                items.add(mapper.map(excelRow.at(row), lineNumber));
             } catch (Exception e) {
-                logger.warn("Erro ao processar linha {} da aba Contas: {}", i + 1, e.getMessage());
-                throw new RuntimeException("Erro na linha " + (i + 1) + " da aba Contas: " + e.getMessage(), e);
+                logger.warn("Erro ao processar linha {} da aba {}: {}", i + 1, sheet.getSheetName(), e.getMessage());
+                throw new RuntimeException("Erro na linha " + (i + 1) + " da aba " + sheet.getSheetName() + ": " + e.getMessage(), e);
             }
         }
 
         return items;
     }
 
-    private List<CreditCardImportItemDTO> parseCreditCardsSheet(Sheet sheet) {
-        List<CreditCardImportItemDTO> items = new ArrayList<>();
-        
-        if (sheet.getPhysicalNumberOfRows() < 2) {
-            return items;
+    private static final class BillRowMapper implements FileImportService.RowMapper<BillImportItemDTO> {
+
+        private final ImportPlan.Accessor<String> name;
+        private final ImportPlan.Accessor<String> description;
+        private final ImportPlan.Accessor<LocalDate> executionDate;
+        private final ImportPlan.Accessor<BigDecimal> totalAmount;
+        private final ImportPlan.Accessor<Integer> numberOfInstallments;
+        private final ImportPlan.Accessor<String> creditCard;
+
+        BillRowMapper(ImportPlan plan) {
+            this.name = plan.text("name");
+            this.description = plan.text("description");
+            this.executionDate = plan.date("executionDate");
+            this.totalAmount = plan.decimal("totalAmount");
+            this.numberOfInstallments = plan.integer("numberOfInstallments");
+            this.creditCard = plan.text("creditCardId");
         }
 
-        Row headerRow = sheet.getRow(0);
-        Map<String, Integer> headerMap = new HashMap<>();
-        for (Cell cell : headerRow) {
-            String headerName = getCellValueAsString(cell);
-            headerMap.put(headerName, cell.getColumnIndex());
-        }
+        @Override
+        public BillImportItemDTO map(ImportPlan.RowValues row, int lineNumber) {
+            String name = this.name.read(row);
+            if (name == null) {
+                throw new IllegalArgumentException("Nome é obrigatório");
+            }
 
-        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-            Row row = sheet.getRow(i);
-            if (row == null) continue;
+            LocalDate executionDate = this.executionDate.read(row);
+            if (executionDate == null) {
+                throw new IllegalArgumentException("Data é obrigatória");
+            }
 
-            try {
-                int lineNumber = i + 1;
-                CreditCardImportItemDTO item = parseCreditCardRow(row, headerMap, lineNumber);
-                items.add(item);
-            } catch (Exception e) {
-                logger.warn("Erro ao processar linha {} da aba Cartões de Crédito: {}", i + 1, e.getMessage());
-                throw new RuntimeException("Erro na linha " + (i + 1) + " da aba Cartões de Crédito: " + e.getMessage(), e);
+            BigDecimal totalAmount = this.totalAmount.read(row);
+            if (totalAmount == null) {
+                throw new IllegalArgumentException("Valor Total é obrigatório");
             }
-        }
 
-        return items;
-    }
+            Integer numberOfInstallments = this.numberOfInstallments.read(row);
+            CardReference cardReference = CardReference.parse(creditCard.read(row));
 
-    private List<InvoiceImportItemDTO> parseInvoicesSheet(Sheet sheet) {
-        List<InvoiceImportItemDTO> items = new ArrayList<>();
-        
-        if (sheet.getPhysicalNumberOfRows() < 2) {
-            return items;
+            BillImportItemDTO item = new BillImportItemDTO(
+                    name, description.read(row), executionDate.atStartOfDay(), totalAmount,
+                    numberOfInstallments != null ? numberOfInstallments : 1, false, cardReference.id(), lineNumber
+            );
+            item.setCreditCardName(cardReference.name());
+            return item;
         }
+    }
 
-        Row headerRow = sheet.getRow(0);
-        Map<String, Integer> headerMap = new HashMap<>();
-        for (Cell cell : headerRow) {
-            String headerName = getCellValueAsString(cell);
-            headerMap.put(headerName, cell.getColumnIndex());
+    private static final class CreditCardRowMapper implements FileImportService.RowMapper<CreditCardImportItemDTO> {
+
+        private final ImportPlan.Accessor<String> sourceId;
+        private final ImportPlan.Accessor<String> name;
+        private final ImportPlan.Accessor<BigDecimal> creditLimit;
+        private final ImportPlan.Accessor<Integer> closingDay;
+        private final ImportPlan.Accessor<Integer> dueDay;
+        private final ImportPlan.Accessor<Boolean> allowsPartialPayment;
+
+        CreditCardRowMapper(ImportPlan plan) {
+            this.sourceId = plan.text("id");
+            this.name = plan.text("name");
+            this.creditLimit = plan.decimal("creditLimit");
+            this.closingDay = plan.integer("closingDay");
+            this.dueDay = plan.integer("dueDay");
+            this.allowsPartialPayment = plan.bool("allowsPartialPayment");
         }
 
-        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-            Row row = sheet.getRow(i);
-            if (row == null) continue;
-
-            try {
-                int lineNumber = i + 1;
-                InvoiceImportItemDTO item = parseInvoiceRow(row, headerMap, lineNumber);
-                items.add(item);
-            } catch (Exception e) {
-                logger.warn("Erro ao processar linha {} da aba Faturas: {}", i + 1, e.getMessage());
-                throw new RuntimeException("Erro na linha " + (i + 1) + " da aba Faturas: " + e.getMessage(), e);
+        @Override
+        public CreditCardImportItemDTO map(ImportPlan.RowValues row, int lineNumber) {
+            String name = this.name.read(row);
+            if (name == null) {
+                throw new IllegalArgumentException("Nome é obrigatório");
             }
-        }
 
-        return items;
-    }
+            BigDecimal creditLimit = this.creditLimit.read(row);
+            if (creditLimit == null) {
+                throw new IllegalArgumentException("Limite de Crédito é obrigatório");
+            }
 
-    private BillImportItemDTO parseBillRow(Row row, Map<String, Integer> headerMap, int lineNumber) {
-        String name = getCellValue(row, headerMap, "Nome", "name");
-        if (name == null || name.trim().isEmpty()) {
-            throw new IllegalArgumentException("Nome é obrigatório");
-        }
-        
-        String description = getCellValue(row, headerMap, "Descrição", "description");
-        String dateStr = getCellValue(row, headerMap, "Data", "date", "executionDate");
-        if (dateStr == null || dateStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Data é obrigatória");
-        }
-        
-        String totalAmountStr = getCellValue(row, headerMap, "Valor Total", "totalAmount");
-        if (totalAmountStr == null || totalAmountStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Valor Total é obrigatório");
-        }
-        
-        String numberOfInstallmentsStr = getCellValue(row, headerMap, "Número de Parcelas", "numberOfInstallments", "1");
-        String creditCardIdStr = getCellValue(row, headerMap, "ID Cartão", "creditCardId");
-
-        LocalDateTime executionDate = parseDateTime(dateStr);
-        BigDecimal totalAmount = parseCurrency(totalAmountStr);
-        Integer numberOfInstallments = Integer.parseInt(numberOfInstallmentsStr);
-        Long creditCardId = creditCardIdStr != null && !creditCardIdStr.isEmpty() ? Long.parseLong(creditCardIdStr) : null;
-
-        return new BillImportItemDTO(
-                name, description, executionDate, totalAmount,
-                numberOfInstallments, false, creditCardId, lineNumber
-        );
-    }
+            Integer closingDay = this.closingDay.read(row);
+            if (closingDay == null) {
+                throw new IllegalArgumentException("Dia de Fechamento é obrigatório");
+            }
 
-    private CreditCardImportItemDTO parseCreditCardRow(Row row, Map<String, Integer> headerMap, int lineNumber) {
-        String name = getCellValue(row, headerMap, "Nome", "name");
-        if (name == null || name.trim().isEmpty()) {
-            throw new IllegalArgumentException("Nome é obrigatório");
-        }
-        
-        String creditLimitStr = getCellValue(row, headerMap, "Limite de Crédito", "Limite", "creditLimit");
-        if (creditLimitStr == null || creditLimitStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Limite de Crédito é obrigatório");
-        }
-        
-        String closingDayStr = getCellValue(row, headerMap, "Dia de Fechamento", "Dia Fechamento", "closingDay");
-        if (closingDayStr == null || closingDayStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Dia de Fechamento é obrigatório");
-        }
-        
-        String dueDayStr = getCellValue(row, headerMap, "Dia de Vencimento", "Dia Vencimento", "dueDay");
-        if (dueDayStr == null || dueDayStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Dia de Vencimento é obrigatório");
-        }
-        
-        String allowsPartialPaymentStr = getCellValue(row, headerMap, "Permite Pagamento Parcial", "Pagamento Parcial", "allowsPartialPayment", "true");
+            Integer dueDay = this.dueDay.read(row);
+            if (dueDay == null) {
+                throw new IllegalArgumentException("Dia de Vencimento é obrigatório");
+            }
 
-        BigDecimal creditLimit = parseCurrency(creditLimitStr);
-        Integer closingDay = Integer.parseInt(closingDayStr);
-        Integer dueDay = Integer.parseInt(dueDayStr);
-        Boolean allowsPartialPayment = parseBoolean(allowsPartialPaymentStr);
+            Boolean allowsPartialPayment = this.allowsPartialPayment.read(row);
 
-        return new CreditCardImportItemDTO(
-                name, creditLimit, closingDay, dueDay, allowsPartialPayment, lineNumber
-        );
+            CreditCardImportItemDTO item = new CreditCardImportItemDTO(
+                    name, creditLimit, closingDay, dueDay,
+                    allowsPartialPayment != null ? allowsPartialPayment : true, lineNumber
+            );
+            String sourceId = this.sourceId.read(row);
+            if (sourceId != null && CardReference.isNumeric(sourceId)) {
+                item.setSourceId(Long.parseLong(sourceId));
+            }
+            return item;
+        }
     }
 
-    private InvoiceImportItemDTO parseInvoiceRow(Row row, Map<String, Integer> headerMap, int lineNumber) {
-        String creditCardIdStr = getCellValue(row, headerMap, "ID Cartão", "Cartão de Crédito", "creditCardId");
-        if (creditCardIdStr == null || creditCardIdStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("ID Cartão é obrigatório");
-        }
-        
-        String referenceMonthStr = getCellValue(row, headerMap, "Mês de Referência", "referenceMonth");
-        if (referenceMonthStr == null || referenceMonthStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Mês de Referência é obrigatório");
+    private static final class InvoiceRowMapper implements FileImportService.RowMapper<InvoiceImportItemDTO> {
+
+        private final ImportPlan.Accessor<String> creditCard;
+        private final ImportPlan.Accessor<LocalDate> referenceMonth;
+        private final ImportPlan.Accessor<BigDecimal> totalAmount;
+        private final ImportPlan.Accessor<BigDecimal> previousBalance;
+        private final ImportPlan.Accessor<Boolean> closed;
+        private final ImportPlan.Accessor<Boolean> paid;
+
+        InvoiceRowMapper(ImportPlan plan) {
+            this.creditCard = plan.text("creditCardId");
+            this.referenceMonth = plan.month("referenceMonth");
+            this.totalAmount = plan.decimal("totalAmount");
+            this.previousBalance = plan.decimal("previousBalance");
+            this.closed = plan.bool("closed");
+            this.paid = plan.bool("paid");
         }
-        
-        String totalAmountStr = getCellValue(row, headerMap, "Valor Total", "totalAmount");
-        if (totalAmountStr == null || totalAmountStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Valor Total é obrigatório");
-        }
-        
-        String previousBalanceStr = getCellValue(row, headerMap, "Saldo Anterior", "previousBalance", "0");
-        String closedStr = getCellValue(row, headerMap, "Fechada", "closed", "false");
-        String paidStr = getCellValue(row, headerMap, "Paga", "paid", "false");
-
-        Long creditCardId = Long.parseLong(creditCardIdStr);
-        LocalDate referenceMonth = parseReferenceMonth(referenceMonthStr);
-        BigDecimal totalAmount = parseCurrency(totalAmountStr);
-        BigDecimal previousBalance = parseCurrency(previousBalanceStr);
-        Boolean closed = parseBoolean(closedStr);
-        Boolean paid = parseBoolean(paidStr);
-
-        return new InvoiceImportItemDTO(
-                creditCardId, referenceMonth, totalAmount,
-                previousBalance, closed, paid, lineNumber
-        );
-    }
 
-    private String getCellValue(Row row, Map<String, Integer> headerMap, String... keys) {
-        for (String key : keys) {
-            Integer colIndex = headerMap.get(key);
-            if (colIndex != null) {
-                Cell cell = row.getCell(colIndex);
-                if (cell != null) {
-                    String value = getCellValueAsString(cell);
-                    if (value != null && !value.trim().isEmpty()) {
-                        return value.trim();
-                    }
-                }
+        @Override
+        public InvoiceImportItemDTO map(ImportPlan.RowValues row, int lineNumber) {
+            String creditCard = this.creditCard.read(row);
+            if (creditCard == null) {
+                throw new IllegalArgumentException("ID Cartão é obrigatório");
             }
-        }
-        return null;
-    }
 
-    private String getCellValue(Row row, Map<String, Integer> headerMap, String key1, String key2, String defaultValue) {
-        String value = getCellValue(row, headerMap, key1, key2);
-        return value != null ? value : defaultValue;
-    }
+            LocalDate referenceMonth = this.referenceMonth.read(row);
+            if (referenceMonth == null) {
+                throw new IllegalArgumentException("Mês de Referência é obrigatório");
+            }
 
-    private String getCellValue(Row row, Map<String, Integer> headerMap, String key1, String key2, String key3, String defaultValue) {
-        String value = getCellValue(row, headerMap, key1, key2, key3);
-        return value != null ? value : defaultValue;
-    }
+            BigDecimal totalAmount = this.totalAmount.read(row);
+            if (totalAmount == null) {
+                throw new IllegalArgumentException("Valor Total é obrigatório");
+            }
 
-    private String getCellValueAsString(Cell cell) {
-        if (cell == null) return null;
-        
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue();
-            case NUMERIC:
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getDateCellValue().toString();
-                } else {
-                    double numValue = cell.getNumericCellValue();
-                    if (numValue == (long) numValue) {
-                        return String.valueOf((long) numValue);
-                    }
-                    return String.valueOf(numValue);
-                }
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                return cell.getCellFormula();
-            default:
-                return "";
+            BigDecimal previousBalance = this.previousBalance.read(row);
+            CardReference cardReference = CardReference.parse(creditCard);
+
+            InvoiceImportItemDTO item = new InvoiceImportItemDTO(
+                    cardReference.id(), referenceMonth, totalAmount,
+                    previousBalance != null ? previousBalance : BigDecimal.ZERO,
+                    Boolean.TRUE.equals(closed.read(row)), Boolean.TRUE.equals(paid.read(row)), lineNumber
+            );
+            item.setCreditCardName(cardReference.name());
+            return item;
         }
     }
 
-    private LocalDateTime parseDateTime(String dateStr) {
-        if (dateStr == null || dateStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Data não pode ser vazia");
-        }
-        
-        try {
-            return LocalDate.parse(dateStr.trim(), DATE_FORMATTER).atStartOfDay();
-        } catch (Exception e) {
-            try {
-                return LocalDate.parse(dateStr.trim()).atStartOfDay();
-            } catch (Exception e2) {
-                throw new IllegalArgumentException("Formato de data inválido: " + dateStr + ". Use dd/MM/yyyy");
+    /**
+     * Card column of the Contas/Faturas sheets: either the card ID (numeric, as written by the
+     * unified export) or the card name. Both are remapped to real IDs by ImportUnifiedData.
+     */
+    record CardReference(Long id, String name) {
+
+        static CardReference parse(String value) {
+            if (value == null || value.trim().isEmpty()) {
+                return new CardReference(null, null);
             }
+            String trimmed = value.trim();
+            return isNumeric(trimmed)
+                    ? new CardReference(Long.parseLong(trimmed), null)
+                    : new CardReference(null, trimmed);
         }
-    }
 
-    private LocalDate parseReferenceMonth(String monthStr) {
-        if (monthStr == null || monthStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Mês de referência não pode ser vazio");
-        }
-        
-        try {
-            String[] parts = monthStr.trim().split("/");
-            if (parts.length == 2) {
-                int month = Integer.parseInt(parts[0]);
-                int year = Integer.parseInt(parts[1]);
-                return LocalDate.of(year, month, 1);
+        static boolean isNumeric(String value) {
+            String trimmed = value.trim();
+            if (trimmed.isEmpty()) {
+                return false;
             }
-        } catch (Exception e) {
-            try {
-                String[] parts = monthStr.trim().split("-");
-                if (parts.length == 2) {
-                    int year = Integer.parseInt(parts[0]);
-                    int month = Integer.parseInt(parts[1]);
-                    return LocalDate.of(year, month, 1);
+            for (int i = 0; i < trimmed.length(); i++) {
+                if (!Character.isDigit(trimmed.charAt(i))) {
+                    return false;
                 }
-            } catch (Exception e2) {
-                // Ignore
             }
+            return true;
         }
-        
-        throw new IllegalArgumentException("Formato de mês inválido: " + monthStr + ". Use MM/yyyy ou yyyy-MM");
-    }
-
-    private BigDecimal parseCurrency(String valueStr) {
-        if (valueStr == null || valueStr.trim().isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-        
-        String cleanValue = valueStr.trim()
-                .replace("R$", "")
-                .replace("$", "")
-                .replace(" ", "")
-                .replace(",", ".");
-        
-        try {
-            return new BigDecimal(cleanValue);
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Valor monetário inválido: " + valueStr);
-        }
-    }
-
-    private Boolean parseBoolean(String valueStr) {
-        if (valueStr == null || valueStr.trim().isEmpty()) {
-            return false;
-        }
-        
-        String lower = valueStr.trim().toLowerCase();
-        return lower.equals("true") || lower.equals("sim") || lower.equals("s") 
-                || lower.equals("1") || lower.equals("yes") || lower.equals("y");
     }
 }
@@ -0,0 +1,292 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.application.dto.input.BillBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.BillImportItemDTO;
+import com.truebalance.truebalance.application.dto.output.BillImportResultDTO;
+import com.truebalance.truebalance.application.dto.output.BillResponseDTO;
+import com.truebalance.truebalance.application.dto.output.DuplicateInfoDTO;
+import com.truebalance.truebalance.application.dto.output.ImportErrorDTO;
+import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.entity.Installment;
+import com.truebalance.truebalance.domain.entity.InstallmentDateInfo;
+import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.exception.CreditCardNotFoundException;
+import com.truebalance.truebalance.domain.port.BillBulkLoadPort;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.service.CreditCardLocks;
+import com.truebalance.truebalance.domain.service.InstallmentDateCalculator;
+import com.truebalance.truebalance.domain.service.MonthlyCardSummaries;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Use case to import a large batch of bills through {@link BillBulkLoadPort} in one transaction.
+ *
+ * Produces the same result as importing the items one by one with {@link ImportBillsInBulk}:
+ * duplicates (found by the database in one query) are skipped or created according to the
+ * strategy, bills linked to a credit card are checked against the available limit (BR-CC-008)
+ * and distributed into installments and invoices (BR-B-004, BR-I-001, BR-I-002). The difference
+ * is that the limit of each card is read once and then tracked in memory, invoices are fetched
+ * once per card and month, and bills and installments are inserted in bulk at the end. Every card
+ * of the batch is locked up front ({@link CreditCardLocks#lockAllForTransaction}), so purchases on
+ * those cards wait for the load instead of spending the limit it is tracking.
+ *
+ * Any database error rolls the whole batch back. Progress is reported only after the commit, so
+ * the row-by-row fallback of {@link ImportBillsInBulk} does not count the rows twice.
+ */
+public class BulkLoadBills {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkLoadBills.class);
+
+    private final BillBulkLoadPort billBulkLoadPort;
+    private final CreditCardLocks creditCardLocks;
+    private final InvoiceRepositoryPort invoiceRepository;
+    private final GenerateOrGetInvoiceForMonth generateOrGetInvoiceForMonth;
+    private final GetAvailableLimit getAvailableLimit;
+    private final InstallmentDateCalculator installmentDateCalculator;
+    private final MonthlyCardSummaries monthlyCardSummaries;
+
+    public BulkLoadBills(BillBulkLoadPort billBulkLoadPort,
+                         CreditCardLocks creditCardLocks,
+                         InvoiceRepositoryPort invoiceRepository,
+                         GenerateOrGetInvoiceForMonth generateOrGetInvoiceForMonth,
+                         GetAvailableLimit getAvailableLimit,
+                         InstallmentDateCalculator installmentDateCalculator,
+                         MonthlyCardSummaries monthlyCardSummaries) {
+        this.billBulkLoadPort = billBulkLoadPort;
+        this.creditCardLocks = creditCardLocks;
+        this.invoiceRepository = invoiceRepository;
+        this.generateOrGetInvoiceForMonth = generateOrGetInvoiceForMonth;
+        this.getAvailableLimit = getAvailableLimit;
+        this.installmentDateCalculator = installmentDateCalculator;
+        this.monthlyCardSummaries = monthlyCardSummaries;
+    }
+
+    /**
+     * @return true if the database supports bulk loading
+     */
+    public boolean isSupported() {
+        return billBulkLoadPort.isSupported();
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public BillImportResultDTO execute(BillBulkImportRequestDTO request, ImportProgressListener progressListener) {
+        List<BillImportItemDTO> items = request.getItems();
+        boolean skipDuplicates = request.getDuplicateStrategy() == BillBulkImportRequestDTO.DuplicateStrategy.SKIP;
+        logger.info("Iniciando carga em massa de {} contas com estratégia: {}", items.size(), request.getDuplicateStrategy());
+
+        // 1. Stage every bill and find duplicates in the database
+        List<Bill> bills = new ArrayList<>(items.size());
+        for (BillImportItemDTO item : items) {
+            Bill bill = item.toBill();
+            bill.setInstallmentAmount(CreateBill.calculateInstallmentAmount(bill));
+            bills.add(bill);
+        }
+        List<BillBulkLoadPort.StagedBill> staged = billBulkLoadPort.stage(bills);
+
+        // 2. Decide each row in file order, as the one-by-one import would
+        List<Integer> accepted = new ArrayList<>();
+        Map<Integer, List<Installment>> installments = new LinkedHashMap<>();
+        Map<Integer, Integer> duplicateOf = new LinkedHashMap<>();
+        Map<Integer, Long> existingDuplicates = new HashMap<>();
+        Map<Integer, Integer> createdByFirstIndex = new HashMap<>();
+        List<ImportErrorDTO> errors = new ArrayList<>();
+
+        // Lock every card of the batch at once, in the shared order, before reading any limit
+        Map<Long, CreditCard> cards = creditCardLocks.lockAllForTransaction(items.stream()
+                .map(BillImportItemDTO::getCreditCardId)
+                .filter(Objects::nonNull)
+                .toList());
+        Map<Long, BigDecimal> availableLimits = new HashMap<>();
+        Map<String, Invoice> invoices = new LinkedHashMap<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            if (progressListener.isCancelled()) {
+                logger.info("Carga em massa cancelada antes da linha {}", items.get(i).getLineNumber());
+                break;
+            }
+            BillImportItemDTO item = items.get(i);
+            Bill bill = bills.get(i);
+            BillBulkLoadPort.StagedBill stagedBill = staged.get(i);
+
+            if (skipDuplicates) {
+                if (stagedBill.existingBillId() != null) {
+                    existingDuplicates.put(i, stagedBill.existingBillId());
+                    continue;
+                }
+                Integer created = createdByFirstIndex.get(stagedBill.firstIndex());
+                if (created != null) {
+                    duplicateOf.put(i, created);
+                    continue;
+                }
+            }
+
+            Long creditCardId = item.getCreditCardId();
+            if (creditCardId != null) {
+                CreditCard creditCard = cards.get(creditCardId);
+                if (creditCard == null) {
+                    errors.add(error(item, new CreditCardNotFoundException(creditCardId).getMessage()));
+                    continue;
+                }
+
+                BigDecimal availableLimit = availableLimits.computeIfAbsent(creditCardId,
+                        id -> getAvailableLimit.execute(id).getAvailableLimit());
+                if (bill.getTotalAmount().compareTo(availableLimit) > 0) {
+                    errors.add(error(item, String.format("Limite insuficiente. Necessário: %.2f, Disponível: %.2f",
+                            bill.getTotalAmount(), availableLimit)));
+                    continue;
+                }
+
+                List<Installment> billInstallments = new ArrayList<>(bill.getNumberOfInstallments());
+                BigDecimal used = distribute(bill, creditCard, invoices, billInstallments);
+                installments.put(i, billInstallments);
+                availableLimits.put(creditCardId, availableLimit.subtract(used));
+            }
+
+            accepted.add(i);
+            createdByFirstIndex.putIfAbsent(stagedBill.firstIndex(), i);
+        }
+
+        // 3. Write bills, installments and the updated invoice totals
+        Map<Integer, Long> ids = billBulkLoadPort.insertStaged(accepted, installments);
+        if (!invoices.isEmpty()) {
+            invoiceRepository.saveAll(new ArrayList<>(invoices.values()));
+        }
+        if (!installments.isEmpty()) {
+            Map<Bill, List<Installment>> installmentsByBill = new LinkedHashMap<>();
+            installments.forEach((index, billInstallments) -> installmentsByBill.put(bills.get(index), billInstallments));
+            monthlyCardSummaries.billsCharged(installmentsByBill);
+        }
+
+        // 4. Build the result
+        List<BillResponseDTO> createdBills = new ArrayList<>(accepted.size());
+        for (int index : accepted) {
+            Bill bill = bills.get(index);
+            bill.setId(ids.get(index));
+            createdBills.add(BillResponseDTO.fromBill(bill, items.get(index).getCreditCardId()));
+        }
+
+        List<DuplicateInfoDTO> duplicatesFound = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            Long existingId = existingDuplicates.containsKey(i)
+                    ? existingDuplicates.get(i)
+                    : duplicateOf.containsKey(i) ? ids.get(duplicateOf.get(i)) : null;
+            if (existingId == null) {
+                continue;
+            }
+            BillImportItemDTO item = items.get(i);
+            duplicatesFound.add(new DuplicateInfoDTO(
+                    item.getLineNumber(),
+                    item.getName(),
+                    item.getTotalAmount(),
+                    item.getExecutionDate(),
+                    item.getNumberOfInstallments(),
+                    existingId,
+                    String.format("Duplicata encontrada: registro existente com mesmo nome, " +
+                            "valor, data e número de parcelas (ID: %d)", existingId)
+            ));
+        }
+
+        int totalCreated = createdBills.size();
+        int totalSkipped = duplicatesFound.size();
+        int totalErrors = errors.size();
+        int totalProcessed = totalCreated + totalSkipped + totalErrors;
+
+        logger.info("Carga em massa concluída: {} processados, {} criados, {} ignorados, {} erros",
+                totalProcessed, totalCreated, totalSkipped, totalErrors);
+        reportAfterCommit(progressListener, totalCreated, totalSkipped, totalErrors);
+
+        return new BillImportResultDTO(
+                totalProcessed,
+                totalCreated,
+                totalSkipped,
+                totalErrors,
+                duplicatesFound,
+                errors,
+                createdBills
+        );
+    }
+
+    /**
+     * Splits a bill into installments (BR-INS-001, BR-INS-002) and adds them to the totals of their
+     * invoices, fetching or creating each invoice once per card and month (BR-I-001, BR-I-002).
+     *
+     * @return the part of the bill that uses the card limit: installments in open invoices (BR-CC-008)
+     */
+    private BigDecimal distribute(Bill bill, CreditCard creditCard, Map<String, Invoice> invoices,
+                                  List<Installment> installments) {
+        BigDecimal used = BigDecimal.ZERO;
+        for (int number = 1; number <= bill.getNumberOfInstallments(); number++) {
+            InstallmentDateInfo dateInfo = installmentDateCalculator.calculate(
+                    bill.getExecutionDate(),
+                    creditCard.getClosingDay(),
+                    creditCard.getDueDay(),
+                    number
+            );
+
+            Invoice invoice = invoices.computeIfAbsent(
+                    creditCard.getId() + ":" + dateInfo.getReferenceMonth(),
+                    key -> generateOrGetInvoiceForMonth.execute(creditCard.getId(), dateInfo.getReferenceMonth())
+            );
+            invoice.setTotalAmount(invoice.getTotalAmount().add(bill.getInstallmentAmount()));
+            if (!invoice.isClosed()) {
+                used = used.add(bill.getInstallmentAmount());
+            }
+
+            Installment installment = new Installment();
+            installment.setCreditCardId(creditCard.getId());
+            installment.setInvoiceId(invoice.getId());
+            installment.setInstallmentNumber(number);
+            installment.setAmount(bill.getInstallmentAmount());
+            installment.setDueDate(dateInfo.getDueDate());
+            installments.add(installment);
+        }
+        return used;
+    }
+
+    /**
+     * Reports the rows to the listener once the transaction commits. If it rolls back the batch is
+     * imported again row by row, which reports them itself.
+     */
+    private static void reportAfterCommit(ImportProgressListener progressListener, int created, int skipped,
+                                          int failed) {
+        Runnable report = () -> {
+            for (int i = 0; i < created; i++) {
+                progressListener.onItemCreated();
+            }
+            for (int i = 0; i < skipped; i++) {
+                progressListener.onItemSkipped();
+            }
+            for (int i = 0; i < failed; i++) {
+                progressListener.onItemFailed();
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            report.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                report.run();
+            }
+        });
+    }
+
+    private static ImportErrorDTO error(BillImportItemDTO item, String message) {
+        logger.debug("Erro ao processar item da linha {}: {}", item.getLineNumber(), message);
+        return new ImportErrorDTO(item.getLineNumber(), "general", "Erro ao processar: " + message, "");
+    }
+}
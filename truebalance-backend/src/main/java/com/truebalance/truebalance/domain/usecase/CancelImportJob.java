@@ -0,0 +1,35 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.domain.entity.ImportJob;
+import com.truebalance.truebalance.domain.exception.ImportJobNotFoundException;
+import com.truebalance.truebalance.domain.port.ImportJobRepositoryPort;
+import com.truebalance.truebalance.domain.service.ImportJobRunner;
+
+public class CancelImportJob {
+
+    private final ImportJobRepositoryPort importJobRepository;
+    private final ImportJobRunner importJobRunner;
+
+    public CancelImportJob(ImportJobRepositoryPort importJobRepository, ImportJobRunner importJobRunner) {
+        this.importJobRepository = importJobRepository;
+        this.importJobRunner = importJobRunner;
+    }
+
+    /**
+     * Requests cancellation of an import job. Rows already written are kept;
+     * the worker stops before the next row. Finished jobs are returned unchanged.
+     */
+    public ImportJob execute(Long id) {
+        ImportJob job = importJobRepository.findById(id)
+                .orElseThrow(() -> new ImportJobNotFoundException(id));
+
+        if (job.getStatus().isFinished()) {
+            return job;
+        }
+
+        importJobRepository.requestCancel(id);
+        importJobRunner.cancel(id);
+        job.setCancelRequested(true);
+        return job;
+    }
+}
@@ -0,0 +1,61 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of the incremental export inside a window of changes that did not fit in one page.
+ *
+ * The window (since, until] is fixed by the first page; the following pages go through the kinds
+ * of records in {@link Section} order, and within one kind by timestamp and ID, continuing after
+ * the record at {@code after}/{@code afterId}. Sent to the client as an opaque URL-safe token.
+ *
+ * @param since   lower bound of the window (exclusive)
+ * @param until   upper bound of the window (inclusive), the watermark once the last page is read
+ * @param section kind of record to continue with
+ * @param after   timestamp of the last record returned of that kind, or {@code since}
+ * @param afterId ID of the last record returned of that kind, or null
+ */
+public record ChangesCursor(LocalDateTime since, LocalDateTime until, Section section,
+                            LocalDateTime after, Long afterId) {
+
+    /**
+     * Kinds of records, in the order pages go through them.
+     */
+    public enum Section {
+        BILLS, CREDIT_CARDS, INVOICES, PARTIAL_PAYMENTS, DELETED
+    }
+
+    /**
+     * Position at the start of a window.
+     */
+    static ChangesCursor start(LocalDateTime since, LocalDateTime until) {
+        return new ChangesCursor(since, until, Section.BILLS, since, null);
+    }
+
+    public String encode() {
+        String value = String.join("|", since.toString(), until.toString(), section.name(), after.toString(),
+                afterId != null ? afterId.toString() : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token a token returned by {@link #encode()}
+     * @return the position
+     * @throws IllegalArgumentException if the token is not a valid cursor
+     */
+    public static ChangesCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length == 5) {
+                return new ChangesCursor(LocalDateTime.parse(parts[0]), LocalDateTime.parse(parts[1]),
+                        Section.valueOf(parts[2]), LocalDateTime.parse(parts[3]),
+                        parts[4].isEmpty() ? null : Long.valueOf(parts[4]));
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + token, e);
+        }
+        throw new IllegalArgumentException("Cursor inválido: " + token);
+    }
+}
@@ -0,0 +1,76 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.entity.DeletedRecord;
+import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.entity.PartialPayment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Result object for GetChangesSince use case.
+ * Contains one page of the records changed in the window (since, until]. While the window has
+ * more pages, nextCursor is set and nextWatermark stays at since; the last page carries the
+ * watermark the client must send on its next sync.
+ */
+public class ChangesResult {
+    private final LocalDateTime since;
+    private final LocalDateTime nextWatermark;
+    private final List<Bill> bills;
+    private final List<CreditCard> creditCards;
+    private final List<Invoice> invoices;
+    private final List<PartialPayment> partialPayments;
+    private final List<DeletedRecord> deleted;
+    private final ChangesCursor nextCursor;
+
+    public ChangesResult(LocalDateTime since, LocalDateTime nextWatermark, List<Bill> bills,
+                         List<CreditCard> creditCards, List<Invoice> invoices,
+                         List<PartialPayment> partialPayments, List<DeletedRecord> deleted,
+                         ChangesCursor nextCursor) {
+        this.since = since;
+        this.nextWatermark = nextWatermark;
+        this.bills = bills;
+        this.creditCards = creditCards;
+        this.invoices = invoices;
+        this.partialPayments = partialPayments;
+        this.deleted = deleted;
+        this.nextCursor = nextCursor;
+    }
+
+    public LocalDateTime getSince() {
+        return since;
+    }
+
+    public LocalDateTime getNextWatermark() {
+        return nextWatermark;
+    }
+
+    public List<Bill> getBills() {
+        return bills;
+    }
+
+    public List<CreditCard> getCreditCards() {
+        return creditCards;
+    }
+
+    public List<Invoice> getInvoices() {
+        return invoices;
+    }
+
+    public List<PartialPayment> getPartialPayments() {
+        return partialPayments;
+    }
+
+    public List<DeletedRecord> getDeleted() {
+        return deleted;
+    }
+
+    /**
+     * @return where the next page of the window starts, or null if this is the last one
+     */
+    public ChangesCursor getNextCursor() {
+        return nextCursor;
+    }
+}
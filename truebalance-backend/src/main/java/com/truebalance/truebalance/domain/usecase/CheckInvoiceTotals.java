@@ -0,0 +1,76 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort.TotalMismatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Use case to find, and optionally repair, invoices whose total no longer matches the sum of
+ * their installments.
+ *
+ * The total is kept up to date by the use cases that add, change or remove installments, so any
+ * path that forgets to (a bill deleted without its installments, a failed partial update) leaves
+ * it wrong, and with it the available limit (BR-CC-008). Checking is one grouped query per range of
+ * credit cards; repairing is one update per batch that recalculates the totals in the database, so
+ * a total changed concurrently is never overwritten with a stale sum.
+ *
+ * Closed invoices are reported but never repaired: their total has already been billed. Neither
+ * are invoices created before the imported total was recorded, unless {@link #backfillImportedAmounts}
+ * could tell that nothing of their total was imported: repairing them would drop an imported total.
+ */
+public class CheckInvoiceTotals {
+
+    private static final Logger logger = LoggerFactory.getLogger(CheckInvoiceTotals.class);
+
+    private final InvoiceRepositoryPort invoiceRepository;
+
+    public CheckInvoiceTotals(InvoiceRepositoryPort invoiceRepository) {
+        this.invoiceRepository = invoiceRepository;
+    }
+
+    /**
+     * @return IDs of the credit cards with invoices, in ascending order
+     */
+    public List<Long> findCreditCardIds() {
+        return invoiceRepository.findCreditCardIds();
+    }
+
+    /**
+     * @param fromCreditCardId first credit card ID of the range (inclusive)
+     * @param toCreditCardId   last credit card ID of the range (inclusive)
+     * @return invoices of the range whose total differs from their installments
+     */
+    @Transactional(readOnly = true)
+    public List<TotalMismatch> check(long fromCreditCardId, long toCreditCardId) {
+        return invoiceRepository.findTotalMismatches(fromCreditCardId, toCreditCardId);
+    }
+
+    /**
+     * Record a zero imported total on the invoices of unknown origin whose total is exactly the sum
+     * of their installments, so they can be repaired from then on. Only touches rows still unknown,
+     * so running it again is cheap.
+     *
+     * @return number of invoices updated
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int backfillImportedAmounts() {
+        return invoiceRepository.backfillImportedAmounts();
+    }
+
+    /**
+     * Recalculate the totals of a batch of open invoices from their installments.
+     *
+     * @param invoiceIds invoice IDs; closed invoices and those of unknown origin are left untouched
+     * @return number of invoices updated
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int repair(List<Long> invoiceIds) {
+        int updated = invoiceRepository.recalculateTotals(invoiceIds);
+        logger.debug("Totais recalculados para {} de {} faturas", updated, invoiceIds.size());
+        return updated;
+    }
+}
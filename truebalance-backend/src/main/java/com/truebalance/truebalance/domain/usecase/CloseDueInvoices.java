@@ -0,0 +1,120 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort;
+import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort.PaymentTotals;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use case to close, in batches, the open invoices whose card closing day has passed.
+ *
+ * Each batch is closed as {@link CloseInvoice} would close its invoices one by one (BR-I-012,
+ * BR-I-016, BR-I-017), but with a fixed number of queries: the invoices, their partial payments
+ * grouped by invoice, the next-month invoices of the batch, and one saveAll for the closed
+ * invoices and the carried-over balances (updating existing next-month invoices, creating the
+ * missing ones).
+ *
+ * A batch is one transaction: an invoice is never closed without its carry-over or the other way
+ * round. Invoices already closed when the batch starts are skipped, so a run interrupted by a crash
+ * can simply be started again.
+ */
+public class CloseDueInvoices {
+
+    private static final Logger logger = LoggerFactory.getLogger(CloseDueInvoices.class);
+
+    private final InvoiceRepositoryPort invoiceRepository;
+    private final PartialPaymentRepositoryPort partialPaymentRepository;
+
+    public CloseDueInvoices(InvoiceRepositoryPort invoiceRepository,
+                            PartialPaymentRepositoryPort partialPaymentRepository) {
+        this.invoiceRepository = invoiceRepository;
+        this.partialPaymentRepository = partialPaymentRepository;
+    }
+
+    /**
+     * Result of one batch.
+     *
+     * @param closed      invoices closed
+     * @param skipped     invoices not closed because they were already closed or no longer exist
+     * @param carriedOver balances transferred to a next-month invoice
+     */
+    public record BatchResult(int closed, int skipped, int carriedOver) {
+    }
+
+    /**
+     * @param date the closing date, usually today
+     * @return open invoices whose closing day has passed, ordered by credit card and reference month
+     */
+    public List<InvoiceRepositoryPort.DueInvoice> findDue(LocalDate date) {
+        return invoiceRepository.findDueForClosing(date);
+    }
+
+    /**
+     * Close a batch of invoices. All invoices of a credit card should go in the same batch, or in
+     * batches run one after the other, since closing a month updates the next one.
+     *
+     * @param invoiceIds invoice IDs
+     * @return what the batch did
+     */
+    @Transactional(rollbackFor = Exception.class)
+    @RetryOnConflict
+    public BatchResult closeBatch(List<Long> invoiceIds) {
+        List<Invoice> open = invoiceRepository.findAllById(invoiceIds).stream()
+                .filter(invoice -> !invoice.isClosed())
+                .sorted(Comparator.comparing(Invoice::getCreditCardId).thenComparing(Invoice::getReferenceMonth))
+                .toList();
+        int skipped = invoiceIds.size() - open.size();
+        if (open.isEmpty()) {
+            return new BatchResult(0, skipped, 0);
+        }
+
+        List<Long> openIds = open.stream().map(Invoice::getId).toList();
+        Map<Long, PaymentTotals> payments = partialPaymentRepository.summarizeByInvoiceIds(openIds);
+
+        // Invoices by card and month; the ones being closed take precedence over their reloaded copies
+        Map<String, Invoice> byMonth = new HashMap<>();
+        open.forEach(invoice -> byMonth.put(key(invoice.getCreditCardId(), invoice.getReferenceMonth()), invoice));
+        List<Long> cardIds = open.stream().map(Invoice::getCreditCardId).distinct().toList();
+        List<LocalDate> nextMonths = open.stream().map(invoice -> invoice.getReferenceMonth().plusMonths(1)).distinct().toList();
+        for (Invoice next : invoiceRepository.findByCreditCardIdsAndReferenceMonths(cardIds, nextMonths)) {
+            byMonth.putIfAbsent(key(next.getCreditCardId(), next.getReferenceMonth()), next);
+        }
+
+        Map<String, Invoice> changed = new LinkedHashMap<>();
+        int carriedOver = 0;
+        for (Invoice invoice : open) {
+            PaymentTotals totals = payments.getOrDefault(invoice.getId(), PaymentTotals.NONE);
+            BigDecimal carryOver = CloseInvoice.applyClosing(invoice, totals.total());
+            changed.put(key(invoice.getCreditCardId(), invoice.getReferenceMonth()), invoice);
+
+            if (carryOver.compareTo(BigDecimal.ZERO) != 0) {
+                String nextKey = key(invoice.getCreditCardId(), invoice.getReferenceMonth().plusMonths(1));
+                Invoice next = byMonth.computeIfAbsent(nextKey, k -> CloseInvoice.newNextInvoice(invoice));
+                next.setPreviousBalance(next.getPreviousBalance().add(carryOver));
+                changed.put(nextKey, next);
+                carriedOver++;
+            }
+        }
+
+        invoiceRepository.saveAll(new ArrayList<>(changed.values()));
+        logger.debug("Lote de fechamento: {} faturas fechadas, {} ignoradas, {} saldos transferidos",
+                open.size(), skipped, carriedOver);
+        return new BatchResult(open.size(), skipped, carriedOver);
+    }
+
+    private static String key(Long creditCardId, LocalDate referenceMonth) {
+        return creditCardId + ":" + referenceMonth;
+    }
+}
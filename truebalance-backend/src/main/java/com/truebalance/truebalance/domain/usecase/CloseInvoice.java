@@ -3,6 +3,7 @@ package com.truebalance.truebalance.domain.usecase;
 import com.truebalance.truebalance.domain.entity.Invoice;
 import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
 import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -19,6 +20,8 @@ public class CloseInvoice {
         this.partialPaymentRepository = partialPaymentRepository;
     }
 
+    @Transactional(rollbackFor = Exception.class)
+    @RetryOnConflict
     public Optional<Invoice> execute(Long invoiceId) {
         Optional<Invoice> invoiceOpt = invoiceRepository.findById(invoiceId);
 
@@ -36,75 +39,53 @@ public class CloseInvoice {
         // Step 1: Calculate partial payments total
         BigDecimal partialPaymentsTotal = partialPaymentRepository.sumByInvoiceId(invoiceId);
 
-        // Step 2: Calculate final amount = totalAmount - partialPaymentsTotal
-        // BR-I-012: Consider partial payments when closing
-        BigDecimal finalAmount = invoice.getTotalAmount().subtract(partialPaymentsTotal);
-
-        // Step 3: Determine payment status and handle negative balance
-        if (finalAmount.compareTo(BigDecimal.ZERO) < 0) {
-            // finalAmount < 0: Mark as paid, transfer credit to next invoice
-            invoice.setPaid(true);
+        // Steps 2-4: Payment status, closed flag and balance to carry over
+        BigDecimal carryOver = applyClosing(invoice, partialPaymentsTotal);
 
-            // BR-I-016: Transfer negative balance to next invoice
+        if (carryOver.compareTo(BigDecimal.ZERO) != 0) {
+            // BR-I-016 / BR-I-017: Transfer credit or unpaid balance to next invoice
             LocalDate nextMonth = invoice.getReferenceMonth().plusMonths(1);
-            Optional<Invoice> nextInvoiceOpt = invoiceRepository
-                    .findByCreditCardIdAndReferenceMonth(invoice.getCreditCardId(), nextMonth);
-
-            if (nextInvoiceOpt.isPresent()) {
-                Invoice nextInvoice = nextInvoiceOpt.get();
-                // Add negative amount as credit (previousBalance becomes negative)
-                nextInvoice.setPreviousBalance(
-                        nextInvoice.getPreviousBalance().add(finalAmount)
-                );
-                invoiceRepository.save(nextInvoice);
-            } else {
-                // Create next month's invoice with credit
-                Invoice nextInvoice = new Invoice();
-                nextInvoice.setCreditCardId(invoice.getCreditCardId());
-                nextInvoice.setReferenceMonth(nextMonth);
-                nextInvoice.setTotalAmount(BigDecimal.ZERO);
-                nextInvoice.setPreviousBalance(finalAmount); // negative (credit)
-                nextInvoice.setClosed(false);
-                nextInvoice.setPaid(false);
-                invoiceRepository.save(nextInvoice);
-            }
-        } else if (finalAmount.compareTo(BigDecimal.ZERO) == 0) {
-            // finalAmount == 0: Mark as paid
-            invoice.setPaid(true);
-        } else {
-            // finalAmount > 0: Keep as unpaid and transfer balance to next month
-            invoice.setPaid(false);
-
-            // BR-I-017: Transfer unpaid balance to next invoice
-            LocalDate nextMonth = invoice.getReferenceMonth().plusMonths(1);
-            Optional<Invoice> nextInvoiceOpt = invoiceRepository
-                    .findByCreditCardIdAndReferenceMonth(invoice.getCreditCardId(), nextMonth);
-
-            if (nextInvoiceOpt.isPresent()) {
-                Invoice nextInvoice = nextInvoiceOpt.get();
-                // Add unpaid amount to previousBalance
-                nextInvoice.setPreviousBalance(
-                        nextInvoice.getPreviousBalance().add(finalAmount)
-                );
-                invoiceRepository.save(nextInvoice);
-            } else {
-                // Create next month's invoice with unpaid balance
-                Invoice nextInvoice = new Invoice();
-                nextInvoice.setCreditCardId(invoice.getCreditCardId());
-                nextInvoice.setReferenceMonth(nextMonth);
-                nextInvoice.setTotalAmount(BigDecimal.ZERO);
-                nextInvoice.setPreviousBalance(finalAmount); // positive (unpaid balance)
-                nextInvoice.setClosed(false);
-                nextInvoice.setPaid(false);
-                invoiceRepository.save(nextInvoice);
-            }
+            Invoice nextInvoice = invoiceRepository
+                    .findByCreditCardIdAndReferenceMonth(invoice.getCreditCardId(), nextMonth)
+                    .orElseGet(() -> newNextInvoice(invoice));
+            nextInvoice.setPreviousBalance(nextInvoice.getPreviousBalance().add(carryOver));
+            invoiceRepository.save(nextInvoice);
         }
 
-        // Step 4: Mark as closed
-        invoice.setClosed(true);
-
         // Step 5: Save and return
         Invoice closedInvoice = invoiceRepository.save(invoice);
         return Optional.of(closedInvoice);
     }
+
+    /**
+     * Closes an invoice in memory and returns the balance to add to the previous balance of the
+     * next month's invoice. Shared with {@link CloseDueInvoices}.
+     *
+     * BR-I-012: finalAmount = totalAmount - partialPaymentsTotal
+     * - finalAmount < 0: paid, credit carried over (BR-I-016)
+     * - finalAmount = 0: paid, nothing carried over
+     * - finalAmount > 0: unpaid, balance carried over (BR-I-017)
+     *
+     * @return the amount to carry over; zero when there is nothing to transfer
+     */
+    static BigDecimal applyClosing(Invoice invoice, BigDecimal partialPaymentsTotal) {
+        BigDecimal finalAmount = invoice.getTotalAmount().subtract(partialPaymentsTotal);
+        invoice.setPaid(finalAmount.compareTo(BigDecimal.ZERO) <= 0);
+        invoice.setClosed(true);
+        return finalAmount;
+    }
+
+    /**
+     * Empty open invoice for the month after the given one; its previous balance starts at zero.
+     */
+    static Invoice newNextInvoice(Invoice invoice) {
+        Invoice nextInvoice = new Invoice();
+        nextInvoice.setCreditCardId(invoice.getCreditCardId());
+        nextInvoice.setReferenceMonth(invoice.getReferenceMonth().plusMonths(1));
+        nextInvoice.setTotalAmount(BigDecimal.ZERO);
+        nextInvoice.setPreviousBalance(BigDecimal.ZERO);
+        nextInvoice.setClosed(false);
+        nextInvoice.setPaid(false);
+        return nextInvoice;
+    }
 }
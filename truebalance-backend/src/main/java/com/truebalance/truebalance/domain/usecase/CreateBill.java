@@ -23,22 +23,28 @@ public class CreateBill {
         logger.info("Criando nova conta: nome={}, valorTotal={}, parcelas={}, dataExecucao={}", 
             bill.getName(), bill.getTotalAmount(), bill.getNumberOfInstallments(), bill.getExecutionDate());
         
+        bill.setInstallmentAmount(calculateInstallmentAmount(bill));
+        logger.debug("Valor da parcela calculado: {}", bill.getInstallmentAmount());
+        
+        Bill savedBill = repository.save(bill);
+        logger.info("Conta criada com sucesso! ID={}, nome={}", savedBill.getId(), savedBill.getName());
+        
+        return savedBill;
+    }
+
+    /**
+     * Installment amount of a bill: the total divided by the number of installments, rounded
+     * half-up to cents. Shared with the bulk load, which inserts bills without this use case.
+     */
+    static BigDecimal calculateInstallmentAmount(Bill bill) {
         if (bill.getNumberOfInstallments() > 1) {
-            BigDecimal installmentAmount = bill.getTotalAmount().divide(
+            return bill.getTotalAmount().divide(
                 BigDecimal.valueOf(bill.getNumberOfInstallments()),
                 2,
                 RoundingMode.HALF_UP
             );
-            bill.setInstallmentAmount(installmentAmount);
-            logger.debug("Valor da parcela calculado: {}", installmentAmount);
-        } else {
-            bill.setInstallmentAmount(bill.getTotalAmount());
         }
-        
-        Bill savedBill = repository.save(bill);
-        logger.info("Conta criada com sucesso! ID={}, nome={}", savedBill.getId(), savedBill.getName());
-        
-        return savedBill;
+        return bill.getTotalAmount();
     }
 
 }
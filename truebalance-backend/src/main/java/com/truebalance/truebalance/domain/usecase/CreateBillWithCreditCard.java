@@ -3,10 +3,11 @@ package com.truebalance.truebalance.domain.usecase;
 import com.truebalance.truebalance.domain.entity.*;
 import com.truebalance.truebalance.domain.exception.CreditCardNotFoundException;
 import com.truebalance.truebalance.domain.exception.CreditLimitExceededException;
-import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
 import com.truebalance.truebalance.domain.port.InstallmentRepositoryPort;
 import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.service.CreditCardLocks;
 import com.truebalance.truebalance.domain.service.InstallmentDateCalculator;
+import com.truebalance.truebalance.domain.service.MonthlyCardSummaries;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,34 +37,39 @@ import java.util.Map;
  *
  * CRITICAL: This operation is @Transactional to ensure atomicity.
  * If any step fails, ALL changes are rolled back (Bill, Installments, Invoices).
+ * The card is locked for the whole transaction ({@link CreditCardLocks}), so concurrent purchases
+ * on the same card are checked against the limit one after the other.
  */
 public class CreateBillWithCreditCard {
 
     private static final Logger logger = LoggerFactory.getLogger(CreateBillWithCreditCard.class);
     
     private final CreateBill createBill;
-    private final CreditCardRepositoryPort creditCardRepository;
+    private final CreditCardLocks creditCardLocks;
     private final InstallmentRepositoryPort installmentRepository;
     private final InvoiceRepositoryPort invoiceRepository;
     private final GenerateOrGetInvoiceForMonth generateOrGetInvoiceForMonth;
     private final GetAvailableLimit getAvailableLimit;
     private final InstallmentDateCalculator installmentDateCalculator;
+    private final MonthlyCardSummaries monthlyCardSummaries;
 
     public CreateBillWithCreditCard(
             CreateBill createBill,
-            CreditCardRepositoryPort creditCardRepository,
+            CreditCardLocks creditCardLocks,
             InstallmentRepositoryPort installmentRepository,
             InvoiceRepositoryPort invoiceRepository,
             GenerateOrGetInvoiceForMonth generateOrGetInvoiceForMonth,
             GetAvailableLimit getAvailableLimit,
-            InstallmentDateCalculator installmentDateCalculator) {
+            InstallmentDateCalculator installmentDateCalculator,
+            MonthlyCardSummaries monthlyCardSummaries) {
         this.createBill = createBill;
-        this.creditCardRepository = creditCardRepository;
+        this.creditCardLocks = creditCardLocks;
         this.installmentRepository = installmentRepository;
         this.invoiceRepository = invoiceRepository;
         this.generateOrGetInvoiceForMonth = generateOrGetInvoiceForMonth;
         this.getAvailableLimit = getAvailableLimit;
         this.installmentDateCalculator = installmentDateCalculator;
+        this.monthlyCardSummaries = monthlyCardSummaries;
     }
 
     /**
@@ -76,10 +82,10 @@ public class CreateBillWithCreditCard {
      * @throws CreditLimitExceededException if available limit is insufficient
      */
     @Transactional(rollbackFor = Exception.class)
+    @RetryOnConflict
     public Bill execute(Bill bill, Long creditCardId) {
-        // 1. Validate credit card exists
-        CreditCard creditCard = creditCardRepository.findById(creditCardId)
-                .orElseThrow(() -> new CreditCardNotFoundException(creditCardId));
+        // 1. Validate credit card exists and lock it until commit
+        CreditCard creditCard = creditCardLocks.lockForTransaction(creditCardId);
 
         // 2. Validate available limit ONCE at the beginning (BR-CC-008)
         AvailableLimitResult limitResult = getAvailableLimit.execute(creditCardId);
@@ -95,16 +101,42 @@ public class CreateBillWithCreditCard {
 
         // 4. Cache for invoices to avoid duplicate updates (PERFORMANCE OPTIMIZATION)
         Map<LocalDate, Invoice> invoiceCache = new HashMap<>();
-        List<Installment> installments = new ArrayList<>();
 
         // 5. Process each installment
+        List<Installment> installments = distribute(savedBill, creditCard, invoiceCache);
+
+        // 6. BATCH SAVES for optimal performance
+        // Save all modified invoices (only unique invoices, thanks to cache)
+        invoiceRepository.saveAll(new ArrayList<>(invoiceCache.values()));
+
+        // Save all installments in a single batch insert
+        installmentRepository.saveAll(installments);
+        monthlyCardSummaries.billCharged(savedBill, installments);
+
+        // 7. Return the created bill
+        return savedBill;
+    }
+
+    /**
+     * Splits a saved bill into installments (BR-INS-001, BR-INS-002) and adds them to the totals of
+     * their invoices in memory (BR-B-004, BR-I-005). Each invoice is fetched or created once per
+     * month through the given cache (BR-I-001, BR-I-002); the caller saves the invoices in the cache
+     * and the returned installments. Shared with {@link MaterializeRecurringBills}.
+     *
+     * @param savedBill    the bill, already saved (its ID and installment amount are used)
+     * @param creditCard   the card the bill is charged to
+     * @param invoiceCache invoices of the card by reference month; filled as needed
+     * @return the installments, not yet saved
+     */
+    public List<Installment> distribute(Bill savedBill, CreditCard creditCard, Map<LocalDate, Invoice> invoiceCache) {
+        List<Installment> installments = new ArrayList<>();
         logger.info("Processing {} installments for bill. Execution date: {}, Closing day: {}, Due day: {}", 
-                bill.getNumberOfInstallments(), bill.getExecutionDate(), creditCard.getClosingDay(), creditCard.getDueDay());
+                savedBill.getNumberOfInstallments(), savedBill.getExecutionDate(), creditCard.getClosingDay(), creditCard.getDueDay());
         
-        for (int i = 1; i <= bill.getNumberOfInstallments(); i++) {
+        for (int i = 1; i <= savedBill.getNumberOfInstallments(); i++) {
             // 5a. Calculate installment dates using domain service
             InstallmentDateInfo dateInfo = installmentDateCalculator.calculate(
-                    bill.getExecutionDate(),
+                    savedBill.getExecutionDate(),
                     creditCard.getClosingDay(),
                     creditCard.getDueDay(),
                     i
@@ -117,7 +149,7 @@ public class CreateBillWithCreditCard {
             // This ensures we only update each invoice ONCE, even if multiple installments belong to it
             Invoice invoice = invoiceCache.computeIfAbsent(
                     dateInfo.getReferenceMonth(),
-                    refMonth -> generateOrGetInvoiceForMonth.execute(creditCardId, refMonth)
+                    refMonth -> generateOrGetInvoiceForMonth.execute(creditCard.getId(), refMonth)
             );
             
             logger.info("Installment {} assigned to invoice ID: {}, Reference month: {}", 
@@ -131,7 +163,7 @@ public class CreateBillWithCreditCard {
             // 5d. Create installment entity (IN MEMORY)
             Installment installment = new Installment();
             installment.setBillId(savedBill.getId());
-            installment.setCreditCardId(creditCardId);
+            installment.setCreditCardId(creditCard.getId());
             installment.setInvoiceId(invoice.getId());
             installment.setInstallmentNumber(i);
             installment.setAmount(savedBill.getInstallmentAmount());
@@ -140,15 +172,6 @@ public class CreateBillWithCreditCard {
 
             installments.add(installment);
         }
-
-        // 6. BATCH SAVES for optimal performance
-        // Save all modified invoices (only unique invoices, thanks to cache)
-        invoiceRepository.saveAll(new ArrayList<>(invoiceCache.values()));
-
-        // Save all installments in a single batch insert
-        installmentRepository.saveAll(installments);
-
-        // 7. Return the created bill
-        return savedBill;
+        return installments;
     }
 }
@@ -2,16 +2,33 @@ package com.truebalance.truebalance.domain.usecase;
 
 import com.truebalance.truebalance.domain.entity.CreditCard;
 import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
+import com.truebalance.truebalance.domain.service.InvoicePregenerationJob;
+
+import java.util.List;
 
 public class CreateCreditCard {
 
     private final CreditCardRepositoryPort repository;
+    private final InvoicePregenerationJob invoicePregenerationJob;
 
-    public CreateCreditCard(CreditCardRepositoryPort repository) {
+    public CreateCreditCard(CreditCardRepositoryPort repository,
+                            InvoicePregenerationJob invoicePregenerationJob) {
         this.repository = repository;
+        this.invoicePregenerationJob = invoicePregenerationJob;
     }
 
     public CreditCard execute(CreditCard creditCard) {
+        CreditCard created = create(creditCard);
+        // Its invoices of the coming months are created in the background
+        invoicePregenerationJob.cardsAdded(List.of(created.getId()));
+        return created;
+    }
+
+    /**
+     * Validate and save a card, without creating its invoices ahead. Callers adding many cards
+     * hand them to {@link InvoicePregenerationJob#cardsAdded(List)} together.
+     */
+    public CreditCard create(CreditCard creditCard) {
         // BR-CC-002: Validate days are between 1-31
         validateDay(creditCard.getClosingDay(), "Closing day");
         validateDay(creditCard.getDueDay(), "Due day");
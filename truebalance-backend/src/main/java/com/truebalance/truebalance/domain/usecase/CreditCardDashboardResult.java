@@ -0,0 +1,53 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.application.dto.output.InvoiceBalanceDTO;
+import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.entity.Installment;
+import com.truebalance.truebalance.domain.entity.Invoice;
+
+import java.util.List;
+
+/**
+ * Result object for GetCreditCardDashboard use case.
+ * Contains everything needed to render one credit card.
+ */
+public class CreditCardDashboardResult {
+    private final CreditCard creditCard;
+    private final AvailableLimitResult availableLimit;
+    private final Invoice currentInvoice;
+    private final List<InvoiceBalanceDTO> invoices;
+    private final List<Installment> upcomingInstallments;
+
+    public CreditCardDashboardResult(CreditCard creditCard, AvailableLimitResult availableLimit,
+                                     Invoice currentInvoice, List<InvoiceBalanceDTO> invoices,
+                                     List<Installment> upcomingInstallments) {
+        this.creditCard = creditCard;
+        this.availableLimit = availableLimit;
+        this.currentInvoice = currentInvoice;
+        this.invoices = invoices;
+        this.upcomingInstallments = upcomingInstallments;
+    }
+
+    public CreditCard getCreditCard() {
+        return creditCard;
+    }
+
+    public AvailableLimitResult getAvailableLimit() {
+        return availableLimit;
+    }
+
+    /**
+     * @return the open invoice of the current month, or null if it does not exist or is closed
+     */
+    public Invoice getCurrentInvoice() {
+        return currentInvoice;
+    }
+
+    public List<InvoiceBalanceDTO> getInvoices() {
+        return invoices;
+    }
+
+    public List<Installment> getUpcomingInstallments() {
+        return upcomingInstallments;
+    }
+}
@@ -1,18 +1,29 @@
 package com.truebalance.truebalance.domain.usecase;
 
 import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.domain.entity.DeletedRecord;
+import com.truebalance.truebalance.domain.entity.DeletedRecordType;
 import com.truebalance.truebalance.domain.port.BillRepositoryPort;
+import com.truebalance.truebalance.domain.port.DeletedRecordRepositoryPort;
+import com.truebalance.truebalance.domain.service.MonthlyCardSummaries;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public class DeleteBill {
 
     private final BillRepositoryPort repository;
+    private final DeletedRecordRepositoryPort deletedRecordRepository;
+    private final MonthlyCardSummaries monthlyCardSummaries;
 
-    public DeleteBill(BillRepositoryPort repository) {
+    public DeleteBill(BillRepositoryPort repository, DeletedRecordRepositoryPort deletedRecordRepository,
+                      MonthlyCardSummaries monthlyCardSummaries) {
         this.repository = repository;
+        this.deletedRecordRepository = deletedRecordRepository;
+        this.monthlyCardSummaries = monthlyCardSummaries;
     }
 
+    @Transactional(rollbackFor = Exception.class)
     public boolean execute(Long id) {
         Optional<Bill> bill = repository.findById(id);
 
@@ -24,7 +35,12 @@ public class DeleteBill {
         // Note: Cascade delete will be handled automatically by JPA when Installment entity is created
         // BR-I-007: Prevent delete if in closed invoice - SKIP for now (no invoices yet)
 
+        // Reports leave out the installments of deleted bills, so take them out of the summaries too
+        monthlyCardSummaries.billDeleted(bill.get());
         repository.deleteById(id);
+
+        // Tombstone for the incremental export, committed together with the delete
+        deletedRecordRepository.save(new DeletedRecord(DeletedRecordType.BILL, id));
         return true;
     }
 }
@@ -1,18 +1,25 @@
 package com.truebalance.truebalance.domain.usecase;
 
 import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.entity.DeletedRecord;
+import com.truebalance.truebalance.domain.entity.DeletedRecordType;
 import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
+import com.truebalance.truebalance.domain.port.DeletedRecordRepositoryPort;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public class DeleteCreditCard {
 
     private final CreditCardRepositoryPort repository;
+    private final DeletedRecordRepositoryPort deletedRecordRepository;
 
-    public DeleteCreditCard(CreditCardRepositoryPort repository) {
+    public DeleteCreditCard(CreditCardRepositoryPort repository, DeletedRecordRepositoryPort deletedRecordRepository) {
         this.repository = repository;
+        this.deletedRecordRepository = deletedRecordRepository;
     }
 
+    @Transactional(rollbackFor = Exception.class)
     public boolean execute(Long id) {
         Optional<CreditCard> creditCard = repository.findById(id);
 
@@ -25,6 +32,9 @@ public class DeleteCreditCard {
         // Will add validation in Phase 3 when Invoice is implemented
 
         repository.deleteById(id);
+
+        // Tombstone for the incremental export, committed together with the delete
+        deletedRecordRepository.save(new DeletedRecord(DeletedRecordType.CREDIT_CARD, id));
         return true;
     }
 }
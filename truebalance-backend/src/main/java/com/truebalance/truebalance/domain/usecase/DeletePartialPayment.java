@@ -1,9 +1,14 @@
 package com.truebalance.truebalance.domain.usecase;
 
+import com.truebalance.truebalance.domain.entity.DeletedRecord;
+import com.truebalance.truebalance.domain.entity.DeletedRecordType;
 import com.truebalance.truebalance.domain.entity.Invoice;
 import com.truebalance.truebalance.domain.entity.PartialPayment;
+import com.truebalance.truebalance.domain.port.DeletedRecordRepositoryPort;
 import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
 import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort;
+import com.truebalance.truebalance.domain.service.MonthlyCardSummaries;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -15,21 +20,30 @@ public class DeletePartialPayment {
 
     private final PartialPaymentRepositoryPort partialPaymentRepository;
     private final InvoiceRepositoryPort invoiceRepository;
+    private final DeletedRecordRepositoryPort deletedRecordRepository;
+    private final MonthlyCardSummaries monthlyCardSummaries;
 
     public DeletePartialPayment(PartialPaymentRepositoryPort partialPaymentRepository,
-                                InvoiceRepositoryPort invoiceRepository) {
+                                InvoiceRepositoryPort invoiceRepository,
+                                DeletedRecordRepositoryPort deletedRecordRepository,
+                                MonthlyCardSummaries monthlyCardSummaries) {
         this.partialPaymentRepository = partialPaymentRepository;
         this.invoiceRepository = invoiceRepository;
+        this.deletedRecordRepository = deletedRecordRepository;
+        this.monthlyCardSummaries = monthlyCardSummaries;
     }
 
     /**
      * Execute the use case.
-     * Validates that the invoice is open before allowing deletion.
+     * Validates that the invoice is open before allowing deletion, and records a tombstone
+     * for the incremental export.
      *
      * @param partialPaymentId the ID of the partial payment to delete
      * @return true if deleted, false if not found
      * @throws IllegalStateException if invoice is closed (BR-PP-003)
      */
+    @Transactional(rollbackFor = Exception.class)
+    @RetryOnConflict
     public boolean execute(Long partialPaymentId) {
         // Find the partial payment
         Optional<PartialPayment> partialPaymentOpt = partialPaymentRepository.findById(partialPaymentId);
@@ -55,7 +69,9 @@ public class DeletePartialPayment {
         }
 
         // Delete the partial payment
+        monthlyCardSummaries.paymentDeleted(invoice.getCreditCardId(), partialPayment);
         partialPaymentRepository.deleteById(partialPaymentId);
+        deletedRecordRepository.save(new DeletedRecord(DeletedRecordType.PARTIAL_PAYMENT, partialPaymentId));
         return true;
     }
 }
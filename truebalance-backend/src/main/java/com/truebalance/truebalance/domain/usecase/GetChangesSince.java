@@ -0,0 +1,197 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.entity.DeletedRecord;
+import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.entity.PartialPayment;
+import com.truebalance.truebalance.domain.port.BillRepositoryPort;
+import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
+import com.truebalance.truebalance.domain.port.DeletedRecordRepositoryPort;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.port.OpenTransactionsPort;
+import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort;
+import com.truebalance.truebalance.domain.service.InstallmentDateCalculator;
+import com.truebalance.truebalance.domain.usecase.ChangesCursor.Section;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use case to list what changed since a client-supplied watermark, for incremental sync.
+ *
+ * Bills, credit cards and invoices are selected by updatedAt, partial payments (immutable,
+ * BR-PP-004) by createdAt, and deletions by the tombstones written by DeleteBill,
+ * DeleteCreditCard and DeletePartialPayment. Each is an indexed range read of (since, until],
+ * ordered by timestamp and ID so a window larger than one page is read in several calls: the
+ * first page fixes the window and each page returns a {@link ChangesCursor} to the next one.
+ * Invoices pre-created for the months after the current one of their card are left out until
+ * something is written to them.
+ *
+ * The upper bound stops short of the current time: timestamps are taken when a row is written,
+ * not when its transaction commits, so a row of a transaction still open may be invisible while
+ * stamped well before "now". The bound is the start of the oldest write transaction still open
+ * (if any), minus a safety lag that covers clock differences and the time between taking a
+ * timestamp and starting to write. The next call, which starts at the returned watermark, picks
+ * those rows up once they commit.
+ */
+public class GetChangesSince {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetChangesSince.class);
+
+    /** Watermark used when the client has none (first sync) */
+    static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Reads one page of one kind of record: rows after (after, afterId) up to until.
+     */
+    @FunctionalInterface
+    private interface Finder<T> {
+        List<T> find(LocalDateTime after, Long afterId, LocalDateTime until, int limit);
+    }
+
+    private final BillRepositoryPort billRepository;
+    private final CreditCardRepositoryPort creditCardRepository;
+    private final InvoiceRepositoryPort invoiceRepository;
+    private final PartialPaymentRepositoryPort partialPaymentRepository;
+    private final DeletedRecordRepositoryPort deletedRecordRepository;
+    private final OpenTransactionsPort openTransactionsPort;
+    private final InstallmentDateCalculator installmentDateCalculator;
+    private final Duration safetyLag;
+    private final int pageSize;
+
+    public GetChangesSince(BillRepositoryPort billRepository,
+                           CreditCardRepositoryPort creditCardRepository,
+                           InvoiceRepositoryPort invoiceRepository,
+                           PartialPaymentRepositoryPort partialPaymentRepository,
+                           DeletedRecordRepositoryPort deletedRecordRepository,
+                           OpenTransactionsPort openTransactionsPort,
+                           InstallmentDateCalculator installmentDateCalculator,
+                           Duration safetyLag,
+                           int pageSize) {
+        this.billRepository = billRepository;
+        this.creditCardRepository = creditCardRepository;
+        this.invoiceRepository = invoiceRepository;
+        this.partialPaymentRepository = partialPaymentRepository;
+        this.deletedRecordRepository = deletedRecordRepository;
+        this.openTransactionsPort = openTransactionsPort;
+        this.installmentDateCalculator = installmentDateCalculator;
+        this.safetyLag = safetyLag;
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    /**
+     * @param since watermark returned by the previous sync, or null for everything
+     * @return the first page of the changes after {@code since}
+     */
+    @Transactional(readOnly = true)
+    public ChangesResult execute(LocalDateTime since) {
+        LocalDateTime after = since != null ? since : BEGINNING;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = openTransactionsPort.findOldestWriteStart()
+                .filter(start -> start.isBefore(now))
+                .orElse(now);
+        LocalDateTime until = horizon.minus(safetyLag);
+
+        if (!until.isAfter(after)) {
+            // Watermark is already at (or past) the safe upper bound: nothing new yet
+            return new ChangesResult(after, after, List.of(), List.of(), List.of(), List.of(), List.of(), null);
+        }
+        return page(ChangesCursor.start(after, until));
+    }
+
+    /**
+     * @param cursor cursor returned by the previous page
+     * @return the next page of the same window
+     */
+    @Transactional(readOnly = true)
+    public ChangesResult execute(ChangesCursor cursor) {
+        return page(cursor);
+    }
+
+    private ChangesResult page(ChangesCursor position) {
+        List<Bill> bills = new ArrayList<>();
+        List<CreditCard> creditCards = new ArrayList<>();
+        List<Invoice> invoices = new ArrayList<>();
+        List<PartialPayment> partialPayments = new ArrayList<>();
+        List<DeletedRecord> deleted = new ArrayList<>();
+
+        ChangesCursor next = null;
+        Section[] sections = Section.values();
+        for (int i = position.section().ordinal(); i < sections.length && next == null; i++) {
+            Section section = sections[i];
+            int remaining = pageSize - bills.size() - creditCards.size() - invoices.size()
+                    - partialPayments.size() - deleted.size();
+            next = switch (section) {
+                case BILLS -> read(position, section, remaining, billRepository::findUpdatedBetween,
+                        Bill::getUpdatedAt, Bill::getId, bills);
+                case CREDIT_CARDS -> read(position, section, remaining, creditCardRepository::findUpdatedBetween,
+                        CreditCard::getUpdatedAt, CreditCard::getId, creditCards);
+                case INVOICES -> read(position, section, remaining, invoiceRepository::findUpdatedBetween,
+                        Invoice::getUpdatedAt, Invoice::getId, invoices);
+                case PARTIAL_PAYMENTS -> read(position, section, remaining, partialPaymentRepository::findCreatedBetween,
+                        PartialPayment::getCreatedAt, PartialPayment::getId, partialPayments);
+                case DELETED -> read(position, section, remaining, deletedRecordRepository::findDeletedBetween,
+                        DeletedRecord::getDeletedAt, DeletedRecord::getId, deleted);
+            };
+        }
+
+        // Pre-created invoices nobody has written to since carry nothing for the client
+        if (invoices.stream().anyMatch(GetChangesSince::untouched)) {
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, LocalDate> currentMonths = creditCardRepository.findAll().stream()
+                    .collect(Collectors.toMap(CreditCard::getId,
+                            card -> PregenerateInvoices.currentMonth(card, installmentDateCalculator, now)));
+            invoices.removeIf(invoice -> untouched(invoice)
+                    && currentMonths.containsKey(invoice.getCreditCardId())
+                    && PregenerateInvoices.isPlaceholder(invoice, currentMonths.get(invoice.getCreditCardId())));
+        }
+
+        LocalDateTime nextWatermark = next != null ? position.since() : position.until();
+        logger.info("Alterações entre {} e {}{}: {} contas, {} cartões, {} faturas, {} pagamentos parciais, {} exclusões",
+                position.since(), position.until(), next != null ? " (página parcial)" : "", bills.size(),
+                creditCards.size(), invoices.size(), partialPayments.size(), deleted.size());
+        return new ChangesResult(position.since(), nextWatermark, bills, creditCards, invoices, partialPayments,
+                deleted, next);
+    }
+
+    private static boolean untouched(Invoice invoice) {
+        return Objects.equals(invoice.getCreatedAt(), invoice.getUpdatedAt());
+    }
+
+    /**
+     * Adds up to {@code remaining} rows of one kind to {@code target}.
+     *
+     * @return the cursor after the last row added if rows of this kind are left, otherwise null
+     */
+    private static <T> ChangesCursor read(ChangesCursor position, Section section, int remaining, Finder<T> finder,
+                                          Function<T, LocalDateTime> timestamp, Function<T, Long> id,
+                                          List<T> target) {
+        boolean resuming = section == position.section();
+        LocalDateTime after = resuming ? position.after() : position.since();
+        Long afterId = resuming ? position.afterId() : null;
+        if (remaining == 0) {
+            return new ChangesCursor(position.since(), position.until(), section, after, afterId);
+        }
+
+        // One extra row tells whether the kind continues on the next page
+        List<T> rows = finder.find(after, afterId, position.until(), remaining + 1);
+        if (rows.size() <= remaining) {
+            target.addAll(rows);
+            return null;
+        }
+        target.addAll(rows.subList(0, remaining));
+        T last = rows.get(remaining - 1);
+        return new ChangesCursor(position.since(), position.until(), section, timestamp.apply(last), id.apply(last));
+    }
+}
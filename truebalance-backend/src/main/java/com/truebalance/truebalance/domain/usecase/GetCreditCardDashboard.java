@@ -0,0 +1,104 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.application.dto.output.InvoiceBalanceDTO;
+import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.entity.Installment;
+import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.exception.CreditCardNotFoundException;
+import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
+import com.truebalance.truebalance.domain.port.InstallmentRepositoryPort;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort;
+import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort.PaymentTotals;
+import com.truebalance.truebalance.domain.service.InstallmentDateCalculator;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use case to read everything the frontend shows for one credit card: the card, its available
+ * limit (BR-CC-008), the open invoice of the current month, the balance of every invoice
+ * (BR-I-011) and the next installments. Empty invoices pre-created for the months after the current
+ * one are not listed ({@link PregenerateInvoices#isPlaceholder}).
+ *
+ * Uses at most five queries whatever the number of invoices: the card, its invoices, the partial
+ * payments grouped by invoice, the installments of the open invoices and the upcoming installments.
+ * All of them run in one read-only transaction, so the parts are consistent with each other.
+ */
+public class GetCreditCardDashboard {
+
+    private final CreditCardRepositoryPort creditCardRepository;
+    private final InvoiceRepositoryPort invoiceRepository;
+    private final InstallmentRepositoryPort installmentRepository;
+    private final PartialPaymentRepositoryPort partialPaymentRepository;
+    private final InstallmentDateCalculator installmentDateCalculator;
+
+    public GetCreditCardDashboard(CreditCardRepositoryPort creditCardRepository,
+                                  InvoiceRepositoryPort invoiceRepository,
+                                  InstallmentRepositoryPort installmentRepository,
+                                  PartialPaymentRepositoryPort partialPaymentRepository,
+                                  InstallmentDateCalculator installmentDateCalculator) {
+        this.creditCardRepository = creditCardRepository;
+        this.invoiceRepository = invoiceRepository;
+        this.installmentRepository = installmentRepository;
+        this.partialPaymentRepository = partialPaymentRepository;
+        this.installmentDateCalculator = installmentDateCalculator;
+    }
+
+    /**
+     * @param creditCardId         the credit card ID
+     * @param upcomingInstallments maximum number of upcoming installments to return
+     * @return the dashboard of the card
+     * @throws CreditCardNotFoundException if credit card not found
+     */
+    @Transactional(readOnly = true)
+    public CreditCardDashboardResult execute(Long creditCardId, int upcomingInstallments) {
+        CreditCard creditCard = creditCardRepository.findById(creditCardId)
+                .orElseThrow(() -> new CreditCardNotFoundException(creditCardId));
+
+        List<Invoice> invoices = invoiceRepository.findByCreditCardId(creditCardId);
+        Map<Long, PaymentTotals> payments = partialPaymentRepository.summarizeByCreditCardId(creditCardId);
+
+        // Invoice balances (BR-I-011) and the open invoice totals used by the limit (BR-CC-008)
+        LocalDate currentMonth = PregenerateInvoices.currentMonth(creditCard, installmentDateCalculator, LocalDateTime.now());
+        Invoice currentInvoice = null;
+        List<InvoiceBalanceDTO> balances = new ArrayList<>(invoices.size());
+        List<Long> openInvoiceIds = new ArrayList<>();
+        BigDecimal openPaymentsTotal = BigDecimal.ZERO;
+        for (Invoice invoice : invoices) {
+            PaymentTotals totals = payments.getOrDefault(invoice.getId(), PaymentTotals.NONE);
+            if (!PregenerateInvoices.isPlaceholder(invoice, currentMonth)) {
+                balances.add(InvoiceBalanceDTO.fromInvoice(invoice, totals.total(), totals.count()));
+            }
+            if (!invoice.isClosed()) {
+                openInvoiceIds.add(invoice.getId());
+                openPaymentsTotal = openPaymentsTotal.add(totals.total());
+                if (invoice.getReferenceMonth().equals(currentMonth)) {
+                    currentInvoice = invoice;
+                }
+            }
+        }
+
+        BigDecimal usedLimit = installmentRepository.sumAmountByInvoiceIds(openInvoiceIds);
+        BigDecimal availableLimit = creditCard.getCreditLimit()
+                .subtract(usedLimit)
+                .add(openPaymentsTotal);
+        AvailableLimitResult limit = new AvailableLimitResult(
+                creditCardId,
+                creditCard.getCreditLimit(),
+                usedLimit,
+                openPaymentsTotal,
+                availableLimit
+        );
+
+        List<Installment> upcoming = installmentRepository.findUpcomingByCreditCardId(
+                creditCardId, LocalDate.now(), upcomingInstallments);
+
+        return new CreditCardDashboardResult(creditCard, limit, currentInvoice, balances, upcoming);
+    }
+}
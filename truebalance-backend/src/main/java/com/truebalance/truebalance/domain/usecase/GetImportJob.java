@@ -0,0 +1,19 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.domain.entity.ImportJob;
+import com.truebalance.truebalance.domain.port.ImportJobRepositoryPort;
+
+import java.util.Optional;
+
+public class GetImportJob {
+
+    private final ImportJobRepositoryPort importJobRepository;
+
+    public GetImportJob(ImportJobRepositoryPort importJobRepository) {
+        this.importJobRepository = importJobRepository;
+    }
+
+    public Optional<ImportJob> execute(Long id) {
+        return importJobRepository.findById(id);
+    }
+}
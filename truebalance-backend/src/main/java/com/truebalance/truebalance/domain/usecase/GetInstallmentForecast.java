@@ -0,0 +1,121 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.exception.CreditCardNotFoundException;
+import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
+import com.truebalance.truebalance.domain.port.InstallmentRepositoryPort;
+import com.truebalance.truebalance.domain.port.InstallmentRepositoryPort.MonthlyCommitment;
+import com.truebalance.truebalance.domain.service.InstallmentForecastCache;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use case to forecast how much of each credit card is already committed, month by month, by the
+ * installments falling due in the coming months.
+ *
+ * The installments are summed by card and due month in one aggregation, kept by
+ * {@link InstallmentForecastCache} until installments change, and returned as a dense series: every
+ * card gets every month of the range, with zero where nothing is due.
+ */
+public class GetInstallmentForecast {
+
+    /**
+     * Installments of one card due in one month.
+     *
+     * @param month        first day of the month
+     * @param total        sum of the installments, zero if none
+     * @param installments number of installments
+     */
+    public record MonthForecast(LocalDate month, BigDecimal total, long installments) {
+    }
+
+    /**
+     * Forecast of one credit card.
+     *
+     * @param creditCardId   credit card ID
+     * @param creditCardName credit card name
+     * @param months         one entry per month of the range, in order
+     * @param total          sum over the range
+     */
+    public record CardForecast(Long creditCardId, String creditCardName, List<MonthForecast> months, BigDecimal total) {
+    }
+
+    private final CreditCardRepositoryPort creditCardRepository;
+    private final InstallmentRepositoryPort installmentRepository;
+    private final InstallmentForecastCache forecastCache;
+
+    public GetInstallmentForecast(CreditCardRepositoryPort creditCardRepository,
+                                  InstallmentRepositoryPort installmentRepository,
+                                  InstallmentForecastCache forecastCache) {
+        this.creditCardRepository = creditCardRepository;
+        this.installmentRepository = installmentRepository;
+        this.forecastCache = forecastCache;
+    }
+
+    /**
+     * Forecast of every credit card.
+     *
+     * @param date   any day of the first month
+     * @param months number of months
+     * @return one forecast per card, ordered by card ID
+     */
+    @Transactional(readOnly = true)
+    public List<CardForecast> execute(LocalDate date, int months) {
+        LocalDate from = date.withDayOfMonth(1);
+        LocalDate until = from.plusMonths(months);
+        Map<Long, List<MonthlyCommitment>> byCard = new HashMap<>();
+        for (MonthlyCommitment row : forecastCache.get(null, from, until,
+                () -> installmentRepository.sumByCreditCardAndDueMonth(null, from, until))) {
+            byCard.computeIfAbsent(row.creditCardId(), id -> new ArrayList<>()).add(row);
+        }
+
+        return creditCardRepository.findAll().stream()
+                .sorted(Comparator.comparing(CreditCard::getId))
+                .map(card -> dense(card, byCard.getOrDefault(card.getId(), List.of()), from, months))
+                .toList();
+    }
+
+    /**
+     * Forecast of one credit card.
+     *
+     * @param creditCardId the credit card ID
+     * @param date         any day of the first month
+     * @param months       number of months
+     * @throws CreditCardNotFoundException if credit card not found
+     */
+    @Transactional(readOnly = true)
+    public CardForecast execute(Long creditCardId, LocalDate date, int months) {
+        CreditCard card = creditCardRepository.findById(creditCardId)
+                .orElseThrow(() -> new CreditCardNotFoundException(creditCardId));
+        LocalDate from = date.withDayOfMonth(1);
+        LocalDate until = from.plusMonths(months);
+        List<MonthlyCommitment> rows = forecastCache.get(creditCardId, from, until,
+                () -> installmentRepository.sumByCreditCardAndDueMonth(creditCardId, from, until));
+        return dense(card, rows, from, months);
+    }
+
+    private static CardForecast dense(CreditCard card, List<MonthlyCommitment> rows, LocalDate from, int months) {
+        Map<LocalDate, MonthlyCommitment> byMonth = new HashMap<>();
+        rows.forEach(row -> byMonth.put(row.month(), row));
+
+        List<MonthForecast> series = new ArrayList<>(months);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < months; i++) {
+            LocalDate month = from.plusMonths(i);
+            MonthlyCommitment row = byMonth.get(month);
+            MonthForecast forecast = row != null
+                    ? new MonthForecast(month, row.total(), row.installments())
+                    : new MonthForecast(month, BigDecimal.ZERO, 0);
+            series.add(forecast);
+            total = total.add(forecast.total());
+        }
+        return new CardForecast(card.getId(), card.getName(), series, total);
+    }
+}
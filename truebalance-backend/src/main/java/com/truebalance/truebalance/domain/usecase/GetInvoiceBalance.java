@@ -33,22 +33,6 @@ public class GetInvoiceBalance {
         int partialPaymentsCount = partialPaymentRepository.countByInvoiceId(invoiceId);
 
         // BR-I-011: Calculate current balance
-        // currentBalance = totalAmount + previousBalance - partialPaymentsTotal
-        BigDecimal currentBalance = invoice.getTotalAmount()
-                .add(invoice.getPreviousBalance())
-                .subtract(partialPaymentsTotal);
-
-        InvoiceBalanceDTO balanceDTO = new InvoiceBalanceDTO(
-                invoice.getId(),
-                invoice.getTotalAmount(),
-                invoice.getPreviousBalance(),
-                partialPaymentsTotal,
-                currentBalance,
-                invoice.isPaid(),
-                invoice.isClosed(),
-                partialPaymentsCount
-        );
-
-        return Optional.of(balanceDTO);
+        return Optional.of(InvoiceBalanceDTO.fromInvoice(invoice, partialPaymentsTotal, partialPaymentsCount));
     }
 }
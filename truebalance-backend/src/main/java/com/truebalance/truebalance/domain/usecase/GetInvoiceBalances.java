@@ -0,0 +1,64 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.application.dto.output.InvoiceBalanceDTO;
+import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort;
+import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort.PaymentTotals;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use case to calculate the balance (BR-I-011) of several invoices, possibly of different cards.
+ *
+ * Runs two queries whatever the number of invoices: the invoices by ID and their partial payments
+ * grouped by invoice. At most {@link #MAX_INVOICES} IDs per call, so the IN lists stay bounded;
+ * callers page larger sets.
+ */
+public class GetInvoiceBalances {
+
+    public static final int MAX_INVOICES = 500;
+
+    private final InvoiceRepositoryPort invoiceRepository;
+    private final PartialPaymentRepositoryPort partialPaymentRepository;
+
+    public GetInvoiceBalances(InvoiceRepositoryPort invoiceRepository,
+                              PartialPaymentRepositoryPort partialPaymentRepository) {
+        this.invoiceRepository = invoiceRepository;
+        this.partialPaymentRepository = partialPaymentRepository;
+    }
+
+    /**
+     * @param invoiceIds invoice IDs, without duplicates
+     * @return the balances in the order of the IDs; IDs of missing invoices are skipped
+     * @throws IllegalArgumentException if more than {@link #MAX_INVOICES} IDs are given
+     */
+    @Transactional(readOnly = true)
+    public List<InvoiceBalanceDTO> execute(List<Long> invoiceIds) {
+        if (invoiceIds.size() > MAX_INVOICES) {
+            throw new IllegalArgumentException("Máximo de " + MAX_INVOICES + " faturas por consulta");
+        }
+        if (invoiceIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Invoice> invoices = invoiceRepository.findAllById(invoiceIds).stream()
+                .collect(Collectors.toMap(Invoice::getId, Function.identity()));
+        Map<Long, PaymentTotals> payments = partialPaymentRepository.summarizeByInvoiceIds(invoiceIds);
+
+        List<InvoiceBalanceDTO> balances = new ArrayList<>(invoices.size());
+        for (Long invoiceId : invoiceIds) {
+            Invoice invoice = invoices.get(invoiceId);
+            if (invoice != null) {
+                PaymentTotals totals = payments.getOrDefault(invoiceId, PaymentTotals.NONE);
+                balances.add(InvoiceBalanceDTO.fromInvoice(invoice, totals.total(), totals.count()));
+            }
+        }
+        return balances;
+    }
+}
@@ -1,19 +1,59 @@
 package com.truebalance.truebalance.domain.usecase;
 
 import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
 import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.service.InstallmentDateCalculator;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
+/**
+ * Use case to list the invoices of a credit card. The empty invoices pre-created for the months
+ * after the current one of the card are left out ({@link PregenerateInvoices#isPlaceholder}).
+ */
 public class GetInvoicesByCreditCard {
 
     private final InvoiceRepositoryPort invoiceRepository;
+    private final CreditCardRepositoryPort creditCardRepository;
+    private final InstallmentDateCalculator installmentDateCalculator;
 
-    public GetInvoicesByCreditCard(InvoiceRepositoryPort invoiceRepository) {
+    public GetInvoicesByCreditCard(InvoiceRepositoryPort invoiceRepository,
+                                   CreditCardRepositoryPort creditCardRepository,
+                                   InstallmentDateCalculator installmentDateCalculator) {
         this.invoiceRepository = invoiceRepository;
+        this.creditCardRepository = creditCardRepository;
+        this.installmentDateCalculator = installmentDateCalculator;
     }
 
     public List<Invoice> execute(Long creditCardId) {
-        return invoiceRepository.findByCreditCardId(creditCardId);
+        return withoutPlaceholders(creditCardId, invoiceRepository.findByCreditCardId(creditCardId), Function.identity());
+    }
+
+    /**
+     * Invoices of the card with their partial payment count and sum, computed for all of them
+     * with one grouped query instead of one balance lookup per invoice.
+     */
+    public List<InvoiceRepositoryPort.InvoiceWithPayments> executeWithPayments(Long creditCardId) {
+        return withoutPlaceholders(creditCardId, invoiceRepository.findByCreditCardIdWithPayments(creditCardId),
+                InvoiceRepositoryPort.InvoiceWithPayments::invoice);
+    }
+
+    private <T> List<T> withoutPlaceholders(Long creditCardId, List<T> rows, Function<T, Invoice> invoiceOf) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        // Without the card there is no current month to measure from: nothing is left out
+        Optional<LocalDate> currentMonth = creditCardRepository.findById(creditCardId)
+                .map(card -> PregenerateInvoices.currentMonth(card, installmentDateCalculator, LocalDateTime.now()));
+        if (currentMonth.isEmpty()) {
+            return rows;
+        }
+        return rows.stream()
+                .filter(row -> !PregenerateInvoices.isPlaceholder(invoiceOf.apply(row), currentMonth.get()))
+                .toList();
     }
 }
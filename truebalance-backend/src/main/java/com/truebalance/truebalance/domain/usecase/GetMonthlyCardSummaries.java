@@ -0,0 +1,36 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.domain.entity.MonthlyCardSummary;
+import com.truebalance.truebalance.domain.port.MonthlyCardSummaryRepositoryPort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Use case to read the monthly totals of the credit cards from the monthly_card_summary read
+ * model: one small row per card and month instead of an aggregation over bills, installments and
+ * partial payments. Months without activity have no row.
+ */
+public class GetMonthlyCardSummaries {
+
+    private final MonthlyCardSummaryRepositoryPort summaryRepository;
+
+    public GetMonthlyCardSummaries(MonthlyCardSummaryRepositoryPort summaryRepository) {
+        this.summaryRepository = summaryRepository;
+    }
+
+    /**
+     * @param creditCardId the credit card ID, or null for every card
+     * @param from         any day of the first month
+     * @param to           any day of the last month
+     * @return the summaries in the range, ordered by card and month
+     */
+    @Transactional(readOnly = true)
+    public List<MonthlyCardSummary> execute(Long creditCardId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("O mês inicial deve ser anterior ou igual ao mês final");
+        }
+        return summaryRepository.findByMonthBetween(creditCardId, from.withDayOfMonth(1), to.withDayOfMonth(1));
+    }
+}
@@ -8,11 +8,13 @@ import com.truebalance.truebalance.application.dto.output.DuplicateInfoDTO;
 import com.truebalance.truebalance.application.dto.output.ImportErrorDTO;
 import com.truebalance.truebalance.domain.entity.Bill;
 import com.truebalance.truebalance.domain.port.BillRepositoryPort;
+import com.truebalance.truebalance.domain.service.RateLimitedLog;
 import com.truebalance.truebalance.infra.db.entity.BillEntity;
 import com.truebalance.truebalance.infra.db.repository.BillRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -20,33 +22,66 @@ import java.util.Optional;
 public class ImportBillsInBulk {
 
     private static final Logger logger = LoggerFactory.getLogger(ImportBillsInBulk.class);
+    private static final RateLimitedLog rowErrorLog = new RateLimitedLog(logger, 20, Duration.ofSeconds(10));
 
     private final CreateBill createBill;
     private final CreateBillWithCreditCard createBillWithCreditCard;
     private final BillRepository billRepository;
+    private final BulkLoadBills bulkLoadBills;
+    private final int bulkLoadThreshold;
 
     public ImportBillsInBulk(CreateBill createBill,
                              CreateBillWithCreditCard createBillWithCreditCard,
-                             BillRepository billRepository) {
+                             BillRepository billRepository,
+                             BulkLoadBills bulkLoadBills,
+                             int bulkLoadThreshold) {
         this.createBill = createBill;
         this.createBillWithCreditCard = createBillWithCreditCard;
         this.billRepository = billRepository;
+        this.bulkLoadBills = bulkLoadBills;
+        this.bulkLoadThreshold = bulkLoadThreshold;
+    }
+
+    /**
+     * Batch size callers should use to reach the bulk load path, or 0 when the database does not
+     * support it (then any batch size works the same).
+     */
+    public int bulkLoadBatchSize() {
+        return bulkLoadBills.isSupported() ? bulkLoadThreshold : 0;
     }
 
     public BillImportResultDTO execute(BillBulkImportRequestDTO request) {
+        return execute(request, ImportProgressListener.NONE);
+    }
+
+    public BillImportResultDTO execute(BillBulkImportRequestDTO request, ImportProgressListener progressListener) {
         logger.info("Iniciando importação em massa de {} contas com estratégia: {}",
                 request.getItems().size(), request.getDuplicateStrategy());
 
+        // Large batches go through the database bulk load (PostgreSQL COPY); if it fails the
+        // whole batch was rolled back and is imported row by row below
+        if (request.getItems().size() >= bulkLoadThreshold && bulkLoadBills.isSupported()) {
+            try {
+                return bulkLoadBills.execute(request, progressListener);
+            } catch (RuntimeException e) {
+                logger.warn("Carga em massa falhou, importando conta a conta: {}", e.getMessage(), e);
+            }
+        }
+
         List<DuplicateInfoDTO> duplicatesFound = new ArrayList<>();
         List<ImportErrorDTO> errors = new ArrayList<>();
         List<BillResponseDTO> createdBills = new ArrayList<>();
 
-        int totalProcessed = request.getItems().size();
         int totalCreated = 0;
         int totalSkipped = 0;
         int totalErrors = 0;
 
         for (BillImportItemDTO item : request.getItems()) {
+            if (progressListener.isCancelled()) {
+                logger.info("Importação cancelada antes da linha {}", item.getLineNumber());
+                break;
+            }
+
             try {
                 logger.debug("Processando item da linha {}: {}", item.getLineNumber(), item.getName());
 
@@ -76,6 +111,7 @@ public class ImportBillsInBulk {
                         );
                         duplicatesFound.add(duplicateInfo);
                         totalSkipped++;
+                        progressListener.onItemSkipped();
                         logger.debug("Conta da linha {} ignorada (duplicata)", item.getLineNumber());
                         continue;
                     } else {
@@ -98,11 +134,13 @@ public class ImportBillsInBulk {
 
                 createdBills.add(BillResponseDTO.fromBill(createdBill, item.getCreditCardId()));
                 totalCreated++;
+                progressListener.onItemCreated();
                 logger.debug("Conta da linha {} criada com sucesso! ID={}",
                         item.getLineNumber(), createdBill.getId());
 
             } catch (Exception e) {
-                logger.error("Erro ao processar item da linha {}: {}", item.getLineNumber(), e.getMessage(), e);
+                rowErrorLog.warn("Erro ao processar item da linha {}: {}", item.getLineNumber(), e.getMessage());
+                logger.debug("Detalhes do erro da linha {}", item.getLineNumber(), e);
 
                 ImportErrorDTO error = new ImportErrorDTO(
                         item.getLineNumber(),
@@ -112,9 +150,12 @@ public class ImportBillsInBulk {
                 );
                 errors.add(error);
                 totalErrors++;
+                progressListener.onItemFailed();
             }
         }
 
+        int totalProcessed = totalCreated + totalSkipped + totalErrors;
+
         BillImportResultDTO result = new BillImportResultDTO(
                 totalProcessed,
                 totalCreated,
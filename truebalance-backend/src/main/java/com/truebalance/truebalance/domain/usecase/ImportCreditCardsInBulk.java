@@ -8,11 +8,14 @@ import com.truebalance.truebalance.application.dto.output.CreditCardResponseDTO;
 import com.truebalance.truebalance.application.dto.output.ImportErrorDTO;
 import com.truebalance.truebalance.domain.entity.CreditCard;
 import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
+import com.truebalance.truebalance.domain.service.InvoicePregenerationJob;
+import com.truebalance.truebalance.domain.service.RateLimitedLog;
 import com.truebalance.truebalance.infra.db.entity.CreditCardEntity;
 import com.truebalance.truebalance.infra.db.repository.CreditCardRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -20,17 +23,25 @@ import java.util.Optional;
 public class ImportCreditCardsInBulk {
 
     private static final Logger logger = LoggerFactory.getLogger(ImportCreditCardsInBulk.class);
+    private static final RateLimitedLog rowErrorLog = new RateLimitedLog(logger, 20, Duration.ofSeconds(10));
 
     private final CreateCreditCard createCreditCard;
     private final CreditCardRepository creditCardRepository;
+    private final InvoicePregenerationJob invoicePregenerationJob;
 
     public ImportCreditCardsInBulk(CreateCreditCard createCreditCard,
-                                   CreditCardRepository creditCardRepository) {
+                                   CreditCardRepository creditCardRepository,
+                                   InvoicePregenerationJob invoicePregenerationJob) {
         this.createCreditCard = createCreditCard;
         this.creditCardRepository = creditCardRepository;
+        this.invoicePregenerationJob = invoicePregenerationJob;
     }
 
     public CreditCardImportResultDTO execute(CreditCardBulkImportRequestDTO request) {
+        return execute(request, ImportProgressListener.NONE);
+    }
+
+    public CreditCardImportResultDTO execute(CreditCardBulkImportRequestDTO request, ImportProgressListener progressListener) {
         logger.info("Iniciando importação em massa de {} cartões de crédito com estratégia: {}",
                 request.getItems().size(), request.getDuplicateStrategy());
 
@@ -38,12 +49,16 @@ public class ImportCreditCardsInBulk {
         List<ImportErrorDTO> errors = new ArrayList<>();
         List<CreditCardResponseDTO> createdCreditCards = new ArrayList<>();
 
-        int totalProcessed = request.getItems().size();
         int totalCreated = 0;
         int totalSkipped = 0;
         int totalErrors = 0;
 
         for (CreditCardImportItemDTO item : request.getItems()) {
+            if (progressListener.isCancelled()) {
+                logger.info("Importação cancelada antes da linha {}", item.getLineNumber());
+                break;
+            }
+
             try {
                 logger.debug("Processando item da linha {}: {}", item.getLineNumber(), item.getName());
 
@@ -68,6 +83,7 @@ public class ImportCreditCardsInBulk {
                         );
                         duplicatesFound.add(duplicateInfo);
                         totalSkipped++;
+                        progressListener.onItemSkipped();
                         logger.debug("Cartão da linha {} ignorado (duplicata)", item.getLineNumber());
                         continue;
                     } else {
@@ -78,15 +94,17 @@ public class ImportCreditCardsInBulk {
 
                 // Criar credit card
                 CreditCard creditCard = item.toCreditCard();
-                CreditCard createdCreditCard = createCreditCard.execute(creditCard);
+                CreditCard createdCreditCard = createCreditCard.create(creditCard);
 
                 createdCreditCards.add(CreditCardResponseDTO.fromCreditCard(createdCreditCard));
                 totalCreated++;
+                progressListener.onItemCreated();
                 logger.debug("Cartão da linha {} criado com sucesso! ID={}",
                         item.getLineNumber(), createdCreditCard.getId());
 
             } catch (Exception e) {
-                logger.error("Erro ao processar item da linha {}: {}", item.getLineNumber(), e.getMessage(), e);
+                rowErrorLog.warn("Erro ao processar item da linha {}: {}", item.getLineNumber(), e.getMessage());
+                logger.debug("Detalhes do erro da linha {}", item.getLineNumber(), e);
 
                 ImportErrorDTO error = new ImportErrorDTO(
                         item.getLineNumber(),
@@ -96,9 +114,15 @@ public class ImportCreditCardsInBulk {
                 );
                 errors.add(error);
                 totalErrors++;
+                progressListener.onItemFailed();
             }
         }
 
+        // Invoices of the coming months for all the new cards at once
+        invoicePregenerationJob.cardsAdded(createdCreditCards.stream().map(CreditCardResponseDTO::getId).toList());
+
+        int totalProcessed = totalCreated + totalSkipped + totalErrors;
+
         CreditCardImportResultDTO result = new CreditCardImportResultDTO(
                 totalProcessed,
                 totalCreated,
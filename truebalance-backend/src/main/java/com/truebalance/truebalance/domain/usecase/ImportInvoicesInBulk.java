@@ -8,11 +8,11 @@ import com.truebalance.truebalance.application.dto.output.InvoiceImportResultDTO
 import com.truebalance.truebalance.application.dto.output.InvoiceResponseDTO;
 import com.truebalance.truebalance.domain.entity.Invoice;
 import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
-import com.truebalance.truebalance.infra.db.entity.InvoiceEntity;
-import com.truebalance.truebalance.infra.db.repository.InvoiceRepository;
+import com.truebalance.truebalance.domain.service.RateLimitedLog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -20,17 +20,19 @@ import java.util.Optional;
 public class ImportInvoicesInBulk {
 
     private static final Logger logger = LoggerFactory.getLogger(ImportInvoicesInBulk.class);
+    private static final RateLimitedLog rowErrorLog = new RateLimitedLog(logger, 20, Duration.ofSeconds(10));
 
-    private final InvoiceRepositoryPort invoiceRepositoryPort;
-    private final InvoiceRepository invoiceRepository;
+    private final InvoiceRepositoryPort invoiceRepository;
 
-    public ImportInvoicesInBulk(InvoiceRepositoryPort invoiceRepositoryPort,
-                                InvoiceRepository invoiceRepository) {
-        this.invoiceRepositoryPort = invoiceRepositoryPort;
+    public ImportInvoicesInBulk(InvoiceRepositoryPort invoiceRepository) {
         this.invoiceRepository = invoiceRepository;
     }
 
     public InvoiceImportResultDTO execute(InvoiceBulkImportRequestDTO request) {
+        return execute(request, ImportProgressListener.NONE);
+    }
+
+    public InvoiceImportResultDTO execute(InvoiceBulkImportRequestDTO request, ImportProgressListener progressListener) {
         logger.info("Iniciando importação em massa de {} faturas com estratégia: {}",
                 request.getItems().size(), request.getDuplicateStrategy());
 
@@ -38,58 +40,70 @@ public class ImportInvoicesInBulk {
         List<ImportErrorDTO> errors = new ArrayList<>();
         List<InvoiceResponseDTO> createdInvoices = new ArrayList<>();
 
-        int totalProcessed = request.getItems().size();
         int totalCreated = 0;
         int totalSkipped = 0;
         int totalErrors = 0;
 
         for (InvoiceImportItemDTO item : request.getItems()) {
+            if (progressListener.isCancelled()) {
+                logger.info("Importação cancelada antes da linha {}", item.getLineNumber());
+                break;
+            }
+
             try {
                 logger.debug("Processando item da linha {}: Cartão ID={}, Mês={}",
                         item.getLineNumber(), item.getCreditCardId(), item.getReferenceMonth());
 
                 // Verificar duplicata (mesmo cartão + mesmo mês)
-                Optional<InvoiceEntity> duplicateEntity = invoiceRepository.findByCreditCardIdAndReferenceMonth(
+                Optional<Invoice> duplicate = invoiceRepository.findByCreditCardIdAndReferenceMonth(
                         item.getCreditCardId(),
                         item.getReferenceMonth()
                 );
 
-                if (duplicateEntity.isPresent()) {
-                    logger.debug("Duplicata encontrada para linha {}: Invoice ID={}",
-                            item.getLineNumber(), duplicateEntity.get().getId());
-
-                    if (request.getDuplicateStrategy() == InvoiceBulkImportRequestDTO.DuplicateStrategy.SKIP) {
-                        // Adicionar em duplicatas e pular
-                        InvoiceDuplicateInfoDTO duplicateInfo = new InvoiceDuplicateInfoDTO(
-                                item.getLineNumber(),
-                                item.getCreditCardId(),
-                                item.getReferenceMonth(),
-                                item.getTotalAmount(),
-                                duplicateEntity.get().getId(),
-                                String.format("Duplicata encontrada: já existe uma fatura para o cartão ID %d no mês %s (ID: %d)",
-                                        item.getCreditCardId(), item.getReferenceMonth(), duplicateEntity.get().getId())
-                        );
-                        duplicatesFound.add(duplicateInfo);
-                        totalSkipped++;
-                        logger.debug("Fatura da linha {} ignorada (duplicata)", item.getLineNumber());
-                        continue;
-                    } else {
-                        logger.debug("Criando duplicata para linha {} conforme estratégia CREATE_DUPLICATE",
-                                item.getLineNumber());
+                Invoice createdInvoice;
+                if (duplicate.isPresent() && PregenerateInvoices.isUntouched(duplicate.get())) {
+                    // Fatura vazia pré-gerada: recebe os dados importados em vez de contar como duplicata
+                    createdInvoice = fillIn(duplicate.get(), item);
+                } else {
+                    if (duplicate.isPresent()) {
+                        logger.debug("Duplicata encontrada para linha {}: Invoice ID={}",
+                                item.getLineNumber(), duplicate.get().getId());
+
+                        if (request.getDuplicateStrategy() == InvoiceBulkImportRequestDTO.DuplicateStrategy.SKIP) {
+                            // Adicionar em duplicatas e pular
+                            InvoiceDuplicateInfoDTO duplicateInfo = new InvoiceDuplicateInfoDTO(
+                                    item.getLineNumber(),
+                                    item.getCreditCardId(),
+                                    item.getReferenceMonth(),
+                                    item.getTotalAmount(),
+                                    duplicate.get().getId(),
+                                    String.format("Duplicata encontrada: já existe uma fatura para o cartão ID %d no mês %s (ID: %d)",
+                                            item.getCreditCardId(), item.getReferenceMonth(), duplicate.get().getId())
+                            );
+                            duplicatesFound.add(duplicateInfo);
+                            totalSkipped++;
+                            progressListener.onItemSkipped();
+                            logger.debug("Fatura da linha {} ignorada (duplicata)", item.getLineNumber());
+                            continue;
+                        } else {
+                            logger.debug("Criando duplicata para linha {} conforme estratégia CREATE_DUPLICATE",
+                                    item.getLineNumber());
+                        }
                     }
-                }
 
-                // Criar invoice
-                Invoice invoice = item.toInvoice();
-                Invoice createdInvoice = invoiceRepositoryPort.save(invoice);
+                    // Criar invoice
+                    createdInvoice = create(item);
+                }
 
                 createdInvoices.add(InvoiceResponseDTO.fromInvoice(createdInvoice));
                 totalCreated++;
+                progressListener.onItemCreated();
                 logger.debug("Fatura da linha {} criada com sucesso! ID={}",
                         item.getLineNumber(), createdInvoice.getId());
 
             } catch (Exception e) {
-                logger.error("Erro ao processar item da linha {}: {}", item.getLineNumber(), e.getMessage(), e);
+                rowErrorLog.warn("Erro ao processar item da linha {}: {}", item.getLineNumber(), e.getMessage());
+                logger.debug("Detalhes do erro da linha {}", item.getLineNumber(), e);
 
                 ImportErrorDTO error = new ImportErrorDTO(
                         item.getLineNumber(),
@@ -99,9 +113,12 @@ public class ImportInvoicesInBulk {
                 );
                 errors.add(error);
                 totalErrors++;
+                progressListener.onItemFailed();
             }
         }
 
+        int totalProcessed = totalCreated + totalSkipped + totalErrors;
+
         InvoiceImportResultDTO result = new InvoiceImportResultDTO(
                 totalProcessed,
                 totalCreated,
@@ -117,4 +134,31 @@ public class ImportInvoicesInBulk {
 
         return result;
     }
+
+    private Invoice create(InvoiceImportItemDTO item) {
+        try {
+            return invoiceRepository.save(item.toInvoice());
+        } catch (RuntimeException e) {
+            // Os cartões importados no mesmo arquivo têm as faturas pré-geradas em paralelo: se a do
+            // mês surgiu depois da verificação de duplicata, ela recebe os dados importados
+            Optional<Invoice> pregenerated = invoiceRepository.findByCreditCardIdAndReferenceMonth(
+                    item.getCreditCardId(), item.getReferenceMonth()).filter(PregenerateInvoices::isUntouched);
+            if (pregenerated.isEmpty()) {
+                throw e;
+            }
+            return fillIn(pregenerated.get(), item);
+        }
+    }
+
+    private Invoice fillIn(Invoice pregenerated, InvoiceImportItemDTO item) {
+        Invoice imported = item.toInvoice();
+        pregenerated.setTotalAmount(imported.getTotalAmount());
+        pregenerated.setImportedAmount(imported.getImportedAmount());
+        pregenerated.setPreviousBalance(imported.getPreviousBalance());
+        pregenerated.setClosed(imported.isClosed());
+        pregenerated.setPaid(imported.isPaid());
+        logger.debug("Fatura pré-gerada ID={} preenchida com os dados da linha {}",
+                pregenerated.getId(), item.getLineNumber());
+        return invoiceRepository.save(pregenerated);
+    }
 }
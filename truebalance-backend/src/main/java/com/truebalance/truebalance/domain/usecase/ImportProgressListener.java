@@ -0,0 +1,36 @@
+package com.truebalance.truebalance.domain.usecase;
+
+/**
+ * Callback used by the bulk import use cases to report per-item progress.
+ *
+ * Synchronous imports use {@link #NONE}. Asynchronous import jobs plug in a listener that
+ * persists the counters and signals cancellation, which the use cases check before each item.
+ */
+public interface ImportProgressListener {
+
+    ImportProgressListener NONE = new ImportProgressListener() {
+    };
+
+    /**
+     * Called by streaming imports when a row is read from the file, before it is written.
+     * Lets listeners grow the expected total while the file is still being parsed.
+     */
+    default void onItemParsed() {
+    }
+
+    default void onItemCreated() {
+    }
+
+    default void onItemSkipped() {
+    }
+
+    default void onItemFailed() {
+    }
+
+    /**
+     * @return true if the import should stop before processing the next item
+     */
+    default boolean isCancelled() {
+        return false;
+    }
+}
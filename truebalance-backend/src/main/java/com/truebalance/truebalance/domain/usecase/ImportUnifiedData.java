@@ -0,0 +1,377 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.application.dto.input.BillBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.BillImportItemDTO;
+import com.truebalance.truebalance.application.dto.input.CreditCardBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.CreditCardImportItemDTO;
+import com.truebalance.truebalance.application.dto.input.InvoiceBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.InvoiceImportItemDTO;
+import com.truebalance.truebalance.application.dto.output.BillImportResultDTO;
+import com.truebalance.truebalance.application.dto.output.CreditCardDuplicateInfoDTO;
+import com.truebalance.truebalance.application.dto.output.CreditCardImportResultDTO;
+import com.truebalance.truebalance.application.dto.output.CreditCardResponseDTO;
+import com.truebalance.truebalance.application.dto.output.ImportErrorDTO;
+import com.truebalance.truebalance.application.dto.output.ImportPlanDTO;
+import com.truebalance.truebalance.application.dto.output.InvoiceImportResultDTO;
+import com.truebalance.truebalance.domain.service.UnifiedImportService;
+import com.truebalance.truebalance.infra.db.entity.CreditCardEntity;
+import com.truebalance.truebalance.infra.db.repository.CreditCardRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Imports the contents of a unified spreadsheet (bills, credit cards and invoices).
+ * Shared by the synchronous /unified/import endpoint and the asynchronous import jobs.
+ *
+ * Credit cards are imported first so that bills and invoices of the same file can reference
+ * them. The card column of those sheets may hold the card ID from the file (as written by the
+ * unified export) or the card name; both are remapped to the IDs the cards got in this database.
+ * Bills and invoices are then grouped by card and the groups are imported in parallel, since
+ * different cards share no invoices or installments. Within a group bills run before invoices,
+ * the same relative order as before.
+ */
+public class ImportUnifiedData {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportUnifiedData.class);
+
+    private final ImportBillsInBulk importBillsInBulk;
+    private final ImportCreditCardsInBulk importCreditCardsInBulk;
+    private final ImportInvoicesInBulk importInvoicesInBulk;
+    private final CreditCardRepository creditCardRepository;
+    private final int parallelism;
+
+    public ImportUnifiedData(ImportBillsInBulk importBillsInBulk,
+                             ImportCreditCardsInBulk importCreditCardsInBulk,
+                             ImportInvoicesInBulk importInvoicesInBulk,
+                             CreditCardRepository creditCardRepository,
+                             int parallelism) {
+        this.importBillsInBulk = importBillsInBulk;
+        this.importCreditCardsInBulk = importCreditCardsInBulk;
+        this.importInvoicesInBulk = importInvoicesInBulk;
+        this.creditCardRepository = creditCardRepository;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public Map<String, Object> execute(UnifiedImportService.UnifiedImportResult parsedData, String duplicateStrategy) {
+        return execute(parsedData, duplicateStrategy, ImportProgressListener.NONE);
+    }
+
+    public Map<String, Object> execute(UnifiedImportService.UnifiedImportResult parsedData,
+                                       String duplicateStrategy,
+                                       ImportProgressListener progressListener) {
+        boolean skipDuplicates = "SKIP".equals(duplicateStrategy);
+
+        // 1. Cartões primeiro: contas e faturas do mesmo arquivo dependem deles
+        CreditCardImportResultDTO creditCardsResult = null;
+        CardIdMapping cardIds = new CardIdMapping();
+        if (!parsedData.getCreditCards().isEmpty() && !progressListener.isCancelled()) {
+            CreditCardBulkImportRequestDTO creditCardsRequest = new CreditCardBulkImportRequestDTO();
+            creditCardsRequest.setItems(parsedData.getCreditCards());
+            creditCardsRequest.setDuplicateStrategy(skipDuplicates
+                    ? CreditCardBulkImportRequestDTO.DuplicateStrategy.SKIP
+                    : CreditCardBulkImportRequestDTO.DuplicateStrategy.CREATE_DUPLICATE);
+
+            creditCardsResult = importCreditCardsInBulk.execute(creditCardsRequest, progressListener);
+            cardIds = mapCardIds(parsedData.getCreditCards(), creditCardsResult);
+            logger.info("Importação de cartões concluída: {} criados, {} ignorados, {} erros",
+                    creditCardsResult.getTotalCreated(), creditCardsResult.getTotalSkipped(), creditCardsResult.getTotalErrors());
+        }
+
+        // 2. Resolver referências a cartões e agrupar por cartão
+        BillImportResultDTO billsResult = parsedData.getBills().isEmpty() ? null : emptyBillsResult();
+        InvoiceImportResultDTO invoicesResult = parsedData.getInvoices().isEmpty() ? null : emptyInvoicesResult();
+
+        Partition standalone = new Partition(null);
+        Map<Long, Partition> byCard = new LinkedHashMap<>();
+
+        for (BillImportItemDTO bill : parsedData.getBills()) {
+            if (bill.getCreditCardId() == null && bill.getCreditCardName() == null) {
+                standalone.bills.add(bill);
+                continue;
+            }
+            try {
+                Long creditCardId = cardIds.resolve(bill.getCreditCardId(), bill.getCreditCardName());
+                bill.setCreditCardId(creditCardId);
+                byCard.computeIfAbsent(creditCardId, Partition::new).bills.add(bill);
+            } catch (IllegalArgumentException e) {
+                billsResult.merge(unresolvedBill(bill.getLineNumber(), e.getMessage()));
+                progressListener.onItemFailed();
+            }
+        }
+
+        for (InvoiceImportItemDTO invoice : parsedData.getInvoices()) {
+            try {
+                Long creditCardId = cardIds.resolve(invoice.getCreditCardId(), invoice.getCreditCardName());
+                invoice.setCreditCardId(creditCardId);
+                byCard.computeIfAbsent(creditCardId, Partition::new).invoices.add(invoice);
+            } catch (IllegalArgumentException e) {
+                invoicesResult.merge(unresolvedInvoice(invoice.getLineNumber(), e.getMessage()));
+                progressListener.onItemFailed();
+            }
+        }
+
+        List<Partition> partitions = new ArrayList<>();
+        if (!standalone.bills.isEmpty()) {
+            partitions.add(standalone);
+        }
+        partitions.addAll(byCard.values());
+
+        // 3. Importar os grupos em paralelo
+        for (PartitionResult partitionResult : importPartitions(partitions, skipDuplicates, progressListener)) {
+            if (partitionResult.bills != null) {
+                billsResult.merge(partitionResult.bills);
+            }
+            if (partitionResult.invoices != null) {
+                invoicesResult.merge(partitionResult.invoices);
+            }
+        }
+
+        if (billsResult != null) {
+            billsResult.getErrors().sort(Comparator.comparing(ImportErrorDTO::getLineNumber,
+                    Comparator.nullsLast(Comparator.naturalOrder())));
+            logger.info("Importação de contas concluída: {} criadas, {} ignoradas, {} erros",
+                    billsResult.getTotalCreated(), billsResult.getTotalSkipped(), billsResult.getTotalErrors());
+        }
+        if (invoicesResult != null) {
+            invoicesResult.getErrors().sort(Comparator.comparing(ImportErrorDTO::getLineNumber,
+                    Comparator.nullsLast(Comparator.naturalOrder())));
+            logger.info("Importação de faturas concluída: {} criadas, {} ignoradas, {} erros",
+                    invoicesResult.getTotalCreated(), invoicesResult.getTotalSkipped(), invoicesResult.getTotalErrors());
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("bills", billsResult);
+        result.put("creditCards", creditCardsResult);
+        result.put("invoices", invoicesResult);
+        result.put("creditCardIdMapping", cardIds.bySourceId);
+
+        Map<String, ImportPlanDTO> importPlans = new LinkedHashMap<>();
+        parsedData.getPlans().forEach((sheet, plan) -> importPlans.put(sheet, ImportPlanDTO.fromImportPlan(plan)));
+        result.put("importPlans", importPlans);
+
+        // Resumo geral
+        int totalCreated = (billsResult != null ? billsResult.getTotalCreated() : 0) +
+                (creditCardsResult != null ? creditCardsResult.getTotalCreated() : 0) +
+                (invoicesResult != null ? invoicesResult.getTotalCreated() : 0);
+
+        int totalSkipped = (billsResult != null ? billsResult.getTotalSkipped() : 0) +
+                (creditCardsResult != null ? creditCardsResult.getTotalSkipped() : 0) +
+                (invoicesResult != null ? invoicesResult.getTotalSkipped() : 0);
+
+        int totalErrors = (billsResult != null ? billsResult.getTotalErrors() : 0) +
+                (creditCardsResult != null ? creditCardsResult.getTotalErrors() : 0) +
+                (invoicesResult != null ? invoicesResult.getTotalErrors() : 0);
+
+        result.put("summary", Map.of(
+                "totalCreated", totalCreated,
+                "totalSkipped", totalSkipped,
+                "totalErrors", totalErrors
+        ));
+
+        return result;
+    }
+
+    private List<PartitionResult> importPartitions(List<Partition> partitions, boolean skipDuplicates,
+                                                   ImportProgressListener progressListener) {
+        if (partitions.isEmpty()) {
+            return List.of();
+        }
+
+        int threads = Math.min(parallelism, partitions.size());
+        logger.info("Importando {} grupo(s) de contas/faturas com {} thread(s)", partitions.size(), threads);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<PartitionResult>> futures = new ArrayList<>();
+            for (Partition partition : partitions) {
+                futures.add(pool.submit(() -> importPartition(partition, skipDuplicates, progressListener)));
+            }
+
+            List<PartitionResult> results = new ArrayList<>();
+            for (Future<PartitionResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Importação interrompida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private PartitionResult importPartition(Partition partition, boolean skipDuplicates,
+                                            ImportProgressListener progressListener) {
+        PartitionResult result = new PartitionResult();
+        logger.debug("Importando grupo do cartão {}: {} contas, {} faturas",
+                partition.creditCardId, partition.bills.size(), partition.invoices.size());
+
+        if (!partition.bills.isEmpty() && !progressListener.isCancelled()) {
+            BillBulkImportRequestDTO billsRequest = new BillBulkImportRequestDTO();
+            billsRequest.setItems(partition.bills);
+            billsRequest.setDuplicateStrategy(skipDuplicates
+                    ? BillBulkImportRequestDTO.DuplicateStrategy.SKIP
+                    : BillBulkImportRequestDTO.DuplicateStrategy.CREATE_DUPLICATE);
+            result.bills = importBillsInBulk.execute(billsRequest, progressListener);
+        }
+
+        if (!partition.invoices.isEmpty() && !progressListener.isCancelled()) {
+            InvoiceBulkImportRequestDTO invoicesRequest = new InvoiceBulkImportRequestDTO();
+            invoicesRequest.setItems(partition.invoices);
+            invoicesRequest.setDuplicateStrategy(skipDuplicates
+                    ? InvoiceBulkImportRequestDTO.DuplicateStrategy.SKIP
+                    : InvoiceBulkImportRequestDTO.DuplicateStrategy.CREATE_DUPLICATE);
+            result.invoices = importInvoicesInBulk.execute(invoicesRequest, progressListener);
+        }
+
+        return result;
+    }
+
+    /**
+     * Pairs each card row with the ID it ended up with. The bulk import processes rows in order,
+     * so created cards appear in the result in the same order as the rows that were neither
+     * skipped as duplicates nor rejected.
+     */
+    private CardIdMapping mapCardIds(List<CreditCardImportItemDTO> items, CreditCardImportResultDTO result) {
+        Map<Integer, Long> existingByLine = new HashMap<>();
+        for (CreditCardDuplicateInfoDTO duplicate : result.getDuplicatesFound()) {
+            existingByLine.put(duplicate.getLineNumber(), duplicate.getExistingCreditCardId());
+        }
+        Set<Integer> failedLines = new HashSet<>();
+        for (ImportErrorDTO error : result.getErrors()) {
+            failedLines.add(error.getLineNumber());
+        }
+
+        CardIdMapping mapping = new CardIdMapping();
+        Iterator<CreditCardResponseDTO> created = result.getCreatedCreditCards().iterator();
+        for (CreditCardImportItemDTO item : items) {
+            Long id = null;
+            if (existingByLine.containsKey(item.getLineNumber())) {
+                id = existingByLine.get(item.getLineNumber());
+            } else if (!failedLines.contains(item.getLineNumber()) && created.hasNext()) {
+                id = created.next().getId();
+            }
+            mapping.register(item, id);
+        }
+        return mapping;
+    }
+
+    private static BillImportResultDTO emptyBillsResult() {
+        return new BillImportResultDTO(0, 0, 0, 0, null, null, null);
+    }
+
+    private static InvoiceImportResultDTO emptyInvoicesResult() {
+        return new InvoiceImportResultDTO(0, 0, 0, 0, null, null, null);
+    }
+
+    private static BillImportResultDTO unresolvedBill(Integer lineNumber, String message) {
+        return new BillImportResultDTO(1, 0, 0, 1, null,
+                List.of(new ImportErrorDTO(lineNumber, "creditCardId", message, "")), null);
+    }
+
+    private static InvoiceImportResultDTO unresolvedInvoice(Integer lineNumber, String message) {
+        return new InvoiceImportResultDTO(1, 0, 0, 1, null,
+                List.of(new ImportErrorDTO(lineNumber, "creditCardId", message, "")), null);
+    }
+
+    /**
+     * Card references of the file mapped to database IDs.
+     */
+    private class CardIdMapping {
+
+        private final Map<Long, Long> bySourceId = new LinkedHashMap<>();
+        private final Set<Long> fileSourceIds = new HashSet<>();
+        private final Map<String, Long> byName = new HashMap<>();
+        private final Set<String> fileNames = new HashSet<>();
+
+        void register(CreditCardImportItemDTO item, Long id) {
+            String key = item.getName().toLowerCase(Locale.ROOT);
+            fileNames.add(key);
+            if (item.getSourceId() != null) {
+                fileSourceIds.add(item.getSourceId());
+            }
+            if (id == null) {
+                return;
+            }
+            byName.putIfAbsent(key, id);
+            if (item.getSourceId() != null) {
+                bySourceId.put(item.getSourceId(), id);
+            }
+        }
+
+        /**
+         * IDs not present in the file are kept as they are (cards that already exist in the
+         * database); names not present in the file are looked up in the database.
+         *
+         * @throws IllegalArgumentException if the reference cannot be resolved
+         */
+        Long resolve(Long id, String name) {
+            if (id != null) {
+                Long mapped = bySourceId.get(id);
+                if (mapped != null) {
+                    return mapped;
+                }
+                if (fileSourceIds.contains(id)) {
+                    throw new IllegalArgumentException("Cartão ID " + id + " do arquivo não foi importado");
+                }
+                return id;
+            }
+
+            if (name == null) {
+                throw new IllegalArgumentException("ID Cartão é obrigatório");
+            }
+
+            String key = name.toLowerCase(Locale.ROOT);
+            Long mapped = byName.get(key);
+            if (mapped != null) {
+                return mapped;
+            }
+            if (fileNames.contains(key)) {
+                throw new IllegalArgumentException("Cartão '" + name + "' do arquivo não foi importado");
+            }
+
+            Long existing = creditCardRepository.findByName(name)
+                    .map(CreditCardEntity::getId)
+                    .orElseThrow(() -> new IllegalArgumentException("Cartão não encontrado: " + name));
+            byName.put(key, existing);
+            return existing;
+        }
+    }
+
+    private static class Partition {
+
+        private final Long creditCardId;
+        private final List<BillImportItemDTO> bills = new ArrayList<>();
+        private final List<InvoiceImportItemDTO> invoices = new ArrayList<>();
+
+        Partition(Long creditCardId) {
+            this.creditCardId = creditCardId;
+        }
+    }
+
+    private static class PartitionResult {
+
+        private BillImportResultDTO bills;
+        private InvoiceImportResultDTO invoices;
+    }
+}
@@ -2,6 +2,7 @@ package com.truebalance.truebalance.domain.usecase;
 
 import com.truebalance.truebalance.domain.entity.Invoice;
 import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -13,6 +14,8 @@ public class MarkInvoiceAsPaid {
         this.invoiceRepository = invoiceRepository;
     }
 
+    @Transactional(rollbackFor = Exception.class)
+    @RetryOnConflict
     public Optional<Invoice> execute(Long invoiceId) {
         Optional<Invoice> invoiceOpt = invoiceRepository.findById(invoiceId);
 
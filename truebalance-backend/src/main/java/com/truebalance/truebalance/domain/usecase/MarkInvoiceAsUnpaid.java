@@ -2,17 +2,23 @@ package com.truebalance.truebalance.domain.usecase;
 
 import com.truebalance.truebalance.domain.entity.Invoice;
 import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.service.ClosedInvoiceCache;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public class MarkInvoiceAsUnpaid {
 
     private final InvoiceRepositoryPort invoiceRepository;
+    private final ClosedInvoiceCache closedInvoiceCache;
 
-    public MarkInvoiceAsUnpaid(InvoiceRepositoryPort invoiceRepository) {
+    public MarkInvoiceAsUnpaid(InvoiceRepositoryPort invoiceRepository, ClosedInvoiceCache closedInvoiceCache) {
         this.invoiceRepository = invoiceRepository;
+        this.closedInvoiceCache = closedInvoiceCache;
     }
 
+    @Transactional(rollbackFor = Exception.class)
+    @RetryOnConflict
     public Optional<Invoice> execute(Long invoiceId) {
         Optional<Invoice> invoiceOpt = invoiceRepository.findById(invoiceId);
 
@@ -22,7 +28,10 @@ public class MarkInvoiceAsUnpaid {
 
         Invoice invoice = invoiceOpt.get();
         invoice.setPaid(false);
-        
-        return Optional.of(invoiceRepository.save(invoice));
+
+        // A closed and paid invoice was served as immutable; it is not final anymore
+        Invoice saved = invoiceRepository.save(invoice);
+        closedInvoiceCache.invalidate(invoiceId);
+        return Optional.of(saved);
     }
 }
@@ -0,0 +1,296 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.entity.Installment;
+import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.exception.CreditCardNotFoundException;
+import com.truebalance.truebalance.domain.port.BillRepositoryPort;
+import com.truebalance.truebalance.domain.port.InstallmentRepositoryPort;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.service.CreditCardLocks;
+import com.truebalance.truebalance.domain.service.InstallmentDateCalculator;
+import com.truebalance.truebalance.domain.service.MonthlyCardSummaries;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Use case to create the monthly occurrences of every recurring bill (rent, subscriptions).
+ *
+ * A recurring bill entered by the user is the template; each occurrence is a regular bill with the
+ * same name, amount and installments, dated on the same day of its month, and linked back to the
+ * template with the month it belongs to. A template and month pair is materialized at most once
+ * (also enforced by a unique constraint), so running it again does nothing.
+ *
+ * {@link #findPending} lists, for each template, the months since its latest occurrence up to the
+ * current one, so months missed while the job did not run are caught up, but never more than
+ * {@code maxCatchUpMonths} back. A template without occurrences starts at the current month: bills
+ * marked recurring before the job existed (or before it was turned on) are not backfilled. When the
+ * same bill was entered by hand as recurring month after month, only the latest copy (same name and
+ * amount) is a template, so the copies do not each start a series of their own.
+ * {@link #materialize} then creates the occurrences of one template in a transaction of its own,
+ * retried on conflicts: commits stay short, and one template failing leaves the others alone.
+ * Occurrences of templates charged to a credit card are created under the card lock
+ * ({@link CreditCardLocks}), checked against the available limit (BR-CC-008) and split into
+ * installments with the same distribution as {@link CreateBillWithCreditCard}. Months from the
+ * first one over the limit on are left for the next run, so occurrences are always contiguous;
+ * months with an installment falling in an invoice that is already closed are skipped for good,
+ * since a closed invoice has already been billed.
+ */
+public class MaterializeRecurringBills {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaterializeRecurringBills.class);
+
+    private static final Comparator<Bill> COPY_ORDER = Comparator.comparing(Bill::getExecutionDate)
+            .thenComparing(Bill::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    /**
+     * Outcome of one materialization run.
+     *
+     * @param period              first day of the current month
+     * @param created             occurrences created
+     * @param alreadyMaterialized templates that already had an occurrence in the current month
+     * @param failed              occurrences left out (card missing, limit exceeded or error)
+     */
+    public record Result(LocalDate period, int created, int alreadyMaterialized, int failed) {
+    }
+
+    /**
+     * A template with the months it is still missing.
+     *
+     * @param template     the recurring bill
+     * @param creditCardId card its occurrences are charged to, or null
+     * @param periods      first day of each missing month, oldest first
+     */
+    public record Pending(Bill template, Long creditCardId, List<LocalDate> periods) {
+    }
+
+    /**
+     * The templates to materialize up to a month.
+     *
+     * @param period   first day of the current month
+     * @param pending  templates with missing months
+     * @param upToDate templates that already have an occurrence in the current month
+     */
+    public record Plan(LocalDate period, List<Pending> pending, int upToDate) {
+    }
+
+    /**
+     * Outcome of one template.
+     *
+     * @param created occurrences created
+     * @param failed  months left out because they exceed the limit (months whose invoice is
+     *                already closed are skipped, not counted)
+     */
+    public record TemplateResult(int created, int failed) {
+    }
+
+    private final BillRepositoryPort billRepository;
+    private final InstallmentRepositoryPort installmentRepository;
+    private final InvoiceRepositoryPort invoiceRepository;
+    private final CreditCardLocks creditCardLocks;
+    private final GetAvailableLimit getAvailableLimit;
+    private final CreateBillWithCreditCard createBillWithCreditCard;
+    private final MonthlyCardSummaries monthlyCardSummaries;
+    private final InstallmentDateCalculator installmentDateCalculator;
+    private final int maxCatchUpMonths;
+
+    public MaterializeRecurringBills(BillRepositoryPort billRepository,
+                                     InstallmentRepositoryPort installmentRepository,
+                                     InvoiceRepositoryPort invoiceRepository,
+                                     CreditCardLocks creditCardLocks,
+                                     GetAvailableLimit getAvailableLimit,
+                                     CreateBillWithCreditCard createBillWithCreditCard,
+                                     MonthlyCardSummaries monthlyCardSummaries,
+                                     InstallmentDateCalculator installmentDateCalculator,
+                                     int maxCatchUpMonths) {
+        this.billRepository = billRepository;
+        this.installmentRepository = installmentRepository;
+        this.invoiceRepository = invoiceRepository;
+        this.creditCardLocks = creditCardLocks;
+        this.getAvailableLimit = getAvailableLimit;
+        this.createBillWithCreditCard = createBillWithCreditCard;
+        this.monthlyCardSummaries = monthlyCardSummaries;
+        this.installmentDateCalculator = installmentDateCalculator;
+        this.maxCatchUpMonths = Math.max(0, maxCatchUpMonths);
+    }
+
+    /**
+     * The months each template is missing, up to the month of the given date.
+     *
+     * @param date any day of the current month
+     * @return the templates to materialize
+     */
+    public Plan findPending(LocalDate date) {
+        LocalDate period = date.withDayOfMonth(1);
+        LocalDate earliest = period.minusMonths(maxCatchUpMonths);
+        Map<Long, LocalDate> latestPeriods = billRepository.findLatestRecurrencePeriods();
+
+        List<Bill> behind = new ArrayList<>();
+        Map<Long, List<LocalDate>> periods = new HashMap<>();
+        int upToDate = 0;
+        for (Bill template : latestCopies(billRepository.findRecurringTemplates())) {
+            LocalDate latest = latestPeriods.get(template.getId());
+            if (latest != null && !latest.isBefore(period)) {
+                upToDate++;
+                continue;
+            }
+            // A template covers its own month; one never materialized starts now, without backfill
+            LocalDate first = template.getExecutionDate().toLocalDate().withDayOfMonth(1).plusMonths(1);
+            LocalDate from = latest != null ? latest.plusMonths(1) : period;
+            if (from.isAfter(first)) {
+                first = from;
+            }
+            if (first.isBefore(earliest)) {
+                first = earliest;
+            }
+            List<LocalDate> missing = new ArrayList<>();
+            for (LocalDate month = first; !month.isAfter(period); month = month.plusMonths(1)) {
+                missing.add(month);
+            }
+            if (!missing.isEmpty()) {
+                behind.add(template);
+                periods.put(template.getId(), missing);
+            }
+        }
+
+        Map<Long, Long> creditCardIds = behind.isEmpty()
+                ? Map.of()
+                : installmentRepository.findCreditCardIdsByBillIds(behind.stream().map(Bill::getId).toList());
+        List<Pending> pending = behind.stream()
+                .map(template -> new Pending(template, creditCardIds.get(template.getId()), periods.get(template.getId())))
+                .toList();
+        return new Plan(period, pending, upToDate);
+    }
+
+    /**
+     * Create the missing occurrences of one template, oldest month first.
+     *
+     * @param pending the template and its missing months
+     * @return what was created
+     * @throws CreditCardNotFoundException if its card no longer exists
+     */
+    @Transactional(rollbackFor = Exception.class)
+    @RetryOnConflict
+    public TemplateResult materialize(Pending pending) {
+        Bill template = pending.template();
+        CreditCard creditCard = pending.creditCardId() != null
+                ? creditCardLocks.lockForTransaction(pending.creditCardId())
+                : null;
+        BigDecimal availableLimit = creditCard != null
+                ? getAvailableLimit.execute(creditCard.getId()).getAvailableLimit()
+                : null;
+
+        Set<LocalDate> closedMonths = creditCard != null
+                ? invoiceRepository.findByCreditCardIdAndClosed(creditCard.getId(), true).stream()
+                        .map(Invoice::getReferenceMonth)
+                        .collect(Collectors.toSet())
+                : Set.of();
+
+        // 1. Occurrences up to the first month that does not fit in the limit
+        List<Bill> occurrences = new ArrayList<>(pending.periods().size());
+        int skipped = 0;
+        for (LocalDate period : pending.periods()) {
+            Bill occurrence = occurrenceOf(template, period);
+            if (creditCard != null) {
+                if (chargesClosedInvoice(occurrence, creditCard, closedMonths)) {
+                    logger.warn("Conta recorrente {} não materializada em {}: a fatura do mês já está fechada",
+                            template.getId(), period);
+                    skipped++;
+                    continue;
+                }
+                if (occurrence.getTotalAmount().compareTo(availableLimit) > 0) {
+                    logger.warn("Limite insuficiente para a conta recorrente {} em {}. Necessário: {}, Disponível: {}",
+                            template.getId(), period, occurrence.getTotalAmount(), availableLimit);
+                    break;
+                }
+                availableLimit = availableLimit.subtract(occurrence.getTotalAmount());
+            }
+            occurrences.add(occurrence);
+        }
+        int failed = pending.periods().size() - occurrences.size() - skipped;
+        if (occurrences.isEmpty()) {
+            return new TemplateResult(0, failed);
+        }
+
+        // 2. Save the bills, then distribute them over the card invoices
+        List<Bill> saved = billRepository.saveAll(occurrences);
+        if (creditCard != null) {
+            Map<LocalDate, Invoice> invoices = new HashMap<>();
+            Map<Bill, List<Installment>> installmentsByBill = new LinkedHashMap<>();
+            List<Installment> installments = new ArrayList<>();
+            for (Bill bill : saved) {
+                List<Installment> billInstallments = createBillWithCreditCard.distribute(bill, creditCard, invoices);
+                installmentsByBill.put(bill, billInstallments);
+                installments.addAll(billInstallments);
+            }
+            invoiceRepository.saveAll(new ArrayList<>(invoices.values()));
+            installmentRepository.saveAll(installments);
+            monthlyCardSummaries.billsCharged(installmentsByBill);
+        }
+        return new TemplateResult(saved.size(), failed);
+    }
+
+    private boolean chargesClosedInvoice(Bill occurrence, CreditCard creditCard, Set<LocalDate> closedMonths) {
+        if (closedMonths.isEmpty()) {
+            return false;
+        }
+        for (int i = 1; i <= occurrence.getNumberOfInstallments(); i++) {
+            LocalDate referenceMonth = installmentDateCalculator.calculate(occurrence.getExecutionDate(),
+                    creditCard.getClosingDay(), creditCard.getDueDay(), i).getReferenceMonth();
+            if (closedMonths.contains(referenceMonth)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Templates without the older copies of the same bill (same name, ignoring case, and amount)
+     * entered by hand in earlier months; the latest copy is kept, in the original order.
+     */
+    static List<Bill> latestCopies(List<Bill> templates) {
+        Map<String, Bill> latest = new HashMap<>();
+        for (Bill template : templates) {
+            String key = template.getName().toLowerCase(Locale.ROOT) + "|" + template.getTotalAmount().stripTrailingZeros();
+            latest.merge(key, template, (a, b) -> COPY_ORDER.compare(b, a) > 0 ? b : a);
+        }
+        Set<Long> kept = latest.values().stream().map(Bill::getId).collect(Collectors.toSet());
+        return templates.stream().filter(template -> kept.contains(template.getId())).toList();
+    }
+
+    /**
+     * The occurrence of a template in the given month, on the same day (or the last day of a
+     * shorter month) and at the same time.
+     */
+    static Bill occurrenceOf(Bill template, LocalDate period) {
+        LocalDateTime executionDate = template.getExecutionDate();
+        int day = Math.min(executionDate.getDayOfMonth(), period.lengthOfMonth());
+
+        Bill occurrence = new Bill();
+        occurrence.setName(template.getName());
+        occurrence.setExecutionDate(period.withDayOfMonth(day).atTime(executionDate.toLocalTime()));
+        occurrence.setTotalAmount(template.getTotalAmount());
+        occurrence.setNumberOfInstallments(template.getNumberOfInstallments());
+        occurrence.setInstallmentAmount(CreateBill.calculateInstallmentAmount(template));
+        occurrence.setDescription(template.getDescription());
+        occurrence.setIsRecurring(false);
+        occurrence.setRecurringSourceId(template.getId());
+        occurrence.setRecurrencePeriod(period);
+        return occurrence;
+    }
+}
@@ -0,0 +1,110 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort.CardMonth;
+import com.truebalance.truebalance.domain.service.InstallmentDateCalculator;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Use case to create the empty invoices of the coming months ahead of time.
+ *
+ * Every purchase on a credit card needs the invoices of the months its installments fall in
+ * (BR-I-001, BR-I-002). With those invoices already in place, {@link GenerateOrGetInvoiceForMonth}
+ * only finds them and the purchase transaction does no inserts. Each card gets an open invoice with
+ * zero total and previous balance for every month of the horizon that has none yet; the invoices
+ * that already exist are read in one query and the missing ones inserted in one batch.
+ */
+public class PregenerateInvoices {
+
+    private final InvoiceRepositoryPort invoiceRepository;
+
+    public PregenerateInvoices(InvoiceRepositoryPort invoiceRepository) {
+        this.invoiceRepository = invoiceRepository;
+    }
+
+    /**
+     * Create the missing invoices of the given cards, from the month of the given date on.
+     *
+     * @param creditCardIds the cards
+     * @param date          any day of the first month
+     * @param months        number of months, the first one included
+     * @return number of invoices created
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int execute(List<Long> creditCardIds, LocalDate date, int months) {
+        if (creditCardIds.isEmpty() || months < 1) {
+            return 0;
+        }
+        LocalDate from = date.withDayOfMonth(1);
+        LocalDate to = from.plusMonths(months - 1L);
+        Set<CardMonth> existing = new HashSet<>(invoiceRepository.findCardMonths(creditCardIds, from, to));
+
+        // In card and month order, so two runs over the same cards insert in the same order
+        List<CardMonth> missing = new ArrayList<>();
+        for (Long creditCardId : creditCardIds) {
+            for (int i = 0; i < months; i++) {
+                CardMonth cardMonth = new CardMonth(creditCardId, from.plusMonths(i));
+                if (!existing.contains(cardMonth)) {
+                    missing.add(cardMonth);
+                }
+            }
+        }
+        return invoiceRepository.insertEmpty(missing);
+    }
+
+    /**
+     * Whether an invoice is still the empty placeholder of a coming month: open, unpaid, with zero
+     * total and previous balance. Listings leave these out, so pre-generating does not change what
+     * the user sees; the invoice shows up once something is charged or carried over to it.
+     *
+     * @param invoice      the invoice
+     * @param currentMonth the current month of its card ({@link #currentMonth}); invoices up to it
+     *                     are always shown
+     */
+    public static boolean isPlaceholder(Invoice invoice, LocalDate currentMonth) {
+        return invoice.getReferenceMonth().isAfter(currentMonth) && isEmpty(invoice);
+    }
+
+    /**
+     * Whether an invoice is still exactly as pre-created: empty, and never written to since. The
+     * invoice import fills such an invoice in instead of treating it as a duplicate; any month of
+     * the horizon qualifies, the current one included.
+     *
+     * @param invoice the invoice
+     */
+    public static boolean isUntouched(Invoice invoice) {
+        return isEmpty(invoice)
+                && invoice.getCreatedAt() != null
+                && invoice.getCreatedAt().equals(invoice.getUpdatedAt());
+    }
+
+    private static boolean isEmpty(Invoice invoice) {
+        return !invoice.isClosed()
+                && !invoice.isPaid()
+                && invoice.getTotalAmount().signum() == 0
+                && (invoice.getPreviousBalance() == null || invoice.getPreviousBalance().signum() == 0);
+    }
+
+    /**
+     * The current month of a card: the reference month of the invoice a purchase made now goes to,
+     * which is the next calendar month from the closing day on (BR-I-001). Every listing that
+     * leaves placeholders out measures "coming months" from here, so they all show the same
+     * invoices.
+     *
+     * @param creditCard the card
+     * @param calculator the installment date calculator
+     * @param now        the current time
+     */
+    public static LocalDate currentMonth(CreditCard creditCard, InstallmentDateCalculator calculator, LocalDateTime now) {
+        return calculator.calculate(now, creditCard.getClosingDay(), creditCard.getDueDay(), 1).getReferenceMonth();
+    }
+}
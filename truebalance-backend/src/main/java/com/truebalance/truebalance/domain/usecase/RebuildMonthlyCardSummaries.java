@@ -0,0 +1,40 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.domain.port.MonthlyCardSummaryRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case to recompute the monthly_card_summary read model from bills, installments and partial
+ * payments, for the first deployment or after data was changed outside the use cases that keep it
+ * up to date. Runs in one transaction: readers see the old rows until it commits.
+ */
+public class RebuildMonthlyCardSummaries {
+
+    private static final Logger logger = LoggerFactory.getLogger(RebuildMonthlyCardSummaries.class);
+
+    private final MonthlyCardSummaryRepositoryPort summaryRepository;
+
+    public RebuildMonthlyCardSummaries(MonthlyCardSummaryRepositoryPort summaryRepository) {
+        this.summaryRepository = summaryRepository;
+    }
+
+    /**
+     * @return number of card and month rows written
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int execute() {
+        int rows = summaryRepository.rebuild();
+        logger.info("Resumo mensal por cartão reconstruído: {} linhas", rows);
+        return rows;
+    }
+
+    /**
+     * @return true if the read model has no rows yet
+     */
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return summaryRepository.isEmpty();
+    }
+}
@@ -6,6 +6,8 @@ import com.truebalance.truebalance.domain.entity.PartialPayment;
 import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
 import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
 import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort;
+import com.truebalance.truebalance.domain.service.MonthlyCardSummaries;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -25,15 +27,18 @@ public class RegisterPartialPayment {
     private final InvoiceRepositoryPort invoiceRepository;
     private final CreditCardRepositoryPort creditCardRepository;
     private final GetAvailableLimit getAvailableLimit;
+    private final MonthlyCardSummaries monthlyCardSummaries;
 
     public RegisterPartialPayment(PartialPaymentRepositoryPort partialPaymentRepository,
                                    InvoiceRepositoryPort invoiceRepository,
                                    CreditCardRepositoryPort creditCardRepository,
-                                   GetAvailableLimit getAvailableLimit) {
+                                   GetAvailableLimit getAvailableLimit,
+                                   MonthlyCardSummaries monthlyCardSummaries) {
         this.partialPaymentRepository = partialPaymentRepository;
         this.invoiceRepository = invoiceRepository;
         this.creditCardRepository = creditCardRepository;
         this.getAvailableLimit = getAvailableLimit;
+        this.monthlyCardSummaries = monthlyCardSummaries;
     }
 
     /**
@@ -45,6 +50,8 @@ public class RegisterPartialPayment {
      * @return RegisterPartialPaymentResult with payment and available limit
      * @throws IllegalStateException if validation fails
      */
+    @Transactional(rollbackFor = Exception.class)
+    @RetryOnConflict
     public RegisterPartialPaymentResult execute(Long invoiceId, PartialPayment partialPayment) {
         // Step 1: Verify invoice exists
         Optional<Invoice> invoiceOpt = invoiceRepository.findById(invoiceId);
@@ -87,6 +94,7 @@ public class RegisterPartialPayment {
 
         // Step 8: Save the partial payment
         PartialPayment saved = partialPaymentRepository.save(partialPayment);
+        monthlyCardSummaries.paymentRegistered(creditCard.getId(), saved);
 
         // Step 9: BR-PP-006: Calculate available limit
         // Phase 4.5: Full implementation that considers installments and partial payments
@@ -0,0 +1,21 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a transactional use case method that is re-run from the start when its transaction
+ * fails on an optimistic lock conflict (another transaction changed the same invoice or card).
+ *
+ * The retry wraps the transaction, so each attempt reads fresh data; it is skipped when the
+ * method joins a transaction started by its caller. The policy (attempts, backoff) is set in
+ * {@code OptimisticLockRetryConfig}. Only for methods that are safe to repeat as a whole.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
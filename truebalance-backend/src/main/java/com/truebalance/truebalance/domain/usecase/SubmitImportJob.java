@@ -0,0 +1,69 @@
+package com.truebalance.truebalance.domain.usecase;
+
+import com.truebalance.truebalance.domain.entity.ImportJob;
+import com.truebalance.truebalance.domain.entity.ImportJobStatus;
+import com.truebalance.truebalance.domain.entity.ImportJobType;
+import com.truebalance.truebalance.domain.exception.ImportQueueFullException;
+import com.truebalance.truebalance.domain.port.ImportJobRepositoryPort;
+import com.truebalance.truebalance.domain.service.ImportJobRunner;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
+
+public class SubmitImportJob {
+
+    private final ImportJobRepositoryPort importJobRepository;
+    private final ImportJobRunner importJobRunner;
+
+    public SubmitImportJob(ImportJobRepositoryPort importJobRepository, ImportJobRunner importJobRunner) {
+        this.importJobRepository = importJobRepository;
+        this.importJobRunner = importJobRunner;
+    }
+
+    /**
+     * Spools the upload to disk, records a PENDING job and hands it to the background runner.
+     * Returns as soon as the job is persisted so the caller can poll its status.
+     *
+     * @throws ImportQueueFullException if the runner queue is full; the job is then recorded as FAILED
+     */
+    public ImportJob execute(ImportJobType type, MultipartFile file, String duplicateStrategy) throws IOException {
+        String filename = file.getOriginalFilename();
+        if (filename == null) {
+            throw new IllegalArgumentException("Nome do arquivo não pode ser nulo");
+        }
+
+        String suffix = filename.contains(".") ? filename.substring(filename.lastIndexOf(".")) : null;
+        Path spooled = Files.createTempFile("truebalance-import-", suffix);
+        try {
+            file.transferTo(spooled);
+
+            ImportJob job = new ImportJob();
+            job.setType(type);
+            job.setStatus(ImportJobStatus.PENDING);
+            job.setFilename(filename);
+            job.setDuplicateStrategy(duplicateStrategy);
+            job.setOwnerNode(importJobRunner.nodeId());
+            job.setHeartbeatAt(LocalDateTime.now());
+
+            ImportJob saved = importJobRepository.save(job);
+            try {
+                importJobRunner.start(saved, spooled);
+            } catch (RejectedExecutionException e) {
+                // Never picked up: fail it now instead of leaving it PENDING until recovery
+                saved.setStatus(ImportJobStatus.FAILED);
+                saved.setErrorMessage("Fila de importação cheia");
+                saved.setFinishedAt(LocalDateTime.now());
+                importJobRepository.save(saved);
+                throw new ImportQueueFullException();
+            }
+            return saved;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spooled);
+            throw e;
+        }
+    }
+}
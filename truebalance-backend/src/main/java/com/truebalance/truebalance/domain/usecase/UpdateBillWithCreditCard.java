@@ -3,10 +3,11 @@ package com.truebalance.truebalance.domain.usecase;
 import com.truebalance.truebalance.domain.entity.*;
 import com.truebalance.truebalance.domain.exception.CreditCardNotFoundException;
 import com.truebalance.truebalance.domain.exception.CreditLimitExceededException;
-import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
 import com.truebalance.truebalance.domain.port.InstallmentRepositoryPort;
 import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.service.CreditCardLocks;
 import com.truebalance.truebalance.domain.service.InstallmentDateCalculator;
+import com.truebalance.truebalance.domain.service.MonthlyCardSummaries;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -38,35 +39,39 @@ import java.util.Map;
  * 
  * CRITICAL: This operation is @Transactional to ensure atomicity.
  * If any step fails, ALL changes are rolled back.
+ * The card is locked for the whole transaction ({@link CreditCardLocks}), like a new purchase.
  */
 public class UpdateBillWithCreditCard {
 
     private final UpdateBill updateBill;
-    private final CreditCardRepositoryPort creditCardRepository;
+    private final CreditCardLocks creditCardLocks;
     private final InstallmentRepositoryPort installmentRepository;
     private final InvoiceRepositoryPort invoiceRepository;
     private final GenerateOrGetInvoiceForMonth generateOrGetInvoiceForMonth;
     private final GetAvailableLimit getAvailableLimit;
     private final InstallmentDateCalculator installmentDateCalculator;
     private final GetBillInstallments getBillInstallments;
+    private final MonthlyCardSummaries monthlyCardSummaries;
 
     public UpdateBillWithCreditCard(
             UpdateBill updateBill,
-            CreditCardRepositoryPort creditCardRepository,
+            CreditCardLocks creditCardLocks,
             InstallmentRepositoryPort installmentRepository,
             InvoiceRepositoryPort invoiceRepository,
             GenerateOrGetInvoiceForMonth generateOrGetInvoiceForMonth,
             GetAvailableLimit getAvailableLimit,
             InstallmentDateCalculator installmentDateCalculator,
-            GetBillInstallments getBillInstallments) {
+            GetBillInstallments getBillInstallments,
+            MonthlyCardSummaries monthlyCardSummaries) {
         this.updateBill = updateBill;
-        this.creditCardRepository = creditCardRepository;
+        this.creditCardLocks = creditCardLocks;
         this.installmentRepository = installmentRepository;
         this.invoiceRepository = invoiceRepository;
         this.generateOrGetInvoiceForMonth = generateOrGetInvoiceForMonth;
         this.getAvailableLimit = getAvailableLimit;
         this.installmentDateCalculator = installmentDateCalculator;
         this.getBillInstallments = getBillInstallments;
+        this.monthlyCardSummaries = monthlyCardSummaries;
     }
 
     /**
@@ -80,16 +85,19 @@ public class UpdateBillWithCreditCard {
      * @throws CreditLimitExceededException if available limit is insufficient
      */
     @Transactional(rollbackFor = Exception.class)
+    @RetryOnConflict
     public Bill execute(Long billId, Bill bill, Long creditCardId) {
-        // 1. Validate credit card exists
-        CreditCard creditCard = creditCardRepository.findById(creditCardId)
-                .orElseThrow(() -> new CreditCardNotFoundException(creditCardId));
+        // 1. Validate credit card exists and lock it until commit
+        CreditCard creditCard = creditCardLocks.lockForTransaction(creditCardId);
 
         // 2. Get existing installments (if any) to update invoices later
         List<Installment> existingInstallments = getBillInstallments.execute(billId);
         
         // 3. Remove old installments and update old invoices
         if (!existingInstallments.isEmpty()) {
+            // Take the old bill out of the monthly summaries while it is still unchanged
+            monthlyCardSummaries.billUncharged(billId, existingInstallments);
+
             // Group installments by invoice to update invoice totals
             Map<Long, BigDecimal> invoiceAmountsToSubtract = new HashMap<>();
             for (Installment installment : existingInstallments) {
@@ -170,6 +178,7 @@ public class UpdateBillWithCreditCard {
 
         // Save all installments in a single batch insert
         installmentRepository.saveAll(installments);
+        monthlyCardSummaries.billCharged(updatedBill, installments);
 
         // 9. Return the updated bill
         return updatedBill;
@@ -207,6 +216,7 @@ public class UpdateBillWithCreditCard {
         }
 
         // Delete installments
+        monthlyCardSummaries.billUncharged(billId, installments);
         installmentRepository.deleteByBillId(billId);
     }
 }
@@ -0,0 +1,193 @@
+package com.truebalance.truebalance.infra.db.adapter;
+
+import com.truebalance.truebalance.domain.port.ClusterLockPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Adapter implementing ClusterLockPort with PostgreSQL session-level advisory locks.
+ *
+ * Each held lock keeps its own connection, outside any Spring transaction, until it is closed;
+ * if the instance dies the session ends and PostgreSQL releases the lock. Lock names are mapped
+ * to the 64-bit advisory lock key with FNV-1a, so every instance computes the same key without a
+ * lock table. Several instances pointing at one local PostgreSQL behave exactly like a cluster.
+ *
+ * Other databases (H2 in tests) fall back to locks local to this JVM.
+ */
+@Component
+public class AdvisoryLockAdapter implements ClusterLockPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdvisoryLockAdapter.class);
+
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_lock(?)";
+    private static final String UNLOCK = "SELECT pg_advisory_unlock(?)";
+
+    private final DataSource dataSource;
+    private final Set<String> localLocks = ConcurrentHashMap.newKeySet();
+    private volatile Boolean supported;
+
+    public AdvisoryLockAdapter(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Optional<ClusterLock> tryLock(String name) {
+        if (!isSupported()) {
+            return localLocks.add(name) ? Optional.of(new LocalLock(name)) : Optional.empty();
+        }
+
+        long key = key(name);
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            if (!query(connection, TRY_LOCK, key)) {
+                connection.close();
+                return Optional.empty();
+            }
+            logger.debug("Lock {} adquirido", name);
+            return Optional.of(new AdvisoryLock(name, key, connection));
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new IllegalStateException("Erro ao adquirir lock " + name + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isLocked(String name) {
+        if (!isSupported()) {
+            return localLocks.contains(name);
+        }
+
+        // Advisory locks are reentrant per session, so the probe must use a connection that
+        // does not hold the lock; a fresh one from the pool never does.
+        long key = key(name);
+        try (Connection connection = dataSource.getConnection()) {
+            if (!query(connection, TRY_LOCK, key)) {
+                return true;
+            }
+            query(connection, UNLOCK, key);
+            return false;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Erro ao verificar lock " + name + ": " + e.getMessage(), e);
+        }
+    }
+
+    private boolean isSupported() {
+        if (supported == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                supported = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+                logger.info("Locks entre instâncias {}", supported
+                        ? "via advisory locks do PostgreSQL" : "locais à instância (banco sem advisory locks)");
+            } catch (SQLException e) {
+                throw new IllegalStateException("Não foi possível verificar suporte a advisory locks: " + e.getMessage(), e);
+            }
+        }
+        return supported;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the lock name.
+     */
+    static long key(String name) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static boolean query(Connection connection, String sql, long key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                logger.warn("Erro ao devolver conexão ao pool: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static final class AdvisoryLock implements ClusterLock {
+
+        private final String name;
+        private final long key;
+        private final Connection connection;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        AdvisoryLock(String name, long key, Connection connection) {
+            this.name = name;
+            this.key = key;
+            this.connection = connection;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void close() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                if (!query(connection, UNLOCK, key)) {
+                    logger.warn("Lock {} já não estava mais em posse desta sessão", name);
+                }
+            } catch (SQLException e) {
+                // A pooled session must never keep the lock: drop the connection instead of returning it
+                logger.warn("Erro ao liberar lock {}, descartando a conexão: {}", name, e.getMessage());
+                try {
+                    connection.abort(Runnable::run);
+                } catch (SQLException abortError) {
+                    logger.warn("Erro ao descartar conexão do lock {}: {}", name, abortError.getMessage());
+                }
+            } finally {
+                closeQuietly(connection);
+            }
+        }
+    }
+
+    private final class LocalLock implements ClusterLock {
+
+        private final String name;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        LocalLock(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                localLocks.remove(name);
+            }
+        }
+    }
+}
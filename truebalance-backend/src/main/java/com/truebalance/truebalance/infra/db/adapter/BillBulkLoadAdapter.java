@@ -0,0 +1,300 @@
+package com.truebalance.truebalance.infra.db.adapter;
+
+import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.domain.entity.Installment;
+import com.truebalance.truebalance.domain.port.BillBulkLoadPort;
+import com.truebalance.truebalance.domain.service.InstallmentForecastCache;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adapter implementing BillBulkLoadPort with PostgreSQL COPY.
+ *
+ * Bills are streamed in CSV format into a temporary staging table, where duplicates are found
+ * with a single query; accepted rows get IDs from the bills sequence and are copied to the real
+ * tables with INSERT ... SELECT, stamped with the application clock like the rows saved through
+ * JPA (the changes feed compares them against it). The staging tables are dropped at commit. It
+ * works on the connection of the current Spring transaction, so it commits or rolls back together
+ * with the JPA changes made in the same use case.
+ *
+ * Other databases (H2 in tests) report {@link #isSupported()} false.
+ */
+@Component
+public class BillBulkLoadAdapter implements BillBulkLoadPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(BillBulkLoadAdapter.class);
+
+    private static final String CREATE_BILL_STAGING = """
+            CREATE TEMPORARY TABLE IF NOT EXISTS bill_import_staging (
+                ord integer PRIMARY KEY,
+                name varchar(255) NOT NULL,
+                execution_date timestamp NOT NULL,
+                total_amount numeric(10, 2) NOT NULL,
+                number_of_installments integer NOT NULL,
+                installment_amount numeric(10, 2),
+                description text,
+                is_recurring boolean NOT NULL,
+                bill_id bigint
+            ) ON COMMIT DROP""";
+
+    private static final String CREATE_INSTALLMENT_STAGING = """
+            CREATE TEMPORARY TABLE IF NOT EXISTS installment_import_staging (
+                ord integer NOT NULL,
+                credit_card_id bigint,
+                invoice_id bigint,
+                installment_number integer NOT NULL,
+                amount numeric(10, 2) NOT NULL,
+                due_date date NOT NULL
+            ) ON COMMIT DROP""";
+
+    private static final String COPY_BILLS =
+            "COPY bill_import_staging (ord, name, execution_date, total_amount, number_of_installments, " +
+            "installment_amount, description, is_recurring) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String COPY_INSTALLMENTS =
+            "COPY installment_import_staging (ord, credit_card_id, invoice_id, installment_number, amount, due_date) " +
+            "FROM STDIN WITH (FORMAT csv)";
+
+    // Same criteria as BillRepository.findDuplicate
+    private static final String FIND_DUPLICATES = """
+            SELECT s.ord,
+                   (SELECT MIN(b.id) FROM bills b
+                     WHERE b.execution_date = s.execution_date
+                       AND b.total_amount = s.total_amount
+                       AND b.number_of_installments = s.number_of_installments
+                       AND LOWER(b.name) = LOWER(s.name)) AS existing_id,
+                   MIN(s.ord) OVER (PARTITION BY LOWER(s.name), s.total_amount, s.execution_date,
+                                                 s.number_of_installments) AS first_ord
+              FROM bill_import_staging s
+             ORDER BY s.ord""";
+
+    private static final String ASSIGN_IDS =
+            "UPDATE bill_import_staging SET bill_id = nextval(pg_get_serial_sequence('bills', 'id')) WHERE ord = ANY (?)";
+
+    private static final String INSERT_BILLS = """
+            INSERT INTO bills (id, name, execution_date, total_amount, number_of_installments, installment_amount,
+                               description, is_recurring, created_at, updated_at)
+            SELECT bill_id, name, execution_date, total_amount, number_of_installments, installment_amount,
+                   description, is_recurring, ?, ?
+              FROM bill_import_staging
+             WHERE bill_id IS NOT NULL
+             ORDER BY ord""";
+
+    private static final String INSERT_INSTALLMENTS = """
+            INSERT INTO installments (bill_id, credit_card_id, invoice_id, installment_number, amount, due_date, created_at)
+            SELECT s.bill_id, i.credit_card_id, i.invoice_id, i.installment_number, i.amount, i.due_date, ?
+              FROM installment_import_staging i
+              JOIN bill_import_staging s ON s.ord = i.ord
+             WHERE s.bill_id IS NOT NULL""";
+
+    private static final String SELECT_IDS =
+            "SELECT ord, bill_id FROM bill_import_staging WHERE bill_id IS NOT NULL";
+
+    private final DataSource dataSource;
+    private final InstallmentForecastCache forecastCache;
+    private volatile Boolean supported;
+
+    public BillBulkLoadAdapter(DataSource dataSource, InstallmentForecastCache forecastCache) {
+        this.dataSource = dataSource;
+        this.forecastCache = forecastCache;
+    }
+
+    @Override
+    public boolean isSupported() {
+        if (supported == null) {
+            Connection connection = DataSourceUtils.getConnection(dataSource);
+            try {
+                supported = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())
+                        && connection.isWrapperFor(PGConnection.class);
+                logger.info("Carga em massa via COPY {}", supported ? "disponível" : "indisponível neste banco");
+            } catch (SQLException e) {
+                logger.warn("Não foi possível verificar suporte a COPY: {}", e.getMessage());
+                supported = false;
+            } finally {
+                DataSourceUtils.releaseConnection(connection, dataSource);
+            }
+        }
+        return supported;
+    }
+
+    @Override
+    public List<StagedBill> stage(List<Bill> bills) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_BILL_STAGING);
+                statement.execute("TRUNCATE bill_import_staging");
+            }
+
+            try (Writer writer = copyWriter(connection, COPY_BILLS)) {
+                for (int i = 0; i < bills.size(); i++) {
+                    Bill bill = bills.get(i);
+                    writer.write(Integer.toString(i));
+                    writer.write(',');
+                    writeText(writer, bill.getName());
+                    writer.write(',');
+                    writer.write(bill.getExecutionDate().toString());
+                    writer.write(',');
+                    writer.write(bill.getTotalAmount().toPlainString());
+                    writer.write(',');
+                    writer.write(Integer.toString(bill.getNumberOfInstallments()));
+                    writer.write(',');
+                    writeDecimal(writer, bill.getInstallmentAmount());
+                    writer.write(',');
+                    writeText(writer, bill.getDescription());
+                    writer.write(',');
+                    writer.write(Boolean.TRUE.equals(bill.getIsRecurring()) ? "t" : "f");
+                    writer.write('\n');
+                }
+            }
+
+            List<StagedBill> staged = new ArrayList<>(bills.size());
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(FIND_DUPLICATES)) {
+                while (resultSet.next()) {
+                    long existingId = resultSet.getLong("existing_id");
+                    staged.add(new StagedBill(resultSet.wasNull() ? null : existingId, resultSet.getInt("first_ord")));
+                }
+            }
+
+            logger.debug("{} contas enviadas para a tabela de staging", bills.size());
+            return staged;
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("Erro na carga em massa de contas: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    @Override
+    public Map<Integer, Long> insertStaged(List<Integer> indexes, Map<Integer, List<Installment>> installments) {
+        Map<Integer, Long> ids = new HashMap<>();
+        if (indexes.isEmpty()) {
+            return ids;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            Array ords = connection.createArrayOf("integer", indexes.toArray(new Integer[0]));
+            try (PreparedStatement statement = connection.prepareStatement(ASSIGN_IDS)) {
+                statement.setArray(1, ords);
+                statement.executeUpdate();
+            } finally {
+                ords.free();
+            }
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int insertedBills;
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_BILLS)) {
+                statement.setTimestamp(1, now);
+                statement.setTimestamp(2, now);
+                insertedBills = statement.executeUpdate();
+            }
+
+            int insertedInstallments = 0;
+            if (!installments.isEmpty()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(CREATE_INSTALLMENT_STAGING);
+                    statement.execute("TRUNCATE installment_import_staging");
+                }
+                try (Writer writer = copyWriter(connection, COPY_INSTALLMENTS)) {
+                    for (Map.Entry<Integer, List<Installment>> entry : installments.entrySet()) {
+                        for (Installment installment : entry.getValue()) {
+                            writer.write(Integer.toString(entry.getKey()));
+                            writer.write(',');
+                            writeLong(writer, installment.getCreditCardId());
+                            writer.write(',');
+                            writeLong(writer, installment.getInvoiceId());
+                            writer.write(',');
+                            writer.write(Integer.toString(installment.getInstallmentNumber()));
+                            writer.write(',');
+                            writer.write(installment.getAmount().toPlainString());
+                            writer.write(',');
+                            writer.write(installment.getDueDate().toString());
+                            writer.write('\n');
+                        }
+                    }
+                }
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_INSTALLMENTS)) {
+                    statement.setTimestamp(1, now);
+                    insertedInstallments = statement.executeUpdate();
+                }
+                forecastCache.installmentsChanged();
+            }
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(SELECT_IDS)) {
+                while (resultSet.next()) {
+                    ids.put(resultSet.getInt("ord"), resultSet.getLong("bill_id"));
+                }
+            }
+
+            logger.info("Carga em massa concluída: {} contas e {} parcelas inseridas", insertedBills, insertedInstallments);
+            return ids;
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("Erro na carga em massa de contas: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static Writer copyWriter(Connection connection, String sql) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        return new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(pgConnection, sql), StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    /**
+     * CSV value: null is an unquoted empty field (NULL for COPY), anything else is quoted.
+     */
+    private static void writeText(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static void writeDecimal(Writer writer, BigDecimal value) throws IOException {
+        if (value != null) {
+            writer.write(value.toPlainString());
+        }
+    }
+
+    private static void writeLong(Writer writer, Long value) throws IOException {
+        if (value != null) {
+            writer.write(Long.toString(value));
+        }
+    }
+}
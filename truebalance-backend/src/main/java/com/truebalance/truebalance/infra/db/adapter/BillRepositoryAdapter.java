@@ -2,16 +2,20 @@ package com.truebalance.truebalance.infra.db.adapter;
 
 import com.truebalance.truebalance.domain.entity.Bill;
 import com.truebalance.truebalance.domain.port.BillRepositoryPort;
+import com.truebalance.truebalance.domain.service.InstallmentForecastCache;
 import com.truebalance.truebalance.infra.db.entity.BillEntity;
 import com.truebalance.truebalance.infra.db.repository.BillRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -20,9 +24,11 @@ public class BillRepositoryAdapter implements BillRepositoryPort {
 
     private static final Logger logger = LoggerFactory.getLogger(BillRepositoryAdapter.class);
     private final BillRepository repository;
+    private final InstallmentForecastCache forecastCache;
 
-    public BillRepositoryAdapter(BillRepository repository) {
+    public BillRepositoryAdapter(BillRepository repository, InstallmentForecastCache forecastCache) {
         this.repository = repository;
+        this.forecastCache = forecastCache;
     }
 
     @Override
@@ -88,9 +94,40 @@ public class BillRepositoryAdapter implements BillRepositoryPort {
         return allEntities.map(this::toDomain);
     }
 
+    @Override
+    public List<Bill> saveAll(List<Bill> bills) {
+        List<BillEntity> entities = bills.stream().map(this::toEntity).collect(Collectors.toList());
+        return repository.saveAll(entities).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Bill> findRecurringTemplates() {
+        return repository.findRecurringTemplates().stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<Long, LocalDate> findLatestRecurrencePeriods() {
+        return repository.findLatestRecurrencePeriods().stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (LocalDate) row[1]));
+    }
+
     @Override
     public void deleteById(Long id) {
         repository.deleteById(id);
+        // The installments stay, but the forecast leaves out those of deleted bills
+        forecastCache.installmentsChanged();
+    }
+
+    @Override
+    public List<Bill> findUpdatedBetween(LocalDateTime after, Long afterId, LocalDateTime until, int limit) {
+        return repository.findUpdatedBetween(after, afterId != null ? afterId : Long.MAX_VALUE, until,
+                PageRequest.of(0, limit)).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
     }
 
     private BillEntity toEntity(Bill bill) {
@@ -103,6 +140,8 @@ public class BillRepositoryAdapter implements BillRepositoryPort {
         entity.setInstallmentAmount(bill.getInstallmentAmount());
         entity.setDescription(bill.getDescription());
         entity.setIsRecurring(bill.getIsRecurring());
+        entity.setRecurringSourceId(bill.getRecurringSourceId());
+        entity.setRecurrencePeriod(bill.getRecurrencePeriod());
         // createdAt e updatedAt são gerenciados automaticamente pelo JPA (@PrePersist e @PreUpdate)
         return entity;
     }
@@ -117,6 +156,8 @@ public class BillRepositoryAdapter implements BillRepositoryPort {
         bill.setInstallmentAmount(entity.getInstallmentAmount());
         bill.setDescription(entity.getDescription());
         bill.setIsRecurring(entity.getIsRecurring());
+        bill.setRecurringSourceId(entity.getRecurringSourceId());
+        bill.setRecurrencePeriod(entity.getRecurrencePeriod());
         bill.setCreatedAt(entity.getCreatedAt());
         bill.setUpdatedAt(entity.getUpdatedAt());
         return bill;
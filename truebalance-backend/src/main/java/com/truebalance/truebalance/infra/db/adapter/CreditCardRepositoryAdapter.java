@@ -4,8 +4,10 @@ import com.truebalance.truebalance.domain.entity.CreditCard;
 import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
 import com.truebalance.truebalance.infra.db.entity.CreditCardEntity;
 import com.truebalance.truebalance.infra.db.repository.CreditCardRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -31,6 +33,11 @@ public class CreditCardRepositoryAdapter implements CreditCardRepositoryPort {
         return repository.findById(id).map(this::toDomain);
     }
 
+    @Override
+    public Optional<CreditCard> findByIdForUpdate(Long id) {
+        return repository.findByIdForUpdate(id).map(this::toDomain);
+    }
+
     @Override
     public List<CreditCard> findAll() {
         return repository.findAll().stream()
@@ -38,11 +45,24 @@ public class CreditCardRepositoryAdapter implements CreditCardRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Long> findAllIds() {
+        return repository.findAllIds();
+    }
+
     @Override
     public void deleteById(Long id) {
         repository.deleteById(id);
     }
 
+    @Override
+    public List<CreditCard> findUpdatedBetween(LocalDateTime after, Long afterId, LocalDateTime until, int limit) {
+        return repository.findUpdatedBetween(after, afterId != null ? afterId : Long.MAX_VALUE, until,
+                PageRequest.of(0, limit)).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
     private CreditCardEntity toEntity(CreditCard creditCard) {
         CreditCardEntity entity = new CreditCardEntity();
         entity.setId(creditCard.getId());
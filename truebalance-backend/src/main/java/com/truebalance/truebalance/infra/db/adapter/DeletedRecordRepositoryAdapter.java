@@ -0,0 +1,49 @@
+package com.truebalance.truebalance.infra.db.adapter;
+
+import com.truebalance.truebalance.domain.entity.DeletedRecord;
+import com.truebalance.truebalance.domain.port.DeletedRecordRepositoryPort;
+import com.truebalance.truebalance.infra.db.entity.DeletedRecordEntity;
+import com.truebalance.truebalance.infra.db.repository.DeletedRecordRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementing DeletedRecordRepositoryPort using Spring Data JPA.
+ */
+@Component
+public class DeletedRecordRepositoryAdapter implements DeletedRecordRepositoryPort {
+
+    private final DeletedRecordRepository repository;
+
+    public DeletedRecordRepositoryAdapter(DeletedRecordRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public DeletedRecord save(DeletedRecord deletedRecord) {
+        DeletedRecordEntity entity = new DeletedRecordEntity();
+        entity.setType(deletedRecord.getType());
+        entity.setRecordId(deletedRecord.getRecordId());
+        // deletedAt is managed by JPA lifecycle hooks
+        return toDomain(repository.save(entity));
+    }
+
+    @Override
+    public List<DeletedRecord> findDeletedBetween(LocalDateTime after, Long afterId, LocalDateTime until, int limit) {
+        return repository.findDeletedBetween(after, afterId != null ? afterId : Long.MAX_VALUE, until,
+                PageRequest.of(0, limit)).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private DeletedRecord toDomain(DeletedRecordEntity entity) {
+        DeletedRecord deletedRecord = new DeletedRecord(entity.getType(), entity.getRecordId());
+        deletedRecord.setId(entity.getId());
+        deletedRecord.setDeletedAt(entity.getDeletedAt());
+        return deletedRecord;
+    }
+}
@@ -0,0 +1,130 @@
+package com.truebalance.truebalance.infra.db.adapter;
+
+import com.truebalance.truebalance.domain.entity.ImportJob;
+import com.truebalance.truebalance.domain.entity.ImportJobStatus;
+import com.truebalance.truebalance.domain.port.ImportJobRepositoryPort;
+import com.truebalance.truebalance.infra.db.entity.ImportJobEntity;
+import com.truebalance.truebalance.infra.db.repository.ImportJobRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementing ImportJobRepositoryPort using Spring Data JPA.
+ */
+@Component
+public class ImportJobRepositoryAdapter implements ImportJobRepositoryPort {
+
+    private final ImportJobRepository repository;
+
+    public ImportJobRepositoryAdapter(ImportJobRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public ImportJob save(ImportJob importJob) {
+        ImportJobEntity saved = repository.save(toEntity(importJob));
+        return toDomain(saved);
+    }
+
+    @Override
+    public Optional<ImportJob> findById(Long id) {
+        return repository.findById(id).map(this::toDomain);
+    }
+
+    @Override
+    public List<ImportJob> findRecent(int limit) {
+        return repository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, limit)).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ImportJob> findByStatusIn(List<ImportJobStatus> statuses) {
+        return repository.findByStatusIn(statuses).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean isCancelRequested(Long id) {
+        return Boolean.TRUE.equals(repository.findCancelRequestedById(id));
+    }
+
+    @Override
+    public boolean markRunning(Long id, LocalDateTime startedAt) {
+        return repository.markRunning(id, startedAt, ImportJobStatus.PENDING, ImportJobStatus.RUNNING) > 0;
+    }
+
+    @Override
+    public void updateProgress(ImportJob importJob) {
+        repository.updateProgress(
+                importJob.getId(),
+                importJob.getTotalRows(),
+                importJob.getProcessedRows(),
+                importJob.getCreatedRows(),
+                importJob.getSkippedRows(),
+                importJob.getFailedRows()
+        );
+    }
+
+    @Override
+    public void requestCancel(Long id) {
+        repository.markCancelRequested(id);
+    }
+
+    @Override
+    public int heartbeat(String ownerNode, LocalDateTime now) {
+        return repository.updateHeartbeat(ownerNode, List.of(ImportJobStatus.PENDING, ImportJobStatus.RUNNING), now);
+    }
+
+    private ImportJobEntity toEntity(ImportJob importJob) {
+        ImportJobEntity entity = new ImportJobEntity();
+        entity.setId(importJob.getId());
+        entity.setType(importJob.getType());
+        entity.setStatus(importJob.getStatus());
+        entity.setFilename(importJob.getFilename());
+        entity.setDuplicateStrategy(importJob.getDuplicateStrategy());
+        entity.setTotalRows(importJob.getTotalRows());
+        entity.setProcessedRows(importJob.getProcessedRows());
+        entity.setCreatedRows(importJob.getCreatedRows());
+        entity.setSkippedRows(importJob.getSkippedRows());
+        entity.setFailedRows(importJob.getFailedRows());
+        entity.setCancelRequested(importJob.isCancelRequested());
+        entity.setErrorMessage(importJob.getErrorMessage());
+        entity.setOwnerNode(importJob.getOwnerNode());
+        entity.setHeartbeatAt(importJob.getHeartbeatAt());
+        entity.setStartedAt(importJob.getStartedAt());
+        entity.setFinishedAt(importJob.getFinishedAt());
+        // createdAt is not updatable; updatedAt is managed by JPA lifecycle hooks
+        entity.setCreatedAt(importJob.getCreatedAt());
+        return entity;
+    }
+
+    private ImportJob toDomain(ImportJobEntity entity) {
+        ImportJob importJob = new ImportJob();
+        importJob.setId(entity.getId());
+        importJob.setType(entity.getType());
+        importJob.setStatus(entity.getStatus());
+        importJob.setFilename(entity.getFilename());
+        importJob.setDuplicateStrategy(entity.getDuplicateStrategy());
+        importJob.setTotalRows(entity.getTotalRows());
+        importJob.setProcessedRows(entity.getProcessedRows());
+        importJob.setCreatedRows(entity.getCreatedRows());
+        importJob.setSkippedRows(entity.getSkippedRows());
+        importJob.setFailedRows(entity.getFailedRows());
+        importJob.setCancelRequested(entity.isCancelRequested());
+        importJob.setErrorMessage(entity.getErrorMessage());
+        importJob.setOwnerNode(entity.getOwnerNode());
+        importJob.setHeartbeatAt(entity.getHeartbeatAt());
+        importJob.setStartedAt(entity.getStartedAt());
+        importJob.setFinishedAt(entity.getFinishedAt());
+        importJob.setCreatedAt(entity.getCreatedAt());
+        importJob.setUpdatedAt(entity.getUpdatedAt());
+        return importJob;
+    }
+}
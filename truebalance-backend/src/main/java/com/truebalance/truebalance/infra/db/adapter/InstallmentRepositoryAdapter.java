@@ -2,12 +2,17 @@ package com.truebalance.truebalance.infra.db.adapter;
 
 import com.truebalance.truebalance.domain.entity.Installment;
 import com.truebalance.truebalance.domain.port.InstallmentRepositoryPort;
+import com.truebalance.truebalance.domain.service.InstallmentForecastCache;
 import com.truebalance.truebalance.infra.db.entity.InstallmentEntity;
 import com.truebalance.truebalance.infra.db.repository.InstallmentRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -18,20 +23,24 @@ import java.util.stream.Collectors;
 public class InstallmentRepositoryAdapter implements InstallmentRepositoryPort {
 
     private final InstallmentRepository repository;
+    private final InstallmentForecastCache forecastCache;
 
-    public InstallmentRepositoryAdapter(InstallmentRepository repository) {
+    public InstallmentRepositoryAdapter(InstallmentRepository repository, InstallmentForecastCache forecastCache) {
         this.repository = repository;
+        this.forecastCache = forecastCache;
     }
 
     @Override
     public Installment save(Installment installment) {
         InstallmentEntity entity = toEntity(installment);
         InstallmentEntity saved = repository.save(entity);
+        forecastCache.installmentsChanged();
         return toDomain(saved);
     }
 
     @Override
     public List<Installment> saveAll(List<Installment> installments) {
+        forecastCache.installmentsChanged();
         List<InstallmentEntity> entities = installments.stream()
                 .map(this::toEntity)
                 .collect(Collectors.toList());
@@ -58,6 +67,15 @@ public class InstallmentRepositoryAdapter implements InstallmentRepositoryPort {
     @Override
     public void deleteByBillId(Long billId) {
         repository.deleteByBillId(billId);
+        forecastCache.installmentsChanged();
+    }
+
+    @Override
+    public List<Installment> findUpcomingByCreditCardId(Long creditCardId, LocalDate from, int limit) {
+        return repository.findByCreditCardIdAndDueDateGreaterThanEqualOrderByDueDateAscIdAsc(
+                        creditCardId, from, PageRequest.of(0, limit)).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -68,6 +86,30 @@ public class InstallmentRepositoryAdapter implements InstallmentRepositoryPort {
         return repository.sumAmountByInvoiceIds(invoiceIds);
     }
 
+    @Override
+    public Map<Long, Long> findCreditCardIdsByBillIds(List<Long> billIds) {
+        Map<Long, Long> creditCardIds = new HashMap<>();
+        if (billIds == null || billIds.isEmpty()) {
+            return creditCardIds;
+        }
+        for (Object[] row : repository.findCreditCardIdsByBillIds(billIds)) {
+            creditCardIds.put((Long) row[0], (Long) row[1]);
+        }
+        return creditCardIds;
+    }
+
+    @Override
+    public List<MonthlyCommitment> sumByCreditCardAndDueMonth(Long creditCardId, LocalDate from, LocalDate until) {
+        List<Object[]> rows = creditCardId == null
+                ? repository.sumByCreditCardAndDueMonth(from, until)
+                : repository.sumByDueMonth(creditCardId, from, until);
+        return rows.stream()
+                .map(row -> new MonthlyCommitment((Long) row[0],
+                        LocalDate.of(((Number) row[1]).intValue(), ((Number) row[2]).intValue(), 1),
+                        (BigDecimal) row[3], ((Number) row[4]).longValue()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Convert domain Installment to JPA InstallmentEntity.
      *
@@ -4,9 +4,17 @@ import com.truebalance.truebalance.domain.entity.Invoice;
 import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
 import com.truebalance.truebalance.infra.db.entity.InvoiceEntity;
 import com.truebalance.truebalance.infra.db.repository.InvoiceRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -14,10 +22,26 @@ import java.util.stream.Collectors;
 @Component
 public class InvoiceRepositoryAdapter implements InvoiceRepositoryPort {
 
+    // Invoice IDs are identity columns, which Hibernate never inserts in batches
+    private static final String INSERT_EMPTY_POSTGRES = """
+            INSERT INTO invoices (version, credit_card_id, reference_month, total_amount, previous_balance,
+                                  imported_amount, closed, paid, created_at, updated_at)
+            VALUES (0, ?, ?, 0, 0, 0, FALSE, FALSE, ?, ?)
+            ON CONFLICT (credit_card_id, reference_month) DO NOTHING""";
+
+    private static final String INSERT_EMPTY = """
+            INSERT INTO invoices (version, credit_card_id, reference_month, total_amount, previous_balance,
+                                  imported_amount, closed, paid, created_at, updated_at)
+            SELECT 0, CAST(? AS BIGINT), CAST(? AS DATE), 0, 0, 0, FALSE, FALSE, ?, ?
+             WHERE NOT EXISTS (SELECT 1 FROM invoices WHERE credit_card_id = ? AND reference_month = ?)""";
+
     private final InvoiceRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
 
-    public InvoiceRepositoryAdapter(InvoiceRepository repository) {
+    public InvoiceRepositoryAdapter(InvoiceRepository repository, JdbcTemplate jdbcTemplate) {
         this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -38,6 +62,10 @@ public class InvoiceRepositoryAdapter implements InvoiceRepositoryPort {
                 entity.setReferenceMonth(invoice.getReferenceMonth());
                 entity.setTotalAmount(invoice.getTotalAmount());
                 entity.setPreviousBalance(invoice.getPreviousBalance());
+                if (invoice.getImportedAmount() != null) {
+                    // Set once, when an import fills a pre-generated invoice in; never cleared
+                    entity.setImportedAmount(invoice.getImportedAmount());
+                }
                 entity.setClosed(invoice.isClosed());
                 entity.setPaid(invoice.isPaid());
             } else {
@@ -69,6 +97,9 @@ public class InvoiceRepositoryAdapter implements InvoiceRepositoryPort {
                             entity.setReferenceMonth(invoice.getReferenceMonth());
                             entity.setTotalAmount(invoice.getTotalAmount());
                             entity.setPreviousBalance(invoice.getPreviousBalance());
+                            if (invoice.getImportedAmount() != null) {
+                                entity.setImportedAmount(invoice.getImportedAmount());
+                            }
                             entity.setClosed(invoice.isClosed());
                             entity.setPaid(invoice.isPaid());
                             return entity;
@@ -111,6 +142,134 @@ public class InvoiceRepositoryAdapter implements InvoiceRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Invoice> findUpdatedBetween(LocalDateTime after, Long afterId, LocalDateTime until, int limit) {
+        return repository.findUpdatedBetween(after, afterId != null ? afterId : Long.MAX_VALUE, until,
+                PageRequest.of(0, limit)).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return repository.findVersionById(id);
+    }
+
+    @Override
+    public List<Invoice> findAllById(List<Long> ids) {
+        return repository.findAllById(ids).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<InvoiceWithPayments> findByCreditCardIdWithPayments(Long creditCardId) {
+        return repository.findByCreditCardIdWithPayments(creditCardId).stream()
+                .map(row -> new InvoiceWithPayments(toDomain((InvoiceEntity) row[0]),
+                        ((Number) row[1]).intValue(), (BigDecimal) row[2]))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<DueInvoice> findDueForClosing(LocalDate date) {
+        // On the last day of the month, closing days 29-31 that do not exist in it are due too
+        int day = date.getDayOfMonth() == date.lengthOfMonth() ? 31 : date.getDayOfMonth();
+        return repository.findDueForClosing(date.withDayOfMonth(1), day).stream()
+                .map(row -> new DueInvoice((Long) row[0], (Long) row[1]))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Invoice> findByCreditCardIdsAndReferenceMonths(List<Long> creditCardIds, List<LocalDate> referenceMonths) {
+        if (creditCardIds.isEmpty() || referenceMonths.isEmpty()) {
+            return List.of();
+        }
+        return repository.findByCreditCardIdInAndReferenceMonthIn(creditCardIds, referenceMonths).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CardMonth> findCardMonths(List<Long> creditCardIds, LocalDate from, LocalDate to) {
+        if (creditCardIds.isEmpty()) {
+            return List.of();
+        }
+        return repository.findCardMonths(creditCardIds, from, to).stream()
+                .map(row -> new CardMonth((Long) row[0], (LocalDate) row[1]))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int insertEmpty(List<CardMonth> cardMonths) {
+        if (cardMonths.isEmpty()) {
+            return 0;
+        }
+        // Stamped with the application clock, like the rows saved through JPA
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] counts = isPostgres()
+                ? jdbcTemplate.batchUpdate(INSERT_EMPTY_POSTGRES, cardMonths.stream()
+                        .map(cardMonth -> new Object[]{cardMonth.creditCardId(), Date.valueOf(cardMonth.referenceMonth()),
+                                now, now})
+                        .toList())
+                : jdbcTemplate.batchUpdate(INSERT_EMPTY, cardMonths.stream()
+                        .map(cardMonth -> new Object[]{cardMonth.creditCardId(), Date.valueOf(cardMonth.referenceMonth()),
+                                now, now, cardMonth.creditCardId(), Date.valueOf(cardMonth.referenceMonth())})
+                        .toList());
+        int inserted = 0;
+        for (int count : counts) {
+            // Drivers that cannot tell the count of a batched statement report SUCCESS_NO_INFO (-2)
+            inserted += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+        }
+        return inserted;
+    }
+
+    @Override
+    public VersionSummary summarizeVersionsByCreditCardId(Long creditCardId) {
+        // Aggregate without GROUP BY: always exactly one row
+        Object[] row = repository.summarizeVersionsByCreditCardId(creditCardId).get(0);
+        return new VersionSummary(((Number) row[0]).longValue(), ((Number) row[1]).longValue(),
+                ((Number) row[2]).longValue());
+    }
+
+    @Override
+    public List<Long> findCreditCardIds() {
+        return repository.findDistinctCreditCardIds();
+    }
+
+    @Override
+    public List<TotalMismatch> findTotalMismatches(long fromCreditCardId, long toCreditCardId) {
+        return repository.findTotalMismatches(fromCreditCardId, toCreditCardId).stream()
+                .map(row -> new TotalMismatch((Long) row[0], (Long) row[1], (LocalDate) row[2], (Boolean) row[3],
+                        row[6] != null, (BigDecimal) row[4], toBigDecimal(row[5])))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int recalculateTotals(List<Long> invoiceIds) {
+        if (invoiceIds.isEmpty()) {
+            return 0;
+        }
+        return repository.recalculateTotals(invoiceIds, LocalDateTime.now());
+    }
+
+    @Override
+    public int backfillImportedAmounts() {
+        return repository.backfillImportedAmounts();
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+
+    // The CASE mixes amounts and a literal zero; some dialects type the sum as something else
+    private static BigDecimal toBigDecimal(Object value) {
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+
     private InvoiceEntity toEntity(Invoice invoice) {
         InvoiceEntity entity = new InvoiceEntity();
         entity.setId(invoice.getId());
@@ -118,6 +277,7 @@ public class InvoiceRepositoryAdapter implements InvoiceRepositoryPort {
         entity.setReferenceMonth(invoice.getReferenceMonth());
         entity.setTotalAmount(invoice.getTotalAmount());
         entity.setPreviousBalance(invoice.getPreviousBalance());
+        entity.setImportedAmount(invoice.getImportedAmount());
         entity.setClosed(invoice.isClosed());
         entity.setPaid(invoice.isPaid());
         // createdAt and updatedAt managed by JPA lifecycle hooks
@@ -131,6 +291,7 @@ public class InvoiceRepositoryAdapter implements InvoiceRepositoryPort {
         invoice.setReferenceMonth(entity.getReferenceMonth());
         invoice.setTotalAmount(entity.getTotalAmount());
         invoice.setPreviousBalance(entity.getPreviousBalance());
+        invoice.setImportedAmount(entity.getImportedAmount());
         invoice.setClosed(entity.isClosed());
         invoice.setPaid(entity.isPaid());
         invoice.setCreatedAt(entity.getCreatedAt());
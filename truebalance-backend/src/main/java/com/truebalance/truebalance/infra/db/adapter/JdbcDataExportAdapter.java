@@ -0,0 +1,82 @@
+package com.truebalance.truebalance.infra.db.adapter;
+
+import com.truebalance.truebalance.domain.entity.ExportDataset;
+import com.truebalance.truebalance.domain.port.DataExportPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adapter implementing DataExportPort with plain JDBC.
+ *
+ * Each export is one forward-only, read-only query in a read-only transaction with a bounded
+ * fetch size, so the driver pulls the table in chunks (on PostgreSQL a server-side cursor, which
+ * needs the open transaction) and rows go to the handler without entities or a persistence context.
+ */
+@Component
+public class JdbcDataExportAdapter implements DataExportPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcDataExportAdapter.class);
+
+    // Columns in the order of ExportDataset#getColumns()
+    private static final Map<ExportDataset, String> QUERIES = Map.of(
+            ExportDataset.BILLS,
+            "SELECT id, name, execution_date, total_amount, number_of_installments, installment_amount, " +
+            "description, is_recurring, created_at, updated_at FROM bills ORDER BY id",
+            ExportDataset.INSTALLMENTS,
+            "SELECT id, bill_id, credit_card_id, invoice_id, installment_number, amount, due_date, created_at " +
+            "FROM installments ORDER BY id",
+            ExportDataset.INVOICES,
+            "SELECT id, credit_card_id, reference_month, total_amount, previous_balance, closed, paid, " +
+            "created_at, updated_at FROM invoices ORDER BY id",
+            ExportDataset.PARTIAL_PAYMENTS,
+            "SELECT id, invoice_id, amount, payment_date, description, created_at FROM partial_payments ORDER BY id"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public JdbcDataExportAdapter(JdbcTemplate jdbcTemplate,
+                                 @Value("${truebalance.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long stream(ExportDataset dataset, RowHandler handler) {
+        List<ExportDataset.Column> columns = dataset.getColumns();
+        Object[] values = new Object[columns.size()];
+        long[] rows = {0};
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    QUERIES.get(dataset), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, resultSet -> {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = resultSet.getObject(i + 1, columns.get(i).type());
+            }
+            try {
+                handler.row(values);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows[0]++;
+        });
+
+        logger.debug("{} linhas lidas para exportação de {}", rows[0], dataset.getPath());
+        return rows[0];
+    }
+}
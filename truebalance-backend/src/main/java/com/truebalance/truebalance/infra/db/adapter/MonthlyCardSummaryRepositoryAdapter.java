@@ -0,0 +1,165 @@
+package com.truebalance.truebalance.infra.db.adapter;
+
+import com.truebalance.truebalance.domain.entity.MonthlyCardSummary;
+import com.truebalance.truebalance.domain.port.MonthlyCardSummaryRepositoryPort;
+import com.truebalance.truebalance.infra.db.entity.MonthlyCardSummaryEntity;
+import com.truebalance.truebalance.infra.db.repository.MonthlyCardSummaryRepository;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementing MonthlyCardSummaryRepositoryPort.
+ *
+ * Deltas are added in SQL, never read and written back: on PostgreSQL with one
+ * INSERT ... ON CONFLICT DO UPDATE per row, elsewhere (H2 in tests) with an UPDATE followed by an
+ * INSERT when no row existed. Rows are written in card and month order so two transactions
+ * touching the same rows lock them in the same order. Rows are stamped with the application clock,
+ * like the rows saved through JPA.
+ */
+@Component
+public class MonthlyCardSummaryRepositoryAdapter implements MonthlyCardSummaryRepositoryPort {
+
+    private static final String UPSERT_POSTGRES = """
+            INSERT INTO monthly_card_summary (credit_card_id, summary_month, purchases_total, installments_total,
+                                              payments_total, purchases_count, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (credit_card_id, summary_month) DO UPDATE
+               SET purchases_total = monthly_card_summary.purchases_total + EXCLUDED.purchases_total,
+                   installments_total = monthly_card_summary.installments_total + EXCLUDED.installments_total,
+                   payments_total = monthly_card_summary.payments_total + EXCLUDED.payments_total,
+                   purchases_count = monthly_card_summary.purchases_count + EXCLUDED.purchases_count,
+                   updated_at = EXCLUDED.updated_at""";
+
+    private static final String ADD = """
+            UPDATE monthly_card_summary
+               SET purchases_total = purchases_total + ?, installments_total = installments_total + ?,
+                   payments_total = payments_total + ?, purchases_count = purchases_count + ?,
+                   updated_at = ?
+             WHERE credit_card_id = ? AND summary_month = ?""";
+
+    private static final String INSERT = """
+            INSERT INTO monthly_card_summary (credit_card_id, summary_month, purchases_total, installments_total,
+                                              payments_total, purchases_count, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)""";
+
+    // Writers wait for a rebuild instead of adding to rows it is about to replace
+    private static final String LOCK_POSTGRES = "LOCK TABLE monthly_card_summary IN EXCLUSIVE MODE";
+
+    private final MonthlyCardSummaryRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public MonthlyCardSummaryRepositoryAdapter(MonthlyCardSummaryRepository repository, JdbcTemplate jdbcTemplate) {
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addAll(List<MonthlyCardSummary> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<MonthlyCardSummary> ordered = deltas.stream()
+                .sorted(Comparator.comparing(MonthlyCardSummary::getCreditCardId).thenComparing(MonthlyCardSummary::getMonth))
+                .toList();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (isPostgres()) {
+            jdbcTemplate.batchUpdate(UPSERT_POSTGRES, ordered.stream()
+                    .map(delta -> new Object[]{delta.getCreditCardId(), Date.valueOf(delta.getMonth()),
+                            delta.getPurchasesTotal(), delta.getInstallmentsTotal(), delta.getPaymentsTotal(),
+                            delta.getPurchasesCount(), now})
+                    .toList());
+            return;
+        }
+        for (MonthlyCardSummary delta : ordered) {
+            int updated = jdbcTemplate.update(ADD, delta.getPurchasesTotal(), delta.getInstallmentsTotal(),
+                    delta.getPaymentsTotal(), delta.getPurchasesCount(), now, delta.getCreditCardId(),
+                    Date.valueOf(delta.getMonth()));
+            if (updated == 0) {
+                jdbcTemplate.update(INSERT, delta.getCreditCardId(), Date.valueOf(delta.getMonth()),
+                        delta.getPurchasesTotal(), delta.getInstallmentsTotal(), delta.getPaymentsTotal(),
+                        delta.getPurchasesCount(), now);
+            }
+        }
+    }
+
+    @Override
+    public List<MonthlyCardSummary> findByMonthBetween(Long creditCardId, LocalDate from, LocalDate to) {
+        List<MonthlyCardSummaryEntity> entities = creditCardId == null
+                ? repository.findByMonthBetweenOrderByCreditCardIdAscMonthAsc(from, to)
+                : repository.findByCreditCardIdAndMonthBetweenOrderByMonthAsc(creditCardId, from, to);
+        return entities.stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int rebuild() {
+        if (isPostgres()) {
+            jdbcTemplate.execute(LOCK_POSTGRES);
+        }
+
+        Map<String, MonthlyCardSummaryEntity> rows = new LinkedHashMap<>();
+        merge(rows, repository.sumPurchasesByCardAndMonth(), (entity, row) -> {
+            entity.setPurchasesTotal((BigDecimal) row[3]);
+            entity.setPurchasesCount(((Number) row[4]).intValue());
+        });
+        merge(rows, repository.sumInstallmentsByCardAndMonth(), (entity, row) -> entity.setInstallmentsTotal((BigDecimal) row[3]));
+        merge(rows, repository.sumPaymentsByCardAndMonth(), (entity, row) -> entity.setPaymentsTotal((BigDecimal) row[3]));
+
+        repository.deleteAllInBatch();
+        repository.saveAll(new ArrayList<>(rows.values()));
+        return rows.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return repository.count() == 0;
+    }
+
+    private static void merge(Map<String, MonthlyCardSummaryEntity> rows, List<Object[]> aggregates,
+                              BiConsumer<MonthlyCardSummaryEntity, Object[]> setter) {
+        for (Object[] row : aggregates) {
+            Long creditCardId = (Long) row[0];
+            LocalDate month = LocalDate.of(((Number) row[1]).intValue(), ((Number) row[2]).intValue(), 1);
+            MonthlyCardSummaryEntity entity = rows.computeIfAbsent(creditCardId + ":" + month, key -> {
+                MonthlyCardSummaryEntity created = new MonthlyCardSummaryEntity();
+                created.setCreditCardId(creditCardId);
+                created.setMonth(month);
+                created.setPurchasesTotal(BigDecimal.ZERO);
+                created.setInstallmentsTotal(BigDecimal.ZERO);
+                created.setPaymentsTotal(BigDecimal.ZERO);
+                return created;
+            });
+            setter.accept(entity, row);
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+
+    private MonthlyCardSummary toDomain(MonthlyCardSummaryEntity entity) {
+        return new MonthlyCardSummary(entity.getCreditCardId(), entity.getMonth(), entity.getPurchasesTotal(),
+                entity.getInstallmentsTotal(), entity.getPaymentsTotal(), entity.getPurchasesCount());
+    }
+}
@@ -0,0 +1,53 @@
+package com.truebalance.truebalance.infra.db.adapter;
+
+import com.truebalance.truebalance.domain.port.OpenTransactionsPort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * Adapter implementing OpenTransactionsPort with pg_stat_activity.
+ *
+ * A backend has a transaction ID only once its transaction has written something, so the oldest
+ * xact_start among backends with one is the start of the oldest open write transaction. Every
+ * instance connects with the same role and sees the others' sessions. The timestamp is converted
+ * to the zone of this JVM, which is the clock the rows are stamped with.
+ *
+ * Other databases (H2 in tests) report nothing.
+ */
+@Component
+public class OpenTransactionsAdapter implements OpenTransactionsPort {
+
+    private static final String OLDEST_WRITE_START =
+            "SELECT MIN(xact_start) FROM pg_stat_activity WHERE backend_xid IS NOT NULL AND pid <> pg_backend_pid()";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public OpenTransactionsAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestWriteStart() {
+        if (!isPostgres()) {
+            return Optional.empty();
+        }
+        OffsetDateTime start = jdbcTemplate.queryForObject(OLDEST_WRITE_START, OffsetDateTime.class);
+        return Optional.ofNullable(start)
+                .map(value -> value.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime());
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+}
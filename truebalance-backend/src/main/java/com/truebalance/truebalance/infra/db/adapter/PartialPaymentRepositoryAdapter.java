@@ -4,10 +4,14 @@ import com.truebalance.truebalance.domain.entity.PartialPayment;
 import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort;
 import com.truebalance.truebalance.infra.db.entity.PartialPaymentEntity;
 import com.truebalance.truebalance.infra.db.repository.PartialPaymentRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -54,6 +58,11 @@ public class PartialPaymentRepositoryAdapter implements PartialPaymentRepository
         return repository.countByInvoiceId(invoiceId);
     }
 
+    @Override
+    public long maxIdByInvoiceId(Long invoiceId) {
+        return repository.maxIdByInvoiceId(invoiceId);
+    }
+
     @Override
     public BigDecimal sumAmountByInvoiceIds(List<Long> invoiceIds) {
         if (invoiceIds == null || invoiceIds.isEmpty()) {
@@ -62,11 +71,53 @@ public class PartialPaymentRepositoryAdapter implements PartialPaymentRepository
         return repository.sumAmountByInvoiceIds(invoiceIds);
     }
 
+    @Override
+    public List<PartialPayment> findCreatedBetween(LocalDateTime after, Long afterId, LocalDateTime until, int limit) {
+        return repository.findCreatedBetween(after, afterId != null ? afterId : Long.MAX_VALUE, until,
+                PageRequest.of(0, limit)).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<Long, PaymentTotals> summarizeByCreditCardId(Long creditCardId) {
+        return toPaymentTotals(repository.summarizeByCreditCardId(creditCardId));
+    }
+
+    @Override
+    public Map<Long, PaymentTotals> summarizeByInvoiceIds(List<Long> invoiceIds) {
+        if (invoiceIds == null || invoiceIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return toPaymentTotals(repository.summarizeByInvoiceIds(invoiceIds));
+    }
+
+    @Override
+    public IdSummary summarizeIdsByCreditCardId(Long creditCardId) {
+        // Aggregate without GROUP BY: always exactly one row
+        Object[] row = repository.summarizeIdsByCreditCardId(creditCardId).get(0);
+        return new IdSummary(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+    }
+
     @Override
     public void deleteById(Long id) {
         repository.deleteById(id);
     }
 
+    /**
+     * Convert grouped rows (invoice ID, count, sum) to totals by invoice ID.
+     *
+     * @param rows query rows
+     * @return totals by invoice ID
+     */
+    private Map<Long, PaymentTotals> toPaymentTotals(List<Object[]> rows) {
+        Map<Long, PaymentTotals> totals = new HashMap<>();
+        for (Object[] row : rows) {
+            totals.put((Long) row[0], new PaymentTotals(((Number) row[1]).intValue(), (BigDecimal) row[2]));
+        }
+        return totals;
+    }
+
     /**
      * Convert domain PartialPayment to JPA PartialPaymentEntity.
      *
@@ -2,10 +2,21 @@ package com.truebalance.truebalance.infra.db.entity;
 
 import jakarta.persistence.*;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bills")
+@Table(name = "bills",
+       indexes = {
+           // Duplicate lookups (findDuplicate and the bulk load) filter by execution date first
+           @Index(name = "idx_bill_execution_date", columnList = "execution_date"),
+           // Incremental export reads bills by updatedAt range
+           @Index(name = "idx_bill_updated_at", columnList = "updated_at")
+       },
+       uniqueConstraints = {
+           // A recurring bill is materialized at most once per month
+           @UniqueConstraint(name = "uk_bill_recurrence", columnNames = {"recurring_source_id", "recurrence_period"})
+       })
 public class BillEntity {
 
     @Id
@@ -33,6 +44,12 @@ public class BillEntity {
     @Column(name = "is_recurring", nullable = false)
     private Boolean isRecurring = false;
 
+    @Column(name = "recurring_source_id")
+    private Long recurringSourceId;
+
+    @Column(name = "recurrence_period")
+    private LocalDate recurrencePeriod;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -153,4 +170,19 @@ public class BillEntity {
         this.isRecurring = isRecurring != null ? isRecurring : false;
     }
 
+    public Long getRecurringSourceId() {
+        return recurringSourceId;
+    }
+
+    public void setRecurringSourceId(Long recurringSourceId) {
+        this.recurringSourceId = recurringSourceId;
+    }
+
+    public LocalDate getRecurrencePeriod() {
+        return recurrencePeriod;
+    }
+
+    public void setRecurrencePeriod(LocalDate recurrencePeriod) {
+        this.recurrencePeriod = recurrencePeriod;
+    }
 }
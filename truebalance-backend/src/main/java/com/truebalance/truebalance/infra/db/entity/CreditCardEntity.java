@@ -5,7 +5,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "credit_cards")
+@Table(name = "credit_cards",
+       indexes = {
+           // Incremental export reads credit cards by updatedAt range
+           @Index(name = "idx_credit_card_updated_at", columnList = "updated_at")
+       })
 public class CreditCardEntity {
 
     @Id
@@ -0,0 +1,72 @@
+package com.truebalance.truebalance.infra.db.entity;
+
+import com.truebalance.truebalance.domain.entity.DeletedRecordType;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity for tombstones of deleted records.
+ */
+@Entity
+@Table(name = "deleted_records",
+       indexes = {
+           // Incremental export reads tombstones by deletion time range
+           @Index(name = "idx_deleted_record_deleted_at", columnList = "deleted_at")
+       })
+public class DeletedRecordEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DeletedRecordType type;
+
+    @Column(name = "record_id", nullable = false)
+    private Long recordId;
+
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    public DeletedRecordEntity() {
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        deletedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public DeletedRecordType getType() {
+        return type;
+    }
+
+    public void setType(DeletedRecordType type) {
+        this.type = type;
+    }
+
+    public Long getRecordId() {
+        return recordId;
+    }
+
+    public void setRecordId(Long recordId) {
+        this.recordId = recordId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
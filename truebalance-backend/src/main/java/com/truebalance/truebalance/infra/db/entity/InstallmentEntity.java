@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
        indexes = {
            @Index(name = "idx_installment_bill", columnList = "bill_id"),
            @Index(name = "idx_installment_invoice", columnList = "invoice_id"),
-           @Index(name = "idx_installment_credit_card", columnList = "credit_card_id"),
+           // Upcoming installments and the forecast read a card's installments by due date range
+           @Index(name = "idx_installment_card_due_date", columnList = "credit_card_id, due_date"),
            @Index(name = "idx_installment_due_date", columnList = "due_date")
        })
 public class InstallmentEntity {
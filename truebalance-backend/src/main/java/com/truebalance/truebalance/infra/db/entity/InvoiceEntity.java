@@ -11,10 +11,13 @@ import java.time.LocalDateTime;
            name = "uk_invoice_card_month",
            columnNames = {"credit_card_id", "reference_month"}
        ),
-       indexes = @Index(
-           name = "idx_invoice_card_month",
-           columnList = "credit_card_id, reference_month"
-       ))
+       indexes = {
+           @Index(name = "idx_invoice_card_month", columnList = "credit_card_id, reference_month"),
+           // Incremental export reads invoices by updatedAt range
+           @Index(name = "idx_invoice_updated_at", columnList = "updated_at"),
+           // Invoice closing job scans open invoices by reference month
+           @Index(name = "idx_invoice_closed_month", columnList = "closed, reference_month")
+       })
 public class InvoiceEntity {
 
     @Id
@@ -36,6 +39,11 @@ public class InvoiceEntity {
     @Column(name = "previous_balance", nullable = false, precision = 10, scale = 2)
     private BigDecimal previousBalance;
 
+    // Total the invoice was imported with, before any installment; zero if created by the app,
+    // null if created before this column existed and its origin could not be told (never repaired)
+    @Column(name = "imported_amount", precision = 10, scale = 2)
+    private BigDecimal importedAmount;
+
     @Column(nullable = false)
     private boolean closed;
 
@@ -65,6 +73,9 @@ public class InvoiceEntity {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        if (importedAmount == null) {
+            importedAmount = BigDecimal.ZERO;
+        }
     }
 
     @PreUpdate
@@ -112,6 +123,14 @@ public class InvoiceEntity {
         this.previousBalance = previousBalance;
     }
 
+    public BigDecimal getImportedAmount() {
+        return importedAmount;
+    }
+
+    public void setImportedAmount(BigDecimal importedAmount) {
+        this.importedAmount = importedAmount;
+    }
+
     public boolean isClosed() {
         return closed;
     }
@@ -0,0 +1,119 @@
+package com.truebalance.truebalance.infra.db.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity for the monthly_card_summary read model. Rows are updated by adding deltas in SQL
+ * (see MonthlyCardSummaryRepositoryAdapter), never through this entity, so it has no version.
+ */
+@Entity
+@Table(name = "monthly_card_summary",
+       uniqueConstraints = @UniqueConstraint(
+           name = "uk_monthly_card_summary_card_month",
+           columnNames = {"credit_card_id", "summary_month"}
+       ))
+public class MonthlyCardSummaryEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "credit_card_id", nullable = false)
+    private Long creditCardId;
+
+    // "month" is a keyword in H2
+    @Column(name = "summary_month", nullable = false)
+    private LocalDate month;
+
+    @Column(name = "purchases_total", nullable = false, precision = 14, scale = 2)
+    private BigDecimal purchasesTotal;
+
+    @Column(name = "installments_total", nullable = false, precision = 14, scale = 2)
+    private BigDecimal installmentsTotal;
+
+    @Column(name = "payments_total", nullable = false, precision = 14, scale = 2)
+    private BigDecimal paymentsTotal;
+
+    @Column(name = "purchases_count", nullable = false)
+    private int purchasesCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public MonthlyCardSummaryEntity() {
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getCreditCardId() {
+        return creditCardId;
+    }
+
+    public void setCreditCardId(Long creditCardId) {
+        this.creditCardId = creditCardId;
+    }
+
+    public LocalDate getMonth() {
+        return month;
+    }
+
+    public void setMonth(LocalDate month) {
+        this.month = month;
+    }
+
+    public BigDecimal getPurchasesTotal() {
+        return purchasesTotal;
+    }
+
+    public void setPurchasesTotal(BigDecimal purchasesTotal) {
+        this.purchasesTotal = purchasesTotal;
+    }
+
+    public BigDecimal getInstallmentsTotal() {
+        return installmentsTotal;
+    }
+
+    public void setInstallmentsTotal(BigDecimal installmentsTotal) {
+        this.installmentsTotal = installmentsTotal;
+    }
+
+    public BigDecimal getPaymentsTotal() {
+        return paymentsTotal;
+    }
+
+    public void setPaymentsTotal(BigDecimal paymentsTotal) {
+        this.paymentsTotal = paymentsTotal;
+    }
+
+    public int getPurchasesCount() {
+        return purchasesCount;
+    }
+
+    public void setPurchasesCount(int purchasesCount) {
+        this.purchasesCount = purchasesCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 @Table(name = "partial_payments",
        indexes = {
            @Index(name = "idx_partial_payment_invoice", columnList = "invoice_id"),
-           @Index(name = "idx_partial_payment_date", columnList = "payment_date")
+           @Index(name = "idx_partial_payment_date", columnList = "payment_date"),
+           // Incremental export reads partial payments by createdAt range
+           @Index(name = "idx_partial_payment_created_at", columnList = "created_at")
        })
 public class PartialPaymentEntity {
 
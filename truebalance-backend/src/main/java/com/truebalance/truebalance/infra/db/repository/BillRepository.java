@@ -9,7 +9,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -33,4 +35,20 @@ public interface BillRepository extends JpaRepository<BillEntity, Long> {
             @Param("executionDate") LocalDateTime executionDate,
             @Param("numberOfInstallments") int numberOfInstallments
     );
+
+    /**
+     * Rows with updatedAt in (after, until], or equal to after with an ID greater than afterId,
+     * ordered by updatedAt and ID, limited by the page.
+     */
+    @Query("SELECT b FROM BillEntity b WHERE b.updatedAt <= :until " +
+           "AND (b.updatedAt > :after OR (b.updatedAt = :after AND b.id > :afterId)) ORDER BY b.updatedAt, b.id")
+    List<BillEntity> findUpdatedBetween(@Param("after") LocalDateTime after, @Param("afterId") Long afterId,
+            @Param("until") LocalDateTime until, Pageable pageable);
+
+    @Query("SELECT b FROM BillEntity b WHERE b.isRecurring = true AND b.recurringSourceId IS NULL ORDER BY b.id")
+    List<BillEntity> findRecurringTemplates();
+
+    @Query("SELECT b.recurringSourceId, MAX(b.recurrencePeriod) FROM BillEntity b " +
+           "WHERE b.recurringSourceId IS NOT NULL GROUP BY b.recurringSourceId")
+    List<Object[]> findLatestRecurrencePeriods();
 }
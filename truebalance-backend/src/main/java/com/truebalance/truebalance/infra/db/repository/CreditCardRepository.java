@@ -1,10 +1,37 @@
 package com.truebalance.truebalance.infra.db.repository;
 
 import com.truebalance.truebalance.infra.db.entity.CreditCardEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface CreditCardRepository extends JpaRepository<CreditCardEntity, Long> {
     java.util.Optional<CreditCardEntity> findByName(String name);
+
+    /**
+     * Rows with updatedAt in (after, until], or equal to after with an ID greater than afterId,
+     * ordered by updatedAt and ID, limited by the page.
+     */
+    @Query("SELECT c FROM CreditCardEntity c WHERE c.updatedAt <= :until " +
+           "AND (c.updatedAt > :after OR (c.updatedAt = :after AND c.id > :afterId)) ORDER BY c.updatedAt, c.id")
+    List<CreditCardEntity> findUpdatedBetween(@Param("after") LocalDateTime after, @Param("afterId") Long afterId,
+            @Param("until") LocalDateTime until, Pageable pageable);
+
+    @Query("SELECT c.id FROM CreditCardEntity c ORDER BY c.id")
+    List<Long> findAllIds();
+
+    /**
+     * SELECT ... FOR UPDATE: the row stays locked until the current transaction ends.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CreditCardEntity c WHERE c.id = :id")
+    java.util.Optional<CreditCardEntity> findByIdForUpdate(@Param("id") Long id);
 }
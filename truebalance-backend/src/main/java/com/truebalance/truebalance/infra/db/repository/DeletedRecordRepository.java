@@ -0,0 +1,27 @@
+package com.truebalance.truebalance.infra.db.repository;
+
+import com.truebalance.truebalance.infra.db.entity.DeletedRecordEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for DeletedRecord entities.
+ */
+@Repository
+public interface DeletedRecordRepository extends JpaRepository<DeletedRecordEntity, Long> {
+
+    /**
+     * Rows with deletedAt in (after, until], or equal to after with an ID greater than afterId,
+     * ordered by deletedAt and ID, limited by the page.
+     */
+    @Query("SELECT d FROM DeletedRecordEntity d WHERE d.deletedAt <= :until " +
+           "AND (d.deletedAt > :after OR (d.deletedAt = :after AND d.id > :afterId)) ORDER BY d.deletedAt, d.id")
+    List<DeletedRecordEntity> findDeletedBetween(@Param("after") LocalDateTime after, @Param("afterId") Long afterId,
+            @Param("until") LocalDateTime until, Pageable pageable);
+}
@@ -0,0 +1,103 @@
+package com.truebalance.truebalance.infra.db.repository;
+
+import com.truebalance.truebalance.domain.entity.ImportJobStatus;
+import com.truebalance.truebalance.infra.db.entity.ImportJobEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for ImportJob entities.
+ */
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJobEntity, Long> {
+
+    /**
+     * Find jobs ordered by creation date, newest first.
+     *
+     * @param pageable page limiting the number of jobs returned
+     * @return list of jobs
+     */
+    List<ImportJobEntity> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    /**
+     * Find all jobs in the given statuses.
+     *
+     * @param statuses statuses to look for
+     * @return list of matching jobs
+     */
+    List<ImportJobEntity> findByStatusIn(Collection<ImportJobStatus> statuses);
+
+    /**
+     * Read only the cancellation flag of a job, without loading the whole row.
+     *
+     * @param id the job ID
+     * @return true if cancellation was requested, null if the job does not exist
+     */
+    @Query("SELECT j.cancelRequested FROM ImportJobEntity j WHERE j.id = :id")
+    Boolean findCancelRequestedById(@Param("id") Long id);
+
+    /**
+     * Move a job from PENDING to RUNNING unless it was flagged for cancellation.
+     * Does not touch cancel_requested, so a concurrent cancel request is never overwritten.
+     *
+     * @return number of rows updated (0 if the job was not PENDING or was cancelled)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ImportJobEntity j SET j.status = :running, j.startedAt = :startedAt, j.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE j.id = :id AND j.status = :pending AND j.cancelRequested = false")
+    int markRunning(@Param("id") Long id,
+                    @Param("startedAt") LocalDateTime startedAt,
+                    @Param("pending") ImportJobStatus pending,
+                    @Param("running") ImportJobStatus running);
+
+    /**
+     * Update only the progress counters of a job.
+     * Does not touch cancel_requested, so a concurrent cancel request is never overwritten.
+     *
+     * @return number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ImportJobEntity j SET j.totalRows = :totalRows, j.processedRows = :processedRows, " +
+           "j.createdRows = :createdRows, j.skippedRows = :skippedRows, j.failedRows = :failedRows, " +
+           "j.updatedAt = CURRENT_TIMESTAMP WHERE j.id = :id")
+    int updateProgress(@Param("id") Long id,
+                       @Param("totalRows") int totalRows,
+                       @Param("processedRows") int processedRows,
+                       @Param("createdRows") int createdRows,
+                       @Param("skippedRows") int skippedRows,
+                       @Param("failedRows") int failedRows);
+
+    /**
+     * Flag a job for cancellation.
+     *
+     * @return number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ImportJobEntity j SET j.cancelRequested = true, j.updatedAt = CURRENT_TIMESTAMP WHERE j.id = :id")
+    int markCancelRequested(@Param("id") Long id);
+
+    /**
+     * Stamp the heartbeat of the jobs an instance owns in the given statuses.
+     * Does not touch anything else, so a concurrent cancel request or progress flush is never overwritten.
+     *
+     * @return number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ImportJobEntity j SET j.heartbeatAt = :now WHERE j.ownerNode = :ownerNode AND j.status IN :statuses")
+    int updateHeartbeat(@Param("ownerNode") String ownerNode,
+                        @Param("statuses") Collection<ImportJobStatus> statuses,
+                        @Param("now") LocalDateTime now);
+}
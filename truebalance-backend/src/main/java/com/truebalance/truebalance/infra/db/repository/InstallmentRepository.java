@@ -1,12 +1,14 @@
 package com.truebalance.truebalance.infra.db.repository;
 
 import com.truebalance.truebalance.infra.db.entity.InstallmentEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -31,6 +33,17 @@ public interface InstallmentRepository extends JpaRepository<InstallmentEntity,
      */
     List<InstallmentEntity> findByInvoiceIdOrderByDueDateAsc(Long invoiceId);
 
+    /**
+     * Find the installments of a credit card due on or after a date, ordered by due date.
+     *
+     * @param creditCardId the credit card ID
+     * @param from         first due date included
+     * @param pageable     page limiting the number of installments
+     * @return list of installments ordered by due date ascending
+     */
+    List<InstallmentEntity> findByCreditCardIdAndDueDateGreaterThanEqualOrderByDueDateAscIdAsc(
+            Long creditCardId, LocalDate from, Pageable pageable);
+
     /**
      * Delete all installments belonging to a specific bill.
      * Used for cascade delete when bill is deleted.
@@ -47,4 +60,35 @@ public interface InstallmentRepository extends JpaRepository<InstallmentEntity,
      */
     @Query("SELECT COALESCE(SUM(i.amount), 0) FROM InstallmentEntity i WHERE i.invoiceId IN :invoiceIds")
     BigDecimal sumAmountByInvoiceIds(@Param("invoiceIds") List<Long> invoiceIds);
+
+    /**
+     * Distinct (billId, creditCardId) pairs of the given bills.
+     */
+    @Query("SELECT DISTINCT i.billId, i.creditCardId FROM InstallmentEntity i " +
+           "WHERE i.billId IN :billIds AND i.creditCardId IS NOT NULL")
+    List<Object[]> findCreditCardIdsByBillIds(@Param("billIds") List<Long> billIds);
+
+    /**
+     * Sum of the installments of every card due in [from, until), by card, year and month.
+     * Grouping by year and month instead of date_trunc keeps the query portable; the range on
+     * due_date is what uses the (credit_card_id, due_date) index.
+     */
+    @Query("SELECT i.creditCardId, YEAR(i.dueDate), MONTH(i.dueDate), SUM(i.amount), COUNT(i) " +
+           "FROM InstallmentEntity i JOIN BillEntity b ON b.id = i.billId " +
+           "WHERE i.creditCardId IS NOT NULL AND i.dueDate >= :from AND i.dueDate < :until " +
+           "GROUP BY i.creditCardId, YEAR(i.dueDate), MONTH(i.dueDate) " +
+           "ORDER BY i.creditCardId, YEAR(i.dueDate), MONTH(i.dueDate)")
+    List<Object[]> sumByCreditCardAndDueMonth(@Param("from") LocalDate from, @Param("until") LocalDate until);
+
+    /**
+     * Sum of the installments of one card due in [from, until), by year and month.
+     */
+    @Query("SELECT i.creditCardId, YEAR(i.dueDate), MONTH(i.dueDate), SUM(i.amount), COUNT(i) " +
+           "FROM InstallmentEntity i JOIN BillEntity b ON b.id = i.billId " +
+           "WHERE i.creditCardId = :creditCardId AND i.dueDate >= :from AND i.dueDate < :until " +
+           "GROUP BY i.creditCardId, YEAR(i.dueDate), MONTH(i.dueDate) " +
+           "ORDER BY YEAR(i.dueDate), MONTH(i.dueDate)")
+    List<Object[]> sumByDueMonth(@Param("creditCardId") Long creditCardId,
+                                 @Param("from") LocalDate from,
+                                 @Param("until") LocalDate until);
 }
@@ -1,10 +1,15 @@
 package com.truebalance.truebalance.infra.db.repository;
 
 import com.truebalance.truebalance.infra.db.entity.InvoiceEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +21,85 @@ public interface InvoiceRepository extends JpaRepository<InvoiceEntity, Long> {
     List<InvoiceEntity> findByCreditCardIdOrderByReferenceMonthDesc(Long creditCardId);
 
     List<InvoiceEntity> findByCreditCardIdAndClosed(Long creditCardId, boolean closed);
+
+    @Query("SELECT i, COUNT(p.id), COALESCE(SUM(p.amount), 0) FROM InvoiceEntity i " +
+           "LEFT JOIN PartialPaymentEntity p ON p.invoiceId = i.id " +
+           "WHERE i.creditCardId = :creditCardId GROUP BY i ORDER BY i.referenceMonth DESC")
+    List<Object[]> findByCreditCardIdWithPayments(@Param("creditCardId") Long creditCardId);
+
+    @Query("SELECT i.id, i.creditCardId FROM InvoiceEntity i, CreditCardEntity c " +
+           "WHERE c.id = i.creditCardId AND i.closed = false " +
+           "AND (i.referenceMonth < :month OR (i.referenceMonth = :month AND c.closingDay <= :day)) " +
+           "ORDER BY i.creditCardId, i.referenceMonth")
+    List<Object[]> findDueForClosing(@Param("month") LocalDate month, @Param("day") int day);
+
+    List<InvoiceEntity> findByCreditCardIdInAndReferenceMonthIn(List<Long> creditCardIds, List<LocalDate> referenceMonths);
+
+    @Query("SELECT i.creditCardId, i.referenceMonth FROM InvoiceEntity i " +
+           "WHERE i.creditCardId IN :creditCardIds AND i.referenceMonth BETWEEN :from AND :to")
+    List<Object[]> findCardMonths(@Param("creditCardIds") List<Long> creditCardIds,
+                                  @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT i.version FROM InvoiceEntity i WHERE i.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT COUNT(i), COALESCE(SUM(i.version), 0), COALESCE(MAX(i.id), 0) " +
+           "FROM InvoiceEntity i WHERE i.creditCardId = :creditCardId")
+    List<Object[]> summarizeVersionsByCreditCardId(@Param("creditCardId") Long creditCardId);
+
+    /**
+     * Rows with updatedAt in (after, until], or equal to after with an ID greater than afterId,
+     * ordered by updatedAt and ID, limited by the page.
+     */
+    @Query("SELECT i FROM InvoiceEntity i WHERE i.updatedAt <= :until " +
+           "AND (i.updatedAt > :after OR (i.updatedAt = :after AND i.id > :afterId)) ORDER BY i.updatedAt, i.id")
+    List<InvoiceEntity> findUpdatedBetween(@Param("after") LocalDateTime after, @Param("afterId") Long afterId,
+            @Param("until") LocalDateTime until, Pageable pageable);
+
+    @Query("SELECT DISTINCT i.creditCardId FROM InvoiceEntity i ORDER BY i.creditCardId")
+    List<Long> findDistinctCreditCardIds();
+
+    // Installments of deleted bills are not removed with the bill, so they are joined and left out;
+    // imported invoices start from the total they were imported with
+    @Query("SELECT i.id, i.creditCardId, i.referenceMonth, i.closed, i.totalAmount, " +
+           "COALESCE(i.importedAmount, 0) + COALESCE(SUM(CASE WHEN b.id IS NOT NULL THEN inst.amount ELSE 0 END), 0), " +
+           "i.importedAmount " +
+           "FROM InvoiceEntity i JOIN InstallmentEntity inst ON inst.invoiceId = i.id " +
+           "LEFT JOIN BillEntity b ON b.id = inst.billId " +
+           "WHERE i.creditCardId BETWEEN :fromId AND :toId " +
+           "GROUP BY i.id, i.creditCardId, i.referenceMonth, i.closed, i.totalAmount, i.importedAmount " +
+           "HAVING i.totalAmount <> COALESCE(i.importedAmount, 0) " +
+           "+ COALESCE(SUM(CASE WHEN b.id IS NOT NULL THEN inst.amount ELSE 0 END), 0) " +
+           "ORDER BY i.creditCardId, i.referenceMonth")
+    List<Object[]> findTotalMismatches(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * Recalculate the totals of open invoices from their installments, on top of the imported
+     * total of imported invoices.
+     * The version is bumped by hand: bulk updates skip optimistic locking, and a concurrent
+     * change to the same invoice must fail and retry instead of overwriting the new total.
+     *
+     * @return number of rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InvoiceEntity i SET i.totalAmount = COALESCE(i.importedAmount, 0) + " +
+           "COALESCE((SELECT SUM(inst.amount) FROM InstallmentEntity inst " +
+           "WHERE inst.invoiceId = i.id AND EXISTS (SELECT b.id FROM BillEntity b WHERE b.id = inst.billId)), 0), " +
+           "i.version = i.version + 1, i.updatedAt = :now " +
+           "WHERE i.id IN :ids AND i.closed = false AND i.importedAmount IS NOT NULL")
+    int recalculateTotals(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Give the invoices created before the imported total was recorded (null) a known origin where
+     * it can be told: when the total is exactly the sum of the installments, nothing of it was
+     * imported. The version is bumped so a concurrent save of a stale copy fails and retries.
+     *
+     * @return number of rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InvoiceEntity i SET i.importedAmount = 0, i.version = i.version + 1 " +
+           "WHERE i.importedAmount IS NULL AND i.totalAmount = " +
+           "COALESCE((SELECT SUM(inst.amount) FROM InstallmentEntity inst " +
+           "WHERE inst.invoiceId = i.id AND EXISTS (SELECT b.id FROM BillEntity b WHERE b.id = inst.billId)), 0)")
+    int backfillImportedAmounts();
 }
@@ -0,0 +1,39 @@
+package com.truebalance.truebalance.infra.db.repository;
+
+import com.truebalance.truebalance.infra.db.entity.MonthlyCardSummaryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface MonthlyCardSummaryRepository extends JpaRepository<MonthlyCardSummaryEntity, Long> {
+
+    List<MonthlyCardSummaryEntity> findByMonthBetweenOrderByCreditCardIdAscMonthAsc(LocalDate from, LocalDate to);
+
+    List<MonthlyCardSummaryEntity> findByCreditCardIdAndMonthBetweenOrderByMonthAsc(Long creditCardId,
+                                                                                     LocalDate from, LocalDate to);
+
+    // The aggregations below rebuild the table; each card bill has exactly one first installment,
+    // which carries its card
+
+    @Query("SELECT i.creditCardId, YEAR(b.executionDate), MONTH(b.executionDate), SUM(b.totalAmount), COUNT(b) " +
+           "FROM BillEntity b JOIN InstallmentEntity i ON i.billId = b.id " +
+           "WHERE i.installmentNumber = 1 AND i.creditCardId IS NOT NULL " +
+           "GROUP BY i.creditCardId, YEAR(b.executionDate), MONTH(b.executionDate)")
+    List<Object[]> sumPurchasesByCardAndMonth();
+
+    @Query("SELECT i.creditCardId, YEAR(i.dueDate), MONTH(i.dueDate), SUM(i.amount) " +
+           "FROM InstallmentEntity i JOIN BillEntity b ON b.id = i.billId " +
+           "WHERE i.creditCardId IS NOT NULL " +
+           "GROUP BY i.creditCardId, YEAR(i.dueDate), MONTH(i.dueDate)")
+    List<Object[]> sumInstallmentsByCardAndMonth();
+
+    @Query("SELECT inv.creditCardId, YEAR(p.paymentDate), MONTH(p.paymentDate), SUM(p.amount) " +
+           "FROM PartialPaymentEntity p JOIN InvoiceEntity inv ON inv.id = p.invoiceId " +
+           "GROUP BY inv.creditCardId, YEAR(p.paymentDate), MONTH(p.paymentDate)")
+    List<Object[]> sumPaymentsByCardAndMonth();
+}
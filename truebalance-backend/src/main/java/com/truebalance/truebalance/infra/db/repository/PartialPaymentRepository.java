@@ -1,12 +1,14 @@
 package com.truebalance.truebalance.infra.db.repository;
 
 import com.truebalance.truebalance.infra.db.entity.PartialPaymentEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -40,6 +42,46 @@ public interface PartialPaymentRepository extends JpaRepository<PartialPaymentEn
      */
     int countByInvoiceId(Long invoiceId);
 
+    /**
+     * Highest partial payment ID of a specific invoice.
+     *
+     * @param invoiceId the invoice ID
+     * @return highest ID, or 0 if no payments exist
+     */
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM PartialPaymentEntity p WHERE p.invoiceId = :invoiceId")
+    long maxIdByInvoiceId(@Param("invoiceId") Long invoiceId);
+
+    /**
+     * Count and sum the partial payments of each invoice of a credit card.
+     *
+     * @param creditCardId the credit card ID
+     * @return one row per invoice with payments: invoice ID, count, sum
+     */
+    @Query("SELECT p.invoiceId, COUNT(p), COALESCE(SUM(p.amount), 0) FROM PartialPaymentEntity p " +
+           "WHERE p.invoiceId IN (SELECT i.id FROM InvoiceEntity i WHERE i.creditCardId = :creditCardId) " +
+           "GROUP BY p.invoiceId")
+    List<Object[]> summarizeByCreditCardId(@Param("creditCardId") Long creditCardId);
+
+    /**
+     * Count and sum the partial payments of each of the specified invoices.
+     *
+     * @param invoiceIds list of invoice IDs
+     * @return one row per invoice with payments: invoice ID, count, sum
+     */
+    @Query("SELECT p.invoiceId, COUNT(p), COALESCE(SUM(p.amount), 0) FROM PartialPaymentEntity p " +
+           "WHERE p.invoiceId IN :invoiceIds GROUP BY p.invoiceId")
+    List<Object[]> summarizeByInvoiceIds(@Param("invoiceIds") List<Long> invoiceIds);
+
+    /**
+     * Count and highest ID of the partial payments of a credit card.
+     *
+     * @param creditCardId the credit card ID
+     * @return one row: count, highest ID (0 if none)
+     */
+    @Query("SELECT COUNT(p), COALESCE(MAX(p.id), 0) FROM PartialPaymentEntity p " +
+           "WHERE p.invoiceId IN (SELECT i.id FROM InvoiceEntity i WHERE i.creditCardId = :creditCardId)")
+    List<Object[]> summarizeIdsByCreditCardId(@Param("creditCardId") Long creditCardId);
+
     /**
      * Sum the amounts of all partial payments belonging to the specified invoices.
      *
@@ -48,4 +90,13 @@ public interface PartialPaymentRepository extends JpaRepository<PartialPaymentEn
      */
     @Query("SELECT COALESCE(SUM(p.amount), 0) FROM PartialPaymentEntity p WHERE p.invoiceId IN :invoiceIds")
     BigDecimal sumAmountByInvoiceIds(@Param("invoiceIds") List<Long> invoiceIds);
+
+    /**
+     * Rows with createdAt in (after, until], or equal to after with an ID greater than afterId,
+     * ordered by createdAt and ID, limited by the page.
+     */
+    @Query("SELECT p FROM PartialPaymentEntity p WHERE p.createdAt <= :until " +
+           "AND (p.createdAt > :after OR (p.createdAt = :after AND p.id > :afterId)) ORDER BY p.createdAt, p.id")
+    List<PartialPaymentEntity> findCreatedBetween(@Param("after") LocalDateTime after, @Param("afterId") Long afterId,
+            @Param("until") LocalDateTime until, Pageable pageable);
 }
@@ -5,7 +5,12 @@ import com.truebalance.truebalance.application.dto.input.BillRequestDTO;
 import com.truebalance.truebalance.application.exception.GlobalExceptionHandler;
 import com.truebalance.truebalance.config.TestWebMvcConfig;
 import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.domain.entity.ImportJobType;
 import com.truebalance.truebalance.domain.entity.Installment;
+import com.truebalance.truebalance.domain.exception.ImportQueueFullException;
+import com.truebalance.truebalance.domain.service.BillImportPipeline;
+import com.truebalance.truebalance.domain.service.ImportReportStore;
+import com.truebalance.truebalance.domain.service.NdjsonBillImportService;
 import com.truebalance.truebalance.domain.usecase.*;
 import com.truebalance.truebalance.util.TestDataBuilder;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +20,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
@@ -66,6 +72,18 @@ class BillControllerTest {
     @MockBean
     private GetBillInstallments getBillInstallments;
 
+    @MockBean
+    private SubmitImportJob submitImportJob;
+
+    @MockBean
+    private ImportReportStore importReportStore;
+
+    @MockBean
+    private NdjsonBillImportService ndjsonBillImportService;
+
+    @MockBean
+    private BillImportPipeline billImportPipeline;
+
     // ==================== GET /bills ====================
 
     @Test
@@ -612,4 +630,20 @@ class BillControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(header().string("Content-Type", "application/json"));
     }
+
+    @Test
+    @DisplayName("POST /bills/bulk-import-file/async - Should return 503 when the import queue is full")
+    void shouldReturnServiceUnavailableWhenImportQueueIsFull() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "contas.csv", "text/csv", "nome;valor".getBytes());
+        when(submitImportJob.execute(eq(ImportJobType.BILLS), any(), eq("SKIP")))
+                .thenThrow(new ImportQueueFullException());
+
+        // When & Then
+        mockMvc.perform(multipart("/bills/bulk-import-file/async")
+                        .file(file)
+                        .param("duplicateStrategy", "SKIP"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "30"));
+    }
 }
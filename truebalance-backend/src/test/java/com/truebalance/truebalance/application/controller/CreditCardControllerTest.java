@@ -2,10 +2,14 @@ package com.truebalance.truebalance.application.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.truebalance.truebalance.application.dto.input.CreditCardRequestDTO;
+import com.truebalance.truebalance.application.dto.output.InvoiceBalanceDTO;
 import com.truebalance.truebalance.application.exception.GlobalExceptionHandler;
 import com.truebalance.truebalance.config.TestWebMvcConfig;
 import com.truebalance.truebalance.domain.entity.CreditCard;
 import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.service.ImportReportStore;
+import com.truebalance.truebalance.domain.service.InvoiceETags;
 import com.truebalance.truebalance.domain.usecase.*;
 import com.truebalance.truebalance.util.TestDataBuilder;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +29,8 @@ import java.util.Optional;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -65,6 +71,21 @@ class CreditCardControllerTest {
     @MockBean
     private GetAvailableLimit getAvailableLimit;
 
+    @MockBean
+    private GetCreditCardDashboard getCreditCardDashboard;
+
+    @MockBean
+    private GetInstallmentForecast getInstallmentForecast;
+
+    @MockBean
+    private SubmitImportJob submitImportJob;
+
+    @MockBean
+    private ImportReportStore importReportStore;
+
+    @MockBean
+    private InvoiceETags invoiceETags;
+
     // ==================== POST /credit-cards ====================
 
     @Test
@@ -407,7 +428,34 @@ class CreditCardControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[0].totalAmount").value(500.00))
                 .andExpect(jsonPath("$[1].id").value(2))
-                .andExpect(jsonPath("$[1].totalAmount").value(750.00));
+                .andExpect(jsonPath("$[1].totalAmount").value(750.00))
+                .andExpect(jsonPath("$[0].currentBalance").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /credit-cards/{id}/invoices?includeBalance=true - Should embed partial payments and current balance")
+    void shouldReturnCreditCardInvoicesWithBalances() throws Exception {
+        // Given: Invoice of 500.00 + 100.00 previous balance with 200.00 paid
+        Long cardId = 1L;
+        CreditCard card = TestDataBuilder.createCreditCard(cardId, "Test Card", new BigDecimal("5000.00"), 10, 17);
+        Invoice invoice = TestDataBuilder.createInvoice(1L, cardId, LocalDate.of(2025, 1, 1), new BigDecimal("500.00"));
+        invoice.setPreviousBalance(new BigDecimal("100.00"));
+
+        when(getCreditCardById.execute(cardId)).thenReturn(Optional.of(card));
+        when(getInvoicesByCreditCard.executeWithPayments(cardId)).thenReturn(List.of(
+                new InvoiceRepositoryPort.InvoiceWithPayments(invoice, 2, new BigDecimal("200.00"))));
+
+        // When & Then: BR-I-011 500 + 100 - 200 = 400
+        mockMvc.perform(get("/credit-cards/{id}/invoices", cardId)
+                        .param("includeBalance", "true")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].partialPaymentsCount").value(2))
+                .andExpect(jsonPath("$[0].partialPaymentsTotal").value(200.00))
+                .andExpect(jsonPath("$[0].currentBalance").value(400.00));
+
+        verify(getInvoicesByCreditCard, never()).execute(any());
     }
 
     @Test
@@ -423,6 +471,23 @@ class CreditCardControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("GET /credit-cards/{id}/invoices - Should return 304 when invoice versions did not change")
+    void shouldReturn304WhenCardInvoicesNotModified() throws Exception {
+        // Given
+        Long cardId = 1L;
+        when(invoiceETags.forCreditCardInvoices(cardId)).thenReturn(Optional.of("card-1-invoices-2-5-2"));
+
+        // When & Then
+        mockMvc.perform(get("/credit-cards/{id}/invoices", cardId)
+                        .header("If-None-Match", "\"card-1-invoices-2-5-2\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"card-1-invoices-2-5-2\""));
+
+        verify(getInvoicesByCreditCard, never()).execute(any());
+    }
+
     // ==================== GET /credit-cards/{id}/available-limit ====================
 
     @Test
@@ -452,6 +517,86 @@ class CreditCardControllerTest {
                 .andExpect(jsonPath("$.availableLimit").value(3500.00));
     }
 
+    // ==================== GET /credit-cards/{id}/dashboard ====================
+
+    @Test
+    @DisplayName("GET /credit-cards/{id}/dashboard - Should return card, limit, current invoice, balances and installments")
+    void shouldReturnDashboard() throws Exception {
+        // Given: Card with one open invoice, one partial payment and one upcoming installment
+        Long cardId = 1L;
+        CreditCard card = TestDataBuilder.createCreditCard(cardId, "Visa Gold", new BigDecimal("5000.00"), 10, 17);
+        Invoice invoice = TestDataBuilder.createInvoice(10L, cardId, LocalDate.of(2025, 1, 1), new BigDecimal("800.00"));
+        CreditCardDashboardResult result = new CreditCardDashboardResult(
+                card,
+                TestDataBuilder.createAvailableLimitResult(cardId, new BigDecimal("5000.00"),
+                        new BigDecimal("800.00"), new BigDecimal("300.00"), new BigDecimal("4500.00")),
+                invoice,
+                List.of(InvoiceBalanceDTO.fromInvoice(invoice, new BigDecimal("300.00"), 1)),
+                List.of(TestDataBuilder.createInstallment())
+        );
+
+        when(getCreditCardDashboard.execute(cardId, 10)).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(get("/credit-cards/{id}/dashboard", cardId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.creditCard.name").value("Visa Gold"))
+                .andExpect(jsonPath("$.availableLimit.availableLimit").value(4500.00))
+                .andExpect(jsonPath("$.currentInvoice.id").value(10))
+                .andExpect(jsonPath("$.invoices", hasSize(1)))
+                .andExpect(jsonPath("$.invoices[0].referenceMonth").value("2025-01-01"))
+                .andExpect(jsonPath("$.invoices[0].partialPaymentsCount").value(1))
+                .andExpect(jsonPath("$.invoices[0].currentBalance").value(500.00))
+                .andExpect(jsonPath("$.upcomingInstallments", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("GET /credit-cards/{id}/dashboard - Should cap the number of upcoming installments")
+    void shouldCapUpcomingInstallmentsOnDashboard() throws Exception {
+        // Given: Request above the maximum
+        Long cardId = 1L;
+        CreditCard card = TestDataBuilder.createCreditCard(cardId, "Visa Gold", new BigDecimal("5000.00"), 10, 17);
+        CreditCardDashboardResult result = new CreditCardDashboardResult(
+                card, TestDataBuilder.createAvailableLimitResult(), null, List.of(), List.of());
+        when(getCreditCardDashboard.execute(cardId, 100)).thenReturn(result);
+
+        // When & Then: No current invoice is returned as null
+        mockMvc.perform(get("/credit-cards/{id}/dashboard", cardId)
+                        .param("upcomingLimit", "5000")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currentInvoice").isEmpty());
+
+        verify(getCreditCardDashboard).execute(cardId, 100);
+    }
+
+    // ==================== GET /credit-cards/{id}/forecast ====================
+
+    @Test
+    @DisplayName("GET /credit-cards/{id}/forecast - Should return the month series of the card, capping the range")
+    void shouldReturnForecast() throws Exception {
+        // Given: Request above the maximum
+        Long cardId = 1L;
+        GetInstallmentForecast.CardForecast forecast = new GetInstallmentForecast.CardForecast(cardId, "Visa Gold",
+                List.of(new GetInstallmentForecast.MonthForecast(LocalDate.of(2025, 3, 1), new BigDecimal("250.00"), 2),
+                        new GetInstallmentForecast.MonthForecast(LocalDate.of(2025, 4, 1), BigDecimal.ZERO, 0)),
+                new BigDecimal("250.00"));
+        when(getInstallmentForecast.execute(eq(cardId), any(LocalDate.class), eq(60))).thenReturn(forecast);
+
+        // When & Then
+        mockMvc.perform(get("/credit-cards/{id}/forecast", cardId)
+                        .param("months", "120")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.creditCardName").value("Visa Gold"))
+                .andExpect(jsonPath("$.total").value(250.00))
+                .andExpect(jsonPath("$.months", hasSize(2)))
+                .andExpect(jsonPath("$.months[0].month").value("2025-03-01"))
+                .andExpect(jsonPath("$.months[0].installments").value(2))
+                .andExpect(jsonPath("$.months[1].total").value(0));
+    }
+
     // ==================== Edge Cases ====================
 
     @Test
@@ -8,6 +8,9 @@ import com.truebalance.truebalance.config.TestWebMvcConfig;
 import com.truebalance.truebalance.domain.entity.Installment;
 import com.truebalance.truebalance.domain.entity.Invoice;
 import com.truebalance.truebalance.domain.entity.PartialPayment;
+import com.truebalance.truebalance.domain.service.ClosedInvoiceCache;
+import com.truebalance.truebalance.domain.service.ImportReportStore;
+import com.truebalance.truebalance.domain.service.InvoiceETags;
 import com.truebalance.truebalance.domain.usecase.*;
 import com.truebalance.truebalance.util.TestDataBuilder;
 import org.junit.jupiter.api.DisplayName;
@@ -16,18 +19,25 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -56,6 +66,9 @@ class InvoiceControllerTest {
     @MockBean
     private GetInvoiceBalance getInvoiceBalance;
 
+    @MockBean
+    private GetInvoiceBalances getInvoiceBalances;
+
     @MockBean
     private GetInvoiceInstallments getInvoiceInstallments;
 
@@ -68,6 +81,18 @@ class InvoiceControllerTest {
     @MockBean
     private DeletePartialPayment deletePartialPayment;
 
+    @MockBean
+    private SubmitImportJob submitImportJob;
+
+    @MockBean
+    private ImportReportStore importReportStore;
+
+    @MockBean
+    private InvoiceETags invoiceETags;
+
+    @MockBean
+    private ClosedInvoiceCache closedInvoiceCache;
+
     // ==================== GET /invoices/{id} ====================
 
     @Test
@@ -106,6 +131,41 @@ class InvoiceControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("GET /invoices/{id} - Should return ETag from the invoice version")
+    void shouldReturnETagWithInvoice() throws Exception {
+        // Given
+        Long invoiceId = 1L;
+        Invoice invoice = TestDataBuilder.createInvoice(invoiceId, 1L, LocalDate.of(2025, 1, 1), new BigDecimal("1500.00"));
+        when(invoiceETags.forInvoice(invoiceId)).thenReturn(Optional.of("invoice-1-v3"));
+        when(getInvoiceById.execute(invoiceId)).thenReturn(Optional.of(invoice));
+
+        // When & Then
+        mockMvc.perform(get("/invoices/{id}", invoiceId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"invoice-1-v3\""))
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    @DisplayName("GET /invoices/{id} - Should return 304 without loading the invoice when ETag matches")
+    void shouldReturn304WhenInvoiceNotModified() throws Exception {
+        // Given
+        Long invoiceId = 1L;
+        when(invoiceETags.forInvoice(invoiceId)).thenReturn(Optional.of("invoice-1-v3"));
+
+        // When & Then
+        mockMvc.perform(get("/invoices/{id}", invoiceId)
+                        .header("If-None-Match", "\"invoice-1-v3\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"invoice-1-v3\""))
+                .andExpect(content().string(""));
+
+        verify(getInvoiceById, never()).execute(any());
+    }
+
     // ==================== POST /invoices/{id}/close ====================
 
     @Test
@@ -200,6 +260,126 @@ class InvoiceControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("GET /invoices/{id}/balance - Should recalculate when ETag is outdated and return 304 when current")
+    void shouldUseETagForBalance() throws Exception {
+        // Given: A payment was registered since the client's copy
+        Long invoiceId = 1L;
+        InvoiceBalanceDTO balance = new InvoiceBalanceDTO(invoiceId, new BigDecimal("2000.00"), BigDecimal.ZERO,
+                new BigDecimal("500.00"), new BigDecimal("1500.00"), false, false, 1);
+        when(invoiceETags.forBalance(invoiceId)).thenReturn(Optional.of("balance-1-v2-p1-7"));
+        when(getInvoiceBalance.execute(invoiceId)).thenReturn(Optional.of(balance));
+
+        // When & Then: Outdated tag
+        mockMvc.perform(get("/invoices/{id}/balance", invoiceId)
+                        .header("If-None-Match", "\"balance-1-v2-p0-0\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"balance-1-v2-p1-7\""))
+                .andExpect(jsonPath("$.currentBalance").value(1500.00));
+
+        // When & Then: Current tag
+        mockMvc.perform(get("/invoices/{id}/balance", invoiceId)
+                        .header("If-None-Match", "\"balance-1-v2-p1-7\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified());
+
+        verify(getInvoiceBalance, times(1)).execute(invoiceId);
+    }
+
+    // ==================== Closed invoice cache ====================
+
+    @Test
+    @DisplayName("GET /invoices/{id} - Should cache a closed and paid invoice and send it as immutable")
+    void shouldCacheClosedAndPaidInvoice() throws Exception {
+        // Given
+        Long invoiceId = 1L;
+        Invoice invoice = TestDataBuilder.createInvoice(invoiceId, 1L, LocalDate.of(2025, 1, 1), new BigDecimal("1500.00"));
+        invoice.setClosed(true);
+        invoice.setPaid(true);
+        when(invoiceETags.forInvoice(invoiceId)).thenReturn(Optional.of("invoice-1-v5"));
+        when(getInvoiceById.execute(invoiceId)).thenReturn(Optional.of(invoice));
+        when(closedInvoiceCache.immutableCacheControl())
+                .thenReturn(CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable());
+
+        // When & Then
+        mockMvc.perform(get("/invoices/{id}", invoiceId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"invoice-1-v5\""))
+                .andExpect(header().string("Cache-Control", containsString("immutable")))
+                .andExpect(jsonPath("$.closed").value(true));
+
+        verify(closedInvoiceCache).put(eq(invoiceId), eq(ClosedInvoiceCache.View.INVOICE), eq("invoice-1-v5"), any(), eq(true));
+    }
+
+    @Test
+    @DisplayName("GET /invoices/{id}/installments - Should serve a cached closed invoice without loading it")
+    void shouldServeCachedInstallments() throws Exception {
+        // Given
+        Long invoiceId = 1L;
+        byte[] body = "[{\"id\":5,\"invoiceId\":1}]".getBytes(StandardCharsets.UTF_8);
+        when(closedInvoiceCache.find(eq(invoiceId), eq(ClosedInvoiceCache.View.INSTALLMENTS), any()))
+                .thenReturn(Optional.of(new ClosedInvoiceCache.Entry(body, "installments-1-v5", true)));
+        when(closedInvoiceCache.immutableCacheControl())
+                .thenReturn(CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable());
+
+        // When & Then
+        mockMvc.perform(get("/invoices/{id}/installments", invoiceId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"installments-1-v5\""))
+                .andExpect(header().string("Cache-Control", containsString("immutable")))
+                .andExpect(jsonPath("$[0].id").value(5));
+
+        // When & Then: The client already has it
+        mockMvc.perform(get("/invoices/{id}/installments", invoiceId)
+                        .header("If-None-Match", "\"installments-1-v5\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified());
+
+        verify(getInvoiceById, never()).execute(any());
+        verify(getInvoiceInstallments, never()).execute(any());
+    }
+
+    // ==================== POST /invoices/balances ====================
+
+    @Test
+    @DisplayName("POST /invoices/balances - Should return the requested page of balances, duplicates counted once")
+    void shouldReturnPagedInvoiceBalances() throws Exception {
+        // Given: Three distinct IDs, page size 2, second page
+        InvoiceBalanceDTO balance = new InvoiceBalanceDTO(3L, new BigDecimal("500.00"), BigDecimal.ZERO,
+                new BigDecimal("100.00"), new BigDecimal("400.00"), false, false, 1);
+        when(getInvoiceBalances.execute(List.of(3L))).thenReturn(List.of(balance));
+
+        // When & Then
+        mockMvc.perform(post("/invoices/balances")
+                        .param("page", "1")
+                        .param("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"invoiceIds\": [1, 2, 1, 3]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].invoiceId").value(3))
+                .andExpect(jsonPath("$.content[0].currentBalance").value(400.00))
+                .andExpect(jsonPath("$.page").value(1))
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.totalPages").value(2));
+    }
+
+    @Test
+    @DisplayName("POST /invoices/balances - Should return 400 when the ID list is empty")
+    void shouldReturn400WhenInvoiceBalancesRequestEmpty() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/invoices/balances")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"invoiceIds\": []}"))
+                .andExpect(status().isBadRequest());
+
+        verify(getInvoiceBalances, never()).execute(any());
+    }
+
     // ==================== GET /invoices/{id}/installments ====================
 
     @Test
@@ -0,0 +1,116 @@
+package com.truebalance.truebalance.config;
+
+import com.truebalance.truebalance.domain.usecase.RetryOnConflict;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for OptimisticLockRetryInterceptor - bounded re-execution on optimistic lock conflicts.
+ */
+@DisplayName("OptimisticLockRetryInterceptor Tests")
+class OptimisticLockRetryInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /**
+     * Fails with a conflict the given number of times, then succeeds.
+     */
+    static class ConflictingUseCase {
+
+        final AtomicInteger calls = new AtomicInteger();
+        int conflicts;
+
+        @RetryOnConflict
+        public String execute() {
+            if (calls.incrementAndGet() <= conflicts) {
+                throw new ObjectOptimisticLockingFailureException("Invoice", 1L);
+            }
+            return "ok";
+        }
+
+        @RetryOnConflict
+        public String failOtherwise() {
+            calls.incrementAndGet();
+            throw new IllegalStateException("Invoice is already closed");
+        }
+    }
+
+    private ConflictingUseCase proxy(ConflictingUseCase target, int maxAttempts) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        ObjectProvider<MeterRegistry> provider = beanFactory.getBeanProvider(MeterRegistry.class);
+
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new OptimisticLockRetryInterceptor(provider, maxAttempts, 0, 0));
+        return (ConflictingUseCase) factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should re-run the use case after a conflict and return its result")
+    void shouldRetryAfterConflict() {
+        // Given: Two conflicts, three attempts allowed
+        ConflictingUseCase target = new ConflictingUseCase();
+        target.conflicts = 2;
+
+        // When
+        String result = proxy(target, 3).execute();
+
+        // Then
+        assertThat(result).isEqualTo("ok");
+        assertThat(target.calls).hasValue(3);
+        assertThat(meterRegistry.counter("truebalance.optimistic-lock.retries", "usecase", "ConflictingUseCase").count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.counter("truebalance.optimistic-lock.calls", "usecase", "ConflictingUseCase").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should rethrow the conflict when every attempt fails")
+    void shouldGiveUpAfterMaxAttempts() {
+        // Given
+        ConflictingUseCase target = new ConflictingUseCase();
+        target.conflicts = 5;
+
+        // When & Then
+        assertThatThrownBy(() -> proxy(target, 3).execute())
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(target.calls).hasValue(3);
+        assertThat(meterRegistry.counter("truebalance.optimistic-lock.exhausted", "usecase", "ConflictingUseCase").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not retry other exceptions")
+    void shouldNotRetryOtherExceptions() {
+        ConflictingUseCase target = new ConflictingUseCase();
+
+        assertThatThrownBy(() -> proxy(target, 3).failOtherwise())
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(target.calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the backoff between zero and the growing cap")
+    void shouldBoundBackoff() {
+        OptimisticLockRetryInterceptor interceptor = new OptimisticLockRetryInterceptor(
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class), 5, 20, 100);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(interceptor.backoff(1)).isBetween(0L, 20L);
+            assertThat(interceptor.backoff(2)).isBetween(0L, 40L);
+            assertThat(interceptor.backoff(10)).isBetween(0L, 100L);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.application.dto.input.BillBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.BillImportItemDTO;
+import com.truebalance.truebalance.application.dto.output.BillImportResultDTO;
+import com.truebalance.truebalance.application.dto.output.ImportSummaryDTO;
+import com.truebalance.truebalance.domain.usecase.ImportBillsInBulk;
+import com.truebalance.truebalance.domain.usecase.ImportProgressListener;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for BillImportPipeline - parser, validator and writer stages connected by bounded queues.
+ * Queues and batches are kept tiny so the tests exercise backpressure and batch boundaries.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BillImportPipeline - Domain Service Tests")
+class BillImportPipelineTest {
+
+    @Mock
+    private FileImportService fileImportService;
+
+    @Mock
+    private ImportBillsInBulk importBillsInBulk;
+
+    private BillImportPipeline pipeline;
+
+    private final InputStream emptyInput = new ByteArrayInputStream(new byte[0]);
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new BillImportPipeline(fileImportService, importBillsInBulk,
+                Validation.buildDefaultValidatorFactory().getValidator(), 2, 3);
+    }
+
+    @Test
+    @DisplayName("Should write valid rows in batches and report invalid rows as errors")
+    void shouldWriteValidRowsInBatchesAndReportInvalidRows() throws Exception {
+        // Given: 7 rows, line 4 has a name that is too short
+        List<BillImportItemDTO> rows = new ArrayList<>();
+        for (int line = 2; line <= 8; line++) {
+            rows.add(item(line == 4 ? "ab" : "Conta " + line, line));
+        }
+        streamRows(rows);
+        when(importBillsInBulk.execute(any(BillBulkImportRequestDTO.class), any(ImportProgressListener.class)))
+                .thenAnswer(invocation -> created(invocation.getArgument(0, BillBulkImportRequestDTO.class)));
+
+        // When
+        BillImportResultDTO result = pipeline.run("contas.csv", emptyInput,
+                BillBulkImportRequestDTO.DuplicateStrategy.SKIP, ImportProgressListener.NONE);
+
+        // Then: Every valid row written exactly once, in file order, in batches of at most 3
+        ArgumentCaptor<BillBulkImportRequestDTO> captor = ArgumentCaptor.forClass(BillBulkImportRequestDTO.class);
+        verify(importBillsInBulk, atLeast(2)).execute(captor.capture(), any(ImportProgressListener.class));
+
+        List<Integer> writtenLines = new ArrayList<>();
+        for (BillBulkImportRequestDTO batch : captor.getAllValues()) {
+            assertThat(batch.getItems()).hasSizeLessThanOrEqualTo(3);
+            assertThat(batch.getDuplicateStrategy()).isEqualTo(BillBulkImportRequestDTO.DuplicateStrategy.SKIP);
+            batch.getItems().forEach(item -> writtenLines.add(item.getLineNumber()));
+        }
+        assertThat(writtenLines).containsExactly(2, 3, 5, 6, 7, 8);
+
+        assertThat(result.getTotalCreated()).isEqualTo(6);
+        assertThat(result.getTotalErrors()).isEqualTo(1);
+        assertThat(result.getTotalProcessed()).isEqualTo(7);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLineNumber()).isEqualTo(4);
+            assertThat(error.getField()).isEqualTo("name");
+        });
+    }
+
+    @Test
+    @DisplayName("Should report rows that cannot be converted as errors and import the rest of the file")
+    void shouldReportUnparsableRowsAndKeepGoing() throws Exception {
+        // Given: Line 3 of 5 has no date
+        doAnswer(invocation -> {
+            Consumer<BillImportItemDTO> consumer = invocation.getArgument(3);
+            FileImportService.RowErrorHandler rowErrors = invocation.getArgument(4);
+            consumer.accept(item("Conta 2", 2));
+            rowErrors.rowFailed(3, new IllegalArgumentException("Data é obrigatória"));
+            consumer.accept(item("Conta 4", 4));
+            consumer.accept(item("Conta 5", 5));
+            return null;
+        }).when(fileImportService).streamBillsFromFile(eq("contas.csv"), any(InputStream.class), any(), any(), any());
+        when(importBillsInBulk.execute(any(BillBulkImportRequestDTO.class), any(ImportProgressListener.class)))
+                .thenAnswer(invocation -> created(invocation.getArgument(0, BillBulkImportRequestDTO.class)));
+
+        // When
+        BillImportResultDTO result = pipeline.run("contas.csv", emptyInput,
+                BillBulkImportRequestDTO.DuplicateStrategy.SKIP, ImportProgressListener.NONE);
+
+        // Then: The rows around it are written, the row itself is an error of its line
+        assertThat(result.getTotalCreated()).isEqualTo(3);
+        assertThat(result.getTotalErrors()).isEqualTo(1);
+        assertThat(result.getTotalProcessed()).isEqualTo(4);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLineNumber()).isEqualTo(3);
+            assertThat(error.getMessage()).contains("Data é obrigatória");
+        });
+    }
+
+    @Test
+    @DisplayName("Should keep the rows written before the file stops being readable and report the failing line")
+    void shouldReportReadFailureMidFile() throws Exception {
+        // Given: The file cannot be read past line 3
+        doAnswer(invocation -> {
+            Consumer<BillImportItemDTO> consumer = invocation.getArgument(3);
+            consumer.accept(item("Conta 2", 2));
+            consumer.accept(item("Conta 3", 3));
+            throw new IllegalStateException("Aspas não fechadas");
+        }).when(fileImportService).streamBillsFromFile(eq("contas.csv"), any(InputStream.class), any(), any(), any());
+        when(importBillsInBulk.execute(any(BillBulkImportRequestDTO.class), any(ImportProgressListener.class)))
+                .thenAnswer(invocation -> created(invocation.getArgument(0, BillBulkImportRequestDTO.class)));
+
+        // When
+        BillImportResultDTO result = pipeline.run("contas.csv", emptyInput,
+                BillBulkImportRequestDTO.DuplicateStrategy.SKIP, ImportProgressListener.NONE);
+
+        // Then: The caller learns both what was imported and where reading stopped
+        assertThat(result.getTotalCreated()).isEqualTo(2);
+        assertThat(result.getTotalErrors()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLineNumber()).isEqualTo(4);
+            assertThat(error.getMessage()).contains("Aspas não fechadas");
+        });
+    }
+
+    @Test
+    @DisplayName("Should propagate a failure to read the file before any row")
+    void shouldPropagateFailureBeforeAnyRow() throws Exception {
+        // Given
+        doThrow(new IllegalArgumentException("Formato de arquivo não suportado: txt"))
+                .when(fileImportService).streamBillsFromFile(eq("contas.csv"), any(InputStream.class), any(), any(), any());
+
+        // When/Then: Nothing was imported
+        assertThatThrownBy(() -> pipeline.run("contas.csv", emptyInput,
+                BillBulkImportRequestDTO.DuplicateStrategy.SKIP, ImportProgressListener.NONE))
+                .hasMessageContaining("não suportado");
+        verifyNoInteractions(importBillsInBulk);
+    }
+
+    @Test
+    @DisplayName("Should stop writing when cancelled")
+    void shouldStopWritingWhenCancelled() throws Exception {
+        // Given: A listener that is already cancelled
+        List<BillImportItemDTO> rows = new ArrayList<>();
+        for (int line = 2; line <= 50; line++) {
+            rows.add(item("Conta " + line, line));
+        }
+        streamRows(rows);
+        ImportProgressListener cancelled = new ImportProgressListener() {
+            @Override
+            public boolean isCancelled() {
+                return true;
+            }
+        };
+
+        // When
+        BillImportResultDTO result = pipeline.run("contas.csv", emptyInput,
+                BillBulkImportRequestDTO.DuplicateStrategy.SKIP, cancelled);
+
+        // Then: Nothing written, parser blocked on the full queue was released
+        verifyNoInteractions(importBillsInBulk);
+        assertThat(result.getTotalCreated()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fold batches and invalid rows into a summary and the CSV report")
+    void shouldFoldResultsIntoSummary() throws Exception {
+        // Given: 7 rows, line 4 has a name that is too short
+        List<BillImportItemDTO> rows = new ArrayList<>();
+        for (int line = 2; line <= 8; line++) {
+            rows.add(item(line == 4 ? "ab" : "Conta " + line, line));
+        }
+        streamRows(rows);
+        when(importBillsInBulk.execute(any(BillBulkImportRequestDTO.class), any(ImportProgressListener.class)))
+                .thenAnswer(invocation -> created(invocation.getArgument(0, BillBulkImportRequestDTO.class)));
+        StringWriter report = new StringWriter();
+
+        // When: At most 2 examples per outcome
+        ImportSummaryDTO summary = pipeline.runSummary("contas.csv", emptyInput,
+                BillBulkImportRequestDTO.DuplicateStrategy.SKIP, ImportProgressListener.NONE,
+                new ImportSummaryCollector("relatorio", report, 2));
+
+        // Then
+        assertThat(summary.getTotalCreated()).isEqualTo(6);
+        assertThat(summary.getTotalErrors()).isEqualTo(1);
+        assertThat(summary.getTotalProcessed()).isEqualTo(7);
+        assertThat(summary.getReportId()).isEqualTo("relatorio");
+        assertThat(summary.getErrorGroups()).singleElement().satisfies(group -> {
+            assertThat(group.getField()).isEqualTo("name");
+            assertThat(group.getLineNumbers()).containsExactly(4);
+        });
+        assertThat(report.toString().lines())
+                .hasSize(2)
+                .anySatisfy(line -> assertThat(line).startsWith("4,ERRO,,,\"name\""));
+    }
+
+    private void streamRows(List<BillImportItemDTO> rows) throws Exception {
+        doAnswer(invocation -> {
+            Consumer<BillImportItemDTO> consumer = invocation.getArgument(3);
+            rows.forEach(consumer);
+            return null;
+        }).when(fileImportService).streamBillsFromFile(eq("contas.csv"), any(InputStream.class), any(), any(), any());
+    }
+
+    private static BillImportResultDTO created(BillBulkImportRequestDTO request) {
+        int size = request.getItems().size();
+        return new BillImportResultDTO(size, size, 0, 0, null, null, null);
+    }
+
+    private static BillImportItemDTO item(String name, int lineNumber) {
+        return new BillImportItemDTO(name, null, LocalDateTime.of(2025, 1, 15, 10, 0),
+                new BigDecimal("100.00"), 1, false, null, lineNumber);
+    }
+}
@@ -0,0 +1,128 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for ClosedInvoiceCache - memory and disk cache of closed invoice reads.
+ */
+@DisplayName("ClosedInvoiceCache - Domain Service Tests")
+class ClosedInvoiceCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ClosedInvoiceCache cache;
+
+    private ClosedInvoiceCache cache(long memoryBytes) {
+        cache = new ClosedInvoiceCache(new ObjectMapper(), meterRegistry, true, DataSize.ofBytes(memoryBytes),
+                tempDir.toString(), Duration.ofDays(365));
+        return cache;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (cache != null) {
+            cache.deleteDirectory();
+        }
+    }
+
+    private double requests(String result) {
+        return meterRegistry.counter("truebalance.invoice-cache.requests", "result", result).count();
+    }
+
+    private static String body(ClosedInvoiceCache.Entry entry) {
+        return new String(entry.body(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Should serve an entry from memory while its tag is current")
+    void shouldServeFromMemory() {
+        // Given
+        ClosedInvoiceCache cache = cache(1024);
+        cache.put(1L, ClosedInvoiceCache.View.INVOICE, "invoice-1-v3", Map.of("id", 1), true);
+
+        // When
+        Optional<ClosedInvoiceCache.Entry> entry = cache.find(1L, ClosedInvoiceCache.View.INVOICE,
+                () -> Optional.of("invoice-1-v3"));
+
+        // Then
+        assertThat(entry).isPresent();
+        assertThat(body(entry.get())).isEqualTo("{\"id\":1}");
+        assertThat(entry.get().etag()).isEqualTo("invoice-1-v3");
+        assertThat(entry.get().immutable()).isTrue();
+        assertThat(requests("memory")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop an entry whose tag changed (invoice corrected)")
+    void shouldDropStaleEntry() {
+        // Given
+        ClosedInvoiceCache cache = cache(1024);
+        cache.put(1L, ClosedInvoiceCache.View.BALANCE, "balance-1-v3-p0-0", Map.of("id", 1), false);
+
+        // When
+        Optional<ClosedInvoiceCache.Entry> stale = cache.find(1L, ClosedInvoiceCache.View.BALANCE,
+                () -> Optional.of("balance-1-v4-p0-0"));
+        Optional<ClosedInvoiceCache.Entry> again = cache.find(1L, ClosedInvoiceCache.View.BALANCE,
+                () -> Optional.of("balance-1-v3-p0-0"));
+
+        // Then
+        assertThat(stale).isEmpty();
+        assertThat(again).isEmpty();
+        assertThat(requests("miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should read back from disk an entry evicted from memory")
+    void shouldReadEvictedEntryFromDisk() {
+        // Given: Room in memory for one entry only
+        ClosedInvoiceCache cache = cache(12);
+        cache.put(1L, ClosedInvoiceCache.View.INSTALLMENTS, "installments-1-v2", Map.of("id", 1), true);
+        cache.put(2L, ClosedInvoiceCache.View.INSTALLMENTS, "installments-2-v2", Map.of("id", 2), true);
+
+        // When
+        Optional<ClosedInvoiceCache.Entry> entry = cache.find(1L, ClosedInvoiceCache.View.INSTALLMENTS,
+                () -> Optional.of("installments-1-v2"));
+
+        // Then
+        assertThat(entry).isPresent();
+        assertThat(body(entry.get())).isEqualTo("{\"id\":1}");
+        assertThat(requests("disk")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should remove every read of an invoice on invalidate, without computing its tag")
+    void shouldInvalidateInvoice() {
+        // Given
+        ClosedInvoiceCache cache = cache(1024);
+        cache.put(1L, ClosedInvoiceCache.View.INVOICE, "invoice-1-v3", Map.of("id", 1), true);
+        cache.put(1L, ClosedInvoiceCache.View.PARTIAL_PAYMENTS, "payments-1-v3-p0-0", Map.of("id", 1), true);
+
+        // When
+        cache.invalidate(1L);
+
+        // Then: The tag is only computed when there is an entry
+        assertThat(cache.find(1L, ClosedInvoiceCache.View.INVOICE, () -> {
+            throw new AssertionError("tag computed without an entry");
+        })).isEmpty();
+        assertThat(cache.find(1L, ClosedInvoiceCache.View.PARTIAL_PAYMENTS, () -> {
+            throw new AssertionError("tag computed without an entry");
+        })).isEmpty();
+    }
+}
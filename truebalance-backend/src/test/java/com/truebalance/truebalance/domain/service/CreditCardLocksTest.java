@@ -0,0 +1,149 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.exception.CreditCardNotFoundException;
+import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
+import com.truebalance.truebalance.util.TestDataBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for CreditCardLocks - per-card serialization until the transaction ends.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreditCardLocks - Domain Service Tests")
+class CreditCardLocksTest {
+
+    @Mock
+    private CreditCardRepositoryPort creditCardRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse to lock outside a transaction")
+    void shouldRequireTransaction() {
+        CreditCardLocks locks = new CreditCardLocks(creditCardRepository, meterRegistry, 4);
+
+        assertThatThrownBy(() -> locks.lockForTransaction(1L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should make a second transaction on the same card wait until the first one completes")
+    void shouldSerializeTransactionsOnSameCard() throws Exception {
+        // Given: The card is locked by the current "transaction"
+        CreditCard card = TestDataBuilder.createCreditCard(1L, "Card", new BigDecimal("1000.00"), 10, 17);
+        when(creditCardRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(card));
+        CreditCardLocks locks = new CreditCardLocks(creditCardRepository, meterRegistry, 4);
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(locks.lockForTransaction(1L)).isSameAs(card);
+
+        // When: Another transaction locks the same card
+        CompletableFuture<CreditCard> second = CompletableFuture.supplyAsync(() -> inTransaction(locks, 1L));
+
+        // Then: It waits until the first transaction completes
+        Thread.sleep(200);
+        assertThat(second).isNotDone();
+        complete();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(card);
+        assertThat(meterRegistry.timer("truebalance.credit-card.lock.wait", "level", "jvm").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should release the card when it does not exist")
+    void shouldReleaseWhenCardNotFound() throws Exception {
+        // Given
+        when(creditCardRepository.findByIdForUpdate(9L)).thenReturn(Optional.empty());
+        CreditCardLocks locks = new CreditCardLocks(creditCardRepository, meterRegistry, 1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        assertThatThrownBy(() -> locks.lockForTransaction(9L)).isInstanceOf(CreditCardNotFoundException.class);
+        complete();
+
+        // Then: The stripe is free for other transactions
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                assertThatThrownBy(() -> locks.lockForTransaction(9L)).isInstanceOf(CreditCardNotFoundException.class);
+                complete();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        });
+        other.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should lock several cards once each, rows in ascending ID order, leaving out missing ones")
+    void shouldLockSeveralCardsInOrder() {
+        // Given
+        CreditCard first = TestDataBuilder.createCreditCard(3L, "A", new BigDecimal("1000.00"), 10, 17);
+        CreditCard second = TestDataBuilder.createCreditCard(8L, "B", new BigDecimal("1000.00"), 10, 17);
+        when(creditCardRepository.findByIdForUpdate(3L)).thenReturn(Optional.of(first));
+        when(creditCardRepository.findByIdForUpdate(5L)).thenReturn(Optional.empty());
+        when(creditCardRepository.findByIdForUpdate(8L)).thenReturn(Optional.of(second));
+        CreditCardLocks locks = new CreditCardLocks(creditCardRepository, meterRegistry, 4);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        Map<Long, CreditCard> cards = locks.lockAllForTransaction(List.of(8L, 5L, 3L, 8L));
+
+        // Then
+        assertThat(cards).containsExactly(entry(3L, first), entry(8L, second));
+        InOrder inOrder = inOrder(creditCardRepository);
+        inOrder.verify(creditCardRepository).findByIdForUpdate(3L);
+        inOrder.verify(creditCardRepository).findByIdForUpdate(5L);
+        inOrder.verify(creditCardRepository).findByIdForUpdate(8L);
+        // Cards 3, 5 and 8 fall in stripes 3, 1 and 0, each taken once
+        assertThat(meterRegistry.timer("truebalance.credit-card.lock.wait", "level", "jvm").count()).isEqualTo(3);
+        complete();
+    }
+
+    private static CreditCard inTransaction(CreditCardLocks locks, Long creditCardId) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            CreditCard card = locks.lockForTransaction(creditCardId);
+            complete();
+            return card;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void complete() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+}
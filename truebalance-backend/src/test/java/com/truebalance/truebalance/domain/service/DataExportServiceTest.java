@@ -0,0 +1,95 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truebalance.truebalance.domain.entity.ExportDataset;
+import com.truebalance.truebalance.domain.port.DataExportPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for DataExportService - NDJSON and CSV formatting of streamed rows.
+ */
+@DisplayName("DataExportService - Domain Service Tests")
+class DataExportServiceTest {
+
+    private static final List<Object[]> PARTIAL_PAYMENTS = List.of(
+            new Object[]{1L, 10L, new BigDecimal("150.00"), LocalDateTime.of(2025, 1, 15, 14, 30, 5), "Pix, \"adiantado\"",
+                    LocalDateTime.of(2025, 1, 15, 14, 30, 5)},
+            new Object[]{2L, 10L, new BigDecimal("1E+2"), LocalDateTime.of(2025, 2, 1, 9, 0, 0), null,
+                    LocalDateTime.of(2025, 2, 1, 9, 0, 0)}
+    );
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /** Reuses one array for every row, as the JDBC adapter does */
+    private final DataExportPort port = (dataset, handler) -> {
+        Object[] values = new Object[dataset.getColumns().size()];
+        for (Object[] row : PARTIAL_PAYMENTS) {
+            System.arraycopy(row, 0, values, 0, values.length);
+            try {
+                handler.row(values);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return PARTIAL_PAYMENTS.size();
+    };
+
+    private final DataExportService service = new DataExportService(port, objectMapper);
+
+    @Test
+    @DisplayName("Should write one JSON object per line with typed values")
+    void shouldExportNdjson() throws Exception {
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long rows = service.export(ExportDataset.PARTIAL_PAYMENTS, DataExportService.Format.NDJSON, output);
+
+        // Then
+        assertThat(rows).isEqualTo(2);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("amount").isNumber()).isTrue();
+        assertThat(first.get("amount").decimalValue()).isEqualByComparingTo("150.00");
+        assertThat(first.get("paymentDate").asText()).isEqualTo("2025-01-15T14:30:05");
+        assertThat(first.get("description").asText()).isEqualTo("Pix, \"adiantado\"");
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("description").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should write a header and quote only text values in CSV")
+    void shouldExportCsv() throws Exception {
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        service.export(ExportDataset.PARTIAL_PAYMENTS, DataExportService.Format.CSV, output);
+
+        // Then: Amounts in plain notation, null as an empty field
+        assertThat(output.toString(StandardCharsets.UTF_8).lines()).containsExactly(
+                "id,invoiceId,amount,paymentDate,description,createdAt",
+                "1,10,150.00,2025-01-15T14:30:05,\"Pix, \"\"adiantado\"\"\",2025-01-15T14:30:05",
+                "2,10,100,2025-02-01T09:00,,2025-02-01T09:00"
+        );
+    }
+
+    @Test
+    @DisplayName("Should find datasets by their URL path")
+    void shouldFindDatasetByPath() {
+        assertThat(ExportDataset.fromPath("partial-payments")).contains(ExportDataset.PARTIAL_PAYMENTS);
+        assertThat(ExportDataset.fromPath("credit-cards")).isEmpty();
+    }
+}
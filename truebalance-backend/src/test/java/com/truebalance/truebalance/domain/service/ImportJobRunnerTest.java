@@ -0,0 +1,140 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.entity.ImportJob;
+import com.truebalance.truebalance.domain.entity.ImportJobStatus;
+import com.truebalance.truebalance.domain.port.ClusterLockPort;
+import com.truebalance.truebalance.domain.port.ImportJobRepositoryPort;
+import com.truebalance.truebalance.domain.usecase.ImportCreditCardsInBulk;
+import com.truebalance.truebalance.domain.usecase.ImportInvoicesInBulk;
+import com.truebalance.truebalance.domain.usecase.ImportUnifiedData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for ImportJobRunner - start, heartbeats and recovery of jobs of instances that are gone.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportJobRunner - Domain Service Tests")
+class ImportJobRunnerTest {
+
+    @Mock
+    private ImportJobRepositoryPort importJobRepositoryPort;
+
+    @Mock
+    private FileImportService fileImportService;
+
+    @Mock
+    private UnifiedImportService unifiedImportService;
+
+    @Mock
+    private BillImportPipeline billImportPipeline;
+
+    @Mock
+    private ImportInvoicesInBulk importInvoicesInBulk;
+
+    @Mock
+    private ImportCreditCardsInBulk importCreditCardsInBulk;
+
+    @Mock
+    private ImportUnifiedData importUnifiedData;
+
+    @Mock
+    private ClusterLockPort clusterLockPort;
+
+    @Mock
+    private ClusterLockPort.ClusterLock lock;
+
+    private ImportJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new ImportJobRunner(importJobRepositoryPort, fileImportService, unifiedImportService,
+                billImportPipeline, importInvoicesInBulk, importCreditCardsInBulk, importUnifiedData,
+                Runnable::run, clusterLockPort, Duration.ofMinutes(2));
+    }
+
+    private static ImportJob job(Long id, String ownerNode, LocalDateTime heartbeatAt) {
+        ImportJob job = new ImportJob();
+        job.setId(id);
+        job.setStatus(ImportJobStatus.RUNNING);
+        job.setOwnerNode(ownerNode);
+        job.setHeartbeatAt(heartbeatAt);
+        return job;
+    }
+
+    @Test
+    @DisplayName("Should fail only jobs whose owner stopped stamping them")
+    void shouldFailStaleJobs() {
+        // Given: A stale job of another node, a fresh one, one of this node and one without owner
+        LocalDateTime now = LocalDateTime.now();
+        ImportJob stale = job(1L, "node-gone", now.minusMinutes(10));
+        ImportJob fresh = job(2L, "node-alive", now.minusSeconds(20));
+        ImportJob own = job(3L, runner.nodeId(), now.minusHours(1));
+        ImportJob orphan = job(4L, null, null);
+        when(clusterLockPort.tryLock("import-job-recovery")).thenReturn(Optional.of(lock));
+        when(importJobRepositoryPort.findByStatusIn(anyList())).thenReturn(List.of(stale, fresh, own, orphan));
+
+        // When
+        runner.failInterruptedJobs();
+
+        // Then
+        verify(importJobRepositoryPort).save(stale);
+        verify(importJobRepositoryPort).save(orphan);
+        verify(importJobRepositoryPort, times(2)).save(any());
+        assertThat(stale.getStatus()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(fresh.getStatus()).isEqualTo(ImportJobStatus.RUNNING);
+        verify(lock).close();
+    }
+
+    @Test
+    @DisplayName("Should stamp the jobs of this instance on each heartbeat")
+    void shouldStampOwnJobs() {
+        // When
+        runner.heartbeat();
+
+        // Then
+        verify(importJobRepositoryPort).heartbeat(eq(runner.nodeId()), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should not start, nor overwrite the flag of, a job cancelled before it was picked up")
+    void shouldHonourCancelIssuedBeforeStart() throws Exception {
+        // Given: The job was cancelled while still PENDING
+        ImportJob pending = job(5L, runner.nodeId(), LocalDateTime.now());
+        pending.setStatus(ImportJobStatus.PENDING);
+        ImportJob stored = job(5L, runner.nodeId(), LocalDateTime.now());
+        stored.setCancelRequested(true);
+        Path spooled = Files.createTempFile("truebalance-import-", ".csv");
+        when(importJobRepositoryPort.markRunning(eq(5L), any(LocalDateTime.class))).thenReturn(false);
+        when(importJobRepositoryPort.isCancelRequested(5L)).thenReturn(true);
+        when(importJobRepositoryPort.findById(5L)).thenReturn(Optional.of(stored));
+
+        // When
+        runner.run(pending, spooled);
+
+        // Then: Finished from the reloaded row, which keeps the flag
+        verify(importJobRepositoryPort).save(stored);
+        verify(importJobRepositoryPort, never()).save(pending);
+        assertThat(stored.getStatus()).isEqualTo(ImportJobStatus.CANCELLED);
+        assertThat(stored.isCancelRequested()).isTrue();
+        assertThat(spooled).doesNotExist();
+        verifyNoInteractions(billImportPipeline, fileImportService, unifiedImportService);
+    }
+}
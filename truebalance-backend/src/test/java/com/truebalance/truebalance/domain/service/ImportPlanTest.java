@@ -0,0 +1,103 @@
+package com.truebalance.truebalance.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for ImportPlan - header alias resolution, format detection from a sample and compiled accessors.
+ */
+@DisplayName("ImportPlan - Domain Service Tests")
+class ImportPlanTest {
+
+    @Test
+    @DisplayName("Should resolve each field to the first alias present and report unmapped headers")
+    void shouldResolveAliasesOnce() {
+        // Given
+        List<String> headers = Arrays.asList("name", "Nome", "Data", "Observação", null, "Valor Total");
+
+        // When
+        ImportPlan plan = ImportPlan.compile(headers, ImportPlan.BILL_FIELDS, List.of());
+
+        // Then: "Nome" has priority over "name"
+        assertThat(plan.columnIndex("name")).isEqualTo(1);
+        assertThat(plan.columnIndex("executionDate")).isEqualTo(2);
+        assertThat(plan.columnIndex("totalAmount")).isEqualTo(5);
+        assertThat(plan.columnIndex("description")).isEqualTo(-1);
+        assertThat(plan.getMissingFields()).containsExactly("description", "numberOfInstallments", "creditCardId");
+        assertThat(plan.getUnmappedHeaders()).containsExactly("name", "Observação");
+    }
+
+    @Test
+    @DisplayName("Should detect Brazilian grouped amounts and ISO dates from the sample")
+    void shouldDetectFormatsFromSample() {
+        // Given
+        List<String> headers = List.of("Nome", "Data", "Valor Total");
+        List<ImportPlan.RowValues> sample = List.of(
+                row("Mercado", "2025-03-01", "250,00"),
+                row("Notebook", "2025-03-02", "R$ 3.000,00"),
+                row("Cinema", "", "")
+        );
+
+        // When
+        ImportPlan plan = ImportPlan.compile(headers, ImportPlan.BILL_FIELDS, sample);
+
+        // Then
+        assertThat(plan.format("totalAmount")).isEqualTo(ImportPlan.DECIMAL_BR);
+        assertThat(plan.format("executionDate")).isEqualTo(ImportPlan.DATE_ISO);
+        assertThat(plan.format("name")).isNull();
+
+        ImportPlan.Accessor<BigDecimal> totalAmount = plan.decimal("totalAmount");
+        assertThat(totalAmount.read(row("", "", "1.234,56"))).isEqualByComparingTo("1234.56");
+        assertThat(totalAmount.read(row("", "", "1.234"))).isEqualByComparingTo("1234");
+        assertThat(totalAmount.read(row("", "", " "))).isNull();
+
+        ImportPlan.Accessor<LocalDate> date = plan.date("executionDate");
+        assertThat(date.read(row("", "2025-03-15", ""))).isEqualTo(LocalDate.of(2025, 3, 15));
+        // Rows in the other shape are still accepted
+        assertThat(date.read(row("", "15/03/2025", ""))).isEqualTo(LocalDate.of(2025, 3, 15));
+        assertThatThrownBy(() -> date.read(row("", "15-03-2025", "")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Formato de data inválido");
+    }
+
+    @Test
+    @DisplayName("Should keep a single separator as the decimal one when no grouping is seen")
+    void shouldTreatSingleSeparatorAsDecimal() {
+        // Given
+        List<ImportPlan.RowValues> sample = List.of(row("Limite", "100,50"), row("Outro", "99.9"));
+
+        // When
+        ImportPlan plan = ImportPlan.compile(List.of("Nome", "Limite de Crédito"), ImportPlan.CREDIT_CARD_FIELDS, sample);
+
+        // Then
+        assertThat(plan.format("creditLimit")).isEqualTo(ImportPlan.DECIMAL_PLAIN);
+        assertThat(plan.decimal("creditLimit").read(row("", "100,50"))).isEqualByComparingTo("100.50");
+        assertThat(plan.decimal("creditLimit").read(row("", "99.9"))).isEqualByComparingTo("99.9");
+    }
+
+    @Test
+    @DisplayName("Should read reference months in both MM/yyyy and yyyy-MM")
+    void shouldReadReferenceMonths() {
+        // Given
+        ImportPlan plan = ImportPlan.compile(List.of("ID Cartão", "Mês de Referência"), ImportPlan.INVOICE_FIELDS,
+                List.of(row("1", "2025-03")));
+
+        // When / Then
+        assertThat(plan.format("referenceMonth")).isEqualTo(ImportPlan.MONTH_ISO);
+        assertThat(plan.month("referenceMonth").read(row("1", "2025-03"))).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(plan.month("referenceMonth").read(row("1", "03/2025"))).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(plan.bool("paid").read(row("1", "03/2025"))).isNull();
+    }
+
+    private static ImportPlan.RowValues row(String... values) {
+        return column -> column < values.length ? values[column] : null;
+    }
+}
@@ -0,0 +1,123 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.application.dto.output.BillImportResultDTO;
+import com.truebalance.truebalance.application.dto.output.BillResponseDTO;
+import com.truebalance.truebalance.application.dto.output.DuplicateInfoDTO;
+import com.truebalance.truebalance.application.dto.output.ImportErrorDTO;
+import com.truebalance.truebalance.application.dto.output.ImportSummaryDTO;
+import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.util.TestDataBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for ImportSummaryCollector - bounded summary of import results plus the CSV report.
+ */
+@DisplayName("ImportSummaryCollector - Domain Service Tests")
+class ImportSummaryCollectorTest {
+
+    @Test
+    @DisplayName("Should keep counters of every part but only the first examples")
+    void shouldKeepCountersAndFirstExamples() {
+        // Given: Two batches of 3 created bills, at most 2 examples
+        StringWriter report = new StringWriter();
+        ImportSummaryCollector collector = new ImportSummaryCollector("r1", report, 2);
+
+        // When
+        collector.addBills(createdBatch(1L));
+        collector.addBills(createdBatch(4L));
+        ImportSummaryDTO summary = collector.finish();
+
+        // Then
+        assertThat(summary.getTotalCreated()).isEqualTo(6);
+        assertThat(summary.getTotalProcessed()).isEqualTo(6);
+        assertThat(summary.getCreatedExamples()).hasSize(2);
+        assertThat(summary.getReportId()).isEqualTo("r1");
+        assertThat(report.toString().lines()).hasSize(7)
+                .first().isEqualTo(ImportSummaryCollector.REPORT_HEADER);
+    }
+
+    @Test
+    @DisplayName("Should group errors whose messages differ only in values and numbers")
+    void shouldGroupErrorsByCause() {
+        // Given
+        List<ImportErrorDTO> errors = List.of(
+                new ImportErrorDTO(2, "general", "Erro ao processar: Cartão de crédito não encontrado com ID: 7", ""),
+                new ImportErrorDTO(3, "general", "Erro ao processar: Cartão de crédito não encontrado com ID: 12", ""),
+                new ImportErrorDTO(4, "totalAmount", "Valor monetário inválido: abc", "abc"),
+                new ImportErrorDTO(5, "totalAmount", "Valor monetário inválido: xyz", "xyz")
+        );
+        ImportSummaryCollector collector = new ImportSummaryCollector("r2", new StringWriter(), 1);
+
+        // When
+        collector.addBills(new BillImportResultDTO(4, 0, 0, 4, null, errors, null));
+        ImportSummaryDTO summary = collector.finish();
+
+        // Then: Two causes, with the line numbers capped at one per group
+        assertThat(summary.getTotalErrors()).isEqualTo(4);
+        assertThat(summary.getErrorExamples()).hasSize(1);
+        assertThat(summary.getErrorGroups()).hasSize(2);
+        assertThat(summary.getErrorGroups().get(0).getCause())
+                .isEqualTo("Erro ao processar: Cartão de crédito não encontrado com ID: #");
+        assertThat(summary.getErrorGroups().get(0).getCount()).isEqualTo(2);
+        assertThat(summary.getErrorGroups().get(0).getLineNumbers()).containsExactly(2);
+        assertThat(summary.getErrorGroups().get(1).getCause()).isEqualTo("Valor monetário inválido: {valor}");
+    }
+
+    @Test
+    @DisplayName("Should fold causes past the group limit into a single group")
+    void shouldCapErrorGroups() {
+        // Given: More distinct causes than groups allowed
+        List<ImportErrorDTO> errors = new ArrayList<>();
+        for (int i = 0; i < ImportSummaryCollector.MAX_ERROR_GROUPS + 10; i++) {
+            errors.add(new ImportErrorDTO(i + 2, "campo" + (char) ('a' + i % 26) + (char) ('a' + i / 26), "Erro", ""));
+        }
+        ImportSummaryCollector collector = new ImportSummaryCollector("r3", new StringWriter(), 5);
+
+        // When
+        collector.addBills(new BillImportResultDTO(errors.size(), 0, 0, errors.size(), null, errors, null));
+        ImportSummaryDTO summary = collector.finish();
+
+        // Then
+        assertThat(summary.getErrorGroups()).hasSize(ImportSummaryCollector.MAX_ERROR_GROUPS + 1);
+        assertThat(summary.getErrorGroups().get(ImportSummaryCollector.MAX_ERROR_GROUPS).getCause())
+                .isEqualTo(ImportSummaryCollector.OTHER_CAUSES);
+        assertThat(summary.getErrorGroups().get(ImportSummaryCollector.MAX_ERROR_GROUPS).getCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should write duplicates and quote text fields in the report")
+    void shouldWriteDuplicatesToReport() {
+        // Given
+        DuplicateInfoDTO duplicate = new DuplicateInfoDTO(9, "Conta \"A\", casa", new BigDecimal("10.00"),
+                LocalDateTime.of(2025, 1, 15, 0, 0), 1, 42L, "Duplicata");
+        StringWriter report = new StringWriter();
+        ImportSummaryCollector collector = new ImportSummaryCollector("r4", report, 5);
+
+        // When
+        collector.addBills(new BillImportResultDTO(1, 0, 1, 0, List.of(duplicate), null, null));
+        collector.finish();
+
+        // Then
+        assertThat(report.toString().lines())
+                .containsExactly(ImportSummaryCollector.REPORT_HEADER,
+                        "9,IGNORADO,42,\"Conta \"\"A\"\", casa\",,\"Duplicata\",");
+    }
+
+    private static BillImportResultDTO createdBatch(long firstId) {
+        List<BillResponseDTO> created = new ArrayList<>();
+        for (long id = firstId; id < firstId + 3; id++) {
+            Bill bill = TestDataBuilder.createBill(id, "Conta " + id, new BigDecimal("100.00"), 1);
+            created.add(BillResponseDTO.fromBill(bill));
+        }
+        return new BillImportResultDTO(3, 3, 0, 0, null, null, created);
+    }
+}
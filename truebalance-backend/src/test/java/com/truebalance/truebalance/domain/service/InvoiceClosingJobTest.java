@@ -0,0 +1,113 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.port.ClusterLockPort;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort.DueInvoice;
+import com.truebalance.truebalance.domain.usecase.CloseDueInvoices;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for InvoiceClosingJob - sharding, batching and failure handling.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InvoiceClosingJob - Domain Service Tests")
+class InvoiceClosingJobTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 15);
+
+    @Mock
+    private CloseDueInvoices closeDueInvoices;
+
+    @Mock
+    private ClusterLockPort clusterLockPort;
+
+    @Mock
+    private ClusterLockPort.ClusterLock lock;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private InvoiceClosingJob job(int shards, int batchSize) {
+        return new InvoiceClosingJob(closeDueInvoices, clusterLockPort, Runnable::run, meterRegistry, true,
+                shards, batchSize);
+    }
+
+    @Test
+    @DisplayName("Should close in batches and count closed invoices and carry-overs")
+    void shouldCloseInBatches() {
+        // Given: Three invoices of one card, batches of two
+        when(closeDueInvoices.findDue(DATE)).thenReturn(List.of(
+                new DueInvoice(1L, 7L), new DueInvoice(2L, 7L), new DueInvoice(3L, 7L)));
+        when(clusterLockPort.tryLock("invoice-closing-shard-0")).thenReturn(Optional.of(lock));
+        when(closeDueInvoices.closeBatch(List.of(1L, 2L))).thenReturn(new CloseDueInvoices.BatchResult(2, 0, 2));
+        when(closeDueInvoices.closeBatch(List.of(3L))).thenReturn(new CloseDueInvoices.BatchResult(0, 1, 0));
+
+        // When
+        InvoiceClosingRunResult result = job(1, 2).run(DATE);
+
+        // Then
+        assertThat(result.due()).isEqualTo(3);
+        assertThat(result.closed()).isEqualTo(2);
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(result.carriedOver()).isEqualTo(2);
+        assertThat(meterRegistry.counter("truebalance.invoice.closing.closed").count()).isEqualTo(2);
+        assertThat(meterRegistry.timer("truebalance.invoice.closing.run").count()).isEqualTo(1);
+        verify(lock).close();
+    }
+
+    @Test
+    @DisplayName("Should leave the later months of a card open after its batch fails, and go on with other cards")
+    void shouldStopCardAfterFailedBatch() {
+        // Given: Card 7 fails on its first batch; card 8 is in the same partition
+        when(closeDueInvoices.findDue(DATE)).thenReturn(List.of(
+                new DueInvoice(1L, 7L), new DueInvoice(2L, 7L), new DueInvoice(3L, 8L)));
+        when(clusterLockPort.tryLock(anyString())).thenReturn(Optional.of(lock));
+        when(closeDueInvoices.closeBatch(List.of(1L))).thenThrow(new IllegalStateException("conflito"));
+        when(closeDueInvoices.closeBatch(List.of(3L))).thenReturn(new CloseDueInvoices.BatchResult(1, 0, 1));
+
+        // When
+        InvoiceClosingRunResult result = job(1, 1).run(DATE);
+
+        // Then
+        assertThat(result.closed()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(2);
+        verify(closeDueInvoices, never()).closeBatch(List.of(2L));
+        assertThat(meterRegistry.counter("truebalance.invoice.closing.failed").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should skip the shards another instance is closing and close the others")
+    void shouldSkipShardsLockedElsewhere() {
+        // Given: Two shards; card 2 falls in shard 0, locked by another instance, card 3 in shard 1
+        InvoiceClosingJob job = job(2, 10);
+        assertThat(job.shardOf(2L)).isZero();
+        assertThat(job.shardOf(3L)).isEqualTo(1);
+        when(closeDueInvoices.findDue(DATE)).thenReturn(List.of(
+                new DueInvoice(1L, 2L), new DueInvoice(2L, 3L)));
+        when(clusterLockPort.tryLock("invoice-closing-shard-0")).thenReturn(Optional.empty());
+        when(clusterLockPort.tryLock("invoice-closing-shard-1")).thenReturn(Optional.of(lock));
+        when(closeDueInvoices.closeBatch(List.of(2L))).thenReturn(new CloseDueInvoices.BatchResult(1, 0, 0));
+
+        // When
+        InvoiceClosingRunResult result = job.run(DATE);
+
+        // Then
+        assertThat(result.due()).isEqualTo(2);
+        assertThat(result.closed()).isEqualTo(1);
+        assertThat(result.lockedElsewhere()).isEqualTo(1);
+        verify(closeDueInvoices, never()).closeBatch(List.of(1L));
+        verify(lock).close();
+        assertThat(meterRegistry.counter("truebalance.invoice.closing.shards.locked-elsewhere").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,151 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.port.ClusterLockPort;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort.TotalMismatch;
+import com.truebalance.truebalance.domain.usecase.CheckInvoiceTotals;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for InvoiceConsistencyJob - range splitting, batched repair and the report.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InvoiceConsistencyJob - Domain Service Tests")
+class InvoiceConsistencyJobTest {
+
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 1);
+
+    @Mock
+    private CheckInvoiceTotals checkInvoiceTotals;
+
+    @Mock
+    private ClusterLockPort clusterLockPort;
+
+    @Mock
+    private ClusterLockPort.ClusterLock lock;
+
+    @TempDir
+    Path reportDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ImportReportStore reportStore;
+
+    @BeforeEach
+    void setUp() {
+        reportStore = new ImportReportStore(reportDir.toString(), 24, 20);
+    }
+
+    private InvoiceConsistencyJob job(int ranges, int batchSize) {
+        return new InvoiceConsistencyJob(checkInvoiceTotals, clusterLockPort, reportStore, Runnable::run,
+                meterRegistry, true, false, ranges, batchSize);
+    }
+
+    private static TotalMismatch mismatch(Long invoiceId, Long creditCardId, boolean closed) {
+        return new TotalMismatch(invoiceId, creditCardId, MARCH, closed, true, new BigDecimal("150.00"), new BigDecimal("100.00"));
+    }
+
+    @Test
+    @DisplayName("Should split card IDs into contiguous ranges of about the same size")
+    void shouldSplitIntoRanges() {
+        List<long[]> ranges = InvoiceConsistencyJob.split(List.of(1L, 2L, 5L, 9L, 12L), 2);
+
+        assertThat(ranges).hasSize(2);
+        assertThat(ranges.get(0)).containsExactly(1L, 5L);
+        assertThat(ranges.get(1)).containsExactly(9L, 12L);
+        assertThat(InvoiceConsistencyJob.split(List.of(), 4)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should repair open mismatches in batches, never closed ones, and report every finding")
+    void shouldRepairOpenMismatchesInBatches() throws Exception {
+        // Given: Two ranges; range 1 has two open and one closed mismatch, range 2 one open
+        when(clusterLockPort.tryLock("invoice-consistency")).thenReturn(Optional.of(lock));
+        when(checkInvoiceTotals.findCreditCardIds()).thenReturn(List.of(7L, 8L));
+        when(checkInvoiceTotals.check(7L, 7L)).thenReturn(List.of(
+                mismatch(1L, 7L, false), mismatch(2L, 7L, true), mismatch(3L, 7L, false)));
+        when(checkInvoiceTotals.check(8L, 8L)).thenReturn(List.of(mismatch(4L, 8L, false)));
+        when(checkInvoiceTotals.repair(List.of(4L))).thenThrow(new IllegalStateException("conflito"));
+
+        // When
+        InvoiceConsistencyRunResult result = job(2, 2).run(true).orElseThrow();
+
+        // Then
+        verify(checkInvoiceTotals).repair(List.of(1L, 3L));
+        assertThat(result.checkedCards()).isEqualTo(2);
+        assertThat(result.mismatches()).isEqualTo(4);
+        assertThat(result.closedMismatches()).isEqualTo(1);
+        assertThat(result.repaired()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(meterRegistry.get("truebalance.invoice.consistency.mismatches").gauge().value()).isEqualTo(4);
+        assertThat(meterRegistry.counter("truebalance.invoice.consistency.repaired").count()).isEqualTo(2);
+        verify(lock).close();
+
+        Path report = reportStore.find(result.reportId()).orElseThrow();
+        assertThat(Files.readAllLines(report)).containsExactly(
+                InvoiceConsistencyJob.REPORT_HEADER,
+                "1,7,2025-03-01,false,150.00,100.00,50.00,CORRIGIDA",
+                "2,7,2025-03-01,true,150.00,100.00,50.00,FATURA_FECHADA",
+                "3,7,2025-03-01,false,150.00,100.00,50.00,CORRIGIDA",
+                "4,8,2025-03-01,false,150.00,100.00,50.00,ERRO");
+    }
+
+    @Test
+    @DisplayName("Should report invoices of unknown origin without repairing them")
+    void shouldNotRepairUnknownOrigin() throws Exception {
+        // Given: One mismatch on an invoice created before imported totals were recorded
+        when(clusterLockPort.tryLock("invoice-consistency")).thenReturn(Optional.of(lock));
+        when(checkInvoiceTotals.findCreditCardIds()).thenReturn(List.of(7L));
+        when(checkInvoiceTotals.check(7L, 7L)).thenReturn(List.of(mismatch(1L, 7L, false),
+                new TotalMismatch(2L, 7L, MARCH, false, false, new BigDecimal("150.00"), new BigDecimal("100.00"))));
+
+        // When
+        InvoiceConsistencyRunResult result = job(1, 10).run(true).orElseThrow();
+
+        // Then
+        verify(checkInvoiceTotals).repair(List.of(1L));
+        assertThat(result.mismatches()).isEqualTo(2);
+        assertThat(Files.readAllLines(reportStore.find(result.reportId()).orElseThrow())).containsExactly(
+                InvoiceConsistencyJob.REPORT_HEADER,
+                "1,7,2025-03-01,false,150.00,100.00,50.00,CORRIGIDA",
+                "2,7,2025-03-01,false,150.00,100.00,50.00,ORIGEM_DESCONHECIDA");
+    }
+
+    @Test
+    @DisplayName("Should only report when repair is off, and skip when another instance holds the lock")
+    void shouldOnlyReportWithoutRepair() {
+        // Given
+        when(clusterLockPort.tryLock("invoice-consistency")).thenReturn(Optional.of(lock), Optional.empty());
+        when(checkInvoiceTotals.findCreditCardIds()).thenReturn(List.of(7L));
+        when(checkInvoiceTotals.check(7L, 7L)).thenReturn(List.of(mismatch(1L, 7L, false)));
+
+        // When
+        InvoiceConsistencyJob job = job(4, 10);
+        Optional<InvoiceConsistencyRunResult> result = job.run(false);
+        Optional<InvoiceConsistencyRunResult> lockedElsewhere = job.run(false);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().mismatches()).isEqualTo(1);
+        assertThat(result.get().repaired()).isZero();
+        assertThat(lockedElsewhere).isEmpty();
+        verify(checkInvoiceTotals, never()).repair(anyList());
+    }
+}
@@ -0,0 +1,88 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for InvoiceETags - entity tags of invoice reads.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InvoiceETags - Domain Service Tests")
+class InvoiceETagsTest {
+
+    @Mock
+    private InvoiceRepositoryPort invoiceRepository;
+
+    @Mock
+    private PartialPaymentRepositoryPort partialPaymentRepository;
+
+    @InjectMocks
+    private InvoiceETags invoiceETags;
+
+    @Test
+    @DisplayName("Should change the balance tag when a payment is replaced by another")
+    void shouldChangeBalanceTagWhenPaymentReplaced() {
+        // Given: One payment (ID 7), then that one deleted and another registered (ID 8)
+        when(invoiceRepository.findVersionById(1L)).thenReturn(Optional.of(4L));
+        when(partialPaymentRepository.countByInvoiceId(1L)).thenReturn(1);
+        when(partialPaymentRepository.maxIdByInvoiceId(1L)).thenReturn(7L, 8L);
+
+        // When
+        Optional<String> before = invoiceETags.forBalance(1L);
+        Optional<String> after = invoiceETags.forBalance(1L);
+
+        // Then
+        assertThat(before).contains("balance-1-v4-p1-7");
+        assertThat(after).isPresent().isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Should return no tag when the invoice does not exist")
+    void shouldReturnNoTagWhenInvoiceMissing() {
+        // Given
+        when(invoiceRepository.findVersionById(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(invoiceETags.forInvoice(99L)).isEmpty();
+        assertThat(invoiceETags.forBalance(99L)).isEmpty();
+        verifyNoInteractions(partialPaymentRepository);
+    }
+
+    @Test
+    @DisplayName("Should build the card invoices tag from the version summary, none when there are no invoices")
+    void shouldBuildCardInvoicesTag() {
+        // Given
+        when(invoiceRepository.summarizeVersionsByCreditCardId(1L))
+                .thenReturn(new InvoiceRepositoryPort.VersionSummary(3, 12, 40));
+        when(invoiceRepository.summarizeVersionsByCreditCardId(2L))
+                .thenReturn(new InvoiceRepositoryPort.VersionSummary(0, 0, 0));
+
+        // When & Then
+        assertThat(invoiceETags.forCreditCardInvoices(1L)).contains("card-1-invoices-3-12-40");
+        assertThat(invoiceETags.forCreditCardInvoices(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should add the card partial payments to the tag of the list with balances")
+    void shouldBuildCardInvoiceBalancesTag() {
+        // Given
+        when(invoiceRepository.summarizeVersionsByCreditCardId(1L))
+                .thenReturn(new InvoiceRepositoryPort.VersionSummary(3, 12, 40));
+        when(partialPaymentRepository.summarizeIdsByCreditCardId(1L))
+                .thenReturn(new PartialPaymentRepositoryPort.IdSummary(2, 9));
+
+        // When & Then
+        assertThat(invoiceETags.forCreditCardInvoiceBalances(1L)).contains("card-1-invoices-3-12-40-balances-p2-9");
+    }
+}
@@ -0,0 +1,91 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.port.ClusterLockPort;
+import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
+import com.truebalance.truebalance.domain.usecase.PregenerateInvoices;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for InvoicePregenerationJob - batching, locking and new cards.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InvoicePregenerationJob - Domain Service Tests")
+class InvoicePregenerationJobTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 15);
+
+    @Mock
+    private PregenerateInvoices pregenerateInvoices;
+
+    @Mock
+    private CreditCardRepositoryPort creditCardRepository;
+
+    @Mock
+    private ClusterLockPort clusterLockPort;
+
+    @Mock
+    private ClusterLockPort.ClusterLock lock;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private InvoicePregenerationJob job(boolean enabled, int batchSize) {
+        return new InvoicePregenerationJob(pregenerateInvoices, creditCardRepository, clusterLockPort, Runnable::run,
+                meterRegistry, enabled, 24, batchSize);
+    }
+
+    @Test
+    @DisplayName("Should pre-generate every card in batches and go on after a failed batch")
+    void shouldRunInBatches() {
+        // Given: Three cards in batches of two; the second batch fails
+        when(clusterLockPort.tryLock("invoice-pregeneration")).thenReturn(Optional.of(lock));
+        when(creditCardRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(pregenerateInvoices.execute(List.of(1L, 2L), DATE, 24)).thenReturn(3);
+        when(pregenerateInvoices.execute(List.of(3L), DATE, 24)).thenThrow(new IllegalStateException("conflito"));
+
+        // When
+        Optional<Integer> created = job(true, 2).run(DATE);
+
+        // Then
+        assertThat(created).contains(3);
+        assertThat(meterRegistry.counter("truebalance.invoice-pregeneration.created").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("truebalance.invoice-pregeneration.failed").count()).isEqualTo(1);
+        verify(lock).close();
+    }
+
+    @Test
+    @DisplayName("Should skip the run when another instance holds the lock")
+    void shouldSkipWhenLockedElsewhere() {
+        // Given
+        when(clusterLockPort.tryLock("invoice-pregeneration")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(job(true, 200).run(DATE)).isEmpty();
+        verifyNoInteractions(creditCardRepository, pregenerateInvoices);
+    }
+
+    @Test
+    @DisplayName("Should pre-generate new cards right away, and not at all when disabled")
+    void shouldPregenerateNewCards() {
+        // When
+        job(true, 200).cardsAdded(List.of(7L, 8L));
+        job(false, 200).cardsAdded(List.of(9L));
+
+        // Then
+        verify(pregenerateInvoices).execute(eq(List.of(7L, 8L)), any(), eq(24));
+        verify(pregenerateInvoices, times(1)).execute(anyList(), any(), anyInt());
+    }
+}
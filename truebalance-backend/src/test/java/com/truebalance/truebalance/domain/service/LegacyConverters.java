@@ -0,0 +1,46 @@
+package com.truebalance.truebalance.domain.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * The String-replace / exception based converters used by the import before TypedConverters,
+ * kept as the reference behavior for the fuzz and benchmark tests. Each method throws on
+ * invalid input, exactly like the original code.
+ */
+final class LegacyConverters {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private LegacyConverters() {
+    }
+
+    static BigDecimal parseDecimal(String value, char grouping) {
+        String clean = value.replace("R$", "").replace("$", "").replace(" ", "");
+        if (grouping != 0) {
+            clean = clean.replace(String.valueOf(grouping), "");
+        }
+        return new BigDecimal(clean.replace(',', '.'));
+    }
+
+    static LocalDate parseDate(String value) {
+        if (value.length() == 10 && value.charAt(4) == '-' && value.charAt(7) == '-') {
+            return LocalDate.parse(value, DateTimeFormatter.ISO_LOCAL_DATE);
+        }
+        return LocalDate.parse(value, DATE_FORMATTER);
+    }
+
+    static LocalDate parseMonth(String value) {
+        int slash = value.indexOf('/');
+        if (slash > 0) {
+            return LocalDate.of(Integer.parseInt(value.substring(slash + 1)), Integer.parseInt(value.substring(0, slash)), 1);
+        }
+        int dash = value.indexOf('-');
+        return LocalDate.of(Integer.parseInt(value.substring(0, dash)), Integer.parseInt(value.substring(dash + 1)), 1);
+    }
+
+    static long parseLong(String value) {
+        return Long.parseLong(value);
+    }
+}
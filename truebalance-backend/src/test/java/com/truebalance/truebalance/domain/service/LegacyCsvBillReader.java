@@ -0,0 +1,40 @@
+package com.truebalance.truebalance.domain.service;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * The commons-csv reading of bill files used by the import before MappedCsvReader, kept as the
+ * reference for the CSV benchmark: a header-mapped parser over a UTF-8 reader, every field read
+ * as a String by column name and converted with {@link LegacyConverters}. Throws on invalid
+ * values, exactly like the original code.
+ */
+final class LegacyCsvBillReader {
+
+    private LegacyCsvBillReader() {
+    }
+
+    static void read(Path file, Consumer<Object[]> rows) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             CSVParser parser = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader)) {
+            for (CSVRecord record : parser) {
+                rows.accept(new Object[]{
+                        record.get("Nome"),
+                        record.get("Descrição"),
+                        LegacyConverters.parseDate(record.get("Data")),
+                        LegacyConverters.parseDecimal(record.get("Valor Total"), (char) 0),
+                        Integer.parseInt(record.get("Número de Parcelas")),
+                        Long.parseLong(record.get("ID Cartão"))
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.truebalance.truebalance.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rough timing of MappedCsvReader against the commons-csv reading it replaced, on a generated
+ * bill file of one million lines. Excluded from the regular test run; run with
+ * {@code ./gradlew benchmark}.
+ *
+ * Same plain timing loop as {@link TypedConvertersBenchmarkTest}: each reader reads the whole file
+ * and converts every field the import uses, is warmed up, and the best of several rounds is kept.
+ */
+@Tag("benchmark")
+@DisplayName("MappedCsvReader - Benchmark")
+class MappedCsvReaderBenchmarkTest {
+
+    private static final int LINES = 1_000_000;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final String HEADER = "Nome,Descrição,Data,Valor Total,Número de Parcelas,ID Cartão";
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedCsvReaderBenchmarkTest.class);
+
+    // Keeps the parse results observable
+    private static volatile int sink;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Benchmark: one million bill lines")
+    void benchmarkBillFile() throws IOException {
+        Path file = generate(tempDir.resolve("bills.csv"));
+
+        long legacy = measure("csv legacy", file, this::readLegacy);
+        long mapped = measure("csv mapped", file, this::readMapped);
+
+        assertThat(mapped).isLessThanOrEqualTo(legacy);
+    }
+
+    private int readLegacy(Path file) throws IOException {
+        int[] hash = new int[2];
+        LegacyCsvBillReader.read(file, row -> {
+            for (Object value : row) {
+                hash[0] += Objects.hashCode(value);
+            }
+            hash[1]++;
+        });
+        assertThat(hash[1]).isEqualTo(LINES);
+        return hash[0];
+    }
+
+    private int readMapped(Path file) throws IOException {
+        int hash = 0;
+        int lines = 0;
+        try (MappedCsvReader csv = MappedCsvReader.open(file)) {
+            csv.next(); // Header; the columns are in the generated order
+            while (csv.next()) {
+                hash += Objects.hashCode(csv.text(0));
+                hash += Objects.hashCode(csv.text(1));
+                hash += Objects.hashCode(csv.date(2));
+                hash += Objects.hashCode(csv.decimal(3));
+                hash += Objects.hashCode(csv.integer(4));
+                hash += Objects.hashCode(csv.longValue(5));
+                lines++;
+            }
+        }
+        assertThat(lines).isEqualTo(LINES);
+        return hash;
+    }
+
+    private static Path generate(Path file) throws IOException {
+        Random random = new Random(1);
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (int i = 0; i < LINES; i++) {
+                LocalDate date = start.plusDays(random.nextInt(2_000));
+                int cents = 100 + random.nextInt(1_000_000);
+                // Every tenth description is quoted with a comma, as spreadsheets export them
+                String description = i % 10 == 0 ? "\"Compra " + i + ", parcelada\"" : "Compra " + i;
+                writer.write("Conta " + random.nextInt(1_000) + "," + description + ","
+                        + String.format("%02d/%02d/%04d", date.getDayOfMonth(), date.getMonthValue(), date.getYear())
+                        + ",\"" + (cents / 100) + "," + String.format("%02d", cents % 100) + "\","
+                        + (1 + random.nextInt(12)) + "," + (1 + random.nextInt(50)));
+                writer.newLine();
+            }
+        }
+        logger.info("Arquivo de benchmark: {} linhas, {} MB", LINES, Files.size(file) / (1024 * 1024));
+        return file;
+    }
+
+    /**
+     * @return the best time of the measured rounds, in nanoseconds per line
+     */
+    private static long measure(String name, Path file, BillFileReader reader) throws IOException {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sink += reader.read(file);
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long startNanos = System.nanoTime();
+            sink += reader.read(file);
+            best = Math.min(best, System.nanoTime() - startNanos);
+        }
+
+        long perLine = Math.max(best / LINES, 1);
+        logger.info("{}: {} ns/linha, {} ms por arquivo", name, perLine, best / 1_000_000);
+        return perLine;
+    }
+
+    @FunctionalInterface
+    private interface BillFileReader {
+        int read(Path file) throws IOException;
+    }
+}
@@ -0,0 +1,139 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.application.dto.input.BillImportItemDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for MappedCsvReader - in-place tokenizing and typed parsing over a memory-mapped file,
+ * and the bill CSV import built on top of it in FileImportService.
+ */
+@DisplayName("MappedCsvReader - Domain Service Tests")
+class MappedCsvReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should tokenize quoted fields, escaped quotes, CRLF and skip blank lines")
+    void shouldTokenizeQuotedFieldsAndLineEndings() throws IOException {
+        // Given
+        Path file = write("a,\"b, c\",\"say \"\"hi\"\"\"\r\n\r\n,\"multi\nline\",\n");
+
+        // When / Then
+        try (MappedCsvReader csv = MappedCsvReader.open(file)) {
+            assertThat(csv.next()).isTrue();
+            assertThat(csv.fieldCount()).isEqualTo(3);
+            assertThat(csv.text(0)).isEqualTo("a");
+            assertThat(csv.text(1)).isEqualTo("b, c");
+            assertThat(csv.text(2)).isEqualTo("say \"hi\"");
+
+            assertThat(csv.next()).isTrue();
+            assertThat(csv.fieldCount()).isEqualTo(3);
+            assertThat(csv.isBlank(0)).isTrue();
+            assertThat(csv.text(1)).isEqualTo("multi\nline");
+            assertThat(csv.text(2)).isNull();
+
+            assertThat(csv.next()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should parse amounts, dates and integers directly from bytes")
+    void shouldParseTypedFields() throws IOException {
+        // Given
+        Path file = write("\"R$ 1234,56\",15/03/2025,2025-03-15,12,-7,31/02/2024");
+
+        // When / Then
+        try (MappedCsvReader csv = MappedCsvReader.open(file)) {
+            assertThat(csv.next()).isTrue();
+            assertThat(csv.decimal(0)).isEqualByComparingTo("1234.56");
+            assertThat(csv.decimal(0).scale()).isEqualTo(2);
+            assertThat(csv.date(1)).isEqualTo(LocalDate.of(2025, 3, 15));
+            assertThat(csv.date(2)).isEqualTo(LocalDate.of(2025, 3, 15));
+            assertThat(csv.integer(3)).isEqualTo(12);
+            assertThat(csv.longValue(4)).isEqualTo(-7L);
+            // Same leniency as the dd/MM/yyyy formatter: clamped to the last day of the month
+            assertThat(csv.date(5)).isEqualTo(LocalDate.of(2024, 2, 29));
+            assertThat(csv.decimal(9)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject malformed amounts and dates")
+    void shouldRejectMalformedValues() throws IOException {
+        // Given
+        Path file = write("1.234.56,abc,2025/03/15,12a");
+
+        // When / Then
+        try (MappedCsvReader csv = MappedCsvReader.open(file)) {
+            assertThat(csv.next()).isTrue();
+            assertThatThrownBy(() -> csv.decimal(0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> csv.decimal(1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> csv.date(2)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> csv.integer(3)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Should import bills from a CSV with a BOM and header aliases")
+    void shouldImportBillsFromMappedCsv() throws Exception {
+        // Given
+        Path file = write("\uFEFFNome,Descrição,Data,Valor Total,Número de Parcelas,ID Cartão\n"
+                + "Notebook,\"Dell, 15\"\"\",15/03/2025,\"3000,00\",10,5\n"
+                + "Mercado,,2025-03-20,250.5,,\n");
+        List<BillImportItemDTO> items = new ArrayList<>();
+
+        // When
+        new FileImportService().streamBillsFromFile("contas.csv", file, items::add);
+
+        // Then
+        assertThat(items).hasSize(2);
+        BillImportItemDTO first = items.get(0);
+        assertThat(first.getName()).isEqualTo("Notebook");
+        assertThat(first.getDescription()).isEqualTo("Dell, 15\"");
+        assertThat(first.getExecutionDate()).isEqualTo(LocalDateTime.of(2025, 3, 15, 0, 0));
+        assertThat(first.getTotalAmount()).isEqualTo(new BigDecimal("3000.00"));
+        assertThat(first.getNumberOfInstallments()).isEqualTo(10);
+        assertThat(first.getCreditCardId()).isEqualTo(5L);
+        assertThat(first.getLineNumber()).isEqualTo(2);
+
+        BillImportItemDTO second = items.get(1);
+        assertThat(second.getDescription()).isNull();
+        assertThat(second.getTotalAmount()).isEqualTo(new BigDecimal("250.5"));
+        assertThat(second.getNumberOfInstallments()).isEqualTo(1);
+        assertThat(second.getCreditCardId()).isNull();
+        assertThat(second.getLineNumber()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should report the line number of an invalid row")
+    void shouldReportLineNumberOfInvalidRow() throws Exception {
+        // Given
+        Path file = write("name,date,totalAmount\nA,01/01/2025,10\nB,,10\n");
+
+        // When / Then
+        assertThatThrownBy(() -> new FileImportService().streamBillsFromFile("contas.csv", file, item -> { }))
+                .hasMessage("Erro na linha 3: Data é obrigatória");
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = tempDir.resolve("input.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
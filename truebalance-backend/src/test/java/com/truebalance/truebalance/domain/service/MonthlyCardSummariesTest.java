@@ -0,0 +1,126 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.domain.entity.Installment;
+import com.truebalance.truebalance.domain.entity.MonthlyCardSummary;
+import com.truebalance.truebalance.domain.port.BillRepositoryPort;
+import com.truebalance.truebalance.domain.port.InstallmentRepositoryPort;
+import com.truebalance.truebalance.domain.port.MonthlyCardSummaryRepositoryPort;
+import com.truebalance.truebalance.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for MonthlyCardSummaries - the deltas sent to the read model for each change.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MonthlyCardSummaries - Domain Service Tests")
+class MonthlyCardSummariesTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2025, 1, 1);
+    private static final LocalDate FEBRUARY = LocalDate.of(2025, 2, 1);
+
+    @Mock
+    private MonthlyCardSummaryRepositoryPort summaryRepository;
+
+    @Mock
+    private BillRepositoryPort billRepository;
+
+    @Mock
+    private InstallmentRepositoryPort installmentRepository;
+
+    @Captor
+    private ArgumentCaptor<List<MonthlyCardSummary>> deltasCaptor;
+
+    private MonthlyCardSummaries monthlyCardSummaries;
+
+    @BeforeEach
+    void setUp() {
+        monthlyCardSummaries = new MonthlyCardSummaries(summaryRepository, billRepository, installmentRepository);
+    }
+
+    /**
+     * A 300.00 bill on January 15 in three installments due January 17, February 17 and February 28.
+     */
+    private static List<Installment> installments(Bill bill) {
+        List<Installment> installments = List.of(
+                TestDataBuilder.createInstallment(1L, bill.getId(), 1L, 1, new BigDecimal("100.00"), LocalDate.of(2025, 1, 17)),
+                TestDataBuilder.createInstallment(2L, bill.getId(), 2L, 2, new BigDecimal("100.00"), LocalDate.of(2025, 2, 17)),
+                TestDataBuilder.createInstallment(3L, bill.getId(), 2L, 3, new BigDecimal("100.00"), LocalDate.of(2025, 2, 28)));
+        installments.forEach(installment -> installment.setCreditCardId(7L));
+        return installments;
+    }
+
+    @Test
+    @DisplayName("Should add the purchase in the execution month and installments in their due months")
+    void shouldAddChargedBill() {
+        // Given
+        Bill bill = TestDataBuilder.createBill(10L, "Compra", new BigDecimal("300.00"), 3);
+
+        // When
+        monthlyCardSummaries.billCharged(bill, installments(bill));
+
+        // Then: One delta per month, installments of the same month merged
+        verify(summaryRepository).addAll(deltasCaptor.capture());
+        assertThat(deltasCaptor.getValue())
+                .extracting(MonthlyCardSummary::getCreditCardId, MonthlyCardSummary::getMonth,
+                        MonthlyCardSummary::getPurchasesTotal, MonthlyCardSummary::getPurchasesCount,
+                        MonthlyCardSummary::getInstallmentsTotal)
+                .containsExactly(
+                        tuple(7L, JANUARY, new BigDecimal("300.00"), 1, new BigDecimal("100.00")),
+                        tuple(7L, FEBRUARY, BigDecimal.ZERO, 0, new BigDecimal("200.00")));
+    }
+
+    @Test
+    @DisplayName("Should subtract the stored bill when it is uncharged")
+    void shouldSubtractUnchargedBill() {
+        // Given
+        Bill bill = TestDataBuilder.createBill(10L, "Compra", new BigDecimal("300.00"), 3);
+        when(billRepository.findById(10L)).thenReturn(Optional.of(bill));
+
+        // When
+        monthlyCardSummaries.billUncharged(10L, installments(bill));
+
+        // Then
+        verify(summaryRepository).addAll(deltasCaptor.capture());
+        MonthlyCardSummary january = deltasCaptor.getValue().get(0);
+        assertThat(january.getPurchasesTotal()).isEqualByComparingTo("-300.00");
+        assertThat(january.getPurchasesCount()).isEqualTo(-1);
+        assertThat(deltasCaptor.getValue().get(1).getInstallmentsTotal()).isEqualByComparingTo("-200.00");
+    }
+
+    @Test
+    @DisplayName("Should ignore bills without installments and count payments in their month")
+    void shouldIgnoreStandaloneBillsAndCountPayments() {
+        // Given
+        Bill standalone = TestDataBuilder.createBill(11L, "Avulsa", new BigDecimal("50.00"), 1);
+        when(installmentRepository.findByBillId(11L)).thenReturn(List.of());
+
+        // When
+        monthlyCardSummaries.billDeleted(standalone);
+        monthlyCardSummaries.paymentDeleted(7L, TestDataBuilder.createPartialPayment(
+                1L, 2L, new BigDecimal("80.00"), LocalDateTime.of(2025, 2, 3, 9, 0)));
+
+        // Then: Only the payment reaches the read model
+        verify(summaryRepository, times(1)).addAll(deltasCaptor.capture());
+        MonthlyCardSummary payment = deltasCaptor.getValue().get(0);
+        assertThat(payment.getMonth()).isEqualTo(FEBRUARY);
+        assertThat(payment.getPaymentsTotal()).isEqualByComparingTo("-80.00");
+    }
+}
@@ -0,0 +1,161 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.truebalance.truebalance.application.dto.input.BillBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.BillImportItemDTO;
+import com.truebalance.truebalance.application.dto.output.BillImportResultDTO;
+import com.truebalance.truebalance.application.dto.output.ImportErrorDTO;
+import com.truebalance.truebalance.domain.usecase.ImportProgressListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * Tests for NdjsonBillImportService - NDJSON request parsing and NDJSON progress events.
+ * The pipeline is mocked: it reads every item and reports one batch.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NdjsonBillImportService - Domain Service Tests")
+class NdjsonBillImportServiceTest {
+
+    @Mock
+    private BillImportPipeline billImportPipeline;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private NdjsonBillImportService service;
+
+    private final List<BillImportItemDTO> received = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        service = new NdjsonBillImportService(billImportPipeline, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should read one item per line, numbering lines, and end with COMPLETED")
+    void shouldImportItemsAndReportProgress() throws Exception {
+        // Given: Two items, the second carries its own line number
+        String body = """
+                {"name":"Mercado","executionDate":"2025-01-15T10:00:00","totalAmount":150.00,"numberOfInstallments":1}
+                {"name":"Aluguel","executionDate":"2025-01-05T10:00:00","totalAmount":1500.00,"numberOfInstallments":1,"lineNumber":42}
+                """;
+        pipelineCreatesEverything();
+
+        // When
+        List<JsonNode> events = run(body);
+
+        // Then
+        assertThat(received).extracting(BillImportItemDTO::getLineNumber).containsExactly(1, 42);
+        assertThat(events).extracting(event -> event.get("type").asText()).containsExactly("PROGRESS", "COMPLETED");
+        assertThat(events.get(1).get("totalCreated").asInt()).isEqualTo(2);
+        assertThat(events.get(1).get("totalProcessed").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should report a line with an unmappable value and keep reading")
+    void shouldReportUnmappableLineAndContinue() throws Exception {
+        // Given: The second line has an invalid amount
+        String body = """
+                {"name":"Mercado","executionDate":"2025-01-15T10:00:00","totalAmount":150.00,"numberOfInstallments":1}
+                {"name":"Farmácia","executionDate":"2025-01-15T10:00:00","totalAmount":"abc","numberOfInstallments":1}
+                {"name":"Aluguel","executionDate":"2025-01-05T10:00:00","totalAmount":1500.00,"numberOfInstallments":1}
+                """;
+        pipelineCreatesEverything();
+
+        // When
+        List<JsonNode> events = run(body);
+
+        // Then
+        assertThat(received).extracting(BillImportItemDTO::getLineNumber).containsExactly(1, 3);
+        JsonNode error = events.get(0);
+        assertThat(error.get("type").asText()).isEqualTo("ERROR");
+        assertThat(error.get("lineNumber").asInt()).isEqualTo(2);
+        assertThat(error.get("field").asText()).isEqualTo("totalAmount");
+        JsonNode completed = events.get(events.size() - 1);
+        assertThat(completed.get("type").asText()).isEqualTo("COMPLETED");
+        assertThat(completed.get("totalCreated").asInt()).isEqualTo(2);
+        assertThat(completed.get("totalErrors").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stream rejected rows as ERROR events")
+    void shouldStreamRejectedRows() throws Exception {
+        // Given: The pipeline rejects the only row
+        doAnswer(invocation -> {
+            Consumer<BillImportResultDTO> invalidRows = invocation.getArgument(4);
+            invalidRows.accept(new BillImportResultDTO(1, 0, 0, 1, null,
+                    List.of(new ImportErrorDTO(1, "name", "Nome deve ter entre 3 e 100 caracteres", "ab")), null));
+            return null;
+        }).when(billImportPipeline).run(any(BillImportPipeline.ItemSource.class),
+                eq(BillBulkImportRequestDTO.DuplicateStrategy.SKIP), any(ImportProgressListener.class), any(), any());
+
+        // When
+        List<JsonNode> events = run("{\"name\":\"ab\"}\n");
+
+        // Then
+        assertThat(events).extracting(event -> event.get("type").asText()).containsExactly("ERROR", "COMPLETED");
+        assertThat(events.get(0).get("value").asText()).isEqualTo("ab");
+    }
+
+    @Test
+    @DisplayName("Should end with FAILED when the body is not valid JSON")
+    void shouldFailOnMalformedJson() throws Exception {
+        // Given
+        doThrow(new IllegalStateException("Unexpected character")).when(billImportPipeline).run(
+                any(BillImportPipeline.ItemSource.class), any(), any(ImportProgressListener.class), any(), any());
+
+        // When
+        List<JsonNode> events = run("{nope\n");
+
+        // Then
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.get("type").asText()).isEqualTo("FAILED");
+            assertThat(event.get("message").asText()).contains("Unexpected character");
+        });
+    }
+
+    private void pipelineCreatesEverything() throws Exception {
+        doAnswer(invocation -> {
+            BillImportPipeline.ItemSource source = invocation.getArgument(0);
+            Consumer<BillImportResultDTO> batches = invocation.getArgument(3);
+            source.stream(received::add);
+            batches.accept(new BillImportResultDTO(received.size(), received.size(), 0, 0, null, null, null));
+            return null;
+        }).when(billImportPipeline).run(any(BillImportPipeline.ItemSource.class),
+                eq(BillBulkImportRequestDTO.DuplicateStrategy.SKIP), any(ImportProgressListener.class), any(), any());
+    }
+
+    private List<JsonNode> run(String body) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        service.importBills(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output,
+                BillBulkImportRequestDTO.DuplicateStrategy.SKIP);
+
+        List<JsonNode> events = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            events.add(objectMapper.readTree(line));
+        }
+        return events;
+    }
+}
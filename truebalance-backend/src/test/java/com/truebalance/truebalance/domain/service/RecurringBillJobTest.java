@@ -0,0 +1,84 @@
+package com.truebalance.truebalance.domain.service;
+
+import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.domain.port.ClusterLockPort;
+import com.truebalance.truebalance.domain.usecase.MaterializeRecurringBills;
+import com.truebalance.truebalance.domain.usecase.MaterializeRecurringBills.Pending;
+import com.truebalance.truebalance.domain.usecase.MaterializeRecurringBills.Plan;
+import com.truebalance.truebalance.domain.usecase.MaterializeRecurringBills.TemplateResult;
+import com.truebalance.truebalance.util.TestDataBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for RecurringBillJob - one transaction per template and locking.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecurringBillJob - Domain Service Tests")
+class RecurringBillJobTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 15);
+    private static final LocalDate FEBRUARY = LocalDate.of(2025, 2, 1);
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 1);
+
+    @Mock
+    private MaterializeRecurringBills materializeRecurringBills;
+
+    @Mock
+    private ClusterLockPort clusterLockPort;
+
+    @Mock
+    private ClusterLockPort.ClusterLock lock;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RecurringBillJob job() {
+        return new RecurringBillJob(materializeRecurringBills, clusterLockPort, meterRegistry, true);
+    }
+
+    @Test
+    @DisplayName("Should materialize each template on its own and go on after a failed one")
+    void shouldIsolateFailedTemplate() {
+        // Given: Template 1 misses two months and fails, template 2 misses one and succeeds
+        Bill failing = TestDataBuilder.createBill(1L, "Aluguel", new BigDecimal("1500.00"), 1);
+        Bill working = TestDataBuilder.createBill(2L, "Streaming", new BigDecimal("50.00"), 1);
+        Pending first = new Pending(failing, 7L, List.of(FEBRUARY, MARCH));
+        Pending second = new Pending(working, null, List.of(MARCH));
+        when(clusterLockPort.tryLock("recurring-bills")).thenReturn(Optional.of(lock));
+        when(materializeRecurringBills.findPending(DATE)).thenReturn(new Plan(MARCH, List.of(first, second), 3));
+        when(materializeRecurringBills.materialize(first)).thenThrow(new IllegalStateException("conflito"));
+        when(materializeRecurringBills.materialize(second)).thenReturn(new TemplateResult(1, 0));
+
+        // When
+        Optional<MaterializeRecurringBills.Result> result = job().run(DATE);
+
+        // Then
+        assertThat(result).contains(new MaterializeRecurringBills.Result(MARCH, 1, 3, 2));
+        assertThat(meterRegistry.counter("truebalance.recurring-bills.created").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("truebalance.recurring-bills.failed").count()).isEqualTo(2);
+        verify(lock).close();
+    }
+
+    @Test
+    @DisplayName("Should skip the run when another instance holds the lock")
+    void shouldSkipWhenLockedElsewhere() {
+        // Given
+        when(clusterLockPort.tryLock("recurring-bills")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(job().run(DATE)).isEmpty();
+        verifyNoInteractions(materializeRecurringBills);
+    }
+}
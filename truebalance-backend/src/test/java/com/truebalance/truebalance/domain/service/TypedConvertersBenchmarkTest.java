@@ -0,0 +1,114 @@
+package com.truebalance.truebalance.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rough timing of TypedConverters against the legacy converters on import-like values, with 10%
+ * invalid cells. Excluded from the regular test run; run with {@code ./gradlew benchmark}.
+ *
+ * A plain timing loop, not a JMH harness: each converter is warmed up, the best of several rounds
+ * is kept, and every result is folded into a sink so the JIT cannot drop the parsing. Good enough
+ * to catch the typed converters falling behind the legacy ones, not for absolute numbers.
+ */
+@Tag("benchmark")
+@DisplayName("TypedConverters - Benchmark")
+class TypedConvertersBenchmarkTest {
+
+    private static final int VALUES = 100_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private static final Logger logger = LoggerFactory.getLogger(TypedConvertersBenchmarkTest.class);
+
+    // Keeps the parse results observable
+    private static volatile int sink;
+
+    @Test
+    @DisplayName("Benchmark: amounts")
+    void benchmarkDecimal() {
+        String[] values = generate(random -> {
+            int cents = random.nextInt(10_000_000);
+            return (random.nextBoolean() ? "R$ " : "") + (cents / 100) + "," + String.format("%02d", cents % 100);
+        }, "12,3x");
+
+        long legacy = measure("decimal legacy", values, value -> {
+            try {
+                return LegacyConverters.parseDecimal(value, (char) 0);
+            } catch (NumberFormatException e) {
+                return null; // Invalid cell
+            }
+        });
+        long typed = measure("decimal typed", values, value -> TypedConverters.parseDecimal(value, (char) 0));
+
+        assertThat(typed).isLessThanOrEqualTo(legacy);
+    }
+
+    @Test
+    @DisplayName("Benchmark: dates")
+    void benchmarkDate() {
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        String[] values = generate(random -> {
+            LocalDate date = start.plusDays(random.nextInt(2_000));
+            return String.format("%02d/%02d/%04d", date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+        }, "15/13/2025");
+
+        long legacy = measure("date legacy", values, value -> {
+            try {
+                return LegacyConverters.parseDate(value);
+            } catch (RuntimeException e) {
+                return null; // Invalid cell
+            }
+        });
+        long typed = measure("date typed", values, TypedConverters::parseDate);
+
+        assertThat(typed).isLessThanOrEqualTo(legacy);
+    }
+
+    private static String[] generate(Function<Random, String> valid, String invalid) {
+        Random random = new Random(1);
+        String[] values = new String[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = random.nextInt(10) == 0 ? invalid : valid.apply(random);
+        }
+        return values;
+    }
+
+    /**
+     * @return the best time of the measured rounds, in nanoseconds per value
+     */
+    private static long measure(String name, String[] values, Function<String, ?> parser) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            run(values, parser);
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long startNanos = System.nanoTime();
+            run(values, parser);
+            best = Math.min(best, System.nanoTime() - startNanos);
+        }
+
+        long perValue = Math.max(best / values.length, 1);
+        logger.info("{}: {} ns/valor", name, perValue);
+        return perValue;
+    }
+
+    private static void run(String[] values, Function<String, ?> parser) {
+        int hash = 0;
+        for (String value : values) {
+            hash += Objects.hashCode(parser.apply(value));
+        }
+        sink += hash;
+    }
+}
@@ -0,0 +1,197 @@
+package com.truebalance.truebalance.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for TypedConverters - exception-free parsing of amounts, dates, months and integers,
+ * and a fuzz comparison against the converters it replaced (LegacyConverters).
+ */
+@DisplayName("TypedConverters - Domain Service Tests")
+class TypedConvertersTest {
+
+    private static final int FUZZ_ITERATIONS = 200_000;
+
+    @Test
+    @DisplayName("Should parse amounts in BR and US notation with currency symbols")
+    void shouldParseAmounts() {
+        // When / Then
+        assertThat(TypedConverters.parseDecimal("1234.56", (char) 0)).isEqualTo(new BigDecimal("1234.56"));
+        assertThat(TypedConverters.parseDecimal("1234,56", (char) 0)).isEqualTo(new BigDecimal("1234.56"));
+        assertThat(TypedConverters.parseDecimal("R$ 1.234,56", (char) 0)).isEqualTo(new BigDecimal("1234.56"));
+        assertThat(TypedConverters.parseDecimal("$1,234.56", (char) 0)).isEqualTo(new BigDecimal("1234.56"));
+        assertThat(TypedConverters.parseDecimal("1.234.567", (char) 0)).isEqualTo(new BigDecimal("1234567"));
+        assertThat(TypedConverters.parseDecimal("1.234", '.')).isEqualTo(new BigDecimal("1234"));
+        assertThat(TypedConverters.parseDecimal("-0,50", (char) 0)).isEqualTo(new BigDecimal("-0.50"));
+        assertThat(TypedConverters.parseDecimal("R$ 100,00", (char) 0)).isEqualTo(new BigDecimal("100.00"));
+        assertThat(TypedConverters.parseDecimal("12345678901234567890,12", (char) 0))
+                .isEqualTo(new BigDecimal("12345678901234567890.12"));
+    }
+
+    @Test
+    @DisplayName("Should return null instead of throwing for invalid amounts")
+    void shouldRejectInvalidAmounts() {
+        // When / Then
+        assertThat(TypedConverters.parseDecimal("abc", (char) 0)).isNull();
+        assertThat(TypedConverters.parseDecimal("R$", (char) 0)).isNull();
+        assertThat(TypedConverters.parseDecimal("1-2", (char) 0)).isNull();
+        assertThat(TypedConverters.parseDecimal("1,234.56.7", (char) 0)).isNull();
+        assertThat(TypedConverters.parseDecimal("1,234.5.6", ',')).isNull();
+        assertThat(TypedConverters.parseDecimal("1e5", (char) 0)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should parse dates by shape, clamping BR days past the end of the month")
+    void shouldParseDates() {
+        // When / Then
+        assertThat(TypedConverters.parseDate("15/03/2025")).isEqualTo(LocalDate.of(2025, 3, 15));
+        assertThat(TypedConverters.parseDate("2025-03-15")).isEqualTo(LocalDate.of(2025, 3, 15));
+        assertThat(TypedConverters.parseDate("31/02/2024")).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(TypedConverters.parseDate("2024-02-30")).isNull();
+        assertThat(TypedConverters.parseDate("00/03/2025")).isNull();
+        assertThat(TypedConverters.parseDate("15/13/2025")).isNull();
+        assertThat(TypedConverters.parseDate("2025/03/15")).isNull();
+        assertThat(TypedConverters.parseDate("15/3/2025")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should parse months and integers")
+    void shouldParseMonthsAndIntegers() {
+        // When / Then
+        assertThat(TypedConverters.parseMonth("03/2025")).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(TypedConverters.parseMonth("2025-03")).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(TypedConverters.parseMonth("13/2025")).isNull();
+        assertThat(TypedConverters.parseMonth("032025")).isNull();
+        assertThat(TypedConverters.parseMonth("3/2025")).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(TypedConverters.parseMonth("01/24")).isNull();
+        assertThat(TypedConverters.parseMonth("24-01")).isNull();
+        assertThat(TypedConverters.parseMonth("01/20245")).isNull();
+        assertThat(TypedConverters.parseMonth("003/2025")).isNull();
+
+        assertThat(TypedConverters.parseLong("-9223372036854775808")).isEqualTo(Long.MIN_VALUE);
+        assertThat(TypedConverters.parseLong("9223372036854775808")).isNull();
+        assertThat(TypedConverters.parseInt("2147483648")).isNull();
+        assertThat(TypedConverters.parseInt("+012")).isEqualTo(12);
+        assertThat(TypedConverters.parseInt("12a")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should report invalid values through RowValues with the import error messages")
+    void shouldReportInvalidValuesThroughRowValues() {
+        // Given
+        ImportPlan.RowValues row = column -> new String[]{" 12,50 ", "abc", "2025/03/15", "", "x"}[column];
+
+        // When / Then
+        assertThat(row.decimal(0, (char) 0)).isEqualTo(new BigDecimal("12.50"));
+        assertThat(row.integer(3)).isNull();
+        assertThatThrownBy(() -> row.decimal(1, (char) 0)).hasMessage("Valor monetário inválido: abc");
+        assertThatThrownBy(() -> row.date(2)).hasMessage("Formato de data inválido: 2025/03/15. Use dd/MM/yyyy");
+        assertThatThrownBy(() -> row.integer(4)).hasMessage("Número inválido: x");
+    }
+
+    // ========== Fuzz tests against the legacy converters ==========
+
+    @Test
+    @DisplayName("Fuzz: amounts accepted by the legacy parser parse to the same value and scale")
+    void fuzzDecimalAgainstLegacy() {
+        Random random = new Random(42);
+        char[] groupings = {0, '.', ','};
+        int compared = 0;
+
+        for (int i = 0; i < FUZZ_ITERATIONS; i++) {
+            String value = randomString(random, "0123456789.,-+ $R", 1 + random.nextInt(12)).trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            char grouping = groupings[random.nextInt(groupings.length)];
+
+            BigDecimal legacy;
+            try {
+                legacy = LegacyConverters.parseDecimal(value, grouping);
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            assertThat(TypedConverters.parseDecimal(value, grouping))
+                    .as("'%s' with grouping '%s'", value, grouping)
+                    .isEqualTo(legacy);
+            compared++;
+        }
+
+        assertThat(compared).isGreaterThan(FUZZ_ITERATIONS / 20);
+    }
+
+    @Test
+    @DisplayName("Fuzz: dates accepted by the legacy parser parse to the same day, rejects never throw")
+    void fuzzDateAgainstLegacy() {
+        Random random = new Random(7);
+        int compared = 0;
+
+        for (int i = 0; i < FUZZ_ITERATIONS; i++) {
+            String value = random.nextBoolean()
+                    ? randomString(random, "0123", 2) + "/" + randomString(random, "01", 1) + randomString(random, "0123456789", 1)
+                      + "/" + randomString(random, "0123456789", 4)
+                    : randomString(random, "0123456789", 4) + "-" + randomString(random, "01", 1)
+                      + randomString(random, "0123456789", 1) + "-" + randomString(random, "0123", 1) + randomString(random, "0123456789", 1);
+            if (random.nextInt(10) == 0) {
+                char[] chars = value.toCharArray();
+                chars[random.nextInt(chars.length)] = "x/-9 ".charAt(random.nextInt(5));
+                value = new String(chars);
+            }
+
+            LocalDate legacy;
+            try {
+                legacy = LegacyConverters.parseDate(value);
+            } catch (RuntimeException e) {
+                assertThat(TypedConverters.parseDate(value)).as("'%s'", value).isNull();
+                continue;
+            }
+            assertThat(TypedConverters.parseDate(value)).as("'%s'", value).isEqualTo(legacy);
+            compared++;
+        }
+
+        assertThat(compared).isGreaterThan(FUZZ_ITERATIONS / 4);
+    }
+
+    @Test
+    @DisplayName("Fuzz: months and integers agree with the legacy parsers")
+    void fuzzMonthAndLongAgainstLegacy() {
+        Random random = new Random(3);
+
+        for (int i = 0; i < FUZZ_ITERATIONS; i++) {
+            String month = random.nextBoolean()
+                    ? randomString(random, "0123456789", 1 + random.nextInt(2)) + "/" + randomString(random, "0123456789", 4)
+                    : randomString(random, "0123456789", 4) + "-" + randomString(random, "0123456789", 1 + random.nextInt(2));
+            LocalDate legacyMonth;
+            try {
+                legacyMonth = LegacyConverters.parseMonth(month);
+            } catch (RuntimeException e) {
+                legacyMonth = null;
+            }
+            assertThat(TypedConverters.parseMonth(month)).as("'%s'", month).isEqualTo(legacyMonth);
+
+            String number = randomString(random, "0123456789-", 1 + random.nextInt(20));
+            Long legacyLong;
+            try {
+                legacyLong = LegacyConverters.parseLong(number);
+            } catch (NumberFormatException e) {
+                legacyLong = null;
+            }
+            assertThat(TypedConverters.parseLong(number)).as("'%s'", number).isEqualTo(legacyLong);
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,269 @@
+package com.truebalance.truebalance.domain.usecase.bill;
+
+import com.truebalance.truebalance.application.dto.input.BillBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.BillImportItemDTO;
+import com.truebalance.truebalance.application.dto.output.BillImportResultDTO;
+import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.entity.Installment;
+import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.port.BillBulkLoadPort;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.service.CreditCardLocks;
+import com.truebalance.truebalance.domain.service.InstallmentDateCalculator;
+import com.truebalance.truebalance.domain.service.MonthlyCardSummaries;
+import com.truebalance.truebalance.domain.usecase.BulkLoadBills;
+import com.truebalance.truebalance.domain.usecase.CreateBill;
+import com.truebalance.truebalance.domain.usecase.CreateBillWithCreditCard;
+import com.truebalance.truebalance.domain.usecase.GenerateOrGetInvoiceForMonth;
+import com.truebalance.truebalance.domain.usecase.GetAvailableLimit;
+import com.truebalance.truebalance.domain.usecase.ImportBillsInBulk;
+import com.truebalance.truebalance.domain.usecase.ImportProgressListener;
+import com.truebalance.truebalance.infra.db.repository.BillRepository;
+import com.truebalance.truebalance.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for BulkLoadBills use case - the PostgreSQL COPY import path, with the bulk load port
+ * mocked - and for how ImportBillsInBulk routes large batches to it.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkLoadBills - Use Case Tests")
+class BulkLoadBillsTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 3, 15, 0, 0);
+
+    @Mock
+    private BillBulkLoadPort billBulkLoadPort;
+
+    @Mock
+    private CreditCardLocks creditCardLocks;
+
+    @Mock
+    private InvoiceRepositoryPort invoiceRepository;
+
+    @Mock
+    private GenerateOrGetInvoiceForMonth generateOrGetInvoiceForMonth;
+
+    @Mock
+    private GetAvailableLimit getAvailableLimit;
+
+    @Mock
+    private InstallmentDateCalculator installmentDateCalculator;
+
+    @Mock
+    private MonthlyCardSummaries monthlyCardSummaries;
+
+    private BulkLoadBills useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new BulkLoadBills(billBulkLoadPort, creditCardLocks, invoiceRepository,
+                generateOrGetInvoiceForMonth, getAvailableLimit, installmentDateCalculator, monthlyCardSummaries);
+    }
+
+    @Test
+    @DisplayName("Should skip stored duplicates and repeated rows, reporting the ID they duplicate")
+    void shouldSkipStoredAndRepeatedDuplicates() {
+        // Given: Row 0 exists in the database, rows 1 and 2 are the same bill
+        List<BillImportItemDTO> items = List.of(
+                item("Aluguel", "1500.00", 1, null, 2),
+                item("Mercado", "300.00", 1, null, 3),
+                item("mercado", "300.00", 1, null, 4)
+        );
+        when(billBulkLoadPort.stage(anyList())).thenReturn(List.of(
+                new BillBulkLoadPort.StagedBill(99L, 0),
+                new BillBulkLoadPort.StagedBill(null, 1),
+                new BillBulkLoadPort.StagedBill(null, 1)
+        ));
+        when(billBulkLoadPort.insertStaged(eq(List.of(1)), anyMap())).thenReturn(Map.of(1, 10L));
+
+        // When
+        BillImportResultDTO result = useCase.execute(
+                new BillBulkImportRequestDTO(items, BillBulkImportRequestDTO.DuplicateStrategy.SKIP),
+                ImportProgressListener.NONE);
+
+        // Then
+        assertThat(result.getTotalCreated()).isEqualTo(1);
+        assertThat(result.getTotalSkipped()).isEqualTo(2);
+        assertThat(result.getTotalProcessed()).isEqualTo(3);
+        assertThat(result.getCreatedBills()).singleElement()
+                .satisfies(bill -> assertThat(bill.getId()).isEqualTo(10L));
+        assertThat(result.getDuplicatesFound())
+                .extracting(duplicate -> duplicate.getLineNumber() + ":" + duplicate.getExistingBillId())
+                .containsExactly("2:99", "4:10");
+        verifyNoInteractions(invoiceRepository);
+    }
+
+    @Test
+    @DisplayName("Should report progress only once the transaction commits")
+    void shouldReportProgressAfterCommit() {
+        // Given: A transaction in progress
+        List<BillImportItemDTO> items = List.of(item("Aluguel", "1500.00", 1, null, 2));
+        when(billBulkLoadPort.stage(anyList())).thenReturn(List.of(new BillBulkLoadPort.StagedBill(null, 0)));
+        when(billBulkLoadPort.insertStaged(eq(List.of(0)), anyMap())).thenReturn(Map.of(0, 10L));
+        ImportProgressListener progressListener = mock(ImportProgressListener.class);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            useCase.execute(new BillBulkImportRequestDTO(items, BillBulkImportRequestDTO.DuplicateStrategy.SKIP),
+                    progressListener);
+
+            // Then: Nothing reported until the commit
+            verify(progressListener, never()).onItemCreated();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(progressListener).onItemCreated();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should create every row with CREATE_DUPLICATE")
+    void shouldCreateDuplicatesWhenRequested() {
+        // Given
+        List<BillImportItemDTO> items = List.of(
+                item("Mercado", "300.00", 1, null, 2),
+                item("Mercado", "300.00", 1, null, 3)
+        );
+        when(billBulkLoadPort.stage(anyList())).thenReturn(List.of(
+                new BillBulkLoadPort.StagedBill(7L, 0),
+                new BillBulkLoadPort.StagedBill(7L, 0)
+        ));
+        when(billBulkLoadPort.insertStaged(eq(List.of(0, 1)), anyMap())).thenReturn(Map.of(0, 10L, 1, 11L));
+
+        // When
+        BillImportResultDTO result = useCase.execute(
+                new BillBulkImportRequestDTO(items, BillBulkImportRequestDTO.DuplicateStrategy.CREATE_DUPLICATE),
+                ImportProgressListener.NONE);
+
+        // Then
+        assertThat(result.getTotalCreated()).isEqualTo(2);
+        assertThat(result.getTotalSkipped()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should track the card limit in memory and distribute installments into cached invoices")
+    void shouldTrackLimitAndDistributeInstallments() {
+        // Given: Limit of 1000, three bills of 400 in 2 installments on the same card
+        CreditCard creditCard = TestDataBuilder.createCreditCard(1L, "Card", new BigDecimal("1000.00"), 10, 17);
+        Invoice march = TestDataBuilder.createInvoice(100L, 1L, LocalDate.of(2025, 3, 1), BigDecimal.ZERO);
+        Invoice april = TestDataBuilder.createInvoice(101L, 1L, LocalDate.of(2025, 4, 1), BigDecimal.ZERO);
+        List<BillImportItemDTO> items = List.of(
+                item("Compra 1", "400.00", 2, 1L, 2),
+                item("Compra 2", "400.00", 2, 1L, 3),
+                item("Compra 3", "400.00", 2, 1L, 4),
+                item("Compra 4", "50.00", 1, 2L, 5)
+        );
+        when(billBulkLoadPort.stage(anyList())).thenReturn(List.of(
+                new BillBulkLoadPort.StagedBill(null, 0),
+                new BillBulkLoadPort.StagedBill(null, 1),
+                new BillBulkLoadPort.StagedBill(null, 2),
+                new BillBulkLoadPort.StagedBill(null, 3)
+        ));
+        // Card 2 does not exist
+        when(creditCardLocks.lockAllForTransaction(List.of(1L, 1L, 1L, 2L))).thenReturn(Map.of(1L, creditCard));
+        when(getAvailableLimit.execute(1L)).thenReturn(TestDataBuilder.createAvailableLimitResult(
+                1L, new BigDecimal("1000.00"), BigDecimal.ZERO, BigDecimal.ZERO, new BigDecimal("1000.00")));
+        when(installmentDateCalculator.calculate(any(LocalDateTime.class), eq(10), eq(17), anyInt()))
+                .thenAnswer(invocation -> {
+                    int number = invocation.getArgument(3);
+                    LocalDate month = LocalDate.of(2025, 2 + number, 1);
+                    return TestDataBuilder.createInstallmentDateInfo(number, month.withDayOfMonth(17), month);
+                });
+        when(generateOrGetInvoiceForMonth.execute(1L, LocalDate.of(2025, 3, 1))).thenReturn(march);
+        when(generateOrGetInvoiceForMonth.execute(1L, LocalDate.of(2025, 4, 1))).thenReturn(april);
+        when(billBulkLoadPort.insertStaged(eq(List.of(0, 1)), anyMap())).thenReturn(Map.of(0, 10L, 1, 11L));
+
+        // When
+        BillImportResultDTO result = useCase.execute(
+                new BillBulkImportRequestDTO(items, BillBulkImportRequestDTO.DuplicateStrategy.SKIP),
+                ImportProgressListener.NONE);
+
+        // Then: The third bill exceeds the remaining 200, the fourth has an unknown card
+        assertThat(result.getTotalCreated()).isEqualTo(2);
+        assertThat(result.getTotalErrors()).isEqualTo(2);
+        assertThat(result.getErrors().get(0).getMessage()).contains("Limite insuficiente");
+        assertThat(result.getErrors().get(1).getMessage())
+                .isEqualTo("Erro ao processar: Cartão de crédito não encontrado com ID: 2");
+
+        // Each invoice fetched once, totals updated in memory and saved once
+        verify(getAvailableLimit, times(1)).execute(1L);
+        verify(generateOrGetInvoiceForMonth, times(1)).execute(1L, LocalDate.of(2025, 3, 1));
+        assertThat(march.getTotalAmount()).isEqualByComparingTo("400.00");
+        assertThat(april.getTotalAmount()).isEqualByComparingTo("400.00");
+        verify(invoiceRepository).saveAll(List.of(march, april));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Integer, List<Installment>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(billBulkLoadPort).insertStaged(eq(List.of(0, 1)), captor.capture());
+        assertThat(captor.getValue().get(0))
+                .extracting(Installment::getInvoiceId, Installment::getInstallmentNumber)
+                .containsExactly(
+                        tuple(100L, 1),
+                        tuple(101L, 2));
+    }
+
+    @Test
+    @DisplayName("ImportBillsInBulk should use the bulk load above the threshold and fall back row by row on failure")
+    void importBillsInBulkShouldRouteLargeBatchesToBulkLoad() {
+        // Given
+        CreateBill createBill = mock(CreateBill.class);
+        BillRepository billRepository = mock(BillRepository.class);
+        BulkLoadBills bulkLoadBills = mock(BulkLoadBills.class);
+        ImportBillsInBulk importBillsInBulk = new ImportBillsInBulk(createBill, mock(CreateBillWithCreditCard.class),
+                billRepository, bulkLoadBills, 2);
+        when(bulkLoadBills.isSupported()).thenReturn(true);
+        when(bulkLoadBills.execute(any(), any())).thenThrow(new IllegalStateException("COPY falhou"));
+        when(billRepository.findDuplicate(any(), any(), any(), anyInt())).thenReturn(Optional.empty());
+        when(createBill.addBill(any())).thenAnswer(invocation -> {
+            Bill bill = invocation.getArgument(0, Bill.class);
+            bill.setId(1L);
+            return bill;
+        });
+
+        BillBulkImportRequestDTO small = new BillBulkImportRequestDTO(
+                List.of(item("Conta", "10.00", 1, null, 2)), BillBulkImportRequestDTO.DuplicateStrategy.SKIP);
+        BillBulkImportRequestDTO large = new BillBulkImportRequestDTO(
+                List.of(item("Conta A", "10.00", 1, null, 2), item("Conta B", "20.00", 1, null, 3)),
+                BillBulkImportRequestDTO.DuplicateStrategy.SKIP);
+
+        // When
+        BillImportResultDTO smallResult = importBillsInBulk.execute(small);
+        BillImportResultDTO largeResult = importBillsInBulk.execute(large);
+
+        // Then: Only the large batch tried the bulk load; its failure fell back to the row path
+        verify(bulkLoadBills, times(1)).execute(eq(large), any());
+        assertThat(smallResult.getTotalCreated()).isEqualTo(1);
+        assertThat(largeResult.getTotalCreated()).isEqualTo(2);
+        assertThat(importBillsInBulk.bulkLoadBatchSize()).isEqualTo(2);
+    }
+
+    private static BillImportItemDTO item(String name, String amount, int installments, Long creditCardId, int line) {
+        return new BillImportItemDTO(name, null, DATE, new BigDecimal(amount), installments, false, creditCardId, line);
+    }
+}
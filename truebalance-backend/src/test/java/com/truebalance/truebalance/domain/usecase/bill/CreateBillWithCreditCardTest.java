@@ -3,10 +3,11 @@ package com.truebalance.truebalance.domain.usecase.bill;
 import com.truebalance.truebalance.domain.entity.*;
 import com.truebalance.truebalance.domain.exception.CreditCardNotFoundException;
 import com.truebalance.truebalance.domain.exception.CreditLimitExceededException;
-import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
 import com.truebalance.truebalance.domain.port.InstallmentRepositoryPort;
 import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.service.CreditCardLocks;
 import com.truebalance.truebalance.domain.service.InstallmentDateCalculator;
+import com.truebalance.truebalance.domain.service.MonthlyCardSummaries;
 import com.truebalance.truebalance.domain.usecase.AvailableLimitResult;
 import com.truebalance.truebalance.domain.usecase.CreateBill;
 import com.truebalance.truebalance.domain.usecase.CreateBillWithCreditCard;
@@ -26,7 +27,6 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -59,7 +59,7 @@ class CreateBillWithCreditCardTest {
     private CreateBill createBill;
 
     @Mock
-    private CreditCardRepositoryPort creditCardRepository;
+    private CreditCardLocks creditCardLocks;
 
     @Mock
     private InstallmentRepositoryPort installmentRepository;
@@ -76,6 +76,9 @@ class CreateBillWithCreditCardTest {
     @Mock
     private InstallmentDateCalculator installmentDateCalculator;
 
+    @Mock
+    private MonthlyCardSummaries monthlyCardSummaries;
+
     @Captor
     private ArgumentCaptor<List<Invoice>> invoiceListCaptor;
 
@@ -88,12 +91,13 @@ class CreateBillWithCreditCardTest {
     void setUp() {
         useCase = new CreateBillWithCreditCard(
                 createBill,
-                creditCardRepository,
+                creditCardLocks,
                 installmentRepository,
                 invoiceRepository,
                 generateOrGetInvoiceForMonth,
                 getAvailableLimit,
-                installmentDateCalculator
+                installmentDateCalculator,
+                monthlyCardSummaries
         );
     }
 
@@ -112,7 +116,7 @@ class CreateBillWithCreditCardTest {
         Invoice invoice = TestDataBuilder.createInvoice(1L, creditCardId, LocalDate.of(2025, 1, 1), BigDecimal.ZERO);
         InstallmentDateInfo dateInfo = TestDataBuilder.createInstallmentDateInfo(1, LocalDate.of(2025, 1, 17), LocalDate.of(2025, 1, 1));
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(savedBill);
         when(installmentDateCalculator.calculate(any(), eq(10), eq(17), eq(1))).thenReturn(dateInfo);
@@ -126,7 +130,7 @@ class CreateBillWithCreditCardTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
-        verify(creditCardRepository).findById(creditCardId);
+        verify(creditCardLocks).lockForTransaction(creditCardId);
         verify(getAvailableLimit).execute(creditCardId);
         verify(createBill).addBill(inputBill);
         verify(installmentDateCalculator).calculate(any(), eq(10), eq(17), eq(1));
@@ -151,7 +155,7 @@ class CreateBillWithCreditCardTest {
 
         Invoice invoice = TestDataBuilder.createInvoice(1L, creditCardId, LocalDate.of(2025, 1, 1), BigDecimal.ZERO);
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(savedBill);
         when(generateOrGetInvoiceForMonth.execute(creditCardId, LocalDate.of(2025, 1, 1))).thenReturn(invoice);
@@ -198,7 +202,7 @@ class CreateBillWithCreditCardTest {
         Invoice invoice2 = TestDataBuilder.createInvoice(2L, creditCardId, LocalDate.of(2025, 2, 1), BigDecimal.ZERO);
         Invoice invoice3 = TestDataBuilder.createInvoice(3L, creditCardId, LocalDate.of(2025, 3, 1), BigDecimal.ZERO);
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(savedBill);
 
@@ -249,7 +253,7 @@ class CreateBillWithCreditCardTest {
         // Existing invoice with previous total amount
         Invoice existingInvoice = TestDataBuilder.createInvoice(1L, creditCardId, LocalDate.of(2025, 1, 1), new BigDecimal("500.00"));
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(savedBill);
         when(generateOrGetInvoiceForMonth.execute(creditCardId, LocalDate.of(2025, 1, 1))).thenReturn(existingInvoice);
@@ -284,7 +288,7 @@ class CreateBillWithCreditCardTest {
                 creditCardId, new BigDecimal("5000.00"), new BigDecimal("0.00"), BigDecimal.ZERO, new BigDecimal("5000.00")
         );
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(savedBill);
 
@@ -324,7 +328,8 @@ class CreateBillWithCreditCardTest {
         Bill inputBill = TestDataBuilder.createBill();
         Long nonExistentCardId = 999L;
 
-        when(creditCardRepository.findById(nonExistentCardId)).thenReturn(Optional.empty());
+        when(creditCardLocks.lockForTransaction(nonExistentCardId))
+                .thenThrow(new CreditCardNotFoundException(nonExistentCardId));
 
         // When & Then
         assertThatThrownBy(() -> useCase.execute(inputBill, nonExistentCardId))
@@ -347,7 +352,7 @@ class CreateBillWithCreditCardTest {
                 creditCardId, new BigDecimal("5000.00"), new BigDecimal("4000.00"), BigDecimal.ZERO, new BigDecimal("1000.00")
         );
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
 
         // When & Then
@@ -373,7 +378,7 @@ class CreateBillWithCreditCardTest {
                 creditCardId, new BigDecimal("5000.00"), new BigDecimal("4000.00"), BigDecimal.ZERO, new BigDecimal("1000.00")
         );
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(savedBill);
         when(installmentDateCalculator.calculate(any(), anyInt(), anyInt(), anyInt()))
@@ -407,7 +412,7 @@ class CreateBillWithCreditCardTest {
         Invoice invoice2 = TestDataBuilder.createInvoice(2L, creditCardId, LocalDate.of(2025, 2, 1), BigDecimal.ZERO);
         Invoice invoice3 = TestDataBuilder.createInvoice(3L, creditCardId, LocalDate.of(2025, 3, 1), BigDecimal.ZERO);
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(savedBill);
 
@@ -452,7 +457,7 @@ class CreateBillWithCreditCardTest {
         CreditCard creditCard = TestDataBuilder.createCreditCard();
         AvailableLimitResult limitResult = TestDataBuilder.createAvailableLimitResult();
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(TestDataBuilder.createBill());
         when(installmentDateCalculator.calculate(any(), anyInt(), anyInt(), anyInt()))
@@ -481,7 +486,7 @@ class CreateBillWithCreditCardTest {
         CreditCard creditCard = TestDataBuilder.createCreditCard();
         AvailableLimitResult limitResult = TestDataBuilder.createAvailableLimitResult();
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(savedBill);
 
@@ -523,7 +528,7 @@ class CreateBillWithCreditCardTest {
         // Existing invoice with 200.00
         Invoice existingInvoice = TestDataBuilder.createInvoice(1L, creditCardId, LocalDate.of(2025, 1, 1), new BigDecimal("200.00"));
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(savedBill);
         when(generateOrGetInvoiceForMonth.execute(creditCardId, LocalDate.of(2025, 1, 1))).thenReturn(existingInvoice);
@@ -561,7 +566,7 @@ class CreateBillWithCreditCardTest {
         AvailableLimitResult limitResult = TestDataBuilder.createAvailableLimitResult();
         Invoice invoice = TestDataBuilder.createInvoice(1L, creditCardId, LocalDate.of(2025, 1, 1), BigDecimal.ZERO);
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(savedBill);
         when(generateOrGetInvoiceForMonth.execute(creditCardId, LocalDate.of(2025, 1, 1))).thenReturn(invoice);
@@ -596,7 +601,7 @@ class CreateBillWithCreditCardTest {
         CreditCard creditCard = TestDataBuilder.createCreditCard();
         AvailableLimitResult limitResult = TestDataBuilder.createAvailableLimitResult();
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(savedBill);
 
@@ -638,7 +643,7 @@ class CreateBillWithCreditCardTest {
         CreditCard creditCard = TestDataBuilder.createCreditCard();
         AvailableLimitResult limitResult = TestDataBuilder.createAvailableLimitResult();
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(savedBill);
         when(generateOrGetInvoiceForMonth.execute(anyLong(), any())).thenReturn(TestDataBuilder.createInvoice());
@@ -672,7 +677,7 @@ class CreateBillWithCreditCardTest {
         AvailableLimitResult limitResult = TestDataBuilder.createAvailableLimitResult();
         Invoice invoice = TestDataBuilder.createInvoice(77L, creditCardId, LocalDate.of(2025, 2, 1), BigDecimal.ZERO);
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(savedBill);
         when(generateOrGetInvoiceForMonth.execute(creditCardId, LocalDate.of(2025, 2, 1))).thenReturn(invoice);
@@ -716,7 +721,7 @@ class CreateBillWithCreditCardTest {
         CreditCard creditCard = TestDataBuilder.createCreditCard();
         AvailableLimitResult limitResult = TestDataBuilder.createAvailableLimitResult();
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(TestDataBuilder.createBill());
         when(installmentDateCalculator.calculate(any(), anyInt(), anyInt(), anyInt()))
@@ -742,7 +747,7 @@ class CreateBillWithCreditCardTest {
         CreditCard creditCard = TestDataBuilder.createCreditCard(creditCardId, "Card", new BigDecimal("5000.00"), 25, 5);
         AvailableLimitResult limitResult = TestDataBuilder.createAvailableLimitResult();
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(savedBill);
         when(installmentDateCalculator.calculate(executionDate, 25, 5, 1))
@@ -768,7 +773,7 @@ class CreateBillWithCreditCardTest {
         CreditCard creditCard = TestDataBuilder.createCreditCard();
         AvailableLimitResult limitResult = TestDataBuilder.createAvailableLimitResult();
 
-        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(creditCardLocks.lockForTransaction(creditCardId)).thenReturn(creditCard);
         when(getAvailableLimit.execute(creditCardId)).thenReturn(limitResult);
         when(createBill.addBill(inputBill)).thenReturn(expectedBill);
         when(installmentDateCalculator.calculate(any(), anyInt(), anyInt(), anyInt()))
@@ -0,0 +1,278 @@
+package com.truebalance.truebalance.domain.usecase.bill;
+
+import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.entity.Installment;
+import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.port.BillRepositoryPort;
+import com.truebalance.truebalance.domain.port.InstallmentRepositoryPort;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.service.CreditCardLocks;
+import com.truebalance.truebalance.domain.service.InstallmentDateCalculator;
+import com.truebalance.truebalance.domain.service.MonthlyCardSummaries;
+import com.truebalance.truebalance.domain.usecase.CreateBillWithCreditCard;
+import com.truebalance.truebalance.domain.usecase.GetAvailableLimit;
+import com.truebalance.truebalance.domain.usecase.MaterializeRecurringBills;
+import com.truebalance.truebalance.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for MaterializeRecurringBills use case.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MaterializeRecurringBills - Use Case Tests")
+class MaterializeRecurringBillsTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2025, 1, 1);
+    private static final LocalDate FEBRUARY = LocalDate.of(2025, 2, 1);
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 1);
+
+    @Mock
+    private BillRepositoryPort billRepository;
+
+    @Mock
+    private InstallmentRepositoryPort installmentRepository;
+
+    @Mock
+    private InvoiceRepositoryPort invoiceRepository;
+
+    @Mock
+    private CreditCardLocks creditCardLocks;
+
+    @Mock
+    private GetAvailableLimit getAvailableLimit;
+
+    @Mock
+    private CreateBillWithCreditCard createBillWithCreditCard;
+
+    @Mock
+    private MonthlyCardSummaries monthlyCardSummaries;
+
+    @Captor
+    private ArgumentCaptor<List<Bill>> billsCaptor;
+
+    private MaterializeRecurringBills useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new MaterializeRecurringBills(billRepository, installmentRepository, invoiceRepository,
+                creditCardLocks, getAvailableLimit, createBillWithCreditCard, monthlyCardSummaries,
+                new InstallmentDateCalculator(), 3);
+    }
+
+    private static Bill template(Long id, String amount, LocalDateTime executionDate) {
+        Bill bill = TestDataBuilder.createBill(id, "Recorrente " + id, new BigDecimal(amount), 1);
+        bill.setExecutionDate(executionDate);
+        bill.setIsRecurring(true);
+        return bill;
+    }
+
+    @Test
+    @DisplayName("Should list every missing month of each template, catching up months not run")
+    void shouldFindPendingMonths() {
+        // Given: Template 1 on card 7 last materialized in January, template 2 without card and
+        // never materialized, template 3 already done in March, template 4 created this month
+        Bill onCard = template(1L, "120.00", LocalDateTime.of(2024, 11, 30, 8, 0));
+        Bill standalone = template(2L, "80.00", LocalDateTime.of(2025, 2, 5, 8, 0));
+        Bill done = template(3L, "10.00", LocalDateTime.of(2025, 1, 5, 8, 0));
+        Bill current = template(4L, "10.00", LocalDateTime.of(2025, 3, 2, 8, 0));
+
+        when(billRepository.findLatestRecurrencePeriods()).thenReturn(Map.of(1L, LocalDate.of(2025, 1, 1), 3L, MARCH));
+        when(billRepository.findRecurringTemplates()).thenReturn(List.of(onCard, standalone, done, current));
+        when(installmentRepository.findCreditCardIdsByBillIds(List.of(1L, 2L))).thenReturn(Map.of(1L, 7L));
+
+        // When
+        MaterializeRecurringBills.Plan plan = useCase.findPending(LocalDate.of(2025, 3, 15));
+
+        // Then
+        assertThat(plan.period()).isEqualTo(MARCH);
+        assertThat(plan.upToDate()).isEqualTo(1);
+        assertThat(plan.pending()).containsExactly(
+                new MaterializeRecurringBills.Pending(onCard, 7L, List.of(FEBRUARY, MARCH)),
+                new MaterializeRecurringBills.Pending(standalone, null, List.of(MARCH)));
+    }
+
+    @Test
+    @DisplayName("Should not backfill old templates: never materialized starts now, behind is capped")
+    void shouldNotBackfillOldTemplates() {
+        // Given: Template 1 marked recurring in June 2024 and never materialized, template 2 last
+        // materialized in June 2024; at most 3 months are caught up
+        Bill neverRun = template(1L, "120.00", LocalDateTime.of(2024, 6, 10, 8, 0));
+        Bill farBehind = template(2L, "80.00", LocalDateTime.of(2024, 5, 5, 8, 0));
+
+        when(billRepository.findLatestRecurrencePeriods()).thenReturn(Map.of(2L, LocalDate.of(2024, 6, 1)));
+        when(billRepository.findRecurringTemplates()).thenReturn(List.of(neverRun, farBehind));
+        when(installmentRepository.findCreditCardIdsByBillIds(List.of(1L, 2L))).thenReturn(Map.of());
+
+        // When
+        MaterializeRecurringBills.Plan plan = useCase.findPending(LocalDate.of(2025, 3, 15));
+
+        // Then
+        assertThat(plan.pending()).containsExactly(
+                new MaterializeRecurringBills.Pending(neverRun, null, List.of(MARCH)),
+                new MaterializeRecurringBills.Pending(farBehind, null,
+                        List.of(LocalDate.of(2024, 12, 1), JANUARY, FEBRUARY, MARCH)));
+    }
+
+    @Test
+    @DisplayName("Should keep only the latest of the copies of a bill entered by hand every month")
+    void shouldKeepOnlyLatestCopy() {
+        // Given: The same rent entered as recurring in January and February, and another bill
+        Bill january = TestDataBuilder.createBill(1L, "Aluguel", new BigDecimal("1500.00"), 1);
+        january.setExecutionDate(LocalDateTime.of(2025, 1, 5, 8, 0));
+        Bill february = TestDataBuilder.createBill(2L, "aluguel", new BigDecimal("1500.0"), 1);
+        february.setExecutionDate(LocalDateTime.of(2025, 2, 5, 8, 0));
+        Bill other = template(3L, "1500.00", LocalDateTime.of(2025, 1, 5, 8, 0));
+
+        when(billRepository.findLatestRecurrencePeriods()).thenReturn(Map.of());
+        when(billRepository.findRecurringTemplates()).thenReturn(List.of(january, february, other));
+        when(installmentRepository.findCreditCardIdsByBillIds(List.of(2L, 3L))).thenReturn(Map.of());
+
+        // When
+        MaterializeRecurringBills.Plan plan = useCase.findPending(LocalDate.of(2025, 3, 15));
+
+        // Then
+        assertThat(plan.pending()).extracting(pending -> pending.template().getId()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should skip the months whose invoice is already closed")
+    void shouldSkipClosedInvoiceMonth() {
+        // Given: February invoice already closed
+        Bill onCard = template(1L, "120.00", LocalDateTime.of(2025, 1, 5, 8, 0));
+        CreditCard card = TestDataBuilder.createCreditCard(7L, "Card", new BigDecimal("1000.00"), 10, 17);
+        Invoice closed = TestDataBuilder.createInvoice(20L, 7L, FEBRUARY, new BigDecimal("300.00"));
+        closed.setClosed(true);
+
+        when(creditCardLocks.lockForTransaction(7L)).thenReturn(card);
+        when(getAvailableLimit.execute(7L)).thenReturn(TestDataBuilder.createAvailableLimitResult(
+                7L, new BigDecimal("1000.00"), BigDecimal.ZERO, BigDecimal.ZERO, new BigDecimal("1000.00")));
+        when(invoiceRepository.findByCreditCardIdAndClosed(7L, true)).thenReturn(List.of(closed));
+        when(billRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(createBillWithCreditCard.distribute(any(), eq(card), anyMap())).thenReturn(List.of(new Installment()));
+
+        // When
+        MaterializeRecurringBills.TemplateResult result = useCase.materialize(
+                new MaterializeRecurringBills.Pending(onCard, 7L, List.of(FEBRUARY, MARCH)));
+
+        // Then
+        assertThat(result).isEqualTo(new MaterializeRecurringBills.TemplateResult(1, 0));
+        verify(billRepository).saveAll(billsCaptor.capture());
+        assertThat(billsCaptor.getValue()).extracting(Bill::getRecurrencePeriod).containsExactly(MARCH);
+        verify(createBillWithCreditCard, times(1)).distribute(any(), eq(card), anyMap());
+    }
+
+    @Test
+    @DisplayName("Should create the occurrences of a card-linked template under the card lock")
+    void shouldMaterializeUnderCardLock() {
+        // Given
+        Bill onCard = template(1L, "120.00", LocalDateTime.of(2025, 1, 31, 8, 0));
+        CreditCard card = TestDataBuilder.createCreditCard(7L, "Card", new BigDecimal("1000.00"), 10, 17);
+
+        when(creditCardLocks.lockForTransaction(7L)).thenReturn(card);
+        when(getAvailableLimit.execute(7L)).thenReturn(TestDataBuilder.createAvailableLimitResult(
+                7L, new BigDecimal("1000.00"), BigDecimal.ZERO, BigDecimal.ZERO, new BigDecimal("1000.00")));
+        when(billRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(createBillWithCreditCard.distribute(any(), eq(card), anyMap())).thenReturn(List.of(new Installment()));
+
+        // When
+        MaterializeRecurringBills.TemplateResult result = useCase.materialize(
+                new MaterializeRecurringBills.Pending(onCard, 7L, List.of(FEBRUARY, MARCH)));
+
+        // Then
+        assertThat(result).isEqualTo(new MaterializeRecurringBills.TemplateResult(2, 0));
+        verify(billRepository).saveAll(billsCaptor.capture());
+        List<Bill> occurrences = billsCaptor.getValue();
+        assertThat(occurrences).extracting(Bill::getRecurrencePeriod).containsExactly(FEBRUARY, MARCH);
+        assertThat(occurrences).extracting(Bill::getExecutionDate).containsExactly(
+                LocalDateTime.of(2025, 2, 28, 8, 0), LocalDateTime.of(2025, 3, 31, 8, 0));
+        assertThat(occurrences).allSatisfy(bill -> {
+            assertThat(bill.getRecurringSourceId()).isEqualTo(1L);
+            assertThat(bill.getIsRecurring()).isFalse();
+        });
+        verify(createBillWithCreditCard, times(2)).distribute(any(), eq(card), anyMap());
+        verify(installmentRepository).saveAll(anyList());
+        verify(monthlyCardSummaries).billsCharged(anyMap());
+    }
+
+    @Test
+    @DisplayName("Should create a template without card without touching any card")
+    void shouldMaterializeWithoutCard() {
+        // Given
+        Bill standalone = template(2L, "80.00", LocalDateTime.of(2025, 2, 5, 8, 0));
+        when(billRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        MaterializeRecurringBills.TemplateResult result = useCase.materialize(
+                new MaterializeRecurringBills.Pending(standalone, null, List.of(MARCH)));
+
+        // Then
+        assertThat(result).isEqualTo(new MaterializeRecurringBills.TemplateResult(1, 0));
+        verifyNoInteractions(creditCardLocks, getAvailableLimit, createBillWithCreditCard, monthlyCardSummaries);
+    }
+
+    @Test
+    @DisplayName("Should stop at the first month over the card limit")
+    void shouldStopAtLimit() {
+        // Given: 400.00 available, three months of 300.00
+        Bill onCard = template(1L, "300.00", LocalDateTime.of(2024, 12, 10, 8, 0));
+        CreditCard card = TestDataBuilder.createCreditCard(7L, "Card", new BigDecimal("1000.00"), 10, 17);
+
+        when(creditCardLocks.lockForTransaction(7L)).thenReturn(card);
+        when(getAvailableLimit.execute(7L)).thenReturn(TestDataBuilder.createAvailableLimitResult(
+                7L, new BigDecimal("1000.00"), new BigDecimal("600.00"), BigDecimal.ZERO, new BigDecimal("400.00")));
+        when(billRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(createBillWithCreditCard.distribute(any(), eq(card), anyMap())).thenReturn(List.of(new Installment()));
+
+        // When
+        MaterializeRecurringBills.TemplateResult result = useCase.materialize(
+                new MaterializeRecurringBills.Pending(onCard, 7L, List.of(JANUARY, FEBRUARY, MARCH)));
+
+        // Then
+        assertThat(result).isEqualTo(new MaterializeRecurringBills.TemplateResult(1, 2));
+        verify(billRepository).saveAll(billsCaptor.capture());
+        assertThat(billsCaptor.getValue()).extracting(Bill::getRecurrencePeriod).containsExactly(JANUARY);
+    }
+
+    @Test
+    @DisplayName("Should create nothing when the first month is over the card limit")
+    void shouldSkipOccurrenceOverLimit() {
+        // Given
+        Bill onCard = template(1L, "500.00", LocalDateTime.of(2025, 2, 10, 8, 0));
+        CreditCard card = TestDataBuilder.createCreditCard(7L, "Card", new BigDecimal("1000.00"), 10, 17);
+
+        when(creditCardLocks.lockForTransaction(7L)).thenReturn(card);
+        when(getAvailableLimit.execute(7L)).thenReturn(TestDataBuilder.createAvailableLimitResult(
+                7L, new BigDecimal("1000.00"), new BigDecimal("600.00"), BigDecimal.ZERO, new BigDecimal("400.00")));
+
+        // When
+        MaterializeRecurringBills.TemplateResult result = useCase.materialize(
+                new MaterializeRecurringBills.Pending(onCard, 7L, List.of(MARCH)));
+
+        // Then
+        assertThat(result).isEqualTo(new MaterializeRecurringBills.TemplateResult(0, 1));
+        verify(billRepository, never()).saveAll(anyList());
+        verify(installmentRepository, never()).saveAll(anyList());
+        verify(invoiceRepository, never()).saveAll(anyList());
+    }
+}
@@ -0,0 +1,170 @@
+package com.truebalance.truebalance.domain.usecase.creditcard;
+
+import com.truebalance.truebalance.application.dto.output.InvoiceBalanceDTO;
+import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.entity.Installment;
+import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.exception.CreditCardNotFoundException;
+import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
+import com.truebalance.truebalance.domain.port.InstallmentRepositoryPort;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort;
+import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort.PaymentTotals;
+import com.truebalance.truebalance.domain.service.InstallmentDateCalculator;
+import com.truebalance.truebalance.domain.usecase.CreditCardDashboardResult;
+import com.truebalance.truebalance.domain.usecase.GetCreditCardDashboard;
+import com.truebalance.truebalance.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetCreditCardDashboard Use Case Tests")
+class GetCreditCardDashboardTest {
+
+    @Mock
+    private CreditCardRepositoryPort creditCardRepository;
+
+    @Mock
+    private InvoiceRepositoryPort invoiceRepository;
+
+    @Mock
+    private InstallmentRepositoryPort installmentRepository;
+
+    @Mock
+    private PartialPaymentRepositoryPort partialPaymentRepository;
+
+    private final InstallmentDateCalculator installmentDateCalculator = new InstallmentDateCalculator();
+
+    private GetCreditCardDashboard useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetCreditCardDashboard(
+                creditCardRepository,
+                invoiceRepository,
+                installmentRepository,
+                partialPaymentRepository,
+                installmentDateCalculator
+        );
+    }
+
+    @Test
+    @DisplayName("Should build balances, limit and current invoice from grouped queries")
+    void shouldBuildDashboardFromGroupedQueries() {
+        // Given: Current open invoice with a payment, an older closed invoice with a payment
+        Long creditCardId = 1L;
+        CreditCard creditCard = TestDataBuilder.createCreditCard(creditCardId, "Test Card", new BigDecimal("5000.00"), 10, 17);
+        LocalDate currentMonth = installmentDateCalculator.calculate(LocalDateTime.now(), 10, 17, 1).getReferenceMonth();
+
+        Invoice current = TestDataBuilder.createInvoice(2L, creditCardId, currentMonth, new BigDecimal("800.00"));
+        Invoice closed = TestDataBuilder.createInvoice(1L, creditCardId, currentMonth.minusMonths(1), new BigDecimal("600.00"));
+        closed.setClosed(true);
+        Installment upcoming = TestDataBuilder.createInstallment();
+
+        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(invoiceRepository.findByCreditCardId(creditCardId)).thenReturn(List.of(current, closed));
+        when(partialPaymentRepository.summarizeByCreditCardId(creditCardId)).thenReturn(Map.of(
+                2L, new PaymentTotals(2, new BigDecimal("300.00")),
+                1L, new PaymentTotals(1, new BigDecimal("600.00"))));
+        when(installmentRepository.sumAmountByInvoiceIds(List.of(2L))).thenReturn(new BigDecimal("800.00"));
+        when(installmentRepository.findUpcomingByCreditCardId(eq(creditCardId), any(LocalDate.class), eq(5)))
+                .thenReturn(List.of(upcoming));
+
+        // When
+        CreditCardDashboardResult result = useCase.execute(creditCardId, 5);
+
+        // Then: Limit only counts the open invoice (BR-CC-008): 5000 - 800 + 300
+        assertThat(result.getCreditCard()).isEqualTo(creditCard);
+        assertThat(result.getAvailableLimit().getUsedLimit()).isEqualByComparingTo("800.00");
+        assertThat(result.getAvailableLimit().getPartialPaymentsTotal()).isEqualByComparingTo("300.00");
+        assertThat(result.getAvailableLimit().getAvailableLimit()).isEqualByComparingTo("4500.00");
+        assertThat(result.getCurrentInvoice()).isEqualTo(current);
+        assertThat(result.getUpcomingInstallments()).containsExactly(upcoming);
+
+        // Then: Balances follow BR-I-011 for every invoice
+        List<InvoiceBalanceDTO> balances = result.getInvoices();
+        assertThat(balances).extracting(InvoiceBalanceDTO::getInvoiceId).containsExactly(2L, 1L);
+        assertThat(balances.get(0).getCurrentBalance()).isEqualByComparingTo("500.00");
+        assertThat(balances.get(0).getPartialPaymentsCount()).isEqualTo(2);
+        assertThat(balances.get(1).getCurrentBalance()).isEqualByComparingTo("0.00");
+        assertThat(balances.get(1).getReferenceMonth()).isEqualTo(currentMonth.minusMonths(1));
+
+        // Then: No per-invoice queries
+        verify(partialPaymentRepository, never()).sumByInvoiceId(any());
+        verify(partialPaymentRepository, never()).countByInvoiceId(any());
+    }
+
+    @Test
+    @DisplayName("Should return full limit and no current invoice when card has no invoices")
+    void shouldReturnFullLimitWhenNoInvoices() {
+        // Given
+        Long creditCardId = 1L;
+        CreditCard creditCard = TestDataBuilder.createCreditCard(creditCardId, "Test Card", new BigDecimal("5000.00"), 10, 17);
+        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(invoiceRepository.findByCreditCardId(creditCardId)).thenReturn(List.of());
+        when(partialPaymentRepository.summarizeByCreditCardId(creditCardId)).thenReturn(Map.of());
+        when(installmentRepository.sumAmountByInvoiceIds(List.of())).thenReturn(BigDecimal.ZERO);
+        when(installmentRepository.findUpcomingByCreditCardId(eq(creditCardId), any(LocalDate.class), eq(10)))
+                .thenReturn(List.of());
+
+        // When
+        CreditCardDashboardResult result = useCase.execute(creditCardId, 10);
+
+        // Then
+        assertThat(result.getAvailableLimit().getAvailableLimit()).isEqualByComparingTo("5000.00");
+        assertThat(result.getCurrentInvoice()).isNull();
+        assertThat(result.getInvoices()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should throw CreditCardNotFoundException when card does not exist")
+    void shouldThrowWhenCardNotFound() {
+        // Given
+        when(creditCardRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> useCase.execute(99L, 10))
+                .isInstanceOf(CreditCardNotFoundException.class);
+        verifyNoInteractions(invoiceRepository, installmentRepository, partialPaymentRepository);
+    }
+
+    @Test
+    @DisplayName("Should leave out the empty invoices pre-created for coming months")
+    void shouldLeaveOutPregeneratedInvoices() {
+        // Given: The current invoice, an empty future one and a future one with a purchase
+        Long creditCardId = 1L;
+        CreditCard creditCard = TestDataBuilder.createCreditCard(creditCardId, "Test Card", new BigDecimal("5000.00"), 10, 17);
+        LocalDate currentMonth = installmentDateCalculator.calculate(LocalDateTime.now(), 10, 17, 1).getReferenceMonth();
+        Invoice current = TestDataBuilder.createInvoice(1L, creditCardId, currentMonth, BigDecimal.ZERO);
+        Invoice empty = TestDataBuilder.createInvoice(2L, creditCardId, currentMonth.plusMonths(1), BigDecimal.ZERO);
+        Invoice charged = TestDataBuilder.createInvoice(3L, creditCardId, currentMonth.plusMonths(2), new BigDecimal("100.00"));
+
+        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(creditCard));
+        when(invoiceRepository.findByCreditCardId(creditCardId)).thenReturn(List.of(current, empty, charged));
+        when(partialPaymentRepository.summarizeByCreditCardId(creditCardId)).thenReturn(Map.of());
+        when(installmentRepository.sumAmountByInvoiceIds(List.of(1L, 2L, 3L))).thenReturn(new BigDecimal("100.00"));
+
+        // When
+        CreditCardDashboardResult result = useCase.execute(creditCardId, 5);
+
+        // Then: The current invoice is kept even if empty
+        assertThat(result.getInvoices()).extracting(InvoiceBalanceDTO::getInvoiceId).containsExactly(1L, 3L);
+        assertThat(result.getCurrentInvoice()).isEqualTo(current);
+        assertThat(result.getAvailableLimit().getAvailableLimit()).isEqualByComparingTo("4900.00");
+    }
+}
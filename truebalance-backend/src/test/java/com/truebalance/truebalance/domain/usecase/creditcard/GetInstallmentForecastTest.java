@@ -0,0 +1,109 @@
+package com.truebalance.truebalance.domain.usecase.creditcard;
+
+import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.exception.CreditCardNotFoundException;
+import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
+import com.truebalance.truebalance.domain.port.InstallmentRepositoryPort;
+import com.truebalance.truebalance.domain.port.InstallmentRepositoryPort.MonthlyCommitment;
+import com.truebalance.truebalance.domain.service.InstallmentForecastCache;
+import com.truebalance.truebalance.domain.usecase.GetInstallmentForecast;
+import com.truebalance.truebalance.util.TestDataBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for GetInstallmentForecast use case.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetInstallmentForecast - Use Case Tests")
+class GetInstallmentForecastTest {
+
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 1);
+    private static final LocalDate JUNE = LocalDate.of(2025, 6, 1);
+
+    @Mock
+    private CreditCardRepositoryPort creditCardRepository;
+
+    @Mock
+    private InstallmentRepositoryPort installmentRepository;
+
+    private InstallmentForecastCache forecastCache;
+
+    private GetInstallmentForecast useCase;
+
+    @BeforeEach
+    void setUp() {
+        forecastCache = new InstallmentForecastCache(new SimpleMeterRegistry(), Duration.ofMinutes(5), 100);
+        useCase = new GetInstallmentForecast(creditCardRepository, installmentRepository, forecastCache);
+    }
+
+    @Test
+    @DisplayName("Should return a dense month series for every card, zero where nothing is due")
+    void shouldReturnDenseSeriesForEveryCard() {
+        // Given: Card 1 has installments in March and May, card 2 has none
+        CreditCard first = TestDataBuilder.createCreditCard(1L, "Visa", new BigDecimal("5000.00"), 10, 17);
+        CreditCard second = TestDataBuilder.createCreditCard(2L, "Master", new BigDecimal("3000.00"), 5, 12);
+        when(creditCardRepository.findAll()).thenReturn(List.of(second, first));
+        when(installmentRepository.sumByCreditCardAndDueMonth(null, MARCH, JUNE)).thenReturn(List.of(
+                new MonthlyCommitment(1L, MARCH, new BigDecimal("100.00"), 2),
+                new MonthlyCommitment(1L, LocalDate.of(2025, 5, 1), new BigDecimal("50.00"), 1)));
+
+        // When
+        List<GetInstallmentForecast.CardForecast> forecast = useCase.execute(LocalDate.of(2025, 3, 20), 3);
+
+        // Then
+        assertThat(forecast).extracting(GetInstallmentForecast.CardForecast::creditCardId).containsExactly(1L, 2L);
+        assertThat(forecast.get(0).months()).extracting(GetInstallmentForecast.MonthForecast::month)
+                .containsExactly(MARCH, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 5, 1));
+        assertThat(forecast.get(0).months()).extracting(GetInstallmentForecast.MonthForecast::installments)
+                .containsExactly(2L, 0L, 1L);
+        assertThat(forecast.get(0).total()).isEqualByComparingTo("150.00");
+        assertThat(forecast.get(1).months()).hasSize(3)
+                .allSatisfy(month -> assertThat(month.total()).isEqualByComparingTo("0"));
+    }
+
+    @Test
+    @DisplayName("Should serve the aggregation from the cache until installments change")
+    void shouldCacheUntilInstallmentsChange() {
+        // Given
+        CreditCard card = TestDataBuilder.createCreditCard(1L, "Visa", new BigDecimal("5000.00"), 10, 17);
+        when(creditCardRepository.findById(1L)).thenReturn(Optional.of(card));
+        when(installmentRepository.sumByCreditCardAndDueMonth(1L, MARCH, JUNE)).thenReturn(List.of(
+                new MonthlyCommitment(1L, MARCH, new BigDecimal("100.00"), 1)));
+
+        // When: Twice, then again after a change
+        useCase.execute(1L, MARCH, 3);
+        useCase.execute(1L, MARCH, 3);
+        forecastCache.installmentsChanged();
+        GetInstallmentForecast.CardForecast forecast = useCase.execute(1L, MARCH, 3);
+
+        // Then
+        verify(installmentRepository, times(2)).sumByCreditCardAndDueMonth(1L, MARCH, JUNE);
+        assertThat(forecast.total()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    @DisplayName("Should throw when the card does not exist")
+    void shouldThrowWhenCardNotFound() {
+        when(creditCardRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(99L, MARCH, 3))
+                .isInstanceOf(CreditCardNotFoundException.class);
+        verifyNoInteractions(installmentRepository);
+    }
+}
@@ -0,0 +1,223 @@
+package com.truebalance.truebalance.domain.usecase.export;
+
+import com.truebalance.truebalance.domain.entity.Bill;
+import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.entity.DeletedRecord;
+import com.truebalance.truebalance.domain.entity.DeletedRecordType;
+import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.port.BillRepositoryPort;
+import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
+import com.truebalance.truebalance.domain.port.DeletedRecordRepositoryPort;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.port.OpenTransactionsPort;
+import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort;
+import com.truebalance.truebalance.domain.service.InstallmentDateCalculator;
+import com.truebalance.truebalance.domain.usecase.ChangesCursor;
+import com.truebalance.truebalance.domain.usecase.ChangesResult;
+import com.truebalance.truebalance.domain.usecase.GetChangesSince;
+import com.truebalance.truebalance.domain.usecase.PregenerateInvoices;
+import com.truebalance.truebalance.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for GetChangesSince use case.
+ * Incremental export: records changed in (since, now - safety lag], one page at a time.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetChangesSince - Use Case Tests")
+class GetChangesSinceTest {
+
+    private static final Duration SAFETY_LAG = Duration.ofSeconds(5);
+    private static final int PAGE_SIZE = 3;
+
+    @Mock
+    private BillRepositoryPort billRepository;
+
+    @Mock
+    private CreditCardRepositoryPort creditCardRepository;
+
+    @Mock
+    private InvoiceRepositoryPort invoiceRepository;
+
+    @Mock
+    private PartialPaymentRepositoryPort partialPaymentRepository;
+
+    @Mock
+    private DeletedRecordRepositoryPort deletedRecordRepository;
+
+    @Mock
+    private OpenTransactionsPort openTransactionsPort;
+
+    private GetChangesSince getChangesSince;
+
+    @BeforeEach
+    void setUp() {
+        getChangesSince = new GetChangesSince(billRepository, creditCardRepository, invoiceRepository,
+                partialPaymentRepository, deletedRecordRepository, openTransactionsPort, new InstallmentDateCalculator(),
+                SAFETY_LAG, PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should return changes and deletions after the watermark, up to now minus the safety lag")
+    void shouldReturnChangesAfterWatermark() {
+        // Given
+        LocalDateTime since = LocalDateTime.of(2025, 1, 15, 10, 30);
+        Bill bill = TestDataBuilder.createBill(1L, "Mercado", new BigDecimal("250.00"), 1);
+        DeletedRecord deleted = new DeletedRecord(DeletedRecordType.BILL, 2L);
+
+        when(billRepository.findUpdatedBetween(eq(since), isNull(), any(), eq(PAGE_SIZE + 1))).thenReturn(List.of(bill));
+        when(deletedRecordRepository.findDeletedBetween(eq(since), isNull(), any(), eq(PAGE_SIZE))).thenReturn(List.of(deleted));
+
+        // When
+        LocalDateTime before = LocalDateTime.now();
+        ChangesResult result = getChangesSince.execute(since);
+
+        // Then
+        assertThat(result.getSince()).isEqualTo(since);
+        assertThat(result.getBills()).containsExactly(bill);
+        assertThat(result.getDeleted()).containsExactly(deleted);
+        assertThat(result.getCreditCards()).isEmpty();
+        assertThat(result.getNextCursor()).isNull();
+
+        ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(invoiceRepository).findUpdatedBetween(eq(since), isNull(), until.capture(), eq(PAGE_SIZE));
+        assertThat(until.getValue()).isBefore(before.minus(SAFETY_LAG).plusSeconds(1));
+        assertThat(result.getNextWatermark()).isEqualTo(until.getValue());
+
+        // Same window for every kind of record
+        verify(creditCardRepository).findUpdatedBetween(since, null, until.getValue(), PAGE_SIZE);
+        verify(partialPaymentRepository).findCreatedBetween(since, null, until.getValue(), PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should stop the window before the oldest write transaction still open")
+    void shouldStopBeforeOpenTransactions() {
+        // Given: A transaction that started writing a minute ago has not committed
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        LocalDateTime openSince = LocalDateTime.now().minusMinutes(1);
+        when(openTransactionsPort.findOldestWriteStart()).thenReturn(Optional.of(openSince));
+
+        // When
+        ChangesResult result = getChangesSince.execute(since);
+
+        // Then
+        assertThat(result.getNextWatermark()).isEqualTo(openSince.minus(SAFETY_LAG));
+        verify(billRepository).findUpdatedBetween(since, null, openSince.minus(SAFETY_LAG), PAGE_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("Should return a cursor when the page fills up and continue from it")
+    void shouldPageWithCursor() {
+        // Given: Four bills in a page of three
+        LocalDateTime since = LocalDateTime.of(2025, 1, 15, 10, 30);
+        LocalDateTime stamp = since.plusMinutes(1);
+        List<Bill> bills = List.of(bill(1L, stamp), bill(2L, stamp), bill(3L, stamp), bill(4L, stamp));
+        when(billRepository.findUpdatedBetween(eq(since), isNull(), any(), eq(PAGE_SIZE + 1))).thenReturn(bills);
+
+        // When
+        ChangesResult first = getChangesSince.execute(since);
+
+        // Then: The first page keeps the watermark and points after bill 3
+        assertThat(first.getBills()).extracting(Bill::getId).containsExactly(1L, 2L, 3L);
+        assertThat(first.getNextWatermark()).isEqualTo(since);
+        ChangesCursor cursor = first.getNextCursor();
+        assertThat(cursor.section()).isEqualTo(ChangesCursor.Section.BILLS);
+        assertThat(cursor.after()).isEqualTo(stamp);
+        assertThat(cursor.afterId()).isEqualTo(3L);
+        verifyNoInteractions(creditCardRepository, invoiceRepository, partialPaymentRepository, deletedRecordRepository);
+
+        // When: The next page is read from the encoded cursor
+        when(billRepository.findUpdatedBetween(stamp, 3L, cursor.until(), PAGE_SIZE + 1)).thenReturn(List.of(bills.get(3)));
+        ChangesResult second = getChangesSince.execute(ChangesCursor.decode(cursor.encode()));
+
+        // Then: It closes the window
+        assertThat(second.getBills()).extracting(Bill::getId).containsExactly(4L);
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(second.getNextWatermark()).isEqualTo(cursor.until());
+        verify(creditCardRepository).findUpdatedBetween(since, null, cursor.until(), PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> ChangesCursor.decode("nao-e-um-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should read from the beginning when there is no watermark")
+    void shouldReadEverythingWithoutWatermark() {
+        // When
+        ChangesResult result = getChangesSince.execute((LocalDateTime) null);
+
+        // Then
+        assertThat(result.getSince()).isEqualTo(LocalDateTime.of(1970, 1, 1, 0, 0));
+        verify(billRepository).findUpdatedBetween(eq(LocalDateTime.of(1970, 1, 1, 0, 0)), isNull(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should not query nor move the watermark when it is within the safety lag")
+    void shouldKeepWatermarkWithinSafetyLag() {
+        // Given: Watermark newer than now - lag
+        LocalDateTime since = LocalDateTime.now().plusMinutes(1);
+
+        // When
+        ChangesResult result = getChangesSince.execute(since);
+
+        // Then
+        assertThat(result.getNextWatermark()).isEqualTo(since);
+        assertThat(result.getBills()).isEmpty();
+        verifyNoInteractions(billRepository, creditCardRepository, invoiceRepository,
+                partialPaymentRepository, deletedRecordRepository);
+    }
+
+    private static Bill bill(Long id, LocalDateTime updatedAt) {
+        Bill bill = TestDataBuilder.createBill(id, "Conta " + id, new BigDecimal("10.00"), 1);
+        bill.setUpdatedAt(updatedAt);
+        return bill;
+    }
+
+    @Test
+    @DisplayName("Should leave out pre-created invoices nobody has written to")
+    void shouldLeaveOutUntouchedPregeneratedInvoices() {
+        // Given: Two empty invoices after the current month of their card, and the empty invoice
+        // of that month itself; the second one had a purchase removed since
+        LocalDateTime since = LocalDateTime.of(2025, 1, 15, 10, 30);
+        CreditCard card = TestDataBuilder.createCreditCard(1L, "Card", new BigDecimal("1000.00"), 10, 17);
+        LocalDate currentMonth = PregenerateInvoices.currentMonth(card, new InstallmentDateCalculator(), LocalDateTime.now());
+        Invoice current = TestDataBuilder.createInvoice(3L, 1L, currentMonth, BigDecimal.ZERO);
+        Invoice untouched = TestDataBuilder.createInvoice(1L, 1L, currentMonth.plusMonths(1), BigDecimal.ZERO);
+        Invoice emptied = TestDataBuilder.createInvoice(2L, 1L, currentMonth.plusMonths(2), BigDecimal.ZERO);
+        emptied.setUpdatedAt(emptied.getCreatedAt().plusDays(1));
+        when(invoiceRepository.findUpdatedBetween(eq(since), isNull(), any(), anyInt()))
+                .thenReturn(List.of(current, untouched, emptied));
+        when(creditCardRepository.findAll()).thenReturn(List.of(card));
+
+        // When
+        ChangesResult result = getChangesSince.execute(since);
+
+        // Then: The client still learns that the second one went back to zero
+        assertThat(result.getInvoices()).containsExactly(current, emptied);
+    }
+}
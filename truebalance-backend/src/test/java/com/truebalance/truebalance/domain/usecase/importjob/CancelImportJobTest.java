@@ -0,0 +1,94 @@
+package com.truebalance.truebalance.domain.usecase.importjob;
+
+import com.truebalance.truebalance.domain.entity.ImportJob;
+import com.truebalance.truebalance.domain.entity.ImportJobStatus;
+import com.truebalance.truebalance.domain.entity.ImportJobType;
+import com.truebalance.truebalance.domain.exception.ImportJobNotFoundException;
+import com.truebalance.truebalance.domain.port.ImportJobRepositoryPort;
+import com.truebalance.truebalance.domain.service.ImportJobRunner;
+import com.truebalance.truebalance.domain.usecase.CancelImportJob;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for CancelImportJob use case.
+ * Cancellation is cooperative: the job is flagged and the worker stops before the next row.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CancelImportJob - Use Case Tests")
+class CancelImportJobTest {
+
+    @Mock
+    private ImportJobRepositoryPort importJobRepository;
+
+    @Mock
+    private ImportJobRunner importJobRunner;
+
+    @InjectMocks
+    private CancelImportJob cancelImportJob;
+
+    @Test
+    @DisplayName("Should flag running job for cancellation")
+    void shouldFlagRunningJobForCancellation() {
+        // Given: A running job
+        ImportJob job = createJob(1L, ImportJobStatus.RUNNING);
+        when(importJobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        // When
+        ImportJob result = cancelImportJob.execute(1L);
+
+        // Then: Flag persisted and worker signalled
+        assertThat(result.isCancelRequested()).isTrue();
+        verify(importJobRepository).requestCancel(1L);
+        verify(importJobRunner).cancel(1L);
+    }
+
+    @Test
+    @DisplayName("Should not touch finished job")
+    void shouldNotTouchFinishedJob() {
+        // Given: A completed job
+        ImportJob job = createJob(2L, ImportJobStatus.COMPLETED);
+        when(importJobRepository.findById(2L)).thenReturn(Optional.of(job));
+
+        // When
+        ImportJob result = cancelImportJob.execute(2L);
+
+        // Then: Returned unchanged
+        assertThat(result.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(result.isCancelRequested()).isFalse();
+        verify(importJobRepository, never()).requestCancel(any());
+        verifyNoInteractions(importJobRunner);
+    }
+
+    @Test
+    @DisplayName("Should throw when job does not exist")
+    void shouldThrowWhenJobDoesNotExist() {
+        // Given: No job with the ID
+        when(importJobRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> cancelImportJob.execute(999L))
+                .isInstanceOf(ImportJobNotFoundException.class)
+                .hasMessageContaining("999");
+    }
+
+    private ImportJob createJob(Long id, ImportJobStatus status) {
+        ImportJob job = new ImportJob();
+        job.setId(id);
+        job.setType(ImportJobType.BILLS);
+        job.setStatus(status);
+        job.setFilename("contas.csv");
+        job.setDuplicateStrategy("SKIP");
+        return job;
+    }
+}
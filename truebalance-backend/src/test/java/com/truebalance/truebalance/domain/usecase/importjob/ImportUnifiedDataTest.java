@@ -0,0 +1,179 @@
+package com.truebalance.truebalance.domain.usecase.importjob;
+
+import com.truebalance.truebalance.application.dto.input.BillBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.BillImportItemDTO;
+import com.truebalance.truebalance.application.dto.input.CreditCardBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.CreditCardImportItemDTO;
+import com.truebalance.truebalance.application.dto.input.InvoiceBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.InvoiceImportItemDTO;
+import com.truebalance.truebalance.application.dto.output.BillImportResultDTO;
+import com.truebalance.truebalance.application.dto.output.CreditCardDuplicateInfoDTO;
+import com.truebalance.truebalance.application.dto.output.CreditCardImportResultDTO;
+import com.truebalance.truebalance.application.dto.output.CreditCardResponseDTO;
+import com.truebalance.truebalance.application.dto.output.InvoiceImportResultDTO;
+import com.truebalance.truebalance.domain.service.UnifiedImportService;
+import com.truebalance.truebalance.domain.usecase.ImportBillsInBulk;
+import com.truebalance.truebalance.domain.usecase.ImportCreditCardsInBulk;
+import com.truebalance.truebalance.domain.usecase.ImportInvoicesInBulk;
+import com.truebalance.truebalance.domain.usecase.ImportProgressListener;
+import com.truebalance.truebalance.domain.usecase.ImportUnifiedData;
+import com.truebalance.truebalance.infra.db.repository.CreditCardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for ImportUnifiedData use case.
+ * Cards are imported first and bills/invoices referencing them by file ID or name are remapped
+ * to the IDs assigned in the database before the per-card groups are imported.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportUnifiedData - Use Case Tests")
+class ImportUnifiedDataTest {
+
+    @Mock
+    private ImportBillsInBulk importBillsInBulk;
+
+    @Mock
+    private ImportCreditCardsInBulk importCreditCardsInBulk;
+
+    @Mock
+    private ImportInvoicesInBulk importInvoicesInBulk;
+
+    @Mock
+    private CreditCardRepository creditCardRepository;
+
+    private ImportUnifiedData importUnifiedData;
+
+    @BeforeEach
+    void setUp() {
+        importUnifiedData = new ImportUnifiedData(importBillsInBulk, importCreditCardsInBulk,
+                importInvoicesInBulk, creditCardRepository, 2);
+    }
+
+    @Test
+    @DisplayName("Should remap card references of bills and invoices to imported card IDs")
+    void shouldRemapCardReferencesToImportedCardIds() {
+        // Given: File card 10 is created as 100, file card 11 already exists as 55
+        CreditCardImportItemDTO nubank = card("Nubank", 10L, 2);
+        CreditCardImportItemDTO inter = card("Inter", 11L, 3);
+
+        CreditCardImportResultDTO cardsResult = new CreditCardImportResultDTO(2, 1, 1, 0,
+                List.of(new CreditCardDuplicateInfoDTO(3, "Inter", new BigDecimal("3000.00"), 10, 17, 55L, "Duplicata")),
+                null,
+                List.of(new CreditCardResponseDTO(100L, "Nubank", new BigDecimal("5000.00"), 10, 17, true, null, null)));
+        when(importCreditCardsInBulk.execute(any(CreditCardBulkImportRequestDTO.class), any(ImportProgressListener.class)))
+                .thenReturn(cardsResult);
+
+        BillImportItemDTO billByFileId = bill("Mercado", 10L, null, 2);
+        BillImportItemDTO billByName = bill("Farmácia", null, "inter", 3);
+        BillImportItemDTO billStandalone = bill("Aluguel", null, null, 4);
+        BillImportItemDTO billExistingCard = bill("Cinema", 7L, null, 5);
+        InvoiceImportItemDTO invoiceByFileId = invoice(10L, null, 2);
+
+        Map<Long, List<Integer>> billLinesByCard = new HashMap<>();
+        when(importBillsInBulk.execute(any(BillBulkImportRequestDTO.class), any(ImportProgressListener.class)))
+                .thenAnswer(invocation -> {
+                    BillBulkImportRequestDTO request = invocation.getArgument(0);
+                    synchronized (billLinesByCard) {
+                        for (BillImportItemDTO item : request.getItems()) {
+                            billLinesByCard.computeIfAbsent(item.getCreditCardId() == null ? 0L : item.getCreditCardId(),
+                                    key -> new ArrayList<>()).add(item.getLineNumber());
+                        }
+                    }
+                    int size = request.getItems().size();
+                    return new BillImportResultDTO(size, size, 0, 0, null, null, null);
+                });
+        when(importInvoicesInBulk.execute(any(InvoiceBulkImportRequestDTO.class), any(ImportProgressListener.class)))
+                .thenAnswer(invocation -> {
+                    InvoiceBulkImportRequestDTO request = invocation.getArgument(0);
+                    int size = request.getItems().size();
+                    return new InvoiceImportResultDTO(size, size, 0, 0, null, null, null);
+                });
+
+        UnifiedImportService.UnifiedImportResult parsed = new UnifiedImportService.UnifiedImportResult();
+        parsed.setCreditCards(List.of(nubank, inter));
+        parsed.setBills(List.of(billByFileId, billByName, billStandalone, billExistingCard));
+        parsed.setInvoices(List.of(invoiceByFileId));
+
+        // When
+        Map<String, Object> result = importUnifiedData.execute(parsed, "SKIP");
+
+        // Then: Each bill went to the group of its resolved card
+        assertThat(billLinesByCard).containsOnly(
+                Map.entry(100L, List.of(2)),
+                Map.entry(55L, List.of(3)),
+                Map.entry(0L, List.of(4)),
+                Map.entry(7L, List.of(5)));
+
+        ArgumentCaptor<InvoiceBulkImportRequestDTO> invoiceCaptor = ArgumentCaptor.forClass(InvoiceBulkImportRequestDTO.class);
+        verify(importInvoicesInBulk).execute(invoiceCaptor.capture(), any(ImportProgressListener.class));
+        assertThat(invoiceCaptor.getValue().getItems()).singleElement()
+                .satisfies(item -> assertThat(item.getCreditCardId()).isEqualTo(100L));
+
+        BillImportResultDTO billsResult = (BillImportResultDTO) result.get("bills");
+        assertThat(billsResult.getTotalCreated()).isEqualTo(4);
+        assertThat(billsResult.getTotalProcessed()).isEqualTo(4);
+        assertThat(result.get("creditCardIdMapping")).isEqualTo(Map.of(10L, 100L, 11L, 55L));
+        verifyNoInteractions(creditCardRepository);
+    }
+
+    @Test
+    @DisplayName("Should report rows referencing unknown card names as errors")
+    void shouldReportUnknownCardNamesAsErrors() {
+        // Given: No cards in the file and no card named "Inexistente" in the database
+        when(creditCardRepository.findByName("Inexistente")).thenReturn(Optional.empty());
+
+        UnifiedImportService.UnifiedImportResult parsed = new UnifiedImportService.UnifiedImportResult();
+        parsed.setBills(List.of(bill("Mercado", null, "Inexistente", 2)));
+
+        // When
+        Map<String, Object> result = importUnifiedData.execute(parsed, "SKIP");
+
+        // Then: The bill is not imported and is reported against its line
+        verifyNoInteractions(importBillsInBulk, importInvoicesInBulk, importCreditCardsInBulk);
+        BillImportResultDTO billsResult = (BillImportResultDTO) result.get("bills");
+        assertThat(billsResult.getTotalErrors()).isEqualTo(1);
+        assertThat(billsResult.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLineNumber()).isEqualTo(2);
+            assertThat(error.getMessage()).contains("Inexistente");
+        });
+    }
+
+    private static CreditCardImportItemDTO card(String name, Long sourceId, int lineNumber) {
+        CreditCardImportItemDTO item = new CreditCardImportItemDTO(name, new BigDecimal("5000.00"), 10, 17, true, lineNumber);
+        item.setSourceId(sourceId);
+        return item;
+    }
+
+    private static BillImportItemDTO bill(String name, Long creditCardId, String creditCardName, int lineNumber) {
+        BillImportItemDTO item = new BillImportItemDTO(name, null, LocalDateTime.of(2025, 1, 15, 10, 0),
+                new BigDecimal("100.00"), 1, false, creditCardId, lineNumber);
+        item.setCreditCardName(creditCardName);
+        return item;
+    }
+
+    private static InvoiceImportItemDTO invoice(Long creditCardId, String creditCardName, int lineNumber) {
+        InvoiceImportItemDTO item = new InvoiceImportItemDTO(creditCardId, LocalDate.of(2025, 2, 1),
+                new BigDecimal("100.00"), BigDecimal.ZERO, false, false, lineNumber);
+        item.setCreditCardName(creditCardName);
+        return item;
+    }
+}
@@ -0,0 +1,108 @@
+package com.truebalance.truebalance.domain.usecase.invoice;
+
+import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort;
+import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort.PaymentTotals;
+import com.truebalance.truebalance.domain.usecase.CloseDueInvoices;
+import com.truebalance.truebalance.util.TestDataBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CloseDueInvoices use case.
+ *
+ * Business Rules Tested:
+ * - BR-I-012: finalAmount = totalAmount - partialPaymentsTotal
+ * - BR-I-016: Credit (negative finalAmount) carried over to the next invoice
+ * - BR-I-017: Unpaid balance carried over to the next invoice
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CloseDueInvoices Use Case Tests")
+class CloseDueInvoicesTest {
+
+    @Mock
+    private InvoiceRepositoryPort invoiceRepository;
+
+    @Mock
+    private PartialPaymentRepositoryPort partialPaymentRepository;
+
+    @InjectMocks
+    private CloseDueInvoices useCase;
+
+    @Captor
+    private ArgumentCaptor<List<Invoice>> savedCaptor;
+
+    @Test
+    @DisplayName("Should close consecutive months of a card and carry balances in one save")
+    void shouldCloseBatchAndCarryOverBalances() {
+        // Given: January (1000, 300 paid) and February (500, 800 paid) of card 1, both due
+        Invoice january = TestDataBuilder.createInvoice(1L, 1L, LocalDate.of(2025, 1, 1), new BigDecimal("1000.00"));
+        Invoice february = TestDataBuilder.createInvoice(2L, 1L, LocalDate.of(2025, 2, 1), new BigDecimal("500.00"));
+        Invoice februaryCopy = TestDataBuilder.createInvoice(2L, 1L, LocalDate.of(2025, 2, 1), new BigDecimal("500.00"));
+
+        when(invoiceRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(february, january));
+        when(partialPaymentRepository.summarizeByInvoiceIds(List.of(1L, 2L))).thenReturn(Map.of(
+                1L, new PaymentTotals(1, new BigDecimal("300.00")),
+                2L, new PaymentTotals(2, new BigDecimal("800.00"))));
+        when(invoiceRepository.findByCreditCardIdsAndReferenceMonths(anyList(), anyList()))
+                .thenReturn(List.of(februaryCopy));
+
+        // When
+        CloseDueInvoices.BatchResult result = useCase.closeBatch(List.of(2L, 1L));
+
+        // Then: January unpaid, 700 carried into February; February paid, -300 credit into a new March
+        assertThat(result).isEqualTo(new CloseDueInvoices.BatchResult(2, 0, 2));
+        verify(invoiceRepository).saveAll(savedCaptor.capture());
+        List<Invoice> saved = savedCaptor.getValue();
+        assertThat(saved).hasSize(3);
+
+        assertThat(saved.get(0)).isSameAs(january);
+        assertThat(january.isClosed()).isTrue();
+        assertThat(january.isPaid()).isFalse();
+
+        assertThat(saved.get(1)).isSameAs(february);
+        assertThat(february.isClosed()).isTrue();
+        assertThat(february.isPaid()).isTrue();
+        assertThat(february.getPreviousBalance()).isEqualByComparingTo("700.00");
+
+        Invoice march = saved.get(2);
+        assertThat(march.getId()).isNull();
+        assertThat(march.getReferenceMonth()).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(march.getPreviousBalance()).isEqualByComparingTo("-300.00");
+        assertThat(march.isClosed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should skip invoices already closed, so a re-run changes nothing")
+    void shouldSkipAlreadyClosedInvoices() {
+        // Given
+        Invoice closed = TestDataBuilder.createInvoice(1L, 1L, LocalDate.of(2025, 1, 1), new BigDecimal("1000.00"));
+        closed.setClosed(true);
+        when(invoiceRepository.findAllById(List.of(1L, 99L))).thenReturn(List.of(closed));
+
+        // When
+        CloseDueInvoices.BatchResult result = useCase.closeBatch(List.of(1L, 99L));
+
+        // Then
+        assertThat(result).isEqualTo(new CloseDueInvoices.BatchResult(0, 2, 0));
+        verify(invoiceRepository, never()).saveAll(any());
+        verifyNoInteractions(partialPaymentRepository);
+    }
+}
@@ -0,0 +1,83 @@
+package com.truebalance.truebalance.domain.usecase.invoice;
+
+import com.truebalance.truebalance.application.dto.output.InvoiceBalanceDTO;
+import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort;
+import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort.PaymentTotals;
+import com.truebalance.truebalance.domain.usecase.GetInvoiceBalances;
+import com.truebalance.truebalance.util.TestDataBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GetInvoiceBalances use case.
+ *
+ * Business Rules Tested:
+ * - BR-I-011: Current balance = totalAmount + previousBalance - partialPaymentsTotal
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetInvoiceBalances Use Case Tests")
+class GetInvoiceBalancesTest {
+
+    @Mock
+    private InvoiceRepositoryPort invoiceRepository;
+
+    @Mock
+    private PartialPaymentRepositoryPort partialPaymentRepository;
+
+    @InjectMocks
+    private GetInvoiceBalances useCase;
+
+    @Test
+    @DisplayName("Should return balances of invoices from different cards in request order with two queries")
+    void shouldReturnBalancesInRequestOrder() {
+        // Given: Invoices of two cards, one with payments; ID 99 does not exist
+        Invoice first = TestDataBuilder.createInvoice(1L, 1L, LocalDate.of(2025, 1, 1), new BigDecimal("1000.00"));
+        Invoice second = TestDataBuilder.createInvoice(2L, 2L, LocalDate.of(2025, 2, 1), new BigDecimal("400.00"));
+        second.setPreviousBalance(new BigDecimal("50.00"));
+        List<Long> ids = List.of(2L, 99L, 1L);
+
+        when(invoiceRepository.findAllById(ids)).thenReturn(List.of(first, second));
+        when(partialPaymentRepository.summarizeByInvoiceIds(ids))
+                .thenReturn(Map.of(1L, new PaymentTotals(2, new BigDecimal("300.00"))));
+
+        // When
+        List<InvoiceBalanceDTO> result = useCase.execute(ids);
+
+        // Then
+        assertThat(result).extracting(InvoiceBalanceDTO::getInvoiceId).containsExactly(2L, 1L);
+        assertThat(result.get(0).getCurrentBalance()).isEqualByComparingTo("450.00");
+        assertThat(result.get(0).getPartialPaymentsCount()).isZero();
+        assertThat(result.get(1).getCurrentBalance()).isEqualByComparingTo("700.00");
+        assertThat(result.get(1).getPartialPaymentsCount()).isEqualTo(2);
+        verify(invoiceRepository, never()).findById(any());
+        verify(partialPaymentRepository, never()).sumByInvoiceId(any());
+    }
+
+    @Test
+    @DisplayName("Should reject more IDs than the per-call maximum")
+    void shouldRejectTooManyIds() {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(1, GetInvoiceBalances.MAX_INVOICES + 1).boxed().toList();
+
+        // When & Then
+        assertThatThrownBy(() -> useCase.execute(ids)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(invoiceRepository, partialPaymentRepository);
+    }
+}
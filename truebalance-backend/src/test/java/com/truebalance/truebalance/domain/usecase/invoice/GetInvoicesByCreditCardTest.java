@@ -1,20 +1,26 @@
 package com.truebalance.truebalance.domain.usecase.invoice;
 
+import com.truebalance.truebalance.domain.entity.CreditCard;
 import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
 import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.service.InstallmentDateCalculator;
 import com.truebalance.truebalance.domain.usecase.GetInvoicesByCreditCard;
+import com.truebalance.truebalance.domain.usecase.PregenerateInvoices;
 import com.truebalance.truebalance.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
@@ -31,9 +37,18 @@ class GetInvoicesByCreditCardTest {
     @Mock
     private InvoiceRepositoryPort invoiceRepository;
 
-    @InjectMocks
+    @Mock
+    private CreditCardRepositoryPort creditCardRepository;
+
+    private final InstallmentDateCalculator installmentDateCalculator = new InstallmentDateCalculator();
+
     private GetInvoicesByCreditCard useCase;
 
+    @BeforeEach
+    void setUp() {
+        useCase = new GetInvoicesByCreditCard(invoiceRepository, creditCardRepository, installmentDateCalculator);
+    }
+
     // ==================== Happy Path Tests ====================
 
     @Test
@@ -220,4 +235,28 @@ class GetInvoicesByCreditCardTest {
         assertThat(result).hasSize(2);
         assertThat(result).allMatch(invoice -> invoice.getCreditCardId().equals(creditCardId));
     }
+
+    @Test
+    @DisplayName("Should leave out the empty invoices pre-created for coming months")
+    void shouldLeaveOutPregeneratedInvoices() {
+        // Given: The invoice of the current month of the card, an empty later one, and later ones
+        // with a purchase or a carry-over
+        Long creditCardId = 1L;
+        CreditCard card = TestDataBuilder.createCreditCard(creditCardId, "Card", new BigDecimal("1000.00"), 10, 17);
+        LocalDate thisMonth = PregenerateInvoices.currentMonth(card, installmentDateCalculator, LocalDateTime.now());
+        when(creditCardRepository.findById(creditCardId)).thenReturn(Optional.of(card));
+        Invoice current = TestDataBuilder.createInvoice(1L, creditCardId, thisMonth, BigDecimal.ZERO);
+        Invoice empty = TestDataBuilder.createInvoice(2L, creditCardId, thisMonth.plusMonths(1), BigDecimal.ZERO);
+        Invoice charged = TestDataBuilder.createInvoice(3L, creditCardId, thisMonth.plusMonths(2), new BigDecimal("100.00"));
+        Invoice carriedOver = TestDataBuilder.createInvoice(4L, creditCardId, thisMonth.plusMonths(1), BigDecimal.ZERO);
+        carriedOver.setPreviousBalance(new BigDecimal("50.00"));
+
+        when(invoiceRepository.findByCreditCardId(creditCardId)).thenReturn(List.of(current, empty, charged, carriedOver));
+
+        // When
+        List<Invoice> result = useCase.execute(creditCardId);
+
+        // Then
+        assertThat(result).containsExactly(current, charged, carriedOver);
+    }
 }
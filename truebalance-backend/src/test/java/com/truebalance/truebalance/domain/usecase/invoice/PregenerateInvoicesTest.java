@@ -0,0 +1,96 @@
+package com.truebalance.truebalance.domain.usecase.invoice;
+
+import com.truebalance.truebalance.domain.entity.CreditCard;
+import com.truebalance.truebalance.domain.entity.Invoice;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort.CardMonth;
+import com.truebalance.truebalance.domain.service.InstallmentDateCalculator;
+import com.truebalance.truebalance.domain.usecase.PregenerateInvoices;
+import com.truebalance.truebalance.util.TestDataBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PregenerateInvoices use case.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PregenerateInvoices Use Case Tests")
+class PregenerateInvoicesTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2025, 1, 1);
+    private static final LocalDate FEBRUARY = LocalDate.of(2025, 2, 1);
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 1);
+
+    @Mock
+    private InvoiceRepositoryPort invoiceRepository;
+
+    @InjectMocks
+    private PregenerateInvoices useCase;
+
+    @Captor
+    private ArgumentCaptor<List<CardMonth>> cardMonthsCaptor;
+
+    @Test
+    @DisplayName("Should insert only the months without invoice, in card and month order")
+    void shouldInsertMissingMonths() {
+        // Given: Card 1 has February, card 2 has nothing
+        when(invoiceRepository.findCardMonths(List.of(1L, 2L), JANUARY, MARCH))
+                .thenReturn(List.of(new CardMonth(1L, FEBRUARY)));
+        when(invoiceRepository.insertEmpty(anyList())).thenReturn(5);
+
+        // When
+        int created = useCase.execute(List.of(1L, 2L), LocalDate.of(2025, 1, 20), 3);
+
+        // Then
+        assertThat(created).isEqualTo(5);
+        verify(invoiceRepository).insertEmpty(cardMonthsCaptor.capture());
+        assertThat(cardMonthsCaptor.getValue()).containsExactly(
+                new CardMonth(1L, JANUARY), new CardMonth(1L, MARCH),
+                new CardMonth(2L, JANUARY), new CardMonth(2L, FEBRUARY), new CardMonth(2L, MARCH));
+    }
+
+    @Test
+    @DisplayName("Should do nothing without cards")
+    void shouldDoNothingWithoutCards() {
+        // When
+        int created = useCase.execute(List.of(), JANUARY, 24);
+
+        // Then
+        assertThat(created).isZero();
+        verifyNoInteractions(invoiceRepository);
+    }
+
+    @Test
+    @DisplayName("Should measure the current month from the closing day of the card")
+    void shouldUseClosingDayForCurrentMonth() {
+        // Given: A card closing on the 10th, with an empty March invoice
+        CreditCard card = TestDataBuilder.createCreditCard(1L, "Card", new BigDecimal("1000.00"), 10, 17);
+        InstallmentDateCalculator calculator = new InstallmentDateCalculator();
+        Invoice march = TestDataBuilder.createInvoice(1L, 1L, MARCH, BigDecimal.ZERO);
+
+        // When
+        LocalDate beforeClosing = PregenerateInvoices.currentMonth(card, calculator, LocalDateTime.of(2025, 2, 9, 12, 0));
+        LocalDate afterClosing = PregenerateInvoices.currentMonth(card, calculator, LocalDateTime.of(2025, 2, 10, 12, 0));
+
+        // Then: From the closing day on, March is the open invoice, not a placeholder
+        assertThat(beforeClosing).isEqualTo(FEBRUARY);
+        assertThat(afterClosing).isEqualTo(MARCH);
+        assertThat(PregenerateInvoices.isPlaceholder(march, beforeClosing)).isTrue();
+        assertThat(PregenerateInvoices.isPlaceholder(march, afterClosing)).isFalse();
+    }
+}
@@ -6,6 +6,7 @@ import com.truebalance.truebalance.domain.entity.PartialPayment;
 import com.truebalance.truebalance.domain.port.CreditCardRepositoryPort;
 import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort;
 import com.truebalance.truebalance.domain.port.PartialPaymentRepositoryPort;
+import com.truebalance.truebalance.domain.service.MonthlyCardSummaries;
 import com.truebalance.truebalance.domain.usecase.AvailableLimitResult;
 import com.truebalance.truebalance.domain.usecase.GetAvailableLimit;
 import com.truebalance.truebalance.domain.usecase.RegisterPartialPayment;
@@ -55,6 +56,9 @@ class RegisterPartialPaymentTest {
     @Mock
     private GetAvailableLimit getAvailableLimit;
 
+    @Mock
+    private MonthlyCardSummaries monthlyCardSummaries;
+
     @Captor
     private ArgumentCaptor<PartialPayment> partialPaymentCaptor;
 
@@ -66,7 +70,8 @@ class RegisterPartialPaymentTest {
                 partialPaymentRepository,
                 invoiceRepository,
                 creditCardRepository,
-                getAvailableLimit
+                getAvailableLimit,
+                monthlyCardSummaries
         );
 
         // Default stub for getAvailableLimit - tests can override if needed
@@ -0,0 +1,84 @@
+package com.truebalance.truebalance.infra.db.adapter;
+
+import com.truebalance.truebalance.domain.port.ClusterLockPort.ClusterLock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for AdvisoryLockAdapter.
+ *
+ * The PostgreSQL test runs only when TRUEBALANCE_TEST_POSTGRES_URL points at a database (user and
+ * password in TRUEBALANCE_TEST_POSTGRES_USER / _PASSWORD); two adapters on separate data sources
+ * play two instances of the application.
+ */
+@DisplayName("AdvisoryLockAdapter Tests")
+class AdvisoryLockAdapterTest {
+
+    @Test
+    @DisplayName("Should fall back to locks local to the JVM on databases without advisory locks")
+    void shouldUseLocalLocksOnH2() {
+        // Given
+        AdvisoryLockAdapter adapter = new AdvisoryLockAdapter(
+                new DriverManagerDataSource("jdbc:h2:mem:advisory-lock-test", "sa", ""));
+
+        // When
+        Optional<ClusterLock> first = adapter.tryLock("job-a");
+
+        // Then: Held until closed
+        assertThat(first).isPresent();
+        assertThat(adapter.tryLock("job-a")).isEmpty();
+        assertThat(adapter.isLocked("job-a")).isTrue();
+        assertThat(adapter.isLocked("job-b")).isFalse();
+
+        first.get().close();
+        first.get().close();
+        assertThat(adapter.isLocked("job-a")).isFalse();
+        Optional<ClusterLock> again = adapter.tryLock("job-a");
+        assertThat(again).isPresent();
+        again.get().close();
+    }
+
+    @Test
+    @DisplayName("Should map the same name to the same key on every instance")
+    void shouldComputeStableKeys() {
+        assertThat(AdvisoryLockAdapter.key("invoice-closing-shard-3"))
+                .isEqualTo(AdvisoryLockAdapter.key("invoice-closing-shard-3"))
+                .isNotEqualTo(AdvisoryLockAdapter.key("invoice-closing-shard-4"));
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "TRUEBALANCE_TEST_POSTGRES_URL", matches = ".+")
+    @DisplayName("Should exclude other instances with PostgreSQL advisory locks")
+    void shouldExcludeOtherInstancesOnPostgres() {
+        // Given: Two instances on the same database
+        AdvisoryLockAdapter node1 = new AdvisoryLockAdapter(postgresDataSource());
+        AdvisoryLockAdapter node2 = new AdvisoryLockAdapter(postgresDataSource());
+
+        // When
+        Optional<ClusterLock> lock = node1.tryLock("advisory-lock-test");
+
+        // Then: The other instance sees it held until it is released
+        assertThat(lock).isPresent();
+        assertThat(node2.tryLock("advisory-lock-test")).isEmpty();
+        assertThat(node2.isLocked("advisory-lock-test")).isTrue();
+
+        lock.get().close();
+        assertThat(node2.isLocked("advisory-lock-test")).isFalse();
+        Optional<ClusterLock> taken = node2.tryLock("advisory-lock-test");
+        assertThat(taken).isPresent();
+        taken.get().close();
+    }
+
+    private static DriverManagerDataSource postgresDataSource() {
+        return new DriverManagerDataSource(
+                System.getenv("TRUEBALANCE_TEST_POSTGRES_URL"),
+                System.getenv().getOrDefault("TRUEBALANCE_TEST_POSTGRES_USER", "postgres"),
+                System.getenv().getOrDefault("TRUEBALANCE_TEST_POSTGRES_PASSWORD", "postgres"));
+    }
+}
@@ -2,8 +2,18 @@ package com.truebalance.truebalance.integration;
 
 import com.truebalance.truebalance.application.dto.input.BillRequestDTO;
 import com.truebalance.truebalance.application.dto.input.CreditCardRequestDTO;
+import com.truebalance.truebalance.application.dto.input.InvoiceBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.InvoiceImportItemDTO;
 import com.truebalance.truebalance.application.dto.output.BillResponseDTO;
 import com.truebalance.truebalance.application.dto.output.CreditCardResponseDTO;
+import com.truebalance.truebalance.application.dto.output.MonthlyCardSummaryDTO;
+import com.truebalance.truebalance.domain.port.InvoiceRepositoryPort.TotalMismatch;
+import com.truebalance.truebalance.domain.service.RecurringBillJob;
+import com.truebalance.truebalance.domain.usecase.CheckInvoiceTotals;
+import com.truebalance.truebalance.domain.usecase.MaterializeRecurringBills;
+import com.truebalance.truebalance.domain.usecase.PregenerateInvoices;
+import com.truebalance.truebalance.infra.db.entity.BillEntity;
+import com.truebalance.truebalance.infra.db.entity.InvoiceEntity;
 import com.truebalance.truebalance.infra.db.repository.BillRepository;
 import com.truebalance.truebalance.infra.db.repository.InstallmentRepository;
 import com.truebalance.truebalance.infra.db.repository.InvoiceRepository;
@@ -18,7 +28,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -48,6 +61,15 @@ class BillCreditCardIntegrationTest {
     @Autowired
     private com.truebalance.truebalance.infra.db.repository.CreditCardRepository creditCardRepository;
 
+    @Autowired
+    private RecurringBillJob recurringBillJob;
+
+    @Autowired
+    private PregenerateInvoices pregenerateInvoices;
+
+    @Autowired
+    private CheckInvoiceTotals checkInvoiceTotals;
+
     @BeforeEach
     void setUp() {
         // Clean database before each test
@@ -407,4 +429,182 @@ class BillCreditCardIntegrationTest {
         assertThat(billResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
         assertThat(billResponse.getBody().getInstallmentAmount()).isEqualByComparingTo("333.33");
     }
+
+    @Test
+    @DisplayName("E2E: Should materialize a recurring card bill once per month and catch up missed months")
+    void shouldMaterializeRecurringBillOncePerMonth() {
+        // Given: A monthly subscription of 50.00 charged to a card
+        CreditCardRequestDTO cardRequest = new CreditCardRequestDTO("Streaming Card", new BigDecimal("1000.00"), 10, 17, true);
+        Long creditCardId = restTemplate.postForEntity("/credit-cards", cardRequest, CreditCardResponseDTO.class)
+                .getBody().getId();
+        BillRequestDTO billRequest = new BillRequestDTO("Streaming", LocalDateTime.of(2025, 1, 31, 9, 0),
+                new BigDecimal("50.00"), 1, "Assinatura mensal", true, creditCardId);
+        Long templateId = restTemplate.postForEntity("/bills", billRequest, BillResponseDTO.class).getBody().getId();
+
+        // When: The job runs twice in February
+        MaterializeRecurringBills.Result first = recurringBillJob.run(LocalDate.of(2025, 2, 3)).orElseThrow();
+        MaterializeRecurringBills.Result second = recurringBillJob.run(LocalDate.of(2025, 2, 20)).orElseThrow();
+
+        // Then: One occurrence on the last day of February, with its installment on the card
+        assertThat(first.created()).isEqualTo(1);
+        assertThat(second.created()).isZero();
+        assertThat(second.alreadyMaterialized()).isEqualTo(1);
+
+        List<BillEntity> occurrences = billRepository.findAll().stream()
+                .filter(bill -> templateId.equals(bill.getRecurringSourceId()))
+                .toList();
+        assertThat(occurrences).hasSize(1);
+        assertThat(occurrences.get(0).getExecutionDate()).isEqualTo(LocalDateTime.of(2025, 2, 28, 9, 0));
+        assertThat(occurrences.get(0).getRecurrencePeriod()).isEqualTo(LocalDate.of(2025, 2, 1));
+        assertThat(occurrences.get(0).getIsRecurring()).isFalse();
+        assertThat(installmentRepository.findByBillIdOrderByInstallmentNumberAsc(occurrences.get(0).getId()))
+                .singleElement()
+                .satisfies(installment -> assertThat(installment.getCreditCardId()).isEqualTo(creditCardId));
+
+        // And: A run in April after none in March catches both months up
+        MaterializeRecurringBills.Result april = recurringBillJob.run(LocalDate.of(2025, 4, 2)).orElseThrow();
+        assertThat(april.created()).isEqualTo(2);
+        assertThat(billRepository.findAll())
+                .filteredOn(bill -> templateId.equals(bill.getRecurringSourceId()))
+                .extracting(BillEntity::getRecurrencePeriod)
+                .containsExactlyInAnyOrder(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 3, 1), LocalDate.of(2025, 4, 1));
+    }
+
+    @Test
+    @DisplayName("E2E: Should not backfill a recurring bill entered long before the job first ran")
+    void shouldNotBackfillOldRecurringBill() {
+        // Given: A subscription marked recurring in June 2024, never materialized
+        CreditCardRequestDTO cardRequest = new CreditCardRequestDTO("Old Card", new BigDecimal("5000.00"), 10, 17, true);
+        Long creditCardId = restTemplate.postForEntity("/credit-cards", cardRequest, CreditCardResponseDTO.class)
+                .getBody().getId();
+        BillRequestDTO billRequest = new BillRequestDTO("Academia", LocalDateTime.of(2024, 6, 5, 9, 0),
+                new BigDecimal("90.00"), 1, null, true, creditCardId);
+        Long templateId = restTemplate.postForEntity("/bills", billRequest, BillResponseDTO.class).getBody().getId();
+
+        // When: The job first runs in March 2025
+        MaterializeRecurringBills.Result result = recurringBillJob.run(LocalDate.of(2025, 3, 3)).orElseThrow();
+
+        // Then: Only March is created, and no invoice between July 2024 and February 2025 is charged
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(billRepository.findAll())
+                .filteredOn(bill -> templateId.equals(bill.getRecurringSourceId()))
+                .extracting(BillEntity::getRecurrencePeriod)
+                .containsExactly(LocalDate.of(2025, 3, 1));
+        assertThat(invoiceRepository.findByCreditCardIdOrderByReferenceMonthDesc(creditCardId))
+                .extracting(InvoiceEntity::getReferenceMonth)
+                .containsExactlyInAnyOrder(LocalDate.of(2024, 6, 1), LocalDate.of(2025, 3, 1));
+    }
+
+    @Test
+    @DisplayName("E2E: Should keep the monthly card summary in step with bills and rebuild it")
+    void shouldMaintainMonthlyCardSummary() {
+        // Given: A 300.00 purchase in January, in three installments
+        CreditCardResponseDTO card = restTemplate.postForEntity("/credit-cards",
+                new CreditCardRequestDTO("Resumo", new BigDecimal("5000.00"), 10, 17, true),
+                CreditCardResponseDTO.class).getBody();
+        Long creditCardId = card.getId();
+        BillResponseDTO bill = restTemplate.postForEntity("/bills", new BillRequestDTO(
+                "Compra", LocalDateTime.of(2025, 1, 15, 10, 0), new BigDecimal("300.00"), 3, null, creditCardId),
+                BillResponseDTO.class).getBody();
+        String url = "/reports/monthly-card-summary?creditCardId=" + creditCardId + "&from=2025-01-01&to=2025-12-31";
+
+        // When
+        ResponseEntity<MonthlyCardSummaryDTO[]> response = restTemplate.getForEntity(url, MonthlyCardSummaryDTO[].class);
+
+        // Then: The purchase counts in January, the installments in their due months
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<MonthlyCardSummaryDTO> summaries = List.of(response.getBody());
+        assertThat(summaries.get(0).getMonth()).isEqualTo(LocalDate.of(2025, 1, 1));
+        assertThat(summaries.get(0).getPurchasesTotal()).isEqualByComparingTo("300.00");
+        assertThat(summaries.get(0).getPurchasesCount()).isEqualTo(1);
+        assertThat(summaries.stream().map(MonthlyCardSummaryDTO::getInstallmentsTotal).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo("300.00");
+
+        // When: The bill is deleted
+        restTemplate.delete("/bills/" + bill.getId());
+
+        // Then: Its amounts are taken out again
+        assertThat(restTemplate.getForObject(url, MonthlyCardSummaryDTO[].class)).allSatisfy(summary -> {
+            assertThat(summary.getPurchasesTotal()).isZero();
+            assertThat(summary.getInstallmentsTotal()).isZero();
+            assertThat(summary.getPurchasesCount()).isZero();
+        });
+
+        // And: A rebuild agrees, leaving no rows for the card
+        assertThat(restTemplate.postForEntity("/reports/monthly-card-summary/rebuild", null, String.class)
+                .getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(restTemplate.getForObject(url, MonthlyCardSummaryDTO[].class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("E2E: Should pre-create the invoices of the coming months once and charge purchases to them")
+    void shouldPregenerateInvoices() {
+        // Given
+        Long creditCardId = restTemplate.postForEntity("/credit-cards",
+                new CreditCardRequestDTO("Horizonte", new BigDecimal("5000.00"), 10, 17, true),
+                CreditCardResponseDTO.class).getBody().getId();
+
+        // When: Pre-generated twice for 24 months from January
+        int first = pregenerateInvoices.execute(List.of(creditCardId), LocalDate.of(2025, 1, 10), 24);
+        int second = pregenerateInvoices.execute(List.of(creditCardId), LocalDate.of(2025, 1, 20), 24);
+
+        // Then
+        assertThat(first).isEqualTo(24);
+        assertThat(second).isZero();
+        assertThat(invoiceRepository.findAll()).hasSize(24).allSatisfy(invoice -> {
+            assertThat(invoice.getCreditCardId()).isEqualTo(creditCardId);
+            assertThat(invoice.getTotalAmount()).isZero();
+            assertThat(invoice.isClosed()).isFalse();
+        });
+
+        // When: A purchase in three installments
+        restTemplate.postForEntity("/bills", new BillRequestDTO(
+                "Compra", LocalDateTime.of(2025, 1, 15, 10, 0), new BigDecimal("300.00"), 3, null, creditCardId),
+                BillResponseDTO.class);
+
+        // Then: Its installments went to invoices that already existed
+        assertThat(invoiceRepository.findAll()).hasSize(24);
+        assertThat(invoiceRepository.findAll().stream().map(InvoiceEntity::getTotalAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add)).isEqualByComparingTo("300.00");
+    }
+
+    @Test
+    @DisplayName("E2E: Should keep the imported total of an invoice when checking and repairing totals")
+    void shouldKeepImportedTotalWhenRepairingInvoices() {
+        // Given: Invoices imported for the whole year, 100.00 each
+        Long creditCardId = restTemplate.postForEntity("/credit-cards",
+                new CreditCardRequestDTO("Importado", new BigDecimal("5000.00"), 10, 17, true),
+                CreditCardResponseDTO.class).getBody().getId();
+        List<InvoiceImportItemDTO> items = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            items.add(new InvoiceImportItemDTO(creditCardId, LocalDate.of(2025, month, 1),
+                    new BigDecimal("100.00"), BigDecimal.ZERO, false, false, month));
+        }
+        assertThat(restTemplate.postForEntity("/invoices/bulk-import",
+                new InvoiceBulkImportRequestDTO(items, InvoiceBulkImportRequestDTO.DuplicateStrategy.SKIP),
+                String.class).getStatusCode().is2xxSuccessful()).isTrue();
+
+        // And: A purchase charged on top of one of them
+        restTemplate.postForEntity("/bills", new BillRequestDTO(
+                "Compra", LocalDateTime.of(2025, 3, 5, 10, 0), new BigDecimal("50.00"), 1, null, creditCardId),
+                BillResponseDTO.class);
+        Long invoiceId = installmentRepository.findAll().get(0).getInvoiceId();
+        assertThat(invoiceRepository.findById(invoiceId).orElseThrow().getTotalAmount()).isEqualByComparingTo("150.00");
+
+        // Then: Imported total plus installments is consistent
+        assertThat(checkInvoiceTotals.check(creditCardId, creditCardId)).isEmpty();
+
+        // When: The total drifts and is repaired
+        InvoiceEntity invoice = invoiceRepository.findById(invoiceId).orElseThrow();
+        invoice.setTotalAmount(new BigDecimal("50.00"));
+        invoiceRepository.save(invoice);
+        List<TotalMismatch> mismatches = checkInvoiceTotals.check(creditCardId, creditCardId);
+        checkInvoiceTotals.repair(List.of(invoiceId));
+
+        // Then: The imported 100.00 is kept
+        assertThat(mismatches).singleElement()
+                .satisfies(mismatch -> assertThat(mismatch.installmentsTotal()).isEqualByComparingTo("150.00"));
+        assertThat(invoiceRepository.findById(invoiceId).orElseThrow().getTotalAmount()).isEqualByComparingTo("150.00");
+    }
 }
+
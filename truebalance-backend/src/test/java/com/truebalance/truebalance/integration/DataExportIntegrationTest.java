@@ -0,0 +1,137 @@
+package com.truebalance.truebalance.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truebalance.truebalance.application.dto.input.BillRequestDTO;
+import com.truebalance.truebalance.application.dto.input.CreditCardRequestDTO;
+import com.truebalance.truebalance.application.dto.output.CreditCardResponseDTO;
+import com.truebalance.truebalance.infra.db.repository.BillRepository;
+import com.truebalance.truebalance.infra.db.repository.CreditCardRepository;
+import com.truebalance.truebalance.infra.db.repository.InstallmentRepository;
+import com.truebalance.truebalance.infra.db.repository.InvoiceRepository;
+import com.truebalance.truebalance.infra.db.repository.PartialPaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end tests for the streaming exports (GET /export/{dataset}) against H2.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Data Export Integration Tests")
+class DataExportIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BillRepository billRepository;
+
+    @Autowired
+    private InstallmentRepository installmentRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private PartialPaymentRepository partialPaymentRepository;
+
+    @Autowired
+    private CreditCardRepository creditCardRepository;
+
+    @BeforeEach
+    void setUp() {
+        partialPaymentRepository.deleteAll();
+        installmentRepository.deleteAll();
+        billRepository.deleteAll();
+        invoiceRepository.deleteAll();
+        creditCardRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("E2E: Should export installments as CSV with a header and one line per row")
+    void shouldExportInstallmentsAsCsv() {
+        // Given: A bill in 3 installments on a card
+        Long creditCardId = createCreditCard();
+        createBillWithCard(creditCardId, "Notebook, 15\"", new BigDecimal("3000.00"), 3);
+
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity("/export/installments?format=CSV", String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).startsWith("text/csv");
+        List<String> lines = response.getBody().lines().toList();
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0)).isEqualTo("id,billId,creditCardId,invoiceId,installmentNumber,amount,dueDate,createdAt");
+        assertThat(lines.get(1)).contains("," + creditCardId + ",").contains(",1,1000.00,");
+    }
+
+    @Test
+    @DisplayName("E2E: Should export bills as gzipped NDJSON")
+    void shouldExportBillsAsGzippedNdjson() throws IOException {
+        // Given
+        Long creditCardId = createCreditCard();
+        createBillWithCard(creditCardId, "Notebook, 15\"", new BigDecimal("3000.00"), 3);
+        createBillWithCard(creditCardId, "Mercado", new BigDecimal("250.50"), 1);
+
+        // When
+        ResponseEntity<byte[]> response = restTemplate.getForEntity("/export/bills?gzip=true", byte[].class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        List<JsonNode> bills = new ArrayList<>();
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            for (String line : new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n")) {
+                bills.add(objectMapper.readTree(line));
+            }
+        }
+        assertThat(bills).hasSize(2);
+        assertThat(bills.get(0).get("name").asText()).isEqualTo("Notebook, 15\"");
+        assertThat(bills.get(1).get("totalAmount").decimalValue()).isEqualByComparingTo("250.50");
+        assertThat(bills.get(1).get("isRecurring").isBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("E2E: Should return 404 for an unknown dataset")
+    void shouldReturnNotFoundForUnknownDataset() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/export/unknown", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private Long createCreditCard() {
+        CreditCardRequestDTO request = new CreditCardRequestDTO("Export Card", new BigDecimal("10000.00"), 10, 17, true);
+        ResponseEntity<CreditCardResponseDTO> response = restTemplate.postForEntity(
+                "/credit-cards", request, CreditCardResponseDTO.class);
+        return response.getBody().getId();
+    }
+
+    private void createBillWithCard(Long creditCardId, String name, BigDecimal amount, int installments) {
+        BillRequestDTO request = new BillRequestDTO(name, LocalDateTime.now(), amount, installments, null, creditCardId);
+        restTemplate.postForEntity("/bills", request, Object.class);
+    }
+}
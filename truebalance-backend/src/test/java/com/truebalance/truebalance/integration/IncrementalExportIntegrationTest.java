@@ -0,0 +1,150 @@
+package com.truebalance.truebalance.integration;
+
+import com.truebalance.truebalance.application.dto.input.BillRequestDTO;
+import com.truebalance.truebalance.application.dto.output.BillResponseDTO;
+import com.truebalance.truebalance.application.dto.output.ChangesResponseDTO;
+import com.truebalance.truebalance.domain.entity.DeletedRecordType;
+import com.truebalance.truebalance.infra.db.repository.BillRepository;
+import com.truebalance.truebalance.infra.db.repository.CreditCardRepository;
+import com.truebalance.truebalance.infra.db.repository.DeletedRecordRepository;
+import com.truebalance.truebalance.infra.db.repository.InstallmentRepository;
+import com.truebalance.truebalance.infra.db.repository.InvoiceRepository;
+import com.truebalance.truebalance.infra.db.repository.PartialPaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end tests for the incremental export (GET /unified/export/changes).
+ * The safety lag is disabled so that rows written by the test are visible right away, and pages
+ * are small so that paging is exercised.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = {"truebalance.export.changes.safety-lag=0s", "truebalance.export.changes.page-size=2"})
+@ActiveProfiles("test")
+@DisplayName("Incremental Export Integration Tests")
+class IncrementalExportIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private BillRepository billRepository;
+
+    @Autowired
+    private InstallmentRepository installmentRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private PartialPaymentRepository partialPaymentRepository;
+
+    @Autowired
+    private CreditCardRepository creditCardRepository;
+
+    @Autowired
+    private DeletedRecordRepository deletedRecordRepository;
+
+    @BeforeEach
+    void setUp() {
+        partialPaymentRepository.deleteAll();
+        installmentRepository.deleteAll();
+        billRepository.deleteAll();
+        invoiceRepository.deleteAll();
+        creditCardRepository.deleteAll();
+        deletedRecordRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("E2E: Should return only rows changed after the watermark, and deletions as tombstones")
+    void shouldReturnOnlyChangesAfterWatermark() {
+        // Given: A first sync with one bill
+        Long firstBillId = createBill("Aluguel");
+        ChangesResponseDTO firstSync = getChanges(null);
+        assertThat(firstSync.getBills()).extracting(BillResponseDTO::getId).containsExactly(firstBillId);
+
+        // When: A new bill is created and the first one deleted
+        Long secondBillId = createBill("Mercado");
+        restTemplate.delete("/bills/" + firstBillId);
+        ChangesResponseDTO secondSync = getChanges(firstSync.getNextWatermark());
+
+        // Then
+        assertThat(secondSync.getSince()).isEqualTo(firstSync.getNextWatermark());
+        assertThat(secondSync.getBills()).extracting(BillResponseDTO::getId).containsExactly(secondBillId);
+        assertThat(secondSync.getDeleted()).hasSize(1);
+        assertThat(secondSync.getDeleted().get(0).getType()).isEqualTo(DeletedRecordType.BILL);
+        assertThat(secondSync.getDeleted().get(0).getId()).isEqualTo(firstBillId);
+
+        // And: Nothing new after that
+        ChangesResponseDTO thirdSync = getChanges(secondSync.getNextWatermark());
+        assertThat(thirdSync.getBills()).isEmpty();
+        assertThat(thirdSync.getDeleted()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("E2E: Should page through a window larger than the page size with the cursor")
+    void shouldPageWithCursor() {
+        // Given: Three bills, pages of two records
+        Long first = createBill("Aluguel");
+        Long second = createBill("Mercado");
+        Long third = createBill("Farmácia");
+
+        // When
+        ChangesResponseDTO firstPage = getChanges(null);
+        ResponseEntity<ChangesResponseDTO> response = restTemplate.getForEntity(
+                "/unified/export/changes?cursor=" + firstPage.getNextCursor(), ChangesResponseDTO.class);
+        ChangesResponseDTO secondPage = response.getBody();
+
+        // Then: The first page points to the second, which closes the window
+        assertThat(firstPage.getBills()).extracting(BillResponseDTO::getId).containsExactly(first, second);
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        assertThat(firstPage.getNextWatermark()).isEqualTo(firstPage.getSince());
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(secondPage.getBills()).extracting(BillResponseDTO::getId).containsExactly(third);
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(secondPage.getNextWatermark()).isAfter(secondPage.getSince());
+    }
+
+    @Test
+    @DisplayName("E2E: Should reject an invalid cursor")
+    void shouldRejectInvalidCursor() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "/unified/export/changes?cursor=nao-e-um-cursor", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("E2E: Should reject an invalid watermark")
+    void shouldRejectInvalidWatermark() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "/unified/export/changes?since=ontem", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private ChangesResponseDTO getChanges(LocalDateTime since) {
+        String url = since != null ? "/unified/export/changes?since=" + since : "/unified/export/changes";
+        ResponseEntity<ChangesResponseDTO> response = restTemplate.getForEntity(url, ChangesResponseDTO.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private Long createBill(String name) {
+        BillRequestDTO request = new BillRequestDTO(name, LocalDateTime.now(), new BigDecimal("100.00"), 1, null, null);
+        ResponseEntity<BillResponseDTO> response = restTemplate.postForEntity("/bills", request, BillResponseDTO.class);
+        return response.getBody().getId();
+    }
+}
@@ -5,7 +5,11 @@ import com.truebalance.truebalance.application.dto.input.CreditCardRequestDTO;
 import com.truebalance.truebalance.application.dto.input.PartialPaymentRequestDTO;
 import com.truebalance.truebalance.application.dto.output.CreditCardResponseDTO;
 import com.truebalance.truebalance.application.dto.output.InvoiceBalanceDTO;
+import com.truebalance.truebalance.application.dto.output.InvoiceConsistencyCheckDTO;
 import com.truebalance.truebalance.application.dto.output.InvoiceResponseDTO;
+import com.truebalance.truebalance.domain.service.InvoiceClosingJob;
+import com.truebalance.truebalance.domain.service.InvoiceClosingRunResult;
+import com.truebalance.truebalance.domain.service.InvoiceConsistencyJob;
 import com.truebalance.truebalance.infra.db.entity.InvoiceEntity;
 import com.truebalance.truebalance.infra.db.repository.BillRepository;
 import com.truebalance.truebalance.infra.db.repository.InstallmentRepository;
@@ -57,6 +61,12 @@ class InvoiceClosingIntegrationTest {
     @Autowired
     private com.truebalance.truebalance.infra.db.repository.CreditCardRepository creditCardRepository;
 
+    @Autowired
+    private InvoiceClosingJob invoiceClosingJob;
+
+    @Autowired
+    private InvoiceConsistencyJob invoiceConsistencyJob;
+
     @BeforeEach
     void setUp() {
         // Clean database before each test
@@ -221,6 +231,88 @@ class InvoiceClosingIntegrationTest {
         assertThat(response.getBody().getPartialPaymentsCount()).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("E2E: Scheduled closing should close due months, carry balances and change nothing on re-run")
+    void shouldCloseDueInvoicesInBatchAndBeSafeToRerun() {
+        // Given: Bill in two installments (two invoices), 300 paid on the first
+        Long creditCardId = createCreditCard("Test Card", new BigDecimal("5000.00"), 10, 17);
+        createBillWithCard(creditCardId, "Purchase", new BigDecimal("2000.00"), 2);
+        List<InvoiceEntity> invoices = invoiceRepository.findByCreditCardIdOrderByReferenceMonthDesc(creditCardId);
+        InvoiceEntity first = invoices.get(1);
+        InvoiceEntity second = invoices.get(0);
+        restTemplate.postForEntity(
+                "/invoices/" + first.getId() + "/partial-payments",
+                new PartialPaymentRequestDTO(new BigDecimal("300.00"), "Partial payment"),
+                Object.class
+        );
+
+        // When: Run on the 28th of the second invoice's month (closing day 10 has passed for both)
+        LocalDate date = second.getReferenceMonth().withDayOfMonth(28);
+        InvoiceClosingRunResult result = invoiceClosingJob.run(date);
+        InvoiceClosingRunResult rerun = invoiceClosingJob.run(date);
+
+        // Then: Both closed; 700 carried into the second, 1000 into a new third month
+        assertThat(result.closed()).isEqualTo(2);
+        assertThat(result.failed()).isZero();
+        assertThat(invoiceRepository.findById(first.getId()).orElseThrow().isClosed()).isTrue();
+        InvoiceEntity secondAfter = invoiceRepository.findById(second.getId()).orElseThrow();
+        assertThat(secondAfter.isClosed()).isTrue();
+        assertThat(secondAfter.getPreviousBalance()).isEqualByComparingTo("700.00");
+        InvoiceEntity third = invoiceRepository.findByCreditCardIdAndReferenceMonth(
+                creditCardId, second.getReferenceMonth().plusMonths(1)).orElseThrow();
+        assertThat(third.isClosed()).isFalse();
+        assertThat(third.getPreviousBalance()).isEqualByComparingTo("1000.00");
+
+        // Then: Re-run finds nothing due and leaves the balances alone
+        assertThat(rerun.due()).isZero();
+        assertThat(invoiceRepository.findById(third.getId()).orElseThrow().getPreviousBalance())
+                .isEqualByComparingTo("1000.00");
+    }
+
+    @Test
+    @DisplayName("E2E: Should embed partial payments and current balance in the invoice list on request")
+    void shouldEmbedBalancesInInvoiceList() {
+        // Given: Bill in two installments, partial payment on the first invoice only
+        Long creditCardId = createCreditCard("Test Card", new BigDecimal("5000.00"), 10, 17);
+        createBillWithCard(creditCardId, "Purchase", new BigDecimal("2000.00"), 2);
+
+        List<InvoiceEntity> invoices = invoiceRepository.findByCreditCardIdOrderByReferenceMonthDesc(creditCardId);
+        Long olderInvoiceId = invoices.get(1).getId();
+        restTemplate.postForEntity(
+                "/invoices/" + olderInvoiceId + "/partial-payments",
+                new PartialPaymentRequestDTO(new BigDecimal("300.00"), "Partial payment"),
+                Object.class
+        );
+
+        // When
+        ResponseEntity<InvoiceResponseDTO[]> withBalance = restTemplate.getForEntity(
+                "/credit-cards/" + creditCardId + "/invoices?includeBalance=true", InvoiceResponseDTO[].class);
+        ResponseEntity<InvoiceResponseDTO[]> byQuery = restTemplate.getForEntity(
+                "/invoices?creditCardId=" + creditCardId + "&includeBalance=true", InvoiceResponseDTO[].class);
+        ResponseEntity<InvoiceResponseDTO[]> plain = restTemplate.getForEntity(
+                "/credit-cards/" + creditCardId + "/invoices", InvoiceResponseDTO[].class);
+
+        // Then: Most recent first; the invoice without payments has count 0 and its full total
+        assertThat(withBalance.getStatusCode()).isEqualTo(HttpStatus.OK);
+        InvoiceResponseDTO[] body = withBalance.getBody();
+        assertThat(body).hasSize(2);
+        assertThat(body[0].getPartialPaymentsCount()).isZero();
+        assertThat(body[0].getPartialPaymentsTotal()).isEqualByComparingTo("0");
+        assertThat(body[0].getCurrentBalance()).isEqualByComparingTo("1000.00");
+        assertThat(body[1].getId()).isEqualTo(olderInvoiceId);
+        assertThat(body[1].getPartialPaymentsCount()).isEqualTo(1);
+        assertThat(body[1].getPartialPaymentsTotal()).isEqualByComparingTo("300.00");
+        assertThat(body[1].getCurrentBalance()).isEqualByComparingTo("700.00");
+
+        assertThat(byQuery.getBody()).hasSize(2);
+        assertThat(byQuery.getBody()[1].getCurrentBalance()).isEqualByComparingTo("700.00");
+
+        // Then: Without the flag the balance fields are not sent
+        assertThat(plain.getBody()).hasSize(2);
+        assertThat(plain.getBody()[0].getCurrentBalance()).isNull();
+        assertThat(withBalance.getHeaders().getETag()).isNotEqualTo(plain.getHeaders().getETag());
+    }
+
     @Test
     @DisplayName("E2E: Should handle multiple partial payments")
     void shouldHandleMultiplePartialPayments() {
@@ -364,6 +456,87 @@ class InvoiceClosingIntegrationTest {
         assertThat(response.getBody().getCurrentBalance()).isEqualByComparingTo("1500.00");
     }
 
+    // ==================== Consistency Check Tests ====================
+
+    @Test
+    @DisplayName("E2E: Should report drifted invoice totals and repair only the open ones")
+    void shouldReportAndRepairDriftedInvoiceTotals() {
+        // Given: Three invoices of 100.00; one open and one closed invoice drift from their installments
+        Long creditCardId = createCreditCard("Test Card", new BigDecimal("5000.00"), 10, 17);
+        createBillWithCard(creditCardId, "Purchase", new BigDecimal("300.00"), 3);
+        List<InvoiceEntity> invoices = invoiceRepository.findByCreditCardIdOrderByReferenceMonthDesc(creditCardId);
+        assertThat(invoices).hasSize(3);
+        Long openId = invoices.get(0).getId();
+        Long closedId = invoices.get(2).getId();
+        restTemplate.postForEntity("/invoices/" + closedId + "/close", null, InvoiceResponseDTO.class);
+
+        InvoiceEntity open = invoiceRepository.findById(openId).orElseThrow();
+        open.setTotalAmount(new BigDecimal("999.00"));
+        invoiceRepository.save(open);
+        InvoiceEntity closed = invoiceRepository.findById(closedId).orElseThrow();
+        closed.setTotalAmount(new BigDecimal("5.00"));
+        invoiceRepository.save(closed);
+
+        // When
+        ResponseEntity<InvoiceConsistencyCheckDTO> response = restTemplate.postForEntity(
+                "/invoices/consistency/check?repair=true", null, InvoiceConsistencyCheckDTO.class);
+
+        // Then: Both reported, only the open one recalculated
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getMismatches()).isEqualTo(2);
+        assertThat(response.getBody().getClosedMismatches()).isEqualTo(1);
+        assertThat(response.getBody().getRepaired()).isEqualTo(1);
+        assertThat(invoiceRepository.findById(openId).orElseThrow().getTotalAmount()).isEqualByComparingTo("100.00");
+        assertThat(invoiceRepository.findById(closedId).orElseThrow().getTotalAmount()).isEqualByComparingTo("5.00");
+
+        ResponseEntity<String> report = restTemplate.getForEntity(
+                "/invoices/consistency/reports/" + response.getBody().getReportId(), String.class);
+        assertThat(report.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(report.getBody()).contains(openId + "," + creditCardId).contains("CORRIGIDA", "FATURA_FECHADA");
+
+        // A second check finds only the closed invoice
+        ResponseEntity<InvoiceConsistencyCheckDTO> recheck = restTemplate.postForEntity(
+                "/invoices/consistency/check", null, InvoiceConsistencyCheckDTO.class);
+        assertThat(recheck.getBody().getMismatches()).isEqualTo(1);
+        assertThat(recheck.getBody().getRepaired()).isZero();
+    }
+
+    @Test
+    @DisplayName("E2E: Should backfill old invoices that match their installments and never repair the rest")
+    void shouldNotRepairInvoicesOfUnknownOrigin() {
+        // Given: Two invoices from before imported totals were recorded; one drifted, one still exact
+        Long creditCardId = createCreditCard("Test Card", new BigDecimal("5000.00"), 10, 17);
+        createBillWithCard(creditCardId, "Purchase", new BigDecimal("300.00"), 3);
+        List<InvoiceEntity> invoices = invoiceRepository.findByCreditCardIdOrderByReferenceMonthDesc(creditCardId);
+        Long driftedId = invoices.get(0).getId();
+        Long exactId = invoices.get(1).getId();
+
+        InvoiceEntity drifted = invoiceRepository.findById(driftedId).orElseThrow();
+        drifted.setTotalAmount(new BigDecimal("999.00"));
+        drifted.setImportedAmount(null);
+        invoiceRepository.save(drifted);
+        InvoiceEntity exact = invoiceRepository.findById(exactId).orElseThrow();
+        exact.setImportedAmount(null);
+        invoiceRepository.save(exact);
+
+        // When: The startup backfill runs, then a check with repair
+        invoiceConsistencyJob.onApplicationReady();
+        ResponseEntity<InvoiceConsistencyCheckDTO> response = restTemplate.postForEntity(
+                "/invoices/consistency/check?repair=true", null, InvoiceConsistencyCheckDTO.class);
+
+        // Then: The exact one is known to hold no imported total; the drifted one is reported, not touched
+        assertThat(invoiceRepository.findById(exactId).orElseThrow().getImportedAmount()).isEqualByComparingTo("0");
+        assertThat(invoiceRepository.findById(driftedId).orElseThrow().getImportedAmount()).isNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getMismatches()).isEqualTo(1);
+        assertThat(response.getBody().getRepaired()).isZero();
+        assertThat(invoiceRepository.findById(driftedId).orElseThrow().getTotalAmount()).isEqualByComparingTo("999.00");
+
+        ResponseEntity<String> report = restTemplate.getForEntity(
+                "/invoices/consistency/reports/" + response.getBody().getReportId(), String.class);
+        assertThat(report.getBody()).contains(driftedId + "," + creditCardId).contains("ORIGEM_DESCONHECIDA");
+    }
+
     // ==================== Helper Methods ====================
 
     private Long createCreditCard(String name, BigDecimal creditLimit, int closingDay, int dueDay) {
@@ -0,0 +1,124 @@
+package com.truebalance.truebalance.integration;
+
+import com.truebalance.truebalance.application.dto.input.CreditCardRequestDTO;
+import com.truebalance.truebalance.application.dto.input.InvoiceBulkImportRequestDTO;
+import com.truebalance.truebalance.application.dto.input.InvoiceImportItemDTO;
+import com.truebalance.truebalance.application.dto.output.CreditCardResponseDTO;
+import com.truebalance.truebalance.application.dto.output.InvoiceImportResultDTO;
+import com.truebalance.truebalance.application.dto.output.InvoiceResponseDTO;
+import com.truebalance.truebalance.infra.db.entity.InvoiceEntity;
+import com.truebalance.truebalance.infra.db.repository.BillRepository;
+import com.truebalance.truebalance.infra.db.repository.CreditCardRepository;
+import com.truebalance.truebalance.infra.db.repository.InstallmentRepository;
+import com.truebalance.truebalance.infra.db.repository.InvoiceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end tests with invoice pre-generation enabled (the test profile turns it off): a new card
+ * gets its horizon of empty invoices in the background, and importing invoices for those months
+ * fills them in instead of reporting them as duplicates.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = {"truebalance.invoice-pregeneration.enabled=true",
+                              "truebalance.invoice-pregeneration.horizon-months=6"})
+@ActiveProfiles("test")
+@DisplayName("Invoice Pre-generation Integration Tests")
+class InvoicePregenerationIntegrationTest {
+
+    private static final int HORIZON_MONTHS = 6;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private BillRepository billRepository;
+
+    @Autowired
+    private InstallmentRepository installmentRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private CreditCardRepository creditCardRepository;
+
+    @BeforeEach
+    void setUp() {
+        installmentRepository.deleteAll();
+        billRepository.deleteAll();
+        invoiceRepository.deleteAll();
+        creditCardRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("E2E: Should fill pre-generated invoices in when importing, with either duplicate strategy")
+    void shouldFillPregeneratedInvoicesOnImport() throws InterruptedException {
+        // Given: A new card, whose empty invoices are created in the background
+        Long creditCardId = restTemplate.postForEntity("/credit-cards",
+                new CreditCardRequestDTO("Importada", new BigDecimal("5000.00"), 10, 17, true),
+                CreditCardResponseDTO.class).getBody().getId();
+        awaitInvoices(creditCardId, HORIZON_MONTHS);
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+
+        // When: This month's and next month's invoices are imported
+        InvoiceImportResultDTO skip = importInvoice(creditCardId, thisMonth, "250.00", 1,
+                InvoiceBulkImportRequestDTO.DuplicateStrategy.SKIP);
+        InvoiceImportResultDTO duplicate = importInvoice(creditCardId, thisMonth.plusMonths(1), "80.00", 2,
+                InvoiceBulkImportRequestDTO.DuplicateStrategy.CREATE_DUPLICATE);
+
+        // Then: Both went into the pre-generated invoices, none reported as duplicate or error
+        assertThat(skip.getTotalCreated()).isEqualTo(1);
+        assertThat(skip.getTotalSkipped()).isZero();
+        assertThat(duplicate.getTotalCreated()).isEqualTo(1);
+        assertThat(duplicate.getTotalErrors()).isZero();
+
+        List<InvoiceEntity> invoices = invoiceRepository.findByCreditCardIdOrderByReferenceMonthDesc(creditCardId);
+        assertThat(invoices).hasSize(HORIZON_MONTHS);
+        assertThat(invoices).filteredOn(invoice -> invoice.getReferenceMonth().equals(thisMonth))
+                .singleElement()
+                .satisfies(invoice -> {
+                    assertThat(invoice.getTotalAmount()).isEqualByComparingTo("250.00");
+                    assertThat(invoice.getImportedAmount()).isEqualByComparingTo("250.00");
+                });
+
+        // And: The listing shows the imported invoices, not the empty ones after them
+        ResponseEntity<InvoiceResponseDTO[]> listed = restTemplate.getForEntity(
+                "/credit-cards/" + creditCardId + "/invoices", InvoiceResponseDTO[].class);
+        assertThat(listed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(listed.getBody()).extracting(InvoiceResponseDTO::getTotalAmount)
+                .allSatisfy(total -> assertThat(total).isPositive());
+    }
+
+    private InvoiceImportResultDTO importInvoice(Long creditCardId, LocalDate month, String total, int line,
+                                                 InvoiceBulkImportRequestDTO.DuplicateStrategy strategy) {
+        InvoiceImportItemDTO item = new InvoiceImportItemDTO(creditCardId, month, new BigDecimal(total),
+                BigDecimal.ZERO, false, false, line);
+        ResponseEntity<InvoiceImportResultDTO> response = restTemplate.postForEntity("/invoices/bulk-import",
+                new InvoiceBulkImportRequestDTO(List.of(item), strategy), InvoiceImportResultDTO.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private void awaitInvoices(Long creditCardId, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (invoiceRepository.findByCreditCardIdOrderByReferenceMonthDesc(creditCardId).size() < count
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(invoiceRepository.findByCreditCardIdOrderByReferenceMonthDesc(creditCardId)).hasSize(count);
+    }
+}